@@ -11,7 +11,11 @@ package org.opensearch.dataprepper.expression;
 
 import org.opensearch.dataprepper.model.event.Event;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.IntPredicate;
 
 /**
  * @since 1.3
@@ -45,6 +49,96 @@ public interface ExpressionEvaluator {
         }
     }
 
+    /**
+     * @since 2.15
+     * Evaluates a conditional statement against every event in a collection. Implementations may parse the
+     * statement once for the whole collection instead of once per event.
+     *
+     * @param statement conditional statement to be parsed and evaluated
+     * @param contexts events used to resolve external references in the statement
+     * @return a {@link BitSet} where bit i is set when the statement is true for the i-th event in iteration order
+     * @throws ExpressionParsingException if the statement cannot be parsed
+     * @throws ClassCastException if the statement does not evaluate to a Boolean for one of the events
+     */
+    default BitSet evaluateConditionalBatch(final String statement, final Collection<Event> contexts) {
+        final BitSet results = new BitSet(contexts.size());
+        int index = 0;
+        for (final Event context : contexts) {
+            if (evaluateConditional(statement, context)) {
+                results.set(index);
+            }
+            index++;
+        }
+        return results;
+    }
+
+    /**
+     * @since 2.15
+     * Evaluates several conditional statements against every event in a collection. Implementations may share the
+     * results of sub-expressions which appear in more than one statement, such as the same getMetadata lookup,
+     * when evaluating the statements for a single event.
+     *
+     * @param statements conditional statements to be parsed and evaluated
+     * @param contexts events used to resolve external references in the statements
+     * @return one {@link BitSet} per statement, in the order of the statements, as returned by
+     * {@link #evaluateConditionalBatch(String, Collection)}
+     * @throws ExpressionParsingException if any statement cannot be parsed
+     * @throws ClassCastException if a statement does not evaluate to a Boolean for one of the events
+     */
+    default List<BitSet> evaluateConditionalsBatch(final List<String> statements, final Collection<Event> contexts) {
+        final List<BitSet> results = new ArrayList<>(statements.size());
+        for (final String statement : statements) {
+            results.add(evaluateConditionalBatch(statement, contexts));
+        }
+        return results;
+    }
+
+    /**
+     * @since 2.15
+     * Evaluates a conditional statement against every event in a list with
+     * {@link #evaluateConditionalBatch(String, Collection)}. If the batch cannot be evaluated, the statement is
+     * evaluated per event with {@link #evaluateConditional(String, Event)} when the returned predicate is tested, so
+     * that a failure is raised for the event it occurs for and callers keep their per-event error handling.
+     *
+     * @param statement conditional statement to be parsed and evaluated
+     * @param contexts events used to resolve external references in the statement
+     * @return a predicate which is true for the index of each event in the list which the statement is true for
+     */
+    default IntPredicate evaluateConditionalBatchWithFallback(final String statement, final List<Event> contexts) {
+        final BitSet results;
+        try {
+            results = evaluateConditionalBatch(statement, contexts);
+        } catch (final Exception e) {
+            return index -> evaluateConditional(statement, contexts.get(index));
+        }
+        return results::get;
+    }
+
+    /**
+     * @since 2.15
+     * Evaluates several conditional statements against every event in a list with
+     * {@link #evaluateConditionalsBatch(List, Collection)}, falling back to evaluating each statement per event as
+     * {@link #evaluateConditionalBatchWithFallback(String, List)} does.
+     *
+     * @param statements conditional statements to be parsed and evaluated
+     * @param contexts events used to resolve external references in the statements
+     * @return one predicate per statement, in the order of the statements
+     */
+    default List<IntPredicate> evaluateConditionalsBatchWithFallback(final List<String> statements, final List<Event> contexts) {
+        final List<IntPredicate> results = new ArrayList<>(statements.size());
+        try {
+            for (final BitSet statementResults : evaluateConditionalsBatch(statements, contexts)) {
+                results.add(statementResults::get);
+            }
+        } catch (final Exception e) {
+            results.clear();
+            for (final String statement : statements) {
+                results.add(index -> evaluateConditional(statement, contexts.get(index)));
+            }
+        }
+        return results;
+    }
+
     Boolean isValidExpressionStatement(final String statement);
 
     Boolean isValidFormatExpression(final String format);
@@ -14,12 +14,31 @@ package org.opensearch.dataprepper.model;
  */
 public class CheckpointState {
     private final int numRecordsToBeChecked;
+    private final long numBytesToBeChecked;
 
     public CheckpointState(final int numRecordsToBeChecked) {
+        this(numRecordsToBeChecked, 0);
+    }
+
+    /**
+     * @param numRecordsToBeChecked number of records read
+     * @param numBytesToBeChecked estimated size in bytes of the records read, for buffers bounded by size
+     * @since 2.15
+     */
+    public CheckpointState(final int numRecordsToBeChecked, final long numBytesToBeChecked) {
         this.numRecordsToBeChecked = numRecordsToBeChecked;
+        this.numBytesToBeChecked = numBytesToBeChecked;
     }
 
     public int getNumRecordsToBeChecked() {
         return numRecordsToBeChecked;
     }
+
+    /**
+     * @return estimated size in bytes of the records read, or 0 when the buffer does not track sizes
+     * @since 2.15
+     */
+    public long getNumBytesToBeChecked() {
+        return numBytesToBeChecked;
+    }
 }
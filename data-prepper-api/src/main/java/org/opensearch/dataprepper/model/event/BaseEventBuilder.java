@@ -58,5 +58,18 @@ public interface BaseEventBuilder<T extends Event> {
      */
     BaseEventBuilder<T> withData(final Object data);
 
+    /**
+     * Sets the schema which holds the values of the event's usual keys. Sources which produce many events with the
+     * same keys can share one {@link EventSchema} across their events to reduce the memory used per event. The default
+     * implementation ignores the schema.
+     *
+     * @param eventSchema the schema, or null to hold the event data in a plain json tree
+     * @return returns the base event builder
+     * @since 2.15
+     */
+    default BaseEventBuilder<T> withEventSchema(final EventSchema eventSchema) {
+        return this;
+    }
+
     T build();
 }
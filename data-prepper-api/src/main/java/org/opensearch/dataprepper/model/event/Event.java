@@ -10,9 +10,13 @@
 package org.opensearch.dataprepper.model.event;
 
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -155,7 +159,19 @@ public interface Event extends Serializable {
     String toJsonString();
 
     /**
-     * Returns the JsonNode containing the internal representation of the event
+     * Returns an estimate of the heap retained by the event data, for buffers which bound their capacity by size.
+     * The default implementation walks the json tree of the event once, without serializing it.
+     *
+     * @return estimated size in bytes
+     * @since 2.15
+     */
+    default long getEstimatedSizeInBytes() {
+        return JsonNodeSizeEstimator.estimate(getJsonNode());
+    }
+
+    /**
+     * Returns the JsonNode containing the internal representation of the event. The node may be shared with copies
+     * of the event and must not be modified; use the methods of this interface to change the event.
      *
      * @return JsonNode
      * @since 2.5
@@ -366,5 +382,28 @@ public interface Event extends Serializable {
          * @since 2.3
          */
         public abstract String toJsonString();
+
+        /**
+         * Writes the json to the generator. Implementations which can write the event data directly should override
+         * this to avoid building the json string first.
+         *
+         * @param generator the generator to write the json value to
+         * @throws IOException if the generator fails to write
+         * @since 2.15
+         */
+        public void writeTo(final JsonGenerator generator) throws IOException {
+            generator.writeRawValue(toJsonString());
+        }
+
+        /**
+         * Writes the json to the output stream as UTF-8. The output stream is not closed.
+         *
+         * @param outputStream the output stream to write the json to
+         * @throws IOException if the output stream fails to write
+         * @since 2.15
+         */
+        public void writeTo(final OutputStream outputStream) throws IOException {
+            outputStream.write(toJsonString().getBytes(StandardCharsets.UTF_8));
+        }
     }
 }
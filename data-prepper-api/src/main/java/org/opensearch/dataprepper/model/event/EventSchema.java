@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A dictionary of the keys which events from one source usually have, shared by those events. Events built with a
+ * schema hold the values of known keys in an array indexed by the key's slot in the schema rather than in a map entry
+ * per key, and share the key strings. Keys are added to the schema the first time they are seen, up to a maximum;
+ * further keys are held per event as in any other event. Object values of known keys have schemas of their own, up
+ * to a maximum depth.
+ * <p>
+ * Create one schema per source, or per pipeline, and pass it to {@link BaseEventBuilder#withEventSchema(EventSchema)}.
+ * Schemas are thread-safe.
+ *
+ * @since 2.15
+ */
+public final class EventSchema {
+    public static final int DEFAULT_MAX_KEYS = 256;
+    static final int MAX_DEPTH = 3;
+
+    private final int maxKeys;
+    private final int depth;
+    private final ConcurrentHashMap<String, Integer> slots;
+    private final Map<String, EventSchema> childSchemas;
+    private volatile String[] keys;
+
+    /**
+     * Creates a schema with up to {@link #DEFAULT_MAX_KEYS} keys per object.
+     */
+    public EventSchema() {
+        this(DEFAULT_MAX_KEYS);
+    }
+
+    /**
+     * Creates a schema.
+     *
+     * @param maxKeys the maximum number of keys held in slots, per object
+     */
+    public EventSchema(final int maxKeys) {
+        this(maxKeys, 0);
+    }
+
+    private EventSchema(final int maxKeys, final int depth) {
+        if (maxKeys < 1) {
+            throw new IllegalArgumentException("maxKeys must be greater than 0");
+        }
+        this.maxKeys = maxKeys;
+        this.depth = depth;
+        this.slots = new ConcurrentHashMap<>();
+        this.childSchemas = new ConcurrentHashMap<>();
+        this.keys = new String[0];
+    }
+
+    /**
+     * @return the number of keys in this schema, not including the keys of child schemas
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * @return the slot of the key, or -1 if the key is not in the schema
+     */
+    int getSlot(final Object key) {
+        final Integer slot = slots.get(key);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * @return the slot of the key, adding it to the schema if there is room; -1 if the schema is full
+     */
+    int getOrAddSlot(final String key) {
+        final Integer slot = slots.get(key);
+        if (slot != null) {
+            return slot;
+        }
+        return addSlot(key);
+    }
+
+    private synchronized int addSlot(final String key) {
+        final Integer slot = slots.get(key);
+        if (slot != null) {
+            return slot;
+        }
+        final String[] currentKeys = keys;
+        if (currentKeys.length >= maxKeys) {
+            return -1;
+        }
+        final String[] newKeys = Arrays.copyOf(currentKeys, currentKeys.length + 1);
+        newKeys[currentKeys.length] = key;
+        // Publish the key before its slot, so that readers which find a slot can read its key
+        keys = newKeys;
+        slots.put(key, currentKeys.length);
+        return currentKeys.length;
+    }
+
+    String getKey(final int slot) {
+        return keys[slot];
+    }
+
+    /**
+     * Converts the object node, and the object values of known keys up to the maximum depth, to nodes which hold
+     * their values in slots of this schema. Values are not copied.
+     *
+     * @param objectNode the node to convert
+     * @return the converted node
+     */
+    ObjectNode toSchemaObjectNode(final ObjectNode objectNode) {
+        if (objectNode instanceof SchemaObjectNode && ((SchemaObjectNode) objectNode).getEventSchema() == this) {
+            return objectNode;
+        }
+        final SchemaObjectNode schemaObjectNode = new SchemaObjectNode(JsonNodeFactory.instance, this);
+        objectNode.properties().forEach(field -> {
+            JsonNode value = field.getValue();
+            if (value.isObject() && depth < MAX_DEPTH - 1 && getOrAddSlot(field.getKey()) >= 0) {
+                value = getChildSchema(field.getKey()).toSchemaObjectNode((ObjectNode) value);
+            }
+            schemaObjectNode.set(field.getKey(), value);
+        });
+        return schemaObjectNode;
+    }
+
+    private EventSchema getChildSchema(final String key) {
+        return childSchemas.computeIfAbsent(key, k -> new EventSchema(maxKeys, depth + 1));
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A format string, such as {@code "logs-${/service}-${getMetadata(\"tenant\")}"}, parsed once into literal and
+ * key or expression segments. Keys are resolved with pre-built {@link EventKey}s, and results are rendered into a
+ * reusable {@link StringBuilder}. Formatting follows {@link Event#formatString(String, ExpressionEvaluator, String)}.
+ * <p>
+ * Instances are immutable and thread-safe; compile a template once, for example in a plugin constructor, and use it
+ * for every event.
+ *
+ * @since 2.15
+ */
+public final class FormatTemplate {
+    private static final String PLACEHOLDER_START = "${";
+    private static final String PLACEHOLDER_END = "}";
+    private static final int MAX_CACHED_TEMPLATES = 1024;
+    private static final int MAX_REUSED_BUILDER_CAPACITY = 8192;
+    private static final Cache<String, FormatTemplate> CACHE = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_TEMPLATES)
+            .build();
+    private static final ThreadLocal<StringBuilder> REUSABLE_BUILDER = new ThreadLocal<>();
+
+    private final String format;
+    private final Segment[] segments;
+    private final boolean malformed;
+
+    private FormatTemplate(final String format) {
+        this.format = format;
+        final List<Segment> parsedSegments = new ArrayList<>();
+        int fromIndex = 0;
+        int position;
+        boolean malformedFormat = false;
+        while ((position = format.indexOf(PLACEHOLDER_START, fromIndex)) != -1) {
+            final int endPosition = format.indexOf(PLACEHOLDER_END, position + 1);
+            if (endPosition == -1) {
+                malformedFormat = true;
+                break;
+            }
+            if (position > fromIndex) {
+                parsedSegments.add(new LiteralSegment(format.substring(fromIndex, position)));
+            }
+            parsedSegments.add(new PlaceholderSegment(format.substring(position + 2, endPosition)));
+            fromIndex = endPosition + 1;
+        }
+        if (!malformedFormat && fromIndex < format.length()) {
+            parsedSegments.add(new LiteralSegment(format.substring(fromIndex)));
+        }
+        this.segments = parsedSegments.toArray(new Segment[0]);
+        this.malformed = malformedFormat;
+    }
+
+    /**
+     * Parses a format string.
+     *
+     * @param format the format string
+     * @return the template
+     */
+    public static FormatTemplate compile(final String format) {
+        Objects.requireNonNull(format, "format cannot be null");
+        return new FormatTemplate(format);
+    }
+
+    /**
+     * Gets the template of a format string from a bounded, shared cache, parsing it on first use.
+     *
+     * @param format the format string
+     * @return the template
+     */
+    public static FormatTemplate of(final String format) {
+        Objects.requireNonNull(format, "format cannot be null");
+        return CACHE.get(format, FormatTemplate::compile);
+    }
+
+    /**
+     * @return the format string this template was parsed from
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * @return true if the format has no placeholders, so every event formats to the same string
+     */
+    public boolean isConstant() {
+        return !malformed && segments.length <= 1 && (segments.length == 0 || segments[0] instanceof LiteralSegment);
+    }
+
+    /**
+     * Formats an event, resolving placeholders as keys only.
+     *
+     * @param event the event
+     * @return the formatted string
+     * @throws EventKeyNotFoundException if a key is missing from the event
+     * @throws RuntimeException if the format is not properly formed
+     */
+    public String format(final Event event) {
+        return format(event, null, null);
+    }
+
+    /**
+     * Formats an event, resolving placeholders as keys or, for missing keys, as Data Prepper expressions.
+     *
+     * @param event the event
+     * @param expressionEvaluator the evaluator for expressions, may be null
+     * @return the formatted string
+     * @throws EventKeyNotFoundException if a key is missing from the event and is not a valid expression
+     * @throws RuntimeException if the format is not properly formed
+     */
+    public String format(final Event event, final ExpressionEvaluator expressionEvaluator) {
+        return format(event, expressionEvaluator, null);
+    }
+
+    /**
+     * Formats an event, resolving placeholders as keys or, for missing keys, as Data Prepper expressions.
+     *
+     * @param event the event
+     * @param expressionEvaluator the evaluator for expressions, may be null
+     * @param defaultValue the replacement for keys which are missing and are not valid expressions, may be null
+     * @return the formatted string
+     * @throws EventKeyNotFoundException if a key is missing, is not a valid expression and there is no default value
+     * @throws RuntimeException if the format is not properly formed
+     */
+    public String format(final Event event, final ExpressionEvaluator expressionEvaluator, final String defaultValue) {
+        if (isConstant()) {
+            return format;
+        }
+        StringBuilder builder = REUSABLE_BUILDER.get();
+        if (builder == null) {
+            builder = new StringBuilder(format.length() + 32);
+        } else {
+            // Formatting may re-enter through an expression, so the builder is not shared while it is in use.
+            REUSABLE_BUILDER.set(null);
+        }
+        try {
+            formatTo(builder, event, expressionEvaluator, defaultValue);
+            return builder.toString();
+        } finally {
+            if (builder.capacity() <= MAX_REUSED_BUILDER_CAPACITY) {
+                builder.setLength(0);
+                REUSABLE_BUILDER.set(builder);
+            }
+        }
+    }
+
+    /**
+     * Appends the formatted event to a builder.
+     *
+     * @param builder the builder to append to
+     * @param event the event
+     * @param expressionEvaluator the evaluator for expressions, may be null
+     * @param defaultValue the replacement for keys which are missing and are not valid expressions, may be null
+     * @throws EventKeyNotFoundException if a key is missing, is not a valid expression and there is no default value
+     * @throws RuntimeException if the format is not properly formed
+     */
+    public void formatTo(final StringBuilder builder, final Event event, final ExpressionEvaluator expressionEvaluator, final String defaultValue) {
+        for (final Segment segment : segments) {
+            segment.appendTo(builder, event, expressionEvaluator, defaultValue);
+        }
+        if (malformed) {
+            throw new RuntimeException("Format string is not properly formed");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return format;
+    }
+
+    private interface Segment {
+        void appendTo(StringBuilder builder, Event event, ExpressionEvaluator expressionEvaluator, String defaultValue);
+    }
+
+    private static final class LiteralSegment implements Segment {
+        private final String literal;
+
+        private LiteralSegment(final String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        public void appendTo(final StringBuilder builder, final Event event, final ExpressionEvaluator expressionEvaluator, final String defaultValue) {
+            builder.append(literal);
+        }
+    }
+
+    private static final class PlaceholderSegment implements Segment {
+        private final String name;
+        private final EventKey eventKey;
+        private volatile ExpressionCheck expressionCheck;
+
+        private PlaceholderSegment(final String name) {
+            this.name = name;
+            EventKey parsedEventKey;
+            try {
+                parsedEventKey = new JacksonEventKey(name, EventKeyFactory.EventAction.GET);
+            } catch (final Exception ignored) {
+                // Not a valid key, so this is likely a Data Prepper expression
+                parsedEventKey = null;
+            }
+            this.eventKey = parsedEventKey;
+        }
+
+        @Override
+        public void appendTo(final StringBuilder builder, final Event event, final ExpressionEvaluator expressionEvaluator, final String defaultValue) {
+            Object value = null;
+            if (eventKey != null) {
+                try {
+                    value = event.get(eventKey, Object.class);
+                } catch (final Exception ignored) {
+                    // Exception likely indicates use of a Data Prepper expression
+                }
+            }
+
+            if (value == null) {
+                if (expressionEvaluator != null && isValidExpression(expressionEvaluator)) {
+                    value = expressionEvaluator.evaluate(name, event);
+                } else {
+                    if (defaultValue == null) {
+                        throw new EventKeyNotFoundException(String.format("The key %s could not be found in the Event when formatting", name));
+                    }
+                    value = defaultValue;
+                }
+            }
+
+            if (value != null) {
+                builder.append(value);
+            }
+        }
+
+        private boolean isValidExpression(final ExpressionEvaluator expressionEvaluator) {
+            final ExpressionCheck check = expressionCheck;
+            if (check != null && check.expressionEvaluator == expressionEvaluator) {
+                return check.valid;
+            }
+            final boolean valid = expressionEvaluator.isValidExpressionStatement(name);
+            expressionCheck = new ExpressionCheck(expressionEvaluator, valid);
+            return valid;
+        }
+    }
+
+    private static final class ExpressionCheck {
+        private final ExpressionEvaluator expressionEvaluator;
+        private final boolean valid;
+
+        private ExpressionCheck(final ExpressionEvaluator expressionEvaluator, final boolean valid) {
+            this.expressionEvaluator = expressionEvaluator;
+            this.valid = valid;
+        }
+    }
+}
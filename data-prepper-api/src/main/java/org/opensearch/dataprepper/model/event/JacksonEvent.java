@@ -9,12 +9,14 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -24,23 +26,24 @@ import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
-import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.StringJoiner;
+import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.opensearch.dataprepper.model.event.JacksonEventKey.trimTrailingSlashInKey;
@@ -87,11 +90,36 @@ public class JacksonEvent implements Event {
     private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<>() {
     };
 
+    /*
+     * Whether a subclass has its own representation of the event data in toJsonString, which the json builder must
+     * then use instead of writing the json tree.
+     */
+    private static final ClassValue<Boolean> HAS_OWN_JSON_STRING = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            try {
+                return type.getMethod("toJsonString").getDeclaringClass() != JacksonEvent.class;
+            } catch (final NoSuchMethodException e) {
+                return true;
+            }
+        }
+    };
+
     private final EventMetadata eventMetadata;
 
     private transient EventHandle eventHandle;
 
-    private final JsonNode jsonNode;
+    private JsonNode jsonNode;
+
+    /*
+     * Containers of the json tree which only this event references and may therefore modify in place. Null when the
+     * event owns the whole tree; otherwise the tree may be shared with copies made by the copy constructor, and
+     * containers on the path to a change are copied first.
+     */
+    private transient Set<JsonNode> ownedContainers;
+
+    // 0 when not yet estimated; reset by every mutation made through this class and whenever the node is handed out
+    private transient volatile long estimatedSizeInBytes;
 
     static final int MAX_KEY_LENGTH = 2048;
 
@@ -111,7 +139,12 @@ public class JacksonEvent implements Event {
             this.eventMetadata = builder.eventMetadata;
         }
 
-        this.jsonNode = getInitialJsonNode(builder.data);
+        final JsonNode initialJsonNode = getInitialJsonNode(builder.data);
+        if (builder.eventSchema != null && initialJsonNode.isObject()) {
+            this.jsonNode = builder.eventSchema.toSchemaObjectNode((ObjectNode) initialJsonNode);
+        } else {
+            this.jsonNode = initialJsonNode;
+        }
         if (builder.eventHandle != null) {
             this.eventHandle = builder.eventHandle;
         } else {
@@ -123,10 +156,23 @@ public class JacksonEvent implements Event {
         }
     }
 
+    /**
+     * Copies an event. The copy shares the json tree of the other event until either event is changed, at which point
+     * only the containers on the path to the change are copied.
+     *
+     * @param otherEvent the event to copy
+     */
     protected JacksonEvent(final JacksonEvent otherEvent) {
-        this.jsonNode = otherEvent.jsonNode.deepCopy();
+        this.jsonNode = otherEvent.jsonNode;
+        this.estimatedSizeInBytes = otherEvent.estimatedSizeInBytes;
+        this.ownedContainers = newOwnedContainers();
+        otherEvent.ownedContainers = newOwnedContainers();
         this.eventMetadata = DefaultEventMetadata.fromEventMetadata(otherEvent.eventMetadata);
         this.eventHandle = new DefaultEventHandle(eventMetadata.getTimeReceived());
+        final Instant externalOriginationTime = this.eventMetadata.getExternalOriginationTime();
+        if (externalOriginationTime != null) {
+            eventHandle.setExternalOriginationTime(externalOriginationTime);
+        }
     }
 
     public static Event fromMessage(String message) {
@@ -151,9 +197,58 @@ public class JacksonEvent implements Event {
 
     @Override
     public JsonNode getJsonNode() {
+        // the caller may change the node directly, so the size is estimated again when it is next requested
+        estimatedSizeInBytes = 0;
         return jsonNode;
     }
 
+    private static Set<JsonNode> newOwnedContainers() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private JsonNode getMutableRoot() {
+        if (ownedContainers != null && !ownedContainers.contains(jsonNode)) {
+            jsonNode = shallowCopy(jsonNode);
+            ownedContainers.add(jsonNode);
+        }
+        return jsonNode;
+    }
+
+    /**
+     * Gets a child container which this event may modify, first replacing a shared child with a shallow copy. The
+     * parent node must already be owned.
+     */
+    private JsonNode getMutableChild(final JsonNode parentNode, final String key, final JsonNode childNode) {
+        if (ownedContainers == null || !childNode.isContainerNode() || ownedContainers.contains(childNode)) {
+            return childNode;
+        }
+        final JsonNode copy = shallowCopy(childNode);
+        if (parentNode.isArray()) {
+            ((ArrayNode) parentNode).set(Integer.parseInt(key), copy);
+        } else {
+            ((ObjectNode) parentNode).set(key, copy);
+        }
+        ownedContainers.add(copy);
+        return copy;
+    }
+
+    private void markOwned(final JsonNode node) {
+        if (ownedContainers != null) {
+            ownedContainers.add(node);
+        }
+    }
+
+    private static JsonNode shallowCopy(final JsonNode node) {
+        if (node instanceof SchemaObjectNode) {
+            return ((SchemaObjectNode) node).shallowCopy();
+        } else if (node.isObject()) {
+            return mapper.createObjectNode().setAll((ObjectNode) node);
+        } else if (node.isArray()) {
+            return mapper.createArrayNode().addAll((ArrayNode) node);
+        }
+        return node;
+    }
+
     private Map<String, Object> normalizeKeys(final Map<String, Object> map) {
         final Map<String, Object> replacementMap = new HashMap<>();
         Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
@@ -187,9 +282,10 @@ public class JacksonEvent implements Event {
             throw new IllegalArgumentException("key cannot be an empty string for put method");
         }
 
+        estimatedSizeInBytes = 0;
         final Deque<String> keys = new LinkedList<>(jacksonEventKey.getKeyPathList());
 
-        JsonNode parentNode = jsonNode;
+        JsonNode parentNode = getMutableRoot();
 
         while (!keys.isEmpty()) {
             if (keys.size() == 1) {
@@ -248,7 +344,9 @@ public class JacksonEvent implements Event {
 
     private JsonNode getOrCreateNode(final JsonNode node, final String key) {
         JsonNode childNode = node.get(key);
-        if (childNode == null) {
+        if (childNode != null) {
+            return getMutableChild(node, key, childNode);
+        } else {
             childNode = mapper.createObjectNode();
             if (node.isArray()) {
                 int index = Integer.parseInt(key);
@@ -268,11 +366,12 @@ public class JacksonEvent implements Event {
                     childNode = mapper.createObjectNode();
                     arrayNode.set(index, childNode);
                 } else {
-                    childNode = existing;
+                    childNode = getMutableChild(node, key, existing);
                 }
             } else {
                 ((ObjectNode) node).set(key, childNode);
             }
+            markOwned(childNode);
         }
 
         return childNode;
@@ -403,11 +502,30 @@ public class JacksonEvent implements Event {
             leafKey = trimmedKey.substring(index + 1);
         }
 
+        estimatedSizeInBytes = 0;
         if (!baseNode.isMissingNode()) {
+            if (ownedContainers != null && baseNode.has(leafKey)) {
+                baseNode = getMutableNode(toJsonPointer(trimmedKey.substring(0, Math.max(index, 0))));
+            }
             ((ObjectNode) baseNode).remove(leafKey);
         }
     }
 
+    /**
+     * Gets the existing container at the pointer, copying the shared containers on the path to it.
+     */
+    private JsonNode getMutableNode(final JsonPointer jsonPointer) {
+        JsonNode node = getMutableRoot();
+        JsonPointer remainingPointer = jsonPointer;
+        while (!remainingPointer.matches()) {
+            final String key = remainingPointer.getMatchingProperty();
+            final JsonNode childNode = node.isArray() ? node.get(remainingPointer.getMatchingIndex()) : node.get(key);
+            node = getMutableChild(node, key, childNode);
+            remainingPointer = remainingPointer.tail();
+        }
+        return node;
+    }
+
     /**
      * Deletes the key from the event.
      *
@@ -422,8 +540,9 @@ public class JacksonEvent implements Event {
     @Override
     public void clear() {
         // Delete all entries from the event
+        estimatedSizeInBytes = 0;
         Iterator iter = toMap().keySet().iterator();
-        JsonNode baseNode = jsonNode;
+        JsonNode baseNode = getMutableRoot();
         while (iter.hasNext()) {
             ((ObjectNode) baseNode).remove((String)iter.next());
         }
@@ -443,7 +562,8 @@ public class JacksonEvent implements Event {
             throw new UnsupportedOperationException("Unable to merge the Event. The current Event must have object data.");
         }
 
-        ((ObjectNode) jsonNode).setAll(otherObjectNode);
+        estimatedSizeInBytes = 0;
+        ((ObjectNode) getMutableRoot()).setAll(otherObjectNode);
     }
 
     @Override
@@ -451,6 +571,23 @@ public class JacksonEvent implements Event {
         return jsonNode.toString();
     }
 
+    /**
+     * Estimates the size of the event data from its json tree and caches the result until the event is next changed
+     * through this class or its node is returned by {@link #getJsonNode()}.
+     *
+     * @return estimated size in bytes
+     * @since 2.15
+     */
+    @Override
+    public long getEstimatedSizeInBytes() {
+        long size = estimatedSizeInBytes;
+        if (size == 0) {
+            size = JsonNodeSizeEstimator.estimate(jsonNode);
+            estimatedSizeInBytes = size;
+        }
+        return size;
+    }
+
     @Override
     public String getAsJsonString(EventKey key) {
         JacksonEventKey jacksonEventKey = asJacksonEventKey(key);
@@ -501,47 +638,7 @@ public class JacksonEvent implements Event {
 
 
     private String formatStringInternal(final String format, final ExpressionEvaluator expressionEvaluator, final String defaultValue) {
-        int fromIndex = 0;
-        String result = "";
-        int position = 0;
-        while ((position = format.indexOf("${", fromIndex)) != -1) {
-            int endPosition = format.indexOf("}", position + 1);
-            if (endPosition == -1) {
-                throw new RuntimeException("Format string is not properly formed");
-            }
-            result += format.substring(fromIndex, position);
-            String name = format.substring(position + 2, endPosition);
-
-            Object val = null;
-
-            try {
-                val = this.get(name, Object.class);
-            } catch (final Exception ignored) {
-                // Exception likely indicates use of a Data Prepper expression
-            }
-
-            if (val == null) {
-                if (expressionEvaluator != null && expressionEvaluator.isValidExpressionStatement(name)) {
-                    val = expressionEvaluator.evaluate(name, this);
-                } else {
-                    if (defaultValue == null) {
-                        throw new EventKeyNotFoundException(String.format("The key %s could not be found in the Event when formatting", name));
-                    }
-
-                    val = defaultValue;
-                }
-            }
-
-
-            if (Objects.nonNull(val)) {
-                result += val.toString();
-            }
-            fromIndex = endPosition + 1;
-        }
-        if (fromIndex < format.length()) {
-            result += format.substring(fromIndex);
-        }
-        return result;
+        return FormatTemplate.of(format).format(this, expressionEvaluator, defaultValue);
     }
 
     @Override
@@ -637,6 +734,7 @@ public class JacksonEvent implements Event {
         private String eventType;
         private Instant timeReceived;
         private Map<String, Object> eventMetadataAttributes;
+        private EventSchema eventSchema;
         protected transient EventHandle eventHandle;
 
         public abstract T getThis();
@@ -689,6 +787,18 @@ public class JacksonEvent implements Event {
             return this;
         }
 
+        /**
+         * Sets the schema which holds the values of the event's usual keys.
+         *
+         * @param eventSchema the schema, or null to hold the event data in a plain json tree
+         * @return returns the builder
+         * @since 2.15
+         */
+        public Builder<T> withEventSchema(final EventSchema eventSchema) {
+            this.eventSchema = eventSchema;
+            return this;
+        }
+
         /**
          * Sets the metadata.
          *
@@ -747,22 +857,67 @@ public class JacksonEvent implements Event {
         }
 
 
+        @Override
         public String toJsonString() {
+            final StringWriter writer = new StringWriter();
+            try (final JsonGenerator generator = mapper.getFactory().createGenerator(writer)) {
+                writeTo(generator);
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Unable to write the event as json", e);
+            }
+            return writer.toString();
+        }
+
+        @Override
+        public void writeTo(final OutputStream outputStream) throws IOException {
+            try (final JsonGenerator generator = mapper.getFactory().createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                writeTo(generator);
+            }
+        }
 
-            String jsonString;
+        @Override
+        public void writeTo(final JsonGenerator generator) throws IOException {
+            final JsonNode baseNode = getBaseNode();
+            final List<String> filterKeys;
+            final boolean filterAction;
             if (getIncludeKeys() != null && !getIncludeKeys().isEmpty()) {
-                jsonString = searchAndFilter(getBaseNode(), "", getIncludeKeys(), RETAIN_ALL);
+                filterKeys = getIncludeKeys();
+                filterAction = RETAIN_ALL;
             } else if (getExcludeKeys() != null && !getExcludeKeys().isEmpty()) {
-                jsonString = searchAndFilter(getBaseNode(), "", getExcludeKeys(), EXCLUDE_ALL);
-            } else if (getBaseNode() !=event.getJsonNode()) {
-                jsonString = event.getAsJsonString(getRootKey());
-            } else {
+                filterKeys = getExcludeKeys();
+                filterAction = EXCLUDE_ALL;
+            } else if (baseNode == event.getJsonNode() && HAS_OWN_JSON_STRING.get(event.getClass())) {
                 // Some successors have its own implementation of toJsonString, such as JacksonSpan.
                 // In such case, it's only used when the root key is not provided.
-                // TODO: Need to check if such behaviour is expected.
-                jsonString = event.toJsonString();
+                generator.writeRawValue(toRawJsonString(event.toJsonString()));
+                return;
+            } else {
+                filterKeys = null;
+                filterAction = RETAIN_ALL;
             }
 
+            final SerializerProvider serializerProvider = mapper.getSerializerProviderInstance();
+            if (filterKeys != null && baseNode.isArray()) {
+                searchAndFilter(generator, serializerProvider, baseNode, "", filterKeys, filterAction);
+            } else if (filterKeys != null || (getTagsKey() != null && baseNode.isObject())) {
+                generator.writeStartObject();
+                if (filterKeys != null) {
+                    writeFilteredFields(generator, serializerProvider, baseNode, "", filterKeys, filterAction);
+                } else {
+                    for (final Map.Entry<String, JsonNode> entry : baseNode.properties()) {
+                        generator.writeFieldName(entry.getKey());
+                        entry.getValue().serialize(generator, serializerProvider);
+                    }
+                }
+                writeTags(generator);
+                generator.writeEndObject();
+            } else {
+                baseNode.serialize(generator, serializerProvider);
+            }
+        }
+
+        private String toRawJsonString(final String jsonString) {
             final String tagsKey = getTagsKey();
             if (tagsKey != null) {
                 final JsonNode tagsNode = mapper.valueToTree(event.getMetadata().getTags());
@@ -771,61 +926,81 @@ public class JacksonEvent implements Event {
             return jsonString;
         }
 
+        private void writeTags(final JsonGenerator generator) throws IOException {
+            final String tagsKey = getTagsKey();
+            if (tagsKey == null) {
+                return;
+            }
+            generator.writeFieldName(tagsKey);
+            generator.writeStartArray();
+            for (final String tag : event.getMetadata().getTags()) {
+                generator.writeString(tag);
+            }
+            generator.writeEndArray();
+        }
+
         /**
-         * Perform DFS(Depth-first search) like traversing using recursion on the Json Tree and return the json string.
-         * This supports filtering (to include or exclude) from a list of keys.
+         * Perform DFS(Depth-first search) like traversing using recursion on the Json Tree and write the json to the
+         * generator. This supports filtering (to include or exclude) from a list of keys.
          *
-         * @param node         Root node to start traversing
-         * @param path         Json path, e.g. /foo/bar
-         * @param filterKeys   A list of filtered keys
-         * @param filterAction Either to include (RETAIN_ALL or true) or to exclude (EXCLUDE_ALL or false)
-         * @return a json string with filtered keys
+         * @param generator          Generator to write to
+         * @param serializerProvider Provider used to serialize the retained values
+         * @param node               Root node to start traversing
+         * @param path               Json path, e.g. /foo/bar
+         * @param filterKeys         A list of filtered keys
+         * @param filterAction       Either to include (RETAIN_ALL or true) or to exclude (EXCLUDE_ALL or false)
+         * @throws IOException if the generator fails to write
          */
-        String searchAndFilter(JsonNode node, String path, final List<String> filterKeys, boolean filterAction) {
-
+        void searchAndFilter(final JsonGenerator generator, final SerializerProvider serializerProvider, final JsonNode node,
+                             final String path, final List<String> filterKeys, final boolean filterAction) throws IOException {
             if (node.isArray()) { // for array node.
-                StringJoiner sj = new StringJoiner(",", "[", "]");
-                node.forEach(childNode -> sj.add(searchAndFilter(childNode, path, filterKeys, filterAction)));
-                return sj.toString();
+                generator.writeStartArray();
+                for (final JsonNode childNode : node) {
+                    searchAndFilter(generator, serializerProvider, childNode, path, filterKeys, filterAction);
+                }
+                generator.writeEndArray();
             } else {
-                StringJoiner sj = new StringJoiner(",", "{", "}");
-                List<String> valueList = new ArrayList<>();
-
-                node.properties().forEach(entry -> {
-                    String keyPath = trimKey(path + SEPARATOR + entry.getKey());
-                    // Track whether the key is found in the filter list.
-                    // Different behaviours between include and exclude action.
-                    boolean found = false;
-                    for (String key : filterKeys) {
-                        key = trimKey(key);
-                        if (keyPath.equals(key)) {
-                            found = true;
-                            // To keep the order.
-                            if (filterAction == RETAIN_ALL) {
-                                valueList.add("\"" + entry.getKey() + "\":" + entry.getValue().toString());
-                            }
-                            break;
-                        } else if (key.startsWith(keyPath)) {
-                            found = true;
-                            valueList.add("\"" + entry.getKey() + "\":" + searchAndFilter(entry.getValue(), keyPath, filterKeys, filterAction));
-                            break;
-                        }
-                        if (key.compareTo(keyPath) > 0) {
-                            // To save the comparing.
-                            // This requires the filter keys to be sorted first.
-                            // This is done in SinkModel.
-                            break;
+                generator.writeStartObject();
+                writeFilteredFields(generator, serializerProvider, node, path, filterKeys, filterAction);
+                generator.writeEndObject();
+            }
+        }
+
+        private void writeFilteredFields(final JsonGenerator generator, final SerializerProvider serializerProvider, final JsonNode node,
+                                         final String path, final List<String> filterKeys, final boolean filterAction) throws IOException {
+            for (final Map.Entry<String, JsonNode> entry : node.properties()) {
+                final String keyPath = trimKey(path + SEPARATOR + entry.getKey());
+                // Track whether the key is found in the filter list.
+                // Different behaviours between include and exclude action.
+                boolean found = false;
+                for (String key : filterKeys) {
+                    key = trimKey(key);
+                    if (keyPath.equals(key)) {
+                        found = true;
+                        // To keep the order.
+                        if (filterAction == RETAIN_ALL) {
+                            generator.writeFieldName(entry.getKey());
+                            entry.getValue().serialize(generator, serializerProvider);
                         }
+                        break;
+                    } else if (key.startsWith(keyPath)) {
+                        found = true;
+                        generator.writeFieldName(entry.getKey());
+                        searchAndFilter(generator, serializerProvider, entry.getValue(), keyPath, filterKeys, filterAction);
+                        break;
                     }
-
-                    if (!found && filterAction == EXCLUDE_ALL) {
-                        valueList.add("\"" + entry.getKey() + "\":" + entry.getValue().toString());
+                    if (key.compareTo(keyPath) > 0) {
+                        // To save the comparing.
+                        // This requires the filter keys to be sorted first.
+                        // This is done in SinkModel.
+                        break;
                     }
-                });
-
-                valueList.forEach(value -> sj.add(value));
-                return sj.toString();
+                }
 
+                if (!found && filterAction == EXCLUDE_ALL) {
+                    generator.writeFieldName(entry.getKey());
+                    entry.getValue().serialize(generator, serializerProvider);
+                }
             }
         }
     }
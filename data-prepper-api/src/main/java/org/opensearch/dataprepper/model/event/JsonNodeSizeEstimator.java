@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BinaryNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Estimates the heap retained by a {@link JsonNode} tree from fixed per-node overheads and string lengths. The
+ * estimate is meant for capacity accounting and trades precision for a single pass over the tree without
+ * serialization.
+ *
+ * @since 2.15
+ */
+final class JsonNodeSizeEstimator {
+    static final long CONTAINER_NODE_OVERHEAD = 56;
+    static final long ENTRY_OVERHEAD = 40;
+    static final long ELEMENT_OVERHEAD = 8;
+    static final long VALUE_NODE_OVERHEAD = 24;
+    static final long STRING_OVERHEAD = 40;
+
+    private JsonNodeSizeEstimator() {
+    }
+
+    static long estimate(final JsonNode node) {
+        if (node.isObject()) {
+            long size = CONTAINER_NODE_OVERHEAD;
+            for (final Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext(); ) {
+                final Map.Entry<String, JsonNode> field = it.next();
+                size += ENTRY_OVERHEAD + STRING_OVERHEAD + field.getKey().length() + estimate(field.getValue());
+            }
+            return size;
+        }
+        if (node.isArray()) {
+            long size = CONTAINER_NODE_OVERHEAD;
+            for (final JsonNode element : node) {
+                size += ELEMENT_OVERHEAD + estimate(element);
+            }
+            return size;
+        }
+        if (node.isTextual()) {
+            return VALUE_NODE_OVERHEAD + STRING_OVERHEAD + node.textValue().length();
+        }
+        if (node.isBinary()) {
+            return VALUE_NODE_OVERHEAD + STRING_OVERHEAD + ((BinaryNode) node).binaryValue().length;
+        }
+        return VALUE_NODE_OVERHEAD;
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An {@link ObjectNode} which holds the values of keys in its {@link EventSchema} in an array indexed by the key's
+ * slot, and other keys in a map. Fields are ordered by slot, then by insertion for keys which are not in the schema.
+ *
+ * @since 2.15
+ */
+class SchemaObjectNode extends ObjectNode {
+    private static final long serialVersionUID = 1L;
+
+    private final transient EventSchema eventSchema;
+
+    SchemaObjectNode(final JsonNodeFactory nodeFactory, final EventSchema eventSchema) {
+        super(nodeFactory, new SlotMap(eventSchema));
+        this.eventSchema = eventSchema;
+    }
+
+    EventSchema getEventSchema() {
+        return eventSchema;
+    }
+
+    /**
+     * @return the length of the array which holds the values of the keys in the schema
+     */
+    int getSlotCapacity() {
+        return ((SlotMap) _children).getCapacity();
+    }
+
+    /**
+     * @return a node of the same schema with the same values
+     */
+    SchemaObjectNode shallowCopy() {
+        final SchemaObjectNode copy = new SchemaObjectNode(_nodeFactory, eventSchema);
+        ((SlotMap) copy._children).copyFrom((SlotMap) _children);
+        return copy;
+    }
+
+    /**
+     * Serializes as a plain {@link ObjectNode}, as the schema is not serializable.
+     */
+    private Object writeReplace() {
+        return new ObjectNode(_nodeFactory, new LinkedHashMap<>(_children));
+    }
+
+    static final class SlotMap extends AbstractMap<String, JsonNode> {
+        private static final JsonNode[] EMPTY_VALUES = new JsonNode[0];
+
+        private final EventSchema eventSchema;
+        private JsonNode[] values = EMPTY_VALUES;
+        private int slotCount;
+        private Map<String, JsonNode> dynamicFields;
+        private transient Set<Entry<String, JsonNode>> entrySet;
+
+        SlotMap(final EventSchema eventSchema) {
+            this.eventSchema = eventSchema;
+        }
+
+        private void copyFrom(final SlotMap other) {
+            int populatedLength = other.values.length;
+            while (populatedLength > 0 && other.values[populatedLength - 1] == null) {
+                populatedLength--;
+            }
+            values = populatedLength == 0 ? EMPTY_VALUES : Arrays.copyOf(other.values, populatedLength);
+            slotCount = other.slotCount;
+            dynamicFields = other.dynamicFields == null ? null : new LinkedHashMap<>(other.dynamicFields);
+        }
+
+        @Override
+        public JsonNode get(final Object key) {
+            final int slot = eventSchema.getSlot(key);
+            if (slot >= 0) {
+                return slot < values.length ? values[slot] : null;
+            }
+            return dynamicFields == null ? null : dynamicFields.get(key);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public JsonNode put(final String key, final JsonNode value) {
+            final int slot = eventSchema.getOrAddSlot(key);
+            if (slot < 0) {
+                if (dynamicFields == null) {
+                    dynamicFields = new LinkedHashMap<>();
+                }
+                return dynamicFields.put(key, value);
+            }
+            if (slot >= values.length) {
+                values = Arrays.copyOf(values, Math.max(slot + 1, Math.min(values.length * 2, eventSchema.size())));
+            }
+            final JsonNode previousValue = values[slot];
+            values[slot] = value;
+            if (previousValue == null) {
+                slotCount++;
+            }
+            return previousValue;
+        }
+
+        @Override
+        public JsonNode remove(final Object key) {
+            final int slot = eventSchema.getSlot(key);
+            if (slot >= 0) {
+                return removeSlot(slot);
+            }
+            return dynamicFields == null ? null : dynamicFields.remove(key);
+        }
+
+        private JsonNode removeSlot(final int slot) {
+            if (slot >= values.length) {
+                return null;
+            }
+            final JsonNode previousValue = values[slot];
+            if (previousValue != null) {
+                values[slot] = null;
+                slotCount--;
+            }
+            return previousValue;
+        }
+
+        int getCapacity() {
+            return values.length;
+        }
+
+        @Override
+        public int size() {
+            return slotCount + (dynamicFields == null ? 0 : dynamicFields.size());
+        }
+
+        @Override
+        public void clear() {
+            values = EMPTY_VALUES;
+            slotCount = 0;
+            dynamicFields = null;
+        }
+
+        @Override
+        public Set<Entry<String, JsonNode>> entrySet() {
+            if (entrySet == null) {
+                entrySet = new AbstractSet<>() {
+                    @Override
+                    public Iterator<Entry<String, JsonNode>> iterator() {
+                        return new SlotMapIterator();
+                    }
+
+                    @Override
+                    public int size() {
+                        return SlotMap.this.size();
+                    }
+                };
+            }
+            return entrySet;
+        }
+
+        private final class SlotMapIterator implements Iterator<Entry<String, JsonNode>> {
+            private int nextSlot = -1;
+            private int lastSlot = -1;
+            private Iterator<Entry<String, JsonNode>> dynamicIterator;
+            private boolean lastFromDynamicFields;
+
+            private SlotMapIterator() {
+                advanceSlot();
+            }
+
+            private void advanceSlot() {
+                do {
+                    nextSlot++;
+                } while (nextSlot < values.length && values[nextSlot] == null);
+            }
+
+            @Override
+            public boolean hasNext() {
+                if (nextSlot < values.length) {
+                    return true;
+                }
+                if (dynamicIterator == null && dynamicFields != null) {
+                    dynamicIterator = dynamicFields.entrySet().iterator();
+                }
+                return dynamicIterator != null && dynamicIterator.hasNext();
+            }
+
+            @Override
+            public Entry<String, JsonNode> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                if (nextSlot < values.length) {
+                    lastSlot = nextSlot;
+                    lastFromDynamicFields = false;
+                    advanceSlot();
+                    return new SlotEntry(lastSlot);
+                }
+                lastFromDynamicFields = true;
+                return dynamicIterator.next();
+            }
+
+            @Override
+            public void remove() {
+                if (lastFromDynamicFields) {
+                    dynamicIterator.remove();
+                    lastFromDynamicFields = false;
+                } else if (lastSlot >= 0) {
+                    removeSlot(lastSlot);
+                    lastSlot = -1;
+                } else {
+                    throw new IllegalStateException();
+                }
+            }
+        }
+
+        private final class SlotEntry implements Entry<String, JsonNode> {
+            private final int slot;
+
+            private SlotEntry(final int slot) {
+                this.slot = slot;
+            }
+
+            @Override
+            public String getKey() {
+                return eventSchema.getKey(slot);
+            }
+
+            @Override
+            public JsonNode getValue() {
+                return values[slot];
+            }
+
+            @Override
+            public JsonNode setValue(final JsonNode value) {
+                if (value == null) {
+                    throw new NullPointerException("value cannot be null");
+                }
+                final JsonNode previousValue = values[slot];
+                values[slot] = value;
+                return previousValue;
+            }
+
+            @Override
+            public boolean equals(final Object o) {
+                if (!(o instanceof Entry)) {
+                    return false;
+                }
+                final Entry<?, ?> other = (Entry<?, ?>) o;
+                return getKey().equals(other.getKey()) && getValue().equals(other.getValue());
+            }
+
+            @Override
+            public int hashCode() {
+                return getKey().hashCode() ^ getValue().hashCode();
+            }
+        }
+    }
+}
@@ -13,8 +13,10 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.IntPredicate;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -106,6 +108,77 @@ public class ExpressionEvaluatorTest {
         assertThrows(ClassCastException.class, () -> expressionEvaluator.evaluateConditional("/status", event("{\"status\":200}")));
     }
 
+    @Test
+    public void testDefaultEvaluateConditionalBatch() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        final BitSet results = expressionEvaluator.evaluateConditionalBatch("/status",
+                List.of(event("{\"status\":true}"), event("{\"status\":false}"), event("{\"status\":true}")));
+        assertThat(results.get(0), equalTo(true));
+        assertThat(results.get(1), equalTo(false));
+        assertThat(results.get(2), equalTo(true));
+        assertThat(results.cardinality(), equalTo(2));
+    }
+
+    @Test
+    public void testDefaultEvaluateConditionalBatchThrowsForNonBooleanResult() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        assertThrows(ClassCastException.class, () -> expressionEvaluator.evaluateConditionalBatch("/status",
+                List.of(event("{\"status\":true}"), event("{\"status\":200}"))));
+    }
+
+    @Test
+    public void testDefaultEvaluateConditionalsBatch() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        final List<BitSet> results = expressionEvaluator.evaluateConditionalsBatch(List.of("/a", "/b"),
+                List.of(event("{\"a\":true,\"b\":false}"), event("{\"a\":false,\"b\":true}")));
+        assertThat(results.size(), equalTo(2));
+        assertThat(results.get(0).get(0), equalTo(true));
+        assertThat(results.get(0).get(1), equalTo(false));
+        assertThat(results.get(1).get(0), equalTo(false));
+        assertThat(results.get(1).get(1), equalTo(true));
+    }
+
+    @Test
+    public void testEvaluateConditionalBatchWithFallback() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        final IntPredicate results = expressionEvaluator.evaluateConditionalBatchWithFallback("/status",
+                List.of(event("{\"status\":true}"), event("{\"status\":false}")));
+        assertThat(results.test(0), equalTo(true));
+        assertThat(results.test(1), equalTo(false));
+    }
+
+    @Test
+    public void testEvaluateConditionalBatchWithFallbackEvaluatesPerEventWhenTheBatchFails() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        final IntPredicate results = expressionEvaluator.evaluateConditionalBatchWithFallback("/status",
+                List.of(event("{\"status\":true}"), event("{\"status\":200}")));
+        assertThat(results.test(0), equalTo(true));
+        assertThrows(ClassCastException.class, () -> results.test(1));
+    }
+
+    @Test
+    public void testEvaluateConditionalsBatchWithFallback() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        final List<IntPredicate> results = expressionEvaluator.evaluateConditionalsBatchWithFallback(List.of("/a", "/b"),
+                List.of(event("{\"a\":true,\"b\":false}"), event("{\"a\":false,\"b\":true}")));
+        assertThat(results.size(), equalTo(2));
+        assertThat(results.get(0).test(0), equalTo(true));
+        assertThat(results.get(0).test(1), equalTo(false));
+        assertThat(results.get(1).test(0), equalTo(false));
+        assertThat(results.get(1).test(1), equalTo(true));
+    }
+
+    @Test
+    public void testEvaluateConditionalsBatchWithFallbackEvaluatesPerEventWhenTheBatchFails() {
+        expressionEvaluator = new TestExpressionEvaluator();
+        final List<IntPredicate> results = expressionEvaluator.evaluateConditionalsBatchWithFallback(List.of("/a", "/b"),
+                List.of(event("{\"a\":true,\"b\":200}"), event("{\"a\":false,\"b\":true}")));
+        assertThat(results.get(0).test(0), equalTo(true));
+        assertThat(results.get(0).test(1), equalTo(false));
+        assertThrows(ClassCastException.class, () -> results.get(1).test(0));
+        assertThat(results.get(1).test(1), equalTo(true));
+    }
+
     private static Event event(final String data) {
         return JacksonEvent.builder().withEventType("event").withData(data).build();
     }
@@ -21,5 +21,13 @@ class CheckpointStateTest {
     void testSimple() {
         final CheckpointState checkpointState = new CheckpointState(TEST_NUM_CHECKED_RECORDS);
         assertEquals(TEST_NUM_CHECKED_RECORDS, checkpointState.getNumRecordsToBeChecked());
+        assertEquals(0L, checkpointState.getNumBytesToBeChecked());
+    }
+
+    @Test
+    void testWithBytes() {
+        final CheckpointState checkpointState = new CheckpointState(TEST_NUM_CHECKED_RECORDS, 1024L);
+        assertEquals(TEST_NUM_CHECKED_RECORDS, checkpointState.getNumRecordsToBeChecked());
+        assertEquals(1024L, checkpointState.getNumBytesToBeChecked());
     }
 }
\ No newline at end of file
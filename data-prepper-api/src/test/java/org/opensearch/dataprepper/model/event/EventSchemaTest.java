@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventSchemaTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_with_invalid_maxKeys_throws(final int maxKeys) {
+        assertThrows(IllegalArgumentException.class, () -> new EventSchema(maxKeys));
+    }
+
+    @Test
+    void getOrAddSlot_assigns_slots_in_order_and_reuses_them() {
+        final EventSchema objectUnderTest = new EventSchema();
+
+        assertThat(objectUnderTest.getSlot("a"), equalTo(-1));
+        assertThat(objectUnderTest.getOrAddSlot("a"), equalTo(0));
+        assertThat(objectUnderTest.getOrAddSlot("b"), equalTo(1));
+        assertThat(objectUnderTest.getOrAddSlot("a"), equalTo(0));
+        assertThat(objectUnderTest.getSlot("b"), equalTo(1));
+        assertThat(objectUnderTest.getKey(1), equalTo("b"));
+        assertThat(objectUnderTest.size(), equalTo(2));
+    }
+
+    @Test
+    void getOrAddSlot_returns_negative_when_full() {
+        final EventSchema objectUnderTest = new EventSchema(2);
+
+        objectUnderTest.getOrAddSlot("a");
+        objectUnderTest.getOrAddSlot("b");
+
+        assertThat(objectUnderTest.getOrAddSlot("c"), equalTo(-1));
+        assertThat(objectUnderTest.getSlot("c"), equalTo(-1));
+        assertThat(objectUnderTest.size(), equalTo(2));
+    }
+
+    @Test
+    void getOrAddSlot_assigns_one_slot_per_key_across_threads() throws Exception {
+        final EventSchema objectUnderTest = new EventSchema();
+        final List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            keys.add(UUID.randomUUID().toString());
+        }
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executorService.submit(() -> keys.forEach(objectUnderTest::getOrAddSlot)));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat(objectUnderTest.size(), equalTo(keys.size()));
+        for (final String key : keys) {
+            assertThat(objectUnderTest.getKey(objectUnderTest.getSlot(key)), equalTo(key));
+        }
+    }
+
+    @Test
+    void toSchemaObjectNode_converts_objects_up_to_the_maximum_depth() {
+        final EventSchema objectUnderTest = new EventSchema();
+        final ObjectNode objectNode = OBJECT_MAPPER.valueToTree(
+                Map.of("a", Map.of("b", Map.of("c", Map.of("d", "value"))), "list", List.of(Map.of("e", 1))));
+
+        final ObjectNode schemaObjectNode = objectUnderTest.toSchemaObjectNode(objectNode);
+
+        assertThat(schemaObjectNode, instanceOf(SchemaObjectNode.class));
+        assertThat(schemaObjectNode.get("a"), instanceOf(SchemaObjectNode.class));
+        assertThat(schemaObjectNode.get("a").get("b"), instanceOf(SchemaObjectNode.class));
+        assertThat(schemaObjectNode.get("a").get("b").get("c"), not(instanceOf(SchemaObjectNode.class)));
+        assertThat(schemaObjectNode.get("list").get(0), not(instanceOf(SchemaObjectNode.class)));
+        assertThat(schemaObjectNode.get("a").get("b").get("c"), sameInstance(objectNode.get("a").get("b").get("c")));
+        assertThat(schemaObjectNode, equalTo(objectNode));
+    }
+
+    @Test
+    void toSchemaObjectNode_returns_node_of_the_same_schema() {
+        final EventSchema objectUnderTest = new EventSchema();
+        final ObjectNode schemaObjectNode = objectUnderTest.toSchemaObjectNode(OBJECT_MAPPER.createObjectNode().put("a", 1));
+
+        assertThat(objectUnderTest.toSchemaObjectNode(schemaObjectNode), sameInstance(schemaObjectNode));
+        assertThat(new EventSchema().toSchemaObjectNode(schemaObjectNode), not(sameInstance(schemaObjectNode)));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FormatTemplateTest {
+    @Mock
+    private ExpressionEvaluator expressionEvaluator;
+
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("foo", "bar", "info", Map.of("ids", Map.of("id", 42)), "flag", true))
+                .build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "constant", "no placeholders here", "%{yyyy}/%{MM}", "$ {foo}", "}${"})
+    void format_with_formats_without_complete_placeholders_matches_formatString(final String format) {
+        if (format.contains("${")) {
+            assertThrows(RuntimeException.class, () -> FormatTemplate.compile(format).format(event));
+            assertThrows(RuntimeException.class, () -> event.formatString(format));
+        } else {
+            assertThat(FormatTemplate.compile(format).format(event), equalTo(format));
+            assertThat(FormatTemplate.compile(format).isConstant(), equalTo(true));
+        }
+    }
+
+    @Test
+    void format_replaces_keys_with_values() {
+        final FormatTemplate objectUnderTest = FormatTemplate.compile("test-${foo}-${/info/ids/id}-${flag}.log");
+
+        assertThat(objectUnderTest.isConstant(), equalTo(false));
+        assertThat(objectUnderTest.format(event), equalTo("test-bar-42-true.log"));
+        assertThat(objectUnderTest.getFormat(), equalTo("test-${foo}-${/info/ids/id}-${flag}.log"));
+    }
+
+    @Test
+    void format_can_be_reused_across_events() {
+        final FormatTemplate objectUnderTest = FormatTemplate.compile("${foo}");
+
+        for (int i = 0; i < 5; i++) {
+            final String value = UUID.randomUUID().toString();
+            final Event otherEvent = JacksonEvent.builder().withEventType("event").withData(Map.of("foo", value)).build();
+            assertThat(objectUnderTest.format(otherEvent), equalTo(value));
+        }
+    }
+
+    @Test
+    void format_with_missing_key_throws_EventKeyNotFoundException() {
+        final FormatTemplate objectUnderTest = FormatTemplate.compile("test-${missing}");
+
+        assertThrows(EventKeyNotFoundException.class, () -> objectUnderTest.format(event));
+        assertThrows(EventKeyNotFoundException.class, () -> objectUnderTest.format(event, expressionEvaluator));
+    }
+
+    @Test
+    void format_with_missing_key_and_default_value_uses_default_value() {
+        final FormatTemplate objectUnderTest = FormatTemplate.compile("test-${missing}-${foo}");
+
+        assertThat(objectUnderTest.format(event, null, "default"), equalTo("test-default-bar"));
+    }
+
+    @Test
+    void format_with_unclosed_placeholder_throws_after_resolving_earlier_keys() {
+        final FormatTemplate objectUnderTest = FormatTemplate.compile("${missing}-${foo");
+
+        assertThrows(EventKeyNotFoundException.class, () -> objectUnderTest.format(event));
+        assertThrows(RuntimeException.class, () -> FormatTemplate.compile("${foo}-${foo").format(event));
+    }
+
+    @Test
+    void format_evaluates_expressions_and_caches_expression_validation() {
+        final String expression = "getMetadata(\"tenant\")";
+        when(expressionEvaluator.isValidExpressionStatement(expression)).thenReturn(true);
+        when(expressionEvaluator.evaluate(expression, event)).thenReturn("tenant-a");
+        final FormatTemplate objectUnderTest = FormatTemplate.compile("${foo}-${" + expression + "}");
+
+        assertThat(objectUnderTest.format(event, expressionEvaluator), equalTo("bar-tenant-a"));
+        assertThat(objectUnderTest.format(event, expressionEvaluator), equalTo("bar-tenant-a"));
+
+        verify(expressionEvaluator, times(1)).isValidExpressionStatement(expression);
+        verify(expressionEvaluator, times(2)).evaluate(expression, event);
+    }
+
+    @Test
+    void format_does_not_evaluate_expressions_for_keys_which_exist() {
+        final FormatTemplate objectUnderTest = FormatTemplate.compile("${foo}");
+
+        assertThat(objectUnderTest.format(event, expressionEvaluator), equalTo("bar"));
+
+        verifyNoInteractions(expressionEvaluator);
+    }
+
+    @Test
+    void format_with_invalid_expression_uses_default_value() {
+        final ExpressionEvaluator invalidExpressionEvaluator = mock(ExpressionEvaluator.class);
+        final String expression = "not an expression";
+        when(invalidExpressionEvaluator.isValidExpressionStatement(expression)).thenReturn(false);
+
+        assertThat(FormatTemplate.compile("${" + expression + "}").format(event, invalidExpressionEvaluator, ""), equalTo(""));
+    }
+
+    @Test
+    void format_of_constant_template_does_not_read_event() {
+        final Event mockEvent = mock(Event.class);
+
+        assertThat(FormatTemplate.compile("constant").format(mockEvent, expressionEvaluator), equalTo("constant"));
+
+        verifyNoInteractions(mockEvent);
+        verifyNoInteractions(expressionEvaluator);
+    }
+
+    @Test
+    void formatTo_appends_to_builder() {
+        final StringBuilder builder = new StringBuilder("prefix:");
+
+        FormatTemplate.compile("${foo}/${flag}").formatTo(builder, event, null, null);
+
+        assertThat(builder.toString(), equalTo("prefix:bar/true"));
+    }
+
+    @Test
+    void of_returns_cached_template() {
+        final String format = "cached-${foo}-" + UUID.randomUUID();
+
+        assertThat(FormatTemplate.of(format), sameInstance(FormatTemplate.of(format)));
+        assertThat(FormatTemplate.of(format).format(event), equalTo(format.replace("${foo}", "bar")));
+    }
+
+    @Test
+    void of_caches_new_templates_after_many_distinct_formats() {
+        for (int i = 0; i < 2048; i++) {
+            FormatTemplate.of("filler-${foo}-" + i + "-" + UUID.randomUUID());
+        }
+        final String format = "after-filler-${foo}-" + UUID.randomUUID();
+
+        assertThat(FormatTemplate.of(format), sameInstance(FormatTemplate.of(format)));
+    }
+
+    @Test
+    void compile_with_null_format_throws() {
+        assertThrows(NullPointerException.class, () -> FormatTemplate.compile(null));
+    }
+
+    @Test
+    void of_with_null_format_throws() {
+        assertThrows(NullPointerException.class, () -> FormatTemplate.of(null));
+    }
+}
@@ -9,6 +9,11 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,7 +25,11 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -68,6 +77,48 @@ public class JacksonEventTest {
 
     }
 
+    @Test
+    void getEstimatedSizeInBytes_is_cached_until_the_event_is_changed() {
+        event.put("key", "value");
+        final long initialSize = event.getEstimatedSizeInBytes();
+        assertThat(initialSize, equalTo(JsonNodeSizeEstimator.estimate(event.getJsonNode())));
+        assertThat(event.getEstimatedSizeInBytes(), equalTo(initialSize));
+
+        event.put("other", UUID.randomUUID().toString());
+        final long sizeAfterPut = event.getEstimatedSizeInBytes();
+        assertThat(sizeAfterPut > initialSize, equalTo(true));
+
+        event.delete("other");
+        assertThat(event.getEstimatedSizeInBytes(), equalTo(initialSize));
+
+        event.merge(JacksonEvent.builder().withEventType(eventType).withData(Map.of("merged", "value")).build());
+        assertThat(event.getEstimatedSizeInBytes() > initialSize, equalTo(true));
+
+        event.clear();
+        assertThat(event.getEstimatedSizeInBytes(), equalTo(JsonNodeSizeEstimator.CONTAINER_NODE_OVERHEAD));
+    }
+
+    @Test
+    void getEstimatedSizeInBytes_reflects_changes_made_to_the_json_node() {
+        event.put("key", "value");
+        final long initialSize = event.getEstimatedSizeInBytes();
+
+        ((ObjectNode) event.getJsonNode()).put("other", UUID.randomUUID().toString());
+
+        assertThat(event.getEstimatedSizeInBytes() > initialSize, equalTo(true));
+    }
+
+    @Test
+    void default_getEstimatedSizeInBytes_estimates_the_json_node_without_serializing() {
+        final Event defaultEvent = mock(Event.class);
+        final JsonNode jsonNode = new ObjectMapper().createObjectNode().put("key", "value");
+        when(defaultEvent.getJsonNode()).thenReturn(jsonNode);
+        when(defaultEvent.getEstimatedSizeInBytes()).thenCallRealMethod();
+
+        assertThat(defaultEvent.getEstimatedSizeInBytes(), equalTo(JsonNodeSizeEstimator.estimate(jsonNode)));
+        verify(defaultEvent, never()).toJsonString();
+    }
+
     @Test
     public void testPutAndGet_withRandomString() {
         final String key = "aRandomKey" + UUID.randomUUID();
@@ -1114,13 +1165,126 @@ public class JacksonEventTest {
         assertThat(event.getEventHandle().getInternalOriginationTime(), is(notNullValue()));
 
         assertThat(createdEvent.toMap(), equalTo(dataObject));
-        assertThat(createdEvent.getJsonNode(), not(sameInstance(originalEvent.getJsonNode())));
+        assertThat(createdEvent.getJsonNode(), sameInstance(originalEvent.getJsonNode()));
 
         assertThat(createdEvent.getMetadata(), notNullValue());
         assertThat(createdEvent.getMetadata(), not(sameInstance(originalEvent.getMetadata())));
         assertThat(createdEvent.getMetadata(), equalTo(originalEvent.getMetadata()));
     }
 
+    @Test
+    void fromEvent_copy_and_original_are_copied_on_write() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("a", Map.of("b", Map.of("c", "value"), "list", List.of(Map.of("d", 1))), "e", "f"))
+                .build();
+        final JacksonEvent createdEvent = JacksonEvent.fromEvent(originalEvent);
+
+        createdEvent.put("a/b/c", "changed");
+        createdEvent.put("a/list/0/d", 2);
+        originalEvent.put("a/b/g", "added");
+        originalEvent.delete("e");
+
+        assertThat(originalEvent.toMap(), equalTo(Map.of("a", Map.of("b", Map.of("c", "value", "g", "added"), "list", List.of(Map.of("d", 1))))));
+        assertThat(createdEvent.toMap(), equalTo(Map.of("a", Map.of("b", Map.of("c", "changed"), "list", List.of(Map.of("d", 2))), "e", "f")));
+    }
+
+    @Test
+    void fromEvent_copy_only_copies_the_changed_path() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("changed", Map.of("key", "value"), "unchanged", Map.of("key", "value")))
+                .build();
+        final JacksonEvent createdEvent = JacksonEvent.fromEvent(originalEvent);
+
+        createdEvent.put("changed/key", "other");
+
+        assertThat(createdEvent.getJsonNode(), not(sameInstance(originalEvent.getJsonNode())));
+        assertThat(createdEvent.getJsonNode().get("changed"), not(sameInstance(originalEvent.getJsonNode().get("changed"))));
+        assertThat(createdEvent.getJsonNode().get("unchanged"), sameInstance(originalEvent.getJsonNode().get("unchanged")));
+        assertThat(originalEvent.get("changed/key", String.class), equalTo("value"));
+    }
+
+    @Test
+    void fromEvent_copies_of_copies_delete_clear_and_merge_are_independent() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("a", Map.of("b", "c", "d", "e")))
+                .build();
+        final JacksonEvent firstCopy = JacksonEvent.fromEvent(originalEvent);
+        final JacksonEvent secondCopy = JacksonEvent.fromEvent(firstCopy);
+        final JacksonEvent thirdCopy = JacksonEvent.fromEvent(originalEvent);
+
+        firstCopy.delete("a/b");
+        secondCopy.clear();
+        thirdCopy.merge(JacksonEvent.builder().withEventType(eventType).withData(Map.of("x", "y")).build());
+
+        assertThat(originalEvent.toMap(), equalTo(Map.of("a", Map.of("b", "c", "d", "e"))));
+        assertThat(firstCopy.toMap(), equalTo(Map.of("a", Map.of("d", "e"))));
+        assertThat(secondCopy.toMap(), equalTo(Map.of()));
+        assertThat(thirdCopy.toMap(), equalTo(Map.of("a", Map.of("b", "c", "d", "e"), "x", "y")));
+    }
+
+    @Test
+    void builder_withEventSchema_creates_event_which_behaves_like_a_plain_event() {
+        final EventSchema eventSchema = new EventSchema();
+        final Map<String, Object> dataObject = createComplexDataMap();
+
+        final JacksonEvent schemaEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(dataObject)
+                .withEventSchema(eventSchema)
+                .build();
+        final JacksonEvent plainEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(dataObject)
+                .build();
+
+        assertThat(schemaEvent.getJsonNode(), instanceOf(SchemaObjectNode.class));
+        assertThat(schemaEvent.toMap(), equalTo(dataObject));
+        assertThat(schemaEvent.getJsonNode(), equalTo(plainEvent.getJsonNode()));
+
+        for (final JacksonEvent jacksonEvent : List.of(schemaEvent, plainEvent)) {
+            jacksonEvent.put("added/nested", "value");
+            jacksonEvent.put("list", List.of(1, 2));
+            jacksonEvent.delete(dataObject.keySet().iterator().next());
+        }
+        assertThat(schemaEvent.toMap(), equalTo(plainEvent.toMap()));
+        assertThat(schemaEvent.get("added/nested", String.class), equalTo("value"));
+        assertThat(schemaEvent.getList("list", Integer.class), equalTo(List.of(1, 2)));
+    }
+
+    @Test
+    void builder_withEventSchema_shares_the_schema_keys_across_events() {
+        final EventSchema eventSchema = new EventSchema();
+
+        for (int i = 0; i < 3; i++) {
+            JacksonEvent.builder()
+                    .withEventType(eventType)
+                    .withData(Map.of("message", UUID.randomUUID().toString(), "status", i))
+                    .withEventSchema(eventSchema)
+                    .build();
+        }
+
+        assertThat(eventSchema.size(), equalTo(2));
+    }
+
+    @Test
+    void fromEvent_with_an_event_with_a_schema_keeps_the_schema_on_write() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("message", "value"))
+                .withEventSchema(new EventSchema())
+                .build();
+        final JacksonEvent createdEvent = JacksonEvent.fromEvent(originalEvent);
+
+        createdEvent.put("message", "changed");
+
+        assertThat(createdEvent.getJsonNode(), instanceOf(SchemaObjectNode.class));
+        assertThat(originalEvent.get("message", String.class), equalTo("value"));
+        assertThat(createdEvent.get("message", String.class), equalTo("changed"));
+    }
+
     @Test
     void fromEvent_with_a_non_JacksonEvent() {
         final Map<String, Object> dataObject = createComplexDataMap();
@@ -1257,6 +1421,74 @@ public class JacksonEventTest {
 
     }
 
+    @ParameterizedTest
+    @MethodSource("provideJsonStringBuilderOptions")
+    void jsonBuilder_writeTo_writes_the_same_json_as_toJsonString(final String rootKey, final List<String> includeKeys,
+                                                                  final List<String> excludeKeys, final String tagsKey) throws IOException {
+        final String jsonString = "{\"id\":1,\"foo\":\"bar\",\"info\":{\"name\":\"hello\",\"foo\":\"bar\"},\"tags\":[{\"key\":\"a\",\"value\":\"b\"},{\"key\":\"c\",\"value\":\"d\"}]}";
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(jsonString)
+                .build();
+        event.getMetadata().addTags(List.of("tag1", "tag2"));
+
+        final String expectedJsonString = event.jsonBuilder().rootKey(rootKey).includeKeys(includeKeys).excludeKeys(excludeKeys)
+                .includeTags(tagsKey).toJsonString();
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        event.jsonBuilder().rootKey(rootKey).includeKeys(includeKeys).excludeKeys(excludeKeys).includeTags(tagsKey)
+                .writeTo(outputStream);
+        assertThat(outputStream.toString(StandardCharsets.UTF_8), equalTo(expectedJsonString));
+
+        final StringWriter writer = new StringWriter();
+        try (final JsonGenerator generator = new JsonFactory().createGenerator(writer)) {
+            generator.writeStartArray();
+            event.jsonBuilder().rootKey(rootKey).includeKeys(includeKeys).excludeKeys(excludeKeys).includeTags(tagsKey)
+                    .writeTo(generator);
+            generator.writeEndArray();
+        }
+        assertThat(writer.toString(), equalTo("[" + expectedJsonString + "]"));
+    }
+
+    private static Stream<Arguments> provideJsonStringBuilderOptions() {
+        return Stream.of(
+                Arguments.of(null, null, null, null),
+                Arguments.of(null, null, null, "event_tags"),
+                Arguments.of("info", null, null, null),
+                Arguments.of("info", null, null, "event_tags"),
+                Arguments.of("foo", null, null, null),
+                Arguments.of(null, List.of("foo", "info/name", "tags/key"), null, "event_tags"),
+                Arguments.of(null, null, List.of("foo", "info/name", "tags/key"), "event_tags"),
+                Arguments.of("info", List.of("name"), null, null)
+        );
+    }
+
+    @Test
+    void jsonBuilder_toJsonString_adds_tags_to_filtered_json() {
+        final String jsonString = "{\"id\":1,\"foo\":\"bar\",\"info\":{\"name\":\"hello\",\"foo\":\"bar\"}}";
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(jsonString)
+                .build();
+        event.getMetadata().addTags(List.of("tag1"));
+
+        assertThat(event.jsonBuilder().includeKeys(List.of("info/name")).includeTags("tags").toJsonString(),
+                equalTo("{\"info\":{\"name\":\"hello\"},\"tags\":[\"tag1\"]}"));
+        assertThat(event.jsonBuilder().rootKey("info").includeTags("tags").toJsonString(),
+                equalTo("{\"name\":\"hello\",\"foo\":\"bar\",\"tags\":[\"tag1\"]}"));
+    }
+
+    @Test
+    void jsonBuilder_toJsonString_escapes_filtered_keys() {
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("quoted\"key", "value", "other", "value"))
+                .build();
+
+        assertThat(event.jsonBuilder().excludeKeys(List.of("other")).toJsonString(),
+                equalTo("{\"quoted\\\"key\":\"value\"}"));
+    }
+
     @ParameterizedTest
     @CsvSource(value = {"test_key, true",
             "/test_key, true",
@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.opensearch.dataprepper.model.event.JsonNodeSizeEstimator.CONTAINER_NODE_OVERHEAD;
+import static org.opensearch.dataprepper.model.event.JsonNodeSizeEstimator.ELEMENT_OVERHEAD;
+import static org.opensearch.dataprepper.model.event.JsonNodeSizeEstimator.ENTRY_OVERHEAD;
+import static org.opensearch.dataprepper.model.event.JsonNodeSizeEstimator.STRING_OVERHEAD;
+import static org.opensearch.dataprepper.model.event.JsonNodeSizeEstimator.VALUE_NODE_OVERHEAD;
+
+class JsonNodeSizeEstimatorTest {
+    private static final JsonNodeFactory FACTORY = JsonNodeFactory.instance;
+
+    @Test
+    void estimate_of_value_nodes() {
+        assertThat(JsonNodeSizeEstimator.estimate(FACTORY.numberNode(42)), equalTo(VALUE_NODE_OVERHEAD));
+        assertThat(JsonNodeSizeEstimator.estimate(FACTORY.booleanNode(true)), equalTo(VALUE_NODE_OVERHEAD));
+        assertThat(JsonNodeSizeEstimator.estimate(FACTORY.nullNode()), equalTo(VALUE_NODE_OVERHEAD));
+        assertThat(JsonNodeSizeEstimator.estimate(FACTORY.textNode("abcd")), equalTo(VALUE_NODE_OVERHEAD + STRING_OVERHEAD + 4));
+        assertThat(JsonNodeSizeEstimator.estimate(FACTORY.binaryNode(new byte[10])), equalTo(VALUE_NODE_OVERHEAD + STRING_OVERHEAD + 10));
+    }
+
+    @Test
+    void estimate_of_nested_containers() {
+        final ObjectNode objectNode = FACTORY.objectNode();
+        objectNode.put("ab", "cd");
+        objectNode.putArray("list").add(1).add(2);
+
+        final long expectedString = VALUE_NODE_OVERHEAD + STRING_OVERHEAD + 2;
+        final long expectedArray = CONTAINER_NODE_OVERHEAD + 2 * (ELEMENT_OVERHEAD + VALUE_NODE_OVERHEAD);
+        final long expected = CONTAINER_NODE_OVERHEAD
+                + ENTRY_OVERHEAD + STRING_OVERHEAD + 2 + expectedString
+                + ENTRY_OVERHEAD + STRING_OVERHEAD + 4 + expectedArray;
+
+        assertThat(JsonNodeSizeEstimator.estimate(objectNode), equalTo(expected));
+    }
+
+    @Test
+    void estimate_grows_with_string_length() {
+        final long smallSize = JsonNodeSizeEstimator.estimate(FACTORY.textNode("a"));
+        final long largeSize = JsonNodeSizeEstimator.estimate(FACTORY.textNode("a".repeat(1000)));
+
+        assertThat(largeSize - smallSize, equalTo(999L));
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+class SchemaObjectNodeTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private EventSchema eventSchema;
+
+    @BeforeEach
+    void setUp() {
+        eventSchema = new EventSchema(2);
+    }
+
+    private SchemaObjectNode createObjectUnderTest() {
+        return new SchemaObjectNode(JsonNodeFactory.instance, eventSchema);
+    }
+
+    @Test
+    void set_and_get_keys_in_and_out_of_the_schema() {
+        final SchemaObjectNode objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.put("a", 1);
+        objectUnderTest.put("b", "two");
+        objectUnderTest.put("c", true);
+
+        assertThat(objectUnderTest.size(), equalTo(3));
+        assertThat(objectUnderTest.get("a").asInt(), equalTo(1));
+        assertThat(objectUnderTest.get("b").asText(), equalTo("two"));
+        assertThat(objectUnderTest.get("c").asBoolean(), equalTo(true));
+        assertThat(objectUnderTest.get("d"), nullValue());
+        assertThat(eventSchema.size(), equalTo(2));
+        assertThat(objectUnderTest.toString(), equalTo("{\"a\":1,\"b\":\"two\",\"c\":true}"));
+    }
+
+    @Test
+    void fields_are_ordered_by_slot_then_by_insertion() {
+        eventSchema.getOrAddSlot("a");
+        eventSchema.getOrAddSlot("b");
+        final SchemaObjectNode objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.put("d", 4);
+        objectUnderTest.put("b", 2);
+        objectUnderTest.put("c", 3);
+        objectUnderTest.put("a", 1);
+
+        final List<String> fieldNames = new ArrayList<>();
+        objectUnderTest.fieldNames().forEachRemaining(fieldNames::add);
+        assertThat(fieldNames, contains("a", "b", "d", "c"));
+    }
+
+    @Test
+    void remove_and_retain_update_size() {
+        final SchemaObjectNode objectUnderTest = createObjectUnderTest();
+        objectUnderTest.put("a", 1);
+        objectUnderTest.put("b", 2);
+        objectUnderTest.put("c", 3);
+        objectUnderTest.put("d", 4);
+
+        objectUnderTest.remove("a");
+        objectUnderTest.remove("c");
+        assertThat(objectUnderTest.size(), equalTo(2));
+        assertThat(objectUnderTest.get("a"), nullValue());
+
+        objectUnderTest.retain("d");
+        assertThat(objectUnderTest.size(), equalTo(1));
+        assertThat(objectUnderTest.toString(), equalTo("{\"d\":4}"));
+
+        objectUnderTest.removeAll();
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void iterator_remove_removes_fields() {
+        final SchemaObjectNode objectUnderTest = createObjectUnderTest();
+        objectUnderTest.put("a", 1);
+        objectUnderTest.put("b", 2);
+        objectUnderTest.put("c", 3);
+
+        final Iterator<Map.Entry<String, JsonNode>> iterator = objectUnderTest.fields();
+        while (iterator.hasNext()) {
+            if (!iterator.next().getKey().equals("b")) {
+                iterator.remove();
+            }
+        }
+
+        assertThat(objectUnderTest.toString(), equalTo("{\"b\":2}"));
+    }
+
+    @Test
+    void equals_plain_object_node_with_the_same_fields() {
+        final SchemaObjectNode objectUnderTest = createObjectUnderTest();
+        objectUnderTest.put("a", 1);
+        objectUnderTest.put("c", "three");
+        final ObjectNode plainObjectNode = OBJECT_MAPPER.createObjectNode().put("a", 1).put("c", "three");
+
+        assertThat(objectUnderTest, equalTo(plainObjectNode));
+        assertThat(plainObjectNode, equalTo(objectUnderTest));
+        assertThat(objectUnderTest.hashCode(), equalTo(plainObjectNode.hashCode()));
+    }
+
+    @Test
+    void values_are_sized_to_the_populated_slots_of_the_schema() {
+        eventSchema = new EventSchema(8);
+        for (final String key : List.of("a", "b", "c", "d", "e", "f")) {
+            eventSchema.getOrAddSlot(key);
+        }
+        final SchemaObjectNode objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.put("a", 1);
+        assertThat(objectUnderTest.getSlotCapacity(), equalTo(1));
+        objectUnderTest.put("b", 2);
+        assertThat(objectUnderTest.getSlotCapacity(), equalTo(2));
+        objectUnderTest.put("c", 3);
+        assertThat(objectUnderTest.getSlotCapacity(), equalTo(4));
+        objectUnderTest.remove("c");
+
+        final SchemaObjectNode copy = objectUnderTest.shallowCopy();
+        assertThat(copy.getSlotCapacity(), equalTo(2));
+    }
+
+    @Test
+    void shallowCopy_is_independent_of_the_original() {
+        final SchemaObjectNode objectUnderTest = createObjectUnderTest();
+        objectUnderTest.put("a", 1);
+        objectUnderTest.put("c", 3);
+
+        final SchemaObjectNode copy = objectUnderTest.shallowCopy();
+        copy.put("a", 10);
+        copy.remove("c");
+
+        assertThat(objectUnderTest.toString(), equalTo("{\"a\":1,\"c\":3}"));
+        assertThat(copy.toString(), equalTo("{\"a\":10}"));
+    }
+
+    @Test
+    void java_serialization_produces_an_equal_object_node() throws Exception {
+        final SchemaObjectNode objectUnderTest = createObjectUnderTest();
+        objectUnderTest.put("a", 1);
+        objectUnderTest.put("c", "three");
+
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(objectUnderTest);
+        }
+        try (final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertThat(objectInputStream.readObject(), equalTo(objectUnderTest));
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration;
+import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compares the serialization throughput of the peer forwarder codecs on a typical forwarding batch.
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class PeerForwarderCodecBenchmark {
+
+    @Param({"java", "json", "smile", "smile_zstd"})
+    private String codec;
+
+    @Param({"48", "1500"})
+    private int batchSize;
+
+    private PeerForwarderCodec peerForwarderCodec;
+    private PeerForwardingEvents peerForwardingEvents;
+    private byte[] serializedEvents;
+
+    @Setup
+    public void setUp() throws Exception {
+        peerForwarderCodec = createCodec(codec);
+        peerForwardingEvents = createPeerForwardingEvents(batchSize);
+        serializedEvents = peerForwarderCodec.serialize(peerForwardingEvents);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public byte[] serialize() throws Exception {
+        return peerForwarderCodec.serialize(peerForwardingEvents);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public PeerForwardingEvents deserialize() throws Exception {
+        return peerForwarderCodec.deserialize(serializedEvents);
+    }
+
+    private static PeerForwarderCodec createCodec(final String codec) {
+        final PeerForwarderCodecAppConfig peerForwarderCodecAppConfig = new PeerForwarderCodecAppConfig();
+        switch (codec) {
+            case "java":
+                return new JavaPeerForwarderCodec(peerForwarderCodecAppConfig.objectInputFilter(new PeerForwarderConfiguration()));
+            case "json":
+                return new JacksonPeerForwarderCodec(peerForwarderCodecAppConfig.objectMapper());
+            case "smile":
+                return new SmilePeerForwarderCodec(PeerForwarderCodecCompression.NONE);
+            case "smile_zstd":
+                return new SmilePeerForwarderCodec(PeerForwarderCodecCompression.ZSTD);
+            default:
+                throw new IllegalArgumentException("Unknown codec " + codec);
+        }
+    }
+
+    private static PeerForwardingEvents createPeerForwardingEvents(final int batchSize) {
+        final List<Event> events = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            final Map<String, Object> data = Map.of(
+                    "traceId", UUID.randomUUID().toString(),
+                    "serviceName", "service-" + (i % 10),
+                    "status", i % 5 == 0 ? 500 : 200,
+                    "latency", i * 1.5,
+                    "http", Map.of("method", "GET", "path", "/api/items/" + i, "userAgent", "benchmark-agent/1.0"),
+                    "tags", List.of("a", "b", "c"));
+            events.add(JacksonEvent.builder()
+                    .withEventType("LOG")
+                    .withData(data)
+                    .build());
+        }
+        return new PeerForwardingEvents(events, "aggregate", "benchmark-pipeline");
+    }
+}
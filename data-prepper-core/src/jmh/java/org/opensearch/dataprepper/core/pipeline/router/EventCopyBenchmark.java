@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline.router;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Compares copying events for routes to multiple sinks by rebuilding the event data with copying on write, with and
+ * without a change to the copy afterwards. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class EventCopyBenchmark {
+
+    @Param({"rebuild", "copy_on_write"})
+    private String copyMethod;
+
+    @Param({"false", "true"})
+    private boolean changeCopy;
+
+    private Event event;
+
+    @Setup
+    public void setUp() {
+        final Map<String, Object> data = new HashMap<>();
+        data.put("traceId", UUID.randomUUID().toString());
+        data.put("message", "GET /api/v1/items?page=2 HTTP/1.1 200 1534 0.023");
+        data.put("status", 200);
+        data.put("http", Map.of(
+                "request", Map.of("method", "GET", "path", "/api/v1/items", "headers", Map.of("host", "example.com", "user-agent", "curl/8.0")),
+                "response", Map.of("status", 200, "bytes", 1534)));
+        data.put("tags", List.of("frontend", "production", "us-east-1"));
+        data.put("resource", Map.of("service", Map.of("name", "checkout", "version", "1.4.2"), "host", Map.of("name", "ip-10-0-0-1")));
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .build();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Event copy() {
+        final Event copy;
+        if ("rebuild".equals(copyMethod)) {
+            copy = JacksonEvent.builder()
+                    .withEventMetadata(event.getMetadata())
+                    .withData(event.toMap())
+                    .build();
+        } else {
+            copy = JacksonEvent.fromEvent(event);
+        }
+        if (changeCopy) {
+            copy.put("http/response/status", 503);
+        }
+        return copy;
+    }
+}
@@ -13,10 +13,13 @@ import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashSet;
+import java.time.Instant;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 /**
  * AcknowledgementSetMonitor - monitors the acknowledgement sets for completion/expiration
  * <p>
@@ -24,18 +27,34 @@ import java.util.concurrent.locks.ReentrantLock;
  * by a specified time. If it is not completed, then it is considered 'expired' and it is
  * cleaned up. The 'run' method is invoked periodically to cleanup the acknowledgement sets
  * that are either completed or expired.
+ * <p>
+ * Sets are kept in a hashed timer wheel keyed by their expiration time, so each run only visits the sets
+ * whose expiration may have passed. Sets which complete remove themselves through {@link #remove}. Sets whose
+ * expiration was extended are moved to a later slot when their current slot comes due. Sets are added under a
+ * shared lock and the processed tick is advanced under the exclusive lock, so a set is always added either before
+ * a run starts processing its slot or to a slot which is not yet due.
  */
 class AcknowledgementSetMonitor implements Runnable {
     private static final Logger LOG = LoggerFactory.getLogger(AcknowledgementSetMonitor.class);
-    private final Set<AcknowledgementSet> acknowledgementSets;
-    private final ReentrantLock lock;
+    static final long TICK_MILLIS = 100;
+    static final int WHEEL_SIZE = 512;
+    private final Map<AcknowledgementSet, Set<AcknowledgementSet>> slotByAcknowledgementSet;
+    private final Set<AcknowledgementSet>[] wheel;
+    private volatile long lastProcessedTick;
+    private final ReadWriteLock tickLock;
     private final AtomicInteger numInvalidAcquires;
     private final AtomicInteger numInvalidReleases;
     private final AtomicInteger numNullHandles;
 
+    @SuppressWarnings("unchecked")
     public AcknowledgementSetMonitor() {
-        this.acknowledgementSets = new HashSet<>();
-        this.lock = new ReentrantLock(true);
+        this.slotByAcknowledgementSet = new ConcurrentHashMap<>();
+        this.wheel = new Set[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.lastProcessedTick = tickOf(Instant.now()) - 1;
+        this.tickLock = new ReentrantReadWriteLock();
         this.numInvalidAcquires = new AtomicInteger(0);
         this.numInvalidReleases = new AtomicInteger(0);
         this.numNullHandles = new AtomicInteger(0);
@@ -50,11 +69,25 @@ class AcknowledgementSetMonitor implements Runnable {
     }
 
     public void add(final AcknowledgementSet acknowledgementSet) {
-        lock.lock();
+        tickLock.readLock().lock();
         try {
-            acknowledgementSets.add(acknowledgementSet);
+            final Set<AcknowledgementSet> slot = slotFor(acknowledgementSet, lastProcessedTick + 1);
+            slotByAcknowledgementSet.put(acknowledgementSet, slot);
+            slot.add(acknowledgementSet);
         } finally {
-            lock.unlock();
+            tickLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stops monitoring an acknowledgement set, typically because it has completed.
+     *
+     * @param acknowledgementSet the acknowledgement set
+     */
+    public void remove(final AcknowledgementSet acknowledgementSet) {
+        final Set<AcknowledgementSet> slot = slotByAcknowledgementSet.remove(acknowledgementSet);
+        if (slot != null) {
+            slot.remove(acknowledgementSet);
         }
     }
 
@@ -63,20 +96,62 @@ class AcknowledgementSetMonitor implements Runnable {
      * @return the size
      */
     int getSize() {
-        return acknowledgementSets.size();
+        return slotByAcknowledgementSet.size();
     }
 
     @Override
     public void run() {
-        lock.lock();
+        final long previousTick = lastProcessedTick;
+        final long currentTick = tickOf(Instant.now());
+        if (currentTick <= previousTick) {
+            return;
+        }
+        // Publish the new tick first so that sets added during this run land in slots which are not yet due.
+        tickLock.writeLock().lock();
         try {
-            if (acknowledgementSets.size() > 0) {
-                acknowledgementSets.removeIf((ackSet) -> ((DefaultAcknowledgementSet) ackSet).isDone());
-            }
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
+            lastProcessedTick = currentTick;
         } finally {
-            lock.unlock();
+            tickLock.writeLock().unlock();
+        }
+        final long ticksToProcess = Math.min(currentTick - previousTick, WHEEL_SIZE);
+        for (long tick = currentTick - ticksToProcess + 1; tick <= currentTick; tick++) {
+            processSlot(wheel[slotIndex(tick)], currentTick);
+        }
+    }
+
+    private void processSlot(final Set<AcknowledgementSet> slot, final long currentTick) {
+        for (final AcknowledgementSet acknowledgementSet : slot) {
+            if (slotByAcknowledgementSet.get(acknowledgementSet) != slot) {
+                slot.remove(acknowledgementSet);
+                continue;
+            }
+            try {
+                if (((DefaultAcknowledgementSet) acknowledgementSet).isDone()) {
+                    remove(acknowledgementSet);
+                    continue;
+                }
+            } catch (final Exception e) {
+                LOG.error("Failed to check the acknowledgement set for completion", e);
+            }
+            final Set<AcknowledgementSet> nextSlot = slotFor(acknowledgementSet, currentTick + 1);
+            if (nextSlot != slot && slotByAcknowledgementSet.replace(acknowledgementSet, slot, nextSlot)) {
+                slot.remove(acknowledgementSet);
+                nextSlot.add(acknowledgementSet);
+            }
         }
     }
+
+    private Set<AcknowledgementSet> slotFor(final AcknowledgementSet acknowledgementSet, final long earliestTick) {
+        final Instant expirationTime = acknowledgementSet.getExpirationTime();
+        final long expirationTick = expirationTime != null ? tickOf(expirationTime) : earliestTick;
+        return wheel[slotIndex(Math.max(expirationTick, earliestTick))];
+    }
+
+    private static long tickOf(final Instant instant) {
+        return instant.toEpochMilli() / TICK_MILLIS;
+    }
+
+    private static int slotIndex(final long tick) {
+        return (int) Math.floorMod(tick, (long) WHEEL_SIZE);
+    }
 }
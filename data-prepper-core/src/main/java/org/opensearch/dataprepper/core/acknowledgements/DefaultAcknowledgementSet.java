@@ -18,47 +18,70 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 
+/**
+ * An {@link AcknowledgementSet} which tracks a reference count per event handle. All state is held in concurrent
+ * or atomic fields so that adding, acquiring and releasing handles never blocks on other threads.
+ */
 public class DefaultAcknowledgementSet implements AcknowledgementSet {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultAcknowledgementSet.class);
     private final Consumer<Boolean> callback;
-    private Consumer<ProgressCheck> progressCheckCallback;
-    private Instant expiryTime;
+    private final Consumer<DefaultAcknowledgementSet> completionListener;
+    private volatile Consumer<ProgressCheck> progressCheckCallback;
+    private volatile Instant expiryTime;
+    private final Instant creationTime;
     private final ScheduledExecutorService scheduledExecutor;
-    // This lock protects all the non-final members
-    private final ReentrantLock lock;
-    private boolean result;
+    private volatile boolean result;
     private final Map<EventHandle, AtomicInteger> pendingAcknowledgments;
-    private Future<?> callbackFuture;
+    private volatile Future<?> callbackFuture;
     private final DefaultAcknowledgementSetMetrics metrics;
-    private ScheduledFuture<?> progressCheckFuture;
-    private boolean completed;
-    private AtomicInteger totalEventsAdded;
+    private volatile ScheduledFuture<?> progressCheckFuture;
+    private volatile boolean completed;
+    private final AtomicBoolean callbackScheduled;
+    private final AtomicInteger totalEventsAdded;
 
     public DefaultAcknowledgementSet(final ScheduledExecutorService scheduledExecutor,
                                      final Consumer<Boolean> callback,
                                      final Duration expiryTime,
                                      final DefaultAcknowledgementSetMetrics metrics) {
+        this(scheduledExecutor, callback, expiryTime, metrics, acknowledgementSet -> { });
+    }
+
+    /**
+     * @param scheduledExecutor executor which runs the callback and progress checks
+     * @param callback callback to invoke with the overall result once every event is released
+     * @param expiryTime duration after which the set expires if it has not completed
+     * @param metrics acknowledgement set metrics
+     * @param completionListener invoked after the callback has run, so the set can stop being monitored
+     * @since 2.15
+     */
+    public DefaultAcknowledgementSet(final ScheduledExecutorService scheduledExecutor,
+                                     final Consumer<Boolean> callback,
+                                     final Duration expiryTime,
+                                     final DefaultAcknowledgementSetMetrics metrics,
+                                     final Consumer<DefaultAcknowledgementSet> completionListener) {
         this.callback = callback;
+        this.completionListener = completionListener;
         this.result = true;
         this.totalEventsAdded = new AtomicInteger(0);
         this.scheduledExecutor = scheduledExecutor;
-        this.expiryTime = Instant.now().plusMillis(expiryTime.toMillis());
+        this.creationTime = Instant.now();
+        this.expiryTime = creationTime.plusMillis(expiryTime.toMillis());
         this.callbackFuture = null;
         this.metrics = metrics;
         this.completed = false;
+        this.callbackScheduled = new AtomicBoolean(false);
         this.progressCheckCallback = null;
-        pendingAcknowledgments = new HashMap<>();
-        lock = new ReentrantLock(true);
+        pendingAcknowledgments = new ConcurrentHashMap<>();
     }
 
     public void addProgressCheck(final Consumer<ProgressCheck> progressCheckCallback, final Duration progressCheckInterval) {
@@ -88,9 +111,7 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
     }
 
     public void checkProgress() {
-        lock.lock();
-        int numberOfEventsPending = pendingAcknowledgments.size();
-        lock.unlock();
+        final int numberOfEventsPending = pendingAcknowledgments.size();
         if (progressCheckCallback != null) {
             progressCheckCallback.accept(new DefaultProgressCheck((double)numberOfEventsPending/totalEventsAdded.get()));
         }
@@ -98,52 +119,37 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
 
     @Override
     public void add(EventHandle eventHandle) {
-        lock.lock();
-        try {
-            InternalEventHandle internalEventHandle = (InternalEventHandle)eventHandle;
-            internalEventHandle.addAcknowledgementSet(this);
-            pendingAcknowledgments.put(eventHandle, new AtomicInteger(1));
-            totalEventsAdded.incrementAndGet();
-        } finally {
-            lock.unlock();
-        }
+        InternalEventHandle internalEventHandle = (InternalEventHandle)eventHandle;
+        internalEventHandle.addAcknowledgementSet(this);
+        pendingAcknowledgments.put(eventHandle, new AtomicInteger(1));
+        totalEventsAdded.incrementAndGet();
     }
 
     public void acquire(final EventHandle eventHandle) {
-        lock.lock();
-        try {
-            if (!pendingAcknowledgments.containsKey(eventHandle)) {
-                LOG.warn("Unexpected event handle acquire");
-                metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME);
-                return;
-            }
-            pendingAcknowledgments.get(eventHandle).incrementAndGet();
-        } finally {
-            lock.unlock();
+        final AtomicInteger referenceCount = pendingAcknowledgments.get(eventHandle);
+        // A count of zero means the handle is being released and must not be resurrected.
+        if (referenceCount == null || referenceCount.getAndUpdate(count -> count > 0 ? count + 1 : count) == 0) {
+            LOG.warn("Unexpected event handle acquire");
+            metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME);
         }
     }
 
     public boolean isDone() {
-        lock.lock();
-        try {
-            if (callbackFuture != null && callbackFuture.isDone()) {
-                metrics.increment(DefaultAcknowledgementSetMetrics.COMPLETED_METRIC_NAME);
-                return true;
+        final Future<?> currentCallbackFuture = callbackFuture;
+        if (currentCallbackFuture != null && currentCallbackFuture.isDone()) {
+            return true;
+        }
+        if (Instant.now().isAfter(expiryTime)) {
+            if (progressCheckFuture != null) {
+                progressCheckFuture.cancel(false);
             }
-            if (Instant.now().isAfter(expiryTime)) {
-                if (progressCheckFuture != null) {
-                    progressCheckFuture.cancel(false);
-                }
-                if (callbackFuture != null) {
-                    callbackFuture.cancel(true);
-                    callbackFuture = null;
-                    LOG.warn("AcknowledgementSet expired");
-                }
-                metrics.increment(DefaultAcknowledgementSetMetrics.EXPIRED_METRIC_NAME);
-                return true;
+            if (currentCallbackFuture != null) {
+                currentCallbackFuture.cancel(true);
+                callbackFuture = null;
+                LOG.warn("AcknowledgementSet expired");
             }
-        } finally {
-            lock.unlock();
+            metrics.increment(DefaultAcknowledgementSetMetrics.EXPIRED_METRIC_NAME);
+            return true;
         }
         return false;
     }
@@ -154,47 +160,52 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
 
     @Override
     public void complete() {
-        lock.lock();
-        try {
-            completed = true;
-            if (pendingAcknowledgments.size() == 0) {
-                if (progressCheckFuture != null) {
-                    progressCheckFuture.cancel(false);
-                }
-                callbackFuture = scheduledExecutor.submit(() -> callback.accept(this.result));
-            }
-        } finally {
-            lock.unlock();
-        }
+        completed = true;
+        scheduleCallbackIfReady();
     }
 
     @Override
     public boolean release(final EventHandle eventHandle, final boolean result) {
-        lock.lock();
         // Result indicates negative or positive acknowledgement. Even if one of the
         // events in the set report negative acknowledgement, then the end result
         // is negative acknowledgement
-        this.result = this.result && result;
-        try {
-            if (!pendingAcknowledgments.containsKey(eventHandle) ||
-                pendingAcknowledgments.get(eventHandle).get() == 0) {
-                return false;
-            }
-            if (pendingAcknowledgments.get(eventHandle).decrementAndGet() == 0) {
-                pendingAcknowledgments.remove(eventHandle);
-                if (completed && pendingAcknowledgments.size() == 0) {
-                    if (progressCheckFuture != null) {
-                        progressCheckFuture.cancel(false);
-                    }
-                    callbackFuture = scheduledExecutor.submit(() -> callback.accept(this.result));
-                    return true;
-                } else if (pendingAcknowledgments.size() == 0) {
-                    LOG.debug("Acknowledgement set is not completed. Delaying callback until it is completed");
-                }
-            }
-        } finally {
-            lock.unlock();
+        if (!result) {
+            this.result = false;
         }
-        return false;
+        final AtomicInteger referenceCount = pendingAcknowledgments.get(eventHandle);
+        if (referenceCount == null) {
+            return false;
+        }
+        final int previousCount = referenceCount.getAndUpdate(count -> count > 0 ? count - 1 : count);
+        if (previousCount != 1) {
+            return false;
+        }
+        pendingAcknowledgments.remove(eventHandle, referenceCount);
+        if (!completed && pendingAcknowledgments.isEmpty()) {
+            LOG.debug("Acknowledgement set is not completed. Delaying callback until it is completed");
+        }
+        return scheduleCallbackIfReady();
+    }
+
+    /**
+     * Submits the callback exactly once, after {@link #complete()} has been called and every handle is released.
+     */
+    private boolean scheduleCallbackIfReady() {
+        if (!completed || !pendingAcknowledgments.isEmpty() || !callbackScheduled.compareAndSet(false, true)) {
+            return false;
+        }
+        if (progressCheckFuture != null) {
+            progressCheckFuture.cancel(false);
+        }
+        callbackFuture = scheduledExecutor.submit(() -> {
+            try {
+                callback.accept(this.result);
+            } finally {
+                completionListener.accept(this);
+                metrics.increment(DefaultAcknowledgementSetMetrics.COMPLETED_METRIC_NAME);
+                metrics.recordCompletionLatency(Duration.between(creationTime, Instant.now()));
+            }
+        });
+        return true;
     }
 }
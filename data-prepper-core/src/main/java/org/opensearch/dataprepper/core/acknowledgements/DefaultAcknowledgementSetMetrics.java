@@ -10,19 +10,25 @@
 package org.opensearch.dataprepper.core.acknowledgements;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 
+import java.time.Duration;
+
 public class DefaultAcknowledgementSetMetrics {
     static final String CREATED_METRIC_NAME = "numberOfAcknowledgementSetsCreated";
     static final String COMPLETED_METRIC_NAME = "numberOfAcknowledgementSetsCompleted";
     static final String EXPIRED_METRIC_NAME = "numberOfAcknowledgementSetsExpired";
     static final String INVALID_ACQUIRES_METRIC_NAME = "numberOfInvalidAcknowledgementAcquires";
     static final String INVALID_RELEASES_METRIC_NAME = "numberOfInvalidAcknowledgementReleases";
+    static final String COMPLETION_LATENCY_METRIC_NAME = "acknowledgementSetCompletionLatency";
+    static final String ACTIVE_METRIC_NAME = "numberOfActiveAcknowledgementSets";
     private final Counter numberOfAcknowledgementSetsCreated;
     private final Counter numberOfAcknowledgementSetsCompleted;
     private final Counter numberOfAcknowledgementSetsExpired;
     private final Counter numberOfInvalidAcknowledgementAcquires;
     private final Counter numberOfInvalidAcknowledgementReleases;
+    private final Timer acknowledgementSetCompletionLatency;
 
     public DefaultAcknowledgementSetMetrics(PluginMetrics pluginMetrics) {
         numberOfAcknowledgementSetsCreated = pluginMetrics.counter(CREATED_METRIC_NAME);
@@ -30,6 +36,17 @@ public class DefaultAcknowledgementSetMetrics {
         numberOfAcknowledgementSetsExpired = pluginMetrics.counter(EXPIRED_METRIC_NAME);
         numberOfInvalidAcknowledgementAcquires = pluginMetrics.counter(INVALID_ACQUIRES_METRIC_NAME);
         numberOfInvalidAcknowledgementReleases = pluginMetrics.counter(INVALID_RELEASES_METRIC_NAME);
+        acknowledgementSetCompletionLatency = pluginMetrics.timer(COMPLETION_LATENCY_METRIC_NAME);
+    }
+
+    /**
+     * Records the time from creating an acknowledgement set until its callback has run. The timer's count
+     * also gives the completion throughput.
+     *
+     * @param latency the completion latency
+     */
+    public void recordCompletionLatency(final Duration latency) {
+        acknowledgementSetCompletionLatency.record(latency);
     }
     
     public void increment(String metricName) throws IllegalArgumentException {
@@ -39,6 +39,7 @@ import java.util.Objects;
  */
 public class DataPrepperConfiguration implements ExtensionsConfiguration, EventConfigurationContainer, ExperimentalConfigurationContainer {
     static final Duration DEFAULT_SHUTDOWN_DURATION = Duration.ofSeconds(30L);
+    static final int DEFAULT_MAX_IN_FLIGHT_SINK_BATCHES = 1;
     public static final String DEFAULT_FAILURE_PIPELINE_NAME = "dlq_pipeline";
 
     private static final String DEFAULT_SOURCE_COORDINATION_STORE = "in_memory";
@@ -64,6 +65,7 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
     private PeerForwarderConfiguration peerForwarderConfiguration;
     private Duration processorShutdownTimeout;
     private Duration sinkShutdownTimeout;
+    private int maxInFlightSinkBatches = DEFAULT_MAX_IN_FLIGHT_SINK_BATCHES;
     private ExperimentalConfiguration experimental;
     private PipelineExtensions pipelineExtensions;
     private String failurePipelineName = DEFAULT_FAILURE_PIPELINE_NAME;
@@ -107,6 +109,8 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
             @JsonProperty("sink_shutdown_timeout")
             @JsonAlias("sinkShutdownTimeout")
             final Duration sinkShutdownTimeout,
+            @JsonProperty("max_in_flight_sink_batches")
+            final Integer maxInFlightSinkBatches,
             @JsonProperty("circuit_breakers") final CircuitBreakerConfig circuitBreakerConfig,
             @JsonProperty("source_coordination") final SourceCoordinationConfig sourceCoordinationConfig,
             @JsonProperty("pipeline_shutdown") final PipelineShutdownOption pipelineShutdown,
@@ -144,6 +148,13 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
         if (this.sinkShutdownTimeout.isNegative()) {
             throw new IllegalArgumentException("sinkShutdownTimeout must be non-negative.");
         }
+
+        if (maxInFlightSinkBatches != null) {
+            if (maxInFlightSinkBatches < 1) {
+                throw new IllegalArgumentException("maxInFlightSinkBatches must be at least 1.");
+            }
+            this.maxInFlightSinkBatches = maxInFlightSinkBatches;
+        }
         this.experimental = experimental != null ? experimental : ExperimentalConfiguration.defaultConfiguration();
 
         this.pipelineExtensions = pipelineExtensions;
@@ -254,6 +265,15 @@ public class DataPrepperConfiguration implements ExtensionsConfiguration, EventC
         return sinkShutdownTimeout;
     }
 
+    /**
+     * @return The maximum number of batches each process worker may have outstanding in its sinks before it
+     * waits for the oldest one. A value of 1 publishes synchronously.
+     * @since 2.15
+     */
+    public int getMaxInFlightSinkBatches() {
+        return maxInFlightSinkBatches;
+    }
+
     public CircuitBreakerConfig getCircuitBreakerConfig() {
         return circuitBreakerConfig;
     }
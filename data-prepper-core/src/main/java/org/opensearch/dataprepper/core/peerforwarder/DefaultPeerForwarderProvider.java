@@ -19,8 +19,11 @@ import org.opensearch.dataprepper.model.record.Record;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 public class DefaultPeerForwarderProvider implements PeerForwarderProvider {
+    static final String FLUSH_THREAD_NAME = "peer-forwarder-batch-flusher";
 
     private final PeerForwarderClientFactory peerForwarderClientFactory;
     private final PeerForwarderClient peerForwarderClient;
@@ -28,6 +31,7 @@ public class DefaultPeerForwarderProvider implements PeerForwarderProvider {
     private final PluginMetrics pluginMetrics;
     private final Map<String, Map<String, PeerForwarderReceiveBuffer<Record<Event>>>> pipelinePeerForwarderReceiveBufferMap = new HashMap<>();
     private HashRing hashRing;
+    private ScheduledExecutorService flushScheduler;
 
     DefaultPeerForwarderProvider(final PeerForwarderClientFactory peerForwarderClientFactory,
                           final PeerForwarderClient peerForwarderClient,
@@ -52,6 +56,13 @@ public class DefaultPeerForwarderProvider implements PeerForwarderProvider {
             if (hashRing == null) {
                 hashRing = peerForwarderClientFactory.createHashRing();
             }
+            if (flushScheduler == null) {
+                flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    final Thread flushThread = new Thread(runnable, FLUSH_THREAD_NAME);
+                    flushThread.setDaemon(true);
+                    return flushThread;
+                });
+            }
             return new RemotePeerForwarder(
                     peerForwarderClient,
                     hashRing,
@@ -65,7 +76,10 @@ public class DefaultPeerForwarderProvider implements PeerForwarderProvider {
                     peerForwarderConfiguration.getForwardingBatchSize(),
                     peerForwarderConfiguration.getForwardingBatchQueueDepth(),
                     peerForwarderConfiguration.getForwardingBatchTimeout(),
-                    pipelineWorkerThreads
+                    pipelineWorkerThreads,
+                    peerForwarderConfiguration.getForwardingMaxInFlightRequests(),
+                    peerForwarderConfiguration.getForwardingBackPressureTimeout(),
+                    flushScheduler
             );
         }
         else {
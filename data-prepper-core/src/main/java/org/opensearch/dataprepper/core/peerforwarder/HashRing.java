@@ -10,113 +10,238 @@
 package org.opensearch.dataprepper.core.peerforwarder;
 
 import com.linecorp.armeria.client.Endpoint;
+import io.micrometer.core.instrument.DistributionSummary;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.PeerListProvider;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.concurrent.NotThreadSafe;
-import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeMap;
 import java.util.function.Consumer;
 
 /**
  * Consistent hashing implementation used to map identification keys to Data Prepper hosts.
  * See https://en.wikipedia.org/wiki/Consistent_hashing for more information.
+ * <p>
+ * Identification keys are hashed to a 64-bit value by {@link RoutingKeyHasher}. In {@link PeerRoutingMode#RING}
+ * mode the ring is a sorted array of virtual node positions which is searched with a binary search. In
+ * {@link PeerRoutingMode#JUMP} mode the hash selects a peer from the sorted peer list with jump consistent hashing.
+ * Lookups may run concurrently with rebuilds. Each rebuild records the percentage of the key space which moved to
+ * a different peer.
  */
-@NotThreadSafe
 public class HashRing implements Consumer<List<Endpoint>> {
     private static final Logger LOG = LoggerFactory.getLogger(HashRing.class);
-    private static final String MD5 = "MD5";
-    private static final String DELIMITER = ",";
+    static final String REMAPPED_KEY_SPACE_PERCENTAGE = "hashRingRemappedKeySpacePercentage";
+    private static final int JUMP_SAMPLE_COUNT = 4096;
+    private static final double KEY_SPACE_SIZE = 0x1p64;
 
     /* Number of virtual nodes per Data Prepper host to be present on the hash ring */
     private final int numVirtualNodes;
 
     private final PeerListProvider peerListProvider;
+    private final PeerRoutingMode routingMode;
+    private final DistributionSummary remappedKeySpacePercentageSummary;
 
-    private TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+    private volatile RoutingTable routingTable;
 
-    public HashRing(final PeerListProvider peerListProvider, final int numVirtualNodes) {
+    public HashRing(final PeerListProvider peerListProvider,
+                    final int numVirtualNodes,
+                    final PeerRoutingMode routingMode,
+                    final PluginMetrics pluginMetrics) {
         Objects.requireNonNull(peerListProvider);
         this.peerListProvider = peerListProvider;
         this.numVirtualNodes = numVirtualNodes;
+        this.routingMode = routingMode != null ? routingMode : PeerRoutingMode.RING;
+        this.remappedKeySpacePercentageSummary = pluginMetrics.summary(REMAPPED_KEY_SPACE_PERCENTAGE);
 
-        buildHashServerMap();
+        this.routingTable = buildRoutingTable();
 
         peerListProvider.addListener(this);
     }
 
     public Optional<String> getServerIp(final List<String> identificationKeyValues) {
-        if (hashServerMap.isEmpty()) {
-            return Optional.empty();
+        final RoutingKeyHasher routingKeyHasher = new RoutingKeyHasher();
+        for (final String identificationKeyValue : identificationKeyValues) {
+            routingKeyHasher.putValue(identificationKeyValue);
         }
+        return getServerIp(routingKeyHasher.hash());
+    }
 
-        final byte[] identificationKeysInBytes = String.join(DELIMITER, identificationKeyValues).getBytes();
-
-        final MessageDigest md;
-        try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
-        }
-
-        md.update(identificationKeysInBytes);
-        final BigInteger hashcode = new BigInteger(md.digest());
-
-        // obtain Map.Entry with key greater than the hashcode
-        final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(hashcode);
-
-        if (entry == null) {
-            // return first node if no key is greater than the hashcode
-            return Optional.of(hashServerMap.firstEntry().getValue());
-        } else {
-            return Optional.of(entry.getValue());
-        }
+    /**
+     * Gets the host which owns a routing hash.
+     *
+     * @param routingHash the hash of the identification key values, from {@link RoutingKeyHasher}
+     * @return the host, or empty if there are no hosts
+     * @since 2.15
+     */
+    public Optional<String> getServerIp(final long routingHash) {
+        return Optional.ofNullable(routingTable.route(routingHash));
     }
 
     @Override
     public void accept(final List<Endpoint> endpoints) {
-        buildHashServerMap();
+        final RoutingTable previousRoutingTable = routingTable;
+        final RoutingTable newRoutingTable = buildRoutingTable();
+        routingTable = newRoutingTable;
+
+        final double remappedKeySpacePercentage = 100.0 * remappedKeySpaceFraction(previousRoutingTable, newRoutingTable);
+        remappedKeySpacePercentageSummary.record(remappedKeySpacePercentage);
+        LOG.info("Rebuilt hash ring; {}% of the key space moved to a different endpoint.",
+                String.format("%.2f", remappedKeySpacePercentage));
     }
 
-    private void buildHashServerMap() {
-        final TreeMap<BigInteger, String> newHashValueMap = new TreeMap<>();
+    private RoutingTable buildRoutingTable() {
         final List<String> endpoints = peerListProvider.getPeerList();
 
         LOG.info("Building hash ring with endpoints: {}", endpoints);
+        if (routingMode == PeerRoutingMode.JUMP) {
+            final String[] sortedEndpoints = endpoints.stream().distinct().sorted().toArray(String[]::new);
+            return new RoutingTable(null, sortedEndpoints);
+        }
+        return buildRing(endpoints);
+    }
+
+    private RoutingTable buildRing(final List<String> endpoints) {
+        final int size = endpoints.size() * numVirtualNodes;
+        final long[] positions = new long[size];
+        final String[] owners = new String[size];
+        final RoutingKeyHasher routingKeyHasher = new RoutingKeyHasher();
+        int index = 0;
         for (final String serverIp : endpoints) {
-            addServerIpToHashMap(serverIp, newHashValueMap);
+            for (int i = 0; i < numVirtualNodes; i++) {
+                positions[index] = routingKeyHasher.reset().putValue(serverIp).putInt(i).hash();
+                owners[index] = serverIp;
+                index++;
+            }
+        }
+
+        // A stable sort keeps the first endpoint's virtual node when two positions collide.
+        final Integer[] order = new Integer[size];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparingLong(i -> positions[i]));
+
+        final long[] sortedPositions = new long[size];
+        final String[] sortedOwners = new String[size];
+        int distinctCount = 0;
+        for (final int i : order) {
+            if (distinctCount > 0 && sortedPositions[distinctCount - 1] == positions[i]) {
+                continue;
+            }
+            sortedPositions[distinctCount] = positions[i];
+            sortedOwners[distinctCount] = owners[i];
+            distinctCount++;
+        }
+        return new RoutingTable(Arrays.copyOf(sortedPositions, distinctCount), Arrays.copyOf(sortedOwners, distinctCount));
+    }
+
+    /**
+     * Computes the fraction of the hash space whose owner differs between two routing tables. Rings are compared
+     * exactly, segment by segment; jump tables are compared on evenly spaced sample hashes.
+     */
+    static double remappedKeySpaceFraction(final RoutingTable previous, final RoutingTable current) {
+        if (previous.isEmpty() || current.isEmpty()) {
+            return previous.isEmpty() && current.isEmpty() ? 0.0 : 1.0;
+        }
+        if (previous.positions == null || current.positions == null) {
+            int remapped = 0;
+            final long step = Long.divideUnsigned(-1L, JUMP_SAMPLE_COUNT);
+            for (int i = 0; i < JUMP_SAMPLE_COUNT; i++) {
+                final long hash = Long.MIN_VALUE + i * step;
+                if (!previous.route(hash).equals(current.route(hash))) {
+                    remapped++;
+                }
+            }
+            return (double) remapped / JUMP_SAMPLE_COUNT;
+        }
+
+        // Owners only change at ring positions, so each segment between consecutive positions of either ring
+        // has a single owner in each ring.
+        final long[] boundaries = mergeDistinct(previous.positions, current.positions);
+        double remapped = 0;
+        for (int i = 0; i < boundaries.length; i++) {
+            final long start = boundaries[i];
+            if (!previous.route(start).equals(current.route(start))) {
+                final long end = i + 1 < boundaries.length ? boundaries[i + 1] : boundaries[0];
+                final long length = end - start;
+                remapped += length == 0 ? KEY_SPACE_SIZE : unsignedToDouble(length);
+            }
+        }
+        return remapped / KEY_SPACE_SIZE;
+    }
+
+    private static long[] mergeDistinct(final long[] first, final long[] second) {
+        final long[] merged = new long[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < first.length || j < second.length) {
+            final long next;
+            if (j >= second.length || (i < first.length && first[i] <= second[j])) {
+                next = first[i++];
+            } else {
+                next = second[j++];
+            }
+            if (count == 0 || merged[count - 1] != next) {
+                merged[count++] = next;
+            }
         }
+        return Arrays.copyOf(merged, count);
+    }
 
-        this.hashServerMap = newHashValueMap;
+    private static double unsignedToDouble(final long value) {
+        return (double) (value >>> 1) * 2.0 + (value & 1);
     }
 
-    private void addServerIpToHashMap(final String serverIp, final Map<BigInteger, String> targetMap) {
-        final byte[] serverIpInBytes = serverIp.getBytes();
-        final MessageDigest md;
+    /**
+     * Jump consistent hashing, from "A Fast, Minimal Memory, Consistent Hash Algorithm" by Lamping and Veach.
+     */
+    static int jumpConsistentHash(long key, final int buckets) {
+        long bucket = -1;
+        long next = 0;
+        while (next < buckets) {
+            bucket = next;
+            key = key * 2862933555777941757L + 1;
+            next = (long) ((bucket + 1) * ((double) (1L << 31) / (double) ((key >>> 33) + 1)));
+        }
+        return (int) bucket;
+    }
 
-        try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
+    /**
+     * An immutable snapshot of the routing state. For rings, positions are sorted and owners holds the endpoint of
+     * each position. For jump consistent hashing, positions is null and owners holds the sorted endpoints.
+     */
+    static final class RoutingTable {
+        private final long[] positions;
+        private final String[] owners;
+
+        private RoutingTable(final long[] positions, final String[] owners) {
+            this.positions = positions;
+            this.owners = owners;
         }
 
-        final ByteBuffer intBuffer = ByteBuffer.allocate(4);
-        for (int i = 0; i < numVirtualNodes; i++) {
-            md.update(serverIpInBytes);
-            intBuffer.putInt(i);
-            md.update(intBuffer.array());
-            final BigInteger hashcode = new BigInteger(md.digest());
-            targetMap.putIfAbsent(hashcode, serverIp);
-            md.reset();
-            intBuffer.clear();
+        boolean isEmpty() {
+            return owners.length == 0;
         }
+
+        String route(final long hash) {
+            if (owners.length == 0) {
+                return null;
+            }
+            if (positions == null) {
+                return owners[jumpConsistentHash(hash, owners.length)];
+            }
+            // obtain the first position greater than the hash, wrapping to the first position
+            int index = Arrays.binarySearch(positions, hash);
+            index = index >= 0 ? index + 1 : -index - 1;
+            return owners[index == positions.length ? 0 : index];
+        }
+    }
+
+    RoutingTable getRoutingTable() {
+        return routingTable;
     }
 }
@@ -13,7 +13,10 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.dataprepper.core.parser.model.DataPrepperConfiguration;
+import org.opensearch.dataprepper.core.peerforwarder.codec.PeerForwarderCodecCompression;
+import org.opensearch.dataprepper.core.peerforwarder.codec.PeerForwarderCodecType;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.DiscoveryMode;
+import org.opensearch.dataprepper.model.types.ByteCount;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -32,6 +35,8 @@ public class PeerForwarderConfiguration {
     public static final String DEFAULT_PEER_FORWARDING_URI = "/event/forward";
     public static final Duration DEFAULT_DRAIN_TIMEOUT = Duration.ofSeconds(10L);
     public static final Duration DEFAULT_FORWARDING_BATCH_TIMEOUT = Duration.ofSeconds(3L);
+    public static final Duration DEFAULT_FORWARDING_BACK_PRESSURE_TIMEOUT = Duration.ofSeconds(2L);
+    public static final ByteCount DEFAULT_MAX_REQUEST_LENGTH = ByteCount.parse("10mb");
     public static final String DEFAULT_CERTIFICATE_FILE_PATH = "config/default_certificate.pem";
     public static final String DEFAULT_PRIVATE_KEY_FILE_PATH = "config/default_private_key.pem";
     private static final String S3_PREFIX = "s3://";
@@ -71,6 +76,12 @@ public class PeerForwarderConfiguration {
     private Integer forwardingBatchQueueDepth = 1;
     private Duration forwardingBatchTimeout = DEFAULT_FORWARDING_BATCH_TIMEOUT;
     private boolean binaryCodec = true;
+    private PeerForwarderCodecType codec = PeerForwarderCodecType.JAVA;
+    private PeerForwarderCodecCompression codecCompression = PeerForwarderCodecCompression.NONE;
+    private PeerRoutingMode routingMode = PeerRoutingMode.RING;
+    private Integer forwardingMaxInFlightRequests = 8;
+    private Duration forwardingBackPressureTimeout = DEFAULT_FORWARDING_BACK_PRESSURE_TIMEOUT;
+    private ByteCount maxRequestLength = DEFAULT_MAX_REQUEST_LENGTH;
     private List<Set<String>> excludeIdentificationKeys;
 
     public PeerForwarderConfiguration() {}
@@ -110,7 +121,13 @@ public class PeerForwarderConfiguration {
             @JsonProperty("forwarding_batch_size") final Integer forwardingBatchSize,
             @JsonProperty("forwarding_batch_queue_depth") final Integer forwardingBatchQueueDepth,
             @JsonProperty("forwarding_batch_timeout") final Duration forwardingBatchTimeout,
-            @JsonProperty("binary_codec") final Boolean binaryCodec
+            @JsonProperty("binary_codec") final Boolean binaryCodec,
+            @JsonProperty("codec") final String codec,
+            @JsonProperty("codec_compression") final String codecCompression,
+            @JsonProperty("routing_mode") final String routingMode,
+            @JsonProperty("forwarding_max_in_flight_requests") final Integer forwardingMaxInFlightRequests,
+            @JsonProperty("forwarding_backpressure_timeout") final Duration forwardingBackPressureTimeout,
+            @JsonProperty("max_request_length") final String maxRequestLength
     ) {
         setServerPort(serverPort);
         setRequestTimeout(requestTimeout);
@@ -145,6 +162,12 @@ public class PeerForwarderConfiguration {
         setForwardingBatchQueueDepth(forwardingBatchQueueDepth);
         setForwardingBatchTimeout(forwardingBatchTimeout);
         setBinaryCodec(binaryCodec == null || binaryCodec);
+        setCodec(codec);
+        setCodecCompression(codecCompression);
+        setRoutingMode(routingMode);
+        setForwardingMaxInFlightRequests(forwardingMaxInFlightRequests);
+        setForwardingBackPressureTimeout(forwardingBackPressureTimeout);
+        setMaxRequestLength(maxRequestLength);
         checkForCertAndKeyFileInS3();
         validateSslAndAuthentication();
         this.excludeIdentificationKeys = excludeIdentificationKeys;
@@ -277,6 +300,68 @@ public class PeerForwarderConfiguration {
         return binaryCodec;
     }
 
+    /**
+     * Gets the codec used to exchange events with peers. When no codec is configured, this is derived from
+     * {@link #getBinaryCodec()}.
+     *
+     * @return the codec type
+     * @since 2.15
+     */
+    public PeerForwarderCodecType getCodec() {
+        return codec;
+    }
+
+    /**
+     * Gets the compression applied to the payloads of the {@link PeerForwarderCodecType#SMILE} codec.
+     *
+     * @return the codec compression
+     * @since 2.15
+     */
+    public PeerForwarderCodecCompression getCodecCompression() {
+        return codecCompression;
+    }
+
+    /**
+     * Gets how identification keys are mapped to peers.
+     *
+     * @return the routing mode
+     * @since 2.15
+     */
+    public PeerRoutingMode getRoutingMode() {
+        return routingMode;
+    }
+
+    /**
+     * Gets the maximum number of concurrent forwarding requests to each peer.
+     *
+     * @return the maximum number of in-flight requests per peer
+     * @since 2.15
+     */
+    public Integer getForwardingMaxInFlightRequests() {
+        return forwardingMaxInFlightRequests;
+    }
+
+    /**
+     * Gets how long a process worker waits for room in a full forwarding queue before processing its records locally.
+     *
+     * @return the back-pressure timeout
+     * @since 2.15
+     */
+    public Duration getForwardingBackPressureTimeout() {
+        return forwardingBackPressureTimeout;
+    }
+
+    /**
+     * Gets the maximum length of a forwarding request accepted by the server. Compressed payloads are also rejected
+     * when they decompress to more than this length.
+     *
+     * @return the maximum request length
+     * @since 2.15
+     */
+    public ByteCount getMaxRequestLength() {
+        return maxRequestLength;
+    }
+
     private void setServerPort(final Integer serverPort) {
         if (serverPort != null) {
             if (serverPort < 0 || serverPort > 65535) {
@@ -567,7 +652,58 @@ public class PeerForwarderConfiguration {
         }
     }
 
+    private void setForwardingMaxInFlightRequests(final Integer forwardingMaxInFlightRequests) {
+        if (forwardingMaxInFlightRequests != null) {
+            if (forwardingMaxInFlightRequests <= 0) {
+                throw new IllegalArgumentException("Forwarding max in-flight requests must be a positive integer.");
+            }
+            this.forwardingMaxInFlightRequests = forwardingMaxInFlightRequests;
+        }
+    }
+
+    private void setForwardingBackPressureTimeout(final Duration forwardingBackPressureTimeout) {
+        if (forwardingBackPressureTimeout != null) {
+            if (forwardingBackPressureTimeout.isNegative()) {
+                throw new IllegalArgumentException("Forwarding back-pressure timeout must be non-negative.");
+            }
+            this.forwardingBackPressureTimeout = forwardingBackPressureTimeout;
+        }
+    }
+
+    private void setMaxRequestLength(final String maxRequestLength) {
+        if (maxRequestLength != null) {
+            final ByteCount byteCount = ByteCount.parse(maxRequestLength);
+            if (byteCount.getBytes() <= 0) {
+                throw new IllegalArgumentException("Max request length must be positive.");
+            }
+            this.maxRequestLength = byteCount;
+        }
+    }
+
     private void setBinaryCodec(final boolean binaryCodec) {
         this.binaryCodec = binaryCodec;
     }
+
+    private void setCodec(final String codec) {
+        if (codec != null) {
+            this.codec = PeerForwarderCodecType.valueOf(codec.toUpperCase());
+        } else {
+            this.codec = binaryCodec ? PeerForwarderCodecType.JAVA : PeerForwarderCodecType.JSON;
+        }
+    }
+
+    private void setRoutingMode(final String routingMode) {
+        if (routingMode != null) {
+            this.routingMode = PeerRoutingMode.valueOf(routingMode.toUpperCase());
+        }
+    }
+
+    private void setCodecCompression(final String codecCompression) {
+        if (codecCompression != null) {
+            this.codecCompression = PeerForwarderCodecCompression.valueOf(codecCompression.toUpperCase());
+            if (this.codecCompression != PeerForwarderCodecCompression.NONE && codec != PeerForwarderCodecType.SMILE) {
+                throw new IllegalArgumentException("Codec compression is only supported with the smile codec.");
+            }
+        }
+    }
 }
@@ -0,0 +1,251 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.core.peerforwarder.client.PeerForwarderClient;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+/**
+ * Forwards the records routed to a single peer. Records wait in a bounded queue and are sent asynchronously in
+ * batches, with at most a fixed number of requests in flight. When the queue is full, the process workers which
+ * enqueue records send batches themselves and wait for a free request slot, so a slow peer slows the pipeline
+ * down rather than silently moving its work to the local node. The batch size adapts to the request round-trip time.
+ *
+ * @since 2.15
+ */
+class PeerForwardingSender {
+    private static final Logger LOG = LoggerFactory.getLogger(PeerForwardingSender.class);
+
+    static final String PEER_TAG = "peer";
+    static final String PEER_FORWARDING_LATENCY = "peerForwardingLatency";
+    static final String PEER_FORWARDING_BACK_PRESSURE_WAIT = "peerForwardingBackPressureWait";
+    static final String PEER_FORWARDING_QUEUE_DEPTH = "peerForwardingQueueDepth";
+    static final String PEER_FORWARDING_IN_FLIGHT_REQUESTS = "peerForwardingInFlightRequests";
+    static final String PEER_FORWARDING_BATCH_SIZE = "peerForwardingBatchSize";
+
+    /* Number of round trips after which the baseline round-trip time is re-evaluated */
+    static final int RTT_WINDOW_SIZE = 64;
+    /* Round-trip time increase over the baseline which is never treated as congestion */
+    static final long CONGESTION_SLACK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    private final PeerForwarderClient peerForwarderClient;
+    private final String destinationIp;
+    private final String pluginId;
+    private final String pipelineName;
+    private final BiConsumer<AggregatedHttpResponse, List<Record<Event>>> responseHandler;
+    private final LinkedBlockingQueue<Record<Event>> queue;
+    private final Semaphore inFlightPermits;
+    private final int maxInFlightRequests;
+    private final Duration batchTimeout;
+    private final int maxBatchSize;
+    private final int minBatchSize;
+    private final Timer latencyTimer;
+    private final Timer backPressureWaitTimer;
+
+    private volatile int batchSize;
+    private volatile long lastFlushTimeMillis;
+    private long baselineRttNanos = Long.MAX_VALUE;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private int windowSamples;
+
+    PeerForwardingSender(final PeerForwarderClient peerForwarderClient,
+                         final String destinationIp,
+                         final String pluginId,
+                         final String pipelineName,
+                         final BiConsumer<AggregatedHttpResponse, List<Record<Event>>> responseHandler,
+                         final PluginMetrics pluginMetrics,
+                         final int maxBatchSize,
+                         final int queueCapacity,
+                         final int maxInFlightRequests,
+                         final Duration batchTimeout) {
+        this.peerForwarderClient = peerForwarderClient;
+        this.destinationIp = destinationIp;
+        this.pluginId = pluginId;
+        this.pipelineName = pipelineName;
+        this.responseHandler = responseHandler;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.maxInFlightRequests = maxInFlightRequests;
+        this.inFlightPermits = new Semaphore(maxInFlightRequests);
+        this.batchTimeout = batchTimeout;
+        this.maxBatchSize = maxBatchSize;
+        this.minBatchSize = Math.max(1, maxBatchSize / 16);
+        this.batchSize = maxBatchSize;
+        this.lastFlushTimeMillis = System.currentTimeMillis();
+
+        latencyTimer = pluginMetrics.timerWithTags(PEER_FORWARDING_LATENCY, PEER_TAG, destinationIp);
+        backPressureWaitTimer = pluginMetrics.timerWithTags(PEER_FORWARDING_BACK_PRESSURE_WAIT, PEER_TAG, destinationIp);
+        final List<Tag> tags = List.of(Tag.of(PEER_TAG, destinationIp));
+        pluginMetrics.gaugeWithTags(PEER_FORWARDING_QUEUE_DEPTH, tags, this, PeerForwardingSender::getQueueDepth);
+        pluginMetrics.gaugeWithTags(PEER_FORWARDING_IN_FLIGHT_REQUESTS, tags, this, PeerForwardingSender::getInFlightRequests);
+        pluginMetrics.gaugeWithTags(PEER_FORWARDING_BATCH_SIZE, tags, this, PeerForwardingSender::getBatchSize);
+    }
+
+    /**
+     * Adds records to the queue. While the queue is full, sends batches to make room, waiting up to the back-pressure
+     * timeout in total for in-flight requests to complete.
+     *
+     * @param records the records to forward
+     * @param backPressureTimeout the maximum time to wait for room in the queue
+     * @return the records which could not be queued before the timeout
+     */
+    List<Record<Event>> enqueue(final List<Record<Event>> records, final Duration backPressureTimeout) {
+        long waitStartNanos = 0;
+        long deadlineNanos = 0;
+        boolean waited = false;
+        try {
+            for (int i = 0; i < records.size(); i++) {
+                final Record<Event> record = records.get(i);
+                while (!queue.offer(record)) {
+                    if (!waited) {
+                        waited = true;
+                        waitStartNanos = System.nanoTime();
+                        deadlineNanos = waitStartNanos + backPressureTimeout.toNanos();
+                    }
+                    if (!sendBatchWhenPermitted(deadlineNanos)) {
+                        return new ArrayList<>(records.subList(i, records.size()));
+                    }
+                }
+            }
+            return Collections.emptyList();
+        } finally {
+            if (waited) {
+                backPressureWaitTimer.record(System.nanoTime() - waitStartNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Sends the queued batches which are ready while request slots are free: full batches, and a partial batch
+     * once the batch timeout has passed since the last send. Does not wait for responses. This is called by the process
+     * workers after they enqueue records and periodically by a shared flusher, so partial batches are also sent while
+     * the workers are idle.
+     */
+    void sendReadyBatches() {
+        while (isBatchReady() && inFlightPermits.tryAcquire()) {
+            if (!sendBatch()) {
+                return;
+            }
+        }
+    }
+
+    private boolean isBatchReady() {
+        if (queue.size() >= batchSize) {
+            return true;
+        }
+        final long millisSinceLastFlush = System.currentTimeMillis() - lastFlushTimeMillis;
+        return !queue.isEmpty() && Duration.ofMillis(millisSinceLastFlush).compareTo(batchTimeout) >= 0;
+    }
+
+    private boolean sendBatchWhenPermitted(final long deadlineNanos) {
+        try {
+            final long remainingNanos = deadlineNanos - System.nanoTime();
+            if (!inFlightPermits.tryAcquire(Math.max(0, remainingNanos), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        sendBatch();
+        return true;
+    }
+
+    /**
+     * Sends one batch using an in-flight permit which the caller acquired.
+     *
+     * @return false if the queue was empty, in which case the permit was released
+     */
+    private boolean sendBatch() {
+        final List<Record<Event>> batch = new ArrayList<>();
+        final int sentBatchSize = batchSize;
+        queue.drainTo(batch, sentBatchSize);
+        if (batch.isEmpty()) {
+            inFlightPermits.release();
+            return false;
+        }
+        lastFlushTimeMillis = System.currentTimeMillis();
+
+        final long startNanos = System.nanoTime();
+        final CompletableFuture<AggregatedHttpResponse> responseFuture;
+        try {
+            responseFuture = peerForwarderClient.serializeRecordsAndSendHttpRequest(batch, destinationIp, pluginId, pipelineName);
+        } catch (final Exception e) {
+            inFlightPermits.release();
+            LOG.warn("Unable to submit request for forwarding, processing locally.", e);
+            responseHandler.accept(null, batch);
+            return true;
+        }
+        for (final Record<Event> record : batch) {
+            record.getData().getEventHandle().release(true);
+        }
+
+        responseFuture.whenComplete((response, throwable) -> {
+            final long rttNanos = System.nanoTime() - startNanos;
+            inFlightPermits.release();
+            latencyTimer.record(rttNanos, TimeUnit.NANOSECONDS);
+            if (throwable != null) {
+                LOG.warn("Unable to send request to peer, processing locally.", throwable);
+            } else {
+                adaptBatchSize(rttNanos, batch.size(), sentBatchSize);
+            }
+            responseHandler.accept(throwable == null ? response : null, batch);
+        });
+        return true;
+    }
+
+    /**
+     * Halves the batch size when the round-trip time is well above the baseline, the lowest round-trip time of the
+     * recent window; grows it additively after full batches otherwise.
+     */
+    synchronized void adaptBatchSize(final long rttNanos, final int sentRecords, final int sentBatchSize) {
+        windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+        if (++windowSamples >= RTT_WINDOW_SIZE) {
+            baselineRttNanos = windowMinRttNanos;
+            windowMinRttNanos = Long.MAX_VALUE;
+            windowSamples = 0;
+        }
+        baselineRttNanos = Math.min(baselineRttNanos, rttNanos);
+
+        if (rttNanos > 2 * baselineRttNanos && rttNanos - baselineRttNanos > CONGESTION_SLACK_NANOS) {
+            batchSize = Math.max(minBatchSize, sentBatchSize / 2);
+        } else if (sentRecords >= sentBatchSize) {
+            batchSize = Math.min(maxBatchSize, Math.max(batchSize, sentBatchSize + Math.max(1, maxBatchSize / 8)));
+        }
+    }
+
+    int getQueueDepth() {
+        return queue.size();
+    }
+
+    int getInFlightRequests() {
+        return maxInFlightRequests - inFlightPermits.availablePermits();
+    }
+
+    int getBatchSize() {
+        return batchSize;
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+/**
+ * How {@link HashRing} maps identification key hashes to peers.
+ *
+ * @since 2.15
+ */
+public enum PeerRoutingMode {
+    /**
+     * A consistent hash ring with virtual nodes. Adding or removing a peer only remaps the keys adjacent to
+     * its virtual nodes.
+     */
+    RING,
+    /**
+     * Jump consistent hashing over the sorted peer list. Lookups need no ring and keys spread evenly, but
+     * removing a peer other than the last in sort order remaps more keys than {@link #RING}.
+     */
+    JUMP
+}
@@ -26,19 +26,15 @@ import java.net.NetworkInterface;
 import java.net.SocketException;
 import java.net.UnknownHostException;
 import java.time.Duration;
-import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 class RemotePeerForwarder implements PeerForwarder {
     private static final Logger LOG = LoggerFactory.getLogger(RemotePeerForwarder.class);
@@ -51,6 +47,7 @@ class RemotePeerForwarder implements PeerForwarder {
     static final String RECORDS_MISSING_IDENTIFICATION_KEYS = "recordsMissingIdentificationKeys";
     static final String REQUESTS_FAILED = "requestsFailed";
     static final String REQUESTS_SUCCESSFUL = "requestsSuccessful";
+    static final long MIN_FLUSH_INTERVAL_MILLIS = 100;
 
     private final PeerForwarderClient peerForwarderClient;
     private final HashRing hashRing;
@@ -58,8 +55,8 @@ class RemotePeerForwarder implements PeerForwarder {
     private final String pipelineName;
     private final String pluginId;
     private final Set<String> identificationKeys;
-    final ConcurrentHashMap<String, LinkedBlockingQueue<Record<Event>>> peerBatchingQueueMap;
-    private final ConcurrentHashMap<String, Long> peerBatchingLastFlushTimeMap;
+    private final PluginMetrics pluginMetrics;
+    final ConcurrentHashMap<String, PeerForwardingSender> peerForwardingSenders;
 
     private final Counter recordsActuallyProcessedLocallyCounter;
     private final Counter recordsToBeProcessedLocallyCounter;
@@ -75,6 +72,8 @@ class RemotePeerForwarder implements PeerForwarder {
     private final Integer forwardingBatchQueueDepth;
     private final Duration forwardingBatchTimeout;
     private final Integer pipelineWorkerThreads;
+    private final Integer forwardingMaxInFlightRequests;
+    private final Duration forwardingBackPressureTimeout;
 
     RemotePeerForwarder(final PeerForwarderClient peerForwarderClient,
                         final HashRing hashRing,
@@ -88,7 +87,10 @@ class RemotePeerForwarder implements PeerForwarder {
                         final Integer forwardingBatchSize,
                         final Integer forwardingBatchQueueDepth,
                         final Duration forwardingBatchTimeout,
-                        final Integer pipelineWorkerThreads) {
+                        final Integer pipelineWorkerThreads,
+                        final Integer forwardingMaxInFlightRequests,
+                        final Duration forwardingBackPressureTimeout,
+                        final ScheduledExecutorService flushScheduler) {
         this.peerForwarderClient = peerForwarderClient;
         this.hashRing = hashRing;
         this.peerForwarderReceiveBuffer = peerForwarderReceiveBuffer;
@@ -101,9 +103,12 @@ class RemotePeerForwarder implements PeerForwarder {
         this.forwardingBatchQueueDepth = forwardingBatchQueueDepth;
         this.forwardingBatchTimeout = forwardingBatchTimeout;
         this.pipelineWorkerThreads = pipelineWorkerThreads;
-        peerBatchingQueueMap = new ConcurrentHashMap<>();
-        peerBatchingLastFlushTimeMap = new ConcurrentHashMap<>();
-        
+        this.forwardingMaxInFlightRequests = forwardingMaxInFlightRequests;
+        this.forwardingBackPressureTimeout = forwardingBackPressureTimeout;
+        this.pluginMetrics = pluginMetrics;
+        peerForwardingSenders = new ConcurrentHashMap<>();
+
+
         recordsActuallyProcessedLocallyCounter = pluginMetrics.counter(RECORDS_ACTUALLY_PROCESSED_LOCALLY);
         recordsToBeProcessedLocallyCounter = pluginMetrics.counter(RECORDS_TO_BE_PROCESSED_LOCALLY);
         recordsToBeForwardedCounter = pluginMetrics.counter(RECORDS_TO_BE_FORWARDED);
@@ -112,6 +117,10 @@ class RemotePeerForwarder implements PeerForwarder {
         recordsMissingIdentificationKeys = pluginMetrics.counter(RECORDS_MISSING_IDENTIFICATION_KEYS);
         requestsFailedCounter = pluginMetrics.counter(REQUESTS_FAILED);
         requestsSuccessfulCounter = pluginMetrics.counter(REQUESTS_SUCCESSFUL);
+
+        // Partial batches are otherwise only sent when process workers forward records, which they stop doing when idle
+        final long flushIntervalMillis = Math.max(MIN_FLUSH_INTERVAL_MILLIS, forwardingBatchTimeout.toMillis() / 2);
+        flushScheduler.scheduleWithFixedDelay(this::flushExpiredBatches, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
     }
 
     public Collection<Record<Event>> forwardRecords(final Collection<Record<Event>> records) {
@@ -156,26 +165,25 @@ class RemotePeerForwarder implements PeerForwarder {
         final Map<String, List<Record<Event>>> groupedRecords = new HashMap<>();
 
         // group records based on IP address calculated by HashRing
+        final RoutingKeyHasher routingKeyHasher = new RoutingKeyHasher();
         for (final Record<Event> record : records) {
             final Event event = record.getData();
 
-            final List<String> identificationKeyValues = new LinkedList<>();
+            routingKeyHasher.reset();
             int numMissingIdentificationKeys = 0;
             for (final String identificationKey : identificationKeys) {
                 final Object identificationKeyValue = event.get(identificationKey, Object.class);
                 if (identificationKeyValue == null) {
-                    identificationKeyValues.add(null);
                     numMissingIdentificationKeys++;
-                } else {
-                    identificationKeyValues.add(identificationKeyValue.toString());
                 }
+                routingKeyHasher.putValue(identificationKeyValue);
             }
             if (numMissingIdentificationKeys == identificationKeys.size()) {
                 recordsMissingIdentificationKeys.increment(1);
-                identificationKeyValues.clear();
+                routingKeyHasher.reset();
             }
 
-            final String dataPrepperIp = hashRing.getServerIp(identificationKeyValues).orElse(StaticPeerListProvider.LOCAL_ENDPOINT);
+            final String dataPrepperIp = hashRing.getServerIp(routingKeyHasher.hash()).orElse(StaticPeerListProvider.LOCAL_ENDPOINT);
             groupedRecords.computeIfAbsent(dataPrepperIp, x -> new ArrayList<>()).add(record);
         }
         return groupedRecords;
@@ -201,8 +209,9 @@ class RemotePeerForwarder implements PeerForwarder {
 
     private List<Record<Event>> batchRecordsForForwarding(final String destinationIp, final List<Record<Event>> records) {
         try {
-            final List<Record<Event>> recordsFailedToBatch = populateBatchingQueue(destinationIp, records);
+            final List<Record<Event>> recordsFailedToBatch = getPeerForwardingSender(destinationIp).enqueue(records, forwardingBackPressureTimeout);
             if (!recordsFailedToBatch.isEmpty()) {
+                LOG.warn("Failed to add {} records to the batching queue, processing locally.", recordsFailedToBatch.size());
                 recordsFailedForwardingCounter.increment(recordsFailedToBatch.size());
             }
 
@@ -214,96 +223,23 @@ class RemotePeerForwarder implements PeerForwarder {
         }
     }
 
-    private List<Record<Event>> populateBatchingQueue(final String destinationIp, final List<Record<Event>> records) {
-        peerBatchingQueueMap.putIfAbsent(destinationIp, new LinkedBlockingQueue<>(forwardingBatchSize * pipelineWorkerThreads * forwardingBatchQueueDepth));
-        peerBatchingLastFlushTimeMap.putIfAbsent(destinationIp, System.currentTimeMillis());
-
-        final List<Record<Event>> recordsFailedToBatch = new ArrayList<>();
-        final LinkedBlockingQueue<Record<Event>> peerBatchingQueue = peerBatchingQueueMap.get(destinationIp);
-        for (final Record<Event> record: records) {
-            try {
-                peerBatchingQueue.add(record);
-            } catch (final IllegalStateException e) {
-                recordsFailedToBatch.add(record);
-            }
-        }
-
-        final int numberOfRecordsFailedToBatch = recordsFailedToBatch.size();
-        if (numberOfRecordsFailedToBatch > 0) {
-            LOG.warn("Failed to add {} records to the batching queue, processing locally.", numberOfRecordsFailedToBatch);
-        }
-        return recordsFailedToBatch;
+    private PeerForwardingSender getPeerForwardingSender(final String destinationIp) {
+        return peerForwardingSenders.computeIfAbsent(destinationIp, ip -> new PeerForwardingSender(
+                peerForwarderClient, ip, pluginId, pipelineName, this::processFailedRequestsLocally, pluginMetrics,
+                forwardingBatchSize, forwardingBatchSize * pipelineWorkerThreads * forwardingBatchQueueDepth,
+                forwardingMaxInFlightRequests, forwardingBatchTimeout));
     }
 
     private void forwardBatchedRecords() {
-        final Map<CompletableFuture<AggregatedHttpResponse>, List<Record<Event>>> futuresMap = new HashMap<>();
-        peerBatchingQueueMap.forEach((ipAddress, records) -> {
-            futuresMap.putAll(forwardRecordsForIp(ipAddress));
-        });
-
-        final CompletableFuture<Void> compositeFuture = CompletableFuture.allOf(futuresMap.keySet().toArray(CompletableFuture[]::new));
-        try {
-            compositeFuture.get();
-        } catch (final ExecutionException | InterruptedException e) {
-            LOG.debug("Caught exception getting results of composite forwarding future.", e);
-        }
-
-        futuresMap.forEach((key, value) -> {
-            AggregatedHttpResponse httpResponse;
-            try {
-                httpResponse = key.get();
-            } catch (final ExecutionException | InterruptedException e) {
-                LOG.warn("Unable to send request to peer, processing locally.", e);
-                httpResponse = null;
-            }
-
-            processFailedRequestsLocally(httpResponse, value);
-        });
+        peerForwardingSenders.values().forEach(PeerForwardingSender::sendReadyBatches);
     }
 
-    private Map<CompletableFuture<AggregatedHttpResponse>, List<Record<Event>>> forwardRecordsForIp(final String destinationIp) {
-        final Map<CompletableFuture<AggregatedHttpResponse>, List<Record<Event>>> forwardingRequestsMap = new HashMap<>();
-
-        List<Record<Event>> recordsToForward = getRecordsToForward(destinationIp);
-        while (!recordsToForward.isEmpty()) {
-            try {
-                final CompletableFuture<AggregatedHttpResponse> responseFuture =
-                        peerForwarderClient.serializeRecordsAndSendHttpRequest(recordsToForward, destinationIp, pluginId, pipelineName);
-                forwardingRequestsMap.put(responseFuture, recordsToForward);
-                for (Record<Event> record: recordsToForward) {
-                    Event event = record.getData();
-                    event.getEventHandle().release(true);
-                }
-            } catch (final Exception e) {
-                LOG.warn("Unable to submit request for forwarding, processing locally.", e);
-                processFailedRequestsLocally(null, recordsToForward);
-            }
-            recordsToForward = getRecordsToForward(destinationIp);
-        }
-
-        return forwardingRequestsMap;
-    }
-
-    private List<Record<Event>> getRecordsToForward(final String destinationIp) {
-        if (shouldFlushBatch(destinationIp)) {
-            peerBatchingLastFlushTimeMap.put(destinationIp, System.currentTimeMillis());
-
-            final List<Record<Event>> recordsToForward = new ArrayList<>();
-            peerBatchingQueueMap.get(destinationIp).drainTo(recordsToForward, forwardingBatchSize);
-
-            return recordsToForward;
+    void flushExpiredBatches() {
+        try {
+            forwardBatchedRecords();
+        } catch (final Exception e) {
+            LOG.warn("Unable to flush batched records for forwarding.", e);
         }
-
-        return Collections.emptyList();
-    }
-
-    private boolean shouldFlushBatch(final String destinationIp) {
-        final long currentTime = System.currentTimeMillis();
-        final long millisSinceLastFlush = currentTime - peerBatchingLastFlushTimeMap.getOrDefault(destinationIp, System.currentTimeMillis());
-        final Duration durationSinceLastFlush = Duration.of(millisSinceLastFlush, ChronoUnit.MILLIS);
-
-        final boolean shouldFlushDueToTimeout = durationSinceLastFlush.compareTo(forwardingBatchTimeout) >= 0;
-        return shouldFlushDueToTimeout || peerBatchingQueueMap.get(destinationIp).size() >= forwardingBatchSize;
     }
 
     void processFailedRequestsLocally(final AggregatedHttpResponse httpResponse, final Collection<Record<Event>> records) {
@@ -0,0 +1,102 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+/**
+ * Incrementally computes the 64-bit routing hash of a sequence of identification key values without building
+ * intermediate strings. Characters are folded in with FNV-1a and the result is avalanched with the Murmur3
+ * finalizer, so close inputs spread over the whole hash space. Instances are not thread-safe but may be reused
+ * through {@link #reset()}.
+ *
+ * @since 2.15
+ */
+class RoutingKeyHasher {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final char VALUE_SEPARATOR = '\u001f';
+    private static final char NULL_MARKER = '\u0000';
+
+    private long state;
+    private boolean empty;
+
+    RoutingKeyHasher() {
+        reset();
+    }
+
+    /**
+     * Clears the values which were added.
+     *
+     * @return this hasher
+     */
+    RoutingKeyHasher reset() {
+        state = FNV_OFFSET_BASIS;
+        empty = true;
+        return this;
+    }
+
+    /**
+     * Adds the next value. Values are hashed by their string form; null is distinct from every string.
+     *
+     * @param value the value, may be null
+     * @return this hasher
+     */
+    RoutingKeyHasher putValue(final Object value) {
+        if (!empty) {
+            mix(VALUE_SEPARATOR);
+        }
+        empty = false;
+        if (value == null) {
+            mix(NULL_MARKER);
+        } else {
+            final CharSequence chars = value instanceof CharSequence ? (CharSequence) value : value.toString();
+            final int length = chars.length();
+            for (int i = 0; i < length; i++) {
+                mix(chars.charAt(i));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Adds an int, such as the index of a virtual node.
+     *
+     * @param value the value
+     * @return this hasher
+     */
+    RoutingKeyHasher putInt(final int value) {
+        mix(VALUE_SEPARATOR);
+        mix((char) (value >>> 16));
+        mix((char) value);
+        return this;
+    }
+
+    /**
+     * @return the hash of the values added since the last reset
+     */
+    long hash() {
+        return finalizeHash(state);
+    }
+
+    private void mix(final char c) {
+        state = (state ^ c) * FNV_PRIME;
+    }
+
+    /**
+     * The 64-bit finalizer of Murmur3.
+     */
+    private static long finalizeHash(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb93fe1a85ec3L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -29,6 +29,8 @@ import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class PeerForwarderClient {
@@ -72,9 +74,7 @@ public class PeerForwarderClient {
 
         final byte[] serializedJsonBytes = getSerializedJsonBytes(records, pluginId, pipelineName);
 
-        final CompletableFuture<AggregatedHttpResponse> aggregatedHttpResponse = clientRequestForwardingLatencyTimer.record(() ->
-            processHttpRequest(client, serializedJsonBytes)
-        );
+        final CompletableFuture<AggregatedHttpResponse> aggregatedHttpResponse = processHttpRequest(client, serializedJsonBytes);
         requestsCounter.increment();
 
         return aggregatedHttpResponse;
@@ -90,11 +90,17 @@ public class PeerForwarderClient {
         }
     }
 
+    /**
+     * Sends the request without blocking a thread for the response. Requests to a peer share its connections, which
+     * multiplex concurrent requests over HTTP/2. Completions run on the client executor, not the event loop, because
+     * they may write failed records to the local buffer.
+     */
     private CompletableFuture<AggregatedHttpResponse> processHttpRequest(final WebClient client, final byte[] content) {
-        return CompletableFuture.supplyAsync(() ->
-        {
-            final CompletableFuture<AggregatedHttpResponse> aggregate = client.post(PeerForwarderConfiguration.DEFAULT_PEER_FORWARDING_URI, content).aggregate();
-            return aggregate.join();
-        }, executorService);
+        final long startNanos = System.nanoTime();
+        return client.post(PeerForwarderConfiguration.DEFAULT_PEER_FORWARDING_URI, content)
+                .aggregate()
+                .whenComplete((response, throwable) ->
+                        clientRequestForwardingLatencyTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS))
+                .thenApplyAsync(Function.identity(), executorService);
     }
 }
\ No newline at end of file
@@ -27,8 +27,16 @@ public class PeerForwarderCodecAppConfig {
             final PeerForwarderConfiguration peerForwarderConfiguration,
             final ObjectInputFilter objectInputFilter,
             @Qualifier("peerForwarderObjectMapper") final ObjectMapper objectMapper) {
-        return peerForwarderConfiguration.getBinaryCodec() ?
-                new JavaPeerForwarderCodec(objectInputFilter) : new JacksonPeerForwarderCodec(objectMapper);
+        switch (peerForwarderConfiguration.getCodec()) {
+            case SMILE:
+                return new SmilePeerForwarderCodec(peerForwarderConfiguration.getCodecCompression(),
+                        peerForwarderConfiguration.getMaxRequestLength().getBytes());
+            case JSON:
+                return new JacksonPeerForwarderCodec(objectMapper);
+            case JAVA:
+            default:
+                return new JavaPeerForwarderCodec(objectInputFilter);
+        }
     }
 
     @Bean(name = "peerForwarderObjectMapper")
@@ -0,0 +1,20 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+/**
+ * The compression applied to the payloads of the {@link PeerForwarderCodecType#SMILE} codec.
+ *
+ * @since 2.15
+ */
+public enum PeerForwarderCodecCompression {
+    NONE,
+    ZSTD
+}
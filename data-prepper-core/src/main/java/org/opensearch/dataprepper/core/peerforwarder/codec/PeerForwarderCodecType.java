@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+/**
+ * The wire formats which the peer forwarder can use to exchange events between nodes.
+ * All nodes in a cluster must use the same codec.
+ *
+ * @since 2.15
+ */
+public enum PeerForwarderCodecType {
+    /**
+     * Java object serialization, see {@link JavaPeerForwarderCodec}.
+     */
+    JAVA,
+    /**
+     * JSON with each event encoded as an embedded JSON string, see {@link JacksonPeerForwarderCodec}.
+     */
+    JSON,
+    /**
+     * Binary Smile framing with the event data written as a tree, see {@link SmilePeerForwarderCodec}.
+     */
+    SMILE
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration;
+import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link PeerForwarderCodec} which writes batches in the binary Smile format. Unlike
+ * {@link JacksonPeerForwarderCodec}, the event data is written directly from the event's {@link JsonNode} instead of
+ * being embedded as a JSON string, and it is read back as a tree. Smile back-references repeated field names and
+ * short string values within a payload, so the keys shared by the events of a batch are only written once. Payloads
+ * may optionally be compressed with zstd; compressed payloads are detected when reading regardless of the configured
+ * compression, and are rejected when they decompress to more than the maximum payload length.
+ *
+ * @since 2.15
+ */
+public class SmilePeerForwarderCodec implements PeerForwarderCodec {
+    private static final String TRACE_EVENT_TYPE = "TRACE";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<>() {};
+    private static final byte[] ZSTD_MAGIC_NUMBER = {(byte) 0x28, (byte) 0xB5, (byte) 0x2F, (byte) 0xFD};
+
+    static final String PLUGIN_ID_FIELD = "plugin";
+    static final String PIPELINE_NAME_FIELD = "pipeline";
+    static final String EVENTS_FIELD = "events";
+    static final String EVENT_TYPE_FIELD = "type";
+    static final String TIME_RECEIVED_SECONDS_FIELD = "time_s";
+    static final String TIME_RECEIVED_NANOS_FIELD = "time_ns";
+    static final String ATTRIBUTES_FIELD = "attributes";
+    static final String DATA_FIELD = "data";
+
+    private final ObjectMapper objectMapper;
+    private final PeerForwarderCodecCompression compression;
+    private final long maxDecompressedBytes;
+
+    public SmilePeerForwarderCodec(final PeerForwarderCodecCompression compression) {
+        this(compression, PeerForwarderConfiguration.DEFAULT_MAX_REQUEST_LENGTH.getBytes());
+    }
+
+    public SmilePeerForwarderCodec(final PeerForwarderCodecCompression compression, final long maxDecompressedBytes) {
+        this.compression = Objects.requireNonNull(compression);
+        if (maxDecompressedBytes <= 0) {
+            throw new IllegalArgumentException("maxDecompressedBytes must be positive");
+        }
+        this.maxDecompressedBytes = maxDecompressedBytes;
+        final SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        this.objectMapper = new ObjectMapper(smileFactory);
+    }
+
+    @Override
+    public byte[] serialize(final PeerForwardingEvents peerForwardingEvents) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final OutputStream outputStream = compression == PeerForwarderCodecCompression.ZSTD ?
+                new ZstdOutputStream(byteArrayOutputStream) : byteArrayOutputStream;
+             final JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            writeEvents(generator, peerForwardingEvents);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    @Override
+    public PeerForwardingEvents deserialize(final byte[] bytes) throws IOException {
+        final InputStream byteArrayInputStream = new ByteArrayInputStream(bytes);
+        try (final InputStream inputStream = isZstdCompressed(bytes) ?
+                new DecompressedLengthLimitingInputStream(new ZstdInputStream(byteArrayInputStream), maxDecompressedBytes) :
+                byteArrayInputStream;
+             final JsonParser parser = objectMapper.createParser(inputStream)) {
+            return readEvents(parser);
+        }
+    }
+
+    private void writeEvents(final JsonGenerator generator, final PeerForwardingEvents peerForwardingEvents) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField(PLUGIN_ID_FIELD, peerForwardingEvents.getDestinationPluginId());
+        generator.writeStringField(PIPELINE_NAME_FIELD, peerForwardingEvents.getDestinationPipelineName());
+        final List<Event> events = peerForwardingEvents.getEvents();
+        if (events == null) {
+            generator.writeNullField(EVENTS_FIELD);
+        } else {
+            generator.writeArrayFieldStart(EVENTS_FIELD);
+            for (final Event event : events) {
+                writeEvent(generator, event);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeEvent(final JsonGenerator generator, final Event event) throws IOException {
+        final EventMetadata eventMetadata = event.getMetadata();
+        generator.writeStartObject();
+        generator.writeStringField(EVENT_TYPE_FIELD, eventMetadata.getEventType());
+        final Instant timeReceived = eventMetadata.getTimeReceived();
+        if (timeReceived != null) {
+            generator.writeNumberField(TIME_RECEIVED_SECONDS_FIELD, timeReceived.getEpochSecond());
+            generator.writeNumberField(TIME_RECEIVED_NANOS_FIELD, timeReceived.getNano());
+        }
+        final Map<String, Object> attributes = eventMetadata.getAttributes();
+        if (attributes != null && !attributes.isEmpty()) {
+            generator.writeFieldName(ATTRIBUTES_FIELD);
+            generator.writeObject(attributes);
+        }
+        generator.writeFieldName(DATA_FIELD);
+        generator.writeTree(event.getJsonNode());
+        generator.writeEndObject();
+    }
+
+    private PeerForwardingEvents readEvents(final JsonParser parser) throws IOException {
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        String pluginId = null;
+        String pipelineName = null;
+        List<Event> events = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            final JsonToken valueToken = parser.nextToken();
+            switch (fieldName) {
+                case PLUGIN_ID_FIELD:
+                    pluginId = parser.getValueAsString();
+                    break;
+                case PIPELINE_NAME_FIELD:
+                    pipelineName = parser.getValueAsString();
+                    break;
+                case EVENTS_FIELD:
+                    events = valueToken == JsonToken.VALUE_NULL ? null : readEventList(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        return new PeerForwardingEvents(events, pluginId, pipelineName);
+    }
+
+    private List<Event> readEventList(final JsonParser parser) throws IOException {
+        expectToken(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        final List<Event> events = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expectToken(parser, token, JsonToken.START_OBJECT);
+            events.add(readEvent(parser));
+        }
+        return events;
+    }
+
+    private Event readEvent(final JsonParser parser) throws IOException {
+        String eventType = null;
+        long timeReceivedSeconds = 0;
+        long timeReceivedNanos = 0;
+        boolean hasTimeReceived = false;
+        Map<String, Object> attributes = null;
+        JsonNode data = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case EVENT_TYPE_FIELD:
+                    eventType = parser.getValueAsString();
+                    break;
+                case TIME_RECEIVED_SECONDS_FIELD:
+                    timeReceivedSeconds = parser.getLongValue();
+                    hasTimeReceived = true;
+                    break;
+                case TIME_RECEIVED_NANOS_FIELD:
+                    timeReceivedNanos = parser.getLongValue();
+                    break;
+                case ATTRIBUTES_FIELD:
+                    attributes = parser.readValueAs(MAP_TYPE_REFERENCE);
+                    break;
+                case DATA_FIELD:
+                    data = parser.readValueAsTree();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+
+        final DefaultEventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(eventType)
+                .withTimeReceived(hasTimeReceived ? Instant.ofEpochSecond(timeReceivedSeconds, timeReceivedNanos) : null)
+                .withAttributes(attributes)
+                .build();
+
+        if (TRACE_EVENT_TYPE.equalsIgnoreCase(eventType)) {
+            return JacksonSpan.builder()
+                    .withData(data)
+                    .withEventMetadata(eventMetadata)
+                    .build();
+        }
+        return JacksonEvent.builder()
+                .withData(data)
+                .withEventMetadata(eventMetadata)
+                .build();
+    }
+
+    private static void expectToken(final JsonParser parser, final JsonToken actual, final JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    private static boolean isZstdCompressed(final byte[] bytes) {
+        if (bytes.length < ZSTD_MAGIC_NUMBER.length) {
+            return false;
+        }
+        for (int i = 0; i < ZSTD_MAGIC_NUMBER.length; i++) {
+            if (bytes[i] != ZSTD_MAGIC_NUMBER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Fails the read with an {@link IOException} once more than the maximum number of bytes were decompressed, so that
+     * a small compressed payload cannot expand without bound.
+     */
+    private static class DecompressedLengthLimitingInputStream extends FilterInputStream {
+        private final long maxBytes;
+        private long bytesRead;
+
+        private DecompressedLengthLimitingInputStream(final InputStream inputStream, final long maxBytes) {
+            super(inputStream);
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int value = super.read();
+            if (value >= 0) {
+                countBytes(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            final int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                countBytes(count);
+            }
+            return count;
+        }
+
+        @Override
+        public long skip(final long count) throws IOException {
+            final long skipped = super.skip(count);
+            countBytes(skipped);
+            return skipped;
+        }
+
+        private void countBytes(final long count) throws IOException {
+            bytesRead += count;
+            if (bytesRead > maxBytes) {
+                throw new IOException("Decompressed payload exceeds the maximum length of " + maxBytes + " bytes");
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Finds the events which a processor dropped by comparing its input and output by identity. The storage is
+ * reused from one batch to the next, so steady-state tracking does not allocate. Instances are not thread-safe.
+ */
+class DroppedEventTracker {
+    static final int MINIMUM_TABLE_SIZE = 16;
+
+    private final List<Event> inputEvents = new ArrayList<>();
+    private Object[] outputEvents = new Object[MINIMUM_TABLE_SIZE];
+    private int outputEventCount = 0;
+
+    /**
+     * Copies the events of the given records into a list which is reused by later calls.
+     *
+     * @param records the records passed to a processor
+     * @return the events of the records, in order
+     */
+    List<Event> captureInputEvents(final Collection<Record<Event>> records) {
+        inputEvents.clear();
+        for (final Record<Event> record : records) {
+            inputEvents.add(record.getData());
+        }
+        return inputEvents;
+    }
+
+    /**
+     * Replaces the tracked output events with the events of the given records.
+     *
+     * @param records the records returned by a processor
+     */
+    void captureOutputEvents(final Collection<? extends Record<?>> records) {
+        clearOutputEvents();
+        ensureCapacity(records.size());
+        for (final Record<?> record : records) {
+            final Object event = record.getData();
+            if (event != null && !isOutputEvent(event)) {
+                outputEvents[slotFor(event)] = event;
+                outputEventCount++;
+            }
+        }
+    }
+
+    /**
+     * @param event the event to look for
+     * @return true if this exact event instance was among the last captured output events
+     */
+    boolean isOutputEvent(final Object event) {
+        return outputEvents[slotFor(event)] != null;
+    }
+
+    /**
+     * Releases the references held to events from the last batch.
+     */
+    void clear() {
+        inputEvents.clear();
+        clearOutputEvents();
+    }
+
+    int getTableSize() {
+        return outputEvents.length;
+    }
+
+    private void clearOutputEvents() {
+        if (outputEventCount > 0) {
+            Arrays.fill(outputEvents, null);
+            outputEventCount = 0;
+        }
+    }
+
+    private void ensureCapacity(final int eventCount) {
+        int tableSize = outputEvents.length;
+        while (tableSize < eventCount * 2) {
+            tableSize <<= 1;
+        }
+        if (tableSize != outputEvents.length) {
+            outputEvents = new Object[tableSize];
+        }
+    }
+
+    /**
+     * Linear probing on the identity hash code. Returns the slot which holds the event, or the empty slot where it
+     * would be placed.
+     */
+    private int slotFor(final Object event) {
+        final int mask = outputEvents.length - 1;
+        final int hash = System.identityHashCode(event);
+        int index = (hash ^ (hash >>> 16)) & mask;
+        Object candidate;
+        while ((candidate = outputEvents[index]) != null && candidate != event) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+}
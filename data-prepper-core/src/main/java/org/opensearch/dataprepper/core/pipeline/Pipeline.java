@@ -76,6 +76,7 @@ public class Pipeline implements HeadlessPipeline {
     private final Duration processorShutdownTimeout;
     private final Duration sinkShutdownTimeout;
     private final Duration peerForwarderDrainTimeout;
+    private final int maxInFlightSinkBatches;
     private final ExecutorService processorExecutorService;
     private final ExecutorService sinkExecutorService;
     private final EventFactory eventFactory;
@@ -120,6 +121,48 @@ public class Pipeline implements HeadlessPipeline {
             final Duration processorShutdownTimeout,
             final Duration sinkShutdownTimeout,
             final Duration peerForwarderDrainTimeout) {
+        this(name, source, buffer, processorSets, sinks, router, eventFactory, acknowledgementSetManager,
+                sourceCoordinatorFactory, processorThreads, readBatchTimeoutInMillis, processorShutdownTimeout,
+                sinkShutdownTimeout, peerForwarderDrainTimeout, 1);
+    }
+
+    /**
+     * Constructs a {@link Pipeline} object which allows each {@link ProcessWorker} to have multiple batches
+     * outstanding in the sinks at once.
+     *
+     * @param name                      name of the pipeline
+     * @param source                    source from where the pipeline reads the records
+     * @param buffer                    buffer for the source to queue records
+     * @param processorSets             processor sets that will be applied to records
+     * @param sinks                     sink to which the transformed records are posted
+     * @param router                    router object for routing in the pipeline
+     * @param eventFactory              event factory to create events
+     * @param acknowledgementSetManager acknowledgement set manager
+     * @param sourceCoordinatorFactory  source coordinator factory that enables coordination between different instances/threads of sources
+     * @param processorThreads          configured or default threads to parallelize processor work
+     * @param readBatchTimeoutInMillis  configured or default timeout for reading batch of records from buffer
+     * @param processorShutdownTimeout  configured or default timeout before forcefully terminating the processor workers
+     * @param sinkShutdownTimeout       configured or default timeout before forcefully terminating the sink workers
+     * @param peerForwarderDrainTimeout configured or default timeout before considering the peer forwarder drained and ready for termination
+     * @param maxInFlightSinkBatches    maximum number of batches each worker may have outstanding in the sinks; values below 2 publish synchronously
+     * @since 2.15
+     */
+    public Pipeline(
+            @Nonnull final String name,
+            @Nonnull final Source source,
+            @Nonnull final Buffer buffer,
+            @Nonnull final List<List<Processor>> processorSets,
+            @Nonnull final List<DataFlowComponent<Sink>> sinks,
+            @Nonnull final Router router,
+            @Nonnull final EventFactory eventFactory,
+            @Nonnull final AcknowledgementSetManager acknowledgementSetManager,
+            final SourceCoordinatorFactory sourceCoordinatorFactory,
+            final int processorThreads,
+            final int readBatchTimeoutInMillis,
+            final Duration processorShutdownTimeout,
+            final Duration sinkShutdownTimeout,
+            final Duration peerForwarderDrainTimeout,
+            final int maxInFlightSinkBatches) {
         Preconditions.checkArgument(processorSets.stream().allMatch(
                 processorSet -> Objects.nonNull(processorSet) && (processorSet.size() == 1 || processorSet.size() == processorThreads)));
         this.name = name;
@@ -137,11 +180,12 @@ public class Pipeline implements HeadlessPipeline {
         this.processorShutdownTimeout = processorShutdownTimeout;
         this.sinkShutdownTimeout = sinkShutdownTimeout;
         this.peerForwarderDrainTimeout = peerForwarderDrainTimeout;
+        this.maxInFlightSinkBatches = Math.max(1, maxInFlightSinkBatches);
         this.processorExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
                 new PipelineThreadFactory(format("%s-processor-worker", name)), this);
 
         // TODO: allow this to be configurable as well?
-        this.sinkExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
+        this.sinkExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads * this.maxInFlightSinkBatches,
                 new PipelineThreadFactory(format("%s-sink-worker", name)), this);
 
         this.pipelineShutdown = new PipelineShutdown(name, buffer);
@@ -229,6 +273,14 @@ public class Pipeline implements HeadlessPipeline {
         return readBatchTimeoutInMillis;
     }
 
+    /**
+     * @return The maximum number of batches each {@link ProcessWorker} may have outstanding in the sinks.
+     * @since 2.15
+     */
+    public int getMaxInFlightSinkBatches() {
+        return maxInFlightSinkBatches;
+    }
+
     public boolean isReady() {
         for (final Sink sink : getSinks()) {
             if (!sink.isReady()) {
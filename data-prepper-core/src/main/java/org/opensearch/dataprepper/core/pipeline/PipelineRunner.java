@@ -18,4 +18,12 @@ public interface PipelineRunner {
     void runAllProcessorsAndPublishToSinks();
 
     Pipeline getPipeline();
+
+    /**
+     * Waits for every batch that has been published to the sinks but not yet completed, and checkpoints each
+     * of them in the order they were read from the buffer.
+     *
+     * @since 2.15
+     */
+    void completeInFlightBatches();
 }
@@ -24,13 +24,13 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.Future;
-import java.util.stream.Collectors;
 
 public class PipelineRunnerImpl implements PipelineRunner {
     private static final Logger LOG = LoggerFactory.getLogger(PipelineRunnerImpl.class);
@@ -40,11 +40,26 @@ public class PipelineRunnerImpl implements PipelineRunner {
     private final Pipeline pipeline;
     private final PluginMetrics pluginMetrics;
     private final ProcessorProvider processorProvider;
+    private final int maxInFlightSinkBatches;
+    private final Deque<InFlightSinkBatch> inFlightSinkBatches = new ArrayDeque<>();
+    private final ThreadLocal<DroppedEventTracker> droppedEventTrackers = ThreadLocal.withInitial(DroppedEventTracker::new);
 
     public PipelineRunnerImpl(final Pipeline pipeline, final ProcessorProvider processorProvider) {
+        this(pipeline, processorProvider, 1);
+    }
+
+    /**
+     * @param pipeline the pipeline to run
+     * @param processorProvider provides the processors to run on each batch
+     * @param maxInFlightSinkBatches the maximum number of batches which may be outstanding in the sinks before
+     *                               this runner waits for the oldest one. Values below 2 publish synchronously.
+     * @since 2.15
+     */
+    public PipelineRunnerImpl(final Pipeline pipeline, final ProcessorProvider processorProvider, final int maxInFlightSinkBatches) {
         this.pipeline = pipeline;
         this.pluginMetrics = PluginMetrics.fromNames("PipelineRunner", pipeline.getName());
         this.processorProvider = processorProvider;
+        this.maxInFlightSinkBatches = Math.max(1, maxInFlightSinkBatches);
         this.invalidEventHandlesCounter = pluginMetrics.counter(INVALID_EVENT_HANDLES);
     }
 
@@ -52,12 +67,48 @@ public class PipelineRunnerImpl implements PipelineRunner {
     public void runAllProcessorsAndPublishToSinks() {
         final Map.Entry<Collection, CheckpointState> recordsReadFromBuffer = readFromBuffer(getBuffer(), getPipeline());
         Collection records = recordsReadFromBuffer.getKey();
+        final boolean bufferReadEmpty = records.isEmpty();
         final CheckpointState checkpointState = recordsReadFromBuffer.getValue();
         List<Processor> currentProcessors = processorProvider.getProcessors();
         records = runProcessorsAndProcessAcknowledgements(currentProcessors, records);
-        postToSink(getPipeline(), records);
-        // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
-        getBuffer().checkpoint(checkpointState);
+        if (maxInFlightSinkBatches == 1) {
+            postToSink(getPipeline(), records);
+            // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
+            getBuffer().checkpoint(checkpointState);
+            return;
+        }
+
+        LOG.debug("Pipeline Worker: Submitting {} processed records to sinks", records.size());
+        inFlightSinkBatches.addLast(new InFlightSinkBatch(getPipeline().publishToSinks(records), checkpointState));
+        // When the buffer has run dry there is nothing to overlap with, so complete everything outstanding.
+        checkpointCompletedBatches(bufferReadEmpty ? 0 : maxInFlightSinkBatches - 1);
+    }
+
+    @Override
+    public void completeInFlightBatches() {
+        checkpointCompletedBatches(0);
+    }
+
+    /**
+     * Checkpoints in-flight batches in the order they were read from the buffer. Batches at the head of the
+     * queue which have completed are always checkpointed. Beyond that, this waits on the oldest batches until no
+     * more than the given number remain in flight.
+     */
+    private void checkpointCompletedBatches(final int maxRemainingBatches) {
+        while (!inFlightSinkBatches.isEmpty()) {
+            final InFlightSinkBatch oldestBatch = inFlightSinkBatches.peekFirst();
+            if (inFlightSinkBatches.size() <= maxRemainingBatches && !oldestBatch.isDone()) {
+                return;
+            }
+            inFlightSinkBatches.removeFirst();
+            FutureHelper.awaitFuturesIndefinitely(oldestBatch.sinkFutures);
+            getBuffer().checkpoint(oldestBatch.checkpointState);
+        }
+    }
+
+    @VisibleForTesting
+    int getInFlightBatchCount() {
+        return inFlightSinkBatches.size();
     }
 
     @VisibleForTesting
@@ -78,12 +129,13 @@ public class PipelineRunnerImpl implements PipelineRunner {
 
     @VisibleForTesting
     void processAcknowledgements(final List<Event> inputEvents, final Collection<Record<Event>> outputRecords) {
-        final Set<Event> outputEventsSet = outputRecords.stream().map(Record::getData).collect(Collectors.toSet());
+        final DroppedEventTracker droppedEventTracker = droppedEventTrackers.get();
+        droppedEventTracker.captureOutputEvents(outputRecords);
         // For each event in the input events list that is not present in the output events, send positive acknowledgement, if acknowledgements are enabled for it
-        inputEvents.forEach(event -> {
+        for (final Event event : inputEvents) {
             final EventHandle eventHandle = event.getEventHandle();
             if (eventHandle != null) {
-                if (!outputEventsSet.contains(event)) {
+                if (!droppedEventTracker.isOutputEvent(event)) {
                     if (eventHandle instanceof DefaultEventHandle) {
                         eventHandle.release(true);
                     } else {
@@ -91,17 +143,18 @@ public class PipelineRunnerImpl implements PipelineRunner {
                     }
                 }
             }
-        });
+        }
     }
 
     @VisibleForTesting
     Collection runProcessorsAndProcessAcknowledgements(List<Processor> processors, Collection records) {
         //Should Empty list from buffer should be sent to the processors? For now sending as the Stateful processors expects it.
+        final DroppedEventTracker droppedEventTracker = droppedEventTrackers.get();
         for (final Processor processor : processors) {
 
             List<Event> inputEvents = null;
             if (getPipeline().areAcknowledgementsEnabled()) {
-                inputEvents = ((List<Record<Event>>) records).stream().map(Record::getData).collect(Collectors.toList());
+                inputEvents = droppedEventTracker.captureInputEvents(records);
             }
 
             try {
@@ -123,6 +176,7 @@ public class PipelineRunnerImpl implements PipelineRunner {
                 break;
             }
         }
+        droppedEventTracker.clear();
         return records;
     }
 
@@ -149,4 +203,18 @@ public class PipelineRunnerImpl implements PipelineRunner {
     Buffer getBuffer() {
         return getPipeline().getBuffer();
     }
+
+    private static class InFlightSinkBatch {
+        private final List<Future<Void>> sinkFutures;
+        private final CheckpointState checkpointState;
+
+        private InFlightSinkBatch(final List<Future<Void>> sinkFutures, final CheckpointState checkpointState) {
+            this.sinkFutures = sinkFutures;
+            this.checkpointState = checkpointState;
+        }
+
+        private boolean isDone() {
+            return sinkFutures.stream().allMatch(Future::isDone);
+        }
+    }
 }
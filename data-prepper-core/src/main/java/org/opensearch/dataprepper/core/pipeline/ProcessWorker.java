@@ -33,7 +33,7 @@ public class ProcessWorker implements Runnable {
         this.readBuffer = readBuffer;
         this.processors = processorProvider.getProcessors();
         this.pipeline = pipeline;
-        this.pipelineRunner = new PipelineRunnerImpl(pipeline, processorProvider);
+        this.pipelineRunner = new PipelineRunnerImpl(pipeline, processorProvider, pipeline.getMaxInFlightSinkBatches());
     }
 
     @Override
@@ -78,6 +78,9 @@ public class ProcessWorker implements Runnable {
             doRun();
         }
         LOG.info("Processor shutdown phase 5 complete.");
+
+        // Batches still in the sinks hold checkpoints which must be committed before the worker exits.
+        pipelineRunner.completeInFlightBatches();
     }
 
     private void doRun() {
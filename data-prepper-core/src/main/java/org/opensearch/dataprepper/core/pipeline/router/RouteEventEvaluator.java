@@ -16,12 +16,15 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.IntPredicate;
 
 class RouteEventEvaluator {
 
@@ -37,6 +40,8 @@ class RouteEventEvaluator {
 
     Map<Record, Set<String>> evaluateEventRoutes(final Collection<Record> records) {
         final Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
+        final List<Record> eventRecords = new ArrayList<>(records.size());
+        final List<Event> events = new ArrayList<>(records.size());
 
         int nonEventRecords = 0;
 
@@ -45,15 +50,25 @@ class RouteEventEvaluator {
             final Object data = record.getData();
 
             if (data instanceof Event) {
-                final Event event = (Event) data;
-                final Set<String> matchedRoutes = findMatchedRoutes(event);
-                recordsToRoutes.put(record, matchedRoutes);
+                eventRecords.add(record);
+                events.add((Event) data);
             } else {
                 nonEventRecords++;
                 recordsToRoutes.put(record, Collections.emptySet());
             }
         }
 
+        if (routes.isEmpty()) {
+            for (Record record : eventRecords) {
+                recordsToRoutes.put(record, Collections.emptySet());
+            }
+        } else if (!events.isEmpty()) {
+            final List<Set<String>> matchedRoutes = findMatchedRoutes(events);
+            for (int i = 0; i < eventRecords.size(); i++) {
+                recordsToRoutes.put(eventRecords.get(i), matchedRoutes.get(i));
+            }
+        }
+
         if (nonEventRecords > 0) {
             LOG.warn("Received {} records which are not events. These will have no routes applied.", nonEventRecords);
         }
@@ -61,17 +76,33 @@ class RouteEventEvaluator {
         return recordsToRoutes;
     }
 
-    private Set<String> findMatchedRoutes(final Event event) {
-        final Set<String> matchRoutes = new HashSet<>();
-        for (ConditionalRoute route : routes) {
-            try {
-                if (evaluator.evaluateConditional(route.getCondition(), event)) {
-                    matchRoutes.add(route.getName());
+    /**
+     * Evaluates every route condition over all events in a single batch, so that each condition is parsed once and
+     * sub-expressions shared between conditions are resolved once per event. If the batch cannot be evaluated, the
+     * routes are evaluated per event so that a single failing route does not prevent the others from applying.
+     */
+    private List<Set<String>> findMatchedRoutes(final List<Event> events) {
+        final List<ConditionalRoute> routeList = new ArrayList<>(routes);
+        final List<String> conditions = new ArrayList<>(routeList.size());
+        for (ConditionalRoute route : routeList) {
+            conditions.add(route.getCondition());
+        }
+
+        final List<IntPredicate> matches = evaluator.evaluateConditionalsBatchWithFallback(conditions, events);
+        final List<Set<String>> matchedRoutes = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            final Set<String> matchRoutes = new HashSet<>();
+            for (int r = 0; r < routeList.size(); r++) {
+                try {
+                    if (matches.get(r).test(i)) {
+                        matchRoutes.add(routeList.get(r).getName());
+                    }
+                } catch (final Exception ex) {
+                    LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
                 }
-            } catch (final Exception ex) {
-                LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
             }
+            matchedRoutes.add(matchRoutes);
         }
-        return matchRoutes;
+        return matchedRoutes;
     }
 }
@@ -100,9 +100,14 @@ public class RouterCopyRecordStrategy implements RouterGetRecordStrategy {
                 Record newRecord;
                 InternalEventHandle internalHandle = (InternalEventHandle)recordEvent.getEventHandle();
                 if (internalHandle != null && internalHandle.hasAcknowledgementSet()) {
-                    final EventMetadata eventMetadata = recordEvent.getMetadata();
-                    final EventBuilder eventBuilder = (EventBuilder) eventFactory.eventBuilder(EventBuilder.class).withEventMetadata(eventMetadata).withData(recordEvent.toMap());
-                    newRecordEvent = (JacksonEvent) eventBuilder.build();
+                    if (recordEvent instanceof JacksonEvent) {
+                        // Copy-on-write copy which shares the event data until either event is changed
+                        newRecordEvent = JacksonEvent.fromEvent(recordEvent);
+                    } else {
+                        final EventMetadata eventMetadata = recordEvent.getMetadata();
+                        final EventBuilder eventBuilder = (EventBuilder) eventFactory.eventBuilder(EventBuilder.class).withEventMetadata(eventMetadata).withData(recordEvent.toMap());
+                        newRecordEvent = (JacksonEvent) eventBuilder.build();
+                    }
 
                     internalHandle.addEventHandle(newRecordEvent.getEventHandle());
                     newRecord = new Record<>(newRecordEvent);
@@ -43,6 +43,7 @@ public class TestDataProvider {
     public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_TAGS = "src/test/resources/valid_data_prepper_config_with_tags.yml";
     public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_PROCESSOR_SHUTDOWN_TIMEOUT = "src/test/resources/valid_data_prepper_config_with_processor_shutdown_timeout.yml";
     public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_SINK_SHUTDOWN_TIMEOUT = "src/test/resources/valid_data_prepper_config_with_sink_shutdown_timeout.yml";
+    public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_MAX_IN_FLIGHT_SINK_BATCHES = "src/test/resources/valid_data_prepper_config_with_max_in_flight_sink_batches.yml";
     public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_ISO8601_SHUTDOWN_TIMEOUTS = "src/test/resources/valid_data_prepper_config_with_iso8601_shutdown_timeouts.yml";
     public static final String VALID_DATA_PREPPER_CONFIG_FILE_WITH_SOURCE_COORDINATION = "src/test/resources/valid_data_prepper_source_coordination_config.yml";
     public static final String INVALID_DATA_PREPPER_CONFIG_FILE = "src/test/resources/invalid_data_prepper_config.yml";
@@ -51,6 +52,7 @@ public class TestDataProvider {
     public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_BAD_SINK_SHUTDOWN_TIMEOUT = "src/test/resources/invalid_data_prepper_config_with_bad_sink_shutdown_timeout.yml";
     public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_NEGATIVE_PROCESSOR_SHUTDOWN_TIMEOUT = "src/test/resources/invalid_data_prepper_config_with_negative_processor_shutdown_timeout.yml";
     public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_NEGATIVE_SINK_SHUTDOWN_TIMEOUT = "src/test/resources/invalid_data_prepper_config_with_negative_sink_shutdown_timeout.yml";
+    public static final String INVALID_DATA_PREPPER_CONFIG_FILE_WITH_ZERO_MAX_IN_FLIGHT_SINK_BATCHES = "src/test/resources/invalid_data_prepper_config_with_zero_max_in_flight_sink_batches.yml";
     public static final String INVALID_PORT_DATA_PREPPER_CONFIG_FILE = "src/test/resources/invalid_port_data_prepper_config.yml";
     public static final String VALID_PEER_FORWARDER_DATA_PREPPER_CONFIG_FILE = "src/test/resources/valid_data_prepper_config_wth_peer_forwarder_config.yml";
     public static final String VALID_PEER_FORWARDER_CONFIG_WITHOUT_SSL_FILE = "src/test/resources/valid_peer_forwarder_without_ssl_config.yml";
@@ -16,9 +16,20 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.model.event.DefaultEventHandle;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,7 +52,7 @@ public class AcknowledgementSetMonitorTests {
     void setup() {
         acknowledgementSet1 = mock(DefaultAcknowledgementSet.class);
         eventHandle1 = mock(DefaultEventHandle.class);
-        when(acknowledgementSet1.isDone()).thenReturn(true);
+        lenient().when(acknowledgementSet1.isDone()).thenReturn(true);
         acknowledgementSetMonitor = createObjectUnderTest();
     }
 
@@ -74,4 +85,82 @@ public class AcknowledgementSetMonitorTests {
         acknowledgementSetMonitor.run();
         assertThat(acknowledgementSetMonitor.getSize(), equalTo(1));
     }
+
+    @Test
+    public void testRemoveStopsMonitoringAcknowledgementSet() {
+        acknowledgementSetMonitor.add(acknowledgementSet1);
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(1));
+
+        acknowledgementSetMonitor.remove(acknowledgementSet1);
+        acknowledgementSetMonitor.remove(acknowledgementSet1);
+        acknowledgementSetMonitor.run();
+
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
+        verify(acknowledgementSet1, never()).isDone();
+    }
+
+    @Test
+    public void testAcknowledgementSetIsNotCheckedBeforeItsExpiration() {
+        acknowledgementSet2 = mock(DefaultAcknowledgementSet.class);
+        when(acknowledgementSet2.getExpirationTime()).thenReturn(Instant.now().plus(Duration.ofSeconds(30)));
+
+        acknowledgementSetMonitor.add(acknowledgementSet2);
+        acknowledgementSetMonitor.run();
+
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(1));
+        verify(acknowledgementSet2, never()).isDone();
+    }
+
+    @Test
+    public void testAcknowledgementSetWithExtendedExpirationIsRescheduled() throws InterruptedException {
+        acknowledgementSet2 = mock(DefaultAcknowledgementSet.class);
+        when(acknowledgementSet2.getExpirationTime())
+                .thenReturn(Instant.now())
+                .thenReturn(Instant.now().plus(Duration.ofSeconds(30)));
+        when(acknowledgementSet2.isDone()).thenReturn(false);
+
+        acknowledgementSetMonitor.add(acknowledgementSet2);
+        Thread.sleep(AcknowledgementSetMonitor.TICK_MILLIS * 2);
+        acknowledgementSetMonitor.run();
+        Thread.sleep(AcknowledgementSetMonitor.TICK_MILLIS * 2);
+        acknowledgementSetMonitor.run();
+
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(1));
+        verify(acknowledgementSet2).isDone();
+    }
+
+    @Test
+    public void testAcknowledgementSetAddedDuringASweepIsCheckedOnTheNextRun() throws Exception {
+        final CountDownLatch addStarted = new CountDownLatch(1);
+        final CountDownLatch sweepFinished = new CountDownLatch(1);
+        acknowledgementSet2 = mock(DefaultAcknowledgementSet.class);
+        when(acknowledgementSet2.isDone()).thenReturn(true);
+        // stalls the add after it has started choosing a slot, until a sweep ran or the sweep waits for the add
+        when(acknowledgementSet2.getExpirationTime()).thenAnswer(invocation -> {
+            addStarted.countDown();
+            sweepFinished.await(AcknowledgementSetMonitor.TICK_MILLIS * 5, TimeUnit.MILLISECONDS);
+            return null;
+        });
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            final Future<?> adder = executorService.submit(() -> acknowledgementSetMonitor.add(acknowledgementSet2));
+            assertThat(addStarted.await(5, TimeUnit.SECONDS), equalTo(true));
+            Thread.sleep(AcknowledgementSetMonitor.TICK_MILLIS * 2);
+            final Future<?> sweeper = executorService.submit(() -> {
+                acknowledgementSetMonitor.run();
+                sweepFinished.countDown();
+            });
+            adder.get(5, TimeUnit.SECONDS);
+            sweeper.get(5, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Thread.sleep(AcknowledgementSetMonitor.TICK_MILLIS * 2);
+        acknowledgementSetMonitor.run();
+
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
+        verify(acknowledgementSet2).isDone();
+    }
 }
@@ -10,6 +10,7 @@
 package org.opensearch.dataprepper.core.acknowledgements;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +18,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 
+import java.time.Duration;
+
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -67,5 +70,16 @@ public class DefaultAcknowledgementSetMetricsTests {
         metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_RELEASES_METRIC_NAME);
         verify(invalidReleasesCounter, times(1)).increment();
     }
-}
 
+    @Test
+    public void testRecordCompletionLatency() {
+        final Timer completionLatencyTimer = mock(Timer.class);
+        when(pluginMetrics.timer(DefaultAcknowledgementSetMetrics.COMPLETION_LATENCY_METRIC_NAME)).thenReturn(completionLatencyTimer);
+        metrics = createObjectUnderTest();
+        final Duration latency = Duration.ofMillis(250);
+
+        metrics.recordCompletionLatency(latency);
+
+        verify(completionLatencyTimer).record(latency);
+    }
+}
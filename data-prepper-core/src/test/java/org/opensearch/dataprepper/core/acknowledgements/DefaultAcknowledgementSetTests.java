@@ -22,11 +22,17 @@ import org.opensearch.dataprepper.test.helper.ReflectivelySetField;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import static org.awaitility.Awaitility.await;
@@ -34,8 +40,10 @@ import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -313,4 +321,83 @@ class DefaultAcknowledgementSetTests {
         verify(callbackFuture).cancel(false);
         verify(progressCheck).cancel(true);
     }
+
+    @Test
+    void completed_acknowledgement_set_notifies_completion_listener_and_records_latency() {
+        final AtomicReference<DefaultAcknowledgementSet> completedSet = new AtomicReference<>();
+        setupMetrics();
+        defaultAcknowledgementSet = new DefaultAcknowledgementSet(executor, flag -> acknowledgementSetResult = flag,
+                TEST_TIMEOUT, metrics, completedSet::set);
+
+        defaultAcknowledgementSet.add(event);
+        defaultAcknowledgementSet.complete();
+        assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(true));
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> verify(metrics).recordCompletionLatency(any(Duration.class)));
+        assertThat(completedSet.get(), equalTo(defaultAcknowledgementSet));
+        assertThat(acknowledgementSetResult, equalTo(true));
+        verify(metrics).increment(DefaultAcknowledgementSetMetrics.COMPLETED_METRIC_NAME);
+        assertThat(defaultAcknowledgementSet.isDone(), equalTo(true));
+    }
+
+    @Test
+    void complete_after_all_releases_invokes_callback() {
+        final AtomicInteger callbackCount = new AtomicInteger(0);
+        defaultAcknowledgementSet = createObjectUnderTestWithCallback(flag -> callbackCount.incrementAndGet());
+
+        defaultAcknowledgementSet.add(event);
+        assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(false));
+        defaultAcknowledgementSet.complete();
+        defaultAcknowledgementSet.complete();
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(callbackCount.get(), equalTo(1)));
+    }
+
+    @Test
+    void concurrent_acquires_and_releases_invoke_callback_exactly_once() throws Exception {
+        final int numberOfHandles = 200;
+        final int numberOfThreads = 8;
+        final AtomicInteger callbackCount = new AtomicInteger(0);
+        defaultAcknowledgementSet = createObjectUnderTestWithCallback(flag -> callbackCount.incrementAndGet());
+        final List<DefaultEventHandle> handles = new ArrayList<>();
+        for (int i = 0; i < numberOfHandles; i++) {
+            final DefaultEventHandle eventHandle = mock(DefaultEventHandle.class);
+            handles.add(eventHandle);
+            defaultAcknowledgementSet.add(eventHandle);
+            defaultAcknowledgementSet.acquire(eventHandle);
+        }
+        defaultAcknowledgementSet.complete();
+
+        final ExecutorService releasingExecutor = Executors.newFixedThreadPool(numberOfThreads);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final AtomicInteger successfulReleases = new AtomicInteger(0);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < numberOfThreads; thread++) {
+                futures.add(releasingExecutor.submit(() -> {
+                    startLatch.await();
+                    for (final DefaultEventHandle eventHandle : handles) {
+                        if (defaultAcknowledgementSet.release(eventHandle, true)) {
+                            successfulReleases.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            startLatch.countDown();
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            releasingExecutor.shutdownNow();
+        }
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(callbackCount.get(), equalTo(1)));
+        assertThat(successfulReleases.get(), equalTo(1));
+        assertThat(defaultAcknowledgementSet.release(handles.get(0), true), equalTo(false));
+        verify(metrics, never()).increment(eq(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME));
+    }
 }
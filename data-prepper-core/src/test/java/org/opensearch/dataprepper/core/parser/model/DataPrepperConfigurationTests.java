@@ -187,6 +187,21 @@ public class DataPrepperConfigurationTests {
         assertThat(sinkShutdownTimeout, equalTo(Duration.ofSeconds(1)));
     }
 
+    @Test
+    void testConfigWithValidMaxInFlightSinkBatches() throws IOException {
+        final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
+                TestDataProvider.VALID_DATA_PREPPER_CONFIG_FILE_WITH_MAX_IN_FLIGHT_SINK_BATCHES);
+
+        assertThat(dataPrepperConfiguration, notNullValue());
+        assertThat(dataPrepperConfiguration.getMaxInFlightSinkBatches(), equalTo(4));
+    }
+
+    @Test
+    void testConfigWithZeroMaxInFlightSinkBatches() {
+        assertThrows(ValueInstantiationException.class, () ->
+                makeConfig(TestDataProvider.INVALID_DATA_PREPPER_CONFIG_FILE_WITH_ZERO_MAX_IN_FLIGHT_SINK_BATCHES));
+    }
+
     @Test
     void testConfigWithISO8601ShutdownTimeouts() throws IOException {
         final DataPrepperConfiguration dataPrepperConfiguration = makeConfig(
@@ -286,4 +301,10 @@ public class DataPrepperConfigurationTests {
         assertThat(dataPrepperConfiguration.getEmfAdditionalProperties(), notNullValue());
         assertThat(dataPrepperConfiguration.getEmfAdditionalProperties().isEmpty(), equalTo(true));
     }
+
+    @Test
+    void testMaxInFlightSinkBatchesDefaultsToOne() {
+        final DataPrepperConfiguration dataPrepperConfiguration = new DataPrepperConfiguration();
+        assertThat(dataPrepperConfiguration.getMaxInFlightSinkBatches(), equalTo(1));
+    }
 }
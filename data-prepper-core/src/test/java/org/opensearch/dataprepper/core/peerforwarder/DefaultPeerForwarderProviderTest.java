@@ -75,6 +75,7 @@ class DefaultPeerForwarderProviderTest {
         lenient().when(peerForwarderConfiguration.getBufferSize()).thenReturn(512);
         lenient().when(peerForwarderConfiguration.getBatchSize()).thenReturn(48);
         lenient().when(peerForwarderConfiguration.getFailedForwardingRequestLocalWriteTimeout()).thenReturn(500);
+        lenient().when(peerForwarderConfiguration.getForwardingBatchTimeout()).thenReturn(PeerForwarderConfiguration.DEFAULT_FORWARDING_BATCH_TIMEOUT);
         when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.LOCAL_NODE);
     }
 
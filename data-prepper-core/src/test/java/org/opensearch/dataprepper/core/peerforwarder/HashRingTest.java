@@ -9,18 +9,30 @@
 
 package org.opensearch.dataprepper.core.peerforwarder;
 
+import io.micrometer.core.instrument.DistributionSummary;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.PeerListProvider;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -34,24 +46,33 @@ class HashRingTest {
             "10.10.0.3");
 
     private static final List<String> IDENTIFICATION_KEY_LIST_1 = List.of("key1");
-    private static final List<String> IDENTIFICATION_KEY_LIST_2 = List.of("key_2");
+    private static final List<String> IDENTIFICATION_KEY_LIST_2 = List.of("key2");
 
     private static final int SINGLE_VIRTUAL_NODE_COUNT = 1;
     private static final int MULTIPLE_VIRTUAL_NODE_COUNT = 100;
 
     private final PeerListProvider peerListProvider = mock(PeerListProvider.class);
+    private final PluginMetrics pluginMetrics = mock(PluginMetrics.class);
+    private final DistributionSummary remappedKeySpacePercentageSummary = mock(DistributionSummary.class);
 
+    private PeerRoutingMode routingMode;
     private HashRing hashRing;
 
     @BeforeEach
     public void setUp() {
+        routingMode = PeerRoutingMode.RING;
         when(peerListProvider.getPeerList()).thenReturn(SERVER_IPS);
+        when(pluginMetrics.summary(HashRing.REMAPPED_KEY_SPACE_PERCENTAGE)).thenReturn(remappedKeySpacePercentageSummary);
+    }
+
+    private HashRing createObjectUnderTest(final int numVirtualNodes) {
+        return new HashRing(peerListProvider, numVirtualNodes, routingMode, pluginMetrics);
     }
 
     @Test
     void testGetServerIpEmptyMap() {
         when(peerListProvider.getPeerList()).thenReturn(Collections.emptyList());
-        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        hashRing = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT);
 
         Optional<String> result = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
 
@@ -60,7 +81,7 @@ class HashRingTest {
 
     @Test
     void testGetServerIpSingleNodeSameIdentificationKeys() {
-        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        hashRing = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT);
 
         Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
         Optional<String> result2 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
@@ -72,7 +93,7 @@ class HashRingTest {
 
     @Test
     void testGetServerIpSingleNodeDifferentIdentificationKeys() {
-        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        hashRing = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT);
 
         Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
         Optional<String> result2 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_2);
@@ -85,7 +106,7 @@ class HashRingTest {
 
     @Test
     void testGetServerIpMultipleNodesSameIdentificationKeys() {
-        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+        hashRing = createObjectUnderTest(MULTIPLE_VIRTUAL_NODE_COUNT);
 
         Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
         Optional<String> result2 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
@@ -97,7 +118,7 @@ class HashRingTest {
 
     @Test
     void testGetServerIpMultipleDifferentIdentificationKeys() {
-        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+        hashRing = createObjectUnderTest(MULTIPLE_VIRTUAL_NODE_COUNT);
 
         Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
         Optional<String> result2 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_2);
@@ -111,7 +132,7 @@ class HashRingTest {
     void testSpecialCaseNoKeyInMapGreaterThanHashValue() {
         when(peerListProvider.getPeerList()).thenReturn(Collections.singletonList("serverIp"));
 
-        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        hashRing = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT);
 
         // IDENTIFICATION KEY SET 1 hash is less than the hash of "serverIp"
         Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
@@ -127,7 +148,7 @@ class HashRingTest {
 
     @Test
     void testEndpointChangeRebuildsMap() {
-        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+        hashRing = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT);
 
         // First call during construction
         verify(peerListProvider, times(1)).getPeerList();
@@ -137,4 +158,117 @@ class HashRingTest {
         // Second call during rebuild
         verify(peerListProvider, times(2)).getPeerList();
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @EnumSource(PeerRoutingMode.class)
+    void getServerIp_with_routing_hash_matches_identification_key_values(final PeerRoutingMode routingMode) {
+        this.routingMode = routingMode;
+        hashRing = createObjectUnderTest(MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        final long routingHash = new RoutingKeyHasher().putValue("key1").hash();
+
+        assertThat(hashRing.getServerIp(routingHash), equalTo(hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1)));
+    }
+
+    @Test
+    void getServerIp_in_jump_mode_returns_same_host_for_same_keys_and_differs_across_keys() {
+        routingMode = PeerRoutingMode.JUMP;
+        hashRing = createObjectUnderTest(MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        final Optional<String> result1 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1);
+        final Optional<String> result2 = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_2);
+
+        Assertions.assertTrue(result1.isPresent());
+        Assertions.assertTrue(result2.isPresent());
+        Assertions.assertEquals(result1, hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1));
+        Assertions.assertNotEquals(result1.get(), result2.get());
+    }
+
+    @Test
+    void getServerIp_in_jump_mode_does_not_depend_on_peer_order() {
+        routingMode = PeerRoutingMode.JUMP;
+        final HashRing hashRing1 = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT);
+        final List<String> reversedServerIps = new ArrayList<>(SERVER_IPS);
+        Collections.reverse(reversedServerIps);
+        when(peerListProvider.getPeerList()).thenReturn(reversedServerIps);
+        final HashRing hashRing2 = createObjectUnderTest(SINGLE_VIRTUAL_NODE_COUNT);
+
+        for (int i = 0; i < 100; i++) {
+            final List<String> identificationKeyValues = List.of("key" + i);
+            assertThat(hashRing2.getServerIp(identificationKeyValues), equalTo(hashRing1.getServerIp(identificationKeyValues)));
+        }
+    }
+
+    @Test
+    void null_routing_mode_uses_ring() {
+        hashRing = createObjectUnderTest(MULTIPLE_VIRTUAL_NODE_COUNT);
+        routingMode = null;
+        final HashRing hashRingWithNullMode = createObjectUnderTest(MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        for (int i = 0; i < 100; i++) {
+            final List<String> identificationKeyValues = List.of("key" + i);
+            assertThat(hashRingWithNullMode.getServerIp(identificationKeyValues), equalTo(hashRing.getServerIp(identificationKeyValues)));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PeerRoutingMode.class)
+    void accept_with_unchanged_endpoints_records_no_remapped_key_space(final PeerRoutingMode routingMode) {
+        this.routingMode = routingMode;
+        hashRing = createObjectUnderTest(MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        hashRing.accept(Collections.emptyList());
+
+        verify(remappedKeySpacePercentageSummary).record(0.0);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PeerRoutingMode.class)
+    void accept_with_added_endpoint_records_remapped_key_space_matching_moved_keys(final PeerRoutingMode routingMode) {
+        this.routingMode = routingMode;
+        hashRing = createObjectUnderTest(MULTIPLE_VIRTUAL_NODE_COUNT);
+        final int keyCount = 20_000;
+        final List<String> hostsBefore = new ArrayList<>();
+        for (int i = 0; i < keyCount; i++) {
+            hostsBefore.add(hashRing.getServerIp(List.of("key" + i)).get());
+        }
+
+        final List<String> newServerIps = new ArrayList<>(SERVER_IPS);
+        newServerIps.add("10.10.0.4");
+        when(peerListProvider.getPeerList()).thenReturn(newServerIps);
+        hashRing.accept(Collections.emptyList());
+
+        int movedKeys = 0;
+        for (int i = 0; i < keyCount; i++) {
+            if (!hostsBefore.get(i).equals(hashRing.getServerIp(List.of("key" + i)).get())) {
+                movedKeys++;
+            }
+        }
+        final ArgumentCaptor<Double> percentageCaptor = ArgumentCaptor.forClass(Double.class);
+        verify(remappedKeySpacePercentageSummary).record(percentageCaptor.capture());
+        final double remappedPercentage = percentageCaptor.getValue();
+        assertThat(remappedPercentage, greaterThan(0.0));
+        assertThat(remappedPercentage, lessThan(50.0));
+        assertThat(remappedPercentage, closeTo(100.0 * movedKeys / keyCount, 2.0));
+    }
+
+    @Test
+    void accept_with_all_endpoints_removed_records_all_key_space_remapped() {
+        hashRing = createObjectUnderTest(MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        when(peerListProvider.getPeerList()).thenReturn(Collections.emptyList());
+        hashRing.accept(Collections.emptyList());
+
+        verify(remappedKeySpacePercentageSummary).record(100.0);
+        Assertions.assertFalse(hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1).isPresent());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 10, 1000})
+    void jumpConsistentHash_returns_bucket_in_range(final int buckets) {
+        for (long key = -500; key < 500; key++) {
+            final int bucket = HashRing.jumpConsistentHash(key * 0x9E3779B97F4A7C15L, buckets);
+            assertThat(bucket >= 0 && bucket < buckets, equalTo(true));
+        }
+    }
+}
@@ -18,6 +18,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.TestDataProvider;
+import org.opensearch.dataprepper.core.peerforwarder.codec.PeerForwarderCodecCompression;
+import org.opensearch.dataprepper.core.peerforwarder.codec.PeerForwarderCodecType;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.DiscoveryMode;
 import org.opensearch.dataprepper.pipeline.parser.DataPrepperDurationDeserializer;
 
@@ -32,7 +34,9 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration.DEFAULT_DRAIN_TIMEOUT;
+import static org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration.DEFAULT_FORWARDING_BACK_PRESSURE_TIMEOUT;
 import static org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration.DEFAULT_FORWARDING_BATCH_TIMEOUT;
+import static org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration.DEFAULT_MAX_REQUEST_LENGTH;
 import static org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration.DEFAULT_PRIVATE_KEY_FILE_PATH;
 
 class PeerForwarderConfigurationTest {
@@ -71,6 +75,12 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(1));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(DEFAULT_FORWARDING_BATCH_TIMEOUT));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getCodec(), equalTo(PeerForwarderCodecType.JAVA));
+        assertThat(peerForwarderConfiguration.getCodecCompression(), equalTo(PeerForwarderCodecCompression.NONE));
+        assertThat(peerForwarderConfiguration.getRoutingMode(), equalTo(PeerRoutingMode.RING));
+        assertThat(peerForwarderConfiguration.getForwardingMaxInFlightRequests(), equalTo(8));
+        assertThat(peerForwarderConfiguration.getForwardingBackPressureTimeout(), equalTo(DEFAULT_FORWARDING_BACK_PRESSURE_TIMEOUT));
+        assertThat(peerForwarderConfiguration.getMaxRequestLength().getBytes(), equalTo(DEFAULT_MAX_REQUEST_LENGTH.getBytes()));
     }
 
     @Test
@@ -104,6 +114,20 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(3));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(Duration.of(5, ChronoUnit.SECONDS)));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(false));
+        assertThat(peerForwarderConfiguration.getCodec(), equalTo(PeerForwarderCodecType.JSON));
+        assertThat(peerForwarderConfiguration.getCodecCompression(), equalTo(PeerForwarderCodecCompression.NONE));
+        assertThat(peerForwarderConfiguration.getRoutingMode(), equalTo(PeerRoutingMode.JUMP));
+        assertThat(peerForwarderConfiguration.getForwardingMaxInFlightRequests(), equalTo(4));
+        assertThat(peerForwarderConfiguration.getForwardingBackPressureTimeout(), equalTo(Duration.ofMillis(500)));
+        assertThat(peerForwarderConfiguration.getMaxRequestLength().getBytes(), equalTo(5L * 1024 * 1024));
+    }
+
+    @Test
+    void testValidPeerForwarderConfig_with_smile_codec() throws IOException {
+        final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig("src/test/resources/valid_peer_forwarder_config_with_smile_codec.yml");
+
+        assertThat(peerForwarderConfiguration.getCodec(), equalTo(PeerForwarderCodecType.SMILE));
+        assertThat(peerForwarderConfiguration.getCodecCompression(), equalTo(PeerForwarderCodecCompression.ZSTD));
     }
 
     @Test
@@ -200,7 +224,9 @@ class PeerForwarderConfigurationTest {
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_NEGATIVE_DRAIN_TIMEOUT,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_ZERO_LOCAL_WRITE_TIMEOUT,
             "src/test/resources/invalid_peer_forwarder_config_with_many_authentication.yml",
-            "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml"
+            "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml",
+            "src/test/resources/invalid_peer_forwarder_config_with_json_codec_compression.yml",
+            "src/test/resources/invalid_peer_forwarder_config_with_zero_max_in_flight_requests.yml"
     })
     void invalid_InvalidPeerForwarderConfig_test(final String filePath) {
         assertThrows(ValueInstantiationException.class, () -> makeConfig(filePath));
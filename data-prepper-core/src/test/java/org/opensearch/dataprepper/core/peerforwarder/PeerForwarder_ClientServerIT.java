@@ -550,7 +550,13 @@ class PeerForwarder_ClientServerIT {
                 null,
                 null,
                 null,
-                binaryCodec
+                binaryCodec,
+                null,
+                null,
+                null,
+                null,
+                null,
+                null
         );
     }
 }
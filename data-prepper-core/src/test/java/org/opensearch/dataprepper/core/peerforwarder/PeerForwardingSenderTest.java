@@ -0,0 +1,248 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import com.linecorp.armeria.common.AggregatedHttpResponse;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.core.peerforwarder.client.PeerForwarderClient;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.opensearch.dataprepper.core.peerforwarder.PeerForwardingSender.CONGESTION_SLACK_NANOS;
+import static org.opensearch.dataprepper.core.peerforwarder.PeerForwardingSender.PEER_FORWARDING_BACK_PRESSURE_WAIT;
+import static org.opensearch.dataprepper.core.peerforwarder.PeerForwardingSender.PEER_FORWARDING_BATCH_SIZE;
+import static org.opensearch.dataprepper.core.peerforwarder.PeerForwardingSender.PEER_FORWARDING_IN_FLIGHT_REQUESTS;
+import static org.opensearch.dataprepper.core.peerforwarder.PeerForwardingSender.PEER_FORWARDING_LATENCY;
+import static org.opensearch.dataprepper.core.peerforwarder.PeerForwardingSender.PEER_FORWARDING_QUEUE_DEPTH;
+import static org.opensearch.dataprepper.core.peerforwarder.PeerForwardingSender.PEER_TAG;
+
+@ExtendWith(MockitoExtension.class)
+class PeerForwardingSenderTest {
+    private static final String DESTINATION_IP = "8.8.8.8";
+    private static final int MAX_BATCH_SIZE = 32;
+    private static final int QUEUE_CAPACITY = 64;
+    private static final int MAX_IN_FLIGHT_REQUESTS = 2;
+    private static final Duration BATCH_TIMEOUT = Duration.ofMinutes(1);
+
+    @Mock
+    private PeerForwarderClient peerForwarderClient;
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private BiConsumer<AggregatedHttpResponse, List<Record<Event>>> responseHandler;
+
+    @Mock
+    private Timer latencyTimer;
+
+    @Mock
+    private Timer backPressureWaitTimer;
+
+    @Mock
+    private AggregatedHttpResponse aggregatedHttpResponse;
+
+    private String pluginId;
+    private String pipelineName;
+
+    @BeforeEach
+    void setUp() {
+        pluginId = UUID.randomUUID().toString();
+        pipelineName = UUID.randomUUID().toString();
+        when(pluginMetrics.timerWithTags(PEER_FORWARDING_LATENCY, PEER_TAG, DESTINATION_IP)).thenReturn(latencyTimer);
+        when(pluginMetrics.timerWithTags(PEER_FORWARDING_BACK_PRESSURE_WAIT, PEER_TAG, DESTINATION_IP)).thenReturn(backPressureWaitTimer);
+    }
+
+    private PeerForwardingSender createObjectUnderTest() {
+        return new PeerForwardingSender(peerForwarderClient, DESTINATION_IP, pluginId, pipelineName, responseHandler, pluginMetrics,
+                MAX_BATCH_SIZE, QUEUE_CAPACITY, MAX_IN_FLIGHT_REQUESTS, BATCH_TIMEOUT);
+    }
+
+    @Test
+    void constructor_registers_per_peer_gauges() {
+        final PeerForwardingSender objectUnderTest = createObjectUnderTest();
+
+        final List<Tag> tags = List.of(Tag.of(PEER_TAG, DESTINATION_IP));
+        verify(pluginMetrics).gaugeWithTags(eq(PEER_FORWARDING_QUEUE_DEPTH), eq(tags), eq(objectUnderTest), any());
+        verify(pluginMetrics).gaugeWithTags(eq(PEER_FORWARDING_IN_FLIGHT_REQUESTS), eq(tags), eq(objectUnderTest), any());
+        verify(pluginMetrics).gaugeWithTags(eq(PEER_FORWARDING_BATCH_SIZE), eq(tags), eq(objectUnderTest), any());
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MAX_BATCH_SIZE));
+    }
+
+    @Test
+    void sendReadyBatches_does_not_send_partial_batch_before_timeout() {
+        final PeerForwardingSender objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.enqueue(generateRecords(MAX_BATCH_SIZE - 1), Duration.ZERO), empty());
+        objectUnderTest.sendReadyBatches();
+
+        verifyNoInteractions(peerForwarderClient);
+        assertThat(objectUnderTest.getQueueDepth(), equalTo(MAX_BATCH_SIZE - 1));
+    }
+
+    @Test
+    void sendReadyBatches_sends_full_batches_and_handles_responses() {
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), eq(DESTINATION_IP), eq(pluginId), eq(pipelineName)))
+                .thenReturn(CompletableFuture.completedFuture(aggregatedHttpResponse));
+        final PeerForwardingSender objectUnderTest = createObjectUnderTest();
+        final List<Record<Event>> records = generateRecords(MAX_BATCH_SIZE * 2);
+
+        assertThat(objectUnderTest.enqueue(records, Duration.ZERO), empty());
+        objectUnderTest.sendReadyBatches();
+
+        verify(responseHandler).accept(aggregatedHttpResponse, records.subList(0, MAX_BATCH_SIZE));
+        verify(responseHandler).accept(aggregatedHttpResponse, records.subList(MAX_BATCH_SIZE, MAX_BATCH_SIZE * 2));
+        verify(latencyTimer, times(2)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        assertThat(objectUnderTest.getQueueDepth(), equalTo(0));
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(0));
+    }
+
+    @Test
+    void sendReadyBatches_does_not_exceed_max_in_flight_requests() {
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenAnswer(i -> new CompletableFuture<AggregatedHttpResponse>());
+        final PeerForwardingSender objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.enqueue(generateRecords(QUEUE_CAPACITY), Duration.ZERO), empty());
+        objectUnderTest.sendReadyBatches();
+        assertThat(objectUnderTest.enqueue(generateRecords(QUEUE_CAPACITY), Duration.ZERO), empty());
+        objectUnderTest.sendReadyBatches();
+
+        verify(peerForwarderClient, times(MAX_IN_FLIGHT_REQUESTS)).serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString());
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(MAX_IN_FLIGHT_REQUESTS));
+        assertThat(objectUnderTest.getQueueDepth(), equalTo(QUEUE_CAPACITY));
+        verifyNoInteractions(responseHandler);
+    }
+
+    @Test
+    void enqueue_returns_remaining_records_when_queue_stays_full() {
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenAnswer(i -> new CompletableFuture<AggregatedHttpResponse>());
+        final PeerForwardingSender objectUnderTest = createObjectUnderTest();
+        final int acceptedRecords = QUEUE_CAPACITY + MAX_IN_FLIGHT_REQUESTS * MAX_BATCH_SIZE;
+        final List<Record<Event>> records = generateRecords(acceptedRecords + 3);
+
+        final List<Record<Event>> rejectedRecords = objectUnderTest.enqueue(records, Duration.ofMillis(50));
+
+        assertThat(rejectedRecords, equalTo(records.subList(acceptedRecords, records.size())));
+        verify(backPressureWaitTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    @Test
+    void enqueue_does_not_record_back_pressure_wait_when_queue_has_room() {
+        final PeerForwardingSender objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.enqueue(generateRecords(QUEUE_CAPACITY), Duration.ZERO), empty());
+
+        verify(backPressureWaitTimer, never()).record(anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void failed_request_is_handled_with_null_response() {
+        final CompletableFuture<AggregatedHttpResponse> failedFuture = CompletableFuture.failedFuture(new RuntimeException());
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenReturn(failedFuture);
+        final PeerForwardingSender objectUnderTest = createObjectUnderTest();
+        final List<Record<Event>> records = generateRecords(MAX_BATCH_SIZE);
+
+        objectUnderTest.enqueue(records, Duration.ZERO);
+        objectUnderTest.sendReadyBatches();
+
+        verify(responseHandler).accept(null, records);
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(0));
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MAX_BATCH_SIZE));
+    }
+
+    @Test
+    void client_exception_is_handled_with_null_response() {
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenThrow(RuntimeException.class);
+        final PeerForwardingSender objectUnderTest = createObjectUnderTest();
+        final List<Record<Event>> records = generateRecords(MAX_BATCH_SIZE);
+
+        objectUnderTest.enqueue(records, Duration.ZERO);
+        objectUnderTest.sendReadyBatches();
+
+        verify(responseHandler).accept(null, records);
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(0));
+    }
+
+    @Test
+    void adaptBatchSize_halves_on_congestion_down_to_minimum_and_grows_back() {
+        final PeerForwardingSender objectUnderTest = createObjectUnderTest();
+        final long baselineRttNanos = TimeUnit.MILLISECONDS.toNanos(5);
+        final long congestedRttNanos = baselineRttNanos * 2 + CONGESTION_SLACK_NANOS + 1;
+
+        objectUnderTest.adaptBatchSize(baselineRttNanos, MAX_BATCH_SIZE, MAX_BATCH_SIZE);
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MAX_BATCH_SIZE));
+
+        objectUnderTest.adaptBatchSize(congestedRttNanos, MAX_BATCH_SIZE, MAX_BATCH_SIZE);
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MAX_BATCH_SIZE / 2));
+
+        for (int i = 0; i < 10; i++) {
+            objectUnderTest.adaptBatchSize(congestedRttNanos, objectUnderTest.getBatchSize(), objectUnderTest.getBatchSize());
+        }
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MAX_BATCH_SIZE / 16));
+
+        for (int i = 0; i < 20; i++) {
+            objectUnderTest.adaptBatchSize(baselineRttNanos, objectUnderTest.getBatchSize(), objectUnderTest.getBatchSize());
+        }
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MAX_BATCH_SIZE));
+    }
+
+    @Test
+    void adaptBatchSize_ignores_small_latency_increases() {
+        final PeerForwardingSender objectUnderTest = createObjectUnderTest();
+        final long baselineRttNanos = TimeUnit.MICROSECONDS.toNanos(100);
+
+        objectUnderTest.adaptBatchSize(baselineRttNanos, MAX_BATCH_SIZE, MAX_BATCH_SIZE);
+        objectUnderTest.adaptBatchSize(baselineRttNanos * 10, MAX_BATCH_SIZE, MAX_BATCH_SIZE);
+
+        assertThat(objectUnderTest.getBatchSize(), equalTo(MAX_BATCH_SIZE));
+    }
+
+    private static List<Record<Event>> generateRecords(final int numRecords) {
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            records.add(new Record<>(JacksonLog.builder().withData(Map.of("key", UUID.randomUUID().toString())).build()));
+        }
+        return records;
+    }
+}
@@ -12,11 +12,13 @@ package org.opensearch.dataprepper.core.peerforwarder;
 import com.linecorp.armeria.common.AggregatedHttpResponse;
 import com.linecorp.armeria.common.HttpStatus;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.core.peerforwarder.client.PeerForwarderClient;
@@ -40,6 +42,8 @@ import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -47,9 +51,12 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -77,6 +84,8 @@ class RemotePeerForwarderTest {
     private static final int FORWARDING_BATCH_QUEUE_DEPTH = 1;
     private static final Duration FORWARDING_BATCH_TIMEOUT = Duration.of(800, ChronoUnit.MILLIS);
     private static final int PIPELINE_WORKER_THREADS = 3;
+    private static final int FORWARDING_MAX_IN_FLIGHT_REQUESTS = 3;
+    private static final Duration FORWARDING_BACK_PRESSURE_TIMEOUT = Duration.ofMillis(100);
     private static final String PIPELINE_NAME = UUID.randomUUID().toString();
     private static final String PLUGIN_ID = UUID.randomUUID().toString();
 
@@ -113,6 +122,12 @@ class RemotePeerForwarderTest {
     @Mock
     private Counter requestsSuccessfulCounter;
 
+    @Mock
+    private Timer peerTimer;
+
+    @Mock
+    private ScheduledExecutorService flushScheduler;
+
     private String pipelineName;
     private String pluginId;
     private Set<String> identificationKeys;
@@ -133,6 +148,7 @@ class RemotePeerForwarderTest {
         when(pluginMetrics.counter(RECORDS_MISSING_IDENTIFICATION_KEYS)).thenReturn(recordsMissingIdentificationKeys);
         when(pluginMetrics.counter(REQUESTS_FAILED)).thenReturn(requestsFailedCounter);
         when(pluginMetrics.counter(REQUESTS_SUCCESSFUL)).thenReturn(requestsSuccessfulCounter);
+        lenient().when(pluginMetrics.timerWithTags(anyString(), any(String[].class))).thenReturn(peerTimer);
     }
 
     @AfterEach
@@ -148,16 +164,25 @@ class RemotePeerForwarderTest {
         );
     }
 
+    private static long routingHash(final String... identificationKeyValues) {
+        final RoutingKeyHasher routingKeyHasher = new RoutingKeyHasher();
+        for (final String identificationKeyValue : identificationKeyValues) {
+            routingKeyHasher.putValue(identificationKeyValue);
+        }
+        return routingKeyHasher.hash();
+    }
+
     private RemotePeerForwarder createObjectUnderTest() {
         return new RemotePeerForwarder(peerForwarderClient, hashRing, peerForwarderReceiveBuffer, pipelineName, pluginId, identificationKeys, pluginMetrics,
-                TEST_BATCH_DELAY, TEST_LOCAL_WRITE_TIMEOUT, FORWARDING_BATCH_SIZE, FORWARDING_BATCH_QUEUE_DEPTH, FORWARDING_BATCH_TIMEOUT, PIPELINE_WORKER_THREADS);
+                TEST_BATCH_DELAY, TEST_LOCAL_WRITE_TIMEOUT, FORWARDING_BATCH_SIZE, FORWARDING_BATCH_QUEUE_DEPTH, FORWARDING_BATCH_TIMEOUT, PIPELINE_WORKER_THREADS,
+                FORWARDING_MAX_IN_FLIGHT_REQUESTS, FORWARDING_BACK_PRESSURE_TIMEOUT, flushScheduler);
     }
 
     @Test
     void test_forwardRecords_with_two_local_ips_should_process_record_two_record_locally() {
         final List<String> testIps = List.of("127.0.0.1", "128.0.0.1");
-        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
-        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+        lenient().when(hashRing.getServerIp(routingHash("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(routingHash("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
 
         RemotePeerForwarder peerForwarder = createObjectUnderTest();
         final Collection<Record<Event>> testRecords = generateBatchRecords(2);
@@ -176,8 +201,8 @@ class RemotePeerForwarderTest {
         mockPeerForwarderClientResponse();
 
         final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
-        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
-        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+        lenient().when(hashRing.getServerIp(routingHash("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(routingHash("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
 
         RemotePeerForwarder peerForwarder = createObjectUnderTest();
         final int recordsSetsToGenerate = FORWARDING_BATCH_SIZE;
@@ -199,8 +224,8 @@ class RemotePeerForwarderTest {
         when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString())).thenThrow(RuntimeException.class);
 
         final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
-        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
-        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+        lenient().when(hashRing.getServerIp(routingHash("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(routingHash("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
 
         final RemotePeerForwarder peerForwarder = createObjectUnderTest();
 
@@ -234,8 +259,8 @@ class RemotePeerForwarderTest {
         mockPeerForwarderClientResponse();
 
         final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
-        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
-        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+        lenient().when(hashRing.getServerIp(routingHash("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(routingHash("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
 
         final RemotePeerForwarder peerForwarder = createObjectUnderTest();
 
@@ -268,13 +293,45 @@ class RemotePeerForwarderTest {
         verify(recordsSuccessfullyForwardedCounter).increment(recordsSetsToGenerate);
     }
 
+    @Test
+    void scheduled_flush_should_send_partial_batch_after_timeout_without_further_forwarding() throws InterruptedException {
+        mockPeerForwarderClientResponse();
+
+        final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
+        lenient().when(hashRing.getServerIp(routingHash("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(routingHash("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest();
+        final ArgumentCaptor<Runnable> flushTaskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        final long flushIntervalMillis = FORWARDING_BATCH_TIMEOUT.toMillis() / 2;
+        verify(flushScheduler).scheduleWithFixedDelay(flushTaskCaptor.capture(), eq(flushIntervalMillis), eq(flushIntervalMillis), eq(TimeUnit.MILLISECONDS));
+
+        final int recordsSetsToGenerate = new Random().nextInt(FORWARDING_BATCH_SIZE - 1) + 1;
+        final Collection<Record<Event>> inputRecords = generateSetsofBatchRecords(recordsSetsToGenerate, 2);
+        peerForwarder.forwardRecords(inputRecords);
+
+        flushTaskCaptor.getValue().run();
+        verifyNoInteractions(peerForwarderClient);
+
+        Thread.sleep(FORWARDING_BATCH_TIMEOUT.toMillis() + 100);
+        flushTaskCaptor.getValue().run();
+        verify(peerForwarderClient, times(1)).serializeRecordsAndSendHttpRequest(anyList(), anyString(), anyString(), anyString());
+        assertThat(peerForwarder.peerForwardingSenders.get(testIps.get(0)).getQueueDepth(), equalTo(0));
+
+        verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
+        verify(requestsSuccessfulCounter).increment();
+        verify(recordsSuccessfullyForwardedCounter).increment(recordsSetsToGenerate);
+    }
+
     @Test
     void forwardRecords_should_only_flush_batch_size() {
         mockPeerForwarderClientResponse();
 
         final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
-        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
-        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+        lenient().when(hashRing.getServerIp(routingHash("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(routingHash("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
 
         final RemotePeerForwarder peerForwarder = createObjectUnderTest();
 
@@ -286,7 +343,7 @@ class RemotePeerForwarderTest {
 
         assertThat(records, notNullValue());
         assertThat(records.size(), equalTo(recordsSetsToGenerate));
-        assertThat(peerForwarder.peerBatchingQueueMap.get(testIps.get(0)).size(), equalTo(recordsSetsToGenerate - FORWARDING_BATCH_SIZE));
+        assertThat(peerForwarder.peerForwardingSenders.get(testIps.get(0)).getQueueDepth(), equalTo(recordsSetsToGenerate - FORWARDING_BATCH_SIZE));
 
         verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
         verify(recordsActuallyProcessedLocallyCounter).increment(recordsSetsToGenerate);
@@ -300,8 +357,8 @@ class RemotePeerForwarderTest {
         mockPeerForwarderClientResponse();
 
         final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
-        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
-        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+        lenient().when(hashRing.getServerIp(routingHash("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(routingHash("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
 
         final RemotePeerForwarder peerForwarder = createObjectUnderTest();
 
@@ -314,7 +371,7 @@ class RemotePeerForwarderTest {
 
         assertThat(records, notNullValue());
         assertThat(records.size(), equalTo(recordsSetsToGenerate));
-        assertThat(peerForwarder.peerBatchingQueueMap.get(testIps.get(0)).isEmpty(), equalTo(true));
+        assertThat(peerForwarder.peerForwardingSenders.get(testIps.get(0)).getQueueDepth(), equalTo(0));
 
         verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
         verify(recordsActuallyProcessedLocallyCounter).increment(recordsSetsToGenerate);
@@ -324,12 +381,12 @@ class RemotePeerForwarderTest {
     }
 
     @Test
-    void forwardRecords_should_process_data_locally_if_forwarding_buffer_full() {
+    void forwardRecords_should_send_batches_to_make_room_if_forwarding_buffer_full() {
         mockPeerForwarderClientResponse();
 
         final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
-        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
-        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+        lenient().when(hashRing.getServerIp(routingHash("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(routingHash("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
 
         final RemotePeerForwarder peerForwarder = createObjectUnderTest();
 
@@ -340,15 +397,46 @@ class RemotePeerForwarderTest {
         final Collection<Record<Event>> records = peerForwarder.forwardRecords(inputRecords);
         verify(peerForwarderClient, times(batches)).serializeRecordsAndSendHttpRequest(anyList(), anyString(), anyString(), anyString());
 
+        assertThat(records, notNullValue());
+        assertThat(records.size(), equalTo(recordsSetsToGenerate));
+        assertThat(peerForwarder.peerForwardingSenders.get(testIps.get(0)).getQueueDepth(), equalTo(1));
+
+        verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
+        verify(requestsSuccessfulCounter, times(batches)).increment();
+        verify(recordsSuccessfullyForwardedCounter, times(batches)).increment(FORWARDING_BATCH_SIZE);
+    }
+
+    @Test
+    void forwardRecords_should_process_data_locally_if_forwarding_buffer_full_after_back_pressure_timeout() {
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenAnswer(i -> new CompletableFuture<AggregatedHttpResponse>());
+
+        final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
+        lenient().when(hashRing.getServerIp(routingHash("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(routingHash("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest();
+
+        final int queueCapacity = FORWARDING_BATCH_SIZE * PIPELINE_WORKER_THREADS * FORWARDING_BATCH_QUEUE_DEPTH;
+        final int recordsSetsToGenerate = queueCapacity + FORWARDING_MAX_IN_FLIGHT_REQUESTS * FORWARDING_BATCH_SIZE + 1;
+        final Collection<Record<Event>> inputRecords = generateSetsofBatchRecords(recordsSetsToGenerate, 2);
+
+        final Collection<Record<Event>> records = peerForwarder.forwardRecords(inputRecords);
+        verify(peerForwarderClient, times(FORWARDING_MAX_IN_FLIGHT_REQUESTS))
+                .serializeRecordsAndSendHttpRequest(anyList(), anyString(), anyString(), anyString());
+
         assertThat(records, notNullValue());
         assertThat(records.size(), equalTo(recordsSetsToGenerate + 1));
+        assertThat(peerForwarder.peerForwardingSenders.get(testIps.get(0)).getQueueDepth(), equalTo(queueCapacity));
+        assertThat(peerForwarder.peerForwardingSenders.get(testIps.get(0)).getInFlightRequests(), equalTo(FORWARDING_MAX_IN_FLIGHT_REQUESTS));
+        verify(peerTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
 
         verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
         verify(recordsActuallyProcessedLocallyCounter).increment(recordsSetsToGenerate + 1);
         verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
         verify(recordsFailedForwardingCounter).increment(1);
-        verify(requestsSuccessfulCounter, times(batches)).increment();
-        verify(recordsSuccessfullyForwardedCounter, times(batches)).increment(FORWARDING_BATCH_SIZE);
     }
 
     @Test
@@ -360,8 +448,8 @@ class RemotePeerForwarderTest {
                 .thenReturn(CompletableFuture.completedFuture(aggregatedHttpResponse));
 
         final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
-        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
-        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+        lenient().when(hashRing.getServerIp(routingHash("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(routingHash("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
 
         final RemotePeerForwarder peerForwarder = createObjectUnderTest();
 
@@ -406,8 +494,8 @@ class RemotePeerForwarderTest {
         mockPeerForwarderClientResponse();
 
         final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
-        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
-        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+        lenient().when(hashRing.getServerIp(routingHash("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(routingHash("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
 
         RemotePeerForwarder peerForwarder = createObjectUnderTest();
         final int recordsSetsToGenerate = new Random().nextInt(FORWARDING_BATCH_SIZE) + FORWARDING_BATCH_SIZE;
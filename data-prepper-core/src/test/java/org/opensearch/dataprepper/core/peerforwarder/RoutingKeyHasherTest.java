@@ -0,0 +1,70 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+class RoutingKeyHasherTest {
+
+    @Test
+    void hash_is_the_same_for_the_same_values() {
+        final long hash1 = new RoutingKeyHasher().putValue("a").putValue(1).hash();
+        final long hash2 = new RoutingKeyHasher().putValue("a").putValue("1").hash();
+
+        assertThat(hash1, equalTo(hash2));
+    }
+
+    @Test
+    void hash_differs_on_value_boundaries_and_order() {
+        final long hash = new RoutingKeyHasher().putValue("ab").putValue("c").hash();
+
+        assertThat(new RoutingKeyHasher().putValue("a").putValue("bc").hash(), not(equalTo(hash)));
+        assertThat(new RoutingKeyHasher().putValue("abc").hash(), not(equalTo(hash)));
+        assertThat(new RoutingKeyHasher().putValue("c").putValue("ab").hash(), not(equalTo(hash)));
+    }
+
+    @Test
+    void hash_distinguishes_null_from_strings() {
+        final long nullHash = new RoutingKeyHasher().putValue(null).hash();
+
+        assertThat(new RoutingKeyHasher().putValue("null").hash(), not(equalTo(nullHash)));
+        assertThat(new RoutingKeyHasher().putValue("").hash(), not(equalTo(nullHash)));
+    }
+
+    @Test
+    void reset_clears_previous_values() {
+        final RoutingKeyHasher routingKeyHasher = new RoutingKeyHasher();
+        final long emptyHash = routingKeyHasher.hash();
+
+        routingKeyHasher.putValue("a").putInt(5);
+        assertThat(routingKeyHasher.hash(), not(equalTo(emptyHash)));
+
+        assertThat(routingKeyHasher.reset().hash(), equalTo(emptyHash));
+        assertThat(routingKeyHasher.putValue("a").hash(), equalTo(new RoutingKeyHasher().putValue("a").hash()));
+    }
+
+    @Test
+    void hash_of_similar_values_is_distinct() {
+        final RoutingKeyHasher routingKeyHasher = new RoutingKeyHasher();
+        final Set<Long> hashes = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            hashes.add(routingKeyHasher.reset().putValue("key" + i).hash());
+        }
+
+        assertThat(hashes.size(), equalTo(10_000));
+    }
+}
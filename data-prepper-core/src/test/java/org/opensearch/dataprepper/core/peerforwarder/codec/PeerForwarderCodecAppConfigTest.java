@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration;
+
+import java.io.ObjectInputFilter;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PeerForwarderCodecAppConfigTest {
+    @Mock
+    private PeerForwarderConfiguration peerForwarderConfiguration;
+
+    @Mock
+    private ObjectInputFilter objectInputFilter;
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+    }
+
+    private PeerForwarderCodec createCodec() {
+        return new PeerForwarderCodecAppConfig().peerForwarderCodec(peerForwarderConfiguration, objectInputFilter, objectMapper);
+    }
+
+    @Test
+    void peerForwarderCodec_returns_JavaPeerForwarderCodec_for_java_codec() {
+        when(peerForwarderConfiguration.getCodec()).thenReturn(PeerForwarderCodecType.JAVA);
+
+        assertThat(createCodec(), instanceOf(JavaPeerForwarderCodec.class));
+    }
+
+    @Test
+    void peerForwarderCodec_returns_JacksonPeerForwarderCodec_for_json_codec() {
+        when(peerForwarderConfiguration.getCodec()).thenReturn(PeerForwarderCodecType.JSON);
+
+        assertThat(createCodec(), instanceOf(JacksonPeerForwarderCodec.class));
+    }
+
+    @Test
+    void peerForwarderCodec_returns_SmilePeerForwarderCodec_for_smile_codec() {
+        when(peerForwarderConfiguration.getCodec()).thenReturn(PeerForwarderCodecType.SMILE);
+        when(peerForwarderConfiguration.getCodecCompression()).thenReturn(PeerForwarderCodecCompression.ZSTD);
+        when(peerForwarderConfiguration.getMaxRequestLength()).thenReturn(PeerForwarderConfiguration.DEFAULT_MAX_REQUEST_LENGTH);
+
+        assertThat(createCodec(), instanceOf(SmilePeerForwarderCodec.class));
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SmilePeerForwarderCodecTest {
+    private String pipelineName;
+    private String pluginId;
+
+    @BeforeEach
+    void setUp() {
+        pipelineName = UUID.randomUUID().toString();
+        pluginId = UUID.randomUUID().toString();
+    }
+
+    private SmilePeerForwarderCodec createObjectUnderTest(final PeerForwarderCodecCompression compression) {
+        return new SmilePeerForwarderCodec(compression);
+    }
+
+    @Test
+    void constructor_with_null_compression_throws_exception() {
+        assertThrows(NullPointerException.class, () -> createObjectUnderTest(null));
+    }
+
+    @ParameterizedTest
+    @EnumSource(PeerForwarderCodecCompression.class)
+    void serialize_then_deserialize_returns_equivalent_events(final PeerForwarderCodecCompression compression) throws IOException {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(5);
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(compression);
+
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(objectUnderTest.serialize(inputEvents));
+
+        assertThat(outputEvents.getDestinationPipelineName(), equalTo(pipelineName));
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(pluginId));
+        assertThat(outputEvents.getEvents().size(), equalTo(inputEvents.getEvents().size()));
+        for (int i = 0; i < inputEvents.getEvents().size(); i++) {
+            final Event inputEvent = inputEvents.getEvents().get(i);
+            final Event outputEvent = outputEvents.getEvents().get(i);
+            assertThat(outputEvent, instanceOf(JacksonEvent.class));
+            assertThat(outputEvent.toMap(), equalTo(inputEvent.toMap()));
+            assertThat(outputEvent.getMetadata().getEventType(), equalTo(inputEvent.getMetadata().getEventType()));
+            assertThat(outputEvent.getMetadata().getTimeReceived(), equalTo(inputEvent.getMetadata().getTimeReceived()));
+            assertThat(outputEvent.getMetadata().getAttributes(), equalTo(inputEvent.getMetadata().getAttributes()));
+        }
+    }
+
+    @Test
+    void deserialize_returns_spans_for_trace_events() throws IOException {
+        final JacksonSpan span = JacksonSpan.builder()
+                .withTraceId(UUID.randomUUID().toString())
+                .withTraceGroup(UUID.randomUUID().toString())
+                .withSpanId(UUID.randomUUID().toString())
+                .withName(UUID.randomUUID().toString())
+                .withKind(UUID.randomUUID().toString())
+                .withStartTime(Instant.now().toString())
+                .withEndTime(Instant.now().toString())
+                .withDurationInNanos(100L)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .build();
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(PeerForwarderCodecCompression.NONE);
+
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(
+                objectUnderTest.serialize(new PeerForwardingEvents(List.of(span), pluginId, pipelineName)));
+
+        assertThat(outputEvents.getEvents().size(), equalTo(1));
+        final Event outputEvent = outputEvents.getEvents().get(0);
+        assertThat(outputEvent, instanceOf(Span.class));
+        assertThat(((Span) outputEvent).getTraceId(), equalTo(span.getTraceId()));
+        assertThat(((Span) outputEvent).getSpanId(), equalTo(span.getSpanId()));
+    }
+
+    @ParameterizedTest
+    @EnumSource(PeerForwarderCodecCompression.class)
+    void serialize_then_deserialize_preserves_null_events(final PeerForwarderCodecCompression compression) throws IOException {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(compression);
+
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(
+                objectUnderTest.serialize(new PeerForwardingEvents(null, pluginId, pipelineName)));
+
+        assertThat(outputEvents.getEvents(), nullValue());
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(pluginId));
+        assertThat(outputEvents.getDestinationPipelineName(), equalTo(pipelineName));
+    }
+
+    @Test
+    void serialize_with_zstd_compression_is_smaller_and_readable_without_compression_configured() throws IOException {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(100);
+        final byte[] uncompressedBytes = createObjectUnderTest(PeerForwarderCodecCompression.NONE).serialize(inputEvents);
+        final byte[] compressedBytes = createObjectUnderTest(PeerForwarderCodecCompression.ZSTD).serialize(inputEvents);
+
+        assertThat(compressedBytes.length, lessThan(uncompressedBytes.length));
+        assertThat(compressedBytes, not(equalTo(uncompressedBytes)));
+
+        final PeerForwardingEvents outputEvents = createObjectUnderTest(PeerForwarderCodecCompression.NONE).deserialize(compressedBytes);
+        assertThat(outputEvents.getEvents().size(), equalTo(100));
+    }
+
+    @Test
+    void serialize_writes_repeated_keys_once() throws IOException {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(PeerForwarderCodecCompression.NONE);
+        final String repeatedKey = "repeated_key_" + UUID.randomUUID().toString().replace("-", "");
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            events.add(JacksonEvent.builder()
+                    .withEventType("LOG")
+                    .withData(Map.of(repeatedKey, i))
+                    .build());
+        }
+
+        final String serialized = new String(
+                objectUnderTest.serialize(new PeerForwardingEvents(events, pluginId, pipelineName)), StandardCharsets.ISO_8859_1);
+
+        assertThat(serialized.indexOf(repeatedKey), equalTo(serialized.lastIndexOf(repeatedKey)));
+    }
+
+    @Test
+    void constructor_with_non_positive_max_decompressed_bytes_throws_exception() {
+        assertThrows(IllegalArgumentException.class, () -> new SmilePeerForwarderCodec(PeerForwarderCodecCompression.ZSTD, 0));
+    }
+
+    @Test
+    void deserialize_with_compressed_payload_over_the_maximum_decompressed_length_throws_IOException() throws IOException {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(100);
+        final byte[] uncompressedBytes = createObjectUnderTest(PeerForwarderCodecCompression.NONE).serialize(inputEvents);
+        final byte[] compressedBytes = createObjectUnderTest(PeerForwarderCodecCompression.ZSTD).serialize(inputEvents);
+
+        final SmilePeerForwarderCodec objectUnderTest =
+                new SmilePeerForwarderCodec(PeerForwarderCodecCompression.ZSTD, uncompressedBytes.length - 1);
+
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(compressedBytes));
+    }
+
+    @Test
+    void deserialize_with_compressed_payload_within_the_maximum_decompressed_length_returns_events() throws IOException {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(100);
+        final byte[] uncompressedBytes = createObjectUnderTest(PeerForwarderCodecCompression.NONE).serialize(inputEvents);
+        final byte[] compressedBytes = createObjectUnderTest(PeerForwarderCodecCompression.ZSTD).serialize(inputEvents);
+
+        final SmilePeerForwarderCodec objectUnderTest =
+                new SmilePeerForwarderCodec(PeerForwarderCodecCompression.ZSTD, uncompressedBytes.length);
+
+        assertThat(objectUnderTest.deserialize(compressedBytes).getEvents().size(), equalTo(100));
+    }
+
+    @Test
+    void deserialize_with_empty_bytes_throws_IOException() {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(PeerForwarderCodecCompression.NONE);
+
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(new byte[0]));
+    }
+
+    @Test
+    void deserialize_with_json_bytes_throws_IOException() {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(PeerForwarderCodecCompression.NONE);
+
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize("[]".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private PeerForwardingEvents generatePeerForwardingEvents(final int numEvents) {
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            final Map<String, Object> eventData = Map.of(
+                    "key1", UUID.randomUUID().toString(),
+                    "key2", i,
+                    "nested", Map.of("list", List.of(1, 2, 3), "flag", true));
+            final DefaultEventMetadata eventMetadata = DefaultEventMetadata.builder()
+                    .withEventType("LOG")
+                    .withTimeReceived(Instant.now())
+                    .withAttributes(i % 2 == 0 ? Collections.singletonMap("attribute", "value" + i) : null)
+                    .build();
+            events.add(JacksonEvent.builder()
+                    .withData(eventData)
+                    .withEventMetadata(eventMetadata)
+                    .build());
+        }
+        return new PeerForwardingEvents(events, pluginId, pipelineName);
+    }
+}
@@ -40,6 +40,7 @@ class PeerForwarderHttpServerProviderTest {
     @Test
     void get_should_create_a_server() {
         when(peerForwarderConfiguration.getMaxConnectionCount()).thenReturn(500);
+        when(peerForwarderConfiguration.getMaxRequestLength()).thenReturn(PeerForwarderConfiguration.DEFAULT_MAX_REQUEST_LENGTH);
         final Server server = createObjectUnderTest().get();
 
         Assertions.assertNotNull(server);
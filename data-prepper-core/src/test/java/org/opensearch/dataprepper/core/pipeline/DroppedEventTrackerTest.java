@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+class DroppedEventTrackerTest {
+
+    private DroppedEventTracker createObjectUnderTest() {
+        return new DroppedEventTracker();
+    }
+
+    private static List<Record<Event>> createRecords(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Record<>(mock(Event.class)))
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void captureInputEvents_returns_the_events_in_order_and_reuses_the_list() {
+        final List<Record<Event>> records = createRecords(3);
+        final DroppedEventTracker objectUnderTest = createObjectUnderTest();
+
+        final List<Event> inputEvents = objectUnderTest.captureInputEvents(records);
+
+        assertThat(inputEvents, contains(records.get(0).getData(), records.get(1).getData(), records.get(2).getData()));
+        assertThat(objectUnderTest.captureInputEvents(records.subList(0, 1)), sameInstance(inputEvents));
+        assertThat(inputEvents, contains(records.get(0).getData()));
+    }
+
+    @Test
+    void isOutputEvent_matches_only_captured_instances() {
+        final List<Record<Event>> records = createRecords(100);
+        final List<Record<Event>> outputRecords = new ArrayList<>(records.subList(0, 50));
+        final DroppedEventTracker objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.captureOutputEvents(outputRecords);
+
+        for (int i = 0; i < records.size(); i++) {
+            assertThat(objectUnderTest.isOutputEvent(records.get(i).getData()), equalTo(i < 50));
+        }
+        assertThat(objectUnderTest.getTableSize(), greaterThanOrEqualTo(100));
+    }
+
+    @Test
+    void captureOutputEvents_replaces_the_previous_output_events() {
+        final List<Record<Event>> records = createRecords(2);
+        final DroppedEventTracker objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.captureOutputEvents(records.subList(0, 1));
+        objectUnderTest.captureOutputEvents(records.subList(1, 2));
+
+        assertThat(objectUnderTest.isOutputEvent(records.get(0).getData()), equalTo(false));
+        assertThat(objectUnderTest.isOutputEvent(records.get(1).getData()), equalTo(true));
+    }
+
+    @Test
+    void captureOutputEvents_ignores_duplicates_and_null_data() {
+        final List<Record<Event>> records = createRecords(1);
+        final List<Record<Event>> outputRecords = new ArrayList<>(records);
+        outputRecords.add(records.get(0));
+        outputRecords.add(new Record<>(null));
+        final DroppedEventTracker objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.captureOutputEvents(outputRecords);
+
+        assertThat(objectUnderTest.isOutputEvent(records.get(0).getData()), equalTo(true));
+        assertThat(objectUnderTest.getTableSize(), equalTo(DroppedEventTracker.MINIMUM_TABLE_SIZE));
+    }
+
+    @Test
+    void clear_releases_input_and_output_events() {
+        final List<Record<Event>> records = createRecords(4);
+        final DroppedEventTracker objectUnderTest = createObjectUnderTest();
+        final List<Event> inputEvents = objectUnderTest.captureInputEvents(records);
+        objectUnderTest.captureOutputEvents(records);
+
+        objectUnderTest.clear();
+
+        assertThat(inputEvents, empty());
+        for (final Record<Event> record : records) {
+            assertThat(objectUnderTest.isOutputEvent(record.getData()), equalTo(false));
+        }
+        objectUnderTest.captureOutputEvents(Collections.emptyList());
+        assertThat(objectUnderTest.isOutputEvent(records.get(0).getData()), equalTo(false));
+    }
+}
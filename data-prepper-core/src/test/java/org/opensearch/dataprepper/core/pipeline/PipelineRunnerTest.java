@@ -14,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -44,6 +45,8 @@ import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
@@ -54,6 +57,7 @@ import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -108,6 +112,15 @@ class PipelineRunnerTest {
         }
     }
 
+    private PipelineRunnerImpl createObjectUnderTest(final int maxInFlightSinkBatches) {
+        try (final MockedStatic<PluginMetrics> pluginMetricsStatic = mockStatic(PluginMetrics.class)) {
+            pluginMetricsStatic.when(() -> PluginMetrics.fromNames("PipelineRunner", pipeline.getName()))
+                    .thenReturn(pluginMetrics);
+
+            return new PipelineRunnerImpl(pipeline, processorProvider, maxInFlightSinkBatches);
+        }
+    }
+
     @BeforeEach
     void setUp() {
         processors = List.of(processor);
@@ -340,6 +353,30 @@ class PipelineRunnerTest {
             assertTrue(result.isEmpty());
         }
 
+        @Test
+        void testRunProcessorsAndProcessAcknowledgementsReleasesEventsDroppedByEachProcessor() {
+            setupPipeline(true);
+            final Event keptEvent = mock(Event.class);
+            final DefaultEventHandle keptEventHandle = mock(DefaultEventHandle.class);
+            when(keptEvent.getEventHandle()).thenReturn(keptEventHandle);
+            final Record keptRecord = new Record<>(keptEvent);
+            when(event.getEventHandle()).thenReturn(defaultEventHandle);
+            when(record.getData()).thenReturn(event);
+            final List<Record> records = List.of(record, keptRecord);
+
+            final Processor secondProcessor = mock(Processor.class);
+            when(processor.execute(records)).thenReturn(records);
+            when(secondProcessor.execute(records)).thenReturn(List.of(keptRecord));
+
+            final PipelineRunnerImpl pipelineRunner = createObjectUnderTest();
+            final Collection result = pipelineRunner.runProcessorsAndProcessAcknowledgements(List.of(processor, secondProcessor), records);
+
+            verify(defaultEventHandle).release(true);
+            verify(keptEventHandle, never()).release(anyBoolean());
+            assertThat(result.size(), equalTo(1));
+            verifyNoInteractions(counter);
+        }
+
         @Test
         public void testrunProcessorsAndProcessAcknowledgementsWhenNoProcessors() {
             setupPipeline(false);
@@ -442,4 +479,128 @@ class PipelineRunnerTest {
             verify(buffer).checkpoint(checkpointState);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class InFlightSinkBatchesTests {
+        private Collection recordsList;
+
+        @BeforeEach
+        void setup() {
+            setupPipeline(false);
+            recordsList = new ArrayList<>();
+            recordsList.add(record);
+            when(pipeline.getBuffer()).thenReturn(buffer);
+            when(pipeline.getReadBatchTimeoutInMillis()).thenReturn(BUFFER_READ_TIMEOUT_MILLIS);
+            when(processorProvider.getProcessors()).thenReturn(processors);
+            lenient().when(processor.execute(anyCollection())).thenAnswer(invocation -> invocation.getArgument(0));
+        }
+
+        private void readBatch(final Collection records, final CheckpointState batchCheckpointState) {
+            when(buffer.read(BUFFER_READ_TIMEOUT_MILLIS)).thenReturn(new AbstractMap.SimpleEntry<>(records, batchCheckpointState));
+        }
+
+        @Test
+        void runAllProcessorsAndPublishToSinks_does_not_wait_for_sinks_while_under_the_limit() {
+            final CompletableFuture<Void> sinkFuture = new CompletableFuture<>();
+            when(pipeline.publishToSinks(anyCollection())).thenReturn(List.of(sinkFuture));
+            readBatch(recordsList, checkpointState);
+
+            final PipelineRunnerImpl pipelineRunner = createObjectUnderTest(2);
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            verify(pipeline).publishToSinks(recordsList);
+            verify(buffer, never()).checkpoint(any());
+            assertThat(pipelineRunner.getInFlightBatchCount(), equalTo(1));
+
+            sinkFuture.complete(null);
+            pipelineRunner.completeInFlightBatches();
+
+            verify(buffer).checkpoint(checkpointState);
+            assertThat(pipelineRunner.getInFlightBatchCount(), equalTo(0));
+        }
+
+        @Test
+        void runAllProcessorsAndPublishToSinks_checkpoints_completed_batches_in_read_order() {
+            final CheckpointState secondCheckpointState = mock(CheckpointState.class);
+            final CompletableFuture<Void> firstSinkFuture = new CompletableFuture<>();
+            final CompletableFuture<Void> secondSinkFuture = new CompletableFuture<>();
+            when(pipeline.publishToSinks(anyCollection()))
+                    .thenReturn(List.of(firstSinkFuture))
+                    .thenReturn(List.of(secondSinkFuture));
+
+            final PipelineRunnerImpl pipelineRunner = createObjectUnderTest(3);
+            readBatch(recordsList, checkpointState);
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            firstSinkFuture.complete(null);
+            readBatch(recordsList, secondCheckpointState);
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            verify(buffer).checkpoint(checkpointState);
+            verify(buffer, never()).checkpoint(secondCheckpointState);
+            assertThat(pipelineRunner.getInFlightBatchCount(), equalTo(1));
+
+            secondSinkFuture.complete(null);
+            pipelineRunner.completeInFlightBatches();
+
+            final InOrder inOrder = inOrder(buffer);
+            inOrder.verify(buffer).checkpoint(checkpointState);
+            inOrder.verify(buffer).checkpoint(secondCheckpointState);
+        }
+
+        @Test
+        void runAllProcessorsAndPublishToSinks_waits_for_the_oldest_batch_when_the_limit_is_reached() throws Exception {
+            final CheckpointState secondCheckpointState = mock(CheckpointState.class);
+            final Future<Void> firstSinkFuture = mock(Future.class);
+            final Future<Void> secondSinkFuture = mock(Future.class);
+            when(pipeline.publishToSinks(anyCollection()))
+                    .thenReturn(List.of(firstSinkFuture))
+                    .thenReturn(List.of(secondSinkFuture));
+
+            final PipelineRunnerImpl pipelineRunner = createObjectUnderTest(2);
+            readBatch(recordsList, checkpointState);
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            readBatch(recordsList, secondCheckpointState);
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            verify(firstSinkFuture).get();
+            verify(buffer).checkpoint(checkpointState);
+            verify(secondSinkFuture, never()).get();
+            verify(buffer, never()).checkpoint(secondCheckpointState);
+            assertThat(pipelineRunner.getInFlightBatchCount(), equalTo(1));
+        }
+
+        @Test
+        void runAllProcessorsAndPublishToSinks_completes_all_batches_when_the_buffer_is_empty() throws Exception {
+            final CheckpointState emptyCheckpointState = mock(CheckpointState.class);
+            final Future<Void> firstSinkFuture = mock(Future.class);
+            when(pipeline.publishToSinks(anyCollection()))
+                    .thenReturn(List.of(firstSinkFuture))
+                    .thenReturn(Collections.emptyList());
+
+            final PipelineRunnerImpl pipelineRunner = createObjectUnderTest(4);
+            readBatch(recordsList, checkpointState);
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+            readBatch(new ArrayList<>(), emptyCheckpointState);
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            verify(firstSinkFuture).get();
+            final InOrder inOrder = inOrder(buffer);
+            inOrder.verify(buffer).checkpoint(checkpointState);
+            inOrder.verify(buffer).checkpoint(emptyCheckpointState);
+            assertThat(pipelineRunner.getInFlightBatchCount(), equalTo(0));
+        }
+
+        @Test
+        void runAllProcessorsAndPublishToSinks_with_a_limit_of_one_checkpoints_each_batch_synchronously() {
+            final Future<Void> sinkFuture = mock(Future.class);
+            when(pipeline.publishToSinks(anyCollection())).thenReturn(List.of(sinkFuture));
+            readBatch(recordsList, checkpointState);
+
+            final PipelineRunnerImpl pipelineRunner = createObjectUnderTest(1);
+            pipelineRunner.runAllProcessorsAndPublishToSinks();
+
+            verify(buffer).checkpoint(checkpointState);
+            assertThat(pipelineRunner.getInFlightBatchCount(), equalTo(0));
+        }
+    }
+}
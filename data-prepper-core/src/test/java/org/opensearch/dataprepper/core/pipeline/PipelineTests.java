@@ -137,6 +137,26 @@ class PipelineTests {
         verify(buffer).shutdown();
     }
 
+    @Test
+    void testPipelineMaxInFlightSinkBatchesDefaultsToOne() {
+        final DataFlowComponent<Sink> sinkDataFlowComponent = mock(DataFlowComponent.class);
+        final Pipeline pipeline = new Pipeline(TEST_PIPELINE_NAME, new TestSource(), new BlockingBuffer(TEST_PIPELINE_NAME),
+                Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router, eventFactory,
+                acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+        assertThat(pipeline.getMaxInFlightSinkBatches(), equalTo(1));
+    }
+
+    @Test
+    void testPipelineMaxInFlightSinkBatchesIsConfigurable() {
+        final DataFlowComponent<Sink> sinkDataFlowComponent = mock(DataFlowComponent.class);
+        final Pipeline pipeline = new Pipeline(TEST_PIPELINE_NAME, new TestSource(), new BlockingBuffer(TEST_PIPELINE_NAME),
+                Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router, eventFactory,
+                acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, 3);
+        assertThat(pipeline.getMaxInFlightSinkBatches(), equalTo(3));
+    }
+
     @Test
     void testPipelineStateWithPrepper() {
         final Source<Record<String>> testSource = new TestSource();
@@ -94,6 +94,13 @@ public class ProcessWorkerTest {
         verify(processor, atLeastOnce()).prepareForShutdown();
     }
 
+    @Test
+    void testProcessWorkerShutdownProcessCompletesInFlightBatches() {
+        final ProcessWorker processWorker = createObjectUnderTest();
+        processWorker.run();
+        verify(pipelineRunner).completeInFlightBatches();
+    }
+
     @Test
     void testProcessWorkerShutdownProcessWaitsUntilBufferEmpty() {
         processors = List.of(processor);
@@ -40,6 +40,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasKey;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -123,6 +126,10 @@ class RouteEventEvaluatorTest {
                     .peek(r -> when(r.getName()).thenReturn(UUID.randomUUID().toString()))
                     .collect(Collectors.toList());
 
+            when(evaluator.evaluateConditionalsBatchWithFallback(anyList(), anyList())).thenCallRealMethod();
+            when(evaluator.evaluateConditionalsBatch(anyList(), anyCollection())).thenCallRealMethod();
+            when(evaluator.evaluateConditionalBatch(anyString(), anyCollection())).thenCallRealMethod();
+
             allRouteNames = routes
                     .stream()
                     .map(ConditionalRoute::getName)
@@ -21,9 +21,7 @@ import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManag
 import org.opensearch.dataprepper.model.event.DefaultEventHandle;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
-import org.opensearch.dataprepper.model.event.EventBuilder;
 import org.opensearch.dataprepper.model.event.EventFactory;
-import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.record.Record;
 
@@ -50,6 +48,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -65,8 +64,6 @@ public class RouterCopyRecordStrategyTests {
     private AcknowledgementSet acknowledgementSet1;
     @Mock
     private EventFactory eventFactory;
-    @Mock
-    private EventBuilder eventBuilder;
 
     private JacksonEvent event;
 
@@ -252,11 +249,6 @@ public class RouterCopyRecordStrategyTests {
             }).when(acknowledgementSet1).add(any(EventHandle.class));
         } catch (Exception e){}
 
-        eventBuilder = mock(EventBuilder.class);
-        when(eventBuilder.withEventMetadata(any(EventMetadata.class))).thenReturn(eventBuilder);
-        when(eventBuilder.withData(any(Map.class))).thenReturn(eventBuilder);
-        when(eventBuilder.build()).thenReturn(JacksonEvent.fromEvent(event));
-        when(eventFactory.eventBuilder(EventBuilder.class)).thenReturn(eventBuilder);
         Record firstRecord = recordsIn.iterator().next();
         DefaultEventHandle firstHandle = (DefaultEventHandle)((Event)firstRecord.getData()).getEventHandle();
         Record recordOut = getRecordStrategy.getRecord(firstRecord);
@@ -269,6 +261,32 @@ public class RouterCopyRecordStrategyTests {
         assertTrue(getRecordStrategy.getReferencedRecords().contains(recordOut));
         assertThat(newHandle, not(equalTo(null)));
         assertFalse(handleRefCount.containsKey(newHandle));
+        assertThat(((Event) recordOut.getData()).toMap(), equalTo(((Event) firstRecord.getData()).toMap()));
+        verifyNoInteractions(eventFactory);
+    }
+
+    @Test
+    void test_copied_records_are_independent_of_the_original() {
+        Collection<DataFlowComponent<PipelineConnector>> dataFlowComponents = new ArrayList<>();
+        when(pipelineDataFlowComponent.getComponent()).thenReturn(new PipelineConnector());
+        for (int i = 0; i < 2; i++) {
+            dataFlowComponents.add(pipelineDataFlowComponent);
+        }
+
+        final RouterCopyRecordStrategy getRecordStrategy = createObjectUnderTest(dataFlowComponents);
+        final Record<Event> firstRecord = new Record<>(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("nested", Map.of("key", "value")))
+                .build());
+        getRecordStrategy.getRecord(firstRecord);
+        final Record<Event> recordOut = getRecordStrategy.getRecord(firstRecord);
+
+        assertThat(recordOut, not(sameInstance(firstRecord)));
+        recordOut.getData().put("nested/key", "changed");
+        firstRecord.getData().put("nested/other", "added");
+
+        assertThat(firstRecord.getData().toMap(), equalTo(Map.of("nested", Map.of("key", "value", "other", "added"))));
+        assertThat(recordOut.getData().toMap(), equalTo(Map.of("nested", Map.of("key", "changed"))));
     }
 
     @Test
@@ -290,11 +308,6 @@ public class RouterCopyRecordStrategyTests {
             }).when(acknowledgementSet1).add(any(EventHandle.class));
         } catch (Exception e){}
 
-        eventBuilder = mock(EventBuilder.class);
-        when(eventBuilder.withEventMetadata(any(EventMetadata.class))).thenReturn(eventBuilder);
-        when(eventBuilder.withData(any(Map.class))).thenReturn(eventBuilder);
-        when(eventBuilder.build()).thenReturn(JacksonEvent.fromEvent(event));
-        when(eventFactory.eventBuilder(EventBuilder.class)).thenReturn(eventBuilder);
         Collection<Record> recordsOut = getRecordStrategy.getAllRecords(recordsIn);
         assertThat(recordsOut.size(), equalTo(recordsIn.size()));
 
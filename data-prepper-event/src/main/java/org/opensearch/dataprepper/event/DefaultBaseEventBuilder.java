@@ -10,6 +10,7 @@ import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.EventSchema;
 
 import java.time.Instant;
 import java.util.HashMap;
@@ -22,6 +23,7 @@ abstract class DefaultBaseEventBuilder<T extends Event> implements BaseEventBuil
     private Instant timeReceived;
     private EventHandle eventHandle;
     private Map<String, Object> attributes;
+    private EventSchema eventSchema;
 
     public DefaultBaseEventBuilder() {
         withTimeReceived(Instant.now());
@@ -56,6 +58,10 @@ abstract class DefaultBaseEventBuilder<T extends Event> implements BaseEventBuil
         return this.attributes;
     }
 
+    public EventSchema getEventSchema() {
+        return this.eventSchema;
+    }
+
     public BaseEventBuilder<T> withEventType(final String eventType) {
         this.eventType = eventType;
         return this;
@@ -83,6 +89,11 @@ abstract class DefaultBaseEventBuilder<T extends Event> implements BaseEventBuil
         return this;
     }
 
+    public BaseEventBuilder<T> withEventSchema(final EventSchema eventSchema) {
+        this.eventSchema = eventSchema;
+        return this;
+    }
+
     public BaseEventBuilder<T> withEventHandle(final EventHandle eventHandle) {
         this.eventHandle = eventHandle;
         return this;
@@ -32,6 +32,7 @@ class DefaultEventBuilderFactory extends EventBuilderFactory {
             return (Event) JacksonEvent.builder()
                     .withEventMetadata(getEventMetadata())
                     .withData(getData())
+                    .withEventSchema(getEventSchema())
                     .build();
         }
     }
@@ -36,6 +36,7 @@ class DefaultLogEventBuilderFactory extends DefaultEventBuilderFactory {
             return (Log) JacksonLog.builder()
                     .withData(getData())
                     .withEventType(getEventType())
+                    .withEventSchema(getEventSchema())
                     .build();
         }
     }
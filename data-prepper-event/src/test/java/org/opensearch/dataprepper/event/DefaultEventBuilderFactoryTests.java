@@ -10,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.model.event.EventBuilder;
 import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.EventSchema;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 
 import java.util.Collections;
@@ -79,4 +80,19 @@ class DefaultEventBuilderFactoryTests {
         assertThat(eventMetadata.getAttributes(), equalTo(attributes));
         assertThat(event.toMap(), equalTo(data));
     }
+
+    @Test
+    void build_with_eventSchema_adds_keys_to_the_schema() {
+        DefaultBaseEventBuilder baseEventBuilder = defaultEventBuilderFactory.createNew();
+        final EventSchema eventSchema = new EventSchema();
+
+        Map<String, Object> data = Map.of(RandomStringUtils.randomAlphabetic(5), RandomStringUtils.randomAlphabetic(10),
+                RandomStringUtils.randomAlphabetic(6), Map.of("nested", 1));
+        EventBuilder eventBuilder = (EventBuilder) baseEventBuilder.withData(data).withEventSchema(eventSchema);
+
+        JacksonEvent event = (JacksonEvent) eventBuilder.build();
+        assertThat(baseEventBuilder.getEventSchema(), equalTo(eventSchema));
+        assertThat(eventSchema.size(), equalTo(data.size()));
+        assertThat(event.toMap(), equalTo(data));
+    }
 }
@@ -9,6 +9,7 @@
 
 package org.opensearch.dataprepper.expression;
 
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
@@ -26,6 +27,8 @@ import org.springframework.context.annotation.AnnotationConfigApplicationContext
 import java.util.Map;
 
 public class ConditionalExpressionEvaluationMeasure {
+    private static final String COMPOUND_ROUTING_EXPRESSION =
+            "/status >= 500 and /log =~ \"ERROR.*\" and not (/key == \"a\")";
 
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
@@ -45,9 +48,33 @@ public class ConditionalExpressionEvaluationMeasure {
         return evaluator.evaluate("/key == \"a\"", benchmarkState.event);
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public Object evaluate_compound_routing_expression(final BenchmarkState benchmarkState) {
+        final GenericExpressionEvaluator evaluator = benchmarkState.evaluator;
+        return evaluator.evaluate(COMPOUND_ROUTING_EXPRESSION, benchmarkState.event);
+    }
+
+    /**
+     * Baseline which compiles the parse tree for every evaluation. This approximates the cost of walking the
+     * parse tree per event, which is what evaluation did before compiled expressions were cached.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public Object evaluate_compound_routing_expression_compiling_per_event(final BenchmarkState benchmarkState) {
+        final ParseTree parseTree = benchmarkState.parser.parse(COMPOUND_ROUTING_EXPRESSION);
+        return benchmarkState.compiler.compile(parseTree).evaluate(benchmarkState.event);
+    }
+
     @State(Scope.Benchmark)
     public static class BenchmarkState {
         private GenericExpressionEvaluator evaluator;
+        private Parser<ParseTree> parser;
+        private ParseTreeCompiler compiler;
         private Event event;
 
         @Setup
@@ -57,10 +84,15 @@ public class ConditionalExpressionEvaluationMeasure {
             applicationContext.refresh();
 
             evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+            parser = applicationContext.getBean(MultiThreadParser.class);
+            compiler = applicationContext.getBean(ParseTreeCompiler.class);
 
             final EventFactory eventFactory = TestEventFactory.getTestEventFactory();
 
-            final Map<String, Object> eventData = Map.of("key", "this is a test string with more than 10 characters");
+            final Map<String, Object> eventData = Map.of(
+                    "key", "this is a test string with more than 10 characters",
+                    "status", 503,
+                    "log", "ERROR upstream connect error");
 
             event = eventFactory.eventBuilder(LogEventBuilder.class)
                     .withData(eventData)
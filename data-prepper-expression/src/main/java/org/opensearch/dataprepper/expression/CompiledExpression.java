@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * A statement which has been compiled once from its {@link org.antlr.v4.runtime.tree.ParseTree} into a tree of
+ * reusable evaluation nodes. Implementations must be stateless so that a single instance can be shared across threads.
+ *
+ * @since 2.15
+ */
+@FunctionalInterface
+interface CompiledExpression {
+    /**
+     * Evaluates this compiled expression against an event.
+     *
+     * @param event event used to resolve external references in the statement
+     * @return result of evaluation
+     */
+    Object evaluate(final Event event);
+
+    /**
+     * Evaluates this compiled expression against an event, reusing results of shared sub-expressions which were
+     * already evaluated for the same event.
+     *
+     * @param event event used to resolve external references in the statement
+     * @param subExpressionCache results of shared sub-expressions for this event
+     * @return result of evaluation
+     */
+    default Object evaluate(final Event event, final SubExpressionCache subExpressionCache) {
+        return evaluate(event);
+    }
+}
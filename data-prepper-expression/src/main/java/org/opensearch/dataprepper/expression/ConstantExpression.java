@@ -0,0 +1,24 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * A {@link CompiledExpression} for a literal which was coerced once at compile time.
+ */
+class ConstantExpression implements CompiledExpression {
+    private final Object value;
+
+    ConstantExpression(final Object value) {
+        this.value = value;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        return value;
+    }
+}
@@ -13,4 +13,18 @@ package org.opensearch.dataprepper.expression;
  */
 interface Evaluator<ParsedData, Context> {
     Object evaluate(final ParsedData parsedData, final Context context) throws ClassCastException;
+
+    /**
+     * @since 2.15
+     * Evaluates parsed data, sharing the results of common sub-expressions through a {@link SubExpressionCache}
+     * which is scoped to a single context.
+     * @param parsedData parsed data
+     * @param context context
+     * @param subExpressionCache results of shared sub-expressions already evaluated for the context
+     * @return result of evaluation
+     */
+    default Object evaluate(final ParsedData parsedData, final Context context, final SubExpressionCache subExpressionCache)
+            throws ClassCastException {
+        return evaluate(parsedData, context);
+    }
 }
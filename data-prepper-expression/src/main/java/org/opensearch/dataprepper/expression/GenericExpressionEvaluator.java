@@ -12,6 +12,9 @@ import org.opensearch.dataprepper.model.event.JacksonEvent;
 import javax.inject.Inject;
 import javax.inject.Named;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -36,16 +39,72 @@ class GenericExpressionEvaluator implements ExpressionEvaluator {
      */
     @Override
     public Object evaluate(final String statement, final Event context) {
-        ParseTree parseTree = null;
+        final ParseTree parseTree = parse(statement);
         try {
-            parseTree = parser.parse(statement);
+            return evaluator.evaluate(parseTree, context);
         } catch (final Exception exception) {
-            throw new ExpressionParsingException("Unable to parse statement \"" + statement + "\"", exception);
+            throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The statement is parsed once for the whole collection.
+     */
+    @Override
+    public BitSet evaluateConditionalBatch(final String statement, final Collection<Event> contexts) {
+        return evaluateConditionalsBatch(Collections.singletonList(statement), contexts).get(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Each statement is parsed once for the whole collection. Json pointers and functions which appear in more than
+     * one statement are evaluated once per event.
+     */
+    @Override
+    public List<BitSet> evaluateConditionalsBatch(final List<String> statements, final Collection<Event> contexts) {
+        final List<ParseTree> parseTrees = new ArrayList<>(statements.size());
+        final List<BitSet> results = new ArrayList<>(statements.size());
+        for (final String statement : statements) {
+            parseTrees.add(parse(statement));
+            results.add(new BitSet(contexts.size()));
+        }
+
+        final SubExpressionCache subExpressionCache = new SubExpressionCache();
+        int eventIndex = 0;
+        for (final Event context : contexts) {
+            for (int i = 0; i < parseTrees.size(); i++) {
+                if (evaluateConditional(parseTrees.get(i), context, subExpressionCache)) {
+                    results.get(i).set(eventIndex);
+                }
+            }
+            subExpressionCache.clear();
+            eventIndex++;
         }
+        return results;
+    }
+
+    private boolean evaluateConditional(final ParseTree parseTree, final Event context, final SubExpressionCache subExpressionCache) {
+        final Object result;
         try {
-            return evaluator.evaluate(parseTree, context);
+            result = evaluator.evaluate(parseTree, context, subExpressionCache);
         } catch (final Exception exception) {
-            throw new ExpressionEvaluationException("Unable to evaluate statement \"" + statement + "\"", exception);
+            // consistent with ExpressionEvaluator#evaluateConditional which treats evaluation failures as false
+            return false;
+        }
+        if (result instanceof Boolean) {
+            return (Boolean) result;
+        }
+        throw new ClassCastException("Unexpected expression return value of " + result);
+    }
+
+    private ParseTree parse(final String statement) {
+        try {
+            return parser.parse(statement);
+        } catch (final Exception exception) {
+            throw new ExpressionParsingException("Unable to parse statement \"" + statement + "\"", exception);
         }
     }
 
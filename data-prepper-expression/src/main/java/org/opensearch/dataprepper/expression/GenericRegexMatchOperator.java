@@ -9,19 +9,28 @@ import org.antlr.v4.runtime.RuleContext;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
 import java.util.function.BiPredicate;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+/**
+ * Matches a String against a regex. The right operand may be a String, which is compiled through the
+ * {@link RegexPatternCache}, or a {@link Pattern} which was compiled from a literal by
+ * {@link #compileConstantOperand(int, Object)}.
+ */
 class GenericRegexMatchOperator implements Operator<Boolean> {
     private final int symbol;
     private final String displayName;
     private final BiPredicate<Object, Object> operation;
+    private final RegexPatternCache regexPatternCache;
 
-    public GenericRegexMatchOperator(final int symbol, BiPredicate<Object, Object> operation) {
+    public GenericRegexMatchOperator(final int symbol, final BiPredicate<Object, Object> operation,
+                                     final RegexPatternCache regexPatternCache) {
         this.symbol = symbol;
         displayName = DataPrepperExpressionParser.VOCABULARY.getDisplayName(symbol);
         this.operation = operation;
+        this.regexPatternCache = regexPatternCache;
     }
 
     @Override
@@ -39,15 +48,29 @@ class GenericRegexMatchOperator implements Operator<Boolean> {
         return symbol;
     }
 
+    @Override
+    public Object compileConstantOperand(final int index, final Object operand) {
+        if (index != 1 || !(operand instanceof String)) {
+            return operand;
+        }
+        try {
+            return Pattern.compile((String) operand);
+        } catch (final PatternSyntaxException e) {
+            // leave the literal as-is so that evaluation reports the invalid pattern as it always has
+            return operand;
+        }
+    }
+
     @Override
     public Boolean evaluate(final Object ... args) {
         checkArgument(args.length == 2, displayName + " requires operands length needs to be 2.");
         if(args[0] == null)
             return false;
         checkArgument(args[0] instanceof String, displayName + " requires left operand to be String.");
-        checkArgument(args[1] instanceof String, displayName + " requires right operand to be String.");
+        checkArgument(args[1] instanceof String || args[1] instanceof Pattern, displayName + " requires right operand to be String.");
         try {
-            return operation.test(args[0], args[1]);
+            final Pattern pattern = args[1] instanceof Pattern ? (Pattern) args[1] : regexPatternCache.getPattern((String) args[1]);
+            return operation.test(args[0], pattern);
         } catch (final PatternSyntaxException e) {
             throw new IllegalArgumentException(e);
         }
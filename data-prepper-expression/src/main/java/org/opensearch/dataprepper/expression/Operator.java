@@ -18,6 +18,19 @@ interface Operator<T> {
 
     int getSymbol();
 
+    /**
+     * @since 2.15
+     * Gives the operator a chance to convert an operand which is known when the expression is compiled, such as a
+     * literal, into a form which is cheaper to evaluate. The returned value is passed to {@link #evaluate(Object...)}
+     * in place of the original operand.
+     * @param index position of the operand
+     * @param operand the constant operand
+     * @return the operand to use during evaluation
+     */
+    default Object compileConstantOperand(final int index, final Object operand) {
+        return operand;
+    }
+
     /**
      * @since 1.3
      * Placeholder interface for implementing Data-Prepper supported binary/unary operations on operands that
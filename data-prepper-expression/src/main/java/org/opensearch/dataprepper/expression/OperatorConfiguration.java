@@ -17,10 +17,11 @@ import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 @Named
 class OperatorConfiguration {
-    public final BiPredicate<Object, Object> regexEquals = (x, y) -> ((String) x).matches((String) y);
+    public final BiPredicate<Object, Object> regexEquals = (x, y) -> ((Pattern) y).matcher((String) x).matches();
     public final BiPredicate<Object, Object> equals = Objects::equals;
     public final BiPredicate<Object, Object> inSet = (x, y) -> ((Set<?>) y).contains(x);
     public final BiPredicate<Object, Object> typeOf = (x, y) -> DataType.isSameType(x, (String)y);
@@ -202,13 +203,13 @@ class OperatorConfiguration {
     }
 
     @Bean
-    public GenericRegexMatchOperator regexEqualOperator() {
-        return new GenericRegexMatchOperator(DataPrepperExpressionParser.MATCH_REGEX_PATTERN, regexEquals);
+    public GenericRegexMatchOperator regexEqualOperator(final RegexPatternCache regexPatternCache) {
+        return new GenericRegexMatchOperator(DataPrepperExpressionParser.MATCH_REGEX_PATTERN, regexEquals, regexPatternCache);
     }
 
     @Bean
-    public GenericRegexMatchOperator regexNotEqualOperator() {
-        return new GenericRegexMatchOperator(DataPrepperExpressionParser.NOT_MATCH_REGEX_PATTERN, regexEquals.negate());
+    public GenericRegexMatchOperator regexNotEqualOperator(final RegexPatternCache regexPatternCache) {
+        return new GenericRegexMatchOperator(DataPrepperExpressionParser.NOT_MATCH_REGEX_PATTERN, regexEquals.negate(), regexPatternCache);
     }
 
     @Bean
@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * A {@link CompiledExpression} which applies an {@link Operator} to the results of its operand expressions.
+ * Operands are always evaluated from left to right before the operator is applied.
+ */
+class OperatorExpression implements CompiledExpression {
+    private final Operator<?> operator;
+    private final CompiledExpression[] operands;
+    private final String partialStatement;
+
+    OperatorExpression(final Operator<?> operator, final CompiledExpression[] operands, final String partialStatement) {
+        this.operator = operator;
+        this.operands = operands;
+        this.partialStatement = partialStatement;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        final Object[] args = new Object[operands.length];
+        for (int i = 0; i < operands.length; i++) {
+            args[i] = operands[i].evaluate(event);
+        }
+        return apply(args);
+    }
+
+    @Override
+    public Object evaluate(final Event event, final SubExpressionCache subExpressionCache) {
+        final Object[] args = new Object[operands.length];
+        for (int i = 0; i < operands.length; i++) {
+            args[i] = operands[i].evaluate(event, subExpressionCache);
+        }
+        return apply(args);
+    }
+
+    /**
+     * Evaluates this expression if every operand is a {@link ConstantExpression}.
+     *
+     * @return the folded {@link ConstantExpression}, or this expression when it cannot be folded
+     */
+    CompiledExpression foldConstants() {
+        final Object[] args = new Object[operands.length];
+        for (int i = 0; i < operands.length; i++) {
+            if (!(operands[i] instanceof ConstantExpression)) {
+                return this;
+            }
+            args[i] = operands[i].evaluate(null);
+        }
+        try {
+            return new ConstantExpression(apply(args));
+        } catch (final ExpressionEvaluationException e) {
+            return this;
+        }
+    }
+
+    private Object apply(final Object[] args) {
+        try {
+            return operator.evaluate(args);
+        } catch (final Exception e) {
+            if (e instanceof IllegalArgumentException && operator.isBooleanOperator()) {
+                return false;
+            }
+            throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: " + partialStatement, e);
+        }
+    }
+}
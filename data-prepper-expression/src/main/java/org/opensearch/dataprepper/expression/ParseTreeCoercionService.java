@@ -5,6 +5,8 @@
 
 package org.opensearch.dataprepper.expression;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.antlr.v4.runtime.tree.TerminalNode;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 import org.opensearch.dataprepper.model.event.Event;
@@ -28,6 +30,7 @@ class ParseTreeCoercionService {
     private static final Pattern QUOTE_PATTERN = Pattern.compile("^\"{1,3}|\"{1,3}$");
     private static final Pattern ARGUMENT_SPLITTER = Pattern.compile("(?<!\\\\),");
     private static final int INITIAL_ARG_LIST_SIZE = 8;
+    static final int MAX_SHARED_SUB_EXPRESSIONS = 10_000;
     private static final String INVALID_FUNCTION_FORMAT_OPEN = "Invalid function format: missing opening parenthesis";
     private static final String INVALID_FUNCTION_FORMAT_CLOSE = "Invalid function format: missing closing parenthesis";
     private static final String INVALID_STRING_ARG = "Invalid string argument: check if any argument is missing a closing double quote or contains comma that's not escaped with `\\`.";
@@ -36,6 +39,9 @@ class ParseTreeCoercionService {
     private final ExpressionFunctionProvider expressionFunctionProvider;
     private final Function<Object, Object> convertLiteralType;
     private final ConcurrentMap<String, FunctionMetadata> cachedFunctionStrings = new ConcurrentHashMap<>(16, 0.75f);
+    private final Cache<String, CompiledExpression> sharedSubExpressions = Caffeine.newBuilder()
+            .maximumSize(MAX_SHARED_SUB_EXPRESSIONS)
+            .build();
     private final EventKeyFactory eventKeyFactory;
 
     public Object coercePrimaryTerminalNode(final TerminalNode node, final Event event) {
@@ -77,6 +83,47 @@ class ParseTreeCoercionService {
         }
     }
 
+    /**
+     * Compiles a primary terminal node into a {@link CompiledExpression}. Literals are coerced once, json pointers
+     * are resolved into an {@link EventKey} and function arguments are parsed once. Identical json pointers and
+     * function calls compile to the same {@link SharedSubExpression}, even across statements. The shared
+     * sub-expressions are held in a bounded cache, so a sub-expression which was evicted is compiled again and is
+     * no longer shared with the statements compiled before its eviction.
+     *
+     * @param node terminal node to compile
+     * @return compiled expression producing the same value as {@link #coercePrimaryTerminalNode(TerminalNode, Event)}
+     */
+    public CompiledExpression compilePrimaryTerminalNode(final TerminalNode node) {
+        Objects.requireNonNull(node, "TerminalNode cannot be null");
+        final int nodeType = node.getSymbol().getType();
+        final String nodeStringValue = node.getText();
+        switch (nodeType) {
+            case DataPrepperExpressionParser.Function:
+            case DataPrepperExpressionParser.EscapedJsonPointer:
+            case DataPrepperExpressionParser.JsonPointer:
+                return sharedSubExpressions.get(nodeStringValue,
+                        text -> new SharedSubExpression(compileEventReference(nodeType, text)));
+            default:
+                return new ConstantExpression(coercePrimaryTerminalNode(node, null));
+        }
+    }
+
+    private CompiledExpression compileEventReference(final int nodeType, final String nodeStringValue) {
+        if (nodeType == DataPrepperExpressionParser.Function) {
+            final FunctionMetadata functionMetadata = cachedFunctionStrings.computeIfAbsent(nodeStringValue, this::parseFunctionMetadata);
+            return event -> expressionFunctionProvider.provideFunction(functionMetadata.functionName, functionMetadata.argList, event, convertLiteralType);
+        }
+        final String jsonPointer = nodeType == DataPrepperExpressionParser.EscapedJsonPointer ?
+                nodeStringValue.substring(1, nodeStringValue.length() - 1) : nodeStringValue;
+        final EventKey eventKey = eventKeyFactory.createEventKey(jsonPointer);
+        return event -> resolveEventKeyValue(eventKey, event);
+    }
+
+    long getSharedSubExpressionsSize() {
+        sharedSubExpressions.cleanUp();
+        return sharedSubExpressions.estimatedSize();
+    }
+
     @Inject
     public ParseTreeCoercionService(
             final Map<Class<? extends Serializable>, Function<Object, Object>> literalTypeConversions,
@@ -153,7 +200,10 @@ class ParseTreeCoercionService {
     }
 
     private Object resolveJsonPointerValue(final String jsonPointer, final Event event) {
-        EventKey eventKey = this.eventKeyFactory.createEventKey(jsonPointer);
+        return resolveEventKeyValue(this.eventKeyFactory.createEventKey(jsonPointer), event);
+    }
+
+    private Object resolveEventKeyValue(final EventKey eventKey, final Event event) {
         final Object value = event.get(eventKey, Object.class);
         return value != null ? convertLiteralType.apply(value) : null;
     }
@@ -5,7 +5,6 @@
 
 package org.opensearch.dataprepper.expression;
 
-import org.opensearch.dataprepper.model.event.Event;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Token;
 import org.antlr.v4.runtime.tree.ErrorNode;
@@ -14,46 +13,46 @@ import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionBaseList
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionListener;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.Stack;
 
 /**
- * @since 1.3
- * This listener implements {@link DataPrepperExpressionListener} to provide callbacks to handle evaluation of
- * {@link org.antlr.v4.runtime.tree.ParseTree} representation of an expression while {@link org.antlr.v4.runtime.tree.ParseTreeWalker}
- * traverses through the {@link org.antlr.v4.runtime.tree.ParseTree}.
+ * @since 2.15
+ * This listener implements {@link DataPrepperExpressionListener} to compile a
+ * {@link org.antlr.v4.runtime.tree.ParseTree} representation of an expression into a {@link CompiledExpression}
+ * while {@link org.antlr.v4.runtime.tree.ParseTreeWalker} traverses through the {@link org.antlr.v4.runtime.tree.ParseTree}.
+ * Operators are matched to their operands in the same order as they would be applied during evaluation, so the
+ * resulting {@link CompiledExpression} can be evaluated against any number of events without walking the tree again.
  *
  * Use case:
  * ParseTreeWalker walker = new ParseTreeWalker();
- * ParseTreeEvaluatorListener listener = new ParseTreeEvaluatorListener(...);
+ * ParseTreeCompilerListener listener = new ParseTreeCompilerListener(...);
  * walker.walk(listener, ...);
- * final Object result = listener.getResult();
+ * final CompiledExpression result = listener.getResult();
  */
-class ParseTreeEvaluatorListener extends DataPrepperExpressionBaseListener {
+class ParseTreeCompilerListener extends DataPrepperExpressionBaseListener {
 
     private final OperatorProvider operatorProvider;
     private final ParseTreeCoercionService coercionService;
     private final Stack<Integer> operatorSymbolStack;
-    private final Stack<Object> operandStack;
-    private final Event event;
+    private final Stack<CompiledExpression> operandStack;
     private boolean listStart;
     private Set<Object> setMembers;
 
-    public ParseTreeEvaluatorListener(final OperatorProvider operatorProvider,
-                                      final ParseTreeCoercionService coercionService,
-                                      final Event event) {
+    public ParseTreeCompilerListener(final OperatorProvider operatorProvider,
+                                     final ParseTreeCoercionService coercionService) {
         this.coercionService = coercionService;
         this.operatorProvider = operatorProvider;
-        this.event = event;
         this.listStart = false;
         operatorSymbolStack = new Stack<>();
         operandStack = new Stack<>();
     }
 
-    public Object getResult() {
+    public CompiledExpression getResult() {
         if (operandStack.size() != 1) {
-            throw new IllegalStateException("The ParseTreeEvaluatorListener has not been walked through exactly once by " +
+            throw new IllegalStateException("The ParseTreeCompilerListener has not been walked through exactly once by " +
                     "a ParseTreeWalker.");
         }
         return operandStack.peek();
@@ -91,19 +90,17 @@ class ParseTreeEvaluatorListener extends DataPrepperExpressionBaseListener {
         } else if (nodeType == DataPrepperExpressionParser.RBRACE) {
             listStart = false;
             validateSetMembers(setMembers);
-            operandStack.push(setMembers);
+            operandStack.push(new ConstantExpression(Collections.unmodifiableSet(setMembers)));
         } else if (nodeType == DataPrepperExpressionParser.RPAREN) {
             // pop LPAREN at operatorSymbolStack top
             operatorSymbolStack.pop();
-        } else {
-            final Object arg = coercionService.coercePrimaryTerminalNode(node, event);
-            if (listStart) {
-                if (!(arg instanceof Integer) || (((int)arg) != DataPrepperExpressionParser.COMMA && ((int)arg) != DataPrepperExpressionParser.SET_DELIMITER)) {
-                    setMembers.add(arg);
-                }
-            } else {
-                operandStack.push(arg);
+        } else if (listStart) {
+            if (nodeType != DataPrepperExpressionParser.COMMA && nodeType != DataPrepperExpressionParser.SET_DELIMITER) {
+                // set members are restricted to literals by the grammar, so they never depend on the event
+                setMembers.add(coercionService.compilePrimaryTerminalNode(node).evaluate(null));
             }
+        } else {
+            operandStack.push(coercionService.compilePrimaryTerminalNode(node));
         }
     }
 
@@ -120,29 +117,29 @@ class ParseTreeEvaluatorListener extends DataPrepperExpressionBaseListener {
                 final Operator<?> op = operatorProvider.getOperator(operatorSymbol);
                 if (op.shouldEvaluate(ctx)) {
                     operatorSymbolStack.pop();
-                    try {
-                        performSingleOperation(op, ctx);
-                    } catch (final Exception e) {
-                        if (e instanceof IllegalArgumentException && op.isBooleanOperator()) {
-                            operandStack.push(false);
-                        } else {
-                            throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: "
-                                + getPartialStatementFromContext(ctx), e);
-                        }
-                    }
+                    compileSingleOperation(op, ctx);
                 }
             }
         }
     }
 
-    private void performSingleOperation(final Operator<?> operator, final ParserRuleContext ctx) {
+    private void compileSingleOperation(final Operator<?> operator, final ParserRuleContext ctx) {
         final int numOfArgs = operator.getNumberOfOperands(ctx);
-        final Object[] args = new Object[numOfArgs];
+        final CompiledExpression[] operands = new CompiledExpression[numOfArgs];
         for (int i = numOfArgs - 1; i >= 0; i--) {
-            args[i] = operandStack.pop();
+            operands[i] = operandStack.pop();
+        }
+        for (int i = 0; i < numOfArgs; i++) {
+            if (operands[i] instanceof ConstantExpression) {
+                final Object constant = operands[i].evaluate(null);
+                final Object compiledConstant = operator.compileConstantOperand(i, constant);
+                if (compiledConstant != constant) {
+                    operands[i] = new ConstantExpression(compiledConstant);
+                }
+            }
         }
-        final Object result = operator.evaluate(args);
-        operandStack.push(result);
+        final OperatorExpression operatorExpression = new OperatorExpression(operator, operands, getPartialStatementFromContext(ctx));
+        operandStack.push(operatorExpression.foldConstants());
     }
 
     private String getPartialStatementFromContext(final ParserRuleContext ctx) {
@@ -5,40 +5,77 @@
 
 package org.opensearch.dataprepper.expression;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.misc.Interval;
 import org.opensearch.dataprepper.model.event.Event;
 import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import javax.inject.Named;
 
+/**
+ * Evaluates a {@link ParseTree} by compiling it once into a {@link CompiledExpression} and reusing the compiled
+ * expression for every subsequent event. Each thread parses a statement into a parse tree of its own, so compiled
+ * expressions are cached by the statement the parse tree was parsed from.
+ */
 @Named
 class ParseTreeEvaluator implements Evaluator<ParseTree, Event> {
     private static final Logger LOG = LoggerFactory.getLogger(ParseTreeEvaluator.class);
+    static final int DEFAULT_MAXIMUM_SIZE = 10_000;
 
-    private final OperatorProvider operatorProvider;
-    private final ParseTreeWalker walker;
-    private final ParseTreeCoercionService coercionService;
+    private final ParseTreeCompiler compiler;
+    private final Cache<String, CompiledExpression> compiledExpressions;
 
     @Inject
-    public ParseTreeEvaluator(final OperatorProvider operatorProvider, final ParseTreeWalker walker,
-                              final ParseTreeCoercionService coercionService) {
-        this.operatorProvider = operatorProvider;
-        this.walker = walker;
-        this.coercionService = coercionService;
+    public ParseTreeEvaluator(final ParseTreeCompiler compiler) {
+        this(compiler, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    ParseTreeEvaluator(final ParseTreeCompiler compiler, final int maximumSize) {
+        this.compiler = compiler;
+        compiledExpressions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
     }
 
     @Override
     public Object evaluate(ParseTree parseTree, Event event) {
         try {
-            final ParseTreeEvaluatorListener listener = new ParseTreeEvaluatorListener(operatorProvider, coercionService, event);
-            walker.walk(listener, parseTree);
-            return listener.getResult();
+            return getCompiledExpression(parseTree).evaluate(event);
+        } catch (final Exception e) {
+            LOG.error(e.getMessage());
+            throw new ExpressionEvaluationException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object evaluate(final ParseTree parseTree, final Event event, final SubExpressionCache subExpressionCache) {
+        try {
+            return getCompiledExpression(parseTree).evaluate(event, subExpressionCache);
         } catch (final Exception e) {
             LOG.error(e.getMessage());
             throw new ExpressionEvaluationException(e.getMessage(), e);
         }
     }
+
+    private CompiledExpression getCompiledExpression(final ParseTree parseTree) {
+        return compiledExpressions.get(getStatement(parseTree), statement -> compiler.compile(parseTree));
+    }
+
+    /**
+     * Returns the statement which the parse tree was parsed from. Parse trees of the expression rule span their whole
+     * input, and unlike {@link ParseTree#getText()} the input keeps the whitespace which separates the tokens.
+     */
+    private static String getStatement(final ParseTree parseTree) {
+        if (parseTree instanceof ParserRuleContext && ((ParserRuleContext) parseTree).getStart() != null) {
+            final CharStream input = ((ParserRuleContext) parseTree).getStart().getInputStream();
+            return input.getText(Interval.of(0, input.size() - 1));
+        }
+        return parseTree.getText();
+    }
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded, thread-safe cache of compiled regex {@link Pattern}s used by {@link GenericRegexMatchOperator} when the
+ * pattern is not known until evaluation time, for example when it is read from the event.
+ */
+@Named
+class RegexPatternCache {
+    static final String COMPONENT_SCOPE = "expression";
+    static final String COMPONENT_ID = "regexPatternCache";
+    static final String CACHE_HITS = "cacheHits";
+    static final String CACHE_MISSES = "cacheMisses";
+    static final String CACHE_SIZE = "cacheSize";
+    static final int DEFAULT_MAXIMUM_SIZE = 1000;
+
+    private final Cache<String, Pattern> patterns;
+    private final Counter cacheHitsCounter;
+    private final Counter cacheMissesCounter;
+
+    @Inject
+    RegexPatternCache() {
+        this(DEFAULT_MAXIMUM_SIZE, PluginMetrics.fromNames(COMPONENT_ID, COMPONENT_SCOPE));
+    }
+
+    RegexPatternCache(final int maximumSize, final PluginMetrics pluginMetrics) {
+        patterns = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+        cacheHitsCounter = pluginMetrics.counter(CACHE_HITS);
+        cacheMissesCounter = pluginMetrics.counter(CACHE_MISSES);
+        pluginMetrics.gauge(CACHE_SIZE, patterns, cache -> cache.estimatedSize());
+    }
+
+    /**
+     * Gets the compiled {@link Pattern} for a regex, compiling and caching it if it is not already cached.
+     *
+     * @param regex the regular expression
+     * @return the compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the regex is not valid
+     */
+    Pattern getPattern(final String regex) {
+        final Pattern cachedPattern = patterns.getIfPresent(regex);
+        if (cachedPattern != null) {
+            cacheHitsCounter.increment();
+            return cachedPattern;
+        }
+        cacheMissesCounter.increment();
+        final Pattern pattern = Pattern.compile(regex);
+        patterns.put(regex, pattern);
+        return pattern;
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * A {@link CompiledExpression} which reads from the event, such as a json pointer or a function call. The same
+ * instance is used wherever the sub-expression appears, so that its result can be shared through a
+ * {@link SubExpressionCache}.
+ */
+class SharedSubExpression implements CompiledExpression {
+    private final CompiledExpression delegate;
+
+    SharedSubExpression(final CompiledExpression delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        return delegate.evaluate(event);
+    }
+
+    @Override
+    public Object evaluate(final Event event, final SubExpressionCache subExpressionCache) {
+        return subExpressionCache.computeIfAbsent(delegate, event);
+    }
+}
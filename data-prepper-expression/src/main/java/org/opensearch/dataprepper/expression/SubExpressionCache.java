@@ -0,0 +1,33 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Holds the results of {@link SharedSubExpression}s evaluated for a single event, so that the same sub-expression
+ * appearing in several statements is only evaluated once for that event. Instances are not thread-safe and must be
+ * cleared before they are used for another event.
+ */
+class SubExpressionCache {
+    private final Map<CompiledExpression, Object> results = new IdentityHashMap<>();
+
+    Object computeIfAbsent(final CompiledExpression expression, final Event event) {
+        if (results.containsKey(expression)) {
+            return results.get(expression);
+        }
+        final Object result = expression.evaluate(event);
+        results.put(expression, result);
+        return result;
+    }
+
+    void clear() {
+        results.clear();
+    }
+}
@@ -20,6 +20,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.model.event.Event;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
@@ -34,6 +36,7 @@ import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -106,6 +109,83 @@ class GenericExpressionEvaluatorTest {
         verify(evaluator).evaluate(eq(parseTree), eq(event));
     }
 
+    @Test
+    void evaluateConditionalBatch_parses_once_and_returns_matching_events() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final Event matchingEvent = mock(Event.class);
+        final Event nonMatchingEvent = mock(Event.class);
+        final Event failingEvent = mock(Event.class);
+
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doReturn(true).when(evaluator).evaluate(eq(parseTree), eq(matchingEvent), any(SubExpressionCache.class));
+        doReturn(false).when(evaluator).evaluate(eq(parseTree), eq(nonMatchingEvent), any(SubExpressionCache.class));
+        doThrow(new RuntimeException()).when(evaluator).evaluate(eq(parseTree), eq(failingEvent), any(SubExpressionCache.class));
+
+        final BitSet result = statementEvaluator.evaluateConditionalBatch(statement,
+                List.of(nonMatchingEvent, matchingEvent, failingEvent, matchingEvent));
+
+        assertThat(result.get(0), equalTo(false));
+        assertThat(result.get(1), equalTo(true));
+        assertThat(result.get(2), equalTo(false));
+        assertThat(result.get(3), equalTo(true));
+        verify(parser, times(1)).parse(eq(statement));
+    }
+
+    @Test
+    void evaluateConditionalBatch_throws_when_result_is_not_boolean() {
+        final String statement = UUID.randomUUID().toString();
+        final ParseTree parseTree = mock(ParseTree.class);
+        final Event event = mock(Event.class);
+
+        doReturn(parseTree).when(parser).parse(eq(statement));
+        doReturn(UUID.randomUUID().toString()).when(evaluator).evaluate(eq(parseTree), eq(event), any(SubExpressionCache.class));
+
+        assertThrows(ClassCastException.class, () -> statementEvaluator.evaluateConditionalBatch(statement, List.of(event)));
+    }
+
+    @Test
+    void evaluateConditionalBatch_throws_when_statement_cannot_be_parsed() {
+        final String statement = UUID.randomUUID().toString();
+
+        doThrow(new RuntimeException()).when(parser).parse(eq(statement));
+
+        assertThrows(ExpressionParsingException.class, () -> statementEvaluator.evaluateConditionalBatch(statement, List.of(mock(Event.class))));
+        verify(evaluator, times(0)).evaluate(any(), any(), any());
+    }
+
+    @Test
+    void evaluateConditionalsBatch_shares_sub_expression_cache_across_statements_for_an_event() {
+        final String statement1 = UUID.randomUUID().toString();
+        final String statement2 = UUID.randomUUID().toString();
+        final ParseTree parseTree1 = mock(ParseTree.class);
+        final ParseTree parseTree2 = mock(ParseTree.class);
+        final Event event1 = mock(Event.class);
+        final Event event2 = mock(Event.class);
+
+        doReturn(parseTree1).when(parser).parse(eq(statement1));
+        doReturn(parseTree2).when(parser).parse(eq(statement2));
+        final List<SubExpressionCache> caches = new ArrayList<>();
+        doAnswer(invocation -> {
+            caches.add(invocation.getArgument(2));
+            return invocation.getArgument(1) == event1;
+        }).when(evaluator).evaluate(eq(parseTree1), any(Event.class), any(SubExpressionCache.class));
+        doAnswer(invocation -> {
+            caches.add(invocation.getArgument(2));
+            return invocation.getArgument(1) == event2;
+        }).when(evaluator).evaluate(eq(parseTree2), any(Event.class), any(SubExpressionCache.class));
+
+        final List<BitSet> results = statementEvaluator.evaluateConditionalsBatch(List.of(statement1, statement2), List.of(event1, event2));
+
+        assertThat(results.size(), equalTo(2));
+        assertThat(results.get(0).get(0), equalTo(true));
+        assertThat(results.get(0).get(1), equalTo(false));
+        assertThat(results.get(1).get(0), equalTo(false));
+        assertThat(results.get(1).get(1), equalTo(true));
+        assertThat(caches.size(), equalTo(4));
+        assertThat(caches.stream().distinct().count(), equalTo(1L));
+    }
+
     @Test
     void isValidExpressionStatement_returns_true_when_parse_does_not_throw() {
         final String statement = UUID.randomUUID().toString();
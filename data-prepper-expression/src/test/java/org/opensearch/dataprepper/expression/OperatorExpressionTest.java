@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OperatorExpressionTest {
+    @Mock
+    private Operator<Object> operator;
+
+    @Mock
+    private Event event;
+
+    @Test
+    void evaluate_applies_operator_to_evaluated_operands() {
+        final CompiledExpression left = mock(CompiledExpression.class);
+        when(left.evaluate(event)).thenReturn(1);
+        when(operator.evaluate(1, 2)).thenReturn(3);
+        final OperatorExpression objectUnderTest = new OperatorExpression(operator,
+                new CompiledExpression[]{left, new ConstantExpression(2)}, "/a + 2");
+
+        assertThat(objectUnderTest.evaluate(event), equalTo(3));
+    }
+
+    @Test
+    void evaluate_returns_false_for_boolean_operator_with_illegal_argument() {
+        when(operator.evaluate(1)).thenThrow(new IllegalArgumentException());
+        when(operator.isBooleanOperator()).thenReturn(true);
+        final OperatorExpression objectUnderTest = new OperatorExpression(operator,
+                new CompiledExpression[]{new ConstantExpression(1)}, "not 1");
+
+        assertThat(objectUnderTest.evaluate(event), is(false));
+    }
+
+    @Test
+    void evaluate_throws_for_non_boolean_operator_with_illegal_argument() {
+        when(operator.evaluate(1)).thenThrow(new IllegalArgumentException());
+        when(operator.isBooleanOperator()).thenReturn(false);
+        final OperatorExpression objectUnderTest = new OperatorExpression(operator,
+                new CompiledExpression[]{new ConstantExpression(1)}, "-true");
+
+        assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.evaluate(event));
+    }
+
+    @Test
+    void foldConstants_returns_constant_when_all_operands_are_constant() {
+        when(operator.evaluate(1, 2)).thenReturn(3);
+        final OperatorExpression objectUnderTest = new OperatorExpression(operator,
+                new CompiledExpression[]{new ConstantExpression(1), new ConstantExpression(2)}, "1 + 2");
+
+        final CompiledExpression folded = objectUnderTest.foldConstants();
+        assertThat(folded, instanceOf(ConstantExpression.class));
+        assertThat(folded.evaluate(event), equalTo(3));
+    }
+
+    @Test
+    void foldConstants_returns_same_expression_when_an_operand_is_not_constant() {
+        final OperatorExpression objectUnderTest = new OperatorExpression(operator,
+                new CompiledExpression[]{new ConstantExpression(1), mock(CompiledExpression.class)}, "1 + /a");
+
+        assertThat(objectUnderTest.foldConstants(), sameInstance(objectUnderTest));
+    }
+
+    @Test
+    void foldConstants_returns_same_expression_when_evaluation_fails() {
+        when(operator.evaluate(1, 0)).thenThrow(new ArithmeticException());
+        final OperatorExpression objectUnderTest = new OperatorExpression(operator,
+                new CompiledExpression[]{new ConstantExpression(1), new ConstantExpression(0)}, "1 / 0");
+
+        assertThat(objectUnderTest.foldConstants(), sameInstance(objectUnderTest));
+    }
+    @Test
+    void evaluate_with_sub_expression_cache_passes_cache_to_operands() {
+        final SubExpressionCache subExpressionCache = new SubExpressionCache();
+        final CompiledExpression left = mock(CompiledExpression.class);
+        when(left.evaluate(event, subExpressionCache)).thenReturn(1);
+        when(operator.evaluate(1, 2)).thenReturn(3);
+        final OperatorExpression objectUnderTest = new OperatorExpression(operator,
+                new CompiledExpression[]{left, new ConstantExpression(2)}, "/a + 2");
+
+        assertThat(objectUnderTest.evaluate(event, subExpressionCache), equalTo(3));
+    }
+
+}
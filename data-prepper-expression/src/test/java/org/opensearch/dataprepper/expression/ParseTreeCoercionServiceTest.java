@@ -43,7 +43,9 @@ import static org.hamcrest.CoreMatchers.containsStringIgnoringCase;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -411,6 +413,74 @@ class ParseTreeCoercionServiceTest {
         assertThat(objectUnderTest.coercePrimaryTerminalNode(terminalNode, testEvent), equalTo(output));
     }
 
+    @Test
+    void testCompileTerminalNodeLiteralTypeReturnsConstant() {
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.Integer);
+        when(terminalNode.getText()).thenReturn("42");
+        final CompiledExpression compiledExpression = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledExpression, instanceOf(ConstantExpression.class));
+        assertThat(compiledExpression.evaluate(null), equalTo(42));
+    }
+
+    @Test
+    void testCompileTerminalNodeJsonPointerTypeResolvesPerEvent() {
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
+        when(terminalNode.getText()).thenReturn("/key");
+        final CompiledExpression compiledExpression = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("key", "a"))), equalTo("a"));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("key", 2))), equalTo(2));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of())), equalTo(null));
+    }
+
+    @Test
+    void testCompileTerminalNodeEscapedJsonPointerTypeResolvesPerEvent() {
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.EscapedJsonPointer);
+        when(terminalNode.getText()).thenReturn("\"/test key\"");
+        final CompiledExpression compiledExpression = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("test key", "a"))), equalTo("a"));
+    }
+
+    @Test
+    void testCompileTerminalNodeFunctionTypeCallsFunctionPerEvent() {
+        final Event testEvent = createTestEvent(Map.of("key", "value"));
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.Function);
+        when(terminalNode.getText()).thenReturn("length(/key)");
+        when(expressionFunctionProvider.provideFunction(eq("length"), any(List.class), eq(testEvent), any(Function.class))).thenReturn(5);
+        final CompiledExpression compiledExpression = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(compiledExpression.evaluate(testEvent), equalTo(5));
+    }
+
+    @Test
+    void testCompileTerminalNodeJsonPointerTypeReturnsSameInstanceForSameText() {
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
+        when(terminalNode.getText()).thenReturn("/key");
+        final CompiledExpression first = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        final CompiledExpression second = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(first, instanceOf(SharedSubExpression.class));
+        assertThat(second, sameInstance(first));
+    }
+
+    @Test
+    void testCompileTerminalNodeJsonPointerTypeBoundsSharedSubExpressions() {
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
+        for (int i = 0; i < ParseTreeCoercionService.MAX_SHARED_SUB_EXPRESSIONS + 100; i++) {
+            when(terminalNode.getText()).thenReturn("/key" + i);
+            objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        }
+        assertThat(objectUnderTest.getSharedSubExpressionsSize(), lessThanOrEqualTo((long) ParseTreeCoercionService.MAX_SHARED_SUB_EXPRESSIONS));
+    }
+
+    @Test
+    void testCompileNullNodeThrowsException() {
+        assertThrows(NullPointerException.class, () -> objectUnderTest.compilePrimaryTerminalNode(null));
+    }
+
     private Event createTestEvent(final Object data) {
         final Event event = mock(Event.class);
         final JsonNode node = mapper.valueToTree(data);
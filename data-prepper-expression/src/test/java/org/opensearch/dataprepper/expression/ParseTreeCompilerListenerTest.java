@@ -28,6 +28,7 @@ import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -36,12 +37,13 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-class ParseTreeEvaluatorListenerTest {
+class ParseTreeCompilerListenerTest {
     private final ExpressionFunctionProvider expressionFunctionProvider = mock(ExpressionFunctionProvider.class);
     private final Random random = new Random();
     private final ParseTreeWalker walker = new ParseTreeWalker();
     private final ParseTreeParser parseTreeParser = constructParseTreeParser();
     private final OperatorConfiguration operatorConfiguration = new OperatorConfiguration();
+    private final RegexPatternCache regexPatternCache = new RegexPatternCache();
     private final LiteralTypeConversionsConfiguration literalTypeConversionsConfiguration = new LiteralTypeConversionsConfiguration();
     private final EventKeyFactory eventKeyFactory = TestEventKeyFactory.getTestEventFactory();
     private final ParseTreeCoercionService coercionService = new ParseTreeCoercionService(
@@ -52,7 +54,7 @@ class ParseTreeEvaluatorListenerTest {
             operatorConfiguration.equalOperator(), operatorConfiguration.notEqualOperator(operatorConfiguration.equalOperator()),
             operatorConfiguration.greaterThanOperator(), operatorConfiguration.greaterThanOrEqualOperator(),
             operatorConfiguration.lessThanOperator(), operatorConfiguration.lessThanOrEqualOperator(),
-            operatorConfiguration.regexEqualOperator(), operatorConfiguration.regexNotEqualOperator(),
+            operatorConfiguration.regexEqualOperator(regexPatternCache), operatorConfiguration.regexNotEqualOperator(regexPatternCache),
             operatorConfiguration.typeOfOperator(),
             operatorConfiguration.addOperator(),
             operatorConfiguration.subtractOperator(),
@@ -62,15 +64,15 @@ class ParseTreeEvaluatorListenerTest {
             new NotOperator()
     );
     private final OperatorProvider operatorProvider = new OperatorProvider(operators);
-    private ParseTreeEvaluatorListener objectUnderTest;
+    private ParseTreeCompilerListener objectUnderTest;
 
     private ParseTreeParser constructParseTreeParser() {
         final DataPrepperExpressionParser expressionParser = new ParseTreeParserConfiguration().dataPrepperExpressionParser();
         return new ParseTreeParser(expressionParser);
     }
 
-    private ParseTreeEvaluatorListener createObjectUnderTest(final Event event) {
-        return new ParseTreeEvaluatorListener(operatorProvider, coercionService, event);
+    private ParseTreeCompilerListener createObjectUnderTest() {
+        return new ParseTreeCompilerListener(operatorProvider, coercionService);
     }
 
     private Event createTestEvent(final Object data) {
@@ -79,16 +81,15 @@ class ParseTreeEvaluatorListenerTest {
 
     private Object evaluateStatementOnEvent(final String statement, final Event event) {
         final ParseTree parseTree = parseTreeParser.parse(statement);
-        objectUnderTest = createObjectUnderTest(event);
+        objectUnderTest = createObjectUnderTest();
         walker.walk(objectUnderTest, parseTree);
-        return objectUnderTest.getResult();
+        return objectUnderTest.getResult().evaluate(event);
     }
 
     @Test
     void testVisitErrorNode() {
         final ErrorNode errorNode = mock(ErrorNode.class);
-        final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
+        objectUnderTest = createObjectUnderTest();
 
         assertThrows(RuntimeException.class, () -> objectUnderTest.visitErrorNode(errorNode));
     }
@@ -96,8 +97,7 @@ class ParseTreeEvaluatorListenerTest {
     @Test
     void testGetResultWithDoubleWalk() {
         final ParseTree testParseTree = parseTreeParser.parse("true");
-        final Event testEvent = createTestEvent(new HashMap<>());
-        objectUnderTest = createObjectUnderTest(testEvent);
+        objectUnderTest = createObjectUnderTest();
         walker.walk(objectUnderTest, testParseTree);
         walker.walk(objectUnderTest, testParseTree);
         assertThrows(IllegalStateException.class, objectUnderTest::getResult);
@@ -428,4 +428,44 @@ class ParseTreeEvaluatorListenerTest {
         final String testNestedParenthesesStatement = "not ((not false) or true)";
         assertThat(evaluateStatementOnEvent(testNestedParenthesesStatement, testEvent), is(false));
     }
+
+    @Test
+    void testCompiledExpressionIsReusableAcrossEvents() {
+        final ParseTree parseTree = parseTreeParser.parse("/status >= 400 and /log =~ \"ERROR.*\"");
+        objectUnderTest = createObjectUnderTest();
+        walker.walk(objectUnderTest, parseTree);
+        final CompiledExpression compiledExpression = objectUnderTest.getResult();
+
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("status", 500, "log", "ERROR occurred"))), is(true));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("status", 200, "log", "ERROR occurred"))), is(false));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("status", 500, "log", "INFO"))), is(false));
+    }
+
+    @Test
+    void testLiteralOnlyExpressionIsFoldedToConstant() {
+        final ParseTree parseTree = parseTreeParser.parse("1 < 2 and 3 in {1, 2, 3}");
+        objectUnderTest = createObjectUnderTest();
+        walker.walk(objectUnderTest, parseTree);
+
+        assertThat(objectUnderTest.getResult(), instanceOf(ConstantExpression.class));
+        assertThat(objectUnderTest.getResult().evaluate(null), is(true));
+    }
+
+    @Test
+    void testExpressionWithJsonPointerIsNotFolded() {
+        final ParseTree parseTree = parseTreeParser.parse("/status in {200, 201}");
+        objectUnderTest = createObjectUnderTest();
+        walker.walk(objectUnderTest, parseTree);
+
+        assertThat(objectUnderTest.getResult(), instanceOf(OperatorExpression.class));
+        assertThat(objectUnderTest.getResult().evaluate(createTestEvent(Map.of("status", 201))), is(true));
+    }
+
+    @Test
+    void testSetWithMixedMemberTypesThrows() {
+        final ParseTree parseTree = parseTreeParser.parse("/status in {200, \"a\"}");
+        objectUnderTest = createObjectUnderTest();
+
+        assertThrows(RuntimeException.class, () -> walker.walk(objectUnderTest, parseTree));
+    }
 }
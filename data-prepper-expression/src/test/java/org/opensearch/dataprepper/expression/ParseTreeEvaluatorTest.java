@@ -5,22 +5,25 @@
 
 package org.opensearch.dataprepper.expression;
 
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
 import org.opensearch.dataprepper.model.event.Event;
 import org.antlr.v4.runtime.tree.ParseTree;
-import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.MockedConstruction;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,50 +32,108 @@ class ParseTreeEvaluatorTest {
     @Mock
     private Event event;
 
-    @Mock
-    private OperatorProvider operatorProvider;
-
-    @Mock
     private ParseTree parseTree;
 
     @Mock
-    private ParseTreeWalker parseTreeWalker;
+    private ParseTreeCompiler compiler;
 
     @Mock
-    private ParseTreeCoercionService coercionService;
+    private CompiledExpression compiledExpression;
 
     private ParseTreeEvaluator objectUnderTest;
 
     @BeforeEach
     void setUp() {
-        objectUnderTest = new ParseTreeEvaluator(operatorProvider, parseTreeWalker, coercionService);
+        parseTree = createParseTree("/status == 200");
+        objectUnderTest = new ParseTreeEvaluator(compiler);
+    }
+
+    private static ParseTree createParseTree(final String statement) {
+        final ParserRuleContext parserRuleContext = mock(ParserRuleContext.class);
+        final Token start = mock(Token.class);
+        lenient().when(parserRuleContext.getStart()).thenReturn(start);
+        lenient().when(start.getInputStream()).thenReturn(CharStreams.fromString(statement));
+        return parserRuleContext;
     }
 
     @Test
     void testEvaluateSuccess() throws ExpressionCoercionException {
-        try (final MockedConstruction<ParseTreeEvaluatorListener> ignored =
-                     mockConstruction(ParseTreeEvaluatorListener.class, (mock, context) -> when(mock.getResult()).thenReturn(true))) {
-            assertThat(objectUnderTest.evaluate(parseTree, event), is(true));
-        }
+        when(compiler.compile(parseTree)).thenReturn(compiledExpression);
+        when(compiledExpression.evaluate(event)).thenReturn(true);
+        assertThat(objectUnderTest.evaluate(parseTree, event), is(true));
+    }
+
+    @Test
+    void testEvaluateCompilesParseTreeOnce() {
+        when(compiler.compile(parseTree)).thenReturn(compiledExpression);
+        when(compiledExpression.evaluate(event)).thenReturn(true);
+
+        objectUnderTest.evaluate(parseTree, event);
+        objectUnderTest.evaluate(parseTree, event);
+
+        verify(compiler, times(1)).compile(parseTree);
+        verify(compiledExpression, times(2)).evaluate(event);
+    }
+
+    @Test
+    void testEvaluateCompilesStatementOnceForParseTreesOfEachThread() {
+        final ParseTree otherParseTree = createParseTree("/status == 200");
+        when(compiler.compile(parseTree)).thenReturn(compiledExpression);
+        when(compiledExpression.evaluate(event)).thenReturn(true);
+
+        objectUnderTest.evaluate(parseTree, event);
+        assertThat(objectUnderTest.evaluate(otherParseTree, event), is(true));
+
+        verify(compiler, never()).compile(otherParseTree);
+        verify(compiledExpression, times(2)).evaluate(event);
+    }
+
+    @Test
+    void testEvaluateCompilesStatementsWhichDifferOnlyInWhitespaceSeparately() {
+        final ParseTree otherParseTree = createParseTree("/status==200");
+        final CompiledExpression otherCompiledExpression = mock(CompiledExpression.class);
+        when(compiler.compile(parseTree)).thenReturn(compiledExpression);
+        when(compiler.compile(otherParseTree)).thenReturn(otherCompiledExpression);
+        when(compiledExpression.evaluate(event)).thenReturn(true);
+        when(otherCompiledExpression.evaluate(event)).thenReturn(false);
+
+        assertThat(objectUnderTest.evaluate(parseTree, event), is(true));
+        assertThat(objectUnderTest.evaluate(otherParseTree, event), is(false));
+    }
+
+    @Test
+    void testEvaluateFailureInCompile() {
+        when(compiler.compile(parseTree)).thenThrow(new RuntimeException());
+        assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.evaluate(parseTree, event));
+    }
+
+    @Test
+    void testEvaluateFailureInCompiledExpression() {
+        when(compiler.compile(parseTree)).thenReturn(compiledExpression);
+        when(compiledExpression.evaluate(event)).thenThrow(new RuntimeException());
+        assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.evaluate(parseTree, event));
+    }
+
+    @Test
+    void testEvaluateWithSubExpressionCacheSuccess() {
+        final SubExpressionCache subExpressionCache = new SubExpressionCache();
+        when(compiler.compile(parseTree)).thenReturn(compiledExpression);
+        when(compiledExpression.evaluate(event, subExpressionCache)).thenReturn(true);
+        assertThat(objectUnderTest.evaluate(parseTree, event, subExpressionCache), is(true));
     }
 
     @Test
-    void testEvaluateFailureInWalk() {
-        doThrow(new RuntimeException()).when(parseTreeWalker).walk(
-                any(ParseTreeEvaluatorListener.class), any(ParseTree.class));
-        try (final MockedConstruction<ParseTreeEvaluatorListener> ignored =
-                     mockConstruction(ParseTreeEvaluatorListener.class)) {
-            assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.evaluate(parseTree, event));
-        }
+    void testEvaluateWithSubExpressionCacheFailureInCompiledExpression() {
+        final SubExpressionCache subExpressionCache = new SubExpressionCache();
+        when(compiler.compile(parseTree)).thenReturn(compiledExpression);
+        when(compiledExpression.evaluate(event, subExpressionCache)).thenThrow(new RuntimeException());
+        assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.evaluate(parseTree, event, subExpressionCache));
     }
 
     @Test
-    void testEvaluateFailureInGetResult() {
-        try (final MockedConstruction<ParseTreeEvaluatorListener> ignored =
-                     mockConstruction(ParseTreeEvaluatorListener.class,
-                             (mock, context) -> when(mock.getResult()).thenThrow(new RuntimeException()))) {
-            assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.evaluate(parseTree, event));
-        }
+    void testDefaultEvaluateWithSubExpressionCacheDelegatesToEvaluate() {
+        final Evaluator<ParseTree, Event> evaluator = (parsedData, context) -> parsedData == parseTree && context == event;
+        assertThat(evaluator.evaluate(parseTree, event, new SubExpressionCache()), is(true));
     }
 
 }
@@ -12,7 +12,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
+import java.util.regex.Pattern;
+
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -20,7 +23,7 @@ import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class RegexEqualOperatorTest {
-    final GenericRegexMatchOperator objectUnderTest = new OperatorConfiguration().regexEqualOperator();
+    final GenericRegexMatchOperator objectUnderTest = new OperatorConfiguration().regexEqualOperator(new RegexPatternCache());
 
     @Mock
     private ParserRuleContext ctx;
@@ -71,4 +74,28 @@ class RegexEqualOperatorTest {
     void evaluate_with_null_lhs_returns_false() {
         assertThat(objectUnderTest.evaluate(null, "a*"), equalTo(false));
     }
+
+    @Test
+    void testEvalWithCompiledPattern() {
+        assertThat(objectUnderTest.evaluate("a", Pattern.compile("a*")), is(true));
+        assertThat(objectUnderTest.evaluate("a", Pattern.compile("b*")), is(false));
+    }
+
+    @Test
+    void testCompileConstantOperandCompilesRightOperandPattern() {
+        final Object compiled = objectUnderTest.compileConstantOperand(1, "a*");
+        assertThat(compiled, instanceOf(Pattern.class));
+        assertThat(((Pattern) compiled).pattern(), equalTo("a*"));
+    }
+
+    @Test
+    void testCompileConstantOperandLeavesOtherOperandsUnchanged() {
+        assertThat(objectUnderTest.compileConstantOperand(0, "a*"), equalTo("a*"));
+        assertThat(objectUnderTest.compileConstantOperand(1, 1), equalTo(1));
+    }
+
+    @Test
+    void testCompileConstantOperandLeavesInvalidPatternUnchanged() {
+        assertThat(objectUnderTest.compileConstantOperand(1, "*"), equalTo("*"));
+    }
 }
@@ -20,7 +20,7 @@ import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class RegexNotEqualOperatorTest {
-    final GenericRegexMatchOperator objectUnderTest = new OperatorConfiguration().regexNotEqualOperator();
+    final GenericRegexMatchOperator objectUnderTest = new OperatorConfiguration().regexNotEqualOperator(new RegexPatternCache());
 
     @Mock
     private ParserRuleContext ctx;
@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RegexPatternCacheTest {
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Counter cacheHitsCounter;
+
+    @Mock
+    private Counter cacheMissesCounter;
+
+    @BeforeEach
+    void setUp() {
+        when(pluginMetrics.counter(RegexPatternCache.CACHE_HITS)).thenReturn(cacheHitsCounter);
+        when(pluginMetrics.counter(RegexPatternCache.CACHE_MISSES)).thenReturn(cacheMissesCounter);
+    }
+
+    private RegexPatternCache createObjectUnderTest(final int maximumSize) {
+        return new RegexPatternCache(maximumSize, pluginMetrics);
+    }
+
+    @Test
+    void constructor_registers_cache_size_gauge() {
+        createObjectUnderTest(10);
+        verify(pluginMetrics).gauge(eq(RegexPatternCache.CACHE_SIZE), any(), any());
+    }
+
+    @Test
+    void getPattern_compiles_pattern_on_first_access() {
+        final Pattern pattern = createObjectUnderTest(10).getPattern("ERROR.*");
+
+        assertThat(pattern, notNullValue());
+        assertThat(pattern.pattern(), equalTo("ERROR.*"));
+        verify(cacheMissesCounter).increment();
+        verify(cacheHitsCounter, never()).increment();
+    }
+
+    @Test
+    void getPattern_returns_cached_pattern_on_later_access() {
+        final RegexPatternCache objectUnderTest = createObjectUnderTest(10);
+
+        final Pattern pattern = objectUnderTest.getPattern("ERROR.*");
+
+        assertThat(objectUnderTest.getPattern("ERROR.*"), sameInstance(pattern));
+        assertThat(objectUnderTest.getPattern("ERROR.*"), sameInstance(pattern));
+        verify(cacheMissesCounter, times(1)).increment();
+        verify(cacheHitsCounter, times(2)).increment();
+    }
+
+    @Test
+    void getPattern_throws_for_invalid_pattern() {
+        final RegexPatternCache objectUnderTest = createObjectUnderTest(10);
+
+        assertThrows(PatternSyntaxException.class, () -> objectUnderTest.getPattern("*"));
+        assertThrows(PatternSyntaxException.class, () -> objectUnderTest.getPattern("*"));
+        verify(cacheMissesCounter, times(2)).increment();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SharedSubExpressionTest {
+    @Mock
+    private CompiledExpression delegate;
+
+    @Mock
+    private Event event;
+
+    @Test
+    void evaluate_delegates_to_expression() {
+        final String value = UUID.randomUUID().toString();
+        when(delegate.evaluate(event)).thenReturn(value);
+
+        assertThat(new SharedSubExpression(delegate).evaluate(event), equalTo(value));
+    }
+
+    @Test
+    void evaluate_with_sub_expression_cache_evaluates_delegate_once_per_cache() {
+        final String value = UUID.randomUUID().toString();
+        when(delegate.evaluate(event)).thenReturn(value);
+        final SharedSubExpression objectUnderTest = new SharedSubExpression(delegate);
+        final SubExpressionCache subExpressionCache = new SubExpressionCache();
+
+        assertThat(objectUnderTest.evaluate(event, subExpressionCache), equalTo(value));
+        assertThat(objectUnderTest.evaluate(event, subExpressionCache), equalTo(value));
+
+        verify(delegate, times(1)).evaluate(event);
+    }
+
+    @Test
+    void default_evaluate_with_sub_expression_cache_ignores_cache() {
+        final CompiledExpression constant = new ConstantExpression(1);
+
+        assertThat(constant.evaluate(event, new SubExpressionCache()), equalTo(1));
+    }
+}
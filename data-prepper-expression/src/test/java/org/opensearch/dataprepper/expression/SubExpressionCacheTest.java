@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SubExpressionCacheTest {
+    @Mock
+    private CompiledExpression expression;
+
+    @Mock
+    private Event event;
+
+    @Test
+    void computeIfAbsent_evaluates_expression_once() {
+        final String value = UUID.randomUUID().toString();
+        when(expression.evaluate(event)).thenReturn(value);
+        final SubExpressionCache objectUnderTest = new SubExpressionCache();
+
+        assertThat(objectUnderTest.computeIfAbsent(expression, event), equalTo(value));
+        assertThat(objectUnderTest.computeIfAbsent(expression, event), equalTo(value));
+
+        verify(expression, times(1)).evaluate(event);
+    }
+
+    @Test
+    void computeIfAbsent_caches_null_results() {
+        when(expression.evaluate(event)).thenReturn(null);
+        final SubExpressionCache objectUnderTest = new SubExpressionCache();
+
+        assertThat(objectUnderTest.computeIfAbsent(expression, event), nullValue());
+        assertThat(objectUnderTest.computeIfAbsent(expression, event), nullValue());
+
+        verify(expression, times(1)).evaluate(event);
+    }
+
+    @Test
+    void clear_causes_expression_to_be_evaluated_again() {
+        when(expression.evaluate(event)).thenReturn(1, 2);
+        final SubExpressionCache objectUnderTest = new SubExpressionCache();
+
+        assertThat(objectUnderTest.computeIfAbsent(expression, event), equalTo(1));
+        objectUnderTest.clear();
+        assertThat(objectUnderTest.computeIfAbsent(expression, event), equalTo(2));
+    }
+}
@@ -13,7 +13,13 @@ import org.opensearch.dataprepper.model.event.AggregateEventHandle;
 import org.opensearch.dataprepper.model.event.InternalEventHandle;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.function.Function;
@@ -22,6 +28,8 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 class AggregateGroup implements AggregateActionInput {
+    private static final int GROUP_START_BYTES = Long.BYTES + Integer.BYTES;
+
     private final GroupState groupState;
     private Instant groupStart;
     private final Lock concludeGroupLock;
@@ -29,11 +37,17 @@ class AggregateGroup implements AggregateActionInput {
     private final Map<Object, Object> identificationKeys;
     private Function<Duration, Boolean> customShouldConclude;
     private EventHandle groupEventHandle;
+    private GroupStateStore groupStateStore;
+    private IdentificationKeysHasher.IdentificationKeysMap spilledGroupStateKey;
 
     AggregateGroup(final Map<Object, Object> identificationKeys) {
+        this(identificationKeys, Instant.now());
+    }
+
+    private AggregateGroup(final Map<Object, Object> identificationKeys, final Instant groupStart) {
         this.groupState = new DefaultGroupState();
         this.identificationKeys = identificationKeys;
-        this.groupStart = Instant.now();
+        this.groupStart = groupStart;
         this.concludeGroupLock = new ReentrantLock();
         this.handleEventForGroupLock = new ReentrantLock();
         this.groupEventHandle = new AggregateEventHandle(Instant.now());
@@ -51,6 +65,9 @@ class AggregateGroup implements AggregateActionInput {
     }
 
     public GroupState getGroupState() {
+        if (spilledGroupStateKey != null) {
+            restoreGroupState();
+        }
         return groupState;
     }
 
@@ -71,6 +88,10 @@ class AggregateGroup implements AggregateActionInput {
         customShouldConclude = shouldConclude;
     }
 
+    boolean hasCustomShouldConclude() {
+        return customShouldConclude != null;
+    }
+
     Lock getHandleEventForGroupLock() {
         return handleEventForGroupLock;
     }
@@ -82,7 +103,79 @@ class AggregateGroup implements AggregateActionInput {
         return Duration.between(groupStart, Instant.now()).compareTo(groupDuration) >= 0;
     }
 
+    boolean isGroupStateSpilled() {
+        return spilledGroupStateKey != null;
+    }
+
+    /**
+     * Moves the group state to the store. The state is restored from the store when it is next requested.
+     *
+     * @return false if the group state could not be serialized, in which case it stays on the heap
+     */
+    boolean spillGroupState(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, final GroupStateStore groupStateStore) {
+        final byte[] serializedGroupState;
+        try {
+            serializedGroupState = serializeGroupState();
+        } catch (final IOException e) {
+            return false;
+        }
+        groupStateStore.put(identificationKeysMap, serializedGroupState);
+        groupState.clear();
+        this.groupStateStore = groupStateStore;
+        this.spilledGroupStateKey = identificationKeysMap;
+        return true;
+    }
+
+    /**
+     * Creates a group whose state was spilled to the store by a previous run of the processor. The state stays in
+     * the store until it is requested.
+     */
+    static AggregateGroup fromSpilledGroupState(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap,
+                                                final byte[] serializedGroupState,
+                                                final GroupStateStore groupStateStore) {
+        final ByteBuffer groupStartBuffer = ByteBuffer.wrap(serializedGroupState);
+        final Instant groupStart = Instant.ofEpochSecond(groupStartBuffer.getLong(), groupStartBuffer.getInt());
+        final AggregateGroup aggregateGroup = new AggregateGroup(identificationKeysMap.getKeyMap(), groupStart);
+        aggregateGroup.groupStateStore = groupStateStore;
+        aggregateGroup.spilledGroupStateKey = identificationKeysMap;
+        return aggregateGroup;
+    }
+
+    private byte[] serializeGroupState() throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream)) {
+            dataOutputStream.writeLong(groupStart.getEpochSecond());
+            dataOutputStream.writeInt(groupStart.getNano());
+            GroupStateSerialization.writeGroupState(groupState, dataOutputStream);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    /**
+     * Reads the spilled group state back onto the heap. The state is removed from the store only once it was read, so
+     * that a state which cannot be read is not lost.
+     */
+    private void restoreGroupState() {
+        final byte[] serializedGroupState = groupStateStore.get(spilledGroupStateKey);
+        if (serializedGroupState != null) {
+            try {
+                groupState.putAll(GroupStateSerialization.readGroupState(new ByteArrayInputStream(serializedGroupState,
+                        GROUP_START_BYTES, serializedGroupState.length - GROUP_START_BYTES)));
+            } catch (final IOException e) {
+                throw new IllegalStateException("Unable to restore the spilled group state", e);
+            }
+            groupStateStore.delete(spilledGroupStateKey);
+        }
+        groupStateStore = null;
+        spilledGroupStateKey = null;
+    }
+
     void resetGroup() {
+        if (spilledGroupStateKey != null) {
+            groupStateStore.delete(spilledGroupStateKey);
+            groupStateStore = null;
+            spilledGroupStateKey = null;
+        }
         groupStart = Instant.now();
         groupState.clear();
         this.groupEventHandle = new AggregateEventHandle(groupStart);
@@ -12,40 +12,143 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 import com.google.common.collect.Maps;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
 
+/**
+ * Holds the groups of the aggregate processor, partitioned by the hash of their identification keys. Each partition
+ * has its own lock, which callers hold while handling events for or concluding the groups of the partition, so that
+ * workers only contend on groups which share a partition.
+ * <p>
+ * Groups are concluded in order of their deadlines rather than by checking every group, so that concluding groups takes
+ * time in proportion to the number of groups which are due. Groups which are due but not ready to conclude, or which
+ * could not be concluded, are queued to be checked again after {@link #RECHECK_INTERVAL}. Groups with a custom
+ * conclusion are checked on every call, as their deadline is not known.
+ * <p>
+ * When there is a {@link GroupStateStore}, each partition keeps the state of its most recently used groups on the heap
+ * and moves the state of the least recently used groups beyond its share of the limit to the store. Groups with a
+ * custom conclusion stay on the heap, as they are checked on every call.
+ */
 class AggregateGroupManager {
+    private static final Logger LOG = LoggerFactory.getLogger(AggregateGroupManager.class);
+    static final int DEFAULT_PARTITION_COUNT = 16;
+    static final Duration RECHECK_INTERVAL = Duration.ofMillis(100);
 
-    private final Map<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> allGroups = Maps.newConcurrentMap();
+    private final GroupPartition[] partitions;
     private final Duration groupDuration;
+    private final long recheckIntervalNanos;
     private final boolean acknowledgeOnConclude;
+    private final LongSupplier nanoClock;
+    private final GroupStateStore groupStateStore;
+    private final int maxGroupsInMemoryPerPartition;
 
     AggregateGroupManager(final Duration groupDuration, final boolean acknowledgeOnConclude) {
+        this(groupDuration, acknowledgeOnConclude, DEFAULT_PARTITION_COUNT, System::nanoTime);
+    }
+
+    AggregateGroupManager(final Duration groupDuration, final boolean acknowledgeOnConclude, final GroupStateStoreConfig groupStateStoreConfig) {
+        this(groupDuration, acknowledgeOnConclude, DEFAULT_PARTITION_COUNT, System::nanoTime,
+                GroupStateStore.create(groupStateStoreConfig), groupStateStoreConfig.getMaxGroupsInMemory());
+    }
+
+    AggregateGroupManager(final Duration groupDuration, final boolean acknowledgeOnConclude, final int partitionCount, final LongSupplier nanoClock) {
+        this(groupDuration, acknowledgeOnConclude, partitionCount, nanoClock, null, Integer.MAX_VALUE);
+    }
+
+    AggregateGroupManager(final Duration groupDuration, final boolean acknowledgeOnConclude, final int partitionCount, final LongSupplier nanoClock,
+                          final GroupStateStore groupStateStore, final int maxGroupsInMemory) {
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("partitionCount must be greater than 0");
+        }
         this.groupDuration = groupDuration;
+        this.recheckIntervalNanos = Math.min(groupDuration.toNanos(), RECHECK_INTERVAL.toNanos());
         this.acknowledgeOnConclude = acknowledgeOnConclude;
+        this.nanoClock = nanoClock;
+        this.groupStateStore = groupStateStore;
+        this.maxGroupsInMemoryPerPartition = Math.max(1, maxGroupsInMemory / partitionCount);
+        this.partitions = new GroupPartition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new GroupPartition();
+        }
+        if (groupStateStore != null) {
+            groupStateStore.recover(this::recoverGroup);
+        }
+    }
+
+    private void recoverGroup(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, final byte[] serializedGroupState) {
+        final GroupPartition partition = getPartition(identificationKeysMap);
+        final AggregateGroup group = AggregateGroup.fromSpilledGroupState(identificationKeysMap, serializedGroupState, groupStateStore);
+        partition.groups.put(identificationKeysMap, group);
+        partition.scheduleAtDeadline(identificationKeysMap, group);
     }
 
     AggregateGroup getAggregateGroup(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
-        return allGroups.computeIfAbsent(identificationKeysMap, (hash) -> new AggregateGroup(identificationKeysMap.getKeyMap()));
+        final GroupPartition partition = getPartition(identificationKeysMap);
+        partition.lock.lock();
+        try {
+            AggregateGroup group = partition.groups.get(identificationKeysMap);
+            if (group == null) {
+                group = new AggregateGroup(identificationKeysMap.getKeyMap());
+                partition.groups.put(identificationKeysMap, group);
+                partition.scheduleAtDeadline(identificationKeysMap, group);
+            }
+            partition.markRecentlyUsed(identificationKeysMap, group);
+            return group;
+        } finally {
+            partition.lock.unlock();
+        }
     }
 
+    /**
+     * Returns the lock of the partition of the identification keys. Hold it while handling events for, or concluding,
+     * the group of the identification keys.
+     */
+    Lock getPartitionLock(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        return getPartition(identificationKeysMap).lock;
+    }
 
     List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> getGroupsToConclude(final boolean forceConclude) {
         final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = new ArrayList<>();
-        for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : allGroups.entrySet()) {
-            if (groupEntry.getValue().shouldConcludeGroup(groupDuration) || forceConclude) {
-                groupsToConclude.add(groupEntry);
+        for (final GroupPartition partition : partitions) {
+            partition.lock.lock();
+            try {
+                if (forceConclude) {
+                    groupsToConclude.addAll(partition.groups.entrySet());
+                } else {
+                    partition.collectGroupsToConclude(groupsToConclude);
+                }
+            } finally {
+                partition.lock.unlock();
             }
         }
         return groupsToConclude;
     }
 
     void closeGroup(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
-        allGroups.remove(hashKeyMap, group);
+        final GroupPartition partition = getPartition(hashKeyMap);
+        partition.lock.lock();
+        try {
+            partition.groups.remove(hashKeyMap, group);
+            partition.customConclusionGroups.remove(hashKeyMap, group);
+            partition.groupsInMemory.remove(hashKeyMap, group);
+        } finally {
+            partition.lock.unlock();
+        }
 
         if (acknowledgeOnConclude) {
             EventHandle handle = group.getEventHandle();
@@ -57,14 +160,147 @@ class AggregateGroupManager {
     }
 
     void putGroupWithHash(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
-        allGroups.put(hashKeyMap, group);
+        final GroupPartition partition = getPartition(hashKeyMap);
+        partition.lock.lock();
+        try {
+            final AggregateGroup previousGroup = partition.groups.put(hashKeyMap, group);
+            if (previousGroup != group) {
+                if (previousGroup != null) {
+                    partition.customConclusionGroups.remove(hashKeyMap, previousGroup);
+                }
+                partition.scheduleAtDeadline(hashKeyMap, group);
+            }
+            if (group.hasCustomShouldConclude()) {
+                partition.customConclusionGroups.put(hashKeyMap, group);
+            }
+            partition.markRecentlyUsed(hashKeyMap, group);
+        } finally {
+            partition.lock.unlock();
+        }
     }
 
     long getAllGroupsSize() {
-        return allGroups.size();
+        long size = 0;
+        for (final GroupPartition partition : partitions) {
+            size += partition.groups.size();
+        }
+        return size;
+    }
+
+    long getSpilledGroupsSize() {
+        return groupStateStore != null ? groupStateStore.size() : 0;
+    }
+
+    void close() {
+        if (groupStateStore != null) {
+            groupStateStore.close();
+        }
     }
 
     Duration getGroupDuration() {
         return this.groupDuration;
     }
+
+    private GroupPartition getPartition(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        final int hash = identificationKeysMap.hashCode();
+        return partitions[Math.floorMod(hash ^ (hash >>> 16), partitions.length)];
+    }
+
+    private final class GroupPartition {
+        private final Lock lock = new ReentrantLock();
+        private final Map<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groups = Maps.newConcurrentMap();
+        private final Map<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> customConclusionGroups = new HashMap<>();
+        private final Queue<ScheduledGroup> deadlineQueue = new PriorityQueue<>(
+                (first, second) -> Long.signum(first.deadlineNanos - second.deadlineNanos));
+        // Ordered from the least to the most recently used
+        private final Map<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupsInMemory = new LinkedHashMap<>(16, 0.75f, true);
+
+        private void markRecentlyUsed(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
+            if (groupStateStore == null) {
+                return;
+            }
+            groupsInMemory.put(hashKeyMap, group);
+            final Iterator<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> iterator = groupsInMemory.entrySet().iterator();
+            while (groupsInMemory.size() > maxGroupsInMemoryPerPartition) {
+                final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> leastRecentlyUsed = iterator.next();
+                iterator.remove();
+                spill(leastRecentlyUsed.getKey(), leastRecentlyUsed.getValue());
+            }
+        }
+
+        private void spill(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
+            if (group.hasCustomShouldConclude() || group.isGroupStateSpilled()) {
+                return;
+            }
+            try {
+                if (!group.spillGroupState(hashKeyMap, groupStateStore)) {
+                    LOG.debug("Group state is not serializable, keeping it on the heap");
+                }
+            } catch (final RuntimeException e) {
+                LOG.warn("Unable to spill group state, keeping it on the heap", e);
+            }
+        }
+
+        private void scheduleAtDeadline(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
+            final Instant groupStart = group.getGroupStart();
+            long remainingNanos = 0;
+            if (groupStart != null) {
+                remainingNanos = Math.max(0, groupDuration.minus(Duration.between(groupStart, Instant.now())).toNanos());
+            }
+            deadlineQueue.add(new ScheduledGroup(hashKeyMap, group, groupStart, nanoClock.getAsLong() + remainingNanos));
+        }
+
+        private void collectGroupsToConclude(final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude) {
+            final long now = nanoClock.getAsLong();
+            final List<ScheduledGroup> groupsToRecheck = new ArrayList<>();
+            collectDueGroups(now, groupsToConclude, groupsToRecheck);
+            for (final ScheduledGroup scheduledGroup : groupsToRecheck) {
+                deadlineQueue.add(scheduledGroup.withDeadline(now + recheckIntervalNanos));
+            }
+
+            for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : customConclusionGroups.entrySet()) {
+                if (groupEntry.getValue().shouldConcludeGroup(groupDuration)) {
+                    groupsToConclude.add(new AbstractMap.SimpleImmutableEntry<>(groupEntry.getKey(), groupEntry.getValue()));
+                }
+            }
+        }
+
+        private void collectDueGroups(final long now,
+                                      final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude,
+                                      final List<ScheduledGroup> groupsToRecheck) {
+            while (!deadlineQueue.isEmpty() && deadlineQueue.peek().deadlineNanos - now <= 0) {
+                final ScheduledGroup scheduledGroup = deadlineQueue.poll();
+                final AggregateGroup group = scheduledGroup.group;
+                // A group which was concluded and put back has a new start, and was scheduled again when it was put back
+                if (groups.get(scheduledGroup.hashKeyMap) != group || group.getGroupStart() != scheduledGroup.groupStart
+                        || customConclusionGroups.containsKey(scheduledGroup.hashKeyMap)) {
+                    continue;
+                }
+                if (group.shouldConcludeGroup(groupDuration)) {
+                    groupsToConclude.add(new AbstractMap.SimpleImmutableEntry<>(scheduledGroup.hashKeyMap, group));
+                }
+                // Checked again in case the group is not concluded, and dropped then if it was
+                groupsToRecheck.add(scheduledGroup);
+            }
+        }
+    }
+
+    private static final class ScheduledGroup {
+        private final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap;
+        private final AggregateGroup group;
+        private final Instant groupStart;
+        private final long deadlineNanos;
+
+        private ScheduledGroup(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group,
+                               final Instant groupStart, final long deadlineNanos) {
+            this.hashKeyMap = hashKeyMap;
+            this.group = group;
+            this.groupStart = groupStart;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        private ScheduledGroup withDeadline(final long deadlineNanos) {
+            return new ScheduledGroup(hashKeyMap, group, groupStart, deadlineNanos);
+        }
+    }
 }
@@ -16,6 +16,7 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.peerforwarder.RequiresPeerForwarding;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.plugin.PluginFactory;
@@ -23,14 +24,18 @@ import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 
 @DataPrepperPlugin(name = "aggregate", pluginType = Processor.class, pluginConfigurationType = AggregateProcessorConfig.class)
 public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<Event>> implements RequiresPeerForwarding {
@@ -39,11 +44,16 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
     static final String ACTION_CONCLUDE_GROUP_EVENTS_OUT = "actionConcludeGroupEventsOut";
     static final String ACTION_CONCLUDE_GROUP_EVENTS_DROPPED = "actionConcludeGroupEventsDropped";
     static final String CURRENT_AGGREGATE_GROUPS = "currentAggregateGroups";
+    static final String SPILLED_AGGREGATE_GROUPS = "spilledAggregateGroups";
+    static final String CONCLUDE_GROUPS_TIME = "concludeGroupsTime";
+    static final String GROUP_EXPIRY_LAG = "groupExpiryLag";
 
     private final Counter actionHandleEventsOutCounter;
     private final Counter actionHandleEventsDroppedCounter;
     private final Counter actionConcludeGroupEventsDroppedCounter;
     private final Counter actionConcludeGroupEventsOutCounter;
+    private final Timer concludeGroupsTimer;
+    private final Timer groupExpiryLagTimer;
 
     private final AggregateProcessorConfig aggregateProcessorConfig;
     private final AggregateGroupManager aggregateGroupManager;
@@ -59,9 +69,10 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
     private final String aggregatedEventsTag;
 
     @DataPrepperPluginConstructor
-    public AggregateProcessor(final AggregateProcessorConfig aggregateProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory, final ExpressionEvaluator expressionEvaluator) {
-        this(aggregateProcessorConfig, pluginMetrics, pluginFactory, new AggregateGroupManager(aggregateProcessorConfig.getGroupDuration(), aggregateProcessorConfig.getAcknowledgeOnConclude()),
-                new IdentificationKeysHasher(aggregateProcessorConfig.getIdentificationKeys()), new AggregateActionSynchronizer.AggregateActionSynchronizerProvider(), expressionEvaluator);
+    public AggregateProcessor(final AggregateProcessorConfig aggregateProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory, final ExpressionEvaluator expressionEvaluator,
+                              final EventKeyFactory eventKeyFactory) {
+        this(aggregateProcessorConfig, pluginMetrics, pluginFactory, new AggregateGroupManager(aggregateProcessorConfig.getGroupDuration(), aggregateProcessorConfig.getAcknowledgeOnConclude(), aggregateProcessorConfig.getGroupStateStore()),
+                new IdentificationKeysHasher(aggregateProcessorConfig.getIdentificationKeys(), eventKeyFactory), new AggregateActionSynchronizer.AggregateActionSynchronizerProvider(), expressionEvaluator);
     }
     public AggregateProcessor(final AggregateProcessorConfig aggregateProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory, final AggregateGroupManager aggregateGroupManager,
                               final IdentificationKeysHasher identificationKeysHasher, final AggregateActionSynchronizer.AggregateActionSynchronizerProvider aggregateActionSynchronizerProvider, final ExpressionEvaluator expressionEvaluator) {
@@ -79,10 +90,13 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
         this.actionConcludeGroupEventsDroppedCounter = pluginMetrics.counter(ACTION_CONCLUDE_GROUP_EVENTS_DROPPED);
         this.actionHandleEventsOutCounter = pluginMetrics.counter(ACTION_HANDLE_EVENTS_OUT);
         this.actionHandleEventsDroppedCounter = pluginMetrics.counter(ACTION_HANDLE_EVENTS_DROPPED);
+        this.concludeGroupsTimer = pluginMetrics.timer(CONCLUDE_GROUPS_TIME);
+        this.groupExpiryLagTimer = pluginMetrics.timer(GROUP_EXPIRY_LAG);
         this.whenCondition = aggregateProcessorConfig.getWhenCondition();
         this.localMode = aggregateProcessorConfig.getLocalMode();
 
         pluginMetrics.gauge(CURRENT_AGGREGATE_GROUPS, aggregateGroupManager, AggregateGroupManager::getAllGroupsSize);
+        pluginMetrics.gauge(SPILLED_AGGREGATE_GROUPS, aggregateGroupManager, AggregateGroupManager::getSpilledGroupsSize);
 
         if (aggregateProcessorConfig.getWhenCondition() != null && (!expressionEvaluator.isValidExpressionStatement(aggregateProcessorConfig.getWhenCondition()))) {
             throw new InvalidPluginConfigurationException(
@@ -105,25 +119,33 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
         final List<Record<Event>> recordsOut = new LinkedList<>();
 
-        synchronized (this) {
-            final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(forceConclude);
-            for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : groupsToConclude) {
-                final AggregateActionOutput actionOutput = aggregateActionSynchronizer.concludeGroup(groupEntry.getKey(), groupEntry.getValue(), forceConclude);
-
-                final List<Event> concludeGroupEvents = actionOutput != null ? actionOutput.getEvents() : null;
-                if (concludeGroupEvents != null && !concludeGroupEvents.isEmpty()) {
-                    concludeGroupEvents.stream().forEach((event) -> {
-                        if (aggregatedEventsTag != null) {
-                            event.getMetadata().addTags(List.of(aggregatedEventsTag));
-                        }
-                        recordsOut.add(new Record(event));
-                        actionConcludeGroupEventsOutCounter.increment();
-                    });
-                } else {
-                    actionConcludeGroupEventsDroppedCounter.increment();
-                }
+        final long concludeStartNanos = System.nanoTime();
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(forceConclude);
+        for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : groupsToConclude) {
+            recordGroupExpiryLag(groupEntry.getValue());
+            final AggregateActionOutput actionOutput;
+            final Lock partitionLock = aggregateGroupManager.getPartitionLock(groupEntry.getKey());
+            partitionLock.lock();
+            try {
+                actionOutput = aggregateActionSynchronizer.concludeGroup(groupEntry.getKey(), groupEntry.getValue(), forceConclude);
+            } finally {
+                partitionLock.unlock();
+            }
+
+            final List<Event> concludeGroupEvents = actionOutput != null ? actionOutput.getEvents() : null;
+            if (concludeGroupEvents != null && !concludeGroupEvents.isEmpty()) {
+                concludeGroupEvents.stream().forEach((event) -> {
+                    if (aggregatedEventsTag != null) {
+                        event.getMetadata().addTags(List.of(aggregatedEventsTag));
+                    }
+                    recordsOut.add(new Record(event));
+                    actionConcludeGroupEventsOutCounter.increment();
+                });
+            } else {
+                actionConcludeGroupEventsDroppedCounter.increment();
             }
         }
+        concludeGroupsTimer.record(System.nanoTime() - concludeStartNanos, TimeUnit.NANOSECONDS);
 
         int handleEventsOut = 0;
         int handleEventsDropped = 0;
@@ -135,10 +157,14 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
             }
             final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = identificationKeysHasher.createIdentificationKeysMapFromEvent(event);
             final AggregateActionResponse handleEventResponse;
-            synchronized (this) {
+            final Lock partitionLock = aggregateGroupManager.getPartitionLock(identificationKeysMap);
+            partitionLock.lock();
+            try {
                 final AggregateGroup aggregateGroupForEvent = getAggregateGroupForEvent(identificationKeysMap);
 
                 handleEventResponse = aggregateActionSynchronizer.handleEventForGroup(event, identificationKeysMap, aggregateGroupForEvent);
+            } finally {
+                partitionLock.unlock();
             }
 
             final Event aggregateActionResponseEvent = handleEventResponse.getEvent();
@@ -162,6 +188,17 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
         return recordsOut;
     }
 
+    private void recordGroupExpiryLag(final AggregateGroup aggregateGroup) {
+        final Instant groupStart = aggregateGroup.getGroupStart();
+        if (forceConclude || groupStart == null) {
+            return;
+        }
+        final Duration expiryLag = Duration.between(groupStart.plus(aggregateGroupManager.getGroupDuration()), Instant.now());
+        if (!expiryLag.isNegative()) {
+            groupExpiryLagTimer.record(expiryLag);
+        }
+    }
+
     @Override
     public boolean holdsEvents() {
         return aggregateAction.holdsEvents();
@@ -203,7 +240,7 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
 
     @Override
     public void shutdown() {
-
+        aggregateGroupManager.close();
     }
 
     @Override
@@ -18,6 +18,7 @@ import org.opensearch.dataprepper.model.annotations.UsesDataPrepperPlugin;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -89,6 +90,12 @@ public class AggregateProcessorConfig {
     @JsonProperty("disable_group_acknowledgments")
     private Boolean disableGroupAcknowledgments = false;
 
+    @JsonPropertyDescription("Where the state of groups is kept. By default, the state of all groups is kept on the heap.")
+    @JsonProperty("group_state_store")
+    @NotNull
+    @Valid
+    private GroupStateStoreConfig groupStateStore = new GroupStateStoreConfig();
+
     public List<String> getIdentificationKeys() {
         return identificationKeys;
     }
@@ -128,4 +135,8 @@ public class AggregateProcessorConfig {
         return disableGroupAcknowledgments;
     }
 
+    public GroupStateStoreConfig getGroupStateStore() {
+        return groupStateStore;
+    }
+
 }
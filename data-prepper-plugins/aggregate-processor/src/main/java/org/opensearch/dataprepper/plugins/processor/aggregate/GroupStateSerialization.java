@@ -0,0 +1,198 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.metric.DefaultExemplar;
+import org.opensearch.dataprepper.model.metric.Exemplar;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Java serializes the identification keys and the state of groups which are kept in a {@link GroupStateStore}. Only the
+ * classes which event values and group state are made of are deserialized, so that a group state store cannot be used
+ * to instantiate other classes. These are the classes of event values, the states of the aggregate actions and the
+ * compact forms below, which exemplars, identification keys and exemplar events are written in.
+ * <p>
+ * Only an event which is itself a value of the group state, such as the exemplar event of the histogram action, is
+ * written, as its data. Events which are collected in the group state to be sent on, such as those of the tail sampler
+ * action, must keep their event handles, so a group state holding them stays on the heap.
+ */
+final class GroupStateSerialization {
+    /**
+     * The classes which compact forms resolve to are checked by the filter as well. They are not serializable, or
+     * cannot be read other than from their compact form.
+     */
+    private static final String RESOLVED_CLASSES =
+            "org.opensearch.dataprepper.model.event.JacksonEvent;" +
+            "org.opensearch.dataprepper.model.trace.JacksonSpan;" +
+            "org.opensearch.dataprepper.model.metric.DefaultExemplar;" +
+            "org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher$IdentificationKeysMap;" +
+            "org.opensearch.dataprepper.plugins.processor.aggregate.actions.DDSketch;" +
+            "org.opensearch.dataprepper.plugins.processor.aggregate.actions.HyperLogLog;" +
+            "org.opensearch.dataprepper.plugins.processor.aggregate.actions.TopKSketch;";
+    static final ObjectInputFilter OBJECT_INPUT_FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=64;java.lang.*;java.util.*;java.time.*;java.math.*;" +
+            "org.opensearch.dataprepper.plugins.processor.aggregate.GroupStateSerialization$*;" +
+            "org.opensearch.dataprepper.plugins.processor.aggregate.actions.AppendedValues;" +
+            "org.opensearch.dataprepper.plugins.processor.aggregate.actions.Sketch$SerializedSketch;" +
+            RESOLVED_CLASSES + "!*");
+
+    private GroupStateSerialization() {
+    }
+
+    static ObjectInputStream createObjectInputStream(final InputStream inputStream) throws IOException {
+        final ObjectInputStream objectInputStream = new ObjectInputStream(inputStream);
+        objectInputStream.setObjectInputFilter(OBJECT_INPUT_FILTER);
+        return objectInputStream;
+    }
+
+    static void writeGroupState(final Map<Object, Object> groupState, final OutputStream outputStream) throws IOException {
+        final Map<Object, Object> serializableGroupState = new HashMap<>();
+        for (final Map.Entry<Object, Object> entry : groupState.entrySet()) {
+            final Object value = entry.getValue();
+            serializableGroupState.put(entry.getKey(), value instanceof Event ? new SerializedEvent((Event) value) : value);
+        }
+        final ObjectOutputStream objectOutputStream = new GroupStateOutputStream(outputStream);
+        objectOutputStream.writeObject(serializableGroupState);
+        objectOutputStream.flush();
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<Object, Object> readGroupState(final InputStream inputStream) throws IOException {
+        try (final ObjectInputStream objectInputStream = createObjectInputStream(inputStream)) {
+            return (Map<Object, Object>) objectInputStream.readObject();
+        } catch (final ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Serialized group state is not valid", e);
+        }
+    }
+
+    static byte[] serializeMap(final Map<Object, Object> map) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(new HashMap<>(map));
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<Object, Object> deserializeMap(final byte[] bytes) throws IOException {
+        try (final ObjectInputStream objectInputStream = createObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (Map<Object, Object>) objectInputStream.readObject();
+        } catch (final ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Serialized map is not valid", e);
+        }
+    }
+
+    /**
+     * Writes exemplars and identification keys, which are not serializable themselves, in their compact forms. The
+     * events which are values of the group state were replaced already, so any other event was collected to be sent on.
+     */
+    private static final class GroupStateOutputStream extends ObjectOutputStream {
+        private GroupStateOutputStream(final OutputStream outputStream) throws IOException {
+            super(outputStream);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(final Object object) throws IOException {
+            if (object instanceof Event) {
+                throw new NotSerializableException(object.getClass().getName());
+            } else if (object instanceof Exemplar) {
+                return new SerializedExemplar((Exemplar) object);
+            } else if (object instanceof IdentificationKeysHasher.IdentificationKeysMap) {
+                return new SerializedIdentificationKeysMap((IdentificationKeysHasher.IdentificationKeysMap) object);
+            }
+            return object;
+        }
+    }
+
+    private static final class SerializedEvent implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String eventType;
+        private final Instant timeReceived;
+        private final HashMap<String, Object> data;
+        private final boolean span;
+
+        private SerializedEvent(final Event event) {
+            this.eventType = event.getMetadata().getEventType();
+            this.timeReceived = event.getMetadata().getTimeReceived();
+            this.data = new HashMap<>(event.toMap());
+            this.span = event instanceof Span;
+        }
+
+        private Object readResolve() {
+            if (span) {
+                return JacksonSpan.builder()
+                        .withData(data)
+                        .withTimeReceived(timeReceived)
+                        .build();
+            }
+            return JacksonEvent.builder()
+                    .withEventType(eventType)
+                    .withTimeReceived(timeReceived)
+                    .withData(data)
+                    .build();
+        }
+    }
+
+    private static final class SerializedExemplar implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final String time;
+        private final Double value;
+        private final String spanId;
+        private final String traceId;
+        private final HashMap<String, Object> attributes;
+
+        private SerializedExemplar(final Exemplar exemplar) {
+            this.time = exemplar.getTime();
+            this.value = exemplar.getValue();
+            this.spanId = exemplar.getSpanId();
+            this.traceId = exemplar.getTraceId();
+            this.attributes = exemplar.getAttributes() != null ? new HashMap<>(exemplar.getAttributes()) : null;
+        }
+
+        private Object readResolve() {
+            return new DefaultExemplar(time, value, spanId, traceId, attributes);
+        }
+    }
+
+    private static final class SerializedIdentificationKeysMap implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final HashMap<Object, Object> keyMap;
+
+        private SerializedIdentificationKeysMap(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+            this.keyMap = new HashMap<>(identificationKeysMap.getKeyMap());
+        }
+
+        private Object readResolve() {
+            return new IdentificationKeysHasher.IdentificationKeysMap(keyMap);
+        }
+    }
+}
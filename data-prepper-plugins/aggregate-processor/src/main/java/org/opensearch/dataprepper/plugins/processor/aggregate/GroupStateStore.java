@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+
+import java.nio.file.Paths;
+import java.util.function.BiConsumer;
+
+/**
+ * Keeps the serialized state of groups which were evicted from the heap. Implementations must be thread-safe, as
+ * the groups of different partitions are evicted and restored concurrently.
+ */
+interface GroupStateStore {
+    void put(IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, byte[] serializedGroupState);
+
+    /**
+     * Removes the serialized state of the group.
+     *
+     * @return the serialized state, or null if there is none
+     */
+    byte[] remove(IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap);
+
+    /**
+     * Returns the serialized state of the group, which stays in the store.
+     *
+     * @return the serialized state, or null if there is none
+     */
+    byte[] get(IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap);
+
+    /**
+     * Removes the serialized state of the group without returning it.
+     */
+    default void delete(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        remove(identificationKeysMap);
+    }
+
+    long size();
+
+    /**
+     * Passes the serialized state of each group which was kept by a previous run of the processor to the consumer.
+     * The state stays in the store.
+     */
+    default void recover(final BiConsumer<IdentificationKeysHasher.IdentificationKeysMap, byte[]> consumer) {
+    }
+
+    /**
+     * Releases the resources of the store. Group state which is left in a store which keeps it across runs of the
+     * processor can be recovered.
+     */
+    default void close() {
+    }
+
+    /**
+     * @return the store for the configuration, or null if groups are kept on the heap
+     */
+    static GroupStateStore create(final GroupStateStoreConfig groupStateStoreConfig) {
+        switch (groupStateStoreConfig.getType()) {
+            case OFF_HEAP:
+                return new OffHeapGroupStateStore();
+            case LOCAL_FILE:
+                return new LocalFileGroupStateStore(Paths.get(groupStateStoreConfig.getDirectory()));
+            default:
+                return null;
+        }
+    }
+}
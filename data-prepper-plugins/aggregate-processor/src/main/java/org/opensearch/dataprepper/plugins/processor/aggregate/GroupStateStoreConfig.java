@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public class GroupStateStoreConfig {
+    static final int DEFAULT_MAX_GROUPS_IN_MEMORY = 10000;
+
+    @JsonPropertyDescription("Where the state of groups which do not fit in memory is kept. One of <code>heap</code>, <code>off_heap</code> or <code>local_file</code>. " +
+            "With <code>heap</code>, all groups are kept on the heap. Default is <code>heap</code>.")
+    @JsonProperty("type")
+    @NotNull
+    private GroupStateStoreType type = GroupStateStoreType.HEAP;
+
+    @JsonPropertyDescription("The number of groups whose state is kept on the heap. The state of the least recently used groups beyond this is moved to the store. Default is 10000.")
+    @JsonProperty("max_groups_in_memory")
+    @Min(1)
+    private int maxGroupsInMemory = DEFAULT_MAX_GROUPS_IN_MEMORY;
+
+    @JsonPropertyDescription("The directory in which the <code>local_file</code> store keeps group state. Group state which was written to the directory by a process " +
+            "which stopped without shutting down is recovered when the processor starts. Each aggregate processor needs its own directory.")
+    @JsonProperty("directory")
+    private String directory;
+
+    public GroupStateStoreType getType() {
+        return type;
+    }
+
+    public int getMaxGroupsInMemory() {
+        return maxGroupsInMemory;
+    }
+
+    public String getDirectory() {
+        return directory;
+    }
+
+    @AssertTrue(message = "directory must be set when the group state store type is local_file")
+    boolean isDirectoryValid() {
+        return type != GroupStateStoreType.LOCAL_FILE || directory != null;
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public enum GroupStateStoreType {
+    HEAP("heap"),
+    OFF_HEAP("off_heap"),
+    LOCAL_FILE("local_file");
+
+    private static final Map<String, GroupStateStoreType> TYPES_MAP = Arrays.stream(GroupStateStoreType.values())
+            .collect(Collectors.toMap(
+                    value -> value.name,
+                    value -> value
+            ));
+
+    private final String name;
+
+    GroupStateStoreType(final String name) {
+        this.name = name.toLowerCase();
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    @JsonCreator
+    static GroupStateStoreType fromOptionValue(final String option) {
+        return TYPES_MAP.get(option.toLowerCase());
+    }
+
+    @JsonValue
+    public String getOptionValue() {
+        return name;
+    }
+}
@@ -0,0 +1,616 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * Keeps serialized group state in append-only log files. Puts and removes are queued and appended in batches by a
+ * background thread every {@link #WRITE_INTERVAL}, or as soon as {@link #MAX_QUEUED_BYTES} are queued, so that callers
+ * do not write files while they hold the lock of their partition. Group state which is not written yet is served from
+ * the queue. A log file is deleted once none of its records are live and the log files before it were deleted, as the
+ * removals it records are not needed anymore then.
+ * <p>
+ * Each store locks a sub-directory of the directory for as long as it is open, so that the processors of different
+ * workers keep separate logs. A store takes over the logs of a sub-directory which no other store holds, which were
+ * left by a process which stopped without shutting down the processor, and recovers the groups whose state was written
+ * to them. Groups whose state was on the heap, or still queued, are not recovered.
+ * <p>
+ * Each record holds the length and the Java serialized identification keys of the group, followed by the length and
+ * the serialized state of the group, or {@link #REMOVED_STATE_LENGTH} when the group was removed.
+ */
+class LocalFileGroupStateStore implements GroupStateStore {
+    private static final Logger LOG = LoggerFactory.getLogger(LocalFileGroupStateStore.class);
+    static final String LOG_FILE_SUFFIX = ".log";
+    static final String LOCK_FILE_NAME = "store.lock";
+    static final String WRITER_THREAD_NAME = "aggregate-group-state-writer";
+    static final Duration WRITE_INTERVAL = Duration.ofMillis(100);
+    static final long MAX_QUEUED_BYTES = 8L * 1024 * 1024;
+    static final long MAX_LOG_FILE_BYTES = 64L * 1024 * 1024;
+    static final int REMOVED_STATE_LENGTH = -1;
+
+    private final Path storeDirectory;
+    private final FileLock storeLock;
+    private final ScheduledExecutorService writeScheduler;
+    private final Object writeMonitor = new Object();
+    private final Lock stateLock = new ReentrantLock();
+    // Each value is either a QueuedRecord or a WrittenRecord
+    private final Map<IdentificationKeysHasher.IdentificationKeysMap, Object> groupRecords = new HashMap<>();
+    private final Deque<LogFile> logFiles = new ArrayDeque<>();
+    private List<QueuedRecord> queuedRecords = new ArrayList<>();
+    private long queuedBytes;
+    private boolean writeRequested;
+    private LogFile currentLogFile;
+    private long nextLogFileSequence;
+
+    LocalFileGroupStateStore(final Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to create the group state directory " + directory, e);
+        }
+        ClaimedDirectory claimedDirectory = claimExistingStoreDirectory(directory);
+        if (claimedDirectory == null) {
+            claimedDirectory = claimNewStoreDirectory(directory);
+        }
+        this.storeDirectory = claimedDirectory.path;
+        this.storeLock = claimedDirectory.lock;
+        readLogFiles();
+
+        this.writeScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, WRITER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        writeScheduler.scheduleWithFixedDelay(this::writeQueuedRecordsSafely,
+                WRITE_INTERVAL.toMillis(), WRITE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void put(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, final byte[] serializedGroupState) {
+        final QueuedRecord queuedRecord = new QueuedRecord(identificationKeysMap, serializeKeys(identificationKeysMap), serializedGroupState);
+        stateLock.lock();
+        try {
+            releaseRecord(groupRecords.put(identificationKeysMap, queuedRecord));
+            queue(queuedRecord);
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    @Override
+    public byte[] remove(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        return removeRecord(identificationKeysMap, true);
+    }
+
+    @Override
+    public void delete(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        removeRecord(identificationKeysMap, false);
+    }
+
+    @Override
+    public byte[] get(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        final Object groupRecord;
+        stateLock.lock();
+        try {
+            groupRecord = groupRecords.get(identificationKeysMap);
+            if (groupRecord == null) {
+                return null;
+            }
+            if (groupRecord instanceof QueuedRecord) {
+                return ((QueuedRecord) groupRecord).serializedGroupState;
+            }
+        } finally {
+            stateLock.unlock();
+        }
+
+        // The log file is not deleted while the record is live, and the group is only removed under its partition lock
+        final WrittenRecord writtenRecord = (WrittenRecord) groupRecord;
+        try {
+            return readState(writtenRecord);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to read group state from " + writtenRecord.logFile.path, e);
+        }
+    }
+
+    @Override
+    public long size() {
+        stateLock.lock();
+        try {
+            return groupRecords.size();
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    @Override
+    public void recover(final BiConsumer<IdentificationKeysHasher.IdentificationKeysMap, byte[]> consumer) {
+        final Map<IdentificationKeysHasher.IdentificationKeysMap, Object> recoveredRecords;
+        stateLock.lock();
+        try {
+            recoveredRecords = new HashMap<>(groupRecords);
+        } finally {
+            stateLock.unlock();
+        }
+        for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, Object> recoveredRecord : recoveredRecords.entrySet()) {
+            if (!(recoveredRecord.getValue() instanceof WrittenRecord)) {
+                continue;
+            }
+            final byte[] serializedGroupState;
+            try {
+                serializedGroupState = readState((WrittenRecord) recoveredRecord.getValue());
+            } catch (final IOException e) {
+                LOG.warn("Unable to recover group state from {}, skipping it", ((WrittenRecord) recoveredRecord.getValue()).logFile.path, e);
+                continue;
+            }
+            consumer.accept(recoveredRecord.getKey(), serializedGroupState);
+        }
+    }
+
+    /**
+     * Writes the queued records and releases the sub-directory of the store. The logs are deleted if no group state
+     * is left in the store.
+     */
+    @Override
+    public void close() {
+        writeScheduler.shutdown();
+        try {
+            if (!writeScheduler.awaitTermination(WRITE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOG.warn("Timed out waiting for the group state writer to stop");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeQueuedRecords();
+
+        stateLock.lock();
+        try {
+            final boolean isEmpty = groupRecords.isEmpty();
+            for (final LogFile logFile : logFiles) {
+                closeQuietly(logFile);
+                if (isEmpty) {
+                    deleteQuietly(logFile.path);
+                }
+            }
+            logFiles.clear();
+            try {
+                storeLock.release();
+                storeLock.channel().close();
+            } catch (final IOException e) {
+                LOG.warn("Unable to release the group state directory {}", storeDirectory, e);
+            }
+            if (isEmpty) {
+                deleteQuietly(storeDirectory.resolve(LOCK_FILE_NAME));
+                deleteQuietly(storeDirectory);
+            }
+        } finally {
+            stateLock.unlock();
+        }
+    }
+
+    Path getStoreDirectory() {
+        return storeDirectory;
+    }
+
+    /**
+     * Appends the queued records to the current log file in one write.
+     */
+    void writeQueuedRecords() {
+        synchronized (writeMonitor) {
+            final List<QueuedRecord> recordsToWrite;
+            stateLock.lock();
+            try {
+                recordsToWrite = queuedRecords;
+                queuedRecords = new ArrayList<>();
+                queuedBytes = 0;
+                writeRequested = false;
+            } finally {
+                stateLock.unlock();
+            }
+            if (recordsToWrite.isEmpty()) {
+                return;
+            }
+
+            final LogFile logFile;
+            final long[] stateOffsets = new long[recordsToWrite.size()];
+            try {
+                logFile = getCurrentLogFile();
+                final ByteArrayOutputStream batch = new ByteArrayOutputStream();
+                final DataOutputStream batchOutputStream = new DataOutputStream(batch);
+                for (int i = 0; i < recordsToWrite.size(); i++) {
+                    final QueuedRecord queuedRecord = recordsToWrite.get(i);
+                    batchOutputStream.writeInt(queuedRecord.serializedKeys.length);
+                    batchOutputStream.write(queuedRecord.serializedKeys);
+                    if (queuedRecord.serializedGroupState == null) {
+                        batchOutputStream.writeInt(REMOVED_STATE_LENGTH);
+                    } else {
+                        batchOutputStream.writeInt(queuedRecord.serializedGroupState.length);
+                        stateOffsets[i] = logFile.size + batchOutputStream.size();
+                        batchOutputStream.write(queuedRecord.serializedGroupState);
+                    }
+                }
+                batchOutputStream.flush();
+                final ByteBuffer buffer = ByteBuffer.wrap(batch.toByteArray());
+                while (buffer.hasRemaining()) {
+                    logFile.channel.write(buffer, logFile.size + buffer.position());
+                }
+                logFile.size += buffer.capacity();
+            } catch (final IOException e) {
+                // The group state stays in the queued records, which serve it until the group is removed
+                LOG.warn("Unable to write group state to {}", storeDirectory, e);
+                return;
+            }
+
+            stateLock.lock();
+            try {
+                for (int i = 0; i < recordsToWrite.size(); i++) {
+                    final QueuedRecord queuedRecord = recordsToWrite.get(i);
+                    if (queuedRecord.serializedGroupState != null && groupRecords.get(queuedRecord.identificationKeysMap) == queuedRecord) {
+                        groupRecords.put(queuedRecord.identificationKeysMap,
+                                new WrittenRecord(logFile, stateOffsets[i], queuedRecord.serializedGroupState.length));
+                        logFile.liveRecords++;
+                    }
+                }
+                deleteUnusedLogFiles();
+            } finally {
+                stateLock.unlock();
+            }
+        }
+    }
+
+    private byte[] removeRecord(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap,
+                                final boolean readState) {
+        final Object groupRecord;
+        stateLock.lock();
+        try {
+            groupRecord = groupRecords.get(identificationKeysMap);
+            if (groupRecord == null) {
+                return null;
+            }
+            if (groupRecord instanceof QueuedRecord) {
+                groupRecords.remove(identificationKeysMap);
+                queue(new QueuedRecord(null, ((QueuedRecord) groupRecord).serializedKeys, null));
+                return ((QueuedRecord) groupRecord).serializedGroupState;
+            }
+        } finally {
+            stateLock.unlock();
+        }
+
+        // The log file is not deleted while the record is live, and the group is only removed under its partition lock
+        final WrittenRecord writtenRecord = (WrittenRecord) groupRecord;
+        try {
+            return readState ? readState(writtenRecord) : null;
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to read group state from " + writtenRecord.logFile.path, e);
+        } finally {
+            final QueuedRecord removedRecord = new QueuedRecord(null, serializeKeys(identificationKeysMap), null);
+            stateLock.lock();
+            try {
+                if (groupRecords.remove(identificationKeysMap, writtenRecord)) {
+                    releaseRecord(writtenRecord);
+                    queue(removedRecord);
+                }
+            } finally {
+                stateLock.unlock();
+            }
+        }
+    }
+
+    private void writeQueuedRecordsSafely() {
+        try {
+            writeQueuedRecords();
+        } catch (final RuntimeException e) {
+            LOG.warn("Unable to write group state to {}", storeDirectory, e);
+        }
+    }
+
+    private void queue(final QueuedRecord queuedRecord) {
+        queuedRecords.add(queuedRecord);
+        queuedBytes += queuedRecord.serializedKeys.length +
+                (queuedRecord.serializedGroupState == null ? 0 : queuedRecord.serializedGroupState.length);
+        if (queuedBytes >= MAX_QUEUED_BYTES && !writeRequested) {
+            writeRequested = true;
+            try {
+                writeScheduler.execute(this::writeQueuedRecordsSafely);
+            } catch (final RejectedExecutionException e) {
+                // The store is closing and writes the queued records itself
+            }
+        }
+    }
+
+    private void releaseRecord(final Object groupRecord) {
+        if (groupRecord instanceof WrittenRecord) {
+            ((WrittenRecord) groupRecord).logFile.liveRecords--;
+        }
+    }
+
+    private LogFile getCurrentLogFile() throws IOException {
+        if (currentLogFile != null && currentLogFile.size < MAX_LOG_FILE_BYTES) {
+            return currentLogFile;
+        }
+        final Path path = storeDirectory.resolve(String.format("%019d", nextLogFileSequence) + LOG_FILE_SUFFIX);
+        final LogFile logFile = new LogFile(path, FileChannel.open(path,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE));
+        nextLogFileSequence++;
+        stateLock.lock();
+        try {
+            logFiles.addLast(logFile);
+            currentLogFile = logFile;
+        } finally {
+            stateLock.unlock();
+        }
+        return logFile;
+    }
+
+    private void deleteUnusedLogFiles() {
+        while (!logFiles.isEmpty() && logFiles.peekFirst() != currentLogFile && logFiles.peekFirst().liveRecords <= 0) {
+            final LogFile logFile = logFiles.pollFirst();
+            closeQuietly(logFile);
+            deleteQuietly(logFile.path);
+        }
+    }
+
+    private static byte[] readState(final WrittenRecord writtenRecord) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(writtenRecord.length);
+        while (buffer.hasRemaining()) {
+            if (writtenRecord.logFile.channel.read(buffer, writtenRecord.offset + buffer.position()) < 0) {
+                throw new EOFException("Group state ends before its length");
+            }
+        }
+        return buffer.array();
+    }
+
+    private static byte[] serializeKeys(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        try {
+            return GroupStateSerialization.serializeMap(identificationKeysMap.getKeyMap());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to serialize the identification keys of the group", e);
+        }
+    }
+
+    private void readLogFiles() {
+        final List<Path> paths = new ArrayList<>();
+        try (final DirectoryStream<Path> files = Files.newDirectoryStream(storeDirectory, "*" + LOG_FILE_SUFFIX)) {
+            files.forEach(paths::add);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to recover group state from " + storeDirectory, e);
+        }
+        paths.sort(null);
+        for (final Path path : paths) {
+            final LogFile logFile;
+            try {
+                logFile = new LogFile(path, FileChannel.open(path, StandardOpenOption.READ));
+            } catch (final IOException e) {
+                LOG.warn("Unable to recover group state from {}, skipping it", path, e);
+                continue;
+            }
+            logFiles.addLast(logFile);
+            readLogFile(logFile);
+            nextLogFileSequence = Math.max(nextLogFileSequence, parseSequence(path) + 1);
+        }
+        deleteUnusedLogFiles();
+    }
+
+    private void readLogFile(final LogFile logFile) {
+        try (final DataInputStream inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(logFile.path)))) {
+            final long fileSize = logFile.channel.size();
+            long offset = 0;
+            while (offset < fileSize) {
+                final int keysLength = inputStream.readInt();
+                if (keysLength < 0 || keysLength > fileSize - offset) {
+                    throw new IOException("Record at " + offset + " is not valid");
+                }
+                final byte[] serializedKeys = new byte[keysLength];
+                inputStream.readFully(serializedKeys);
+                final int stateLength = inputStream.readInt();
+                offset += Integer.BYTES + keysLength + Integer.BYTES;
+                if (stateLength != REMOVED_STATE_LENGTH && (stateLength < 0 || stateLength > fileSize - offset)) {
+                    throw new IOException("Record at " + offset + " is not valid");
+                }
+                final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap;
+                try {
+                    identificationKeysMap = new IdentificationKeysHasher.IdentificationKeysMap(GroupStateSerialization.deserializeMap(serializedKeys));
+                } catch (final IOException e) {
+                    LOG.warn("Unable to recover a group from {}, skipping it", logFile.path, e);
+                    if (stateLength != REMOVED_STATE_LENGTH) {
+                        skipFully(inputStream, stateLength);
+                        offset += stateLength;
+                    }
+                    continue;
+                }
+                if (stateLength == REMOVED_STATE_LENGTH) {
+                    releaseRecord(groupRecords.remove(identificationKeysMap));
+                    continue;
+                }
+                skipFully(inputStream, stateLength);
+                releaseRecord(groupRecords.put(identificationKeysMap, new WrittenRecord(logFile, offset, stateLength)));
+                logFile.liveRecords++;
+                offset += stateLength;
+            }
+            logFile.size = fileSize;
+        } catch (final IOException e) {
+            LOG.warn("Unable to recover all of the group state in {}, skipping the rest of it", logFile.path, e);
+        }
+    }
+
+    private static void skipFully(final DataInputStream inputStream, final int length) throws IOException {
+        int remaining = length;
+        while (remaining > 0) {
+            final int skipped = inputStream.skipBytes(remaining);
+            if (skipped <= 0) {
+                throw new EOFException("Group state ends before its length");
+            }
+            remaining -= skipped;
+        }
+    }
+
+    private static long parseSequence(final Path path) {
+        final String fileName = path.getFileName().toString();
+        try {
+            return Long.parseLong(fileName.substring(0, fileName.length() - LOG_FILE_SUFFIX.length()));
+        } catch (final NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static ClaimedDirectory claimExistingStoreDirectory(final Path directory) {
+        final List<Path> storeDirectories = new ArrayList<>();
+        try (final DirectoryStream<Path> files = Files.newDirectoryStream(directory, Files::isDirectory)) {
+            files.forEach(storeDirectories::add);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to list the group state directory " + directory, e);
+        }
+        storeDirectories.sort(null);
+        for (final Path storeDirectory : storeDirectories) {
+            final FileLock fileLock = tryLock(storeDirectory);
+            if (fileLock != null) {
+                return new ClaimedDirectory(storeDirectory, fileLock);
+            }
+        }
+        return null;
+    }
+
+    private static ClaimedDirectory claimNewStoreDirectory(final Path directory) {
+        final Path storeDirectory = directory.resolve(UUID.randomUUID().toString());
+        try {
+            Files.createDirectory(storeDirectory);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to create the group state directory " + storeDirectory, e);
+        }
+        final FileLock fileLock = tryLock(storeDirectory);
+        if (fileLock == null) {
+            throw new IllegalStateException("Unable to lock the group state directory " + storeDirectory);
+        }
+        return new ClaimedDirectory(storeDirectory, fileLock);
+    }
+
+    private static FileLock tryLock(final Path storeDirectory) {
+        final FileChannel lockChannel;
+        try {
+            lockChannel = FileChannel.open(storeDirectory.resolve(LOCK_FILE_NAME), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        } catch (final IOException e) {
+            LOG.warn("Unable to open the lock of the group state directory {}", storeDirectory, e);
+            return null;
+        }
+        try {
+            final FileLock fileLock = lockChannel.tryLock();
+            if (fileLock != null) {
+                return fileLock;
+            }
+        } catch (final IOException | OverlappingFileLockException e) {
+            // Held by another store of this process
+        }
+        try {
+            lockChannel.close();
+        } catch (final IOException e) {
+            LOG.debug("Unable to close the lock of the group state directory {}", storeDirectory, e);
+        }
+        return null;
+    }
+
+    private static void closeQuietly(final LogFile logFile) {
+        try {
+            logFile.channel.close();
+        } catch (final IOException e) {
+            LOG.debug("Unable to close {}", logFile.path, e);
+        }
+    }
+
+    private static void deleteQuietly(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException e) {
+            LOG.warn("Unable to delete {}", path, e);
+        }
+    }
+
+    private static final class ClaimedDirectory {
+        private final Path path;
+        private final FileLock lock;
+
+        private ClaimedDirectory(final Path path, final FileLock lock) {
+            this.path = path;
+            this.lock = lock;
+        }
+    }
+
+    /**
+     * A put, or a removal when there is no group state, which is not written yet.
+     */
+    private static final class QueuedRecord {
+        private final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap;
+        private final byte[] serializedKeys;
+        private final byte[] serializedGroupState;
+
+        private QueuedRecord(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap,
+                             final byte[] serializedKeys, final byte[] serializedGroupState) {
+            this.identificationKeysMap = identificationKeysMap;
+            this.serializedKeys = serializedKeys;
+            this.serializedGroupState = serializedGroupState;
+        }
+    }
+
+    private static final class WrittenRecord {
+        private final LogFile logFile;
+        private final long offset;
+        private final int length;
+
+        private WrittenRecord(final LogFile logFile, final long offset, final int length) {
+            this.logFile = logFile;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    private static final class LogFile {
+        private final Path path;
+        private final FileChannel channel;
+        private long size;
+        private int liveRecords;
+
+        private LogFile(final Path path, final FileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+    }
+}
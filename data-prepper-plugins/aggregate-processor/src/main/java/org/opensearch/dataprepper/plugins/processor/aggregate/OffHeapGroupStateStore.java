@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps serialized group state outside of the heap, in direct buffers of {@link #SEGMENT_BYTES} which are allocated
+ * once and filled in order. A segment is reused once none of the group states in it are live, and up to
+ * {@link #MAX_FREE_SEGMENTS} unused segments are pooled. Group states larger than a segment get a buffer of their own.
+ */
+class OffHeapGroupStateStore implements GroupStateStore {
+    static final int SEGMENT_BYTES = 4 * 1024 * 1024;
+    static final int MAX_FREE_SEGMENTS = 4;
+
+    private final int segmentBytes;
+    private final Map<IdentificationKeysHasher.IdentificationKeysMap, Slice> slices = new HashMap<>();
+    private final Deque<Segment> freeSegments = new ArrayDeque<>();
+    private Segment currentSegment;
+    private int allocatedSegments;
+
+    OffHeapGroupStateStore() {
+        this(SEGMENT_BYTES);
+    }
+
+    OffHeapGroupStateStore(final int segmentBytes) {
+        this.segmentBytes = segmentBytes;
+    }
+
+    @Override
+    public synchronized void put(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, final byte[] serializedGroupState) {
+        final Slice previousSlice = slices.remove(identificationKeysMap);
+        if (previousSlice != null) {
+            release(previousSlice);
+        }
+        final Segment segment = getSegmentWithRoom(serializedGroupState.length);
+        final ByteBuffer buffer = segment.buffer.duplicate();
+        buffer.position(segment.position);
+        buffer.put(serializedGroupState);
+        slices.put(identificationKeysMap, new Slice(segment, segment.position, serializedGroupState.length));
+        segment.position += serializedGroupState.length;
+        segment.liveSlices++;
+    }
+
+    @Override
+    public synchronized byte[] remove(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        final Slice slice = slices.remove(identificationKeysMap);
+        if (slice == null) {
+            return null;
+        }
+        final byte[] serializedGroupState = read(slice);
+        release(slice);
+        return serializedGroupState;
+    }
+
+    @Override
+    public synchronized void delete(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        final Slice slice = slices.remove(identificationKeysMap);
+        if (slice != null) {
+            release(slice);
+        }
+    }
+
+    @Override
+    public synchronized byte[] get(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        final Slice slice = slices.get(identificationKeysMap);
+        return slice != null ? read(slice) : null;
+    }
+
+    @Override
+    public synchronized long size() {
+        return slices.size();
+    }
+
+    synchronized int getAllocatedSegments() {
+        return allocatedSegments;
+    }
+
+    private static byte[] read(final Slice slice) {
+        final byte[] serializedGroupState = new byte[slice.length];
+        final ByteBuffer buffer = slice.segment.buffer.duplicate();
+        buffer.position(slice.offset);
+        buffer.get(serializedGroupState);
+        return serializedGroupState;
+    }
+
+    private Segment getSegmentWithRoom(final int length) {
+        if (length > segmentBytes) {
+            allocatedSegments++;
+            return new Segment(ByteBuffer.allocateDirect(length));
+        }
+        if (currentSegment != null && currentSegment.buffer.capacity() - currentSegment.position >= length) {
+            return currentSegment;
+        }
+        if (currentSegment != null && currentSegment.liveSlices == 0) {
+            currentSegment.position = 0;
+            return currentSegment;
+        }
+        currentSegment = freeSegments.pollFirst();
+        if (currentSegment == null) {
+            allocatedSegments++;
+            currentSegment = new Segment(ByteBuffer.allocateDirect(segmentBytes));
+        }
+        return currentSegment;
+    }
+
+    private void release(final Slice slice) {
+        final Segment segment = slice.segment;
+        segment.liveSlices--;
+        if (segment.liveSlices > 0) {
+            return;
+        }
+        if (segment == currentSegment) {
+            segment.position = 0;
+        } else if (segment.buffer.capacity() == segmentBytes && freeSegments.size() < MAX_FREE_SEGMENTS) {
+            segment.position = 0;
+            freeSegments.addLast(segment);
+        } else {
+            // Left to the garbage collector, which frees the direct memory of the buffer
+            allocatedSegments--;
+        }
+    }
+
+    private static final class Segment {
+        private final ByteBuffer buffer;
+        private int position;
+        private int liveSlices;
+
+        private Segment(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+    }
+
+    private static final class Slice {
+        private final Segment segment;
+        private final int offset;
+        private final int length;
+
+        private Slice(final Segment segment, final int offset, final int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+}
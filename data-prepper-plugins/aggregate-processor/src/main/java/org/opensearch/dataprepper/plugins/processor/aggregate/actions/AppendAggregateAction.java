@@ -9,9 +9,13 @@
 
 package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
 
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateAction;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInput;
@@ -19,9 +23,12 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionOut
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.GroupState;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * An AggregateAction that combines multiple Events into a single Event. This
@@ -30,18 +37,40 @@ import java.util.Objects;
  * and will create a combined Event from the groupState on concludeGroup. If
  * smaller Events have the same keys, then the value for those keys would be appended in group state.
  * The append action is controlled by the keys_to_append field in config. If this field is not empty,
- * the append action will choose only the listed keys.
+ * the append action will choose only the listed keys, and only reads those keys from the smaller Events.
+ * The appended values of a key are kept in {@link AppendedValues}, which can limit their number and skip equal values.
  *
  * @since 2.2
  */
 @DataPrepperPlugin(name = "append", pluginType = AggregateAction.class, pluginConfigurationType = AppendAggregateActionConfig.class)
 public class AppendAggregateAction implements AggregateAction {
     static final String EVENT_TYPE = "event";
+    static final String APPENDED_VALUES = "appendedValues";
+    static final String APPENDED_VALUES_DROPPED = "appendedValuesDropped";
     public final List<String> keysToAppend;
+    private final Map<String, EventKey> eventKeysToAppend;
+    private final int maxValuesPerKey;
+    private final boolean uniqueValues;
+    private final AtomicLong appendedValues;
+    private final Counter appendedValuesDroppedCounter;
 
     @DataPrepperPluginConstructor
-    public AppendAggregateAction(final AppendAggregateActionConfig appendAggregateActionConfig) {
+    public AppendAggregateAction(final AppendAggregateActionConfig appendAggregateActionConfig,
+                                 final PluginMetrics pluginMetrics,
+                                 final EventKeyFactory eventKeyFactory) {
         this.keysToAppend = appendAggregateActionConfig.getKeysToAppend();
+        this.eventKeysToAppend = new LinkedHashMap<>();
+        if (keysToAppend != null) {
+            for (final String key : keysToAppend) {
+                eventKeysToAppend.put(key, eventKeyFactory.createEventKey(key, EventKeyFactory.EventAction.GET));
+            }
+        }
+        final Integer maxValuesPerKey = appendAggregateActionConfig.getMaxValuesPerKey();
+        this.maxValuesPerKey = maxValuesPerKey != null ? maxValuesPerKey : Integer.MAX_VALUE;
+        this.uniqueValues = appendAggregateActionConfig.getUniqueValues();
+        this.appendedValues = new AtomicLong();
+        pluginMetrics.gauge(APPENDED_VALUES, appendedValues, AtomicLong::get);
+        this.appendedValuesDroppedCounter = pluginMetrics.counter(APPENDED_VALUES_DROPPED);
     }
 
     /*
@@ -62,24 +91,58 @@ public class AppendAggregateAction implements AggregateAction {
         return AggregateActionResponse.nullEventResponse();
     }
 
-    private void consumeEvent(GroupState groupState, Event event) {
-        // For each key in event if the key is defined in keysToAppend, then merge the values in groupState.
-        event.toMap().forEach((key, value) -> {
-            if (this.keysToAppend == null || keysToAppend.isEmpty() || this.keysToAppend.contains(key)) {
-                Object valueFromGroupState = groupState.getOrDefault(key, value);
-                if (valueFromGroupState instanceof List) {
-                    if (value instanceof List) {
-                        ((List) valueFromGroupState).addAll((List) value);
-                    } else {
-                        ((List) valueFromGroupState).add(value);
-                    }
-                } else {
-                    if (!Objects.equals(value, valueFromGroupState)) {
-                        groupState.put(key, Arrays.asList(valueFromGroupState, value));
-                    }
+    private void consumeEvent(final GroupState groupState, final Event event) {
+        // Only the keys of the first event are appended, so the other keys of the event are never read.
+        if (eventKeysToAppend.isEmpty()) {
+            event.toMap().forEach((key, value) -> {
+                if (groupState.containsKey(key)) {
+                    appendValue(groupState, key, value);
+                }
+            });
+        } else {
+            eventKeysToAppend.forEach((key, eventKey) -> {
+                if (groupState.containsKey(key)) {
+                    appendValue(groupState, key, event.get(eventKey, Object.class));
                 }
+            });
+        }
+    }
+
+    private void appendValue(final GroupState groupState, final String key, final Object value) {
+        if (value == null) {
+            return;
+        }
+        final Object valueFromGroupState = groupState.get(key);
+        final AppendedValues values;
+        if (valueFromGroupState instanceof AppendedValues) {
+            values = (AppendedValues) valueFromGroupState;
+        } else {
+            if (!(valueFromGroupState instanceof List) && Objects.equals(value, valueFromGroupState)) {
+                return;
             }
-        });
+            values = new AppendedValues(maxValuesPerKey, uniqueValues);
+            addValues(values, valueFromGroupState);
+            groupState.put(key, values);
+        }
+        addValues(values, value);
+    }
+
+    private void addValues(final AppendedValues values, final Object value) {
+        if (value instanceof List) {
+            for (final Object element : (List<?>) value) {
+                addValue(values, element);
+            }
+        } else {
+            addValue(values, value);
+        }
+    }
+
+    private void addValue(final AppendedValues values, final Object value) {
+        if (values.isFull()) {
+            appendedValuesDroppedCounter.increment();
+        } else if (values.add(value)) {
+            appendedValues.incrementAndGet();
+        }
     }
 
     @Override
@@ -88,9 +151,18 @@ public class AppendAggregateAction implements AggregateAction {
             return null;
         }
 
+        final Map<Object, Object> data = new HashMap<>(aggregateActionInput.getGroupState());
+        data.replaceAll((key, value) -> {
+            if (value instanceof AppendedValues) {
+                final AppendedValues values = (AppendedValues) value;
+                appendedValues.addAndGet(-values.size());
+                return values.toList();
+            }
+            return value;
+        });
         final Event event = JacksonEvent.builder()
                 .withEventType(EVENT_TYPE)
-                .withData(aggregateActionInput.getGroupState())
+                .withData(data)
                 .withEventHandle(aggregateActionInput.getEventHandle())
                 .build();
         return new AggregateActionOutput(List.of(event));
@@ -15,6 +15,7 @@ import com.fasterxml.jackson.annotation.JsonClassDescription;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.validation.constraints.Min;
 
 @JsonPropertyOrder
 @JsonClassDescription("Appends multiple events into a single event.")
@@ -24,8 +25,25 @@ public class AppendAggregateActionConfig {
     @JsonPropertyDescription("A list of keys to append to for the aggregated result.")
     List<String> keysToAppend;
 
+    @JsonProperty("max_values_per_key")
+    @JsonPropertyDescription("The maximum number of values appended to each key of a group. Later values of a key are not appended " +
+            "once the maximum is reached. By default, the number of values is not limited.")
+    @Min(1)
+    Integer maxValuesPerKey;
+
+    @JsonProperty("unique_values")
+    @JsonPropertyDescription("A Boolean value indicating whether a value which is equal to a value already appended to the key is skipped. Default is false.")
+    boolean uniqueValues = false;
+
     public List<String> getKeysToAppend() {
         return keysToAppend;
     }
 
+    public Integer getMaxValuesPerKey() {
+        return maxValuesPerKey;
+    }
+
+    public boolean getUniqueValues() {
+        return uniqueValues;
+    }
 }
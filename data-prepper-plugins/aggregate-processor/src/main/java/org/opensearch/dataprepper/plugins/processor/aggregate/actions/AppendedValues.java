@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The values appended to a key of the group state by the {@link AppendAggregateAction}. Integer values and double values
+ * are kept in primitive arrays, and are only boxed when a value of another type is appended to the same key. The number
+ * of values can be limited, in which case later values are not appended, and equal values can be appended only once.
+ */
+final class AppendedValues implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final int maxValues;
+    private final Set<Object> uniqueValues;
+    private long[] longValues;
+    private boolean onlyIntegers = true;
+    private double[] doubleValues;
+    private List<Object> objectValues;
+    private int size;
+
+    AppendedValues(final int maxValues, final boolean unique) {
+        this.maxValues = maxValues;
+        this.uniqueValues = unique ? new HashSet<>() : null;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isFull() {
+        return size >= maxValues;
+    }
+
+    /**
+     * Appends a value unless the maximum number of values is reached or an equal value was appended to unique values.
+     *
+     * @return true if the value was appended
+     */
+    boolean add(final Object value) {
+        if (isFull() || (uniqueValues != null && !uniqueValues.add(normalize(value)))) {
+            return false;
+        }
+        if (objectValues == null) {
+            if ((value instanceof Integer || value instanceof Long) && doubleValues == null) {
+                addLong(((Number) value).longValue(), value instanceof Integer);
+                return true;
+            }
+            if (value instanceof Double && longValues == null) {
+                addDouble((Double) value);
+                return true;
+            }
+            objectValues = toList();
+            longValues = null;
+            doubleValues = null;
+        }
+        objectValues.add(value);
+        size++;
+        return true;
+    }
+
+    List<Object> toList() {
+        if (objectValues != null) {
+            return new ArrayList<>(objectValues);
+        }
+        final List<Object> values = new ArrayList<>(Math.max(size, INITIAL_CAPACITY));
+        for (int i = 0; i < size; i++) {
+            if (longValues != null) {
+                values.add(onlyIntegers ? (Object) (int) longValues[i] : (Object) longValues[i]);
+            } else {
+                values.add(doubleValues[i]);
+            }
+        }
+        return values;
+    }
+
+    private void addLong(final long value, final boolean isInteger) {
+        if (longValues == null) {
+            longValues = new long[INITIAL_CAPACITY];
+        } else if (size == longValues.length) {
+            longValues = Arrays.copyOf(longValues, grow(size));
+        }
+        longValues[size++] = value;
+        onlyIntegers &= isInteger;
+    }
+
+    private void addDouble(final double value) {
+        if (doubleValues == null) {
+            doubleValues = new double[INITIAL_CAPACITY];
+        } else if (size == doubleValues.length) {
+            doubleValues = Arrays.copyOf(doubleValues, grow(size));
+        }
+        doubleValues[size++] = value;
+    }
+
+    private static int grow(final int capacity) {
+        return capacity + (capacity >> 1);
+    }
+
+    /**
+     * Integers and longs with the same value are the same value in the aggregated event.
+     */
+    private static Object normalize(final Object value) {
+        return value instanceof Integer ? Long.valueOf((Integer) value) : value;
+    }
+}
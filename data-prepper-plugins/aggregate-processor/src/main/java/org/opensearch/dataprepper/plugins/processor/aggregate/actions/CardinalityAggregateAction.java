@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateAction;
+
+import java.util.Map;
+
+/**
+ * An AggregateAction that estimates the number of distinct values of a key in the events of a group with a
+ * {@link HyperLogLog}, and creates a single Event with the estimate on concludeGroup.
+ * @since 2.15
+ */
+@DataPrepperPlugin(name = "cardinality", pluginType = AggregateAction.class, pluginConfigurationType = CardinalityAggregateActionConfig.class)
+public class CardinalityAggregateAction extends SketchAggregateAction<HyperLogLog> {
+    static final String GROUP_STATE_KEY = "__cardinality_sketch";
+    static final String CARDINALITY_KEY = "cardinality";
+
+    private final String key;
+    private final int precision;
+
+    @DataPrepperPluginConstructor
+    public CardinalityAggregateAction(final CardinalityAggregateActionConfig cardinalityAggregateActionConfig) {
+        super(GROUP_STATE_KEY, cardinalityAggregateActionConfig.getGeneratedKeyPrefix(), cardinalityAggregateActionConfig.getIncludeSketch());
+        this.key = cardinalityAggregateActionConfig.getKey();
+        this.precision = cardinalityAggregateActionConfig.getPrecision();
+    }
+
+    @Override
+    HyperLogLog createSketch() {
+        return new HyperLogLog(precision);
+    }
+
+    @Override
+    void addEvent(final HyperLogLog sketch, final Event event) {
+        final Object value = event.get(key, Object.class);
+        if (value != null) {
+            sketch.add(value);
+        }
+    }
+
+    @Override
+    void putResults(final HyperLogLog sketch, final Map<Object, Object> data, final String generatedKeyPrefix) {
+        data.put(generatedKeyPrefix + CARDINALITY_KEY, sketch.getCardinality());
+    }
+}
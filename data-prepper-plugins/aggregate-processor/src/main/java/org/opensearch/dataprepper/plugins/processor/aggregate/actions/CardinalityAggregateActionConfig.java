@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import com.fasterxml.jackson.annotation.JsonClassDescription;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@JsonPropertyOrder
+@JsonClassDescription("The <code>cardinality</code> action aggregates events belonging to the same group and generates " +
+        "a new event with values of the <code>identification_keys</code> and the estimated number of distinct values " +
+        "of a configured <code>key</code>. The number is estimated with a HyperLogLog, which uses 2^precision bytes " +
+        "per group. The action drops all events that make up the combined event.")
+public class CardinalityAggregateActionConfig {
+    static final int DEFAULT_PRECISION = 14;
+    static final String DEFAULT_GENERATED_KEY_PREFIX = "aggr._";
+
+    @JsonPropertyDescription("Name of the field in the events with the values to count the distinct values of.")
+    @JsonProperty("key")
+    @NotNull
+    String key;
+
+    @JsonPropertyDescription("The precision of the estimate, between 4 and 18. The relative standard error is about " +
+            "1.04 / sqrt(2^precision), which is 0.8% for the default of 14.")
+    @JsonProperty(value = "precision", defaultValue = "14")
+    @Min(HyperLogLog.MIN_PRECISION)
+    @Max(HyperLogLog.MAX_PRECISION)
+    int precision = DEFAULT_PRECISION;
+
+    @JsonPropertyDescription("Key prefix used by all the fields created in the aggregated event.")
+    @JsonProperty(value = "generated_key_prefix", defaultValue = DEFAULT_GENERATED_KEY_PREFIX)
+    String generatedKeyPrefix = DEFAULT_GENERATED_KEY_PREFIX;
+
+    @JsonPropertyDescription("A Boolean value indicating whether the aggregated event should include the serialized sketch, " +
+            "so that a later <code>cardinality</code> action can merge it. Default is false.")
+    @JsonProperty("include_sketch")
+    boolean includeSketch = false;
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public String getGeneratedKeyPrefix() {
+        return generatedKeyPrefix;
+    }
+
+    public boolean getIncludeSketch() {
+        return includeSketch;
+    }
+}
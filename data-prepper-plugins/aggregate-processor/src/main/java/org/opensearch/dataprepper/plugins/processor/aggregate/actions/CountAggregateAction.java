@@ -56,7 +56,6 @@ public class CountAggregateAction implements AggregateAction {
     public final String startTimeKey;
     public final String endTimeKey;
     public final OutputFormat outputFormat;
-    private long startTimeNanos;
     private final String metricName;
     private final IdentificationKeysHasher uniqueKeysHasher;
 
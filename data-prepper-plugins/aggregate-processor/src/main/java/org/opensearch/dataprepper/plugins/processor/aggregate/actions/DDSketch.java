@@ -0,0 +1,234 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+/**
+ * A DDSketch, which estimates quantiles with a relative error. Values are counted in logarithmically sized buckets,
+ * so that every value in a bucket is within the relative accuracy of the value the bucket represents. When a store
+ * would need more than the maximum number of buckets, its lowest buckets are collapsed, which only loses accuracy
+ * for the values closest to zero.
+ */
+class DDSketch extends Sketch {
+    private final double relativeAccuracy;
+    private final int maxBuckets;
+    private final double logGamma;
+    private final double bucketValueFactor;
+    private final BucketStore positiveBuckets;
+    private final BucketStore negativeBuckets;
+    private long zeroCount;
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    DDSketch(final double relativeAccuracy, final int maxBuckets) {
+        if (!(relativeAccuracy > 0.0 && relativeAccuracy < 1.0)) {
+            throw new IllegalArgumentException("relativeAccuracy must be greater than 0.0 and less than 1.0");
+        }
+        if (maxBuckets < 1) {
+            throw new IllegalArgumentException("maxBuckets must be greater than 0");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.maxBuckets = maxBuckets;
+        final double gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+        this.bucketValueFactor = 2 / (1 + gamma);
+        this.positiveBuckets = new BucketStore(maxBuckets);
+        this.negativeBuckets = new BucketStore(maxBuckets);
+    }
+
+    /**
+     * Adds a value. Values which are not finite are ignored.
+     */
+    void add(final double value) {
+        if (!Double.isFinite(value)) {
+            return;
+        }
+        if (value >= Double.MIN_NORMAL) {
+            positiveBuckets.add(bucketIndex(value), 1);
+        } else if (value <= -Double.MIN_NORMAL) {
+            negativeBuckets.add(bucketIndex(-value), 1);
+        } else {
+            zeroCount++;
+        }
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Returns the estimated value at a quantile between 0.0 and 1.0, or NaN when no values were added.
+     */
+    double getQuantile(final double quantile) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        final long rank = (long) (quantile * (count - 1));
+        final double value;
+        if (rank < negativeBuckets.total) {
+            value = -bucketValue(negativeBuckets.getDescendingIndexAtRank(rank));
+        } else if (rank < negativeBuckets.total + zeroCount) {
+            value = 0.0;
+        } else {
+            value = bucketValue(positiveBuckets.getAscendingIndexAtRank(rank - negativeBuckets.total - zeroCount));
+        }
+        return Math.max(min, Math.min(max, value));
+    }
+
+    long getCount() {
+        return count;
+    }
+
+    double getSum() {
+        return sum;
+    }
+
+    double getMin() {
+        return min;
+    }
+
+    double getMax() {
+        return max;
+    }
+
+    private int bucketIndex(final double value) {
+        return (int) Math.ceil(Math.log(value) / logGamma);
+    }
+
+    private double bucketValue(final int index) {
+        return Math.exp(index * logGamma) * bucketValueFactor;
+    }
+
+    @Override
+    boolean hasSameConfiguration(final Sketch other) {
+        final DDSketch that = (DDSketch) other;
+        return relativeAccuracy == that.relativeAccuracy && maxBuckets == that.maxBuckets;
+    }
+
+    @Override
+    void mergeSketch(final Sketch other) {
+        final DDSketch that = (DDSketch) other;
+        positiveBuckets.addAll(that.positiveBuckets);
+        negativeBuckets.addAll(that.negativeBuckets);
+        zeroCount += that.zeroCount;
+        count += that.count;
+        sum += that.sum;
+        min = Math.min(min, that.min);
+        max = Math.max(max, that.max);
+    }
+
+    @Override
+    void writeTo(final SketchOutput output) {
+        output.writeByte(DDSKETCH_TYPE);
+        output.writeDouble(relativeAccuracy);
+        output.writeVarLong(maxBuckets);
+        output.writeVarLong(zeroCount);
+        output.writeDouble(sum);
+        output.writeDouble(min);
+        output.writeDouble(max);
+        positiveBuckets.writeTo(output);
+        negativeBuckets.writeTo(output);
+    }
+
+    static DDSketch readFrom(final SketchInput input) {
+        final double relativeAccuracy = input.readDouble();
+        final DDSketch sketch = new DDSketch(relativeAccuracy, input.readLength(Integer.MAX_VALUE));
+        sketch.zeroCount = input.readVarLong();
+        sketch.sum = input.readDouble();
+        sketch.min = input.readDouble();
+        sketch.max = input.readDouble();
+        sketch.positiveBuckets.readFrom(input);
+        sketch.negativeBuckets.readFrom(input);
+        sketch.count = sketch.zeroCount + sketch.positiveBuckets.total + sketch.negativeBuckets.total;
+        return sketch;
+    }
+
+    /**
+     * Counts of a contiguous range of bucket indexes.
+     */
+    private static final class BucketStore {
+        private final int maxBuckets;
+        private long[] counts = new long[0];
+        private int offset;
+        private long total;
+
+        private BucketStore(final int maxBuckets) {
+            this.maxBuckets = maxBuckets;
+        }
+
+        private void add(final int index, final long bucketCount) {
+            if (counts.length == 0) {
+                counts = new long[1];
+                offset = index;
+            } else if (index < offset || index >= offset + counts.length) {
+                extendRange(index);
+            }
+            counts[Math.max(index, offset) - offset] += bucketCount;
+            total += bucketCount;
+        }
+
+        private void extendRange(final int index) {
+            final int high = Math.max(index, offset + counts.length - 1);
+            final int low = Math.max(Math.min(index, offset), high - maxBuckets + 1);
+            final long[] extendedCounts = new long[high - low + 1];
+            for (int i = 0; i < counts.length; i++) {
+                extendedCounts[Math.max(offset + i, low) - low] += counts[i];
+            }
+            counts = extendedCounts;
+            offset = low;
+        }
+
+        private void addAll(final BucketStore other) {
+            for (int i = 0; i < other.counts.length; i++) {
+                if (other.counts[i] != 0) {
+                    add(other.offset + i, other.counts[i]);
+                }
+            }
+        }
+
+        private int getAscendingIndexAtRank(final long rank) {
+            int i = 0;
+            long seen = counts[0];
+            while (seen <= rank) {
+                i++;
+                seen += counts[i];
+            }
+            return offset + i;
+        }
+
+        private int getDescendingIndexAtRank(final long rank) {
+            int i = counts.length - 1;
+            long seen = counts[i];
+            while (seen <= rank) {
+                i--;
+                seen += counts[i];
+            }
+            return offset + i;
+        }
+
+        private void writeTo(final SketchOutput output) {
+            output.writeVarLong(counts.length);
+            output.writeInt(offset);
+            for (final long bucketCount : counts) {
+                output.writeVarLong(bucketCount);
+            }
+        }
+
+        private void readFrom(final SketchInput input) {
+            counts = new long[input.readLength(Math.min(maxBuckets, input.remaining()))];
+            offset = input.readInt();
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = input.readVarLong();
+                total += counts[i];
+            }
+        }
+    }
+}
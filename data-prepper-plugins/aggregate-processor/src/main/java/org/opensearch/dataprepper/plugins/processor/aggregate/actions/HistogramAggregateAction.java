@@ -48,6 +48,9 @@ import java.util.ArrayList;
 public class HistogramAggregateAction implements AggregateAction {
     private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
     private static final String EVENT_TYPE = "event";
+    // The exemplar events are kept in the group state, as groups of different partitions are handled concurrently
+    private static final String MIN_EXEMPLAR_EVENT_KEY = "__min_exemplar_event";
+    private static final String MAX_EXEMPLAR_EVENT_KEY = "__max_exemplar_event";
     private final String countKey;
     private final String bucketCountsKey;
     private final String bucketsKey;
@@ -61,10 +64,6 @@ public class HistogramAggregateAction implements AggregateAction {
     private final String key;
     private final String units;
     private final boolean recordMinMax;
-    private Event minEvent;
-    private Event maxEvent;
-    private double minValue;
-    private double maxValue;
     private final String metricName;
 
     private double[] buckets;
@@ -171,10 +170,8 @@ public class HistogramAggregateAction implements AggregateAction {
             if (this.recordMinMax) {
                 groupState.put(minKey, doubleValue);
                 groupState.put(maxKey, doubleValue);
-                minEvent = event;
-                maxEvent = event;
-                minValue = doubleValue;
-                maxValue = doubleValue;
+                groupState.put(MIN_EXEMPLAR_EVENT_KEY, event);
+                groupState.put(MAX_EXEMPLAR_EVENT_KEY, event);
             }
         } else {
             Integer v = (Integer)groupState.get(countKey) + 1;
@@ -187,14 +184,12 @@ public class HistogramAggregateAction implements AggregateAction {
                 double min = (double)groupState.get(minKey);
                 if (doubleValue < min) {
                     groupState.put(minKey, doubleValue);
-                    minEvent = event;
-                    minValue = doubleValue;
+                    groupState.put(MIN_EXEMPLAR_EVENT_KEY, event);
                 }
                 double max = (double)groupState.get(maxKey);
                 if (doubleValue > max) {
                     groupState.put(maxKey, doubleValue);
-                    maxEvent = event;
-                    maxValue = doubleValue;
+                    groupState.put(MAX_EXEMPLAR_EVENT_KEY, event);
                 }
             }
             final Instant groupStartTime = (Instant)groupState.get(startTimeKey);
@@ -223,8 +218,12 @@ public class HistogramAggregateAction implements AggregateAction {
         long endTimeNanos = getTimeNanos(endTime);
         String histogramKey = this.metricName + "_key";
         List<Exemplar> exemplarList = new ArrayList<>();
-        exemplarList.add(createExemplar("min", minEvent, minValue));
-        exemplarList.add(createExemplar("max", maxEvent, maxValue));
+        final Event minEvent = (Event)groupState.remove(MIN_EXEMPLAR_EVENT_KEY);
+        final Event maxEvent = (Event)groupState.remove(MAX_EXEMPLAR_EVENT_KEY);
+        if (minEvent != null && maxEvent != null) {
+            exemplarList.add(createExemplar("min", minEvent, (double)groupState.get(minKey)));
+            exemplarList.add(createExemplar("max", maxEvent, (double)groupState.get(maxKey)));
+        }
         if (outputFormat == OutputFormat.RAW) {
             groupState.put(histogramKey, key);
             groupState.put(durationKey, endTimeNanos-startTimeNanos);
@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+/**
+ * A HyperLogLog, which estimates the number of distinct values with 2^precision registers of one byte each. The
+ * relative standard error is about 1.04 / sqrt(2^precision). Values are hashed to 64 bits, so there is no large range
+ * correction, and small cardinalities are estimated with linear counting.
+ */
+class HyperLogLog extends Sketch {
+    static final int MIN_PRECISION = 4;
+    static final int MAX_PRECISION = 18;
+
+    private final int precision;
+    private final byte[] registers;
+
+    HyperLogLog(final int precision) {
+        if (precision < MIN_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("precision must be between " + MIN_PRECISION + " and " + MAX_PRECISION);
+        }
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    void add(final Object value) {
+        final long hash = hash64(value);
+        final int index = (int) (hash >>> (Long.SIZE - precision));
+        final int rank = Long.numberOfLeadingZeros((hash << precision) | (1L << (precision - 1))) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    long getCardinality() {
+        final int registerCount = registers.length;
+        double inverseSum = 0.0;
+        int zeroRegisters = 0;
+        for (final byte register : registers) {
+            inverseSum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeroRegisters++;
+            }
+        }
+        final double alpha = 0.7213 / (1 + 1.079 / registerCount);
+        final double estimate = alpha * registerCount * registerCount / inverseSum;
+        if (estimate <= 2.5 * registerCount && zeroRegisters > 0) {
+            return Math.round(registerCount * Math.log((double) registerCount / zeroRegisters));
+        }
+        return Math.round(estimate);
+    }
+
+    @Override
+    boolean hasSameConfiguration(final Sketch other) {
+        return precision == ((HyperLogLog) other).precision;
+    }
+
+    @Override
+    void mergeSketch(final Sketch other) {
+        final byte[] otherRegisters = ((HyperLogLog) other).registers;
+        for (int i = 0; i < registers.length; i++) {
+            registers[i] = (byte) Math.max(registers[i], otherRegisters[i]);
+        }
+    }
+
+    @Override
+    void writeTo(final SketchOutput output) {
+        output.writeByte(HYPERLOGLOG_TYPE);
+        output.writeByte(precision);
+        output.writeBytes(registers);
+    }
+
+    static HyperLogLog readFrom(final SketchInput input) {
+        final HyperLogLog sketch = new HyperLogLog(input.readByte());
+        final byte[] registers = input.readBytes(sketch.registers.length);
+        System.arraycopy(registers, 0, sketch.registers, 0, registers.length);
+        return sketch;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateAction;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An AggregateAction that estimates percentiles of the values of a key in the events of a group with a
+ * {@link DDSketch}, and creates a single Event with the count, sum, min, max and percentiles on concludeGroup.
+ * @since 2.15
+ */
+@DataPrepperPlugin(name = "percentiles", pluginType = AggregateAction.class, pluginConfigurationType = PercentilesAggregateActionConfig.class)
+public class PercentilesAggregateAction extends SketchAggregateAction<DDSketch> {
+    static final String GROUP_STATE_KEY = "__percentiles_sketch";
+    static final String COUNT_KEY = "count";
+    static final String SUM_KEY = "sum";
+    static final String MIN_KEY = "min";
+    static final String MAX_KEY = "max";
+    static final String PERCENTILES_KEY = "percentiles";
+
+    private final String key;
+    private final List<Double> percentiles;
+    private final double relativeAccuracy;
+    private final int maxBuckets;
+
+    @DataPrepperPluginConstructor
+    public PercentilesAggregateAction(final PercentilesAggregateActionConfig percentilesAggregateActionConfig) {
+        super(GROUP_STATE_KEY, percentilesAggregateActionConfig.getGeneratedKeyPrefix(), percentilesAggregateActionConfig.getIncludeSketch());
+        this.key = percentilesAggregateActionConfig.getKey();
+        this.percentiles = percentilesAggregateActionConfig.getPercentiles();
+        this.relativeAccuracy = percentilesAggregateActionConfig.getRelativeAccuracy();
+        this.maxBuckets = percentilesAggregateActionConfig.getMaxBuckets();
+    }
+
+    @Override
+    DDSketch createSketch() {
+        return new DDSketch(relativeAccuracy, maxBuckets);
+    }
+
+    @Override
+    void addEvent(final DDSketch sketch, final Event event) {
+        final Number value = event.get(key, Number.class);
+        if (value != null) {
+            sketch.add(value.doubleValue());
+        }
+    }
+
+    @Override
+    void putResults(final DDSketch sketch, final Map<Object, Object> data, final String generatedKeyPrefix) {
+        data.put(generatedKeyPrefix + COUNT_KEY, sketch.getCount());
+        if (sketch.getCount() == 0) {
+            return;
+        }
+        data.put(generatedKeyPrefix + SUM_KEY, sketch.getSum());
+        data.put(generatedKeyPrefix + MIN_KEY, sketch.getMin());
+        data.put(generatedKeyPrefix + MAX_KEY, sketch.getMax());
+        final Map<String, Double> percentileValues = new LinkedHashMap<>();
+        for (final Double percentile : percentiles) {
+            percentileValues.put(getPercentileName(percentile), sketch.getQuantile(percentile / 100.0));
+        }
+        data.put(generatedKeyPrefix + PERCENTILES_KEY, percentileValues);
+    }
+
+    static String getPercentileName(final double percentile) {
+        return "p" + BigDecimal.valueOf(percentile).stripTrailingZeros().toPlainString();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import com.fasterxml.jackson.annotation.JsonClassDescription;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+@JsonPropertyOrder
+@JsonClassDescription("The <code>percentiles</code> action aggregates events belonging to the same group and generates " +
+        "a new event with values of the <code>identification_keys</code> and the estimated percentiles of the values " +
+        "of a configured <code>key</code>. The percentiles are estimated with a DDSketch, which has a bounded size " +
+        "and a configurable relative error. The action drops all events that make up the combined event.")
+public class PercentilesAggregateActionConfig {
+    static final List<Double> DEFAULT_PERCENTILES = List.of(50.0, 90.0, 99.0);
+    static final double DEFAULT_RELATIVE_ACCURACY = 0.01;
+    static final int DEFAULT_MAX_BUCKETS = 2048;
+    static final String DEFAULT_GENERATED_KEY_PREFIX = "aggr._";
+
+    @JsonPropertyDescription("Name of the field in the events with the values to estimate the percentiles of.")
+    @JsonProperty("key")
+    @NotNull
+    String key;
+
+    @JsonPropertyDescription("The percentiles to estimate, each between 0.0 and 100.0. Default is [50.0, 90.0, 99.0].")
+    @JsonProperty("percentiles")
+    @NotEmpty
+    List<Double> percentiles = DEFAULT_PERCENTILES;
+
+    @JsonPropertyDescription("The relative error of the estimated percentiles, greater than 0.0 and less than 1.0. Default is 0.01.")
+    @JsonProperty(value = "relative_accuracy", defaultValue = "0.01")
+    double relativeAccuracy = DEFAULT_RELATIVE_ACCURACY;
+
+    @JsonPropertyDescription("The maximum number of buckets for positive values and for negative values in each group. " +
+            "When a group needs more buckets, the accuracy of the values closest to zero is reduced. Default is 2048.")
+    @JsonProperty(value = "max_buckets", defaultValue = "2048")
+    @Min(16)
+    int maxBuckets = DEFAULT_MAX_BUCKETS;
+
+    @JsonPropertyDescription("Key prefix used by all the fields created in the aggregated event.")
+    @JsonProperty(value = "generated_key_prefix", defaultValue = DEFAULT_GENERATED_KEY_PREFIX)
+    String generatedKeyPrefix = DEFAULT_GENERATED_KEY_PREFIX;
+
+    @JsonPropertyDescription("A Boolean value indicating whether the aggregated event should include the serialized sketch, " +
+            "so that a later <code>percentiles</code> action can merge it. Default is false.")
+    @JsonProperty("include_sketch")
+    boolean includeSketch = false;
+
+    @AssertTrue(message = "percentiles must be between 0.0 and 100.0")
+    boolean isPercentilesValid() {
+        return percentiles == null || percentiles.stream().allMatch(percentile -> percentile != null && percentile >= 0.0 && percentile <= 100.0);
+    }
+
+    @AssertTrue(message = "relative_accuracy must be greater than 0.0 and less than 1.0")
+    boolean isRelativeAccuracyValid() {
+        return relativeAccuracy > 0.0 && relativeAccuracy < 1.0;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public List<Double> getPercentiles() {
+        return percentiles;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    public int getMaxBuckets() {
+        return maxBuckets;
+    }
+
+    public String getGeneratedKeyPrefix() {
+        return generatedKeyPrefix;
+    }
+
+    public boolean getIncludeSketch() {
+        return includeSketch;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+
+/**
+ * A summary of the values of a group with bounded memory, which can be merged with a sketch of the same type and
+ * configuration. Sketches are serialized in their compact binary form, both in aggregated events and when the group
+ * state is serialized.
+ */
+abstract class Sketch implements Serializable {
+    static final byte DDSKETCH_TYPE = 1;
+    static final byte HYPERLOGLOG_TYPE = 2;
+    static final byte TOP_K_TYPE = 3;
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    /**
+     * Writes the type of the sketch followed by its state.
+     */
+    abstract void writeTo(SketchOutput output);
+
+    /**
+     * Merges a sketch of the same type, which is known to have the same configuration as this sketch.
+     */
+    abstract void mergeSketch(Sketch other);
+
+    abstract boolean hasSameConfiguration(Sketch other);
+
+    final void merge(final Sketch other) {
+        if (other.getClass() != getClass() || !hasSameConfiguration(other)) {
+            throw new IllegalArgumentException("Cannot merge a " + other.getClass().getSimpleName() +
+                    " with a different configuration into a " + getClass().getSimpleName());
+        }
+        mergeSketch(other);
+    }
+
+    final byte[] toByteArray() {
+        final SketchOutput output = new SketchOutput();
+        writeTo(output);
+        return output.toByteArray();
+    }
+
+    static Sketch fromByteArray(final byte[] bytes) {
+        final SketchInput input = new SketchInput(bytes);
+        final byte type = input.readByte();
+        if (type == DDSKETCH_TYPE) {
+            return DDSketch.readFrom(input);
+        } else if (type == HYPERLOGLOG_TYPE) {
+            return HyperLogLog.readFrom(input);
+        } else if (type == TOP_K_TYPE) {
+            return TopKSketch.readFrom(input);
+        }
+        throw new IllegalArgumentException("Unknown sketch type " + type);
+    }
+
+    /**
+     * A 64-bit hash of the string form of a value, so that equal values hash the same in every process.
+     */
+    static long hash64(final Object value) {
+        final String string = String.valueOf(value);
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < string.length(); i++) {
+            hash = (hash ^ string.charAt(i)) * FNV_PRIME;
+        }
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    final Object writeReplace() {
+        return new SerializedSketch(toByteArray());
+    }
+
+    /**
+     * Sketches are only read from their compact binary form, so that their fields cannot be set by a crafted stream.
+     */
+    private void readObject(final ObjectInputStream inputStream) throws InvalidObjectException {
+        throw new InvalidObjectException("A sketch is read from its serialized form");
+    }
+
+    private static class SerializedSketch implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] bytes;
+
+        private SerializedSketch(final byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        private Object readResolve() {
+            return fromByteArray(bytes);
+        }
+    }
+}
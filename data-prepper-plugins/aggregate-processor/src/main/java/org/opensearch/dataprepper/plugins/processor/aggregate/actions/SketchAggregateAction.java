@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateAction;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInput;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionOutput;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
+import org.opensearch.dataprepper.plugins.processor.aggregate.GroupState;
+
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base for the actions which summarize the events of a group in a {@link Sketch}. The sketch is kept in the group
+ * state and the events are dropped. When the group concludes, a single event with the identification keys and the
+ * results of the sketch is created. That event can include the sketch itself, so that the events of another
+ * aggregation with the same action are merged rather than added.
+ *
+ * @param <T> The type of the sketch
+ */
+abstract class SketchAggregateAction<T extends Sketch> implements AggregateAction {
+    static final String EVENT_TYPE = "event";
+    static final String SKETCH_KEY = "sketch";
+
+    private final String groupStateKey;
+    private final String generatedKeyPrefix;
+    private final boolean includeSketch;
+
+    SketchAggregateAction(final String groupStateKey, final String generatedKeyPrefix, final boolean includeSketch) {
+        this.groupStateKey = groupStateKey;
+        this.generatedKeyPrefix = generatedKeyPrefix;
+        this.includeSketch = includeSketch;
+    }
+
+    abstract T createSketch();
+
+    /**
+     * Adds the value of an event which does not hold a sketch.
+     */
+    abstract void addEvent(T sketch, Event event);
+
+    abstract void putResults(T sketch, Map<Object, Object> data, String generatedKeyPrefix);
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public AggregateActionResponse handleEvent(final Event event, final AggregateActionInput aggregateActionInput) {
+        final GroupState groupState = aggregateActionInput.getGroupState();
+        T sketch = (T) groupState.get(groupStateKey);
+        if (sketch == null) {
+            sketch = createSketch();
+            groupState.put(groupStateKey, sketch);
+        }
+        final String serializedSketch = event.get(generatedKeyPrefix + SKETCH_KEY, String.class);
+        if (serializedSketch != null) {
+            sketch.merge(Sketch.fromByteArray(Base64.getDecoder().decode(serializedSketch)));
+        } else {
+            addEvent(sketch, event);
+        }
+        return AggregateActionResponse.nullEventResponse();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public AggregateActionOutput concludeGroup(final AggregateActionInput aggregateActionInput) {
+        final T sketch = (T) aggregateActionInput.getGroupState().remove(groupStateKey);
+        if (sketch == null) {
+            return new AggregateActionOutput(Collections.emptyList());
+        }
+        final Map<Object, Object> data = new HashMap<>(aggregateActionInput.getIdentificationKeys());
+        putResults(sketch, data, generatedKeyPrefix);
+        if (includeSketch) {
+            data.put(generatedKeyPrefix + SKETCH_KEY, Base64.getEncoder().encodeToString(sketch.toByteArray()));
+        }
+        final Event event = JacksonEvent.builder()
+                .withEventType(EVENT_TYPE)
+                .withData(data)
+                .withEventHandle(aggregateActionInput.getEventHandle())
+                .build();
+        return new AggregateActionOutput(List.of(event));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads the binary form written by {@link SketchOutput}. Throws {@link IllegalArgumentException} when the bytes are
+ * not a valid sketch.
+ */
+final class SketchInput {
+    private final byte[] bytes;
+    private int position;
+
+    SketchInput(final byte[] bytes) {
+        this.bytes = bytes;
+    }
+
+    int remaining() {
+        return bytes.length - position;
+    }
+
+    byte readByte() {
+        if (position >= bytes.length) {
+            throw new IllegalArgumentException("The sketch is truncated");
+        }
+        return bytes[position++];
+    }
+
+    long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte next = readByte();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("The sketch has a malformed variable length number");
+    }
+
+    int readLength(final int maximum) {
+        final long length = readVarLong();
+        if (length < 0 || length > maximum) {
+            throw new IllegalArgumentException("The sketch has a length of " + length + " which is not between 0 and " + maximum);
+        }
+        return (int) length;
+    }
+
+    int readInt() {
+        int value = 0;
+        for (int i = 0; i < Integer.BYTES; i++) {
+            value = (value << 8) | (readByte() & 0xFF);
+        }
+        return value;
+    }
+
+    double readDouble() {
+        long bits = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            bits = (bits << 8) | (readByte() & 0xFF);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    byte[] readBytes(final int length) {
+        if (length > remaining()) {
+            throw new IllegalArgumentException("The sketch is truncated");
+        }
+        final byte[] value = Arrays.copyOfRange(bytes, position, position + length);
+        position += length;
+        return value;
+    }
+
+    String readString() {
+        return new String(readBytes(readLength(remaining())), StandardCharsets.UTF_8);
+    }
+}
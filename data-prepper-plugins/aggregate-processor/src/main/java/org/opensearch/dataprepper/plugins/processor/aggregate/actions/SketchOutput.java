@@ -0,0 +1,60 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the compact binary form of a {@link Sketch}. Counts and lengths are written as variable length numbers,
+ * since most of them are small.
+ */
+final class SketchOutput {
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    void writeByte(final int value) {
+        bytes.write(value);
+    }
+
+    void writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            bytes.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        bytes.write((int) value);
+    }
+
+    void writeInt(final int value) {
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            bytes.write(value >>> shift);
+        }
+    }
+
+    void writeDouble(final double value) {
+        final long bits = Double.doubleToLongBits(value);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            bytes.write((int) (bits >>> shift));
+        }
+    }
+
+    void writeBytes(final byte[] value) {
+        bytes.write(value, 0, value.length);
+    }
+
+    void writeString(final String value) {
+        final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(encoded.length);
+        writeBytes(encoded);
+    }
+
+    byte[] toByteArray() {
+        return bytes.toByteArray();
+    }
+}
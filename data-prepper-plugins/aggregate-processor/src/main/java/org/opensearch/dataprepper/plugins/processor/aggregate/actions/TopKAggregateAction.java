@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateAction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An AggregateAction that finds the most frequent values of a key in the events of a group with a
+ * {@link TopKSketch}, and creates a single Event with the values and their estimated counts on concludeGroup.
+ * @since 2.15
+ */
+@DataPrepperPlugin(name = "top_k", pluginType = AggregateAction.class, pluginConfigurationType = TopKAggregateActionConfig.class)
+public class TopKAggregateAction extends SketchAggregateAction<TopKSketch> {
+    static final String GROUP_STATE_KEY = "__top_k_sketch";
+    static final String TOP_K_KEY = "top_k";
+    static final String VALUE_KEY = "value";
+    static final String COUNT_KEY = "count";
+
+    private final String key;
+    private final int k;
+    private final double error;
+    private final double confidence;
+
+    @DataPrepperPluginConstructor
+    public TopKAggregateAction(final TopKAggregateActionConfig topKAggregateActionConfig) {
+        super(GROUP_STATE_KEY, topKAggregateActionConfig.getGeneratedKeyPrefix(), topKAggregateActionConfig.getIncludeSketch());
+        this.key = topKAggregateActionConfig.getKey();
+        this.k = topKAggregateActionConfig.getK();
+        this.error = topKAggregateActionConfig.getError();
+        this.confidence = topKAggregateActionConfig.getConfidence();
+    }
+
+    @Override
+    TopKSketch createSketch() {
+        return new TopKSketch(k, error, confidence);
+    }
+
+    @Override
+    void addEvent(final TopKSketch sketch, final Event event) {
+        final Object value = event.get(key, Object.class);
+        if (value != null) {
+            sketch.add(value);
+        }
+    }
+
+    @Override
+    void putResults(final TopKSketch sketch, final Map<Object, Object> data, final String generatedKeyPrefix) {
+        final List<Map<String, Object>> topK = new ArrayList<>();
+        for (final Map.Entry<String, Long> entry : sketch.getTopK()) {
+            topK.add(Map.of(VALUE_KEY, entry.getKey(), COUNT_KEY, entry.getValue()));
+        }
+        data.put(generatedKeyPrefix + TOP_K_KEY, topK);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import com.fasterxml.jackson.annotation.JsonClassDescription;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyDescription;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+@JsonPropertyOrder
+@JsonClassDescription("The <code>top_k</code> action aggregates events belonging to the same group and generates " +
+        "a new event with values of the <code>identification_keys</code> and the most frequent values of a configured " +
+        "<code>key</code> with their estimated counts. The counts are estimated with a Count-Min sketch, which has a " +
+        "bounded size and a configurable error. The action drops all events that make up the combined event.")
+public class TopKAggregateActionConfig {
+    static final int DEFAULT_K = 10;
+    static final double DEFAULT_ERROR = 0.01;
+    static final double DEFAULT_CONFIDENCE = 0.99;
+    static final double MIN_ERROR = 0.0001;
+    static final String DEFAULT_GENERATED_KEY_PREFIX = "aggr._";
+
+    @JsonPropertyDescription("Name of the field in the events with the values to find the most frequent values of.")
+    @JsonProperty("key")
+    @NotNull
+    String key;
+
+    @JsonPropertyDescription("The number of most frequent values to include in the aggregated event. Default is 10.")
+    @JsonProperty(value = "k", defaultValue = "10")
+    @Min(1)
+    @Max(1000)
+    int k = DEFAULT_K;
+
+    @JsonPropertyDescription("The maximum error of the estimated counts as a fraction of the number of events in the group, " +
+            "between 0.0001 and 1.0. Default is 0.01.")
+    @JsonProperty(value = "error", defaultValue = "0.01")
+    double error = DEFAULT_ERROR;
+
+    @JsonPropertyDescription("The probability that the estimated counts are within the error, greater than 0.0 and less than 1.0. Default is 0.99.")
+    @JsonProperty(value = "confidence", defaultValue = "0.99")
+    double confidence = DEFAULT_CONFIDENCE;
+
+    @JsonPropertyDescription("Key prefix used by all the fields created in the aggregated event.")
+    @JsonProperty(value = "generated_key_prefix", defaultValue = DEFAULT_GENERATED_KEY_PREFIX)
+    String generatedKeyPrefix = DEFAULT_GENERATED_KEY_PREFIX;
+
+    @JsonPropertyDescription("A Boolean value indicating whether the aggregated event should include the serialized sketch, " +
+            "so that a later <code>top_k</code> action can merge it. Default is false.")
+    @JsonProperty("include_sketch")
+    boolean includeSketch = false;
+
+    @AssertTrue(message = "error must be at least 0.0001 and less than 1.0")
+    boolean isErrorValid() {
+        return error >= MIN_ERROR && error < 1.0;
+    }
+
+    @AssertTrue(message = "confidence must be greater than 0.0 and less than 1.0")
+    boolean isConfidenceValid() {
+        return confidence > 0.0 && confidence < 1.0;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    public double getError() {
+        return error;
+    }
+
+    public double getConfidence() {
+        return confidence;
+    }
+
+    public String getGeneratedKeyPrefix() {
+        return generatedKeyPrefix;
+    }
+
+    public boolean getIncludeSketch() {
+        return includeSketch;
+    }
+}
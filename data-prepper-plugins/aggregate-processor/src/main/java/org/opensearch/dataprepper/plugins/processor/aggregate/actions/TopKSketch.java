@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks the most frequent values with a Count-Min sketch and the k values with the highest estimated counts. With
+ * a width of e / error and a depth of ln(1 / (1 - confidence)), the estimated count of a value exceeds its actual
+ * count by at most error times the number of values, with the given confidence.
+ */
+class TopKSketch extends Sketch {
+    private static final Comparator<Map.Entry<String, Long>> BY_COUNT_DESCENDING =
+            Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey());
+
+    private final int k;
+    private final int width;
+    private final int depth;
+    private final long[] counts;
+    private final Map<String, Long> candidates = new HashMap<>();
+
+    TopKSketch(final int k, final double error, final double confidence) {
+        this(k, (int) Math.ceil(Math.E / error), (int) Math.ceil(Math.log(1 / (1 - confidence))));
+    }
+
+    private TopKSketch(final int k, final int width, final int depth) {
+        if (k < 1 || width < 1 || depth < 1) {
+            throw new IllegalArgumentException("k, width and depth must be greater than 0");
+        }
+        this.k = k;
+        this.width = width;
+        this.depth = depth;
+        this.counts = new long[Math.multiplyExact(width, depth)];
+    }
+
+    void add(final Object value) {
+        final String item = String.valueOf(value);
+        final long hash = hash64(item);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            final int index = countIndex(hash, row);
+            counts[index]++;
+            estimate = Math.min(estimate, counts[index]);
+        }
+        offerCandidate(item, estimate);
+    }
+
+    /**
+     * Returns the values with the highest estimated counts, ordered by count from highest to lowest.
+     */
+    List<Map.Entry<String, Long>> getTopK() {
+        final List<Map.Entry<String, Long>> topK = new ArrayList<>(candidates.entrySet());
+        topK.sort(BY_COUNT_DESCENDING);
+        return topK;
+    }
+
+    private long estimate(final String item) {
+        final long hash = hash64(item);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counts[countIndex(hash, row)]);
+        }
+        return estimate;
+    }
+
+    private int countIndex(final long hash, final int row) {
+        final int column = Math.floorMod((int) hash + row * (int) (hash >>> 32), width);
+        return row * width + column;
+    }
+
+    private void offerCandidate(final String item, final long estimate) {
+        if (candidates.size() < k || candidates.containsKey(item)) {
+            candidates.put(item, estimate);
+            return;
+        }
+        Map.Entry<String, Long> lowest = null;
+        for (final Map.Entry<String, Long> candidate : candidates.entrySet()) {
+            if (lowest == null || candidate.getValue() < lowest.getValue()) {
+                lowest = candidate;
+            }
+        }
+        if (estimate > lowest.getValue()) {
+            candidates.remove(lowest.getKey());
+            candidates.put(item, estimate);
+        }
+    }
+
+    @Override
+    boolean hasSameConfiguration(final Sketch other) {
+        final TopKSketch that = (TopKSketch) other;
+        return k == that.k && width == that.width && depth == that.depth;
+    }
+
+    @Override
+    void mergeSketch(final Sketch other) {
+        final TopKSketch that = (TopKSketch) other;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += that.counts[i];
+        }
+        final Set<String> items = new HashSet<>(candidates.keySet());
+        items.addAll(that.candidates.keySet());
+        candidates.clear();
+        for (final String item : items) {
+            offerCandidate(item, estimate(item));
+        }
+    }
+
+    @Override
+    void writeTo(final SketchOutput output) {
+        output.writeByte(TOP_K_TYPE);
+        output.writeVarLong(k);
+        output.writeVarLong(width);
+        output.writeVarLong(depth);
+        for (final long count : counts) {
+            output.writeVarLong(count);
+        }
+        output.writeVarLong(candidates.size());
+        for (final Map.Entry<String, Long> candidate : candidates.entrySet()) {
+            output.writeString(candidate.getKey());
+            output.writeVarLong(candidate.getValue());
+        }
+    }
+
+    static TopKSketch readFrom(final SketchInput input) {
+        final int k = input.readLength(Integer.MAX_VALUE);
+        final int width = input.readLength(input.remaining());
+        final TopKSketch sketch = new TopKSketch(k, width, input.readLength(input.remaining() / Math.max(width, 1)));
+        for (int i = 0; i < sketch.counts.length; i++) {
+            sketch.counts[i] = input.readVarLong();
+        }
+        final int candidateCount = input.readLength(sketch.k);
+        for (int i = 0; i < candidateCount; i++) {
+            sketch.candidates.put(input.readString(), input.readVarLong());
+        }
+        return sketch;
+    }
+}
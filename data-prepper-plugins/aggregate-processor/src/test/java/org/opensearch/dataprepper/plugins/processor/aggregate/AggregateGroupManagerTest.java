@@ -15,18 +15,26 @@ import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -172,4 +180,202 @@ public class AggregateGroupManagerTest {
 
         verify(group).resetGroup();
     }
+
+    @Test
+    void constructor_with_no_partitions_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new AggregateGroupManager(TEST_GROUP_DURATION, false, 0, System::nanoTime));
+    }
+
+    @Test
+    void getPartitionLock_returns_the_same_lock_for_equal_identification_keys() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final IdentificationKeysHasher.IdentificationKeysMap equalIdentificationKeysMap =
+                new IdentificationKeysHasher.IdentificationKeysMap(new HashMap<>(identificationKeysMap.getKeyMap()));
+
+        assertThat(aggregateGroupManager.getPartitionLock(equalIdentificationKeysMap), is(sameInstance(aggregateGroupManager.getPartitionLock(identificationKeysMap))));
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_return_new_group_before_its_deadline() {
+        final AtomicLong nanoClock = new AtomicLong();
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, false, AggregateGroupManager.DEFAULT_PARTITION_COUNT, nanoClock::get);
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), empty());
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(1L));
+        assertThat(aggregateGroupManager.getGroupsToConclude(true).get(0).getValue(), is(sameInstance(aggregateGroup)));
+    }
+
+    @Test
+    void getGroupsToConclude_returns_groups_in_order_of_their_deadlines() {
+        final AtomicLong nanoClock = new AtomicLong();
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, false, AggregateGroupManager.DEFAULT_PARTITION_COUNT, nanoClock::get);
+
+        final AggregateGroup expiredGroup = mock(AggregateGroup.class);
+        when(expiredGroup.getGroupStart()).thenReturn(Instant.now().minus(TEST_GROUP_DURATION).minusSeconds(1));
+        when(expiredGroup.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
+        final IdentificationKeysHasher.IdentificationKeysMap hashForExpiredGroup = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
+
+        final AggregateGroup newGroup = mock(AggregateGroup.class);
+        when(newGroup.getGroupStart()).thenReturn(Instant.now());
+        when(newGroup.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
+        final IdentificationKeysHasher.IdentificationKeysMap hashForNewGroup = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
+
+        aggregateGroupManager.putGroupWithHash(hashForNewGroup, newGroup);
+        aggregateGroupManager.putGroupWithHash(hashForExpiredGroup, expiredGroup);
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> firstGroupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        assertThat(firstGroupsToConclude.size(), equalTo(1));
+        assertThat(firstGroupsToConclude.get(0).getKey(), equalTo(hashForExpiredGroup));
+        assertThat(firstGroupsToConclude.get(0).getValue(), equalTo(expiredGroup));
+        aggregateGroupManager.closeGroup(hashForExpiredGroup, expiredGroup);
+
+        nanoClock.addAndGet(TEST_GROUP_DURATION.plusSeconds(1).toNanos());
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> secondGroupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        assertThat(secondGroupsToConclude.size(), equalTo(1));
+        assertThat(secondGroupsToConclude.get(0).getKey(), equalTo(hashForNewGroup));
+        assertThat(secondGroupsToConclude.get(0).getValue(), equalTo(newGroup));
+    }
+
+    @Test
+    void getGroupsToConclude_rechecks_due_group_which_was_not_concluded() {
+        final AtomicLong nanoClock = new AtomicLong();
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, false, AggregateGroupManager.DEFAULT_PARTITION_COUNT, nanoClock::get);
+
+        final AggregateGroup group = mock(AggregateGroup.class);
+        when(group.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(false, true);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, group);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), empty());
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), empty());
+
+        nanoClock.addAndGet(AggregateGroupManager.RECHECK_INTERVAL.toNanos());
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), equalTo(group));
+    }
+
+    @Test
+    void getGroupsToConclude_checks_groups_with_custom_conclusion_on_every_call() {
+        final AtomicLong nanoClock = new AtomicLong();
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, false, AggregateGroupManager.DEFAULT_PARTITION_COUNT, nanoClock::get);
+
+        final AggregateGroup group = mock(AggregateGroup.class);
+        when(group.getGroupStart()).thenReturn(Instant.now());
+        when(group.hasCustomShouldConclude()).thenReturn(true);
+        when(group.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(false, true);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, group);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), empty());
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), equalTo(group));
+
+        aggregateGroupManager.closeGroup(identificationKeysMap, group);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), empty());
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(0L));
+    }
+
+    private static IdentificationKeysHasher.IdentificationKeysMap createIdentificationKeysMap() {
+        final Map<Object, Object> identificationKeysHash = new HashMap<>();
+        identificationKeysHash.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        return new IdentificationKeysHasher.IdentificationKeysMap(identificationKeysHash);
+    }
+
+    @Test
+    void getSpilledGroupsSize_without_group_state_store_returns_zero() {
+        aggregateGroupManager = createObjectUnderTest();
+        aggregateGroupManager.getAggregateGroup(identificationKeysMap).getGroupState().put(UUID.randomUUID().toString(), 1);
+
+        assertThat(aggregateGroupManager.getSpilledGroupsSize(), equalTo(0L));
+    }
+
+    @Test
+    void least_recently_used_groups_beyond_max_groups_in_memory_are_spilled_to_the_store() {
+        final OffHeapGroupStateStore groupStateStore = new OffHeapGroupStateStore();
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, false, 1, System::nanoTime, groupStateStore, 2);
+
+        final IdentificationKeysHasher.IdentificationKeysMap firstKeys = createIdentificationKeysMap();
+        final IdentificationKeysHasher.IdentificationKeysMap secondKeys = createIdentificationKeysMap();
+        final AggregateGroup firstGroup = aggregateGroupManager.getAggregateGroup(firstKeys);
+        firstGroup.getGroupState().put("count", 1);
+        final AggregateGroup secondGroup = aggregateGroupManager.getAggregateGroup(secondKeys);
+        secondGroup.getGroupState().put("count", 2);
+        assertThat(aggregateGroupManager.getSpilledGroupsSize(), equalTo(0L));
+
+        aggregateGroupManager.getAggregateGroup(createIdentificationKeysMap()).getGroupState().put("count", 3);
+
+        assertThat(firstGroup.isGroupStateSpilled(), equalTo(true));
+        assertThat(secondGroup.isGroupStateSpilled(), equalTo(false));
+        assertThat(aggregateGroupManager.getSpilledGroupsSize(), equalTo(1L));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(3L));
+
+        assertThat(aggregateGroupManager.getAggregateGroup(firstKeys), is(sameInstance(firstGroup)));
+        assertThat(firstGroup.getGroupState().get("count"), equalTo(1));
+        assertThat(secondGroup.isGroupStateSpilled(), equalTo(true));
+
+        aggregateGroupManager.closeGroup(secondKeys, secondGroup);
+        assertThat(aggregateGroupManager.getSpilledGroupsSize(), equalTo(0L));
+    }
+
+    @Test
+    void groups_which_cannot_be_spilled_stay_on_the_heap() {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        doThrow(RuntimeException.class).when(groupStateStore).put(any(), any());
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, false, 1, System::nanoTime, groupStateStore, 1);
+
+        final AggregateGroup groupWithCustomConclusion = new AggregateGroup(Collections.emptyMap());
+        groupWithCustomConclusion.setCustomShouldConclude(duration -> false);
+        aggregateGroupManager.putGroupWithHash(createIdentificationKeysMap(), groupWithCustomConclusion);
+        final AggregateGroup groupWithStateWhichIsNotSerializable = aggregateGroupManager.getAggregateGroup(createIdentificationKeysMap());
+        groupWithStateWhichIsNotSerializable.getGroupState().put(UUID.randomUUID().toString(), new Object());
+        final AggregateGroup groupFailingToSpill = aggregateGroupManager.getAggregateGroup(createIdentificationKeysMap());
+        groupFailingToSpill.getGroupState().put(UUID.randomUUID().toString(), 1);
+        aggregateGroupManager.getAggregateGroup(createIdentificationKeysMap());
+
+        assertThat(groupWithCustomConclusion.isGroupStateSpilled(), equalTo(false));
+        assertThat(groupWithStateWhichIsNotSerializable.isGroupStateSpilled(), equalTo(false));
+        assertThat(groupFailingToSpill.isGroupStateSpilled(), equalTo(false));
+        assertThat(groupFailingToSpill.getGroupState().size(), equalTo(1));
+        verify(groupStateStore).put(any(), any());
+    }
+
+    @Test
+    void constructor_recovers_groups_from_the_store() {
+        final OffHeapGroupStateStore spilledGroupStateStore = new OffHeapGroupStateStore();
+        final AggregateGroup spilledGroup = new AggregateGroup(identificationKeysMap.getKeyMap());
+        spilledGroup.getGroupState().put("count", 4);
+        spilledGroup.spillGroupState(identificationKeysMap, spilledGroupStateStore);
+        final byte[] serializedGroupState = spilledGroupStateStore.remove(identificationKeysMap);
+
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        doAnswer(invocation -> {
+            final BiConsumer<IdentificationKeysHasher.IdentificationKeysMap, byte[]> consumer = invocation.getArgument(0);
+            consumer.accept(identificationKeysMap, serializedGroupState);
+            return null;
+        }).when(groupStateStore).recover(any());
+        when(groupStateStore.get(identificationKeysMap)).thenReturn(serializedGroupState);
+
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, false, 1, System::nanoTime, groupStateStore, 1);
+
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(1L));
+        final AggregateGroup recoveredGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        assertThat(recoveredGroup.getGroupStart(), equalTo(spilledGroup.getGroupStart()));
+        assertThat(recoveredGroup.getGroupState(), equalTo(Map.of("count", 4)));
+    }
+
+    @Test
+    void close_closes_the_store() {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        aggregateGroupManager = new AggregateGroupManager(TEST_GROUP_DURATION, false, 1, System::nanoTime, groupStateStore, 1);
+
+        aggregateGroupManager.close();
+
+        verify(groupStateStore).close();
+    }
 }
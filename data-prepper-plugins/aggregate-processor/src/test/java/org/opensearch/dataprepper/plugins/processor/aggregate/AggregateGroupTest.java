@@ -10,16 +10,38 @@
 package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.event.TestEventKeyFactory;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.AppendAggregateAction;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.AppendAggregateActionConfig;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.CountAggregateAction;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.CountAggregateActionConfig;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.HistogramAggregateAction;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.HistogramAggregateActionConfig;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.PercentilesAggregateAction;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.PercentilesAggregateActionConfig;
 
 import java.lang.reflect.Field;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
 
 public class AggregateGroupTest {
 
@@ -54,6 +76,205 @@ public class AggregateGroupTest {
         assertThat(aggregateGroup.shouldConcludeGroup(TEST_GROUP_DURATION), equalTo(false));
     }
 
+    @Test
+    void hasCustomShouldConclude_returns_true_only_after_setting_custom_should_conclude() {
+        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        assertThat(aggregateGroup.hasCustomShouldConclude(), equalTo(false));
+
+        aggregateGroup.setCustomShouldConclude(duration -> true);
+
+        assertThat(aggregateGroup.hasCustomShouldConclude(), equalTo(true));
+    }
+
+    @Test
+    void spillGroupState_moves_group_state_to_the_store_until_it_is_requested() {
+        final OffHeapGroupStateStore groupStateStore = new OffHeapGroupStateStore();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = new IdentificationKeysHasher.IdentificationKeysMap(Collections.emptyMap());
+        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        final String key = UUID.randomUUID().toString();
+        final String value = UUID.randomUUID().toString();
+        aggregateGroup.getGroupState().put(key, value);
+
+        assertThat(aggregateGroup.spillGroupState(identificationKeysMap, groupStateStore), equalTo(true));
+        assertThat(aggregateGroup.isGroupStateSpilled(), equalTo(true));
+        assertThat(groupStateStore.size(), equalTo(1L));
+
+        assertThat(aggregateGroup.getGroupState(), equalTo(Map.of(key, value)));
+        assertThat(aggregateGroup.isGroupStateSpilled(), equalTo(false));
+        assertThat(groupStateStore.size(), equalTo(0L));
+    }
+
+    @Test
+    void spillGroupState_with_state_which_is_not_serializable_keeps_it_on_the_heap() {
+        final OffHeapGroupStateStore groupStateStore = new OffHeapGroupStateStore();
+        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        final Object value = new Object();
+        aggregateGroup.getGroupState().put(UUID.randomUUID().toString(), value);
+
+        assertThat(aggregateGroup.spillGroupState(new IdentificationKeysHasher.IdentificationKeysMap(Collections.emptyMap()), groupStateStore), equalTo(false));
+
+        assertThat(aggregateGroup.isGroupStateSpilled(), equalTo(false));
+        assertThat(aggregateGroup.getGroupState().values(), contains(value));
+        assertThat(groupStateStore.size(), equalTo(0L));
+    }
+
+    @Test
+    void resetGroup_after_spilling_removes_group_state_from_the_store() {
+        final OffHeapGroupStateStore groupStateStore = new OffHeapGroupStateStore();
+        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        aggregateGroup.getGroupState().put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        aggregateGroup.spillGroupState(new IdentificationKeysHasher.IdentificationKeysMap(Collections.emptyMap()), groupStateStore);
+
+        aggregateGroup.resetGroup();
+
+        assertThat(aggregateGroup.isGroupStateSpilled(), equalTo(false));
+        assertThat(groupStateStore.size(), equalTo(0L));
+        assertThat(aggregateGroup.getGroupState(), equalTo(Collections.emptyMap()));
+    }
+
+    @Test
+    void fromSpilledGroupState_restores_group_start_and_group_state() {
+        final OffHeapGroupStateStore groupStateStore = new OffHeapGroupStateStore();
+        final Map<Object, Object> keyMap = Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = new IdentificationKeysHasher.IdentificationKeysMap(keyMap);
+        final AggregateGroup spilledGroup = new AggregateGroup(keyMap);
+        spilledGroup.getGroupState().put("count", 5);
+        spilledGroup.spillGroupState(identificationKeysMap, groupStateStore);
+        final byte[] serializedGroupState = groupStateStore.remove(identificationKeysMap);
+        groupStateStore.put(identificationKeysMap, serializedGroupState);
+
+        final AggregateGroup aggregateGroup = AggregateGroup.fromSpilledGroupState(identificationKeysMap, serializedGroupState, groupStateStore);
+
+        assertThat(aggregateGroup.getGroupStart(), equalTo(spilledGroup.getGroupStart()));
+        assertThat(aggregateGroup.getIdentificationKeys(), equalTo(keyMap));
+        assertThat(aggregateGroup.isGroupStateSpilled(), equalTo(true));
+        assertThat(aggregateGroup.getGroupState(), equalTo(Map.of("count", 5)));
+    }
+
+    @Test
+    void getGroupState_when_spilled_state_is_missing_returns_empty_group_state() {
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = new IdentificationKeysHasher.IdentificationKeysMap(Collections.emptyMap());
+
+        final AggregateGroup recoveredGroup = AggregateGroup.fromSpilledGroupState(identificationKeysMap, new byte[Long.BYTES + Integer.BYTES], new OffHeapGroupStateStore());
+
+        assertThat(recoveredGroup.getGroupState(), equalTo(Collections.emptyMap()));
+        assertThat(recoveredGroup.isGroupStateSpilled(), equalTo(false));
+    }
+
+    @Test
+    void getGroupState_with_corrupt_spilled_state_throws() {
+        final OffHeapGroupStateStore groupStateStore = new OffHeapGroupStateStore();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = new IdentificationKeysHasher.IdentificationKeysMap(Collections.emptyMap());
+        final byte[] serializedGroupState = new byte[Long.BYTES + Integer.BYTES + 3];
+        groupStateStore.put(identificationKeysMap, serializedGroupState);
+
+        final AggregateGroup aggregateGroup = AggregateGroup.fromSpilledGroupState(identificationKeysMap, serializedGroupState, groupStateStore);
+
+        assertThrows(IllegalStateException.class, aggregateGroup::getGroupState);
+        assertThat(groupStateStore.size(), equalTo(1L));
+        assertThat(groupStateStore.get(identificationKeysMap), equalTo(serializedGroupState));
+    }
+
+    @Test
+    void histogram_group_state_survives_spilling_and_restoring() throws NoSuchFieldException, IllegalAccessException {
+        final String key = UUID.randomUUID().toString();
+        final HistogramAggregateActionConfig histogramAggregateActionConfig = new HistogramAggregateActionConfig();
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "key", key);
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "units", "ms");
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "recordMinMax", true);
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "buckets", List.of(10.0, 20.0));
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "generatedKeyPrefix", "");
+        final AggregateAction aggregateAction = new HistogramAggregateAction(histogramAggregateActionConfig);
+
+        final Event event = handleEventsSpillingBetweenThem(aggregateAction, List.of(
+                createEvent(Map.of(key, 15.0)), createEvent(Map.of(key, 5.0)), createEvent(Map.of(key, 25.0))));
+
+        assertThat(event.get("count", Long.class), equalTo(3L));
+        assertThat(event.get("min", Double.class), equalTo(5.0));
+        assertThat(event.get("max", Double.class), equalTo(25.0));
+        assertThat(event.get("sum", Double.class), equalTo(45.0));
+        assertThat(event.get("bucketCountsList", List.class), equalTo(List.of(1L, 1L, 1L)));
+        assertThat((List<?>) event.toMap().get("exemplars"), hasSize(2));
+    }
+
+    @Test
+    void count_group_state_survives_spilling_and_restoring() throws NoSuchFieldException, IllegalAccessException {
+        final String uniqueKey = UUID.randomUUID().toString();
+        final CountAggregateActionConfig countAggregateActionConfig = new CountAggregateActionConfig();
+        setField(CountAggregateActionConfig.class, countAggregateActionConfig, "uniqueKeys", List.of(uniqueKey));
+        final AggregateAction aggregateAction = new CountAggregateAction(countAggregateActionConfig);
+
+        final Event event = handleEventsSpillingBetweenThem(aggregateAction, List.of(
+                createEvent(Map.of(uniqueKey, "a")), createEvent(Map.of(uniqueKey, "b")), createEvent(Map.of(uniqueKey, "a"))));
+
+        assertThat(event.get("value", Double.class), equalTo(2.0));
+        final List<Map<String, Object>> exemplars = (List<Map<String, Object>>) event.toMap().get("exemplars");
+        assertThat(exemplars, hasSize(1));
+        assertThat(((Map<String, Object>) exemplars.get(0).get("attributes")).get(uniqueKey), equalTo("a"));
+    }
+
+    @Test
+    void append_group_state_survives_spilling_and_restoring() {
+        final String key = UUID.randomUUID().toString();
+        final PluginMetrics pluginMetrics = mock(PluginMetrics.class);
+        final AggregateAction aggregateAction = new AppendAggregateAction(new AppendAggregateActionConfig(), pluginMetrics, TestEventKeyFactory.getTestEventFactory());
+
+        final Event event = handleEventsSpillingBetweenThem(aggregateAction, List.of(
+                createEvent(Map.of(key, "a")), createEvent(Map.of(key, "b")), createEvent(Map.of(key, List.of("c", "d")))));
+
+        assertThat(event.get(key, List.class), equalTo(List.of("a", "b", "c", "d")));
+    }
+
+    @Test
+    void percentiles_group_state_survives_spilling_and_restoring() throws NoSuchFieldException, IllegalAccessException {
+        final String key = UUID.randomUUID().toString();
+        final PercentilesAggregateActionConfig percentilesAggregateActionConfig = new PercentilesAggregateActionConfig();
+        setField(PercentilesAggregateActionConfig.class, percentilesAggregateActionConfig, "key", key);
+        final AggregateAction aggregateAction = new PercentilesAggregateAction(percentilesAggregateActionConfig);
+        final List<Event> events = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) {
+            events.add(createEvent(Map.of(key, i)));
+        }
+
+        final Event event = handleEventsSpillingBetweenThem(aggregateAction, events);
+
+        final String prefix = PercentilesAggregateActionConfig.DEFAULT_GENERATED_KEY_PREFIX;
+        assertThat(event.get(prefix + "count", Long.class), equalTo(100L));
+        assertThat(event.get(prefix + "sum", Double.class), equalTo(5050.0));
+        assertThat(event.get(prefix + "min", Double.class), equalTo(1.0));
+        assertThat(event.get(prefix + "max", Double.class), equalTo(100.0));
+        final Map<String, Object> percentiles = event.get(prefix + "percentiles", Map.class);
+        assertThat(((Number) percentiles.get("p50")).doubleValue(), closeTo(50.0, 1.0));
+    }
+
+    private static Event createEvent(final Map<String, Object> data) {
+        return JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .build();
+    }
+
+    /**
+     * Spills the group state to a store after each event so every event is handled on a restored state, then concludes
+     * the group from a spilled state.
+     */
+    private static Event handleEventsSpillingBetweenThem(final AggregateAction aggregateAction, final List<Event> events) {
+        final OffHeapGroupStateStore groupStateStore = new OffHeapGroupStateStore();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = new IdentificationKeysHasher.IdentificationKeysMap(Collections.emptyMap());
+        final AggregateGroup aggregateGroup = new AggregateGroup(Collections.emptyMap());
+        for (final Event event : events) {
+            aggregateAction.handleEvent(event, aggregateGroup);
+            assertThat(aggregateGroup.spillGroupState(identificationKeysMap, groupStateStore), equalTo(true));
+            assertThat(groupStateStore.size(), equalTo(1L));
+        }
+
+        final AggregateActionOutput aggregateActionOutput = aggregateAction.concludeGroup(aggregateGroup);
+
+        assertThat(groupStateStore.size(), equalTo(0L));
+        assertThat(aggregateActionOutput.getEvents(), hasSize(1));
+        return aggregateActionOutput.getEvents().get(0);
+    }
+
     private void reflectivelySetField(final AggregateGroup aggregateGroup, final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
         final Field field = AggregateGroup.class.getDeclaredField(fieldName);
         try {
@@ -23,5 +23,6 @@ public class AggregateProcessorConfigTest {
 
         assertThat(aggregateConfig.getGroupDuration(), equalTo(Duration.ofSeconds(AggregateProcessorConfig.DEFAULT_GROUP_DURATION_SECONDS)));
         assertThat(aggregateConfig.getLocalMode(), equalTo(false));
+        assertThat(aggregateConfig.getGroupStateStore().getType(), equalTo(GroupStateStoreType.HEAP));
     }
 }
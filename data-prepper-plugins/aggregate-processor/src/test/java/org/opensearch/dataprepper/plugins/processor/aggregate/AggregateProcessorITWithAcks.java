@@ -14,6 +14,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.opensearch.dataprepper.event.TestEventKeyFactory;
 import org.opensearch.dataprepper.core.acknowledgements.DefaultAcknowledgementSet;
 import org.opensearch.dataprepper.core.acknowledgements.DefaultAcknowledgementSetMetrics;
 import org.opensearch.dataprepper.core.pipeline.Pipeline;
@@ -149,6 +150,7 @@ public class AggregateProcessorITWithAcks {
         when(aggregateProcessorConfig.getOutputUnaggregatedEvents()).thenReturn(false);
         when(aggregateProcessorConfig.getIdentificationKeys()).thenReturn(identificationKeys);
         when(aggregateProcessorConfig.getWhenCondition()).thenReturn(null);
+        when(aggregateProcessorConfig.getGroupStateStore()).thenReturn(new GroupStateStoreConfig());
         when(pipeline.getSingleThreadUnsafeProcessorProvider()).thenReturn(processorProvider);
         when(processorProvider.getProcessors()).thenReturn(processors);
 
@@ -204,7 +206,7 @@ public class AggregateProcessorITWithAcks {
         when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofMillis(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
         when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class)))
                 .thenReturn(aggregateAction);
-        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator);
+        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator, TestEventKeyFactory.getTestEventFactory());
         processors = List.of(processor);
         when(processorProvider.getProcessors()).thenReturn(processors);
         final FutureHelperResult<Void> futureHelperResult = mock(FutureHelperResult.class);
@@ -235,7 +237,7 @@ public class AggregateProcessorITWithAcks {
                 .thenReturn(aggregateAction);
         when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofSeconds(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
 
-        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator);
+        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator, TestEventKeyFactory.getTestEventFactory());
         processors = List.of(processor);
         when(processorProvider.getProcessors()).thenReturn(processors);
         final FutureHelperResult<Void> futureHelperResult = mock(FutureHelperResult.class);
@@ -267,7 +269,7 @@ public class AggregateProcessorITWithAcks {
         when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class)))
                 .thenReturn(aggregateAction);
         when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofSeconds(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
-        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator);
+        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator, TestEventKeyFactory.getTestEventFactory());
         processors = List.of(processor);
         when(processorProvider.getProcessors()).thenReturn(processors);
         final FutureHelperResult<Void> futureHelperResult = mock(FutureHelperResult.class);
@@ -299,7 +301,7 @@ public class AggregateProcessorITWithAcks {
         when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class)))
                 .thenReturn(aggregateAction);
         when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofSeconds(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
-        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator);
+        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator, TestEventKeyFactory.getTestEventFactory());
         processors = List.of(processor);
         when(processorProvider.getProcessors()).thenReturn(processors);
         final FutureHelperResult<Void> futureHelperResult = mock(FutureHelperResult.class);
@@ -327,7 +329,7 @@ public class AggregateProcessorITWithAcks {
         when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class)))
                 .thenReturn(aggregateAction);
         when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofSeconds(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
-        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator);
+        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator, TestEventKeyFactory.getTestEventFactory());
         processors = List.of(processor);
         when(processorProvider.getProcessors()).thenReturn(processors);
         final FutureHelperResult<Void> futureHelperResult = mock(FutureHelperResult.class);
@@ -357,7 +359,7 @@ public class AggregateProcessorITWithAcks {
         when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class)))
                 .thenReturn(aggregateAction);
         when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofSeconds(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
-        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator);
+        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator, TestEventKeyFactory.getTestEventFactory());
         processors = List.of(processor);
         when(processorProvider.getProcessors()).thenReturn(processors);
         final FutureHelperResult<Void> futureHelperResult = mock(FutureHelperResult.class);
@@ -414,7 +416,7 @@ public class AggregateProcessorITWithAcks {
             }
         });
 
-        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator);
+        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator, TestEventKeyFactory.getTestEventFactory());
         processors = List.of(processor);
         when(processorProvider.getProcessors()).thenReturn(processors);
         final FutureHelperResult<Void> futureHelperResult = mock(FutureHelperResult.class);
@@ -468,7 +470,7 @@ public class AggregateProcessorITWithAcks {
                 return Map.entry(List.of(), checkpointState);
             }
         });
-        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator);
+        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator, TestEventKeyFactory.getTestEventFactory());
         processors = List.of(processor);
         when(processorProvider.getProcessors()).thenReturn(processors);
         final FutureHelperResult<Void> futureHelperResult = mock(FutureHelperResult.class);
@@ -498,7 +500,7 @@ public class AggregateProcessorITWithAcks {
         when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofMillis(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
         when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class)))
                 .thenReturn(aggregateAction);
-        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator);
+        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator, TestEventKeyFactory.getTestEventFactory());
         processors = List.of(processor);
         when(processorProvider.getProcessors()).thenReturn(processors);
         final FutureHelperResult<Void> futureHelperResult = mock(FutureHelperResult.class);
@@ -530,7 +532,7 @@ public class AggregateProcessorITWithAcks {
         AggregateAction aggregateAction = new TailSamplerAggregateAction(tailSamplerAggregateActionConfig, expressionEvaluator);
         when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class))).thenReturn(aggregateAction);
         when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofSeconds(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
-        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator);
+        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator, TestEventKeyFactory.getTestEventFactory());
         processors = List.of(processor);
         when(processorProvider.getProcessors()).thenReturn(processors);
         final FutureHelperResult<Void> futureHelperResult = mock(FutureHelperResult.class);
@@ -565,7 +567,7 @@ public class AggregateProcessorITWithAcks {
         AggregateAction aggregateAction = new TailSamplerAggregateAction(tailSamplerAggregateActionConfig, expressionEvaluator);
         when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class))).thenReturn(aggregateAction);
         when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofSeconds(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
-        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator);
+        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator, TestEventKeyFactory.getTestEventFactory());
         processors = List.of(processor);
         when(processorProvider.getProcessors()).thenReturn(processors);
         final FutureHelperResult<Void> futureHelperResult = mock(FutureHelperResult.class);
@@ -589,10 +591,10 @@ public class AggregateProcessorITWithAcks {
     public void testAppendAggregation() throws Exception {
         AppendAggregateActionConfig appendAggregateActionConfig = mock(AppendAggregateActionConfig.class);
         when(appendAggregateActionConfig.getKeysToAppend()).thenReturn(List.of(testKey));
-        AggregateAction aggregateAction = new AppendAggregateAction(appendAggregateActionConfig);
+        AggregateAction aggregateAction = new AppendAggregateAction(appendAggregateActionConfig, pluginMetrics, TestEventKeyFactory.getTestEventFactory());
         when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class))).thenReturn(aggregateAction);
         when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofSeconds(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
-        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator);
+        final Processor processor = new AggregateProcessor(aggregateProcessorConfig, pluginMetrics, pluginFactory, expressionEvaluator, TestEventKeyFactory.getTestEventFactory());
         processors = List.of(processor);
         when(processorProvider.getProcessors()).thenReturn(processors);
         final FutureHelperResult<Void> futureHelperResult = mock(FutureHelperResult.class);
@@ -29,10 +29,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.Collections;
@@ -42,6 +45,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -50,7 +55,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -121,6 +128,12 @@ public class AggregateProcessorTest {
     @Mock
     private Timer timeElapsed;
 
+    @Mock
+    private Timer concludeGroupsTimer;
+
+    @Mock
+    private Timer groupExpiryLagTimer;
+
     @Mock
     private ExpressionEvaluator expressionEvaluator;
 
@@ -158,6 +171,8 @@ public class AggregateProcessorTest {
         when(pluginMetrics.counter(MetricNames.RECORDS_IN)).thenReturn(recordsIn);
         when(pluginMetrics.counter(MetricNames.RECORDS_OUT)).thenReturn(recordsOut);
         when(pluginMetrics.timer(MetricNames.TIME_ELAPSED)).thenReturn(timeElapsed);
+        when(pluginMetrics.timer(AggregateProcessor.CONCLUDE_GROUPS_TIME)).thenReturn(concludeGroupsTimer);
+        when(pluginMetrics.timer(AggregateProcessor.GROUP_EXPIRY_LAG)).thenReturn(groupExpiryLagTimer);
     }
 
     @AfterEach
@@ -193,6 +208,7 @@ public class AggregateProcessorTest {
                     .thenReturn(identificationKeysMap);
             when(aggregateGroupManager.getAggregateGroup(identificationKeysMap)).thenReturn(aggregateGroup);
             when(aggregateActionSynchronizer.handleEventForGroup(event, identificationKeysMap, aggregateGroup)).thenReturn(aggregateActionResponse);
+            lenient().when(aggregateGroupManager.getPartitionLock(any())).thenReturn(new ReentrantLock());
         }
 
         @Test
@@ -517,6 +533,25 @@ public class AggregateProcessorTest {
             verify(aggregateActionSynchronizer).concludeGroup(identificationKeysMap, aggregateGroup, false);
         }
 
+        @Test
+        void concludeGroup_records_group_expiry_lag_and_conclude_time() {
+            final AggregateProcessor objectUnderTest = createObjectUnderTest();
+
+            final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry = new AbstractMap.SimpleEntry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>(identificationKeysMap, aggregateGroup);
+            when(aggregateGroupManager.getGroupsToConclude(eq(false))).thenReturn(Collections.singletonList(groupEntry));
+            when(aggregateGroupManager.getGroupDuration()).thenReturn(Duration.ofSeconds(10));
+            when(aggregateGroup.getGroupStart()).thenReturn(Instant.now().minusSeconds(15));
+            when(aggregateActionResponse.getEvent()).thenReturn(null);
+            when(aggregateActionSynchronizer.concludeGroup(identificationKeysMap, aggregateGroup, false)).thenReturn(new AggregateActionOutput(List.of(event)));
+
+            objectUnderTest.doExecute(Collections.singletonList(new Record<>(event)));
+
+            final ArgumentCaptor<Duration> expiryLagCaptor = ArgumentCaptor.forClass(Duration.class);
+            verify(groupExpiryLagTimer).record(expiryLagCaptor.capture());
+            assertThat(expiryLagCaptor.getValue().compareTo(Duration.ofSeconds(5)) >= 0, equalTo(true));
+            verify(concludeGroupsTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        }
+
         @Test
         void concludeGroup_after_prepare_for_shutdown() {
             final AggregateProcessor objectUnderTest = createObjectUnderTest();
@@ -555,6 +590,15 @@ public class AggregateProcessorTest {
         verify(aggregateGroupManager).getAllGroupsSize();
     }
 
+    @Test
+    void shutdown_closes_the_aggregate_group_manager() {
+        final AggregateProcessor objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.shutdown();
+
+        verify(aggregateGroupManager).close();
+    }
+
     private static Stream<Arguments> isReadyForShutdownArgs() {
         return Stream.of(
                 Arguments.of(0, true),
@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.metric.DefaultExemplar;
+import org.opensearch.dataprepper.model.metric.Exemplar;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GroupStateSerializationTest {
+    @Test
+    void deserializeMap_returns_a_map_of_event_values() throws IOException {
+        final Map<Object, Object> map = Map.of(
+                "string", "value",
+                "number", 1L,
+                "list", List.of(1, 2.0, true),
+                "map", Map.of("decimal", new BigDecimal("1.5")),
+                "time", Instant.now());
+
+        assertThat(GroupStateSerialization.deserializeMap(GroupStateSerialization.serializeMap(map)), equalTo(map));
+    }
+
+    @Test
+    void deserializeMap_rejects_classes_which_are_not_allowed() throws IOException {
+        final byte[] serializedMap = GroupStateSerialization.serializeMap(Map.of("uri", URI.create("https://example.com")));
+
+        assertThrows(InvalidClassException.class, () -> GroupStateSerialization.deserializeMap(serializedMap));
+    }
+
+    @Test
+    void readGroupState_returns_the_exemplars_events_and_identification_keys_which_were_written() throws IOException {
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("key", "value", "number", 5))
+                .build();
+        final Exemplar exemplar = new DefaultExemplar("2024-01-01T00:00:00Z", 2.0, "spanId", "traceId", Map.of("key", "value"));
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = new IdentificationKeysHasher.IdentificationKeysMap(Map.of("key", "value"));
+        final Map<Object, Object> groupState = new HashMap<>();
+        groupState.put("event", event);
+        groupState.put("exemplar", exemplar);
+        groupState.put("uniqueKeys", new HashSet<>(Set.of(identificationKeysMap)));
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        GroupStateSerialization.writeGroupState(groupState, outputStream);
+        final Map<Object, Object> readGroupState = GroupStateSerialization.readGroupState(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        final Event readEvent = (Event) readGroupState.get("event");
+        assertThat(readEvent.toMap(), equalTo(event.toMap()));
+        assertThat(readEvent.getMetadata().getEventType(), equalTo("event"));
+        assertThat(readEvent.getMetadata().getTimeReceived(), equalTo(event.getMetadata().getTimeReceived()));
+        final Exemplar readExemplar = (Exemplar) readGroupState.get("exemplar");
+        assertThat(readExemplar.getTime(), equalTo(exemplar.getTime()));
+        assertThat(readExemplar.getValue(), equalTo(exemplar.getValue()));
+        assertThat(readExemplar.getSpanId(), equalTo(exemplar.getSpanId()));
+        assertThat(readExemplar.getTraceId(), equalTo(exemplar.getTraceId()));
+        assertThat(readExemplar.getAttributes(), equalTo(exemplar.getAttributes()));
+        assertThat(readGroupState.get("uniqueKeys"), equalTo(Set.of(identificationKeysMap)));
+        assertThat(groupState.get("event"), sameInstance(event));
+    }
+
+    @Test
+    void writeGroupState_throws_for_events_collected_in_the_group_state() {
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("key", "value"))
+                .build();
+
+        assertThrows(NotSerializableException.class,
+                () -> GroupStateSerialization.writeGroupState(Map.of("events", List.of(event)), new ByteArrayOutputStream()));
+    }
+}
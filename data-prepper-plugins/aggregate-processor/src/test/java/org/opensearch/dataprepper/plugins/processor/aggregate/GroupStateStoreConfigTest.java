@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
+
+class GroupStateStoreConfigTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void testDefault() {
+        final GroupStateStoreConfig groupStateStoreConfig = new GroupStateStoreConfig();
+
+        assertThat(groupStateStoreConfig.getType(), equalTo(GroupStateStoreType.HEAP));
+        assertThat(groupStateStoreConfig.getMaxGroupsInMemory(), equalTo(GroupStateStoreConfig.DEFAULT_MAX_GROUPS_IN_MEMORY));
+        assertThat(groupStateStoreConfig.getDirectory(), nullValue());
+        assertThat(groupStateStoreConfig.isDirectoryValid(), equalTo(true));
+        assertThat(GroupStateStore.create(groupStateStoreConfig), nullValue());
+    }
+
+    @Test
+    void off_heap_creates_OffHeapGroupStateStore() throws NoSuchFieldException, IllegalAccessException {
+        final GroupStateStoreConfig groupStateStoreConfig = new GroupStateStoreConfig();
+        setField(GroupStateStoreConfig.class, groupStateStoreConfig, "type", GroupStateStoreType.OFF_HEAP);
+
+        assertThat(groupStateStoreConfig.isDirectoryValid(), equalTo(true));
+        assertThat(GroupStateStore.create(groupStateStoreConfig), instanceOf(OffHeapGroupStateStore.class));
+    }
+
+    @Test
+    void local_file_without_directory_is_not_valid() throws NoSuchFieldException, IllegalAccessException {
+        final GroupStateStoreConfig groupStateStoreConfig = new GroupStateStoreConfig();
+        setField(GroupStateStoreConfig.class, groupStateStoreConfig, "type", GroupStateStoreType.LOCAL_FILE);
+
+        assertThat(groupStateStoreConfig.isDirectoryValid(), equalTo(false));
+    }
+
+    @Test
+    void local_file_with_directory_creates_LocalFileGroupStateStore() throws NoSuchFieldException, IllegalAccessException {
+        final GroupStateStoreConfig groupStateStoreConfig = new GroupStateStoreConfig();
+        setField(GroupStateStoreConfig.class, groupStateStoreConfig, "type", GroupStateStoreType.LOCAL_FILE);
+        setField(GroupStateStoreConfig.class, groupStateStoreConfig, "directory", directory.toString());
+        setField(GroupStateStoreConfig.class, groupStateStoreConfig, "maxGroupsInMemory", 100);
+
+        assertThat(groupStateStoreConfig.isDirectoryValid(), equalTo(true));
+        assertThat(groupStateStoreConfig.getDirectory(), equalTo(directory.toString()));
+        assertThat(groupStateStoreConfig.getMaxGroupsInMemory(), equalTo(100));
+        assertThat(GroupStateStore.create(groupStateStoreConfig), instanceOf(LocalFileGroupStateStore.class));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.emptyString;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+public class GroupStateStoreTypeTest {
+
+    @ParameterizedTest
+    @EnumSource(GroupStateStoreType.class)
+    void fromOptionValue(final GroupStateStoreType value) {
+        assertThat(GroupStateStoreType.fromOptionValue(value.name()), is(value));
+        assertThat(value, instanceOf(GroupStateStoreType.class));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(GroupStateStoreTypeToKnownName.class)
+    void fromOptionValue_returns_expected_value(final GroupStateStoreType groupStateStoreType, final String knownString) {
+        assertThat(GroupStateStoreType.fromOptionValue(knownString), equalTo(groupStateStoreType));
+    }
+
+    @ParameterizedTest
+    @EnumSource(GroupStateStoreType.class)
+    void getOptionValue_returns_non_empty_string_for_all_types(final GroupStateStoreType groupStateStoreType) {
+        assertThat(groupStateStoreType.getOptionValue(), notNullValue());
+        assertThat(groupStateStoreType.getOptionValue(), not(emptyString()));
+    }
+
+    @ParameterizedTest
+    @ArgumentsSource(GroupStateStoreTypeToKnownName.class)
+    void getOptionValue_returns_expected_name(final GroupStateStoreType groupStateStoreType, final String expectedString) {
+        assertThat(groupStateStoreType.getOptionValue(), equalTo(expectedString));
+        assertThat(groupStateStoreType.toString(), equalTo(expectedString));
+    }
+
+    static class GroupStateStoreTypeToKnownName implements ArgumentsProvider {
+        @Override
+        public Stream<? extends Arguments> provideArguments(final ExtensionContext extensionContext) {
+            return Stream.of(
+                    arguments(GroupStateStoreType.HEAP, "heap"),
+                    arguments(GroupStateStoreType.OFF_HEAP, "off_heap"),
+                    arguments(GroupStateStoreType.LOCAL_FILE, "local_file")
+            );
+        }
+    }
+}
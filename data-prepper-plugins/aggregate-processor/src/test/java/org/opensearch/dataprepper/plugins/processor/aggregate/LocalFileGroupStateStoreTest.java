@@ -0,0 +1,259 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LocalFileGroupStateStoreTest {
+    @TempDir
+    Path directory;
+
+    private final List<LocalFileGroupStateStore> stores = new ArrayList<>();
+
+    @AfterEach
+    void closeStores() {
+        stores.forEach(LocalFileGroupStateStore::close);
+    }
+
+    private LocalFileGroupStateStore createObjectUnderTest() {
+        final LocalFileGroupStateStore objectUnderTest = new LocalFileGroupStateStore(directory);
+        stores.add(objectUnderTest);
+        return objectUnderTest;
+    }
+
+    private static IdentificationKeysHasher.IdentificationKeysMap createIdentificationKeysMap() {
+        final Map<Object, Object> keyMap = new HashMap<>();
+        keyMap.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        return new IdentificationKeysHasher.IdentificationKeysMap(keyMap);
+    }
+
+    private static byte[] createSerializedGroupState() {
+        return UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<Path> listLogFiles(final Path storeDirectory) throws IOException {
+        try (final Stream<Path> files = Files.list(storeDirectory)) {
+            return files.filter(file -> file.toString().endsWith(LocalFileGroupStateStore.LOG_FILE_SUFFIX))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private Map<IdentificationKeysHasher.IdentificationKeysMap, byte[]> recover(final LocalFileGroupStateStore objectUnderTest) {
+        final Map<IdentificationKeysHasher.IdentificationKeysMap, byte[]> recoveredGroups = new HashMap<>();
+        objectUnderTest.recover(recoveredGroups::put);
+        return recoveredGroups;
+    }
+
+    @Test
+    void put_queues_the_state_and_remove_returns_the_latest_state_before_it_is_written() throws IOException {
+        final LocalFileGroupStateStore objectUnderTest = createObjectUnderTest();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        final byte[] updatedSerializedGroupState = createSerializedGroupState();
+
+        objectUnderTest.put(identificationKeysMap, createSerializedGroupState());
+        objectUnderTest.put(identificationKeysMap, updatedSerializedGroupState);
+        objectUnderTest.put(createIdentificationKeysMap(), createSerializedGroupState());
+
+        assertThat(objectUnderTest.size(), equalTo(2L));
+        assertThat(objectUnderTest.remove(identificationKeysMap), equalTo(updatedSerializedGroupState));
+        assertThat(objectUnderTest.size(), equalTo(1L));
+        assertThat(objectUnderTest.remove(identificationKeysMap), nullValue());
+    }
+
+    @Test
+    void writeQueuedRecords_appends_the_queued_records_to_one_log_file() throws IOException {
+        final LocalFileGroupStateStore objectUnderTest = createObjectUnderTest();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        final IdentificationKeysHasher.IdentificationKeysMap otherIdentificationKeysMap = createIdentificationKeysMap();
+        final byte[] serializedGroupState = createSerializedGroupState();
+        final byte[] otherSerializedGroupState = createSerializedGroupState();
+
+        objectUnderTest.put(identificationKeysMap, serializedGroupState);
+        objectUnderTest.put(otherIdentificationKeysMap, otherSerializedGroupState);
+        objectUnderTest.writeQueuedRecords();
+
+        assertThat(listLogFiles(objectUnderTest.getStoreDirectory()), hasSize(1));
+        assertThat(objectUnderTest.remove(otherIdentificationKeysMap), equalTo(otherSerializedGroupState));
+        assertThat(objectUnderTest.remove(identificationKeysMap), equalTo(serializedGroupState));
+        assertThat(objectUnderTest.size(), equalTo(0L));
+    }
+
+    @Test
+    void get_returns_the_state_and_keeps_it_until_it_is_deleted() throws IOException {
+        final LocalFileGroupStateStore objectUnderTest = createObjectUnderTest();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        final IdentificationKeysHasher.IdentificationKeysMap writtenIdentificationKeysMap = createIdentificationKeysMap();
+        final byte[] serializedGroupState = createSerializedGroupState();
+        final byte[] writtenSerializedGroupState = createSerializedGroupState();
+
+        objectUnderTest.put(writtenIdentificationKeysMap, writtenSerializedGroupState);
+        objectUnderTest.writeQueuedRecords();
+        objectUnderTest.put(identificationKeysMap, serializedGroupState);
+
+        assertThat(objectUnderTest.get(identificationKeysMap), equalTo(serializedGroupState));
+        assertThat(objectUnderTest.get(writtenIdentificationKeysMap), equalTo(writtenSerializedGroupState));
+        assertThat(objectUnderTest.size(), equalTo(2L));
+
+        objectUnderTest.delete(identificationKeysMap);
+        objectUnderTest.delete(writtenIdentificationKeysMap);
+
+        assertThat(objectUnderTest.size(), equalTo(0L));
+        assertThat(objectUnderTest.get(identificationKeysMap), nullValue());
+        assertThat(recover(objectUnderTest).isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void recover_passes_groups_which_were_written_and_not_removed_by_a_previous_store() {
+        final LocalFileGroupStateStore previousStore = new LocalFileGroupStateStore(directory);
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        final IdentificationKeysHasher.IdentificationKeysMap removedIdentificationKeysMap = createIdentificationKeysMap();
+        final byte[] serializedGroupState = createSerializedGroupState();
+        previousStore.put(identificationKeysMap, serializedGroupState);
+        previousStore.put(removedIdentificationKeysMap, createSerializedGroupState());
+        previousStore.writeQueuedRecords();
+        previousStore.remove(removedIdentificationKeysMap);
+        previousStore.close();
+
+        final LocalFileGroupStateStore objectUnderTest = createObjectUnderTest();
+        final Map<IdentificationKeysHasher.IdentificationKeysMap, byte[]> recoveredGroups = recover(objectUnderTest);
+
+        assertThat(recoveredGroups.size(), equalTo(1));
+        assertThat(recoveredGroups.get(identificationKeysMap), equalTo(serializedGroupState));
+        assertThat(objectUnderTest.getStoreDirectory(), equalTo(previousStore.getStoreDirectory()));
+        assertThat(objectUnderTest.size(), equalTo(1L));
+        assertThat(objectUnderTest.remove(identificationKeysMap), equalTo(serializedGroupState));
+    }
+
+    @Test
+    void constructor_does_not_take_over_the_directory_of_an_open_store() {
+        final LocalFileGroupStateStore openStore = createObjectUnderTest();
+        openStore.put(createIdentificationKeysMap(), createSerializedGroupState());
+        openStore.writeQueuedRecords();
+
+        final LocalFileGroupStateStore objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getStoreDirectory(), not(equalTo(openStore.getStoreDirectory())));
+        assertThat(recover(objectUnderTest), anEmptyMap());
+        assertThat(objectUnderTest.size(), equalTo(0L));
+    }
+
+    @Test
+    void close_deletes_the_logs_when_no_group_state_is_left() throws IOException {
+        final LocalFileGroupStateStore objectUnderTest = new LocalFileGroupStateStore(directory);
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        objectUnderTest.put(identificationKeysMap, createSerializedGroupState());
+        objectUnderTest.writeQueuedRecords();
+        objectUnderTest.remove(identificationKeysMap);
+
+        objectUnderTest.close();
+
+        try (final Stream<Path> files = Files.list(directory)) {
+            assertThat(files.collect(Collectors.toList()), empty());
+        }
+    }
+
+    @Test
+    void recover_skips_records_which_are_not_valid() throws IOException {
+        final Path storeDirectory = Files.createDirectory(directory.resolve(UUID.randomUUID().toString()));
+        Files.write(storeDirectory.resolve("0" + LocalFileGroupStateStore.LOG_FILE_SUFFIX), new byte[] {1, 2, 3});
+
+        final LocalFileGroupStateStore objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getStoreDirectory(), equalTo(storeDirectory));
+        assertThat(recover(objectUnderTest), anEmptyMap());
+        assertThat(objectUnderTest.size(), equalTo(0L));
+    }
+
+    @Test
+    void recover_skips_groups_whose_identification_keys_hold_classes_which_are_not_allowed() {
+        final LocalFileGroupStateStore previousStore = new LocalFileGroupStateStore(directory);
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        final byte[] serializedGroupState = createSerializedGroupState();
+        previousStore.put(new IdentificationKeysHasher.IdentificationKeysMap(Map.of("uri", URI.create("https://example.com"))),
+                createSerializedGroupState());
+        previousStore.put(identificationKeysMap, serializedGroupState);
+        previousStore.close();
+
+        final Map<IdentificationKeysHasher.IdentificationKeysMap, byte[]> recoveredGroups = recover(createObjectUnderTest());
+
+        assertThat(recoveredGroups.size(), equalTo(1));
+        assertThat(recoveredGroups.get(identificationKeysMap), equalTo(serializedGroupState));
+    }
+
+    @Test
+    void constructor_throws_when_the_directory_cannot_be_created() throws IOException {
+        final Path file = Files.createFile(directory.resolve(UUID.randomUUID().toString()));
+
+        assertThrows(UncheckedIOException.class, () -> new LocalFileGroupStateStore(file.resolve("groups")));
+    }
+
+    @Test
+    void put_throws_when_the_identification_keys_cannot_be_serialized() {
+        final LocalFileGroupStateStore objectUnderTest = createObjectUnderTest();
+
+        assertThrows(UncheckedIOException.class, () -> objectUnderTest.put(
+                new IdentificationKeysHasher.IdentificationKeysMap(Map.of("key", new Object())), createSerializedGroupState()));
+        assertThat(objectUnderTest.size(), equalTo(0L));
+    }
+
+    @Test
+    void remove_returns_the_queued_state_when_it_cannot_be_written() throws IOException {
+        final LocalFileGroupStateStore objectUnderTest = createObjectUnderTest();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        final byte[] serializedGroupState = createSerializedGroupState();
+        objectUnderTest.put(identificationKeysMap, serializedGroupState);
+        Files.delete(objectUnderTest.getStoreDirectory().resolve(LocalFileGroupStateStore.LOCK_FILE_NAME));
+        Files.delete(objectUnderTest.getStoreDirectory());
+
+        objectUnderTest.writeQueuedRecords();
+
+        assertThat(objectUnderTest.remove(identificationKeysMap), equalTo(serializedGroupState));
+    }
+
+    @Test
+    void remove_throws_when_the_log_file_was_truncated() throws IOException {
+        final LocalFileGroupStateStore objectUnderTest = createObjectUnderTest();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        objectUnderTest.put(identificationKeysMap, createSerializedGroupState());
+        objectUnderTest.writeQueuedRecords();
+        for (final Path file : listLogFiles(objectUnderTest.getStoreDirectory())) {
+            Files.write(file, new byte[0]);
+        }
+
+        assertThrows(UncheckedIOException.class, () -> objectUnderTest.remove(identificationKeysMap));
+        assertThat(objectUnderTest.size(), equalTo(0L));
+    }
+}
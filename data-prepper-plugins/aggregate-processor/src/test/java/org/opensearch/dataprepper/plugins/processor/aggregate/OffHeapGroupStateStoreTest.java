@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class OffHeapGroupStateStoreTest {
+    private static IdentificationKeysHasher.IdentificationKeysMap createIdentificationKeysMap() {
+        return new IdentificationKeysHasher.IdentificationKeysMap(Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+    }
+
+    @Test
+    void remove_returns_the_state_which_was_put_once() {
+        final OffHeapGroupStateStore objectUnderTest = new OffHeapGroupStateStore();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        final byte[] serializedGroupState = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+
+        objectUnderTest.put(identificationKeysMap, serializedGroupState);
+        assertThat(objectUnderTest.size(), equalTo(1L));
+
+        assertThat(objectUnderTest.remove(identificationKeysMap), equalTo(serializedGroupState));
+        assertThat(objectUnderTest.size(), equalTo(0L));
+        assertThat(objectUnderTest.remove(identificationKeysMap), nullValue());
+    }
+
+    @Test
+    void get_returns_the_state_and_keeps_it_until_it_is_deleted() {
+        final OffHeapGroupStateStore objectUnderTest = new OffHeapGroupStateStore();
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        final byte[] serializedGroupState = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+
+        objectUnderTest.put(identificationKeysMap, serializedGroupState);
+
+        assertThat(objectUnderTest.get(identificationKeysMap), equalTo(serializedGroupState));
+        assertThat(objectUnderTest.get(identificationKeysMap), equalTo(serializedGroupState));
+        assertThat(objectUnderTest.size(), equalTo(1L));
+
+        objectUnderTest.delete(identificationKeysMap);
+
+        assertThat(objectUnderTest.size(), equalTo(0L));
+        assertThat(objectUnderTest.get(identificationKeysMap), nullValue());
+    }
+
+    @Test
+    void put_fills_one_segment_and_reuses_it_once_its_states_are_removed() {
+        final OffHeapGroupStateStore objectUnderTest = new OffHeapGroupStateStore(16);
+        final IdentificationKeysHasher.IdentificationKeysMap firstKeysMap = createIdentificationKeysMap();
+        final IdentificationKeysHasher.IdentificationKeysMap secondKeysMap = createIdentificationKeysMap();
+
+        objectUnderTest.put(firstKeysMap, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        objectUnderTest.put(secondKeysMap, new byte[] {9, 10, 11, 12, 13, 14, 15, 16});
+        assertThat(objectUnderTest.getAllocatedSegments(), equalTo(1));
+
+        assertThat(objectUnderTest.remove(firstKeysMap), equalTo(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}));
+        assertThat(objectUnderTest.remove(secondKeysMap), equalTo(new byte[] {9, 10, 11, 12, 13, 14, 15, 16}));
+        objectUnderTest.put(firstKeysMap, new byte[] {17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32});
+
+        assertThat(objectUnderTest.getAllocatedSegments(), equalTo(1));
+        assertThat(objectUnderTest.remove(firstKeysMap), equalTo(new byte[] {17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32}));
+    }
+
+    @Test
+    void put_allocates_a_new_segment_when_the_current_one_is_full_and_pools_the_previous_one() {
+        final OffHeapGroupStateStore objectUnderTest = new OffHeapGroupStateStore(16);
+        final IdentificationKeysHasher.IdentificationKeysMap firstKeysMap = createIdentificationKeysMap();
+        final IdentificationKeysHasher.IdentificationKeysMap secondKeysMap = createIdentificationKeysMap();
+        final IdentificationKeysHasher.IdentificationKeysMap thirdKeysMap = createIdentificationKeysMap();
+
+        objectUnderTest.put(firstKeysMap, new byte[12]);
+        objectUnderTest.put(secondKeysMap, new byte[12]);
+        assertThat(objectUnderTest.getAllocatedSegments(), equalTo(2));
+
+        objectUnderTest.remove(firstKeysMap);
+        objectUnderTest.put(thirdKeysMap, new byte[12]);
+
+        assertThat(objectUnderTest.getAllocatedSegments(), equalTo(2));
+        assertThat(objectUnderTest.size(), equalTo(2L));
+    }
+
+    @Test
+    void put_gives_states_larger_than_a_segment_a_buffer_of_their_own() {
+        final OffHeapGroupStateStore objectUnderTest = new OffHeapGroupStateStore(16);
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = createIdentificationKeysMap();
+        final byte[] serializedGroupState = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+
+        objectUnderTest.put(identificationKeysMap, serializedGroupState);
+        assertThat(objectUnderTest.getAllocatedSegments(), equalTo(1));
+
+        assertThat(objectUnderTest.remove(identificationKeysMap), equalTo(serializedGroupState));
+        assertThat(objectUnderTest.getAllocatedSegments(), equalTo(0));
+    }
+
+    @Test
+    void recover_does_not_pass_any_groups() {
+        final OffHeapGroupStateStore objectUnderTest = new OffHeapGroupStateStore();
+        objectUnderTest.put(createIdentificationKeysMap(), new byte[] {1});
+
+        objectUnderTest.recover((identificationKeysMap, serializedGroupState) -> {
+            throw new AssertionError("No groups are recovered from off-heap memory");
+        });
+    }
+}
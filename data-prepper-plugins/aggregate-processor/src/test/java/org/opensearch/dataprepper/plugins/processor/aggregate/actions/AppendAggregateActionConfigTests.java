@@ -44,4 +44,18 @@ public class AppendAggregateActionConfigTests {
 		assertThat(agentAggregateActionConfig.getKeysToAppend(), equalTo(testKeysToAppend));
 	}
 
+	@Test
+	void testDefault() {
+		assertThat(agentAggregateActionConfig.getMaxValuesPerKey(), equalTo(null));
+		assertThat(agentAggregateActionConfig.getUniqueValues(), equalTo(false));
+	}
+
+	@Test
+	void testValidLimitConfig() throws NoSuchFieldException, IllegalAccessException {
+		setField(AppendAggregateActionConfig.class, agentAggregateActionConfig, "maxValuesPerKey", 100);
+		setField(AppendAggregateActionConfig.class, agentAggregateActionConfig, "uniqueValues", true);
+		assertThat(agentAggregateActionConfig.getMaxValuesPerKey(), equalTo(100));
+		assertThat(agentAggregateActionConfig.getUniqueValues(), equalTo(true));
+	}
+
 }
@@ -9,9 +9,17 @@
 
 package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
 
+import io.micrometer.core.instrument.Counter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.event.TestEventKeyFactory;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateAction;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInput;
@@ -28,19 +36,36 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
 
+@ExtendWith(MockitoExtension.class)
 public class AppendAggregateActionTest {
 
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Counter appendedValuesDroppedCounter;
+
     private AggregateAction appendAggregateAction;
     private List<Event> events;
     private List<Map<String, Object>> eventMaps;
 
     @BeforeEach
     void setup() {
+        when(pluginMetrics.counter(AppendAggregateAction.APPENDED_VALUES_DROPPED)).thenReturn(appendedValuesDroppedCounter);
         events = new ArrayList<>();
         eventMaps = new ArrayList<>();
 
@@ -81,7 +106,11 @@ public class AppendAggregateActionTest {
     }
 
     private AggregateAction createObjectUnderTest(AppendAggregateActionConfig config) {
-        return new AppendAggregateAction(config);
+        return new AppendAggregateAction(config, pluginMetrics, TestEventKeyFactory.getTestEventFactory());
+    }
+
+    private static Map<String, Object> concludeGroup(final AggregateAction aggregateAction, final AggregateActionInput aggregateActionInput) {
+        return aggregateAction.concludeGroup(aggregateActionInput).getEvents().get(0).toMap();
     }
 
     @Test
@@ -135,7 +164,7 @@ public class AppendAggregateActionTest {
         // Handle second event
         final AggregateActionResponse aggregateActionResponse = appendAggregateAction.handleEvent(events.get(1), aggregateActionInput);
         assertThat(aggregateActionResponse.getEvent(), equalTo(null));
-        assertThat(aggregateActionInput.getGroupState(), equalTo(expectedGroupState));
+        assertThat(concludeGroup(appendAggregateAction, aggregateActionInput), equalTo(expectedGroupState));
     }
 
     @Test
@@ -155,7 +184,7 @@ public class AppendAggregateActionTest {
         // Handle second event
         final AggregateActionResponse aggregateActionResponse = appendAggregateAction.handleEvent(events.get(1), aggregateActionInput);
         assertThat(aggregateActionResponse.getEvent(), equalTo(null));
-        assertThat(aggregateActionInput.getGroupState(), equalTo(expectedGroupState));
+        assertThat(concludeGroup(appendAggregateAction, aggregateActionInput), equalTo(expectedGroupState));
     }
 
 
@@ -176,7 +205,7 @@ public class AppendAggregateActionTest {
         // Handle second event
         final AggregateActionResponse aggregateActionResponse = appendAggregateAction.handleEvent(events.get(1), aggregateActionInput);
         assertThat(aggregateActionResponse.getEvent(), equalTo(null));
-        assertThat(aggregateActionInput.getGroupState(), equalTo(expectedGroupState));
+        assertThat(concludeGroup(appendAggregateAction, aggregateActionInput), equalTo(expectedGroupState));
     }
 
     @Test
@@ -196,7 +225,7 @@ public class AppendAggregateActionTest {
         // Handle second event
         final AggregateActionResponse aggregateActionResponse = appendAggregateAction.handleEvent(events.get(1), aggregateActionInput);
         assertThat(aggregateActionResponse.getEvent(), equalTo(null));
-        assertThat(aggregateActionInput.getGroupState(), equalTo(expectedGroupState));
+        assertThat(concludeGroup(appendAggregateAction, aggregateActionInput), equalTo(expectedGroupState));
     }
 
     @Test
@@ -216,7 +245,7 @@ public class AppendAggregateActionTest {
         // Handle second event
         final AggregateActionResponse aggregateActionResponse = appendAggregateAction.handleEvent(events.get(1), aggregateActionInput);
         assertThat(aggregateActionResponse.getEvent(), equalTo(null));
-        assertThat(aggregateActionInput.getGroupState(), equalTo(expectedGroupState));
+        assertThat(concludeGroup(appendAggregateAction, aggregateActionInput), equalTo(expectedGroupState));
     }
 
     @Test
@@ -236,7 +265,7 @@ public class AppendAggregateActionTest {
         // Handle second event
         final AggregateActionResponse aggregateActionResponse = appendAggregateAction.handleEvent(events.get(1), aggregateActionInput);
         assertThat(aggregateActionResponse.getEvent(), equalTo(null));
-        assertThat(aggregateActionInput.getGroupState(), equalTo(expectedGroupState));
+        assertThat(concludeGroup(appendAggregateAction, aggregateActionInput), equalTo(expectedGroupState));
     }
 
     @Test
@@ -256,7 +285,7 @@ public class AppendAggregateActionTest {
         // Handle second event
         final AggregateActionResponse aggregateActionResponse = appendAggregateAction.handleEvent(events.get(1), aggregateActionInput);
         assertThat(aggregateActionResponse.getEvent(), equalTo(null));
-        assertThat(aggregateActionInput.getGroupState(), equalTo(expectedGroupState));
+        assertThat(concludeGroup(appendAggregateAction, aggregateActionInput), equalTo(expectedGroupState));
     }
 
     @Test
@@ -276,7 +305,7 @@ public class AppendAggregateActionTest {
         // Handle second event
         final AggregateActionResponse aggregateActionResponse = appendAggregateAction.handleEvent(events.get(1), aggregateActionInput);
         assertThat(aggregateActionResponse.getEvent(), equalTo(null));
-        assertThat(aggregateActionInput.getGroupState(), equalTo(expectedGroupState));
+        assertThat(concludeGroup(appendAggregateAction, aggregateActionInput), equalTo(expectedGroupState));
     }
 
     @Test
@@ -314,4 +343,94 @@ public class AppendAggregateActionTest {
         final AggregateActionOutput actionOutput = appendAggregateAction.concludeGroup(aggregateActionInput);
         assertThat(actionOutput, equalTo(null));
     }
+
+    @Test
+    void handleEvent_appends_the_values_of_all_events() throws NoSuchFieldException, IllegalAccessException {
+        AppendAggregateActionConfig appendAggregateActionConfig = new AppendAggregateActionConfig();
+        setField(AppendAggregateActionConfig.class, appendAggregateActionConfig, "keysToAppend", List.of("matchingNumber", "matchingStringArray"));
+        appendAggregateAction = createObjectUnderTest(appendAggregateActionConfig);
+
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap());
+        appendAggregateAction.handleEvent(events.get(0), aggregateActionInput);
+        appendAggregateAction.handleEvent(events.get(1), aggregateActionInput);
+        appendAggregateAction.handleEvent(buildEventFromMap(Map.of("matchingNumber", 12, "matchingStringArray", List.of("String5"))), aggregateActionInput);
+
+        final Map<String, Object> result = concludeGroup(appendAggregateAction, aggregateActionInput);
+        assertThat(result.get("matchingNumber"), equalTo(List.of(10, 11, 12)));
+        assertThat(result.get("matchingStringArray"), equalTo(List.of("String1", "String2", "String3", "String4", "String5")));
+        assertThat(result.get("firstString"), equalTo("firstEventString"));
+    }
+
+    @Test
+    void handleEvent_with_keysToAppend_reads_only_the_keys_to_append() throws NoSuchFieldException, IllegalAccessException {
+        AppendAggregateActionConfig appendAggregateActionConfig = new AppendAggregateActionConfig();
+        setField(AppendAggregateActionConfig.class, appendAggregateActionConfig, "keysToAppend", List.of("matchingNumber", "matchingString", "secondString"));
+        appendAggregateAction = createObjectUnderTest(appendAggregateActionConfig);
+        final Event event = mock(Event.class);
+        when(event.get(any(EventKey.class), eq(Object.class))).thenAnswer(invocation ->
+                ((EventKey) invocation.getArgument(0)).getKey().equals("matchingNumber") ? 11 : null);
+
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap());
+        appendAggregateAction.handleEvent(events.get(0), aggregateActionInput);
+        appendAggregateAction.handleEvent(event, aggregateActionInput);
+
+        verify(event, never()).toMap();
+        verify(event, times(2)).get(any(EventKey.class), eq(Object.class));
+        final Map<String, Object> result = concludeGroup(appendAggregateAction, aggregateActionInput);
+        assertThat(result.get("matchingNumber"), equalTo(List.of(10, 11)));
+        assertThat(result.get("matchingString"), equalTo("StringFromFirstEvent"));
+        assertThat(result.containsKey("secondString"), equalTo(false));
+    }
+
+    @Test
+    void handleEvent_with_maxValuesPerKey_drops_the_values_after_the_maximum() throws NoSuchFieldException, IllegalAccessException {
+        AppendAggregateActionConfig appendAggregateActionConfig = new AppendAggregateActionConfig();
+        setField(AppendAggregateActionConfig.class, appendAggregateActionConfig, "keysToAppend", List.of("matchingNumberArray"));
+        setField(AppendAggregateActionConfig.class, appendAggregateActionConfig, "maxValuesPerKey", 4);
+        appendAggregateAction = createObjectUnderTest(appendAggregateActionConfig);
+
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap());
+        appendAggregateAction.handleEvent(events.get(0), aggregateActionInput);
+        appendAggregateAction.handleEvent(events.get(1), aggregateActionInput);
+
+        verify(appendedValuesDroppedCounter, times(2)).increment();
+        assertThat(concludeGroup(appendAggregateAction, aggregateActionInput).get("matchingNumberArray"), equalTo(List.of(20, 21, 22, 23)));
+    }
+
+    @Test
+    void handleEvent_with_uniqueValues_skips_equal_values() throws NoSuchFieldException, IllegalAccessException {
+        AppendAggregateActionConfig appendAggregateActionConfig = new AppendAggregateActionConfig();
+        setField(AppendAggregateActionConfig.class, appendAggregateActionConfig, "uniqueValues", true);
+        appendAggregateAction = createObjectUnderTest(appendAggregateActionConfig);
+
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap());
+        appendAggregateAction.handleEvent(events.get(0), aggregateActionInput);
+        appendAggregateAction.handleEvent(events.get(1), aggregateActionInput);
+        appendAggregateAction.handleEvent(events.get(0), aggregateActionInput);
+
+        final Map<String, Object> result = concludeGroup(appendAggregateAction, aggregateActionInput);
+        assertThat(result.get("matchingNumber"), equalTo(List.of(10, 11)));
+        assertThat(result.get("matchingNumberArrayEqual"), equalTo(List.of(20, 21, 22)));
+        assertThat(result.get("matchingString"), equalTo(List.of("StringFromFirstEvent", "StringFromSecondEvent")));
+        assertThat(result.get("matchingNumberEqual"), equalTo(38947));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void appendedValues_gauge_returns_the_number_of_values_of_the_groups_which_are_not_concluded() throws NoSuchFieldException, IllegalAccessException {
+        AppendAggregateActionConfig appendAggregateActionConfig = new AppendAggregateActionConfig();
+        setField(AppendAggregateActionConfig.class, appendAggregateActionConfig, "keysToAppend", List.of("matchingNumber", "matchingStringArray"));
+        appendAggregateAction = createObjectUnderTest(appendAggregateActionConfig);
+        final ArgumentCaptor<AtomicLong> appendedValuesCaptor = ArgumentCaptor.forClass(AtomicLong.class);
+        final ArgumentCaptor<ToDoubleFunction<AtomicLong>> valueFunctionCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        verify(pluginMetrics).gauge(eq(AppendAggregateAction.APPENDED_VALUES), appendedValuesCaptor.capture(), valueFunctionCaptor.capture());
+
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap());
+        appendAggregateAction.handleEvent(events.get(0), aggregateActionInput);
+        appendAggregateAction.handleEvent(events.get(1), aggregateActionInput);
+        assertThat(valueFunctionCaptor.getValue().applyAsDouble(appendedValuesCaptor.getValue()), equalTo(6.0));
+
+        appendAggregateAction.concludeGroup(aggregateActionInput);
+        assertThat(valueFunctionCaptor.getValue().applyAsDouble(appendedValuesCaptor.getValue()), equalTo(0.0));
+    }
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+
+class AppendedValuesTest {
+    private static AppendedValues createObjectUnderTest() {
+        return new AppendedValues(Integer.MAX_VALUE, false);
+    }
+
+    @Test
+    void toList_returns_empty_list_without_values() {
+        final AppendedValues objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.toList(), empty());
+        assertThat(objectUnderTest.size(), equalTo(0));
+    }
+
+    @Test
+    void toList_returns_integers_when_only_integers_were_added() {
+        final AppendedValues objectUnderTest = createObjectUnderTest();
+        final List<Object> expectedValues = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            objectUnderTest.add(i);
+            expectedValues.add(i);
+        }
+
+        assertThat(objectUnderTest.toList(), equalTo(expectedValues));
+        assertThat(objectUnderTest.size(), equalTo(100));
+    }
+
+    @Test
+    void toList_returns_longs_when_integers_and_longs_were_added() {
+        final AppendedValues objectUnderTest = createObjectUnderTest();
+        objectUnderTest.add(1);
+        objectUnderTest.add(Long.MAX_VALUE);
+
+        assertThat(objectUnderTest.toList(), equalTo(List.of(1L, Long.MAX_VALUE)));
+    }
+
+    @Test
+    void toList_returns_doubles_when_only_doubles_were_added() {
+        final AppendedValues objectUnderTest = createObjectUnderTest();
+        final List<Object> expectedValues = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            objectUnderTest.add(i + 0.5);
+            expectedValues.add(i + 0.5);
+        }
+
+        assertThat(objectUnderTest.toList(), equalTo(expectedValues));
+    }
+
+    @Test
+    void toList_returns_the_values_in_order_when_values_of_different_types_were_added() {
+        final AppendedValues objectUnderTest = createObjectUnderTest();
+        objectUnderTest.add(1);
+        objectUnderTest.add(2);
+        objectUnderTest.add(1.5);
+        objectUnderTest.add("value");
+        objectUnderTest.add(null);
+        objectUnderTest.add(Map.of("key", "value"));
+        objectUnderTest.add(3);
+
+        assertThat(objectUnderTest.toList(), equalTo(Arrays.asList(1, 2, 1.5, "value", null, Map.of("key", "value"), 3)));
+        assertThat(objectUnderTest.size(), equalTo(7));
+    }
+
+    @Test
+    void toList_returns_the_values_in_order_when_an_integer_is_added_to_doubles() {
+        final AppendedValues objectUnderTest = createObjectUnderTest();
+        objectUnderTest.add(1.5);
+        objectUnderTest.add(2);
+
+        assertThat(objectUnderTest.toList(), equalTo(List.of(1.5, 2)));
+    }
+
+    @Test
+    void add_returns_false_after_the_maximum_number_of_values() {
+        final AppendedValues objectUnderTest = new AppendedValues(2, false);
+
+        assertThat(objectUnderTest.add("a"), equalTo(true));
+        assertThat(objectUnderTest.isFull(), equalTo(false));
+        assertThat(objectUnderTest.add("a"), equalTo(true));
+        assertThat(objectUnderTest.isFull(), equalTo(true));
+        assertThat(objectUnderTest.add("b"), equalTo(false));
+        assertThat(objectUnderTest.toList(), equalTo(List.of("a", "a")));
+    }
+
+    @Test
+    void add_returns_false_for_values_which_were_added_to_unique_values() {
+        final AppendedValues objectUnderTest = new AppendedValues(Integer.MAX_VALUE, true);
+
+        assertThat(objectUnderTest.add(1), equalTo(true));
+        assertThat(objectUnderTest.add(1L), equalTo(false));
+        assertThat(objectUnderTest.add(2L), equalTo(true));
+        assertThat(objectUnderTest.add("a"), equalTo(true));
+        assertThat(objectUnderTest.add("a"), equalTo(false));
+        assertThat(objectUnderTest.toList(), equalTo(List.of(1L, 2L, "a")));
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
+
+class CardinalityAggregateActionConfigTests {
+    private CardinalityAggregateActionConfig cardinalityAggregateActionConfig;
+
+    @BeforeEach
+    void setUp() {
+        cardinalityAggregateActionConfig = new CardinalityAggregateActionConfig();
+    }
+
+    @Test
+    void testDefault() {
+        assertThat(cardinalityAggregateActionConfig.getPrecision(), equalTo(CardinalityAggregateActionConfig.DEFAULT_PRECISION));
+        assertThat(cardinalityAggregateActionConfig.getGeneratedKeyPrefix(), equalTo(CardinalityAggregateActionConfig.DEFAULT_GENERATED_KEY_PREFIX));
+        assertThat(cardinalityAggregateActionConfig.getIncludeSketch(), equalTo(false));
+    }
+
+    @Test
+    void testValidConfig() throws NoSuchFieldException, IllegalAccessException {
+        final String key = UUID.randomUUID().toString();
+        final String prefix = UUID.randomUUID().toString();
+        setField(CardinalityAggregateActionConfig.class, cardinalityAggregateActionConfig, "key", key);
+        setField(CardinalityAggregateActionConfig.class, cardinalityAggregateActionConfig, "precision", 10);
+        setField(CardinalityAggregateActionConfig.class, cardinalityAggregateActionConfig, "generatedKeyPrefix", prefix);
+        setField(CardinalityAggregateActionConfig.class, cardinalityAggregateActionConfig, "includeSketch", true);
+
+        assertThat(cardinalityAggregateActionConfig.getKey(), equalTo(key));
+        assertThat(cardinalityAggregateActionConfig.getPrecision(), equalTo(10));
+        assertThat(cardinalityAggregateActionConfig.getGeneratedKeyPrefix(), equalTo(prefix));
+        assertThat(cardinalityAggregateActionConfig.getIncludeSketch(), equalTo(true));
+    }
+}
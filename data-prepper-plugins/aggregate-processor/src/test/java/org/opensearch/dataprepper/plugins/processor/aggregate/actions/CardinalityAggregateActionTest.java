@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInput;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionOutput;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionTestUtils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
+
+class CardinalityAggregateActionTest {
+    private static final String PREFIX = CardinalityAggregateActionConfig.DEFAULT_GENERATED_KEY_PREFIX;
+
+    private CardinalityAggregateActionConfig cardinalityAggregateActionConfig;
+    private String key;
+    private Map<Object, Object> identificationKeys;
+    private AggregateActionInput aggregateActionInput;
+
+    @BeforeEach
+    void setUp() throws NoSuchFieldException, IllegalAccessException {
+        key = UUID.randomUUID().toString();
+        cardinalityAggregateActionConfig = new CardinalityAggregateActionConfig();
+        setField(CardinalityAggregateActionConfig.class, cardinalityAggregateActionConfig, "key", key);
+        identificationKeys = Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(identificationKeys);
+    }
+
+    private CardinalityAggregateAction createObjectUnderTest() {
+        return new CardinalityAggregateAction(cardinalityAggregateActionConfig);
+    }
+
+    private static Event createEvent(final Map<String, Object> data) {
+        return JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .build();
+    }
+
+    @Test
+    void handleEvent_drops_events_and_concludeGroup_returns_the_cardinality() {
+        final CardinalityAggregateAction objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < 3000; i++) {
+            final AggregateActionResponse response = objectUnderTest.handleEvent(createEvent(Map.of(key, "value-" + (i % 1000))), aggregateActionInput);
+            assertThat(response.getEvent(), nullValue());
+        }
+        objectUnderTest.handleEvent(createEvent(Collections.emptyMap()), aggregateActionInput);
+
+        final AggregateActionOutput output = objectUnderTest.concludeGroup(aggregateActionInput);
+
+        assertThat(output.getEvents(), hasSize(1));
+        final Event event = output.getEvents().get(0);
+        final Map.Entry<Object, Object> identificationKey = identificationKeys.entrySet().iterator().next();
+        assertThat(event.get((String) identificationKey.getKey(), Object.class), equalTo(identificationKey.getValue()));
+        assertThat((double) event.get(PREFIX + CardinalityAggregateAction.CARDINALITY_KEY, Long.class), closeTo(1000.0, 30.0));
+        assertThat(event.get(PREFIX + SketchAggregateAction.SKETCH_KEY, String.class), nullValue());
+        assertThat(event.getEventHandle(), equalTo(aggregateActionInput.getEventHandle()));
+        assertThat(aggregateActionInput.getGroupState().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void concludeGroup_returns_no_events_without_handled_events() {
+        final AggregateActionOutput output = createObjectUnderTest().concludeGroup(aggregateActionInput);
+
+        assertThat(output.getEvents(), empty());
+    }
+
+    @Test
+    void handleEvent_merges_the_sketch_of_an_event_which_was_aggregated_with_include_sketch()
+            throws NoSuchFieldException, IllegalAccessException {
+        setField(CardinalityAggregateActionConfig.class, cardinalityAggregateActionConfig, "includeSketch", true);
+        final CardinalityAggregateAction firstAggregation = createObjectUnderTest();
+        final AggregateActionInput firstAggregationInput = new AggregateActionTestUtils.TestAggregateActionInput(identificationKeys);
+        for (int i = 0; i < 100; i++) {
+            firstAggregation.handleEvent(createEvent(Map.of(key, i)), firstAggregationInput);
+        }
+        final Event aggregatedEvent = firstAggregation.concludeGroup(firstAggregationInput).getEvents().get(0);
+
+        final CardinalityAggregateAction objectUnderTest = createObjectUnderTest();
+        objectUnderTest.handleEvent(aggregatedEvent, aggregateActionInput);
+        for (int i = 50; i < 150; i++) {
+            objectUnderTest.handleEvent(createEvent(Map.of(key, i)), aggregateActionInput);
+        }
+        final Event event = objectUnderTest.concludeGroup(aggregateActionInput).getEvents().get(0);
+
+        assertThat((double) event.get(PREFIX + CardinalityAggregateAction.CARDINALITY_KEY, Long.class), closeTo(150.0, 5.0));
+        assertThat(event.get(PREFIX + SketchAggregateAction.SKETCH_KEY, String.class), notNullValue());
+    }
+}
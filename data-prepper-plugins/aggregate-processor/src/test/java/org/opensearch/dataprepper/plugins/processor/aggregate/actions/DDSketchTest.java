@@ -0,0 +1,165 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.notANumber;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DDSketchTest {
+    private static final double RELATIVE_ACCURACY = 0.01;
+
+    private static void assertQuantilesWithinRelativeAccuracy(final DDSketch sketch, final double[] sortedValues) {
+        for (final double quantile : new double[] {0.0, 0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99, 1.0}) {
+            final double expected = sortedValues[(int) (quantile * (sortedValues.length - 1))];
+            assertThat(sketch.getQuantile(quantile), closeTo(expected, Math.abs(expected) * RELATIVE_ACCURACY + 1e-12));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 1.0, -0.1, Double.NaN})
+    void constructor_throws_for_invalid_relative_accuracy(final double relativeAccuracy) {
+        assertThrows(IllegalArgumentException.class, () -> new DDSketch(relativeAccuracy, 16));
+    }
+
+    @Test
+    void constructor_throws_for_invalid_max_buckets() {
+        assertThrows(IllegalArgumentException.class, () -> new DDSketch(RELATIVE_ACCURACY, 0));
+    }
+
+    @Test
+    void getQuantile_returns_NaN_without_values() {
+        final DDSketch objectUnderTest = new DDSketch(RELATIVE_ACCURACY, 16);
+
+        assertThat(objectUnderTest.getQuantile(0.5), notANumber());
+        assertThat(objectUnderTest.getCount(), equalTo(0L));
+    }
+
+    @Test
+    void add_ignores_values_which_are_not_finite() {
+        final DDSketch objectUnderTest = new DDSketch(RELATIVE_ACCURACY, 16);
+        objectUnderTest.add(Double.NaN);
+        objectUnderTest.add(Double.POSITIVE_INFINITY);
+        objectUnderTest.add(Double.NEGATIVE_INFINITY);
+
+        assertThat(objectUnderTest.getCount(), equalTo(0L));
+    }
+
+    @Test
+    void getQuantile_returns_values_within_the_relative_accuracy() {
+        final Random random = new Random(42);
+        final DDSketch objectUnderTest = new DDSketch(RELATIVE_ACCURACY, 2048);
+        final double[] values = new double[10000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian() * 3) * (i % 4 == 0 ? -1 : 1);
+            if (i % 10 == 0) {
+                values[i] = 0.0;
+            }
+            objectUnderTest.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        assertQuantilesWithinRelativeAccuracy(objectUnderTest, values);
+        assertThat(objectUnderTest.getCount(), equalTo((long) values.length));
+        assertThat(objectUnderTest.getMin(), equalTo(values[0]));
+        assertThat(objectUnderTest.getMax(), equalTo(values[values.length - 1]));
+        assertThat(objectUnderTest.getSum(), closeTo(Arrays.stream(values).sum(), 1e-6));
+    }
+
+    @Test
+    void getQuantile_collapses_the_lowest_buckets_when_there_are_more_than_max_buckets() {
+        final DDSketch objectUnderTest = new DDSketch(RELATIVE_ACCURACY, 16);
+        for (int i = 1000; i >= 1; i--) {
+            objectUnderTest.add(i);
+        }
+        objectUnderTest.add(0.5);
+
+        assertThat(objectUnderTest.getCount(), equalTo(1001L));
+        assertThat(objectUnderTest.getQuantile(1.0), closeTo(1000.0, 1000.0 * RELATIVE_ACCURACY));
+        assertThat(objectUnderTest.getQuantile(0.99), closeTo(990.0, 990.0 * RELATIVE_ACCURACY));
+        assertThat(objectUnderTest.getQuantile(0.0), lessThan(1000.0));
+    }
+
+    @Test
+    void merge_combines_the_values_of_both_sketches() {
+        final DDSketch objectUnderTest = new DDSketch(RELATIVE_ACCURACY, 2048);
+        final DDSketch other = new DDSketch(RELATIVE_ACCURACY, 2048);
+        final double[] values = new double[2000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i - 500;
+            if (i % 2 == 0) {
+                objectUnderTest.add(values[i]);
+            } else {
+                other.add(values[i]);
+            }
+        }
+
+        objectUnderTest.merge(other);
+
+        assertQuantilesWithinRelativeAccuracy(objectUnderTest, values);
+        assertThat(objectUnderTest.getCount(), equalTo(2000L));
+        assertThat(objectUnderTest.getMin(), equalTo(-500.0));
+        assertThat(objectUnderTest.getMax(), equalTo(1499.0));
+    }
+
+    @Test
+    void merge_throws_for_a_different_configuration() {
+        final DDSketch objectUnderTest = new DDSketch(RELATIVE_ACCURACY, 2048);
+
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.merge(new DDSketch(0.02, 2048)));
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.merge(new DDSketch(RELATIVE_ACCURACY, 1024)));
+    }
+
+    @Test
+    void fromByteArray_returns_an_equivalent_sketch() {
+        final DDSketch objectUnderTest = new DDSketch(RELATIVE_ACCURACY, 2048);
+        for (int i = -100; i <= 100; i++) {
+            objectUnderTest.add(i * 1.5);
+        }
+
+        final DDSketch deserializedSketch = (DDSketch) Sketch.fromByteArray(objectUnderTest.toByteArray());
+
+        assertThat(deserializedSketch.getCount(), equalTo(objectUnderTest.getCount()));
+        assertThat(deserializedSketch.getSum(), equalTo(objectUnderTest.getSum()));
+        assertThat(deserializedSketch.getMin(), equalTo(objectUnderTest.getMin()));
+        assertThat(deserializedSketch.getMax(), equalTo(objectUnderTest.getMax()));
+        for (final double quantile : new double[] {0.0, 0.3, 0.5, 0.7, 1.0}) {
+            assertThat(deserializedSketch.getQuantile(quantile), equalTo(objectUnderTest.getQuantile(quantile)));
+        }
+        assertThat(deserializedSketch.toByteArray(), equalTo(objectUnderTest.toByteArray()));
+    }
+
+    @Test
+    void fromByteArray_throws_for_more_buckets_than_max_buckets() {
+        final SketchOutput output = new SketchOutput();
+        output.writeByte(Sketch.DDSKETCH_TYPE);
+        output.writeDouble(RELATIVE_ACCURACY);
+        output.writeVarLong(16);
+        output.writeVarLong(0);
+        output.writeDouble(0.0);
+        output.writeDouble(0.0);
+        output.writeDouble(0.0);
+        output.writeVarLong(17);
+        output.writeInt(0);
+        output.writeBytes(new byte[17]);
+
+        assertThrows(IllegalArgumentException.class, () -> Sketch.fromByteArray(output.toByteArray()));
+    }
+}
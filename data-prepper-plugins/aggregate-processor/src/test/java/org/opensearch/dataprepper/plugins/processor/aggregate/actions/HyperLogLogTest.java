@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HyperLogLogTest {
+    @ParameterizedTest
+    @ValueSource(ints = {HyperLogLog.MIN_PRECISION - 1, HyperLogLog.MAX_PRECISION + 1})
+    void constructor_throws_for_invalid_precision(final int precision) {
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(precision));
+    }
+
+    @Test
+    void getCardinality_returns_zero_without_values() {
+        assertThat(new HyperLogLog(14).getCardinality(), equalTo(0L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 1000, 100000})
+    void getCardinality_returns_estimate_within_the_error(final int distinctValues) {
+        final HyperLogLog objectUnderTest = new HyperLogLog(14);
+        for (int repeat = 0; repeat < 2; repeat++) {
+            for (int i = 0; i < distinctValues; i++) {
+                objectUnderTest.add("value-" + i);
+            }
+        }
+
+        assertThat((double) objectUnderTest.getCardinality(), closeTo(distinctValues, distinctValues * 0.03));
+    }
+
+    @Test
+    void merge_estimates_the_union_of_both_sketches() {
+        final HyperLogLog objectUnderTest = new HyperLogLog(12);
+        final HyperLogLog other = new HyperLogLog(12);
+        for (int i = 0; i < 20000; i++) {
+            objectUnderTest.add(i);
+            other.add(i + 10000);
+        }
+
+        objectUnderTest.merge(other);
+
+        assertThat((double) objectUnderTest.getCardinality(), closeTo(30000, 30000 * 0.05));
+    }
+
+    @Test
+    void fromByteArray_returns_an_equivalent_sketch() {
+        final HyperLogLog objectUnderTest = new HyperLogLog(10);
+        for (int i = 0; i < 5000; i++) {
+            objectUnderTest.add(i);
+        }
+
+        final byte[] bytes = objectUnderTest.toByteArray();
+        final HyperLogLog deserializedSketch = (HyperLogLog) Sketch.fromByteArray(bytes);
+
+        assertThat(bytes.length, equalTo(2 + (1 << 10)));
+        assertThat(deserializedSketch.getCardinality(), equalTo(objectUnderTest.getCardinality()));
+    }
+
+    @Test
+    void fromByteArray_throws_for_missing_registers() {
+        final byte[] bytes = new HyperLogLog(10).toByteArray();
+
+        assertThrows(IllegalArgumentException.class, () -> Sketch.fromByteArray(Arrays.copyOf(bytes, bytes.length - 1)));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
+
+class PercentilesAggregateActionConfigTests {
+    private PercentilesAggregateActionConfig percentilesAggregateActionConfig;
+
+    @BeforeEach
+    void setUp() {
+        percentilesAggregateActionConfig = new PercentilesAggregateActionConfig();
+    }
+
+    @Test
+    void testDefault() {
+        assertThat(percentilesAggregateActionConfig.getPercentiles(), equalTo(PercentilesAggregateActionConfig.DEFAULT_PERCENTILES));
+        assertThat(percentilesAggregateActionConfig.getRelativeAccuracy(), equalTo(PercentilesAggregateActionConfig.DEFAULT_RELATIVE_ACCURACY));
+        assertThat(percentilesAggregateActionConfig.getMaxBuckets(), equalTo(PercentilesAggregateActionConfig.DEFAULT_MAX_BUCKETS));
+        assertThat(percentilesAggregateActionConfig.getGeneratedKeyPrefix(), equalTo(PercentilesAggregateActionConfig.DEFAULT_GENERATED_KEY_PREFIX));
+        assertThat(percentilesAggregateActionConfig.getIncludeSketch(), equalTo(false));
+        assertThat(percentilesAggregateActionConfig.isPercentilesValid(), equalTo(true));
+        assertThat(percentilesAggregateActionConfig.isRelativeAccuracyValid(), equalTo(true));
+    }
+
+    @Test
+    void testValidConfig() throws NoSuchFieldException, IllegalAccessException {
+        final String key = UUID.randomUUID().toString();
+        final List<Double> percentiles = List.of(0.0, 99.9, 100.0);
+        final String prefix = UUID.randomUUID().toString();
+        setField(PercentilesAggregateActionConfig.class, percentilesAggregateActionConfig, "key", key);
+        setField(PercentilesAggregateActionConfig.class, percentilesAggregateActionConfig, "percentiles", percentiles);
+        setField(PercentilesAggregateActionConfig.class, percentilesAggregateActionConfig, "relativeAccuracy", 0.05);
+        setField(PercentilesAggregateActionConfig.class, percentilesAggregateActionConfig, "maxBuckets", 512);
+        setField(PercentilesAggregateActionConfig.class, percentilesAggregateActionConfig, "generatedKeyPrefix", prefix);
+        setField(PercentilesAggregateActionConfig.class, percentilesAggregateActionConfig, "includeSketch", true);
+
+        assertThat(percentilesAggregateActionConfig.getKey(), equalTo(key));
+        assertThat(percentilesAggregateActionConfig.getPercentiles(), equalTo(percentiles));
+        assertThat(percentilesAggregateActionConfig.getRelativeAccuracy(), equalTo(0.05));
+        assertThat(percentilesAggregateActionConfig.getMaxBuckets(), equalTo(512));
+        assertThat(percentilesAggregateActionConfig.getGeneratedKeyPrefix(), equalTo(prefix));
+        assertThat(percentilesAggregateActionConfig.getIncludeSketch(), equalTo(true));
+        assertThat(percentilesAggregateActionConfig.isPercentilesValid(), equalTo(true));
+    }
+
+    @Test
+    void isPercentilesValid_returns_true_for_null_percentiles() throws NoSuchFieldException, IllegalAccessException {
+        setField(PercentilesAggregateActionConfig.class, percentilesAggregateActionConfig, "percentiles", null);
+
+        assertThat(percentilesAggregateActionConfig.isPercentilesValid(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {-0.1, 100.1})
+    void isPercentilesValid_returns_false_for_percentiles_out_of_range(final double percentile) throws NoSuchFieldException, IllegalAccessException {
+        setField(PercentilesAggregateActionConfig.class, percentilesAggregateActionConfig, "percentiles", List.of(50.0, percentile));
+
+        assertThat(percentilesAggregateActionConfig.isPercentilesValid(), equalTo(false));
+    }
+
+    @Test
+    void isPercentilesValid_returns_false_for_a_null_percentile() throws NoSuchFieldException, IllegalAccessException {
+        setField(PercentilesAggregateActionConfig.class, percentilesAggregateActionConfig, "percentiles", Arrays.asList(50.0, null));
+
+        assertThat(percentilesAggregateActionConfig.isPercentilesValid(), equalTo(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 1.0, -0.5, 2.0})
+    void isRelativeAccuracyValid_returns_false_for_invalid_relative_accuracy(final double relativeAccuracy) throws NoSuchFieldException, IllegalAccessException {
+        setField(PercentilesAggregateActionConfig.class, percentilesAggregateActionConfig, "relativeAccuracy", relativeAccuracy);
+
+        assertThat(percentilesAggregateActionConfig.isRelativeAccuracyValid(), equalTo(false));
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInput;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionOutput;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionTestUtils;
+
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
+
+class PercentilesAggregateActionTest {
+    private static final String PREFIX = PercentilesAggregateActionConfig.DEFAULT_GENERATED_KEY_PREFIX;
+
+    private PercentilesAggregateActionConfig percentilesAggregateActionConfig;
+    private String key;
+    private Map<Object, Object> identificationKeys;
+    private AggregateActionInput aggregateActionInput;
+
+    @BeforeEach
+    void setUp() throws NoSuchFieldException, IllegalAccessException {
+        key = UUID.randomUUID().toString();
+        percentilesAggregateActionConfig = new PercentilesAggregateActionConfig();
+        setField(PercentilesAggregateActionConfig.class, percentilesAggregateActionConfig, "key", key);
+        identificationKeys = Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(identificationKeys);
+    }
+
+    private PercentilesAggregateAction createObjectUnderTest() {
+        return new PercentilesAggregateAction(percentilesAggregateActionConfig);
+    }
+
+    private static Event createEvent(final Map<String, Object> data) {
+        return JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .build();
+    }
+
+    @Test
+    void handleEvent_drops_events_and_concludeGroup_returns_the_percentiles() {
+        final PercentilesAggregateAction objectUnderTest = createObjectUnderTest();
+        for (int i = 1; i <= 1000; i++) {
+            final AggregateActionResponse response = objectUnderTest.handleEvent(createEvent(Map.of(key, i)), aggregateActionInput);
+            assertThat(response.getEvent(), nullValue());
+        }
+        objectUnderTest.handleEvent(createEvent(Map.of(UUID.randomUUID().toString(), 1)), aggregateActionInput);
+
+        final AggregateActionOutput output = objectUnderTest.concludeGroup(aggregateActionInput);
+
+        assertThat(output.getEvents(), hasSize(1));
+        final Event event = output.getEvents().get(0);
+        final Map.Entry<Object, Object> identificationKey = identificationKeys.entrySet().iterator().next();
+        assertThat(event.get((String) identificationKey.getKey(), Object.class), equalTo(identificationKey.getValue()));
+        assertThat(event.get(PREFIX + PercentilesAggregateAction.COUNT_KEY, Long.class), equalTo(1000L));
+        assertThat(event.get(PREFIX + PercentilesAggregateAction.SUM_KEY, Double.class), equalTo(500500.0));
+        assertThat(event.get(PREFIX + PercentilesAggregateAction.MIN_KEY, Double.class), equalTo(1.0));
+        assertThat(event.get(PREFIX + PercentilesAggregateAction.MAX_KEY, Double.class), equalTo(1000.0));
+        final Map<String, Object> percentiles = event.get(PREFIX + PercentilesAggregateAction.PERCENTILES_KEY, Map.class);
+        assertThat(percentiles.keySet(), equalTo(Map.of("p50", 0, "p90", 0, "p99", 0).keySet()));
+        assertThat(((Number) percentiles.get("p50")).doubleValue(), closeTo(500.0, 5.0));
+        assertThat(((Number) percentiles.get("p99")).doubleValue(), closeTo(990.0, 9.9));
+        assertThat(event.get(PREFIX + SketchAggregateAction.SKETCH_KEY, String.class), nullValue());
+        assertThat(event.getEventHandle(), equalTo(aggregateActionInput.getEventHandle()));
+        assertThat(aggregateActionInput.getGroupState().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void concludeGroup_returns_no_events_without_handled_events() {
+        final AggregateActionOutput output = createObjectUnderTest().concludeGroup(aggregateActionInput);
+
+        assertThat(output.getEvents(), empty());
+    }
+
+    @Test
+    void concludeGroup_returns_only_the_count_when_no_event_had_the_key() {
+        final PercentilesAggregateAction objectUnderTest = createObjectUnderTest();
+        objectUnderTest.handleEvent(createEvent(Collections.emptyMap()), aggregateActionInput);
+
+        final Event event = objectUnderTest.concludeGroup(aggregateActionInput).getEvents().get(0);
+
+        assertThat(event.get(PREFIX + PercentilesAggregateAction.COUNT_KEY, Long.class), equalTo(0L));
+        assertThat(event.get(PREFIX + PercentilesAggregateAction.PERCENTILES_KEY, Map.class), nullValue());
+    }
+
+    @Test
+    void handleEvent_merges_the_sketch_of_an_event_which_was_aggregated_with_include_sketch()
+            throws NoSuchFieldException, IllegalAccessException {
+        setField(PercentilesAggregateActionConfig.class, percentilesAggregateActionConfig, "includeSketch", true);
+        setField(PercentilesAggregateActionConfig.class, percentilesAggregateActionConfig, "percentiles", List.of(99.9));
+        final PercentilesAggregateAction firstAggregation = createObjectUnderTest();
+        final AggregateActionInput firstAggregationInput = new AggregateActionTestUtils.TestAggregateActionInput(identificationKeys);
+        for (int i = 1; i <= 100; i++) {
+            firstAggregation.handleEvent(createEvent(Map.of(key, i)), firstAggregationInput);
+        }
+        final Event aggregatedEvent = firstAggregation.concludeGroup(firstAggregationInput).getEvents().get(0);
+
+        final PercentilesAggregateAction objectUnderTest = createObjectUnderTest();
+        objectUnderTest.handleEvent(aggregatedEvent, aggregateActionInput);
+        objectUnderTest.handleEvent(createEvent(Map.of(key, 1000)), aggregateActionInput);
+        final Event event = objectUnderTest.concludeGroup(aggregateActionInput).getEvents().get(0);
+
+        assertThat(event.get(PREFIX + PercentilesAggregateAction.COUNT_KEY, Long.class), equalTo(101L));
+        assertThat(event.get(PREFIX + PercentilesAggregateAction.MAX_KEY, Double.class), equalTo(1000.0));
+        assertThat(event.get(PREFIX + PercentilesAggregateAction.PERCENTILES_KEY, Map.class).keySet(), equalTo(Map.of("p99.9", 0).keySet()));
+        final DDSketch sketch = (DDSketch) Sketch.fromByteArray(Base64.getDecoder().decode(event.get(PREFIX + SketchAggregateAction.SKETCH_KEY, String.class)));
+        assertThat(sketch.getCount(), equalTo(101L));
+    }
+
+    @Test
+    void handleEvent_throws_for_an_event_with_a_sketch_of_another_action() {
+        final String serializedSketch = Base64.getEncoder().encodeToString(new HyperLogLog(4).toByteArray());
+        final Event event = createEvent(Map.of(PREFIX + SketchAggregateAction.SKETCH_KEY, serializedSketch));
+
+        assertThrows(IllegalArgumentException.class, () -> createObjectUnderTest().handleEvent(event, aggregateActionInput));
+    }
+
+    @Test
+    void getPercentileName_removes_trailing_zeros() {
+        assertThat(PercentilesAggregateAction.getPercentileName(50.0), equalTo("p50"));
+        assertThat(PercentilesAggregateAction.getPercentileName(99.90), equalTo("p99.9"));
+        assertThat(PercentilesAggregateAction.getPercentileName(0.001), equalTo("p0.001"));
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SketchInputTest {
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, 127L, 128L, 300L, Integer.MAX_VALUE, Long.MAX_VALUE, -1L, Long.MIN_VALUE})
+    void readVarLong_returns_the_value_which_was_written(final long value) {
+        final SketchOutput output = new SketchOutput();
+        output.writeVarLong(value);
+
+        final SketchInput objectUnderTest = new SketchInput(output.toByteArray());
+
+        assertThat(objectUnderTest.readVarLong(), equalTo(value));
+        assertThat(objectUnderTest.remaining(), equalTo(0));
+    }
+
+    @Test
+    void reads_the_values_which_were_written() {
+        final String string = UUID.randomUUID() + "é中";
+        final SketchOutput output = new SketchOutput();
+        output.writeByte(7);
+        output.writeInt(-123456789);
+        output.writeDouble(-0.125);
+        output.writeBytes(new byte[] {1, 2, 3});
+        output.writeString(string);
+        output.writeVarLong(5);
+
+        final SketchInput objectUnderTest = new SketchInput(output.toByteArray());
+
+        assertThat(objectUnderTest.readByte(), equalTo((byte) 7));
+        assertThat(objectUnderTest.readInt(), equalTo(-123456789));
+        assertThat(objectUnderTest.readDouble(), equalTo(-0.125));
+        assertThat(objectUnderTest.readBytes(3), equalTo(new byte[] {1, 2, 3}));
+        assertThat(objectUnderTest.readString(), equalTo(string));
+        assertThat(objectUnderTest.readLength(5), equalTo(5));
+    }
+
+    @Test
+    void readByte_throws_when_there_are_no_more_bytes() {
+        assertThrows(IllegalArgumentException.class, () -> new SketchInput(new byte[0]).readByte());
+    }
+
+    @Test
+    void readBytes_throws_when_there_are_not_enough_bytes() {
+        assertThrows(IllegalArgumentException.class, () -> new SketchInput(new byte[2]).readBytes(3));
+    }
+
+    @Test
+    void readVarLong_throws_when_the_number_is_longer_than_ten_bytes() {
+        final byte[] bytes = new byte[11];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) 0x80;
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new SketchInput(bytes).readVarLong());
+    }
+
+    @Test
+    void readLength_throws_when_the_length_is_larger_than_the_maximum() {
+        final SketchOutput output = new SketchOutput();
+        output.writeVarLong(11);
+
+        assertThrows(IllegalArgumentException.class, () -> new SketchInput(output.toByteArray()).readLength(10));
+    }
+
+    @Test
+    void readLength_throws_when_the_length_is_negative() {
+        final SketchOutput output = new SketchOutput();
+        output.writeVarLong(-1);
+
+        assertThrows(IllegalArgumentException.class, () -> new SketchInput(output.toByteArray()).readLength(10));
+    }
+}
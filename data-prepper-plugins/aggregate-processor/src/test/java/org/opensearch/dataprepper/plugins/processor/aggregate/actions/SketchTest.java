@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SketchTest {
+    @Test
+    void fromByteArray_throws_for_unknown_type() {
+        assertThrows(IllegalArgumentException.class, () -> Sketch.fromByteArray(new byte[] {42}));
+    }
+
+    @Test
+    void fromByteArray_throws_for_empty_bytes() {
+        assertThrows(IllegalArgumentException.class, () -> Sketch.fromByteArray(new byte[0]));
+    }
+
+    @Test
+    void fromByteArray_returns_a_sketch_of_the_type_which_was_written() {
+        assertThat(Sketch.fromByteArray(new DDSketch(0.01, 16).toByteArray()), instanceOf(DDSketch.class));
+        assertThat(Sketch.fromByteArray(new HyperLogLog(4).toByteArray()), instanceOf(HyperLogLog.class));
+        assertThat(Sketch.fromByteArray(new TopKSketch(1, 0.5, 0.5).toByteArray()), instanceOf(TopKSketch.class));
+    }
+
+    @Test
+    void merge_throws_for_a_sketch_of_a_different_type() {
+        final Sketch objectUnderTest = new HyperLogLog(4);
+
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.merge(new DDSketch(0.01, 16)));
+    }
+
+    @Test
+    void merge_throws_for_a_sketch_with_a_different_configuration() {
+        final Sketch objectUnderTest = new HyperLogLog(4);
+
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.merge(new HyperLogLog(5)));
+    }
+
+    @Test
+    void hash64_returns_the_same_hash_for_the_same_string_form() {
+        final String value = UUID.randomUUID().toString();
+
+        assertThat(Sketch.hash64(value), equalTo(Sketch.hash64(new StringBuilder(value))));
+        assertThat(Sketch.hash64(value), not(equalTo(Sketch.hash64(value + "a"))));
+    }
+
+    @Test
+    void java_serialization_uses_the_compact_form() throws IOException, ClassNotFoundException {
+        final HyperLogLog sketch = new HyperLogLog(12);
+        for (int i = 0; i < 100; i++) {
+            sketch.add(i);
+        }
+        final Map<Object, Object> groupState = new HashMap<>();
+        groupState.put(UUID.randomUUID().toString(), sketch);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (final ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(groupState);
+        }
+        final Map<?, ?> deserializedGroupState;
+        try (final ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserializedGroupState = (Map<?, ?>) inputStream.readObject();
+        }
+
+        final HyperLogLog deserializedSketch = (HyperLogLog) deserializedGroupState.values().iterator().next();
+        assertThat(deserializedSketch.getCardinality(), equalTo(sketch.getCardinality()));
+        assertThat(deserializedSketch.toByteArray(), equalTo(sketch.toByteArray()));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
+
+class TopKAggregateActionConfigTests {
+    private TopKAggregateActionConfig topKAggregateActionConfig;
+
+    @BeforeEach
+    void setUp() {
+        topKAggregateActionConfig = new TopKAggregateActionConfig();
+    }
+
+    @Test
+    void testDefault() {
+        assertThat(topKAggregateActionConfig.getK(), equalTo(TopKAggregateActionConfig.DEFAULT_K));
+        assertThat(topKAggregateActionConfig.getError(), equalTo(TopKAggregateActionConfig.DEFAULT_ERROR));
+        assertThat(topKAggregateActionConfig.getConfidence(), equalTo(TopKAggregateActionConfig.DEFAULT_CONFIDENCE));
+        assertThat(topKAggregateActionConfig.getGeneratedKeyPrefix(), equalTo(TopKAggregateActionConfig.DEFAULT_GENERATED_KEY_PREFIX));
+        assertThat(topKAggregateActionConfig.getIncludeSketch(), equalTo(false));
+        assertThat(topKAggregateActionConfig.isErrorValid(), equalTo(true));
+        assertThat(topKAggregateActionConfig.isConfidenceValid(), equalTo(true));
+    }
+
+    @Test
+    void testValidConfig() throws NoSuchFieldException, IllegalAccessException {
+        final String key = UUID.randomUUID().toString();
+        final String prefix = UUID.randomUUID().toString();
+        setField(TopKAggregateActionConfig.class, topKAggregateActionConfig, "key", key);
+        setField(TopKAggregateActionConfig.class, topKAggregateActionConfig, "k", 25);
+        setField(TopKAggregateActionConfig.class, topKAggregateActionConfig, "error", TopKAggregateActionConfig.MIN_ERROR);
+        setField(TopKAggregateActionConfig.class, topKAggregateActionConfig, "confidence", 0.5);
+        setField(TopKAggregateActionConfig.class, topKAggregateActionConfig, "generatedKeyPrefix", prefix);
+        setField(TopKAggregateActionConfig.class, topKAggregateActionConfig, "includeSketch", true);
+
+        assertThat(topKAggregateActionConfig.getKey(), equalTo(key));
+        assertThat(topKAggregateActionConfig.getK(), equalTo(25));
+        assertThat(topKAggregateActionConfig.getError(), equalTo(TopKAggregateActionConfig.MIN_ERROR));
+        assertThat(topKAggregateActionConfig.getConfidence(), equalTo(0.5));
+        assertThat(topKAggregateActionConfig.getGeneratedKeyPrefix(), equalTo(prefix));
+        assertThat(topKAggregateActionConfig.getIncludeSketch(), equalTo(true));
+        assertThat(topKAggregateActionConfig.isErrorValid(), equalTo(true));
+        assertThat(topKAggregateActionConfig.isConfidenceValid(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 0.00001, 1.0, 1.5})
+    void isErrorValid_returns_false_for_invalid_error(final double error) throws NoSuchFieldException, IllegalAccessException {
+        setField(TopKAggregateActionConfig.class, topKAggregateActionConfig, "error", error);
+
+        assertThat(topKAggregateActionConfig.isErrorValid(), equalTo(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 1.0, -0.5, 1.5})
+    void isConfidenceValid_returns_false_for_invalid_confidence(final double confidence) throws NoSuchFieldException, IllegalAccessException {
+        setField(TopKAggregateActionConfig.class, topKAggregateActionConfig, "confidence", confidence);
+
+        assertThat(topKAggregateActionConfig.isConfidenceValid(), equalTo(false));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInput;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionOutput;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
+
+class TopKAggregateActionTest {
+    private static final String PREFIX = TopKAggregateActionConfig.DEFAULT_GENERATED_KEY_PREFIX;
+
+    private TopKAggregateActionConfig topKAggregateActionConfig;
+    private String key;
+    private Map<Object, Object> identificationKeys;
+    private AggregateActionInput aggregateActionInput;
+
+    @BeforeEach
+    void setUp() throws NoSuchFieldException, IllegalAccessException {
+        key = UUID.randomUUID().toString();
+        topKAggregateActionConfig = new TopKAggregateActionConfig();
+        setField(TopKAggregateActionConfig.class, topKAggregateActionConfig, "key", key);
+        setField(TopKAggregateActionConfig.class, topKAggregateActionConfig, "k", 2);
+        identificationKeys = Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(identificationKeys);
+    }
+
+    private TopKAggregateAction createObjectUnderTest() {
+        return new TopKAggregateAction(topKAggregateActionConfig);
+    }
+
+    private static Event createEvent(final Map<String, Object> data) {
+        return JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .build();
+    }
+
+    private void handleEvents(final TopKAggregateAction objectUnderTest, final AggregateActionInput input,
+                              final Object value, final int times) {
+        for (int i = 0; i < times; i++) {
+            final AggregateActionResponse response = objectUnderTest.handleEvent(createEvent(Map.of(key, value)), input);
+            assertThat(response.getEvent(), nullValue());
+        }
+    }
+
+    @Test
+    void handleEvent_drops_events_and_concludeGroup_returns_the_most_frequent_values() {
+        final TopKAggregateAction objectUnderTest = createObjectUnderTest();
+        handleEvents(objectUnderTest, aggregateActionInput, "a", 5);
+        handleEvents(objectUnderTest, aggregateActionInput, "b", 10);
+        handleEvents(objectUnderTest, aggregateActionInput, "c", 1);
+        objectUnderTest.handleEvent(createEvent(Collections.emptyMap()), aggregateActionInput);
+
+        final AggregateActionOutput output = objectUnderTest.concludeGroup(aggregateActionInput);
+
+        assertThat(output.getEvents(), hasSize(1));
+        final Event event = output.getEvents().get(0);
+        final Map.Entry<Object, Object> identificationKey = identificationKeys.entrySet().iterator().next();
+        assertThat(event.get((String) identificationKey.getKey(), Object.class), equalTo(identificationKey.getValue()));
+        assertThat(event.getList(PREFIX + TopKAggregateAction.TOP_K_KEY, Map.class), equalTo(List.of(
+                Map.of(TopKAggregateAction.VALUE_KEY, "b", TopKAggregateAction.COUNT_KEY, 10L),
+                Map.of(TopKAggregateAction.VALUE_KEY, "a", TopKAggregateAction.COUNT_KEY, 5L))));
+        assertThat(event.get(PREFIX + SketchAggregateAction.SKETCH_KEY, String.class), nullValue());
+        assertThat(event.getEventHandle(), equalTo(aggregateActionInput.getEventHandle()));
+        assertThat(aggregateActionInput.getGroupState().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void concludeGroup_returns_no_events_without_handled_events() {
+        final AggregateActionOutput output = createObjectUnderTest().concludeGroup(aggregateActionInput);
+
+        assertThat(output.getEvents(), empty());
+    }
+
+    @Test
+    void handleEvent_merges_the_sketch_of_an_event_which_was_aggregated_with_include_sketch()
+            throws NoSuchFieldException, IllegalAccessException {
+        setField(TopKAggregateActionConfig.class, topKAggregateActionConfig, "includeSketch", true);
+        final TopKAggregateAction firstAggregation = createObjectUnderTest();
+        final AggregateActionInput firstAggregationInput = new AggregateActionTestUtils.TestAggregateActionInput(identificationKeys);
+        handleEvents(firstAggregation, firstAggregationInput, "a", 10);
+        handleEvents(firstAggregation, firstAggregationInput, "b", 8);
+        final Event aggregatedEvent = firstAggregation.concludeGroup(firstAggregationInput).getEvents().get(0);
+
+        final TopKAggregateAction objectUnderTest = createObjectUnderTest();
+        objectUnderTest.handleEvent(aggregatedEvent, aggregateActionInput);
+        handleEvents(objectUnderTest, aggregateActionInput, "c", 9);
+        handleEvents(objectUnderTest, aggregateActionInput, "b", 3);
+        final Event event = objectUnderTest.concludeGroup(aggregateActionInput).getEvents().get(0);
+
+        assertThat(event.getList(PREFIX + TopKAggregateAction.TOP_K_KEY, Map.class), equalTo(List.of(
+                Map.of(TopKAggregateAction.VALUE_KEY, "b", TopKAggregateAction.COUNT_KEY, 11L),
+                Map.of(TopKAggregateAction.VALUE_KEY, "a", TopKAggregateAction.COUNT_KEY, 10L))));
+        assertThat(event.get(PREFIX + SketchAggregateAction.SKETCH_KEY, String.class), notNullValue());
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TopKSketchTest {
+    private static List<String> getTopKValues(final TopKSketch sketch) {
+        return sketch.getTopK().stream().map(Map.Entry::getKey).collect(Collectors.toList());
+    }
+
+    private static void addTimes(final TopKSketch sketch, final Object value, final int times) {
+        for (int i = 0; i < times; i++) {
+            sketch.add(value);
+        }
+    }
+
+    @Test
+    void constructor_throws_for_invalid_k() {
+        assertThrows(IllegalArgumentException.class, () -> new TopKSketch(0, 0.01, 0.99));
+    }
+
+    @Test
+    void getTopK_returns_empty_list_without_values() {
+        assertThat(new TopKSketch(3, 0.01, 0.99).getTopK(), empty());
+    }
+
+    @Test
+    void getTopK_returns_the_most_frequent_values_ordered_by_count() {
+        final TopKSketch objectUnderTest = new TopKSketch(3, 0.001, 0.99);
+        for (int i = 0; i < 200; i++) {
+            objectUnderTest.add("rare-" + i);
+        }
+        addTimes(objectUnderTest, "third", 300);
+        addTimes(objectUnderTest, "first", 500);
+        addTimes(objectUnderTest, "second", 400);
+        addTimes(objectUnderTest, 4, 350);
+
+        assertThat(getTopKValues(objectUnderTest), contains("first", "second", "4"));
+        assertThat(objectUnderTest.getTopK().get(0).getValue(), equalTo(500L));
+    }
+
+    @Test
+    void getTopK_orders_values_with_the_same_count_by_value() {
+        final TopKSketch objectUnderTest = new TopKSketch(2, 0.001, 0.99);
+        objectUnderTest.add("b");
+        objectUnderTest.add("a");
+        objectUnderTest.add("c");
+
+        assertThat(getTopKValues(objectUnderTest), contains("a", "b"));
+    }
+
+    @Test
+    void merge_returns_the_most_frequent_values_of_both_sketches() {
+        final TopKSketch objectUnderTest = new TopKSketch(2, 0.001, 0.99);
+        final TopKSketch other = new TopKSketch(2, 0.001, 0.99);
+        addTimes(objectUnderTest, "a", 10);
+        addTimes(objectUnderTest, "b", 8);
+        addTimes(other, "c", 9);
+        addTimes(other, "b", 3);
+
+        objectUnderTest.merge(other);
+
+        assertThat(getTopKValues(objectUnderTest), contains("b", "a"));
+        assertThat(objectUnderTest.getTopK().get(0).getValue(), equalTo(11L));
+    }
+
+    @Test
+    void merge_throws_for_a_different_configuration() {
+        final TopKSketch objectUnderTest = new TopKSketch(2, 0.001, 0.99);
+
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.merge(new TopKSketch(3, 0.001, 0.99)));
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.merge(new TopKSketch(2, 0.01, 0.99)));
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.merge(new TopKSketch(2, 0.001, 0.9999)));
+    }
+
+    @Test
+    void fromByteArray_returns_an_equivalent_sketch() {
+        final TopKSketch objectUnderTest = new TopKSketch(2, 0.01, 0.99);
+        addTimes(objectUnderTest, "a", 10);
+        addTimes(objectUnderTest, "b", 5);
+        addTimes(objectUnderTest, "c", 1);
+
+        final TopKSketch deserializedSketch = (TopKSketch) Sketch.fromByteArray(objectUnderTest.toByteArray());
+
+        assertThat(deserializedSketch.getTopK(), equalTo(objectUnderTest.getTopK()));
+        deserializedSketch.add("c");
+        objectUnderTest.add("c");
+        assertThat(deserializedSketch.getTopK(), equalTo(objectUnderTest.getTopK()));
+    }
+
+    @Test
+    void fromByteArray_throws_for_more_candidates_than_k() {
+        final SketchOutput output = new SketchOutput();
+        output.writeByte(Sketch.TOP_K_TYPE);
+        output.writeVarLong(1);
+        output.writeVarLong(1);
+        output.writeVarLong(1);
+        output.writeVarLong(0);
+        output.writeVarLong(2);
+
+        assertThrows(IllegalArgumentException.class, () -> Sketch.fromByteArray(output.toByteArray()));
+    }
+
+    @Test
+    void fromByteArray_throws_for_a_table_larger_than_the_bytes() {
+        final SketchOutput output = new SketchOutput();
+        output.writeByte(Sketch.TOP_K_TYPE);
+        output.writeVarLong(1);
+        output.writeVarLong(5);
+        output.writeVarLong(1);
+
+        assertThrows(IllegalArgumentException.class, () -> Sketch.fromByteArray(output.toByteArray()));
+    }
+}
@@ -17,6 +17,7 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
@@ -46,16 +47,17 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
     private final IdentificationKeysHasher identificationKeysHasher;
     private final List<String> keys;
     private final PluginFactory pluginFactory;
-    private final HashMap<Integer, AnomalyDetectorMode> forestMap;
+    private final HashMap<IdentificationKeysHasher.IdentificationKeysMap, AnomalyDetectorMode> forestMap;
     private final AtomicInteger cardinality;
     private final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig;
     private static final Logger LOG = LoggerFactory.getLogger(AnomalyDetectorProcessor.class);
     private final Counter cardinalityOverflowCounter;
     Instant nextWarnTime = Instant.MIN;
     @DataPrepperPluginConstructor
-    public AnomalyDetectorProcessor(final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory) {
+    public AnomalyDetectorProcessor(final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory,
+                                    final EventKeyFactory eventKeyFactory) {
         super(pluginMetrics);
-        this.identificationKeysHasher = new IdentificationKeysHasher(anomalyDetectorProcessorConfig.getIdentificationKeys());
+        this.identificationKeysHasher = new IdentificationKeysHasher(anomalyDetectorProcessorConfig.getIdentificationKeys(), eventKeyFactory);
         this.anomalyDetectorProcessorConfig = anomalyDetectorProcessorConfig;
         this.pluginFactory = pluginFactory;
         this.keys = anomalyDetectorProcessorConfig.getKeys();
@@ -78,17 +80,17 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
 
         for (final Record<Event> record : records) {
             final Event event = record.getData();
-            // If user has not configured IdentificationKeys, the empty set will always hash to "31",
+            // If user has not configured IdentificationKeys, every event has the same empty key,
             // so the same forest will be used, and we don't need to write a special case.
             final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = identificationKeysHasher.createIdentificationKeysMapFromEvent(event);
-            AnomalyDetectorMode forest = forestMap.get(identificationKeysMap.hashCode());
+            AnomalyDetectorMode forest = forestMap.get(identificationKeysMap);
 
             if (Objects.nonNull(forest)) {
                 recordsOut.addAll(forest.handleEvents(List.of(record)));
             } else if (forestMap.size() < cardinalityLimit) {
                 forest = loadAnomalyDetectorMode(pluginFactory);
                 forest.initialize(keys, verbose);
-                forestMap.put(identificationKeysMap.hashCode(), forest);
+                forestMap.put(identificationKeysMap, forest);
                 recordsOut.addAll(forest.handleEvents(List.of(record)));
             } else {
                 if (Instant.now().isAfter(nextWarnTime)) {
@@ -12,6 +12,7 @@ package org.opensearch.dataprepper.plugins.processor.anomalydetector;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
+import org.opensearch.dataprepper.event.TestEventKeyFactory;
 import org.opensearch.dataprepper.metrics.MetricNames;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
@@ -100,7 +101,7 @@ public class AnomalyDetectorProcessorTests {
     @ValueSource(ints = {1, 2, 3, 4, 5, 6})
     void testAnomalyDetectorProcessor(int type) {
 
-        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, TestEventKeyFactory.getTestEventFactory());
         final int numSamples = 1024;
         final List<Record<Event>> records = new ArrayList<Record<Event>>();
         for (int i = 0; i < numSamples; i++) {
@@ -150,7 +151,7 @@ public class AnomalyDetectorProcessorTests {
     @Test
     void testAnomalyDetectorProcessorTwoKeys() {
 
-        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, TestEventKeyFactory.getTestEventFactory());
         final int numSamples = 1024;
         final List<Record<Event>> records = new ArrayList<Record<Event>>();
         for (int i = 0; i < numSamples; i++) {
@@ -171,7 +172,7 @@ public class AnomalyDetectorProcessorTests {
     @Test
     void testAnomalyDetectorProcessorNoMatchingKeys() {
         when(mockConfig.getKeys()).thenReturn(new ArrayList<String>(Collections.singleton("bytes")));
-        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, TestEventKeyFactory.getTestEventFactory());
         final int numSamples = 1024;
         final List<Record<Event>> records = new ArrayList<Record<Event>>();
         for (int i = 0; i < numSamples; i++) {
@@ -186,7 +187,7 @@ public class AnomalyDetectorProcessorTests {
     @Test
     void testAnomalyDetectorProcessorInvalidTypeKeys() {
         when(mockConfig.getKeys()).thenReturn(new ArrayList<String>(Collections.singleton("bytes")));
-        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, TestEventKeyFactory.getTestEventFactory());
         final int numSamples = 1024;
         final List<Record<Event>> records = new ArrayList<Record<Event>>();
         for (int i = 0; i < numSamples; i++) {
@@ -201,7 +202,7 @@ public class AnomalyDetectorProcessorTests {
         identificationKeyList.add("ip");
         when(mockConfig.getIdentificationKeys()).thenReturn(identificationKeyList);
 
-        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, TestEventKeyFactory.getTestEventFactory());
         final int numSamples = 1024;
         final List<Record<Event>> records = new ArrayList<Record<Event>>();
         for (int i = 0; i < numSamples; i++) {
@@ -230,7 +231,7 @@ public class AnomalyDetectorProcessorTests {
         when(mockConfig.getCardinalityLimit()).thenReturn(2);
         when(pluginMetrics.counter(AnomalyDetectorProcessor.CARDINALITY_OVERFLOW)).thenReturn(cardinalityOverflow);
 
-        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory, TestEventKeyFactory.getTestEventFactory());
         final int numSamples = 1024;
         final List<Record<Event>> records = new ArrayList<Record<Event>>();
         for (int i = 0; i < numSamples; i++) {
@@ -20,6 +20,7 @@ import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
 import org.opensearch.dataprepper.model.configuration.PipelineDescription;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -57,12 +58,15 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     private static final String BLOCKING_BUFFER = "BlockingBuffer";
     private static final String BUFFER_USAGE_METRIC = "bufferUsage";
     public static final String CAPACITY_USED_METRIC = "capacityUsed";
+    public static final String CAPACITY_USED_BYTES_METRIC = "capacityUsedBytes";
+    public static final String BUFFER_BYTE_USAGE_METRIC = "bufferByteUsage";
     private final int bufferCapacity;
     private final int batchSize;
     private final BlockingQueue<T> blockingQueue;
     private final String pipelineName;
 
     private final Semaphore capacitySemaphore;
+    private final ByteCapacityLimiter byteCapacityLimiter;
 
     /**
      * Creates a BlockingBuffer with the given (fixed) capacity.
@@ -72,6 +76,20 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
      * @param pipelineName   the name of the associated Pipeline
      */
     public BlockingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        this(bufferCapacity, batchSize, null, pipelineName);
+    }
+
+    /**
+     * Creates a BlockingBuffer with the given (fixed) capacity, optionally also bounded by the estimated size of the
+     * records it holds.
+     *
+     * @param bufferCapacity the capacity of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param maxBytes       the maximum estimated size of unchecked records, or null for no size bound
+     * @param pipelineName   the name of the associated Pipeline
+     * @since 2.15
+     */
+    public BlockingBuffer(final int bufferCapacity, final int batchSize, final ByteCount maxBytes, final String pipelineName) {
         super(BLOCKING_BUFFER, pipelineName);
         this.bufferCapacity = bufferCapacity;
         this.batchSize = batchSize;
@@ -83,6 +101,14 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
 
         pluginMetrics.gauge(CAPACITY_USED_METRIC, capacitySemaphore, capacity -> bufferCapacity - capacity.availablePermits());
         pluginMetrics.gauge(BUFFER_USAGE_METRIC, capacitySemaphore, capacity -> ((double) bufferCapacity - capacity.availablePermits()) / bufferCapacity * 100);
+
+        if (maxBytes != null) {
+            byteCapacityLimiter = new ByteCapacityLimiter(maxBytes.getBytes());
+            pluginMetrics.gauge(CAPACITY_USED_BYTES_METRIC, byteCapacityLimiter, ByteCapacityLimiter::getUsedBytes);
+            pluginMetrics.gauge(BUFFER_BYTE_USAGE_METRIC, byteCapacityLimiter, limiter -> (double) limiter.getUsedBytes() / limiter.getMaxBytes() * 100);
+        } else {
+            byteCapacityLimiter = null;
+        }
     }
 
     /**
@@ -98,6 +124,7 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     public BlockingBuffer(final BlockingBufferConfig blockingBufferConfig, final PipelineDescription pipelineDescription) {
         this(checkNotNull(blockingBufferConfig, "BlockingBufferConfig cannot be null").getBufferSize(),
                 blockingBufferConfig.getBatchSize(),
+                blockingBufferConfig.getMaxBytes(),
                 pipelineDescription.getPipelineName());
     }
 
@@ -113,6 +140,9 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
                 throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
                         pipelineName));
             }
+            if (byteCapacityLimiter != null) {
+                acquireBytes(ByteCapacityLimiter.estimateSize(record), 1, timeoutInMillis);
+            }
             blockingQueue.offer(record);
         } catch (InterruptedException ex) {
             LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write the record", pipelineName, ex);
@@ -134,6 +164,9 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
                                         "timed out waiting for slots.",
                         pipelineName, size));
             }
+            if (byteCapacityLimiter != null) {
+                acquireBytes(ByteCapacityLimiter.estimateSize(records), size, timeoutInMillis);
+            }
             blockingQueue.addAll(records);
         } catch (InterruptedException ex) {
             LOG.error("Pipeline [{}] - Buffer does not have enough capacity left for the number of records: {}, " +
@@ -183,7 +216,8 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
         }
 
         updateLatency((Collection<T>)records);
-        final CheckpointState checkpointState = new CheckpointState(recordsRead);
+        final long bytesRead = byteCapacityLimiter != null ? ByteCapacityLimiter.estimateSize(records) : 0;
+        final CheckpointState checkpointState = new CheckpointState(recordsRead, bytesRead);
         return new AbstractMap.SimpleEntry<>(records, checkpointState);
     }
 
@@ -211,6 +245,29 @@ public class BlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
     public void doCheckpoint(final CheckpointState checkpointState) {
         final int numCheckedRecords = checkpointState.getNumRecordsToBeChecked();
         capacitySemaphore.release(numCheckedRecords);
+        if (byteCapacityLimiter != null) {
+            byteCapacityLimiter.release(checkpointState.getNumBytesToBeChecked());
+        }
+    }
+
+    /**
+     * Reserves bytes for records whose slots were already acquired, releasing the slots if the bytes cannot be
+     * reserved in time.
+     */
+    private void acquireBytes(final long bytes, final int permits, final int timeoutInMillis)
+            throws TimeoutException, InterruptedException {
+        boolean bytesAcquired = false;
+        try {
+            bytesAcquired = byteCapacityLimiter.tryAcquire(bytes, timeoutInMillis, TimeUnit.MILLISECONDS);
+        } finally {
+            if (!bytesAcquired) {
+                capacitySemaphore.release(permits);
+            }
+        }
+        if (!bytesAcquired) {
+            throw new TimeoutException(format("Pipeline [%s] - Buffer has reached max_bytes, timed out waiting for %d bytes",
+                    pipelineName, bytes));
+        }
     }
 
     @Override
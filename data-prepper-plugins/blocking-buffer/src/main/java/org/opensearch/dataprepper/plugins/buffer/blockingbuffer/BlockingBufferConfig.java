@@ -10,6 +10,7 @@
 package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.opensearch.dataprepper.model.types.ByteCount;
 
 public class BlockingBufferConfig {
     public static final int DEFAULT_BUFFER_CAPACITY = 12_800;
@@ -29,4 +30,11 @@ public class BlockingBufferConfig {
     public int getBatchSize() {
         return batchSize;
     }
+
+    @JsonProperty("max_bytes")
+    private ByteCount maxBytes;
+
+    public ByteCount getMaxBytes() {
+        return maxBytes;
+    }
 }
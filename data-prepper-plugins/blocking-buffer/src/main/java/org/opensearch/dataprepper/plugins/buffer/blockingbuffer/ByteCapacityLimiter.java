@@ -0,0 +1,138 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounds the estimated size in bytes of the records held by a buffer, from the time they are written until they
+ * are checkpointed. Writes which do not fit wait until enough bytes are released. A write larger than the whole
+ * limit is accepted once nothing else is held, so that a single large record cannot block the buffer forever.
+ * Bytes are reserved and released without a lock; writers which have to wait block on a condition which is only
+ * signalled when bytes are released while a writer is waiting.
+ *
+ * @since 2.15
+ */
+class ByteCapacityLimiter {
+    static final long RECORD_OVERHEAD = 16;
+    static final long STRING_OVERHEAD = 40;
+    static final long DEFAULT_RECORD_DATA_SIZE = 64;
+
+    private final long maxBytes;
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition bytesReleased = lock.newCondition();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    ByteCapacityLimiter(final long maxBytes) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("max_bytes must be positive");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Estimates the size of a record. Events cache their estimate, so a record which is not changed while it is in
+     * the buffer has the same estimate when it is written and when it is read.
+     */
+    static long estimateSize(final Record<?> record) {
+        final Object data = record.getData();
+        final long dataSize;
+        if (data instanceof Event) {
+            dataSize = ((Event) data).getEstimatedSizeInBytes();
+        } else if (data instanceof String) {
+            dataSize = STRING_OVERHEAD + ((String) data).length();
+        } else if (data instanceof byte[]) {
+            dataSize = STRING_OVERHEAD + ((byte[]) data).length;
+        } else {
+            dataSize = DEFAULT_RECORD_DATA_SIZE;
+        }
+        return RECORD_OVERHEAD + dataSize;
+    }
+
+    static long estimateSize(final Collection<? extends Record<?>> records) {
+        long size = 0;
+        for (final Record<?> record : records) {
+            size += estimateSize(record);
+        }
+        return size;
+    }
+
+    /**
+     * Reserves bytes, waiting up to the timeout for enough bytes to be released.
+     *
+     * @return true if the bytes were reserved
+     * @throws InterruptedException if the thread is interrupted while waiting
+     */
+    boolean tryAcquire(final long bytes, final long timeout, final TimeUnit unit) throws InterruptedException {
+        if (tryReserve(bytes)) {
+            return true;
+        }
+
+        long remainingNanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            waiters.incrementAndGet();
+            try {
+                while (!tryReserve(bytes)) {
+                    if (remainingNanos <= 0) {
+                        return false;
+                    }
+                    remainingNanos = bytesReleased.awaitNanos(remainingNanos);
+                }
+                return true;
+            } finally {
+                waiters.decrementAndGet();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void release(final long bytes) {
+        usedBytes.addAndGet(-bytes);
+        if (waiters.get() > 0) {
+            lock.lock();
+            try {
+                bytesReleased.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private boolean tryReserve(final long bytes) {
+        while (true) {
+            final long used = usedBytes.get();
+            if (used != 0 && used + bytes > maxBytes) {
+                return false;
+            }
+            if (usedBytes.compareAndSet(used, used + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    long getMaxBytes() {
+        return maxBytes;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A pre-sized, array backed multi-producer multi-consumer ring. Every slot carries a sequence number which tells
+ * producers when the slot is free and consumers when it has been published, so neither side takes a lock.
+ * <p>
+ * Producers claim a run of slots with a single atomic increment and publish each slot in order. Consumers claim
+ * every published slot they can see, up to the requested number, with a single compare-and-set.
+ * <p>
+ * The ring does not check for free space on write. Callers must bound the number of unconsumed elements to
+ * {@link #capacity()}, as {@link RingBlockingBuffer} does with its capacity counter.
+ *
+ * @param <T> element type
+ * @since 2.15
+ */
+class MpmcRingBuffer<T> {
+    private final int capacity;
+    private final int mask;
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerPosition = new AtomicLong();
+    private final AtomicLong consumerPosition = new AtomicLong();
+
+    MpmcRingBuffer(final int minimumCapacity) {
+        if (minimumCapacity <= 0) {
+            throw new IllegalArgumentException("Ring buffer capacity must be positive");
+        }
+        this.capacity = minimumCapacity == 1 ? 1 : Integer.highestOneBit(minimumCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.elements = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    void publish(final T element) {
+        publishAt(producerPosition.getAndIncrement(), element);
+    }
+
+    void publishAll(final Collection<T> batch) {
+        long position = producerPosition.getAndAdd(batch.size());
+        for (final T element : batch) {
+            publishAt(position++, element);
+        }
+    }
+
+    /**
+     * Moves up to maxElements published elements into the destination, in the order in which they were claimed.
+     *
+     * @param destination collection receiving the elements
+     * @param maxElements the maximum number of elements to move
+     * @return the number of elements moved
+     */
+    @SuppressWarnings("unchecked")
+    int drainTo(final Collection<? super T> destination, final int maxElements) {
+        while (true) {
+            final long position = consumerPosition.get();
+            int available = 0;
+            while (available < maxElements && sequences.get(index(position + available)) == position + available + 1) {
+                available++;
+            }
+            if (available == 0) {
+                return 0;
+            }
+            if (consumerPosition.compareAndSet(position, position + available)) {
+                for (int i = 0; i < available; i++) {
+                    final int index = index(position + i);
+                    destination.add((T) elements[index]);
+                    elements[index] = null;
+                    sequences.lazySet(index, position + i + capacity);
+                }
+                return available;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of claimed slots which have not been consumed yet, including slots still being published.
+     */
+    int size() {
+        final long consumed = consumerPosition.get();
+        return (int) Math.max(0, producerPosition.get() - consumed);
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    private void publishAt(final long position, final T element) {
+        final int index = index(position);
+        // the slot may still be held by a consumer which claimed it but has not finished moving it out
+        while (sequences.get(index) != position) {
+            Thread.onSpinWait();
+        }
+        elements[index] = element;
+        sequences.lazySet(index, position + 1);
+    }
+
+    private int index(final long position) {
+        return (int) position & mask;
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A bounded buffer backed by a lock-free {@link MpmcRingBuffer}. It accepts the same settings and reports the same
+ * metrics as {@link BlockingBuffer}, under its own plugin name, so it can replace it in a pipeline without further
+ * changes. Capacity is tracked
+ * with an atomic counter which is released on checkpoint, so a batch written with {@link #writeAll(Collection, int)}
+ * reserves its capacity with a single compare-and-set and claims its slots with a single atomic increment.
+ * Readers and writers which have to wait do so using the configured {@link RingBufferWaitStrategy}.
+ *
+ * @since 2.15
+ */
+@DataPrepperPlugin(name = RingBlockingBuffer.PLUGIN_NAME, pluginType = Buffer.class, pluginConfigurationType = RingBlockingBufferConfig.class)
+public class RingBlockingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(RingBlockingBuffer.class);
+    static final String PLUGIN_NAME = "bounded_ring";
+    private static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    private static final long ZERO_TIMEOUT_POLL_MILLIS = 5;
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final String pipelineName;
+    private final RingBufferWaitStrategy waitStrategy;
+    private final MpmcRingBuffer<T> ringBuffer;
+    private final AtomicInteger availableCapacity;
+    private final ByteCapacityLimiter byteCapacityLimiter;
+
+    public RingBlockingBuffer(final int bufferCapacity,
+                              final int batchSize,
+                              final RingBufferWaitStrategy waitStrategy,
+                              final String pipelineName) {
+        this(bufferCapacity, batchSize, null, waitStrategy, pipelineName);
+    }
+
+    public RingBlockingBuffer(final int bufferCapacity,
+                              final int batchSize,
+                              final ByteCount maxBytes,
+                              final RingBufferWaitStrategy waitStrategy,
+                              final String pipelineName) {
+        super(PLUGIN_NAME, pipelineName);
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.waitStrategy = checkNotNull(waitStrategy, "waitStrategy cannot be null");
+        this.pipelineName = pipelineName;
+        this.ringBuffer = new MpmcRingBuffer<>(bufferCapacity);
+        this.availableCapacity = new AtomicInteger(bufferCapacity);
+
+        final PluginMetrics pluginMetrics = PluginMetrics.fromNames(PLUGIN_NAME, pipelineName);
+
+        pluginMetrics.gauge(BlockingBuffer.CAPACITY_USED_METRIC, availableCapacity, capacity -> bufferCapacity - capacity.get());
+        pluginMetrics.gauge(BUFFER_USAGE_METRIC, availableCapacity, capacity -> ((double) bufferCapacity - capacity.get()) / bufferCapacity * 100);
+
+        if (maxBytes != null) {
+            byteCapacityLimiter = new ByteCapacityLimiter(maxBytes.getBytes());
+            pluginMetrics.gauge(BlockingBuffer.CAPACITY_USED_BYTES_METRIC, byteCapacityLimiter, ByteCapacityLimiter::getUsedBytes);
+            pluginMetrics.gauge(BlockingBuffer.BUFFER_BYTE_USAGE_METRIC, byteCapacityLimiter, limiter -> (double) limiter.getUsedBytes() / limiter.getMaxBytes() * 100);
+        } else {
+            byteCapacityLimiter = null;
+        }
+    }
+
+    @DataPrepperPluginConstructor
+    public RingBlockingBuffer(final RingBlockingBufferConfig ringBlockingBufferConfig, final PipelineDescription pipelineDescription) {
+        this(checkNotNull(ringBlockingBufferConfig, "RingBlockingBufferConfig cannot be null").getBufferSize(),
+                ringBlockingBufferConfig.getBatchSize(),
+                ringBlockingBufferConfig.getMaxBytes(),
+                ringBlockingBufferConfig.getWaitStrategy(),
+                pipelineDescription.getPipelineName());
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record, "record cannot be null");
+        if (!acquireCapacity(1, timeoutInMillis)) {
+            throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
+                    pipelineName));
+        }
+        if (byteCapacityLimiter != null) {
+            acquireBytes(ByteCapacityLimiter.estimateSize(record), 1, timeoutInMillis);
+        }
+        ringBuffer.publish(record);
+    }
+
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final int size = records.size();
+        if (size > bufferCapacity) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the number of records: %d", size));
+        }
+        if (!acquireCapacity(size, timeoutInMillis)) {
+            throw new TimeoutException(
+                    format("Pipeline [%s] - Buffer does not have enough capacity left for the number of records: %d, " +
+                                    "timed out waiting for slots.",
+                            pipelineName, size));
+        }
+        if (byteCapacityLimiter != null) {
+            acquireBytes(ByteCapacityLimiter.estimateSize(records), size, timeoutInMillis);
+        }
+        ringBuffer.publishAll(records);
+    }
+
+    /**
+     * Retrieves and removes up to the configured batch size of records. With a timeout of zero, this waits briefly
+     * for the first record and returns whatever is available; otherwise it waits until the batch is full or the
+     * timeout expires.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        final List<T> records = new ArrayList<>(batchSize);
+        final long waitNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis == 0 ? ZERO_TIMEOUT_POLL_MILLIS : timeoutInMillis);
+        final long startTime = System.nanoTime();
+        int idleCount = 0;
+
+        while (true) {
+            final int recordsDrained = ringBuffer.drainTo(records, batchSize - records.size());
+            if (records.size() >= batchSize || (timeoutInMillis == 0 && !records.isEmpty())
+                    || System.nanoTime() - startTime >= waitNanos) {
+                break;
+            }
+            if (recordsDrained > 0) {
+                idleCount = 0;
+            } else {
+                waitStrategy.idle(idleCount++);
+                if (Thread.currentThread().isInterrupted()) {
+                    LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+                    throw new RuntimeException(new InterruptedException());
+                }
+            }
+        }
+
+        updateLatency(records);
+        final long bytesRead = byteCapacityLimiter != null ? ByteCapacityLimiter.estimateSize(records) : 0;
+        final CheckpointState checkpointState = new CheckpointState(records.size(), bytesRead);
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        availableCapacity.addAndGet(checkpointState.getNumRecordsToBeChecked());
+        if (byteCapacityLimiter != null) {
+            byteCapacityLimiter.release(checkpointState.getNumBytesToBeChecked());
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ringBuffer.isEmpty() && getRecordsInFlight() == 0;
+    }
+
+    /**
+     * Reserves bytes for records whose capacity was already acquired, releasing the capacity if the bytes cannot be
+     * reserved in time.
+     */
+    private void acquireBytes(final long bytes, final int permits, final int timeoutInMillis) throws TimeoutException {
+        boolean bytesAcquired = false;
+        try {
+            bytesAcquired = byteCapacityLimiter.tryAcquire(bytes, timeoutInMillis, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.error("Pipeline [{}] - Buffer has reached max_bytes, interrupted while waiting to write {} records", pipelineName, permits);
+            throw new RuntimeException(e);
+        } finally {
+            if (!bytesAcquired) {
+                availableCapacity.addAndGet(permits);
+            }
+        }
+        if (!bytesAcquired) {
+            throw new TimeoutException(format("Pipeline [%s] - Buffer has reached max_bytes, timed out waiting for %d bytes",
+                    pipelineName, bytes));
+        }
+    }
+
+    private boolean acquireCapacity(final int permits, final int timeoutInMillis) {
+        final long waitNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        final long startTime = System.nanoTime();
+        int idleCount = 0;
+
+        while (true) {
+            final int available = availableCapacity.get();
+            if (available >= permits) {
+                if (availableCapacity.compareAndSet(available, available - permits)) {
+                    return true;
+                }
+                continue;
+            }
+            if (System.nanoTime() - startTime >= waitNanos) {
+                return false;
+            }
+            waitStrategy.idle(idleCount++);
+            if (Thread.currentThread().isInterrupted()) {
+                LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write {} records", pipelineName, permits);
+                throw new RuntimeException(new InterruptedException());
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public class RingBlockingBufferConfig extends BlockingBufferConfig {
+    @JsonProperty("wait_strategy")
+    private RingBufferWaitStrategy waitStrategy = RingBufferWaitStrategy.SPIN_THEN_PARK;
+
+    public RingBufferWaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * How a {@link RingBlockingBuffer} waits for records on read or for capacity on write.
+ *
+ * @since 2.15
+ */
+public enum RingBufferWaitStrategy {
+    /**
+     * Parks the thread briefly between attempts. Uses the least CPU.
+     */
+    PARK("park", 0),
+    /**
+     * Spins for a number of attempts before parking. Lowers hand-off latency at the cost of CPU while idle.
+     */
+    SPIN_THEN_PARK("spin_then_park", 100);
+
+    static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    private static final Map<String, RingBufferWaitStrategy> OPTIONS_MAP = Arrays.stream(RingBufferWaitStrategy.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    value -> value
+            ));
+
+    private final String option;
+    private final int spinTries;
+
+    RingBufferWaitStrategy(final String option, final int spinTries) {
+        this.option = option;
+        this.spinTries = spinTries;
+    }
+
+    /**
+     * Waits once between two attempts.
+     *
+     * @param idleCount the number of consecutive attempts which found nothing to do
+     */
+    void idle(final int idleCount) {
+        if (idleCount < spinTries) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    @JsonCreator
+    static RingBufferWaitStrategy fromOptionValue(final String option) {
+        final RingBufferWaitStrategy waitStrategy = option != null ? OPTIONS_MAP.get(option.toLowerCase()) : null;
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Invalid wait_strategy " + option + ". Valid values are: " +
+                    Arrays.stream(values()).map(RingBufferWaitStrategy::toOptionValue).collect(Collectors.joining(", ")));
+        }
+        return waitStrategy;
+    }
+
+    @JsonValue
+    public String toOptionValue() {
+        return option;
+    }
+}
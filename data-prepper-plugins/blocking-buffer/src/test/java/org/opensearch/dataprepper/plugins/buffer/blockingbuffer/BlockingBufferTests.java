@@ -26,6 +26,7 @@ import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
 import org.opensearch.dataprepper.model.configuration.PipelineDescription;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -201,6 +202,45 @@ public class BlockingBufferTests {
         assertEquals(2, readCheckResult.getKey().size());
     }
 
+    @Test
+    public void testWriteTimesOutWhenMaxBytesReachedAndSucceedsAfterCheckpoint() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                ByteCount.ofBytes(ByteCapacityLimiter.estimateSize(new Record<>("FILL"))), TEST_PIPELINE_NAME);
+        blockingBuffer.write(new Record<>("FILL"), TEST_WRITE_TIMEOUT);
+        verifyByteMetrics(ByteCapacityLimiter.estimateSize(new Record<>("FILL")), 100.0);
+
+        assertThrows(TimeoutException.class, () -> blockingBuffer.write(new Record<>("MORE"), TEST_WRITE_TIMEOUT));
+        assertThrows(TimeoutException.class, () -> blockingBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT));
+        verifyCapacityUsedMetric(1);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = blockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getValue().getNumBytesToBeChecked(), equalTo(ByteCapacityLimiter.estimateSize(new Record<>("FILL"))));
+        blockingBuffer.checkpoint(readResult.getValue());
+        verifyByteMetrics(0, 0.0);
+
+        blockingBuffer.write(new Record<>("MORE"), TEST_WRITE_TIMEOUT);
+        assertThat(blockingBuffer.read(TEST_BATCH_READ_TIMEOUT).getKey().size(), equalTo(1));
+    }
+
+    @Test
+    public void testWriteAllAcceptsBatchLargerThanMaxBytesWhenBufferIsEmpty() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                ByteCount.ofBytes(1), TEST_PIPELINE_NAME);
+
+        blockingBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT);
+
+        assertThat(blockingBuffer.read(TEST_BATCH_READ_TIMEOUT).getKey().size(), equalTo(2));
+    }
+
+    @Test
+    public void testReadWithoutMaxBytesDoesNotTrackBytes() throws Exception {
+        final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                TEST_PIPELINE_NAME);
+        blockingBuffer.write(new Record<>("RECORD"), TEST_WRITE_TIMEOUT);
+
+        assertThat(blockingBuffer.read(TEST_BATCH_READ_TIMEOUT).getValue().getNumBytesToBeChecked(), equalTo(0L));
+    }
+
     @Test
     public void testReadEmptyBuffer() {
         final BlockingBuffer<Record<String>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
@@ -398,4 +438,23 @@ public class BlockingBufferTests {
         assertThat(bufferUsage, is(notNullValue()));
         assertThat(bufferUsage.value(), is(expectedBufferUsage));
     }
+
+    private void verifyCapacityUsedMetric(final double expectedCapacityUsed) {
+        final Gauge capacityUsed = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME)
+                .add(BlockingBuffer.CAPACITY_USED_METRIC).toString()).gauge();
+        assertThat(capacityUsed.value(), is(expectedCapacityUsed));
+    }
+
+    private void verifyByteMetrics(final double expectedBytesUsed, final double expectedByteUsage) {
+        final Gauge capacityUsedBytes = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME)
+                .add(BlockingBuffer.CAPACITY_USED_BYTES_METRIC).toString()).gauge();
+        final Gauge bufferByteUsage = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME)
+                .add(BlockingBuffer.BUFFER_BYTE_USAGE_METRIC).toString()).gauge();
+
+        assertThat(capacityUsedBytes.value(), is(expectedBytesUsed));
+        assertThat(bufferByteUsage.value(), is(expectedByteUsage));
+    }
 }
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.dataprepper.plugins.buffer.blockingbuffer.ByteCapacityLimiter.DEFAULT_RECORD_DATA_SIZE;
+import static org.opensearch.dataprepper.plugins.buffer.blockingbuffer.ByteCapacityLimiter.RECORD_OVERHEAD;
+import static org.opensearch.dataprepper.plugins.buffer.blockingbuffer.ByteCapacityLimiter.STRING_OVERHEAD;
+
+class ByteCapacityLimiterTest {
+
+    @Test
+    void constructor_throws_for_non_positive_max_bytes() {
+        assertThrows(IllegalArgumentException.class, () -> new ByteCapacityLimiter(0));
+    }
+
+    @Test
+    void estimateSize_uses_event_estimate() {
+        final Event event = mock(Event.class);
+        when(event.getEstimatedSizeInBytes()).thenReturn(500L);
+
+        assertThat(ByteCapacityLimiter.estimateSize(new Record<>(event)), equalTo(RECORD_OVERHEAD + 500L));
+    }
+
+    @Test
+    void estimateSize_of_other_record_types() {
+        assertThat(ByteCapacityLimiter.estimateSize(new Record<>("abc")), equalTo(RECORD_OVERHEAD + STRING_OVERHEAD + 3));
+        assertThat(ByteCapacityLimiter.estimateSize(new Record<>(new byte[10])), equalTo(RECORD_OVERHEAD + STRING_OVERHEAD + 10));
+        assertThat(ByteCapacityLimiter.estimateSize(new Record<>(42)), equalTo(RECORD_OVERHEAD + DEFAULT_RECORD_DATA_SIZE));
+        assertThat(ByteCapacityLimiter.estimateSize(List.of(new Record<>("a"), new Record<>("bc"))),
+                equalTo(2 * (RECORD_OVERHEAD + STRING_OVERHEAD) + 3));
+    }
+
+    @Test
+    void tryAcquire_times_out_when_bytes_are_not_available() throws InterruptedException {
+        final ByteCapacityLimiter objectUnderTest = new ByteCapacityLimiter(100);
+
+        assertThat(objectUnderTest.tryAcquire(60, 10, TimeUnit.MILLISECONDS), equalTo(true));
+        assertThat(objectUnderTest.tryAcquire(60, 10, TimeUnit.MILLISECONDS), equalTo(false));
+        assertThat(objectUnderTest.getUsedBytes(), equalTo(60L));
+        assertThat(objectUnderTest.getMaxBytes(), equalTo(100L));
+
+        objectUnderTest.release(60);
+        assertThat(objectUnderTest.tryAcquire(60, 10, TimeUnit.MILLISECONDS), equalTo(true));
+    }
+
+    @Test
+    void tryAcquire_accepts_oversized_request_when_nothing_is_held() throws InterruptedException {
+        final ByteCapacityLimiter objectUnderTest = new ByteCapacityLimiter(100);
+
+        assertThat(objectUnderTest.tryAcquire(1000, 10, TimeUnit.MILLISECONDS), equalTo(true));
+        assertThat(objectUnderTest.tryAcquire(1, 10, TimeUnit.MILLISECONDS), equalTo(false));
+    }
+
+    @Test
+    void tryAcquire_waits_for_released_bytes() throws Exception {
+        final ByteCapacityLimiter objectUnderTest = new ByteCapacityLimiter(100);
+        objectUnderTest.tryAcquire(100, 10, TimeUnit.MILLISECONDS);
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Boolean> acquired = executorService.submit(() -> objectUnderTest.tryAcquire(50, 5, TimeUnit.SECONDS));
+            Thread.sleep(50);
+            objectUnderTest.release(100);
+
+            assertThat(acquired.get(5, TimeUnit.SECONDS), equalTo(true));
+            assertThat(objectUnderTest.getUsedBytes(), equalTo(50L));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void release_wakes_every_waiter_whose_bytes_fit() throws Exception {
+        final ByteCapacityLimiter objectUnderTest = new ByteCapacityLimiter(100);
+        objectUnderTest.tryAcquire(100, 10, TimeUnit.MILLISECONDS);
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Boolean> firstAcquired = executorService.submit(() -> objectUnderTest.tryAcquire(40, 5, TimeUnit.SECONDS));
+            final Future<Boolean> secondAcquired = executorService.submit(() -> objectUnderTest.tryAcquire(40, 5, TimeUnit.SECONDS));
+            Thread.sleep(50);
+            objectUnderTest.release(100);
+
+            assertThat(firstAcquired.get(1, TimeUnit.SECONDS), equalTo(true));
+            assertThat(secondAcquired.get(1, TimeUnit.SECONDS), equalTo(true));
+            assertThat(objectUnderTest.getUsedBytes(), equalTo(80L));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void tryAcquire_throws_when_interrupted() throws InterruptedException {
+        final ByteCapacityLimiter objectUnderTest = new ByteCapacityLimiter(100);
+        objectUnderTest.tryAcquire(100, 10, TimeUnit.MILLISECONDS);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(InterruptedException.class, () -> objectUnderTest.tryAcquire(50, 5, TimeUnit.SECONDS));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MpmcRingBufferTest {
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "2, 2", "3, 4", "12800, 16384", "16384, 16384"})
+    void capacity_is_rounded_up_to_a_power_of_two(final int minimumCapacity, final int expectedCapacity) {
+        assertThat(new MpmcRingBuffer<String>(minimumCapacity).capacity(), equalTo(expectedCapacity));
+    }
+
+    @Test
+    void constructor_throws_for_non_positive_capacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MpmcRingBuffer<String>(0));
+    }
+
+    @Test
+    void drainTo_returns_published_elements_in_order() {
+        final MpmcRingBuffer<String> objectUnderTest = new MpmcRingBuffer<>(4);
+        objectUnderTest.publish("a");
+        objectUnderTest.publishAll(List.of("b", "c"));
+        assertThat(objectUnderTest.size(), equalTo(3));
+
+        final List<String> drained = new ArrayList<>();
+        assertThat(objectUnderTest.drainTo(drained, 2), equalTo(2));
+        assertThat(objectUnderTest.drainTo(drained, 2), equalTo(1));
+        assertThat(objectUnderTest.drainTo(drained, 2), equalTo(0));
+
+        assertThat(drained, equalTo(List.of("a", "b", "c")));
+        assertThat(objectUnderTest.isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void slots_are_reused_after_wrapping_around() {
+        final MpmcRingBuffer<Integer> objectUnderTest = new MpmcRingBuffer<>(2);
+        final List<Integer> drained = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            objectUnderTest.publishAll(List.of(2 * i, 2 * i + 1));
+            objectUnderTest.drainTo(drained, 2);
+        }
+
+        assertThat(drained.size(), equalTo(20));
+        for (int i = 0; i < 20; i++) {
+            assertThat(drained.get(i), equalTo(i));
+        }
+    }
+
+    @Test
+    void concurrent_producers_and_consumers_transfer_every_element_once() throws Exception {
+        final int producers = 4;
+        final int consumers = 4;
+        final int elementsPerProducer = 50_000;
+        final int capacity = 64;
+        final MpmcRingBuffer<Integer> objectUnderTest = new MpmcRingBuffer<>(capacity);
+        final AtomicInteger permits = new AtomicInteger(capacity);
+        final AtomicInteger remaining = new AtomicInteger(producers * elementsPerProducer);
+        final ExecutorService executorService = Executors.newFixedThreadPool(producers + consumers);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final List<Future<List<Integer>>> consumerResults = new ArrayList<>();
+
+        try {
+            for (int p = 0; p < producers; p++) {
+                final int producer = p;
+                executorService.submit(() -> {
+                    startLatch.await();
+                    for (int i = 0; i < elementsPerProducer; i += 2) {
+                        while (true) {
+                            final int available = permits.get();
+                            if (available >= 2 && permits.compareAndSet(available, available - 2)) {
+                                break;
+                            }
+                            Thread.onSpinWait();
+                        }
+                        final int value = producer * elementsPerProducer + i;
+                        objectUnderTest.publishAll(List.of(value, value + 1));
+                    }
+                    return null;
+                });
+            }
+            for (int c = 0; c < consumers; c++) {
+                consumerResults.add(executorService.submit(() -> {
+                    startLatch.await();
+                    final List<Integer> consumed = new ArrayList<>();
+                    while (remaining.get() > 0) {
+                        final int drained = objectUnderTest.drainTo(consumed, 16);
+                        if (drained > 0) {
+                            remaining.addAndGet(-drained);
+                            permits.addAndGet(drained);
+                        } else {
+                            Thread.onSpinWait();
+                        }
+                    }
+                    return consumed;
+                }));
+            }
+            startLatch.countDown();
+
+            final Set<Integer> allConsumed = new HashSet<>();
+            int totalConsumed = 0;
+            for (final Future<List<Integer>> consumerResult : consumerResults) {
+                final List<Integer> consumed = consumerResult.get(60, TimeUnit.SECONDS);
+                totalConsumed += consumed.size();
+                allConsumed.addAll(consumed);
+            }
+
+            assertThat(totalConsumed, equalTo(producers * elementsPerProducer));
+            assertThat(allConsumed.size(), equalTo(producers * elementsPerProducer));
+            assertThat(Collections.min(allConsumed), equalTo(0));
+            assertThat(Collections.max(allConsumed), equalTo(producers * elementsPerProducer - 1));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.metrics.MetricNames;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class RingBlockingBufferTests {
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final String PLUGIN_NAME = "bounded_ring";
+    private static final int TEST_BATCH_SIZE = 3;
+    private static final int TEST_BUFFER_SIZE = 13;
+    private static final int TEST_WRITE_TIMEOUT = 10;
+    private static final int TEST_BATCH_READ_TIMEOUT = 500;
+
+    @BeforeEach
+    public void setup() {
+        Metrics.globalRegistry.getRegistries().forEach(Metrics.globalRegistry::remove);
+        Metrics.globalRegistry.getMeters().forEach(Metrics.globalRegistry::remove);
+        Metrics.addRegistry(new SimpleMeterRegistry());
+    }
+
+    private RingBlockingBuffer<Record<String>> createObjectUnderTest(final int bufferSize) {
+        return new RingBlockingBuffer<>(bufferSize, TEST_BATCH_SIZE, RingBufferWaitStrategy.SPIN_THEN_PARK, TEST_PIPELINE_NAME);
+    }
+
+    @Test
+    public void testCreationUsingDefaultRingBlockingBufferConfig() throws JsonProcessingException {
+        final RingBlockingBufferConfig config = new ObjectMapper().readValue("{}", RingBlockingBufferConfig.class);
+        assertThat(config.getBufferSize(), equalTo(BlockingBufferConfig.DEFAULT_BUFFER_CAPACITY));
+        assertThat(config.getBatchSize(), equalTo(BlockingBufferConfig.DEFAULT_BATCH_SIZE));
+        assertThat(config.getWaitStrategy(), equalTo(RingBufferWaitStrategy.SPIN_THEN_PARK));
+
+        final PipelineDescription pipelineDescription = mock(PipelineDescription.class);
+        when(pipelineDescription.getPipelineName()).thenReturn(TEST_PIPELINE_NAME);
+        assertThat(new RingBlockingBuffer<Record<String>>(config, pipelineDescription), notNullValue());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RingBufferWaitStrategy.class)
+    public void testCreationUsingRingBlockingBufferConfig(final RingBufferWaitStrategy waitStrategy) throws JsonProcessingException {
+        final String json = "{\"buffer_size\": 5, \"batch_size\": 2, \"wait_strategy\": \"" + waitStrategy.toOptionValue() + "\"}";
+        final RingBlockingBufferConfig config = new ObjectMapper().readValue(json, RingBlockingBufferConfig.class);
+        assertThat(config.getBufferSize(), equalTo(5));
+        assertThat(config.getBatchSize(), equalTo(2));
+        assertThat(config.getWaitStrategy(), equalTo(waitStrategy));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"busy_spin", "parked", ""})
+    public void testCreationUsingInvalidWaitStrategyThrows(final String waitStrategy) {
+        final String json = "{\"wait_strategy\": \"" + waitStrategy + "\"}";
+        final ValueInstantiationException exception = assertThrows(ValueInstantiationException.class,
+                () -> new ObjectMapper().readValue(json, RingBlockingBufferConfig.class));
+        assertThat(exception.getCause(), instanceOf(IllegalArgumentException.class));
+        assertThat(exception.getCause().getMessage(), containsString("park, spin_then_park"));
+    }
+
+    @Test
+    public void testCreationUsingNullRingBlockingBufferConfig() {
+        final PipelineDescription pipelineDescription = mock(PipelineDescription.class);
+        final NullPointerException exception = assertThrows(NullPointerException.class,
+                () -> new RingBlockingBuffer<Record<String>>(null, pipelineDescription));
+        assertThat(exception.getMessage(), is(equalTo("RingBlockingBufferConfig cannot be null")));
+    }
+
+    @Test
+    public void testInsertNull() {
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
+        assertThrows(NullPointerException.class, () -> ringBlockingBuffer.write(null, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testWriteAllSizeOverflow() {
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
+        final Collection<Record<String>> testRecords = generateBatchRecords(TEST_BUFFER_SIZE + 1);
+        assertThrows(SizeOverflowException.class, () -> ringBlockingBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+        verifyBufferUsageMetric(0);
+    }
+
+    @Test
+    public void testNoEmptySpaceWriteOnly() throws TimeoutException {
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer = createObjectUnderTest(1);
+        ringBlockingBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> ringBlockingBuffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testNoAvailSpaceWriteAllOnly() throws Exception {
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer = createObjectUnderTest(2);
+        ringBlockingBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        final Collection<Record<String>> testRecords = generateBatchRecords(2);
+        assertThrows(TimeoutException.class, () -> ringBlockingBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testNoEmptySpaceAfterUncheckedRead() throws TimeoutException {
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer = createObjectUnderTest(1);
+        ringBlockingBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        ringBlockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        final Record<String> timeoutRecord = new Record<>("TIMEOUT");
+        assertThrows(TimeoutException.class, () -> ringBlockingBuffer.write(timeoutRecord, TEST_WRITE_TIMEOUT));
+        assertThrows(TimeoutException.class,
+                () -> ringBlockingBuffer.writeAll(Collections.singletonList(timeoutRecord), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    public void testWriteAllIntoEmptySpaceAfterCheckedRead() throws Exception {
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer = createObjectUnderTest(2);
+        final Collection<Record<String>> testRecords = generateBatchRecords(2);
+        ringBlockingBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        verifyBufferUsageMetric(100.0);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBlockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        ringBlockingBuffer.checkpoint(readResult.getValue());
+        verifyBufferUsageMetric(0.0);
+
+        ringBlockingBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readCheckResult = ringBlockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertEquals(2, readCheckResult.getKey().size());
+    }
+
+    @Test
+    public void testReadEmptyBuffer() {
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBlockingBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(0));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, TEST_BATCH_READ_TIMEOUT})
+    public void testBatchRead(final int readTimeout) throws Exception {
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
+        final List<Record<String>> testRecords = generateBatchRecords(TEST_BATCH_SIZE + 1);
+        ringBlockingBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> firstBatch = ringBlockingBuffer.read(readTimeout);
+        assertThat(new ArrayList<>(firstBatch.getKey()), equalTo(testRecords.subList(0, TEST_BATCH_SIZE)));
+        assertThat(firstBatch.getValue().getNumRecordsToBeChecked(), equalTo(TEST_BATCH_SIZE));
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> secondBatch = ringBlockingBuffer.read(readTimeout);
+        assertThat(new ArrayList<>(secondBatch.getKey()), equalTo(testRecords.subList(TEST_BATCH_SIZE, TEST_BATCH_SIZE + 1)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(RingBufferWaitStrategy.class)
+    void testNonZeroBatchDelayReturnsRecordsWrittenWhileWaiting(final RingBufferWaitStrategy waitStrategy) throws Exception {
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer =
+                new RingBlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, waitStrategy, TEST_PIPELINE_NAME);
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Map.Entry<Collection<Record<String>>, CheckpointState>> readResult =
+                    executorService.submit(() -> ringBlockingBuffer.read(TEST_BATCH_READ_TIMEOUT * 10));
+            for (final Record<String> record : generateBatchRecords(TEST_BATCH_SIZE)) {
+                Thread.sleep(10);
+                ringBlockingBuffer.write(record, TEST_WRITE_TIMEOUT);
+            }
+
+            assertThat(readResult.get(TEST_BATCH_READ_TIMEOUT * 10, TimeUnit.MILLISECONDS).getKey().size(), equalTo(TEST_BATCH_SIZE));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(RingBufferWaitStrategy.class)
+    void testWriteWaitsForCapacityReleasedByCheckpoint(final RingBufferWaitStrategy waitStrategy) throws Exception {
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer =
+                new RingBlockingBuffer<>(1, TEST_BATCH_SIZE, waitStrategy, TEST_PIPELINE_NAME);
+        ringBlockingBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBlockingBuffer.read(0);
+
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> writeResult = executorService.submit(() -> {
+                ringBlockingBuffer.write(new Record<>("WAITING"), TEST_BATCH_READ_TIMEOUT * 10);
+                return null;
+            });
+            Thread.sleep(50);
+            ringBlockingBuffer.checkpoint(readResult.getValue());
+
+            writeResult.get(TEST_BATCH_READ_TIMEOUT * 10, TimeUnit.MILLISECONDS);
+            assertThat(ringBlockingBuffer.read(0).getKey().size(), equalTo(1));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void testInterruptedWriteThrowsRuntimeExceptionAndKeepsTheInterruptFlag() throws Exception {
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer = createObjectUnderTest(1);
+        ringBlockingBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        Thread.currentThread().interrupt();
+        try {
+            final RuntimeException exception = assertThrows(RuntimeException.class,
+                    () -> ringBlockingBuffer.write(new Record<>("INTERRUPTED"), TEST_BATCH_READ_TIMEOUT));
+            assertThat(exception.getCause(), instanceOf(InterruptedException.class));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void testInterruptedReadThrowsRuntimeException() {
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer = createObjectUnderTest(1);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(RuntimeException.class, () -> ringBlockingBuffer.read(TEST_BATCH_READ_TIMEOUT));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testWriteTimesOutWhenMaxBytesReachedAndSucceedsAfterCheckpoint() throws Exception {
+        final long recordSize = ByteCapacityLimiter.estimateSize(new Record<>("FILL"));
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer = new RingBlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                ByteCount.ofBytes(recordSize), RingBufferWaitStrategy.PARK, TEST_PIPELINE_NAME);
+        ringBlockingBuffer.write(new Record<>("FILL"), TEST_WRITE_TIMEOUT);
+
+        assertThrows(TimeoutException.class, () -> ringBlockingBuffer.write(new Record<>("MORE"), TEST_WRITE_TIMEOUT));
+        assertThrows(TimeoutException.class, () -> ringBlockingBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT));
+        verifyBufferUsageMetric(1.0 / TEST_BUFFER_SIZE * 100);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBlockingBuffer.read(0);
+        assertThat(readResult.getValue().getNumBytesToBeChecked(), equalTo(recordSize));
+        ringBlockingBuffer.checkpoint(readResult.getValue());
+
+        ringBlockingBuffer.write(new Record<>("MORE"), TEST_WRITE_TIMEOUT);
+        assertThat(ringBlockingBuffer.read(0).getKey().size(), equalTo(1));
+    }
+
+    @Test
+    void testInterruptedWriteWaitingForBytesThrowsRuntimeExceptionAndReleasesTheCapacity() throws Exception {
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer = new RingBlockingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE,
+                ByteCount.ofBytes(1), RingBufferWaitStrategy.PARK, TEST_PIPELINE_NAME);
+        ringBlockingBuffer.write(new Record<>("FILL"), TEST_WRITE_TIMEOUT);
+
+        Thread.currentThread().interrupt();
+        try {
+            final RuntimeException exception = assertThrows(RuntimeException.class,
+                    () -> ringBlockingBuffer.write(new Record<>("INTERRUPTED"), TEST_BATCH_READ_TIMEOUT));
+            assertThat(exception.getCause(), instanceOf(InterruptedException.class));
+            assertTrue(Thread.currentThread().isInterrupted());
+        } finally {
+            Thread.interrupted();
+        }
+        verifyBufferUsageMetric(1.0 / TEST_BUFFER_SIZE * 100);
+    }
+
+    @Test
+    public void testBufferIsEmpty() {
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
+        assertTrue(ringBlockingBuffer.isEmpty());
+    }
+
+    @Test
+    public void testBufferIsNotEmpty() throws Exception {
+        final RingBlockingBuffer<Record<String>> ringBlockingBuffer = createObjectUnderTest(TEST_BUFFER_SIZE);
+        ringBlockingBuffer.write(new Record<>(UUID.randomUUID().toString()), TEST_WRITE_TIMEOUT);
+        assertFalse(ringBlockingBuffer.isEmpty());
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBlockingBuffer.read(0);
+        assertFalse(ringBlockingBuffer.isEmpty());
+
+        ringBlockingBuffer.checkpoint(readResult.getValue());
+        assertTrue(ringBlockingBuffer.isEmpty());
+    }
+
+    private List<Record<String>> generateBatchRecords(final int numRecords) {
+        final List<Record<String>> results = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            results.add(new Record<>(UUID.randomUUID().toString()));
+        }
+        return results;
+    }
+
+    private void verifyBufferUsageMetric(final double expectedBufferUsage) {
+        final Gauge bufferUsage = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME)
+                .add("bufferUsage").toString()).gauge();
+
+        assertThat(bufferUsage, is(notNullValue()));
+        assertThat(bufferUsage.value(), is(expectedBufferUsage));
+    }
+}
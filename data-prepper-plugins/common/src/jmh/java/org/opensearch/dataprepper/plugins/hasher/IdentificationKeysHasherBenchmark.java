@@ -0,0 +1,109 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.hasher;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.event.TestEventKeyFactory;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Compares looking up groups by the identification keys of events with the array based
+ * {@link IdentificationKeysHasher.IdentificationKeysMap} against a key which copies the values into a map and hashes
+ * the map on every lookup. Run with {@code -prof gc} to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@Fork(2)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class IdentificationKeysHasherBenchmark {
+    private static final List<String> IDENTIFICATION_KEYS = List.of("sourceIp", "destinationIp", "http/request/method");
+    private static final int GROUP_COUNT = 1000;
+
+    private Event[] events;
+    private IdentificationKeysHasher identificationKeysHasher;
+    private final Map<IdentificationKeysHasher.IdentificationKeysMap, Object> groups = new HashMap<>();
+    private final Map<MapIdentificationKey, Object> mapKeyGroups = new HashMap<>();
+    private int index;
+
+    @Setup
+    public void setUp() {
+        identificationKeysHasher = new IdentificationKeysHasher(IDENTIFICATION_KEYS, TestEventKeyFactory.getTestEventFactory());
+        events = new Event[GROUP_COUNT];
+        for (int i = 0; i < GROUP_COUNT; i++) {
+            final Map<String, Object> data = new HashMap<>();
+            data.put("sourceIp", "10.0.0." + (i % 256));
+            data.put("destinationIp", "10.0.1." + (i / 256));
+            data.put("http", Map.of("request", Map.of("method", "GET", "path", "/api/v1/items")));
+            data.put("message", UUID.randomUUID().toString());
+            events[i] = JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(data)
+                    .build();
+            groups.put(identificationKeysHasher.createIdentificationKeysMapFromEvent(events[i]), new Object());
+            mapKeyGroups.put(MapIdentificationKey.fromEvent(events[i]), new Object());
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Object array_key_lookup() {
+        final Event event = events[index++ % GROUP_COUNT];
+        return groups.get(identificationKeysHasher.createIdentificationKeysMapFromEvent(event));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Object map_key_lookup() {
+        final Event event = events[index++ % GROUP_COUNT];
+        return mapKeyGroups.get(MapIdentificationKey.fromEvent(event));
+    }
+
+    /**
+     * The map based key which {@link IdentificationKeysHasher.IdentificationKeysMap} replaced.
+     */
+    private static class MapIdentificationKey {
+        private final Map<Object, Object> keyMap;
+
+        private MapIdentificationKey(final Map<Object, Object> keyMap) {
+            this.keyMap = keyMap;
+        }
+
+        static MapIdentificationKey fromEvent(final Event event) {
+            final Map<Object, Object> keyMap = new HashMap<>();
+            for (final String identificationKey : IDENTIFICATION_KEYS) {
+                keyMap.put(identificationKey, event.get(identificationKey, Object.class));
+            }
+            return new MapIdentificationKey(keyMap);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            return Objects.equals(keyMap, ((MapIdentificationKey) o).keyMap);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(keyMap);
+        }
+    }
+}
@@ -6,31 +6,152 @@
 package org.opensearch.dataprepper.plugins.hasher;
 
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.event.EventKeyFactory;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 public class IdentificationKeysHasher {
-    private final List<String> identificationKeys;
+    private final String[] identificationKeys;
+    private final EventKey[] identificationEventKeys;
+
     public IdentificationKeysHasher(final List<String> identificationKeys) {
-        this.identificationKeys = identificationKeys;
+        this.identificationKeys = identificationKeys.toArray(new String[0]);
+        this.identificationEventKeys = null;
+    }
+
+    /**
+     * Creates a hasher which reads the identification keys from events with {@link EventKey}s that are
+     * created once, rather than parsing the key paths for every event.
+     *
+     * @param identificationKeys The identification keys
+     * @param eventKeyFactory The factory for the {@link EventKey}s of the identification keys
+     * @since 2.15
+     */
+    public IdentificationKeysHasher(final List<String> identificationKeys, final EventKeyFactory eventKeyFactory) {
+        this.identificationKeys = identificationKeys.toArray(new String[0]);
+        this.identificationEventKeys = new EventKey[this.identificationKeys.length];
+        for (int i = 0; i < this.identificationKeys.length; i++) {
+            identificationEventKeys[i] = eventKeyFactory.createEventKey(this.identificationKeys[i], EventKeyFactory.EventAction.GET);
+        }
     }
 
     public IdentificationKeysMap createIdentificationKeysMapFromEvent(final Event event) {
-        final Map<Object, Object> identificationKeysMap = new HashMap<>();
-        for (final String identificationKey : identificationKeys) {
-            identificationKeysMap.put(identificationKey, event.get(identificationKey, Object.class));
+        final Object[] values = new Object[identificationKeys.length];
+        for (int i = 0; i < identificationKeys.length; i++) {
+            values[i] = identificationEventKeys != null
+                    ? event.get(identificationEventKeys[i], Object.class)
+                    : event.get(identificationKeys[i], Object.class);
         }
-        return new IdentificationKeysMap(identificationKeysMap);
+        return new IdentificationKeysMap(identificationKeys, values);
     }
 
+    /**
+     * An immutable key made of the values of the identification keys of an event. The values are held in an array
+     * ordered by the identification keys and the hash is computed once, so that looking up groups by this key does
+     * not allocate or rehash the values.
+     */
     public static class IdentificationKeysMap {
-        private final Map<Object, Object> keyMap;
+        private static final long HASH_SEED = 0x9E3779B97F4A7C15L;
+        private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+        private static final long FNV_PRIME = 0x100000001B3L;
+
+        private final Object[] keys;
+        private final Object[] values;
+        private final long longHashCode;
+        private Map<Object, Object> keyMap;
 
         public IdentificationKeysMap(final Map<Object, Object> keyMap) {
-            this.keyMap = keyMap;
+            this.keys = new Object[keyMap.size()];
+            this.values = new Object[keyMap.size()];
+            int i = 0;
+            for (final Map.Entry<Object, Object> entry : keyMap.entrySet()) {
+                keys[i] = entry.getKey();
+                values[i] = entry.getValue();
+                i++;
+            }
+            this.longHashCode = computeLongHashCode(keys, values);
+        }
+
+        IdentificationKeysMap(final Object[] keys, final Object[] values) {
+            this.keys = keys;
+            this.values = values;
+            this.longHashCode = computeLongHashCode(keys, values);
+        }
+
+        /**
+         * The hash of the keys and values is independent of their order, so that a key created from a map equals
+         * the key created from an event with the same values.
+         */
+        private static long computeLongHashCode(final Object[] keys, final Object[] values) {
+            long hash = HASH_SEED;
+            for (int i = 0; i < keys.length; i++) {
+                hash += mix(31L * hash64(keys[i]) + hash64(values[i]));
+            }
+            return mix(hash);
+        }
+
+        /**
+         * Hashes strings with the 64-bit FNV-1a hash of their UTF-16 code units, numbers and booleans by their 64-bit
+         * value, and lists and maps by the 64-bit hashes of their elements, consistently with their equality. Other
+         * values fall back to their 32-bit hash code.
+         */
+        private static long hash64(final Object value) {
+            if (value == null) {
+                return 0L;
+            }
+            if (value instanceof String) {
+                final String string = (String) value;
+                long hash = FNV_OFFSET_BASIS;
+                for (int i = 0; i < string.length(); i++) {
+                    hash = (hash ^ string.charAt(i)) * FNV_PRIME;
+                }
+                return hash;
+            }
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                return mix(((Number) value).longValue());
+            }
+            if (value instanceof Double) {
+                return mix(Double.doubleToLongBits((Double) value));
+            }
+            if (value instanceof Boolean) {
+                return (Boolean) value ? 1231L : 1237L;
+            }
+            if (value instanceof List) {
+                long hash = 1L;
+                for (final Object element : (List<?>) value) {
+                    hash = 31L * hash + hash64(element);
+                }
+                return hash;
+            }
+            if (value instanceof Map) {
+                long hash = 0L;
+                for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    hash += hash64(entry.getKey()) ^ mix(hash64(entry.getValue()));
+                }
+                return hash;
+            }
+            return mix(value.hashCode());
+        }
+
+        private static long mix(long hash) {
+            hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+            hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+            return hash ^ (hash >>> 33);
+        }
+
+        /**
+         * Returns the 64-bit hash of the identification keys and their values.
+         *
+         * @return The 64-bit hash
+         * @since 2.15
+         */
+        public long longHashCode() {
+            return longHashCode;
         }
 
         @Override
@@ -38,15 +159,40 @@ public class IdentificationKeysHasher {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             IdentificationKeysMap that = (IdentificationKeysMap) o;
-            return Objects.equals(keyMap, that.keyMap);
+            if (longHashCode != that.longHashCode || keys.length != that.keys.length) {
+                return false;
+            }
+            for (int i = 0; i < keys.length; i++) {
+                final int index = keys == that.keys || Objects.equals(keys[i], that.keys[i]) ? i : that.indexOf(keys[i]);
+                if (index < 0 || !Objects.equals(values[i], that.values[index])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int indexOf(final Object key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (Objects.equals(keys[i], key)) {
+                    return i;
+                }
+            }
+            return -1;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(keyMap);
+            return (int) (longHashCode ^ (longHashCode >>> 32));
         }
 
         public Map<Object, Object> getKeyMap() {
+            if (keyMap == null) {
+                final Map<Object, Object> map = new HashMap<>();
+                for (int i = 0; i < keys.length; i++) {
+                    map.put(keys[i], values[i]);
+                }
+                keyMap = Collections.unmodifiableMap(map);
+            }
             return keyMap;
         }
     }
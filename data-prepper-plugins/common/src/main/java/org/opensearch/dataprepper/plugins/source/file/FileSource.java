@@ -18,6 +18,7 @@ import org.opensearch.dataprepper.model.configuration.PluginModel;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.EventBuilder;
 import org.opensearch.dataprepper.model.event.EventFactory;
+import org.opensearch.dataprepper.model.event.EventSchema;
 import org.opensearch.dataprepper.model.plugin.PluginFactory;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.source.Source;
@@ -58,6 +59,7 @@ public class FileSource implements Source<Record<Object>> {
 
     private boolean isStopRequested;
     private final int writeTimeout;
+    private final EventSchema eventSchema;
 
     @DataPrepperPluginConstructor
     public FileSource(
@@ -69,6 +71,7 @@ public class FileSource implements Source<Record<Object>> {
         this.isStopRequested = false;
         this.writeTimeout = FileSourceConfig.DEFAULT_TIMEOUT;
         this.decompressionEngine = fileSourceConfig.getCompression().getDecompressionEngine();
+        this.eventSchema = fileSourceConfig.isSharedEventSchema() ? new EventSchema() : null;
 
         if(fileSourceConfig.getCodec() != null) {
             fileStrategy = new CodecFileStrategy(pluginFactory);
@@ -139,6 +142,7 @@ public class FileSource implements Source<Record<Object>> {
             eventFactory.eventBuilder(EventBuilder.class)
                     .withEventType(fileSourceConfig.getRecordType())
                     .withData(structuredLine)
+                    .withEventSchema(eventSchema)
                     .build());
         }
 
@@ -18,6 +18,7 @@ public class FileSourceConfig {
     static final String ATTRIBUTE_PATH = "path";
     static final String ATTRIBUTE_TYPE = "record_type";
     static final String ATTRIBUTE_FORMAT = "format";
+    static final String ATTRIBUTE_SHARED_EVENT_SCHEMA = "shared_event_schema";
     static final int DEFAULT_TIMEOUT = 5_000;
     static final String DEFAULT_TYPE = "string";
     static final String DEFAULT_FORMAT = "plain";
@@ -39,6 +40,9 @@ public class FileSourceConfig {
     @JsonProperty("compression")
     private CompressionOption compression = CompressionOption.NONE;
 
+    @JsonProperty(ATTRIBUTE_SHARED_EVENT_SCHEMA)
+    private boolean sharedEventSchema = false;
+
     public String getFilePathToRead() {
         return filePathToRead;
     }
@@ -60,6 +64,10 @@ public class FileSourceConfig {
         return compression;
     }
 
+    public boolean isSharedEventSchema() {
+        return sharedEventSchema;
+    }
+
     void validate() {
         Objects.requireNonNull(filePathToRead, "File path is required");
         Preconditions.checkArgument(recordType.equals(EVENT_TYPE) || recordType.equals(DEFAULT_TYPE), "Invalid type: must be either [event] or [string]");
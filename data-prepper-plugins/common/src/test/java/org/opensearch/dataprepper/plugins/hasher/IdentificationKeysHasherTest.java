@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.hasher;
 
+import org.opensearch.dataprepper.event.TestEventKeyFactory;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +13,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -20,6 +22,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class IdentificationKeysHasherTest {
     private Event event;
@@ -166,4 +169,94 @@ public class IdentificationKeysHasherTest {
 
         assertThat(objectUnderTest1.hashCode(), not(equalTo(objectUnderTest2.hashCode())));
     }
+
+    @Test
+    void createIdentificationKeysMapFromEvent_with_EventKeyFactory_returns_expected_IdentficationKeysMap() {
+        identificationKeys.add("nested/identificationKey");
+        identificationKeysHasher = new IdentificationKeysHasher(identificationKeys, TestEventKeyFactory.getTestEventFactory());
+        final String firstValue = UUID.randomUUID().toString();
+        final String nestedValue = UUID.randomUUID().toString();
+        final Map<String, Object> eventMap = new HashMap<>();
+        eventMap.put("firstIdentificationKey", firstValue);
+        eventMap.put("nested", Map.of("identificationKey", nestedValue));
+
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(eventMap)
+                .build();
+
+        final Map<Object, Object> expectedKeyMap = new HashMap<>();
+        expectedKeyMap.put("firstIdentificationKey", firstValue);
+        expectedKeyMap.put("secondIdentificationKey", null);
+        expectedKeyMap.put("nested/identificationKey", nestedValue);
+
+        final IdentificationKeysHasher.IdentificationKeysMap result = identificationKeysHasher.createIdentificationKeysMapFromEvent(event);
+
+        assertThat(result, equalTo(new IdentificationKeysHasher.IdentificationKeysMap(expectedKeyMap)));
+        assertThat(result.getKeyMap(), equalTo(expectedKeyMap));
+        assertThat(result, equalTo(createObjectUnderTest().createIdentificationKeysMapFromEvent(event)));
+    }
+
+    @Test
+    void maps_with_the_same_entries_in_a_different_order_are_considered_equal() {
+        final String firstValue = UUID.randomUUID().toString();
+        final String secondValue = UUID.randomUUID().toString();
+        final Map<Object, Object> firstMap = new LinkedHashMap<>();
+        firstMap.put("firstIdentificationKey", firstValue);
+        firstMap.put("secondIdentificationKey", secondValue);
+        final Map<Object, Object> secondMap = new LinkedHashMap<>();
+        secondMap.put("secondIdentificationKey", secondValue);
+        secondMap.put("firstIdentificationKey", firstValue);
+
+        final IdentificationKeysHasher.IdentificationKeysMap objectUnderTest1 = new IdentificationKeysHasher.IdentificationKeysMap(firstMap);
+        final IdentificationKeysHasher.IdentificationKeysMap objectUnderTest2 = new IdentificationKeysHasher.IdentificationKeysMap(secondMap);
+
+        assertThat(objectUnderTest1, equalTo(objectUnderTest2));
+        assertThat(objectUnderTest1.hashCode(), equalTo(objectUnderTest2.hashCode()));
+        assertThat(objectUnderTest1.longHashCode(), equalTo(objectUnderTest2.longHashCode()));
+    }
+
+    @Test
+    void longHashCode_differs_for_strings_whose_32_bit_hash_codes_collide() {
+        assertThat("Aa".hashCode(), equalTo("BB".hashCode()));
+
+        final IdentificationKeysHasher.IdentificationKeysMap objectUnderTest1 = new IdentificationKeysHasher.IdentificationKeysMap(Map.of("key", "Aa"));
+        final IdentificationKeysHasher.IdentificationKeysMap objectUnderTest2 = new IdentificationKeysHasher.IdentificationKeysMap(Map.of("key", "BB"));
+
+        assertThat(objectUnderTest1.longHashCode(), not(equalTo(objectUnderTest2.longHashCode())));
+    }
+
+    @Test
+    void longHashCode_is_the_same_for_equal_list_and_map_values() {
+        final Map<Object, Object> firstMap = new HashMap<>();
+        firstMap.put("list", new ArrayList<>(List.of("a", 1L, 2.5)));
+        firstMap.put("map", new LinkedHashMap<>(Map.of("b", true)));
+        final Map<Object, Object> secondMap = Map.of("list", List.of("a", 1L, 2.5), "map", Map.of("b", true));
+
+        final IdentificationKeysHasher.IdentificationKeysMap objectUnderTest1 = new IdentificationKeysHasher.IdentificationKeysMap(firstMap);
+        final IdentificationKeysHasher.IdentificationKeysMap objectUnderTest2 = new IdentificationKeysHasher.IdentificationKeysMap(secondMap);
+
+        assertThat(objectUnderTest1, equalTo(objectUnderTest2));
+        assertThat(objectUnderTest1.longHashCode(), equalTo(objectUnderTest2.longHashCode()));
+    }
+
+    @Test
+    void maps_with_different_keys_or_sizes_are_not_considered_equal() {
+        final String value = UUID.randomUUID().toString();
+        final IdentificationKeysHasher.IdentificationKeysMap objectUnderTest = new IdentificationKeysHasher.IdentificationKeysMap(Map.of("a", value));
+
+        assertThat(objectUnderTest, not(equalTo(new IdentificationKeysHasher.IdentificationKeysMap(Map.of("b", value)))));
+        assertThat(objectUnderTest, not(equalTo(new IdentificationKeysHasher.IdentificationKeysMap(Map.of("a", value, "b", value)))));
+        assertThat(objectUnderTest, not(equalTo(null)));
+        assertThat(objectUnderTest, not(equalTo((Object) value)));
+    }
+
+    @Test
+    void getKeyMap_returns_a_map_which_cannot_be_modified() {
+        final IdentificationKeysHasher.IdentificationKeysMap objectUnderTest = new IdentificationKeysHasher.IdentificationKeysMap(
+                Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+
+        assertThat(objectUnderTest.getKeyMap(), is(objectUnderTest.getKeyMap()));
+        assertThrows(UnsupportedOperationException.class, () -> objectUnderTest.getKeyMap().put(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+    }
 }
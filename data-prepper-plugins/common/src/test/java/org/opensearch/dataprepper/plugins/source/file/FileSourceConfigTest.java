@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.source.file;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -43,4 +44,20 @@ class FileSourceConfigTest {
 
         assertThat(objectUnderTest.codeRequiresRecordTypeEvent(), equalTo(expected));
     }
-}
\ No newline at end of file
+
+    @Test
+    void isSharedEventSchema_returns_false_by_default() {
+        final FileSourceConfig objectUnderTest = OBJECT_MAPPER.convertValue(Collections.emptyMap(), FileSourceConfig.class);
+
+        assertThat(objectUnderTest.isSharedEventSchema(), equalTo(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void isSharedEventSchema_returns_the_configured_value(final boolean sharedEventSchema) {
+        final Map<String, Object> fileConfigMap = Map.of(FileSourceConfig.ATTRIBUTE_SHARED_EVENT_SCHEMA, sharedEventSchema);
+        final FileSourceConfig objectUnderTest = OBJECT_MAPPER.convertValue(fileConfigMap, FileSourceConfig.class);
+
+        assertThat(objectUnderTest.isSharedEventSchema(), equalTo(sharedEventSchema));
+    }
+}
@@ -234,6 +234,21 @@ public class FileSourceTests {
             assertExpectedRecordsAreEqual(expectedEventsJson, bufferEvents);
         }
 
+        @Test
+        public void testFileWithJSONAndSharedEventSchemaAddsEventsToBufferCorrectly() {
+            pluginSettings.put(FileSourceConfig.ATTRIBUTE_PATH, TEST_FILE_PATH_JSON);
+            pluginSettings.put(FileSourceConfig.ATTRIBUTE_FORMAT, "json");
+            pluginSettings.put(FileSourceConfig.ATTRIBUTE_SHARED_EVENT_SCHEMA, true);
+
+            fileSource = createObjectUnderTest();
+            fileSource.start(buffer);
+
+            final List<Record<Object>> bufferEvents = new ArrayList<>(buffer.read(1000).getKey());
+
+            assertThat(bufferEvents.size(), equalTo(expectedEventsJson.size()));
+            assertExpectedRecordsAreEqual(expectedEventsJson, bufferEvents);
+        }
+
         @Test
         public void testFileWithInvalidJSONAddsEventsToBufferAsPlainText() {
             pluginSettings.put(FileSourceConfig.ATTRIBUTE_PATH, TEST_FILE_PATH_INVALID_JSON);
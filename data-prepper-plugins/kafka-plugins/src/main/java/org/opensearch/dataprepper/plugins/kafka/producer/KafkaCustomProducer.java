@@ -23,6 +23,7 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.event.FormatTemplate;
 import org.opensearch.dataprepper.model.log.JacksonLog;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.plugins.codec.CompressionOption;
@@ -79,6 +80,8 @@ public class KafkaCustomProducer<T> {
 
     private final CompressionOption compressionConfig;
 
+    private final FormatTemplate partitionKeyTemplate;
+
     public KafkaCustomProducer(final KafkaProducer producer,
                                final KafkaProducerConfig kafkaProducerConfig,
                                final DLQSink dlqSink,
@@ -100,6 +103,7 @@ public class KafkaCustomProducer<T> {
         this.topicMetrics = topicMetrics;
         this.topicMetrics.register(this.producer);
         this.compressionConfig = (compressionConfig == null) ? CompressionOption.NONE: compressionConfig;
+        this.partitionKeyTemplate = kafkaProducerConfig.getPartitionKey() == null ? null : FormatTemplate.compile(kafkaProducerConfig.getPartitionKey());
     }
 
     public KafkaCustomProducer(final KafkaProducer producer,
@@ -147,7 +151,7 @@ public class KafkaCustomProducer<T> {
     public void produceRecords(final Record<Event> record) throws Exception {
         bufferedEventHandles.add(record.getData().getEventHandle());
         Event event = getEvent(record);
-        final String key = event.formatString(kafkaProducerConfig.getPartitionKey(), expressionEvaluator);
+        final String key = partitionKeyTemplate == null ? null : partitionKeyTemplate.format(event, expressionEvaluator);
         try {
             if (Objects.equals(serdeFormat, MessageFormat.JSON.toString())) {
                 publishJsonMessage(record, key);
@@ -175,11 +179,10 @@ public class KafkaCustomProducer<T> {
 
     private void publishJsonMessageAsBytes(Record<Event> record, String key) throws Exception {
         JsonNode dataNode = record.getData().getJsonNode();
-        byte[] bytes = objectMapper.writeValueAsBytes(dataNode);
 
         ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
         OutputStream compressedOutputStream = compressionConfig.getCompressionEngine().createOutputStream(byteArrayOutputStream);
-        compressedOutputStream.write(bytes);
+        objectMapper.writeValue(compressedOutputStream, dataNode);
         compressedOutputStream.close();
 
         send(topicName, key, byteArrayOutputStream.toByteArray());
@@ -187,6 +190,9 @@ public class KafkaCustomProducer<T> {
 
     private Event getEvent(final Record<Event> record) {
         Event event = record.getData();
+        if (tagTargetKey == null) {
+            return event;
+        }
         try {
             event = addTagsToEvent(event, tagTargetKey);
         } catch (JsonProcessingException e) {
@@ -12,6 +12,7 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventKey;
 import org.opensearch.dataprepper.model.event.EventKeyFactory;
+import org.opensearch.dataprepper.model.event.FormatTemplate;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
@@ -22,11 +23,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Consumer;
+import java.util.function.IntPredicate;
 import java.util.function.Supplier;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
@@ -69,43 +72,19 @@ public class AddEntryProcessor extends AbstractProcessor<Record<Event>, Record<E
         private final String keyStr;
         private final boolean isDynamic;
         private final EventKey staticKey;
+        private final FormatTemplate keyTemplate;
         private final boolean addWhenEvaluated;
-        private final String[] formatParts;
+        private final FormatTemplate formatTemplate;
+        private final boolean formatMissingKeysAsEmpty;
 
         KeyInfo(String keyStr, EventKeyFactory factory, String addWhen, String format) {
             this.keyStr = keyStr;
             this.isDynamic = keyStr != null && (keyStr.contains("%{") || keyStr.contains("${"));
             this.staticKey = !this.isDynamic && keyStr != null ? factory.createEventKey(keyStr) : null;
+            this.keyTemplate = this.isDynamic ? FormatTemplate.compile(keyStr) : null;
             this.addWhenEvaluated = addWhen == null;
-            this.formatParts = format != null ? parseFormat(format) : null;
-        }
-
-        private String[] parseFormat(String format) {
-            if (!isValidFormat(format)) {
-                return null;
-            }
-            List<String> parts = new ArrayList<>();
-            StringBuilder current = new StringBuilder();
-            int i = 0;
-            while (i < format.length()) {
-                if (format.charAt(i) == '$' && i + 1 < format.length() && format.charAt(i + 1) == '{') {
-                    if (current.length() > 0) {
-                        parts.add(current.toString());
-                        current = new StringBuilder();
-                    }
-                    int end = format.indexOf('}', i);
-                    if (end == -1) break;
-                    parts.add(format.substring(i, end + 1));
-                    i = end + 1;
-                } else {
-                    current.append(format.charAt(i));
-                    i++;
-                }
-            }
-            if (current.length() > 0) {
-                parts.add(current.toString());
-            }
-            return parts.toArray(new String[0]);
+            this.formatTemplate = format != null ? FormatTemplate.compile(format) : null;
+            this.formatMissingKeysAsEmpty = isValidFormat(format);
         }
 
         private boolean isValidFormat(String format) {
@@ -152,68 +131,88 @@ public class AddEntryProcessor extends AbstractProcessor<Record<Event>, Record<E
 
     @Override
     public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        for(final Record<Event> record : records) {
-            final Event recordEvent = record.getData();
+        final List<Event> events = new ArrayList<>(records.size());
+        for (final Record<Event> record : records) {
+            events.add(record.getData());
+        }
+        final BitSet failedEvents = new BitSet(events.size());
 
-            try {
-                for (int i = 0; i < entries.size(); i++) {
-                    AddEntryProcessorConfig.Entry entry = entries.get(i);
-                    KeyInfo keyInfo = preprocessedKeys.get(i);
-                    EntryProperties props = entryProperties.get(i);
+        for (int i = 0; i < entries.size(); i++) {
+            final AddEntryProcessorConfig.Entry entry = entries.get(i);
+            final KeyInfo keyInfo = preprocessedKeys.get(i);
+            final EntryProperties props = entryProperties.get(i);
+            final IntPredicate addWhenMatches = Objects.isNull(props.addWhen) ? null :
+                    expressionEvaluator.evaluateConditionalBatchWithFallback(props.addWhen, events);
 
-                    if (Objects.nonNull(props.addWhen) && !expressionEvaluator.evaluateConditional(props.addWhen, recordEvent)) {
-                        continue;
-                    }
+            for (int eventIndex = 0; eventIndex < events.size(); eventIndex++) {
+                if (failedEvents.get(eventIndex)) {
+                    continue;
+                }
+                final Event recordEvent = events.get(eventIndex);
 
-                    try {
-                        EventKey key = null;
-                        if (keyInfo.keyStr != null) {
-                            try {
-                                key = keyInfo.isDynamic ?
-                                    eventKeyFactory.createEventKey(recordEvent.formatString(keyInfo.keyStr, expressionEvaluator)) :
-                                    keyInfo.staticKey;
-                            } catch (Exception e) {
-                                LOG.debug("Failed to resolve or create key {} for event {}", keyInfo.keyStr, recordEvent, e);
-                            }
-                        }
-                        final String metadataKey = entry.getMetadataKey();
-                        final String iterateOn = entry.getIterateOn();
-                        final boolean flattenKey = entry.getFlattenKey();
-                        if (Objects.isNull(iterateOn)) {
-                            handleWithoutIterateOn(entry, recordEvent, key, metadataKey, props);
-                        } else if (!Objects.isNull(key) && key.getKey() != null) {
-                            handleWithIterateOn(entry, recordEvent, iterateOn, flattenKey, key, props);
-                        }
-                    } catch (Exception e) {
-                        LOG.atError()
-                                .addMarker(EVENT)
-                                .addMarker(NOISY)
-                                .setMessage(ERROR_LOG_MESSAGE)
-                                .addArgument(recordEvent)
-                                .addArgument(entry.getIterateOn())
-                                .addArgument(entry.getAddToElementWhen())
-                                .addArgument(entry.getKey())
-                                .addArgument(entry.getMetadataKey())
-                                .addArgument(entry.getValueExpression())
-                                .addArgument(entry.getFormat())
-                                .addArgument(entry.getValue())
-                                .log();
+                try {
+                    if (Objects.nonNull(addWhenMatches) && !addWhenMatches.test(eventIndex)) {
+                        continue;
                     }
+                } catch (final Exception e) {
+                    failedEvents.set(eventIndex);
+                    LOG.atError()
+                            .addMarker(EVENT)
+                            .addMarker(NOISY)
+                            .setMessage("There was an exception while processing Event [{}]")
+                            .addArgument(recordEvent)
+                            .setCause(e)
+                            .log();
+                    continue;
                 }
-            } catch(final Exception e){
-                LOG.atError()
-                        .addMarker(EVENT)
-                        .addMarker(NOISY)
-                        .setMessage("There was an exception while processing Event [{}]")
-                        .addArgument(recordEvent)
-                        .setCause(e)
-                        .log();
+
+                addEntry(entry, keyInfo, props, recordEvent);
             }
         }
 
         return records;
     }
 
+    private void addEntry(final AddEntryProcessorConfig.Entry entry,
+                          final KeyInfo keyInfo,
+                          final EntryProperties props,
+                          final Event recordEvent) {
+        try {
+            EventKey key = null;
+            if (keyInfo.keyStr != null) {
+                try {
+                    key = keyInfo.isDynamic ?
+                        eventKeyFactory.createEventKey(keyInfo.keyTemplate.format(recordEvent, expressionEvaluator)) :
+                        keyInfo.staticKey;
+                } catch (Exception e) {
+                    LOG.debug("Failed to resolve or create key {} for event {}", keyInfo.keyStr, recordEvent, e);
+                }
+            }
+            final String metadataKey = entry.getMetadataKey();
+            final String iterateOn = entry.getIterateOn();
+            final boolean flattenKey = entry.getFlattenKey();
+            if (Objects.isNull(iterateOn)) {
+                handleWithoutIterateOn(entry, recordEvent, key, metadataKey, props);
+            } else if (!Objects.isNull(key) && key.getKey() != null) {
+                handleWithIterateOn(entry, recordEvent, iterateOn, flattenKey, key, props);
+            }
+        } catch (Exception e) {
+            LOG.atError()
+                    .addMarker(EVENT)
+                    .addMarker(NOISY)
+                    .setMessage(ERROR_LOG_MESSAGE)
+                    .addArgument(recordEvent)
+                    .addArgument(entry.getIterateOn())
+                    .addArgument(entry.getAddToElementWhen())
+                    .addArgument(entry.getKey())
+                    .addArgument(entry.getMetadataKey())
+                    .addArgument(entry.getValueExpression())
+                    .addArgument(entry.getFormat())
+                    .addArgument(entry.getValue())
+                    .log();
+        }
+    }
+
     @Override
     public void prepareForShutdown() {
     }
@@ -320,25 +319,9 @@ public class AddEntryProcessor extends AbstractProcessor<Record<Event>, Record<E
                     expressionEvaluator.evaluate(entry.getValueExpression(), context);
         } else if (!Objects.isNull(entry.getFormat())) {
             try {
-                if (keyInfo.formatParts != null) {
-                    StringBuilder result = new StringBuilder();
-                    for (String part : keyInfo.formatParts) {
-                        if (part.startsWith("${")) {
-                            String key = part.substring(2, part.length() - 1);
-                            try {
-                                Object partValue = context.get(key, Object.class);
-                                if (partValue != null) {
-                                    result.append(partValue);
-                                }
-                            } catch (EventKeyNotFoundException ignored) {}
-                        } else {
-                            result.append(part);
-                        }
-                    }
-                    value = result.toString();
-                } else {
-                    value = context.formatString(entry.getFormat());
-                }
+                value = keyInfo.formatMissingKeysAsEmpty ?
+                        keyInfo.formatTemplate.format(context, null, "") :
+                        keyInfo.formatTemplate.format(context);
             } catch (final EventKeyNotFoundException e) {
                 value = null;
             }
@@ -34,6 +34,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
@@ -373,6 +375,8 @@ public class AddEntryProcessorTests {
 
         final AddEntryProcessor processor = createObjectUnderTest();
         final Record<Event> record = getEvent("thisisamessage");
+        when(expressionEvaluator.evaluateConditionalBatch(eq(addWhen), anyCollection())).thenCallRealMethod();
+        when(expressionEvaluator.evaluateConditionalBatchWithFallback(eq(addWhen), anyList())).thenCallRealMethod();
         when(expressionEvaluator.evaluateConditional(addWhen, record.getData())).thenReturn(true);
 
         // First execution
@@ -758,6 +762,9 @@ public class AddEntryProcessorTests {
         final AddEntryProcessor processor = createObjectUnderTest();
         final Record<Event> record = getEvent("thisisamessage");
 
+        when(expressionEvaluator.evaluateConditionalBatch(eq(addWhen), anyCollection())).thenCallRealMethod();
+        when(expressionEvaluator.evaluateConditionalBatchWithFallback(eq(addWhen), anyList())).thenCallRealMethod();
+
         when(expressionEvaluator.evaluateConditional(addWhen, record.getData())).thenReturn(false);
         final List<Record<Event>> editedRecords = (List<Record<Event>>) processor.doExecute(Collections.singletonList(record));
 
@@ -776,6 +783,9 @@ public class AddEntryProcessorTests {
         final AddEntryProcessor processor = createObjectUnderTest();
         final Record<Event> record = getEventWithMetadata("thisisamessage", Map.of("key", "value"));
 
+        when(expressionEvaluator.evaluateConditionalBatch(eq(addWhen), anyCollection())).thenCallRealMethod();
+        when(expressionEvaluator.evaluateConditionalBatchWithFallback(eq(addWhen), anyList())).thenCallRealMethod();
+
         when(expressionEvaluator.evaluateConditional(addWhen, record.getData())).thenReturn(false);
         final List<Record<Event>> editedRecords = (List<Record<Event>>) processor.doExecute(Collections.singletonList(record));
 
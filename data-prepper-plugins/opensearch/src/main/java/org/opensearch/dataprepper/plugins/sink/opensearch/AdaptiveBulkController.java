@@ -0,0 +1,206 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.rest.RestStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Adapts the bulk size and the number of in-flight bulk requests to the load of the cluster, additively increasing
+ * them while bulk requests succeed within the target latency and multiplicatively decreasing them when OpenSearch
+ * rejects bulk operations or bulk requests take longer than the target latency. Rejections halve the number of
+ * in-flight bulk requests first, slow bulk requests halve the bulk size first. Decreases are at most once per target
+ * latency, so that the responses to bulk requests sent before a decrease do not compound it.
+ *
+ * @since 2.15
+ */
+class AdaptiveBulkController {
+    static final String ADAPTIVE_BULK_SIZE_BYTES = "adaptiveBulkSizeBytes";
+    static final String ADAPTIVE_MAX_IN_FLIGHT_BULK_REQUESTS = "adaptiveMaxInFlightBulkRequests";
+    static final String ADAPTIVE_BULK_CONTROL_INCREASES = "adaptiveBulkControlIncreases";
+    static final String ADAPTIVE_BULK_CONTROL_DECREASES = "adaptiveBulkControlDecreases";
+    static final String REJECTED_BULK_OPERATIONS = "bulkOperationsRejected";
+    static final String REASON = "reason";
+    static final String REJECTIONS_REASON = "rejections";
+    static final String LATENCY_REASON = "latency";
+    static final String REJECTED_EXECUTION_EXCEPTION_TYPE = "es_rejected_execution_exception";
+    static final int BULK_SIZE_INCREASE_STEPS = 10;
+
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveBulkController.class);
+
+    private final long minBulkSizeBytes;
+    private final long maxBulkSizeBytes;
+    private final long bulkSizeIncreaseBytes;
+    private final int maxInFlightBulkRequestsLimit;
+    private final long targetLatencyMillis;
+    private final LongSupplier nanoClock;
+    private final AtomicLong bulkSizeBytes;
+    private final AtomicInteger maxInFlightBulkRequests;
+    private final Counter increasesCounter;
+    private final Counter rejectionDecreasesCounter;
+    private final Counter latencyDecreasesCounter;
+    private final Counter rejectedBulkOperationsCounter;
+    private long lastDecreaseNanos;
+    private int healthyResponses;
+
+    AdaptiveBulkController(final long minBulkSizeBytes,
+                           final long maxBulkSizeBytes,
+                           final int maxInFlightBulkRequests,
+                           final Duration targetLatency,
+                           final PluginMetrics pluginMetrics) {
+        this(minBulkSizeBytes, maxBulkSizeBytes, maxInFlightBulkRequests, targetLatency, pluginMetrics, System::nanoTime);
+    }
+
+    AdaptiveBulkController(final long minBulkSizeBytes,
+                           final long maxBulkSizeBytes,
+                           final int maxInFlightBulkRequests,
+                           final Duration targetLatency,
+                           final PluginMetrics pluginMetrics,
+                           final LongSupplier nanoClock) {
+        this.minBulkSizeBytes = Math.min(minBulkSizeBytes, maxBulkSizeBytes);
+        this.maxBulkSizeBytes = maxBulkSizeBytes;
+        this.bulkSizeIncreaseBytes = Math.max(1L, maxBulkSizeBytes / BULK_SIZE_INCREASE_STEPS);
+        this.maxInFlightBulkRequestsLimit = Math.max(1, maxInFlightBulkRequests);
+        this.targetLatencyMillis = targetLatency.toMillis();
+        this.nanoClock = nanoClock;
+        this.bulkSizeBytes = pluginMetrics.gauge(ADAPTIVE_BULK_SIZE_BYTES, new AtomicLong(maxBulkSizeBytes));
+        this.maxInFlightBulkRequests = pluginMetrics.gauge(ADAPTIVE_MAX_IN_FLIGHT_BULK_REQUESTS, new AtomicInteger(maxInFlightBulkRequestsLimit));
+        this.increasesCounter = pluginMetrics.counter(ADAPTIVE_BULK_CONTROL_INCREASES);
+        this.rejectionDecreasesCounter = pluginMetrics.counterWithTags(ADAPTIVE_BULK_CONTROL_DECREASES, REASON, REJECTIONS_REASON);
+        this.latencyDecreasesCounter = pluginMetrics.counterWithTags(ADAPTIVE_BULK_CONTROL_DECREASES, REASON, LATENCY_REASON);
+        this.rejectedBulkOperationsCounter = pluginMetrics.counter(REJECTED_BULK_OPERATIONS);
+        this.lastDecreaseNanos = nanoClock.getAsLong() - TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+    }
+
+    /**
+     * Returns the size in bytes at which bulk requests are flushed.
+     */
+    long getBulkSizeBytes() {
+        return bulkSizeBytes.get();
+    }
+
+    /**
+     * Returns the number of bulk requests which may be in flight at the same time.
+     */
+    int getMaxInFlightBulkRequests() {
+        return maxInFlightBulkRequests.get();
+    }
+
+    /**
+     * Wraps the request function so that every bulk request attempt, including retries, adjusts the controller.
+     */
+    <T> RequestFunction<T, BulkResponse> observe(final RequestFunction<T, BulkResponse> requestFunction) {
+        return request -> {
+            final long startNanos = nanoClock.getAsLong();
+            final BulkResponse response;
+            try {
+                response = requestFunction.apply(request);
+            } catch (final Exception e) {
+                onException(e);
+                throw e;
+            }
+            onResponse(TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - startNanos), response);
+            return response;
+        };
+    }
+
+    void onResponse(final long latencyMillis, final BulkResponse response) {
+        final long rejectedBulkOperations = response.items().stream()
+                .filter(AdaptiveBulkController::isRejected)
+                .count();
+        if (rejectedBulkOperations > 0) {
+            rejectedBulkOperationsCounter.increment(rejectedBulkOperations);
+            decrease(true);
+        } else if (Math.max(latencyMillis, response.took()) > targetLatencyMillis) {
+            decrease(false);
+        } else {
+            increase();
+        }
+    }
+
+    void onException(final Exception e) {
+        if (e instanceof OpenSearchException && ((OpenSearchException) e).status() == RestStatus.TOO_MANY_REQUESTS.getStatus()) {
+            decrease(true);
+        }
+    }
+
+    private static boolean isRejected(final BulkResponseItem item) {
+        return item.status() == RestStatus.TOO_MANY_REQUESTS.getStatus() ||
+                (item.error() != null && REJECTED_EXECUTION_EXCEPTION_TYPE.equals(item.error().type()));
+    }
+
+    private synchronized void increase() {
+        healthyResponses++;
+        boolean increased = false;
+        final long currentBulkSizeBytes = bulkSizeBytes.get();
+        if (currentBulkSizeBytes < maxBulkSizeBytes) {
+            bulkSizeBytes.set(Math.min(maxBulkSizeBytes, currentBulkSizeBytes + bulkSizeIncreaseBytes));
+            increased = true;
+        }
+        final int currentMaxInFlightBulkRequests = maxInFlightBulkRequests.get();
+        if (healthyResponses >= currentMaxInFlightBulkRequests && currentMaxInFlightBulkRequests < maxInFlightBulkRequestsLimit) {
+            maxInFlightBulkRequests.set(currentMaxInFlightBulkRequests + 1);
+            healthyResponses = 0;
+            increased = true;
+        }
+        if (increased) {
+            increasesCounter.increment();
+        }
+    }
+
+    private synchronized void decrease(final boolean rejected) {
+        healthyResponses = 0;
+        final long nowNanos = nanoClock.getAsLong();
+        if (nowNanos - lastDecreaseNanos < TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis)) {
+            return;
+        }
+        final boolean decreased = rejected ?
+                decreaseMaxInFlightBulkRequests() || decreaseBulkSize() :
+                decreaseBulkSize() || decreaseMaxInFlightBulkRequests();
+        if (!decreased) {
+            return;
+        }
+        lastDecreaseNanos = nowNanos;
+        if (rejected) {
+            rejectionDecreasesCounter.increment();
+        } else {
+            latencyDecreasesCounter.increment();
+        }
+        LOG.info("Decreased the bulk size to {} bytes and the in-flight bulk requests to {} because OpenSearch {}.",
+                bulkSizeBytes.get(), maxInFlightBulkRequests.get(),
+                rejected ? "rejected bulk operations" : "exceeded the target latency");
+    }
+
+    private boolean decreaseMaxInFlightBulkRequests() {
+        final int currentMaxInFlightBulkRequests = maxInFlightBulkRequests.get();
+        if (currentMaxInFlightBulkRequests <= 1) {
+            return false;
+        }
+        maxInFlightBulkRequests.set(currentMaxInFlightBulkRequests / 2);
+        return true;
+    }
+
+    private boolean decreaseBulkSize() {
+        final long currentBulkSizeBytes = bulkSizeBytes.get();
+        if (currentBulkSizeBytes <= minBulkSizeBytes) {
+            return false;
+        }
+        bulkSizeBytes.set(Math.max(minBulkSizeBytes, currentBulkSizeBytes / 2));
+        return true;
+    }
+}
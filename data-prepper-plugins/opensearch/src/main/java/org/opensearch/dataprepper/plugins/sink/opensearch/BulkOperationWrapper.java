@@ -43,6 +43,13 @@ public class BulkOperationWrapper {
             IS_DELETE_OPERATION, operation -> operation.delete().id()
     );
 
+    private static final Map<Predicate<BulkOperation>, Function<BulkOperation, String>> BULK_OPERATION_TO_ROUTING_CONVERTERS = Map.of(
+            IS_INDEX_OPERATION, operation -> operation.index().routing(),
+            IS_CREATE_OPERATION, operation -> operation.create().routing(),
+            IS_UPDATE_OPERATION, operation -> operation.update().routing(),
+            IS_DELETE_OPERATION, operation -> operation.delete().routing()
+    );
+
     private final Event event;
 
     private final EventHandle eventHandle;
@@ -125,6 +132,10 @@ public class BulkOperationWrapper {
         return getValueFromConverter(BULK_OPERATION_TO_ID_CONVERTERS);
     }
 
+    public String getRouting() {
+        return getValueFromConverter(BULK_OPERATION_TO_ROUTING_CONVERTERS);
+    }
+
     private <T> T getValueFromConverter(final Map<Predicate<BulkOperation>, Function<BulkOperation, T>> converters) {
         final List<T> values = converters.entrySet().stream()
                 .filter(entry -> entry.getKey().test(bulkOperation))
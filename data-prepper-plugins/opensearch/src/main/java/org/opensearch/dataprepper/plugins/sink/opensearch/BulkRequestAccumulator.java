@@ -0,0 +1,239 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.AccumulatingBulkRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Owns the partially filled bulk requests of the OpenSearch sink. Each pipeline worker fills its own pending bulk
+ * request, which is flushed once adding a document would exceed the current bulk size. A background task flushes the
+ * pending bulk requests whose oldest document has waited longer than the flush timeout, whether or not their worker
+ * receives more records, and {@link #shutdown()} flushes everything left.
+ * <p>
+ * A pending bulk request may group its bulk operations by a key, such as their index or shard, into separate bulk
+ * requests which are flushed independently. The bulk size also bounds the total size of the groups of a pending bulk
+ * request, by flushing its largest group once they reach it together.
+ *
+ * @since 2.15
+ */
+class BulkRequestAccumulator {
+    static final long MAX_FLUSH_CHECK_INTERVAL_MILLIS = 1_000L;
+    static final Function<BulkOperationWrapper, Object> SINGLE_GROUP = bulkOperation -> Boolean.TRUE;
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkRequestAccumulator.class);
+
+    private final Supplier<AccumulatingBulkRequest> bulkRequestSupplier;
+    private final Consumer<AccumulatingBulkRequest> flushFunction;
+    private final LongSupplier bulkSizeSupplier;
+    private final Function<BulkOperationWrapper, Object> groupKeyFunction;
+    private final long flushTimeout;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentHashMap<Long, PendingBulkRequest> pendingBulkRequests;
+
+    BulkRequestAccumulator(final Supplier<AccumulatingBulkRequest> bulkRequestSupplier,
+                           final Consumer<AccumulatingBulkRequest> flushFunction,
+                           final LongSupplier bulkSizeSupplier,
+                           final Function<BulkOperationWrapper, Object> groupKeyFunction,
+                           final long flushTimeout) {
+        this(bulkRequestSupplier, flushFunction, bulkSizeSupplier, groupKeyFunction, flushTimeout, flushTimeout > 0 ?
+                Executors.newSingleThreadScheduledExecutor(BackgroundThreadFactory.defaultExecutorThreadFactory("opensearch-sink-bulk-request-flusher")) :
+                null);
+    }
+
+    BulkRequestAccumulator(final Supplier<AccumulatingBulkRequest> bulkRequestSupplier,
+                           final Consumer<AccumulatingBulkRequest> flushFunction,
+                           final LongSupplier bulkSizeSupplier,
+                           final Function<BulkOperationWrapper, Object> groupKeyFunction,
+                           final long flushTimeout,
+                           final ScheduledExecutorService scheduler) {
+        this.bulkRequestSupplier = bulkRequestSupplier;
+        this.flushFunction = flushFunction;
+        this.bulkSizeSupplier = bulkSizeSupplier;
+        this.groupKeyFunction = groupKeyFunction;
+        this.flushTimeout = flushTimeout;
+        this.scheduler = scheduler;
+        this.pendingBulkRequests = new ConcurrentHashMap<>();
+        if (scheduler != null) {
+            final long flushCheckInterval = Math.min(flushTimeout, MAX_FLUSH_CHECK_INTERVAL_MILLIS);
+            scheduler.scheduleWithFixedDelay(this::flushExpired, flushCheckInterval, flushCheckInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Returns the pending bulk request of the calling thread.
+     */
+    PendingBulkRequest getPendingBulkRequest() {
+        return pendingBulkRequests.computeIfAbsent(Thread.currentThread().getId(), threadId -> new PendingBulkRequest());
+    }
+
+    /**
+     * Flushes the pending bulk requests whose flush timeout expired. Pending bulk requests which a worker is filling
+     * are skipped, since the worker flushes them itself once it has added its records.
+     */
+    void flushExpired() {
+        try {
+            for (final PendingBulkRequest pendingBulkRequest : pendingBulkRequests.values()) {
+                pendingBulkRequest.tryFlushIfExpired();
+            }
+        } catch (final RuntimeException e) {
+            LOG.error("Unable to flush the bulk requests whose flush timeout expired.", e);
+        }
+    }
+
+    /**
+     * Stops the background flushes and flushes every pending bulk request.
+     */
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(MAX_FLUSH_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (final PendingBulkRequest pendingBulkRequest : pendingBulkRequests.values()) {
+            pendingBulkRequest.flush();
+        }
+    }
+
+    class PendingBulkRequest {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Object, BulkRequestGroup> groups = new LinkedHashMap<>();
+        private long estimatedSizeInBytes;
+
+        /**
+         * Adds the bulk operation to its group, first flushing the group if the bulk operation would exceed the bulk
+         * size, and then flushes the largest group if the groups together reached the bulk size.
+         */
+        void add(final BulkOperationWrapper bulkOperation) {
+            lock.lock();
+            try {
+                final Object groupKey = groupKeyFunction.apply(bulkOperation);
+                final long bulkSize = bulkSizeSupplier.getAsLong();
+                BulkRequestGroup group = groups.get(groupKey);
+                if (group != null && bulkSize >= 0 && group.bulkRequest.estimateSizeInBytesWithDocument(bulkOperation) >= bulkSize) {
+                    flushLocked(groupKey);
+                    group = null;
+                }
+                if (group == null) {
+                    group = new BulkRequestGroup();
+                    groups.put(groupKey, group);
+                }
+                group.add(bulkOperation);
+                if (bulkSize >= 0 && groups.size() > 1 && estimatedSizeInBytes >= bulkSize) {
+                    flushLargestGroupLocked();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Flushes the groups whose oldest bulk operation was added longer than the flush timeout ago. A negative flush
+         * timeout flushes every group every time.
+         */
+        void flushIfExpired() {
+            lock.lock();
+            try {
+                flushLockedIfExpired();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void tryFlushIfExpired() {
+            if (!lock.tryLock()) {
+                return;
+            }
+            try {
+                flushLockedIfExpired();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void flush() {
+            lock.lock();
+            try {
+                flushLocked(group -> true);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void flushLockedIfExpired() {
+            final long now = System.currentTimeMillis();
+            flushLocked(group -> now - group.firstOperationTime >= flushTimeout);
+        }
+
+        private void flushLargestGroupLocked() {
+            Object largestGroupKey = null;
+            long largestGroupSize = -1L;
+            for (final Map.Entry<Object, BulkRequestGroup> entry : groups.entrySet()) {
+                if (entry.getValue().estimatedSizeInBytes > largestGroupSize) {
+                    largestGroupKey = entry.getKey();
+                    largestGroupSize = entry.getValue().estimatedSizeInBytes;
+                }
+            }
+            flushLocked(largestGroupKey);
+        }
+
+        private void flushLocked(final Object groupKey) {
+            flushLocked(groups.remove(groupKey));
+        }
+
+        private void flushLocked(final Predicate<BulkRequestGroup> shouldFlush) {
+            final Iterator<BulkRequestGroup> iterator = groups.values().iterator();
+            while (iterator.hasNext()) {
+                final BulkRequestGroup group = iterator.next();
+                if (shouldFlush.test(group)) {
+                    iterator.remove();
+                    flushLocked(group);
+                }
+            }
+        }
+
+        /**
+         * Closes the bulk request of the removed group, since nothing more is added to it, and flushes it.
+         */
+        private void flushLocked(final BulkRequestGroup group) {
+            estimatedSizeInBytes -= group.estimatedSizeInBytes;
+            group.bulkRequest.close();
+            flushFunction.accept(group.bulkRequest);
+        }
+
+        private class BulkRequestGroup {
+            private final AccumulatingBulkRequest bulkRequest = bulkRequestSupplier.get();
+            private final long firstOperationTime = System.currentTimeMillis();
+            private long estimatedSizeInBytes;
+
+            private void add(final BulkOperationWrapper bulkOperation) {
+                bulkRequest.addOperation(bulkOperation);
+                final long previousEstimatedSizeInBytes = estimatedSizeInBytes;
+                estimatedSizeInBytes = bulkRequest.getEstimatedSizeInBytes();
+                PendingBulkRequest.this.estimatedSizeInBytes += estimatedSizeInBytes - previousEstimatedSizeInBytes;
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.AccumulatingBulkRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+
+/**
+ * Sends bulk requests on a pool of sender threads so that a slow cluster does not stall the pipeline workers. At most
+ * {@code maxInFlightBulkRequests} bulk requests are sent at the same time, or fewer while the in-flight limit supplier
+ * returns a lower limit, and retries wait for their backoff on the scheduler instead of a thread. Up to
+ * {@code queueSize} further bulk requests wait to be sent, after which {@link #dispatch(AccumulatingBulkRequest)}
+ * blocks the calling worker until a bulk request completes.
+ *
+ * @since 2.15
+ */
+class BulkRequestDispatcher {
+    static final String BULK_REQUESTS_IN_FLIGHT = "bulkRequestsInFlight";
+    static final String BULK_REQUESTS_QUEUED = "bulkRequestsQueued";
+    static final String BULK_REQUEST_QUEUE_WAIT_TIME = "bulkRequestQueueWaitTime";
+    static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkRequestDispatcher.class);
+
+    private final BulkRetryStrategy bulkRetryStrategy;
+    private final ScheduledExecutorService scheduler;
+    private final IntSupplier inFlightLimitSupplier;
+    private final Queue<WaitingBulkRequest> waitingBulkRequests;
+    private final int capacity;
+    private final Semaphore availableCapacity;
+    private final AtomicInteger bulkRequestsInFlight;
+    private final AtomicInteger bulkRequestsQueued;
+    private final Timer bulkRequestTimer;
+    private final Timer queueWaitTimer;
+    private final DistributionSummary bulkRequestSizeBytesSummary;
+    private final Counter bulkRequestErrorsCounter;
+    private int startedBulkRequests;
+
+    BulkRequestDispatcher(final BulkRetryStrategy bulkRetryStrategy,
+                          final PluginMetrics pluginMetrics,
+                          final int maxInFlightBulkRequests,
+                          final int queueSize,
+                          final IntSupplier inFlightLimitSupplier) {
+        this(bulkRetryStrategy, pluginMetrics, maxInFlightBulkRequests, queueSize, inFlightLimitSupplier,
+                Executors.newScheduledThreadPool(maxInFlightBulkRequests,
+                        BackgroundThreadFactory.defaultExecutorThreadFactory("opensearch-sink-bulk-request-dispatcher")));
+    }
+
+    BulkRequestDispatcher(final BulkRetryStrategy bulkRetryStrategy,
+                          final PluginMetrics pluginMetrics,
+                          final int maxInFlightBulkRequests,
+                          final int queueSize,
+                          final IntSupplier inFlightLimitSupplier,
+                          final ScheduledExecutorService scheduler) {
+        this.bulkRetryStrategy = bulkRetryStrategy;
+        this.scheduler = scheduler;
+        this.inFlightLimitSupplier = inFlightLimitSupplier;
+        this.waitingBulkRequests = new ArrayDeque<>();
+        this.capacity = maxInFlightBulkRequests + queueSize;
+        this.availableCapacity = new Semaphore(capacity);
+        this.bulkRequestsInFlight = pluginMetrics.gauge(BULK_REQUESTS_IN_FLIGHT, new AtomicInteger(0));
+        this.bulkRequestsQueued = pluginMetrics.gauge(BULK_REQUESTS_QUEUED, new AtomicInteger(0));
+        this.bulkRequestTimer = pluginMetrics.timer(OpenSearchSink.BULKREQUEST_LATENCY);
+        this.queueWaitTimer = pluginMetrics.timer(BULK_REQUEST_QUEUE_WAIT_TIME);
+        this.bulkRequestSizeBytesSummary = pluginMetrics.summary(OpenSearchSink.BULKREQUEST_SIZE_BYTES);
+        this.bulkRequestErrorsCounter = pluginMetrics.counter(OpenSearchSink.BULKREQUEST_ERRORS);
+    }
+
+    /**
+     * Queues the bulk request to be sent, waiting while the queue is full.
+     *
+     * @param bulkRequest the bulk request to send
+     * @throws InterruptedException if interrupted while waiting for the queue
+     */
+    void dispatch(final AccumulatingBulkRequest bulkRequest) throws InterruptedException {
+        availableCapacity.acquire();
+        bulkRequestsQueued.incrementAndGet();
+        synchronized (waitingBulkRequests) {
+            waitingBulkRequests.add(new WaitingBulkRequest(bulkRequest, System.nanoTime()));
+        }
+        startWaitingBulkRequests();
+    }
+
+    /**
+     * Waits for the queued and in-flight bulk requests to complete and stops the sender threads.
+     */
+    void shutdown() {
+        try {
+            if (availableCapacity.tryAcquire(capacity, SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                availableCapacity.release(capacity);
+            } else {
+                LOG.warn("Stopping the OpenSearch sink with {} bulk requests in flight and {} bulk requests queued.",
+                        bulkRequestsInFlight.get(), bulkRequestsQueued.get());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Hands waiting bulk requests to the sender threads while fewer bulk requests than the in-flight limit are started.
+     * Once the sender threads reject a bulk request, it and the other waiting bulk requests are handed to the failure
+     * handler of the retry strategy, so that their events are released, and the rejection is rethrown.
+     */
+    private void startWaitingBulkRequests() {
+        List<WaitingBulkRequest> rejectedBulkRequests = null;
+        RejectedExecutionException rejection = null;
+        synchronized (waitingBulkRequests) {
+            while (!waitingBulkRequests.isEmpty() && startedBulkRequests < inFlightLimitSupplier.getAsInt()) {
+                final WaitingBulkRequest waitingBulkRequest = waitingBulkRequests.poll();
+                startedBulkRequests++;
+                try {
+                    scheduler.execute(() -> send(waitingBulkRequest));
+                } catch (final RejectedExecutionException e) {
+                    startedBulkRequests--;
+                    rejectedBulkRequests = new ArrayList<>(waitingBulkRequests.size() + 1);
+                    rejectedBulkRequests.add(waitingBulkRequest);
+                    rejectedBulkRequests.addAll(waitingBulkRequests);
+                    waitingBulkRequests.clear();
+                    rejection = e;
+                    break;
+                }
+            }
+        }
+        if (rejection != null) {
+            for (final WaitingBulkRequest rejectedBulkRequest : rejectedBulkRequests) {
+                bulkRequestsQueued.decrementAndGet();
+                bulkRequestErrorsCounter.increment();
+                try {
+                    bulkRetryStrategy.handleUnsentBulkRequest(rejectedBulkRequest.bulkRequest, rejection);
+                } finally {
+                    availableCapacity.release();
+                }
+            }
+            throw rejection;
+        }
+    }
+
+    private void send(final WaitingBulkRequest waitingBulkRequest) {
+        final AccumulatingBulkRequest bulkRequest = waitingBulkRequest.bulkRequest;
+        final long startNanos = System.nanoTime();
+        queueWaitTimer.record(startNanos - waitingBulkRequest.queuedNanos, TimeUnit.NANOSECONDS);
+        bulkRequestsQueued.decrementAndGet();
+        bulkRequestsInFlight.incrementAndGet();
+        LOG.debug("Sending data to OpenSearch");
+        bulkRetryStrategy.executeAsync(bulkRequest, scheduler).whenComplete((ignored, e) -> {
+            bulkRequestTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            if (e == null) {
+                bulkRequestSizeBytesSummary.record(bulkRequest.getEstimatedSizeInBytes());
+            } else {
+                LOG.error("Unexpected failure while sending a bulk request to OpenSearch.", e);
+                bulkRequestErrorsCounter.increment();
+            }
+            bulkRequestsInFlight.decrementAndGet();
+            synchronized (waitingBulkRequests) {
+                startedBulkRequests--;
+            }
+            availableCapacity.release();
+            try {
+                startWaitingBulkRequests();
+            } catch (final RejectedExecutionException rejectedExecutionException) {
+                LOG.warn("Unable to send a queued bulk request because the OpenSearch sink is stopping.", rejectedExecutionException);
+            }
+        });
+    }
+
+    private static class WaitingBulkRequest {
+        private final AccumulatingBulkRequest bulkRequest;
+        private final long queuedNanos;
+
+        private WaitingBulkRequest(final AccumulatingBulkRequest bulkRequest, final long queuedNanos) {
+            this.bulkRequest = bulkRequest;
+            this.queuedNanos = queuedNanos;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * How the OpenSearch sink groups bulk operations into separate bulk requests.
+ *
+ * @since 2.15
+ */
+public enum BulkRequestGrouping {
+    NONE("none"),
+    INDEX("index"),
+    SHARD("shard");
+
+    private static final Map<String, BulkRequestGrouping> GROUPING_MAP = Arrays.stream(BulkRequestGrouping.values())
+            .collect(Collectors.toMap(
+                    value -> value.grouping,
+                    value -> value
+            ));
+
+    private final String grouping;
+
+    BulkRequestGrouping(final String grouping) {
+        this.grouping = grouping;
+    }
+
+    public static BulkRequestGrouping fromTypeName(final String grouping) {
+        if (!GROUPING_MAP.containsKey(grouping)) {
+            throw new IllegalArgumentException(String.format("Invalid bulk_request_grouping value: %s", grouping));
+        }
+        return GROUPING_MAP.get(grouping);
+    }
+
+    public String getGrouping() {
+        return grouping;
+    }
+}
@@ -33,6 +33,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -228,8 +232,7 @@ public final class BulkRetryStrategy {
                 exceptionMessage = operationResponse.getExceptionMessage();
                 exception = operationResponse.getException();
                 if (delayMillis < 0) {
-                    RuntimeException e = new RuntimeException(String.format("Number of retries reached the limit of max retries (configured value %d. Last exception message: %s)", maxRetries, exceptionMessage));
-                    handleFailures(request, null, e);
+                    handleMaxRetriesReached(request, exceptionMessage);
                     break;
                 }
                 // Wait for backOff duration
@@ -242,6 +245,73 @@ public final class BulkRetryStrategy {
         } while (operationResponse != null);
     }
 
+    /**
+     * Sends the bulk request like {@link #execute(AccumulatingBulkRequest)}, but without blocking during the backoff.
+     * The first attempt runs on the calling thread and each retry is scheduled on the scheduler once its backoff expires.
+     *
+     * @param bulkRequest the bulk request to send
+     * @param scheduler the scheduler which runs the retries
+     * @return a future which completes once all operations succeeded or were handed to the failure handler
+     * @since 2.15
+     */
+    public CompletableFuture<Void> executeAsync(final AccumulatingBulkRequest bulkRequest, final ScheduledExecutorService scheduler) {
+        final Backoff backoff = Backoff.exponential(INITIAL_DELAY_MS, MAXIMUM_DELAY_MS).withMaxAttempts(maxRetries);
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        executeAttempt(bulkRequest, null, null, 1, backoff, scheduler, completion);
+        return completion;
+    }
+
+    /**
+     * Hands every operation of a bulk request which could not be sent to the failure handler.
+     *
+     * @param bulkRequest the bulk request which was not sent
+     * @param failure the reason the bulk request was not sent
+     * @since 2.15
+     */
+    public void handleUnsentBulkRequest(final AccumulatingBulkRequest bulkRequest, final Throwable failure) {
+        handleFailures(bulkRequest, failure);
+    }
+
+    private void executeAttempt(final AccumulatingBulkRequest request,
+                                final BulkResponse response,
+                                final Exception previousException,
+                                final int attempt,
+                                final Backoff backoff,
+                                final ScheduledExecutorService scheduler,
+                                final CompletableFuture<Void> completion) {
+        final BulkOperationRequestResponse operationResponse;
+        try {
+            operationResponse = handleRetry(request, response, attempt, previousException);
+        } catch (final Exception e) {
+            completion.completeExceptionally(e);
+            return;
+        }
+        if (operationResponse == null) {
+            completion.complete(null);
+            return;
+        }
+        final long delayMillis = backoff.nextDelayMillis(attempt);
+        if (delayMillis < 0) {
+            handleMaxRetriesReached(operationResponse.getBulkRequest(), operationResponse.getExceptionMessage());
+            completion.complete(null);
+            return;
+        }
+        try {
+            scheduler.schedule(() -> executeAttempt(operationResponse.getBulkRequest(), operationResponse.getResponse(),
+                    operationResponse.getException(), attempt + 1, backoff, scheduler, completion), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            LOG.error("Unable to schedule the retry of a bulk request to OpenSearch.", e);
+            final BulkResponse lastResponse = operationResponse.getResponse();
+            handleFailures(operationResponse.getBulkRequest(), lastResponse, lastResponse == null ? e : null);
+            completion.complete(null);
+        }
+    }
+
+    private void handleMaxRetriesReached(final AccumulatingBulkRequest request, final String exceptionMessage) {
+        final RuntimeException e = new RuntimeException(String.format("Number of retries reached the limit of max retries (configured value %d. Last exception message: %s)", maxRetries, exceptionMessage));
+        handleFailures(request, null, e);
+    }
+
     public boolean canRetry(final BulkResponse response) {
         for (final BulkResponseItem bulkItemResponse : response.items()) {
             if (isItemInError(bulkItemResponse) && canRetryItem(bulkItemResponse)) {
@@ -20,6 +20,7 @@ import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.VersionType;
 import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
 import org.opensearch.client.opensearch.core.bulk.BulkOperation;
 import org.opensearch.client.opensearch.core.bulk.CreateOperation;
 import org.opensearch.client.opensearch.core.bulk.DeleteOperation;
@@ -37,6 +38,7 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor
 import org.opensearch.dataprepper.model.configuration.PipelineDescription;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.FormatTemplate;
 import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 import org.opensearch.dataprepper.model.failures.DlqObject;
 import org.opensearch.dataprepper.model.opensearch.OpenSearchBulkActions;
@@ -57,10 +59,12 @@ import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.AccumulatingBulkR
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkApiWrapper;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkApiWrapperFactory;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkOperationWriter;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.GzipCompressionRatio;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.JavaClientAccumulatingCompressedBulkRequest;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.JavaClientAccumulatingUncompressedBulkRequest;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.SerializedJson;
 import org.opensearch.dataprepper.plugins.sink.opensearch.configuration.ActionConfiguration;
+import org.opensearch.dataprepper.plugins.sink.opensearch.configuration.AdaptiveBulkControlConfiguration;
 import org.opensearch.dataprepper.plugins.sink.opensearch.configuration.DlqConfiguration;
 import org.opensearch.dataprepper.plugins.sink.opensearch.configuration.OpenSearchSinkConfig;
 import org.opensearch.dataprepper.plugins.sink.opensearch.dlq.FailedBulkOperation;
@@ -74,6 +78,7 @@ import org.opensearch.dataprepper.plugins.sink.opensearch.index.DocumentBuilder;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.ExistingDocumentQueryManager;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexManager;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexManagerFactory;
+import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexShardResolver;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexTemplateAPIWrapper;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexTemplateAPIWrapperFactory;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexType;
@@ -88,6 +93,7 @@ import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -96,11 +102,12 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
+import java.util.function.IntPredicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -128,6 +135,10 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   private IndexManager indexManager;
   private Supplier<AccumulatingBulkRequest> bulkRequestSupplier;
   private BulkRetryStrategy bulkRetryStrategy;
+  private BulkRequestDispatcher bulkRequestDispatcher;
+  private BulkRequestAccumulator bulkRequestAccumulator;
+  private IndexShardResolver indexShardResolver;
+  private AdaptiveBulkController adaptiveBulkController;
   private BulkApiWrapper bulkApiWrapper;
   private final long bulkSize;
   private final long flushTimeout;
@@ -141,6 +152,10 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   private final List<ActionConfiguration> actions;
   private final String documentRootKey;
   private String configuredIndexAlias;
+  private FormatTemplate indexAliasTemplate;
+  private final FormatTemplate documentIdTemplate;
+  private final FormatTemplate routingTemplate;
+  private final FormatTemplate versionTemplate;
   private final ReentrantLock lock;
   private final VersionType versionType;
   private final String versionExpression;
@@ -165,8 +180,6 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   IndexCache indexCache;
 
   private DlqProvider dlqProvider;
-  private final ConcurrentHashMap<Long, AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest>> bulkRequestMap;
-  private final ConcurrentHashMap<Long, Long> lastFlushTimeMap;
   private final PluginConfigObservable pluginConfigObservable;
 
   private ExistingDocumentQueryManager existingDocumentQueryManager;
@@ -212,12 +225,13 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     this.documentRootKey = openSearchSinkConfig.getIndexConfiguration().getDocumentRootKey();
     this.versionType = openSearchSinkConfig.getIndexConfiguration().getVersionType();
     this.versionExpression = openSearchSinkConfig.getIndexConfiguration().getVersionExpression();
+    this.documentIdTemplate = documentId != null ? FormatTemplate.compile(documentId) : null;
+    this.routingTemplate = routing != null ? FormatTemplate.compile(routing) : null;
+    this.versionTemplate = versionExpression != null ? FormatTemplate.compile(versionExpression) : null;
     this.indexManagerFactory = new IndexManagerFactory(new ClusterSettingsParser());
     this.failedBulkOperationConverter = new FailedBulkOperationConverter(pipeline, PLUGIN_NAME);
     this.initialized = false;
     this.lock = new ReentrantLock(true);
-    this.bulkRequestMap = new ConcurrentHashMap<>();
-    this.lastFlushTimeMap = new ConcurrentHashMap<>();
     this.pluginConfigObservable = pluginConfigObservable;
     this.objectMapper = new ObjectMapper();
     this.queryExecutorService = openSearchSinkConfig.getIndexConfiguration().getQueryTerm() != null ?
@@ -270,6 +284,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     pluginConfigObservable.addPluginConfigObserver(
             newOpenSearchSinkConfig -> openSearchClientRefresher.update((OpenSearchSinkConfig) newOpenSearchSinkConfig));
     configuredIndexAlias = openSearchSinkConfig.getIndexConfiguration().getIndexAlias();
+    indexAliasTemplate = configuredIndexAlias != null ? FormatTemplate.compile(configuredIndexAlias) : null;
     final IndexTemplateAPIWrapper indexTemplateAPIWrapper = IndexTemplateAPIWrapperFactory.getWrapper(
             openSearchSinkConfig.getIndexConfiguration(), openSearchClient);
     final TemplateStrategy templateStrategy = openSearchSinkConfig.getIndexConfiguration().getTemplateType()
@@ -295,8 +310,9 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     final boolean isEstimateBulkSizeUsingCompression = openSearchSinkConfig.getIndexConfiguration().isEstimateBulkSizeUsingCompression();
     final boolean isRequestCompressionEnabled = openSearchSinkConfig.getConnectionConfiguration().isRequestCompressionEnabled();
     if (isEstimateBulkSizeUsingCompression && isRequestCompressionEnabled) {
-      final int maxLocalCompressionsForEstimation = openSearchSinkConfig.getIndexConfiguration().getMaxLocalCompressionsForEstimation();
-      bulkRequestSupplier = () -> new JavaClientAccumulatingCompressedBulkRequest(new BulkRequest.Builder().requireAlias(requireAlias), bulkSize, maxLocalCompressionsForEstimation);
+      final GzipCompressionRatio lastCompressionRatio = new GzipCompressionRatio();
+      bulkRequestSupplier = () -> new JavaClientAccumulatingCompressedBulkRequest(new BulkRequest.Builder().requireAlias(requireAlias),
+              lastCompressionRatio);
     } else if (isEstimateBulkSizeUsingCompression) {
       LOG.warn("Estimate bulk request size using compression was enabled but request compression is disabled. " +
               "Estimating bulk request size without compression.");
@@ -308,7 +324,16 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     final int maxRetries = openSearchSinkConfig.getRetryConfiguration().getMaxRetries();
     bulkApiWrapper = BulkApiWrapperFactory.getWrapper(openSearchSinkConfig.getIndexConfiguration(),
             () -> openSearchClientRefresher.get());
-    bulkRetryStrategy = new BulkRetryStrategy(bulkRequest -> bulkApiWrapper.bulk(bulkRequest.getRequest()),
+    RequestFunction<AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest>, BulkResponse> requestFunction =
+            bulkRequest -> bulkApiWrapper.bulk(bulkRequest.getRequest());
+    final int maxInFlightBulkRequests = openSearchSinkConfig.getIndexConfiguration().getMaxInFlightBulkRequests();
+    final AdaptiveBulkControlConfiguration adaptiveBulkControl = openSearchSinkConfig.getIndexConfiguration().getAdaptiveBulkControl();
+    if (adaptiveBulkControl != null) {
+      adaptiveBulkController = new AdaptiveBulkController(ByteSizeUnit.MB.toBytes(adaptiveBulkControl.getMinBulkSize()),
+              bulkSize, maxInFlightBulkRequests, adaptiveBulkControl.getTargetLatency(), pluginMetrics);
+      requestFunction = adaptiveBulkController.observe(requestFunction);
+    }
+    bulkRetryStrategy = new BulkRetryStrategy(requestFunction,
             this::logFailureForBulkRequests,
             this::successfulOperationsHandler,
             pluginMetrics,
@@ -318,6 +343,15 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
             PLUGIN_NAME,
             openSearchSinkConfig.getIndexConfiguration().getQueryOnBulkFailures() ? existingDocumentQueryManager : null);
 
+    if (maxInFlightBulkRequests > 0) {
+      bulkRequestDispatcher = new BulkRequestDispatcher(bulkRetryStrategy, pluginMetrics, maxInFlightBulkRequests,
+              openSearchSinkConfig.getIndexConfiguration().getBulkRequestQueueSize(),
+              adaptiveBulkController != null ? adaptiveBulkController::getMaxInFlightBulkRequests : () -> maxInFlightBulkRequests);
+    }
+    bulkRequestAccumulator = new BulkRequestAccumulator(bulkRequestSupplier, this::flushBatch,
+            adaptiveBulkController != null ? adaptiveBulkController::getBulkSizeBytes : () -> bulkSize,
+            createBulkRequestGroupKeyFunction(), flushTimeout);
+
     if (queryExecutorService != null) {
       existingDocumentQueryManager = new ExistingDocumentQueryManager(openSearchSinkConfig.getIndexConfiguration(), pluginMetrics, openSearchClient);
       queryExecutorService.submit(existingDocumentQueryManager);
@@ -340,6 +374,22 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     return initialized;
   }
 
+  private Function<BulkOperationWrapper, Object> createBulkRequestGroupKeyFunction() {
+    final BulkRequestGrouping bulkRequestGrouping = openSearchSinkConfig.getIndexConfiguration().getBulkRequestGrouping();
+    if (bulkRequestGrouping == BulkRequestGrouping.INDEX) {
+      return BulkOperationWrapper::getIndex;
+    } else if (bulkRequestGrouping == BulkRequestGrouping.SHARD) {
+      final IndexShardResolver shardResolver = new IndexShardResolver(openSearchClientRefresher::get);
+      indexShardResolver = shardResolver;
+      return bulkOperation -> {
+        final String index = bulkOperation.getIndex();
+        final int shard = shardResolver.getShard(index, bulkOperation.getId(), bulkOperation.getRouting());
+        return shard == IndexShardResolver.UNKNOWN_SHARD ? index : index + "/" + shard;
+      };
+    }
+    return BulkRequestAccumulator.SINGLE_GROUP;
+  }
+
   private BulkOperation getBulkOperationForAction(final String action,
                                                   final SerializedJson document,
                                                   final Long version,
@@ -426,18 +476,54 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     return bulkOperation;
   }
 
-  @Override
-  public void doOutput(final Collection<Record<Event>> records) {
-    final long threadId = Thread.currentThread().getId();
-    if (!bulkRequestMap.containsKey(threadId)) {
-      bulkRequestMap.put(threadId, bulkRequestSupplier.get());
+  /**
+   * Resolves the action of every event of the batch, which is the type of the first action whose condition the event
+   * matches, or the type of the last action when it matches none. The condition of each action is evaluated for the
+   * batch at once, but only on the events which did not match the condition of an earlier action.
+   */
+  private String[] resolveEventActions(final List<Event> events) {
+    final String[] eventActions = new String[events.size()];
+    if (actions == null || actions.isEmpty()) {
+      Arrays.fill(eventActions, action);
+      return eventActions;
+    }
+
+    List<Integer> unmatchedIndexes = new ArrayList<>(events.size());
+    for (int eventIndex = 0; eventIndex < events.size(); eventIndex++) {
+      unmatchedIndexes.add(eventIndex);
     }
-    if (!lastFlushTimeMap.containsKey(threadId)) {
-      lastFlushTimeMap.put(threadId, System.currentTimeMillis());
+    for (final ActionConfiguration actionEntry : actions) {
+      final String condition = actionEntry.getWhen();
+      if (condition == null || unmatchedIndexes.isEmpty()) {
+        continue;
+      }
+      final List<Event> unmatchedEvents = new ArrayList<>(unmatchedIndexes.size());
+      for (final int eventIndex : unmatchedIndexes) {
+        unmatchedEvents.add(events.get(eventIndex));
+      }
+      final IntPredicate conditionMatches =
+              expressionEvaluator.evaluateConditionalBatchWithFallback(condition, unmatchedEvents);
+      final List<Integer> stillUnmatchedIndexes = new ArrayList<>(unmatchedIndexes.size());
+      for (int i = 0; i < unmatchedIndexes.size(); i++) {
+        if (conditionMatches.test(i)) {
+          eventActions[unmatchedIndexes.get(i)] = actionEntry.getType();
+        } else {
+          stillUnmatchedIndexes.add(unmatchedIndexes.get(i));
+        }
+      }
+      unmatchedIndexes = stillUnmatchedIndexes;
     }
 
-    AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> bulkRequest = bulkRequestMap.get(threadId);
-    long lastFlushTime = lastFlushTimeMap.get(threadId);
+    final String lastActionType = actions.get(actions.size() - 1).getType();
+    for (final int eventIndex : unmatchedIndexes) {
+      eventActions[eventIndex] = lastActionType;
+    }
+    return eventActions;
+  }
+
+  @Override
+  public void doOutput(final Collection<Record<Event>> records) {
+    final BulkRequestAccumulator.PendingBulkRequest pendingBulkRequest = bulkRequestAccumulator.getPendingBulkRequest();
 
     Set<BulkOperationWrapper> documentsReadyForIndexing = new HashSet<>();
     if (openSearchSinkConfig.getIndexConfiguration().getQueryTerm() != null) {
@@ -450,16 +536,26 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     }
 
     for (final BulkOperationWrapper bulkOperationWrapper : documentsReadyForIndexing) {
-      bulkRequest = flushBatch(bulkRequest, bulkOperationWrapper, lastFlushTime);
-      bulkRequest.addOperation(bulkOperationWrapper);
+      pendingBulkRequest.add(bulkOperationWrapper);
     }
 
 
+    final List<Event> events = new ArrayList<>(records.size());
+    for (final Record<Event> record : records) {
+      events.add(record.getData());
+    }
+    final String[] eventActions = resolveEventActions(events);
+    final String queryWhen = openSearchSinkConfig.getIndexConfiguration().getQueryWhen();
+    final IntPredicate queryWhenMatches = queryWhen == null ? null :
+            expressionEvaluator.evaluateConditionalBatchWithFallback(queryWhen, events);
+
+    int eventIndex = -1;
     for (final Record<Event> record : records) {
+      eventIndex++;
       final Event event = record.getData();
       String indexName = configuredIndexAlias;
       try {
-          indexName = indexManager.getIndexName(event.formatString(indexName, expressionEvaluator));
+          indexName = indexManager.getIndexName(indexAliasTemplate.format(event, expressionEvaluator));
       } catch (final Exception e) {
           LOG.error(NOISY, "There was an exception when constructing the index name. Check the dlq if configured to see details about the affected Event: {}", e.getMessage());
           dynamicIndexDroppedEvents.increment();
@@ -474,8 +570,8 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
       String versionExpressionEvaluationResult = null;
       if (versionExpression != null) {
         try {
-          versionExpressionEvaluationResult = event.formatString(versionExpression, expressionEvaluator);
-          version = Long.valueOf(event.formatString(versionExpression, expressionEvaluator));
+          versionExpressionEvaluationResult = versionTemplate.format(event, expressionEvaluator);
+          version = Long.valueOf(versionExpressionEvaluationResult);
         } catch (final NumberFormatException e) {
           final String errorMessage = String.format(
                   "Unable to convert the result of evaluating document_version '%s' to Long for an Event. The evaluation result '%s' must be a valid Long type", versionExpression, versionExpressionEvaluationResult
@@ -492,19 +588,9 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
         }
       }
 
-      String eventAction = action;
-      if (actions != null) {
-        for (final ActionConfiguration actionEntry: actions) {
-            final String condition = actionEntry.getWhen();
-            eventAction = actionEntry.getType();
-            if (condition != null &&
-                expressionEvaluator.evaluateConditional(condition, event)) {
-                    break;
-            }
-        }
-      }
+      String eventAction = eventActions[eventIndex];
       if (eventAction.contains("${")) {
-          eventAction = event.formatString(eventAction, expressionEvaluator);
+          eventAction = FormatTemplate.of(eventAction).format(event, expressionEvaluator);
       }
       
       if (dataStreamDetector.isDataStream(indexName)) {
@@ -539,25 +625,16 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
               new BulkOperationWrapper(bulkOperation, event, serializedJsonNode, termValue) :
               new BulkOperationWrapper(bulkOperation, event.getEventHandle(), serializedJsonNode, termValue);
 
-      if (openSearchSinkConfig.getIndexConfiguration().getQueryWhen() != null &&
-              expressionEvaluator.evaluateConditional(openSearchSinkConfig.getIndexConfiguration().getQueryWhen(), event)) {
+      if (queryWhenMatches != null && queryWhenMatches.test(eventIndex)) {
         existingDocumentQueryManager.addBulkOperation(bulkOperationWrapper);
         continue;
       }
 
-      bulkRequest = flushBatch(bulkRequest, bulkOperationWrapper, lastFlushTime);
-      bulkRequest.addOperation(bulkOperationWrapper);
+      pendingBulkRequest.add(bulkOperationWrapper);
     }
 
     // Flush the remaining requests if flush timeout expired
-    if (System.currentTimeMillis() - lastFlushTime > flushTimeout && bulkRequest.getOperationsCount() > 0) {
-      flushBatch(bulkRequest);
-      lastFlushTime = System.currentTimeMillis();
-      bulkRequest = bulkRequestSupplier.get();
-    }
-
-    bulkRequestMap.put(threadId, bulkRequest);
-    lastFlushTimeMap.put(threadId, lastFlushTime);
+    pendingBulkRequest.flushIfExpired();
   }
 
   SerializedJson getDocument(final Event event) {
@@ -567,7 +644,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
       docId = event.get(documentIdField, String.class);
     } else if (Objects.nonNull(documentId)) {
       try {
-        docId = event.formatString(documentId, expressionEvaluator);
+        docId = documentIdTemplate.format(event, expressionEvaluator);
       } catch (final ExpressionEvaluationException | EventKeyNotFoundException e) {
         LOG.error("Unable to construct document_id with format {}, the document_id will be generated by OpenSearch", documentId, e);
       }
@@ -578,18 +655,30 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
       routingValue = event.get(routingField, String.class);
     } else if (routing != null) {
       try {
-        routingValue = event.formatString(routing, expressionEvaluator);
+        routingValue = routingTemplate.format(event, expressionEvaluator);
       } catch (final ExpressionEvaluationException | EventKeyNotFoundException e) {
         LOG.error("Unable to construct routing with format {}, the routing will be generated by OpenSearch", routing, e);
       }
     }
 
-    final String document = DocumentBuilder.build(event, documentRootKey, sinkContext.getTagsTargetKey(), sinkContext.getIncludeKeys(), sinkContext.getExcludeKeys());
+    final byte[] document = DocumentBuilder.buildBytes(event, documentRootKey, sinkContext.getTagsTargetKey(), sinkContext.getIncludeKeys(), sinkContext.getExcludeKeys());
 
-    return SerializedJson.fromStringAndOptionals(document, docId, routingValue, null);
+    return SerializedJson.fromBytesAndOptionals(document, docId, routingValue, null);
   }
 
   private void flushBatch(AccumulatingBulkRequest accumulatingBulkRequest) {
+    if (bulkRequestDispatcher != null) {
+      try {
+        bulkRequestDispatcher.dispatch(accumulatingBulkRequest);
+      } catch (final InterruptedException e) {
+        LOG.error("Unexpected Interrupt:", e);
+        bulkRequestErrorsCounter.increment();
+        Thread.currentThread().interrupt();
+      } catch (final RejectedExecutionException e) {
+        LOG.error("Unable to send a bulk request to OpenSearch because the OpenSearch sink is stopping.", e);
+      }
+      return;
+    }
     bulkRequestTimer.record(() -> {
       try {
         LOG.debug("Sending data to OpenSearch");
@@ -719,6 +808,15 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   @Override
   public void shutdown() {
     super.shutdown();
+    if (bulkRequestAccumulator != null) {
+      bulkRequestAccumulator.shutdown();
+    }
+    if (bulkRequestDispatcher != null) {
+      bulkRequestDispatcher.shutdown();
+    }
+    if (indexShardResolver != null) {
+      indexShardResolver.shutdown();
+    }
     closeFiles();
     if (openSearchClient != null) {
       openSearchClient.shutdown();
@@ -778,18 +876,4 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
             (sinkContext.getExcludeKeys() != null && !sinkContext.getExcludeKeys().isEmpty()) ||
             sinkContext.getTagsTargetKey() != null;
   }
-
-  private AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> flushBatch(
-          final AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> bulkRequest,
-          final BulkOperationWrapper bulkOperationWrapper,
-          long lastFlushTime
-          ) {
-    final long estimatedBytesBeforeAdd = bulkRequest.estimateSizeInBytesWithDocument(bulkOperationWrapper);
-    if (bulkSize >= 0 && estimatedBytesBeforeAdd >= bulkSize && bulkRequest.getOperationsCount() > 0) {
-      flushBatch(bulkRequest);
-      lastFlushTime = System.currentTimeMillis();
-      return bulkRequestSupplier.get();
-    }
-   return bulkRequest;
-  }
 }
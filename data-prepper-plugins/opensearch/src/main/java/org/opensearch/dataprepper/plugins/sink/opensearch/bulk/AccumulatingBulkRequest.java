@@ -27,4 +27,11 @@ public interface AccumulatingBulkRequest<O, R> {
     List<O> getOperations();
 
     R getRequest();
+
+    /**
+     * Releases what the bulk request holds to accumulate operations, once no further operations will be added. The
+     * operations and the request remain available.
+     */
+    default void close() {
+    }
 }
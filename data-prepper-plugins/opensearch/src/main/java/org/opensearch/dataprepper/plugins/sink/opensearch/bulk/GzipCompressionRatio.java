@@ -0,0 +1,28 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+/**
+ * The gzip compression ratio of the last bulk request a sink finished compressing. Each sink keeps its own, so that
+ * the size of its bulk requests is estimated from documents like its own before their deflater produces any output.
+ *
+ * @since 2.15
+ */
+public class GzipCompressionRatio {
+    static final double INITIAL_COMPRESSION_RATIO = 1.0;
+
+    private volatile double compressionRatio = INITIAL_COMPRESSION_RATIO;
+
+    double get() {
+        return compressionRatio;
+    }
+
+    void update(final long compressedBytes, final long uncompressedBytes) {
+        if (uncompressedBytes > 0) {
+            compressionRatio = (double) compressedBytes / (double) uncompressedBytes;
+        }
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses the bytes written to it as {@link java.util.zip.GZIPOutputStream} would and counts the compressed bytes
+ * without keeping them. Until {@link #finish()} is called, the deflater holds back part of the compressed output, so
+ * the size of the bytes it holds back is extrapolated from the compression ratio of the output so far, or from the
+ * {@link GzipCompressionRatio} of the last counter finished for the same sink before the deflater produced any output.
+ * Once finished, or closed, the deflater is returned to a pool shared by all counters.
+ * <p>
+ * The transport compresses the request again when it is sent, so only a sample of the documents is compressed here.
+ * The first {@link #FULLY_COMPRESSED_BYTES} are written, and after that one document in {@link #SAMPLE_INTERVAL}. The
+ * other documents are only counted with {@link #skip(long)}, and their size is estimated from the compression ratio
+ * of the written bytes. The size is exact once finished if no document was skipped.
+ *
+ * @since 2.15
+ */
+class GzipSizeCounter extends OutputStream {
+    static final int GZIP_HEADER_AND_TRAILER_BYTES = 18;
+    static final int MAX_POOLED_DEFLATERS = 64;
+    static final long FULLY_COMPRESSED_BYTES = 64 * 1024;
+    static final int SAMPLE_INTERVAL = 10;
+
+    private static final int OUTPUT_BUFFER_SIZE = 8192;
+    private static final Queue<Deflater> DEFLATER_POOL = new ArrayBlockingQueue<>(MAX_POOLED_DEFLATERS);
+    private static final ThreadLocal<byte[]> OUTPUT_BUFFER = ThreadLocal.withInitial(() -> new byte[OUTPUT_BUFFER_SIZE]);
+
+    private final GzipCompressionRatio lastCompressionRatio;
+    private Deflater deflater;
+    private long uncompressedBytes;
+    private long skippedBytes;
+    private long compressedBytes;
+    private long uncompressedBytesAtLastOutput;
+    private int documentsSinceLastSample;
+    private boolean sampling;
+    private boolean finished;
+
+    GzipSizeCounter(final GzipCompressionRatio lastCompressionRatio) {
+        this.lastCompressionRatio = lastCompressionRatio;
+    }
+
+    /**
+     * Returns whether the next document is to be written, rather than skipped. Once sampling starts, the deflater is
+     * flushed, so that the documents which are skipped are estimated from the ratio of all the bytes written so far.
+     */
+    boolean sampleNextDocument() {
+        if (uncompressedBytes < FULLY_COMPRESSED_BYTES) {
+            return true;
+        }
+        if (!sampling) {
+            syncFlush();
+            sampling = true;
+        }
+        if (++documentsSinceLastSample >= SAMPLE_INTERVAL) {
+            documentsSinceLastSample = 0;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Counts uncompressed bytes without compressing them.
+     */
+    void skip(final long length) {
+        if (finished) {
+            throw new IllegalStateException("Unable to write to a finished gzip size counter.");
+        }
+        skippedBytes += length;
+    }
+
+    @Override
+    public void write(final int b) {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+        if (finished) {
+            throw new IllegalStateException("Unable to write to a finished gzip size counter.");
+        }
+        if (length == 0) {
+            return;
+        }
+        if (deflater == null) {
+            deflater = acquireDeflater();
+        }
+        deflater.setInput(bytes, offset, length);
+        while (!deflater.needsInput()) {
+            deflate();
+        }
+        uncompressedBytes += length;
+    }
+
+    /**
+     * Completes the compression of the written bytes, so that {@link #getCompressedSize()} no longer extrapolates
+     * the bytes which the deflater held back, and releases the deflater.
+     */
+    void finish() {
+        if (finished) {
+            return;
+        }
+        if (deflater == null) {
+            deflater = acquireDeflater();
+        }
+        deflater.finish();
+        while (!deflater.finished()) {
+            deflate();
+        }
+        releaseDeflater(deflater);
+        deflater = null;
+        finished = true;
+        lastCompressionRatio.update(compressedBytes, uncompressedBytes);
+    }
+
+    /**
+     * Finishes the counter, which releases the deflater.
+     */
+    @Override
+    public void close() {
+        finish();
+    }
+
+    long getUncompressedSize() {
+        return uncompressedBytes + skippedBytes;
+    }
+
+    /**
+     * Returns the gzip size of the bytes written and skipped so far, which is exact once finished if none were skipped.
+     */
+    long getCompressedSize() {
+        if (finished) {
+            final double compressionRatio = uncompressedBytes > 0 ?
+                    (double) compressedBytes / (double) uncompressedBytes : lastCompressionRatio.get();
+            return compressedBytes + GZIP_HEADER_AND_TRAILER_BYTES + (long) (skippedBytes * compressionRatio);
+        }
+        return estimateCompressedSizeWith(0L);
+    }
+
+    /**
+     * Estimates the gzip size of the bytes written and skipped so far together with the given number of further bytes.
+     */
+    long estimateCompressedSizeWith(final long additionalUncompressedBytes) {
+        final double compressionRatio = uncompressedBytesAtLastOutput > 0 ?
+                (double) compressedBytes / (double) uncompressedBytesAtLastOutput : lastCompressionRatio.get();
+        final long pendingUncompressedBytes = uncompressedBytes - uncompressedBytesAtLastOutput + skippedBytes +
+                additionalUncompressedBytes;
+        return compressedBytes + GZIP_HEADER_AND_TRAILER_BYTES + (long) (pendingUncompressedBytes * compressionRatio);
+    }
+
+    private void deflate() {
+        deflate(Deflater.NO_FLUSH);
+    }
+
+    private int deflate(final int flushMode) {
+        final byte[] outputBuffer = OUTPUT_BUFFER.get();
+        final int deflatedBytes = deflater.deflate(outputBuffer, 0, outputBuffer.length, flushMode);
+        if (deflatedBytes > 0) {
+            compressedBytes += deflatedBytes;
+            uncompressedBytesAtLastOutput = deflater.getBytesRead();
+        }
+        return deflatedBytes;
+    }
+
+    private void syncFlush() {
+        if (deflater == null) {
+            return;
+        }
+        int deflatedBytes;
+        do {
+            deflatedBytes = deflate(Deflater.SYNC_FLUSH);
+        } while (deflatedBytes == OUTPUT_BUFFER_SIZE);
+    }
+
+    private static Deflater acquireDeflater() {
+        final Deflater pooledDeflater = DEFLATER_POOL.poll();
+        return pooledDeflater != null ? pooledDeflater : new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+    }
+
+    private static void releaseDeflater(final Deflater deflater) {
+        deflater.reset();
+        if (!DEFLATER_POOL.offer(deflater)) {
+            deflater.end();
+        }
+    }
+}
@@ -5,75 +5,54 @@
 
 package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
 
-import com.google.common.annotations.VisibleForTesting;
 import org.opensearch.dataprepper.plugins.sink.opensearch.BulkOperationWrapper;
 import org.opensearch.client.opensearch.core.BulkRequest;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.zip.GZIPOutputStream;
 
+/**
+ * Accumulates bulk operations while compressing a sample of the documents as they are added, so that the compressed
+ * size of the documents is estimated without compressing each of them before the transport does. The estimate no
+ * longer changes once {@link #close()} or {@link #getRequest()} has been called, after which no further operations
+ * may be added.
+ */
 public class JavaClientAccumulatingCompressedBulkRequest implements AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> {
-    private static final Logger LOG = LoggerFactory.getLogger(JavaClientAccumulatingCompressedBulkRequest.class);
-
     private final List<BulkOperationWrapper> bulkOperations;
-    private long sampleSize;
-    private final long targetBulkSize;
-    private final int maxLocalCompressionsForEstimation;
+    private final GzipSizeCounter gzipSizeCounter;
     private BulkRequest.Builder bulkRequestBuilder;
-    private long currentBulkSize = 0L;
-    private double sampledOperationSize = 0.0;
     private int operationCount = 0;
-    private int timesSampled = 0;
     private BulkRequest builtRequest;
 
-    public JavaClientAccumulatingCompressedBulkRequest(final BulkRequest.Builder bulkRequestBuilder, final long targetBulkSize,
-                                                       final int maxLocalCompressionsForEstimation) {
-        this.bulkRequestBuilder = bulkRequestBuilder;
-        bulkOperations = new ArrayList<>();
-        this.targetBulkSize = targetBulkSize;
-        this.maxLocalCompressionsForEstimation = maxLocalCompressionsForEstimation;
-        // Set the sample size to 10 to get an initial data point
-        this.sampleSize = 10;
+    public JavaClientAccumulatingCompressedBulkRequest(final BulkRequest.Builder bulkRequestBuilder) {
+        this(bulkRequestBuilder, new GzipCompressionRatio());
     }
 
-    @VisibleForTesting
-    JavaClientAccumulatingCompressedBulkRequest(final BulkRequest.Builder bulkRequestBuilder, final long targetBulkSize,
-                                                final int maxLocalCompressionsForEstimation, final int sampleSize) {
+    public JavaClientAccumulatingCompressedBulkRequest(final BulkRequest.Builder bulkRequestBuilder,
+                                                       final GzipCompressionRatio lastCompressionRatio) {
         this.bulkRequestBuilder = bulkRequestBuilder;
         bulkOperations = new ArrayList<>();
-        this.targetBulkSize = targetBulkSize;
-        this.maxLocalCompressionsForEstimation = maxLocalCompressionsForEstimation;
-        this.sampleSize = sampleSize;
+        gzipSizeCounter = new GzipSizeCounter(lastCompressionRatio);
     }
 
     @Override
     public long estimateSizeInBytesWithDocument(BulkOperationWrapper documentOrOperation) {
-        return currentBulkSize + (long) sampledOperationSize;
+        return gzipSizeCounter.estimateCompressedSizeWith(getUncompressedDocumentSize(documentOrOperation));
     }
 
     @Override
     public void addOperation(BulkOperationWrapper bulkOperation) {
+        final Object document = mapBulkOperationToDocument(bulkOperation);
         bulkRequestBuilder = bulkRequestBuilder.operations(bulkOperation.getBulkOperation());
 
         operationCount++;
         bulkOperations.add(bulkOperation);
-
-        if (timesSampled < maxLocalCompressionsForEstimation && bulkOperations.size() == sampleSize) {
-            currentBulkSize = estimateBulkSize();
-            sampledOperationSize = (double) currentBulkSize / (double) bulkOperations.size();
-            updateTargetSampleSize();
-            timesSampled++;
-        } else {
-            currentBulkSize += sampledOperationSize;
-        }
+        writeDocument(document);
     }
 
     @Override
@@ -83,11 +62,7 @@ public class JavaClientAccumulatingCompressedBulkRequest implements Accumulating
 
     @Override
     public long getEstimatedSizeInBytes() {
-        if (currentBulkSize == 0) {
-            currentBulkSize = estimateBulkSize();
-        }
-
-        return currentBulkSize;
+        return gzipSizeCounter.getCompressedSize();
     }
 
     @Override
@@ -102,34 +77,50 @@ public class JavaClientAccumulatingCompressedBulkRequest implements Accumulating
 
     @Override
     public BulkRequest getRequest() {
-        if(builtRequest == null)
+        if(builtRequest == null) {
+            gzipSizeCounter.close();
             builtRequest = bulkRequestBuilder.build();
+        }
         return builtRequest;
     }
 
-    private long estimateBulkSize() {
-        final List<Object> documents = bulkOperations.stream()
-                .map(this::mapBulkOperationToDocument)
-                .collect(Collectors.toList());
+    @Override
+    public void close() {
+        gzipSizeCounter.close();
+    }
 
+    private void writeDocument(final Object document) {
         try {
-            final ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            final GZIPOutputStream gzipOut = new GZIPOutputStream(baos);
-            final ObjectOutputStream objectOut = new ObjectOutputStream(gzipOut);
-            objectOut.writeObject(documents);
-            objectOut.close();
-
-            return baos.toByteArray().length;
-        } catch (final Exception e) {
-            throw new RuntimeException("Caught exception measuring compressed bulk request size.", e);
+            if (document instanceof SerializedJson) {
+                final byte[] serializedJson = ((SerializedJson) document).getSerializedJson();
+                if (serializedJson == null) {
+                    return;
+                }
+                if (gzipSizeCounter.sampleNextDocument()) {
+                    gzipSizeCounter.write(serializedJson);
+                } else {
+                    gzipSizeCounter.skip(serializedJson.length);
+                }
+            } else if (document != null) {
+                final ObjectOutputStream objectOut = new ObjectOutputStream(gzipSizeCounter);
+                objectOut.writeObject(document);
+                objectOut.flush();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Caught exception measuring compressed bulk request size.", e);
         }
     }
 
+    private long getUncompressedDocumentSize(final BulkOperationWrapper bulkOperation) {
+        final Object anyDocument = bulkOperation.getDocument();
+        return anyDocument instanceof SizedDocument ? ((SizedDocument) anyDocument).getDocumentSize() : 0L;
+    }
+
     private Object mapBulkOperationToDocument(final BulkOperationWrapper bulkOperation) {
         final Object anyDocument = bulkOperation.getDocument();
 
         if (anyDocument == null) {
-            return new SerializedJsonImpl(null);
+            return null;
         }
 
         if (!(anyDocument instanceof Serializable)) {
@@ -138,32 +129,4 @@ public class JavaClientAccumulatingCompressedBulkRequest implements Accumulating
 
         return anyDocument;
     }
-
-    private void updateTargetSampleSize() {
-        final long remainingBytes = targetBulkSize - currentBulkSize;
-        final double remainingBytesAsPercentage = ((double) remainingBytes / (double) targetBulkSize) * 100d;
-
-        if (remainingBytesAsPercentage < 10d) {
-            LOG.debug("Found remaining percentage of {}, current size {}, target size {}. Skipping further estimations",
-                    remainingBytesAsPercentage, currentBulkSize, targetBulkSize);
-            // If we have packed at least 90% of the bulk request already, assume the sampled operation size is sufficient
-            // and continue with that estimate rather than adding the overhead of more local compressions
-            return;
-        }
-
-        final double estimatedRemainingOperationsUntilFull = (double) remainingBytes / sampledOperationSize;
-
-        if (estimatedRemainingOperationsUntilFull < 100d) {
-            LOG.debug("Found estimated remaining operations of {}. Skipping further estimations", estimatedRemainingOperationsUntilFull);
-            // If we have less than 100 estimated operations until the bulk request is full, assume the sampled operation size is sufficient
-            // and continue with that estimate rather than adding the overhead of more local compressions
-            return;
-        }
-
-        final double operationsUntilNextSample = estimatedRemainingOperationsUntilFull / 2d;
-        LOG.debug("{} bytes remaining to {}. Average size so far {}, checking again in {} ops", targetBulkSize - currentBulkSize, targetBulkSize,
-                sampledOperationSize, operationsUntilNextSample);
-
-        sampleSize += operationsUntilNextSample;
-    }
 }
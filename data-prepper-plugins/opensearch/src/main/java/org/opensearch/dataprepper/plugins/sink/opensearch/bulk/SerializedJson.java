@@ -33,6 +33,22 @@ public interface SerializedJson extends SizedDocument {
         return new SerializedJsonImpl(jsonString.getBytes(StandardCharsets.UTF_8), docId, routingField, pipelineField);
     }
 
+    /**
+     * Creates a new {@link SerializedJson} from UTF-8 encoded JSON and optional documentId and routingField.
+     * The bytes are not copied.
+     *
+     * @param jsonBytes The serialized JSON bytes which form this JSON data.
+     * @param docId Optional documment ID string
+     * @param routingField Optional routing field string
+     * @param pipelineField pipeline Field
+     * @return A new {@link SerializedJson}.
+     * @since 2.15
+     */
+    static SerializedJson fromBytesAndOptionals(byte[] jsonBytes, String docId, String routingField, String pipelineField) {
+        Objects.requireNonNull(jsonBytes);
+        return new SerializedJsonImpl(jsonBytes, docId, routingField, pipelineField);
+    }
+
     static SerializedJson fromJsonNode(final JsonNode jsonNode, SerializedJson document) {
         return new SerializedJsonNode(jsonNode, document);
     }
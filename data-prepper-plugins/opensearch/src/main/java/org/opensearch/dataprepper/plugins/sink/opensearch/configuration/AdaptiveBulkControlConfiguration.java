@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.configuration;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Configures the adaptive control of the bulk size and the number of in-flight bulk requests.
+ *
+ * @since 2.15
+ */
+public class AdaptiveBulkControlConfiguration {
+    static final long DEFAULT_MIN_BULK_SIZE = 1L;
+    static final Duration DEFAULT_TARGET_LATENCY = Duration.ofSeconds(5);
+
+    @Getter
+    @Min(1)
+    @JsonProperty("min_bulk_size")
+    private Long minBulkSize = DEFAULT_MIN_BULK_SIZE;
+
+    @Getter
+    @JsonProperty("target_latency")
+    private Duration targetLatency = DEFAULT_TARGET_LATENCY;
+
+    @AssertTrue(message = "target_latency must be positive")
+    public boolean isTargetLatencyValid() {
+        return targetLatency != null && !targetLatency.isNegative() && !targetLatency.isZero();
+    }
+}
@@ -2,9 +2,14 @@ package org.opensearch.dataprepper.plugins.sink.opensearch.index;
 
 import org.opensearch.dataprepper.model.event.Event;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 public final class DocumentBuilder {
+    private static final byte[] DATA_PREFIX = "{\"data\": ".getBytes(StandardCharsets.UTF_8);
 
     public static String build(final Event event, final String documentRootKey, final String tagsTargetKey, final List<String> includeKeys, final List<String> excludeKeys) {
         final String document = event.jsonBuilder()
@@ -23,4 +28,40 @@ public final class DocumentBuilder {
     public static String build(final Event event, final String documentRootKey, final String tagsTargetKey) {
         return build(event, documentRootKey, tagsTargetKey, null, null);
     }
+
+    /**
+     * Builds the same document as {@link #build(Event, String, String, List, List)} as UTF-8 bytes, writing the event
+     * straight to the byte buffer rather than through an intermediate string.
+     *
+     * @param event the event
+     * @param documentRootKey the key of the document root, or null for the whole event
+     * @param tagsTargetKey the key to write the tags to, or null to omit the tags
+     * @param includeKeys the keys to include, or null for all keys
+     * @param excludeKeys the keys to exclude, or null for no keys
+     * @return the document as UTF-8 encoded json
+     * @since 2.15
+     */
+    public static byte[] buildBytes(final Event event, final String documentRootKey, final String tagsTargetKey, final List<String> includeKeys, final List<String> excludeKeys) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            event.jsonBuilder()
+                    .rootKey(documentRootKey)
+                    .includeKeys(includeKeys)
+                    .excludeKeys(excludeKeys)
+                    .includeTags(tagsTargetKey)
+                    .writeTo(outputStream);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to write the event as a document", e);
+        }
+
+        final byte[] document = outputStream.toByteArray();
+        if (document.length == 0 || document[0] != '{') {
+            final byte[] wrappedDocument = new byte[DATA_PREFIX.length + document.length + 1];
+            System.arraycopy(DATA_PREFIX, 0, wrappedDocument, 0, DATA_PREFIX.length);
+            System.arraycopy(document, 0, wrappedDocument, DATA_PREFIX.length, document.length);
+            wrappedDocument[wrappedDocument.length - 1] = '}';
+            return wrappedDocument;
+        }
+        return document;
+    }
 }
@@ -12,9 +12,11 @@ import org.opensearch.client.opensearch._types.VersionType;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.opensearch.OpenSearchBulkActions;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
+import org.opensearch.dataprepper.plugins.sink.opensearch.BulkRequestGrouping;
 import org.opensearch.dataprepper.plugins.sink.opensearch.DistributionVersion;
 import org.opensearch.dataprepper.plugins.sink.opensearch.configuration.OpenSearchSinkConfig;
 import org.opensearch.dataprepper.plugins.sink.opensearch.configuration.ActionConfiguration;
+import org.opensearch.dataprepper.plugins.sink.opensearch.configuration.AdaptiveBulkControlConfiguration;
 import org.opensearch.dataprepper.plugins.sink.opensearch.configuration.AwsAuthenticationConfiguration;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.model.QueryForExistingDocumentConfiguration;
 import org.opensearch.dataprepper.plugins.sink.opensearch.s3.FileReader;
@@ -43,6 +45,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.configuration.OpenSearchSinkConfig.DEFAULT_BULK_SIZE;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.configuration.OpenSearchSinkConfig.DEFAULT_ESTIMATE_BULK_SIZE_USING_COMPRESSION;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.configuration.OpenSearchSinkConfig.DEFAULT_FLUSH_TIMEOUT;
+import static org.opensearch.dataprepper.plugins.sink.opensearch.configuration.OpenSearchSinkConfig.DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.configuration.OpenSearchSinkConfig.DEFAULT_MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION;
 
 public class IndexConfiguration {
@@ -63,6 +66,10 @@ public class IndexConfiguration {
     public static final String ESTIMATE_BULK_SIZE_USING_COMPRESSION = "estimate_bulk_size_using_compression";
     public static final String MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION = "max_local_compressions_for_estimation";
     public static final String FLUSH_TIMEOUT = "flush_timeout";
+    public static final String MAX_IN_FLIGHT_BULK_REQUESTS = "max_in_flight_bulk_requests";
+    public static final String BULK_REQUEST_QUEUE_SIZE = "bulk_request_queue_size";
+    public static final String ADAPTIVE_BULK_CONTROL = "adaptive_bulk_control";
+    public static final String BULK_REQUEST_GROUPING = "bulk_request_grouping";
     public static final String DOCUMENT_ID_FIELD = "document_id_field";
     public static final String DOCUMENT_ID = "document_id";
     public static final String ROUTING_FIELD = "routing_field";
@@ -89,6 +96,10 @@ public class IndexConfiguration {
     private final boolean estimateBulkSizeUsingCompression;
     private int maxLocalCompressionsForEstimation;
     private final long flushTimeout;
+    private final int maxInFlightBulkRequests;
+    private final int bulkRequestQueueSize;
+    private final AdaptiveBulkControlConfiguration adaptiveBulkControl;
+    private final BulkRequestGrouping bulkRequestGrouping;
     private final Optional<String> ismPolicyFile;
     private final String action;
     private final List<ActionConfiguration> actions;
@@ -159,6 +170,11 @@ public class IndexConfiguration {
         this.estimateBulkSizeUsingCompression = builder.estimateBulkSizeUsingCompression;
         this.maxLocalCompressionsForEstimation = builder.maxLocalCompressionsForEstimation;
         this.flushTimeout = builder.flushTimeout;
+        this.maxInFlightBulkRequests = builder.maxInFlightBulkRequests;
+        this.bulkRequestQueueSize = builder.bulkRequestQueueSize != null ? builder.bulkRequestQueueSize : builder.maxInFlightBulkRequests;
+        checkArgument(builder.adaptiveBulkControl == null || builder.bulkSize > 0, "adaptive_bulk_control requires a positive bulk_size.");
+        this.adaptiveBulkControl = builder.adaptiveBulkControl;
+        this.bulkRequestGrouping = builder.bulkRequestGrouping;
         this.routingField = builder.routingField;
         this.routing = builder.routing;
 
@@ -272,6 +288,10 @@ public class IndexConfiguration {
                 .withEstimateBulkSizeUsingCompression(openSearchSinkConfig.isEstimateBulkSizeUsingCompression())
                 .withMaxLocalCompressionsForEstimation(openSearchSinkConfig.getMaxLocalCompressionsForEstimation())
                 .withFlushTimeout(openSearchSinkConfig.getFlushTimeout())
+                .withMaxInFlightBulkRequests(openSearchSinkConfig.getMaxInFlightBulkRequests())
+                .withBulkRequestQueueSize(openSearchSinkConfig.getBulkRequestQueueSize())
+                .withAdaptiveBulkControl(openSearchSinkConfig.getAdaptiveBulkControl())
+                .withBulkRequestGrouping(openSearchSinkConfig.getBulkRequestGrouping())
                 .withVersionType(openSearchSinkConfig.getVersionType())
                 .withNormalizeIndex(openSearchSinkConfig.isNormalizeIndex())
                 .withIsmPolicyFile(openSearchSinkConfig.getIsmPolicyFile())
@@ -360,6 +380,22 @@ public class IndexConfiguration {
         return flushTimeout;
     }
 
+    public int getMaxInFlightBulkRequests() {
+        return maxInFlightBulkRequests;
+    }
+
+    public int getBulkRequestQueueSize() {
+        return bulkRequestQueueSize;
+    }
+
+    public AdaptiveBulkControlConfiguration getAdaptiveBulkControl() {
+        return adaptiveBulkControl;
+    }
+
+    public BulkRequestGrouping getBulkRequestGrouping() {
+        return bulkRequestGrouping;
+    }
+
     public Optional<String> getIsmPolicyFile() {
         return ismPolicyFile;
     }
@@ -498,6 +534,10 @@ public class IndexConfiguration {
         private boolean estimateBulkSizeUsingCompression = DEFAULT_ESTIMATE_BULK_SIZE_USING_COMPRESSION;
         private int maxLocalCompressionsForEstimation = DEFAULT_MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION;
         private long flushTimeout = DEFAULT_FLUSH_TIMEOUT;
+        private int maxInFlightBulkRequests = DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS;
+        private Integer bulkRequestQueueSize;
+        private AdaptiveBulkControlConfiguration adaptiveBulkControl;
+        private BulkRequestGrouping bulkRequestGrouping = BulkRequestGrouping.NONE;
         private Optional<String> ismPolicyFile;
         private String action;
         private List<ActionConfiguration> actions;
@@ -595,6 +635,28 @@ public class IndexConfiguration {
             return this;
         }
 
+        public Builder withMaxInFlightBulkRequests(final int maxInFlightBulkRequests) {
+            checkArgument(maxInFlightBulkRequests >= 0, "max_in_flight_bulk_requests cannot be negative.");
+            this.maxInFlightBulkRequests = maxInFlightBulkRequests;
+            return this;
+        }
+
+        public Builder withBulkRequestQueueSize(final Integer bulkRequestQueueSize) {
+            checkArgument(bulkRequestQueueSize == null || bulkRequestQueueSize >= 0, "bulk_request_queue_size cannot be negative.");
+            this.bulkRequestQueueSize = bulkRequestQueueSize;
+            return this;
+        }
+
+        public Builder withAdaptiveBulkControl(final AdaptiveBulkControlConfiguration adaptiveBulkControl) {
+            this.adaptiveBulkControl = adaptiveBulkControl;
+            return this;
+        }
+
+        public Builder withBulkRequestGrouping(final String bulkRequestGrouping) {
+            this.bulkRequestGrouping = BulkRequestGrouping.fromTypeName(bulkRequestGrouping);
+            return this;
+        }
+
         public Builder withNumShards(final int numShards) {
             this.numShards = numShards;
             return this;
@@ -0,0 +1,189 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.index;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.common.hash.Hashing;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.indices.GetIndicesSettingsRequest;
+import org.opensearch.client.opensearch.indices.GetIndicesSettingsResponse;
+import org.opensearch.client.opensearch.indices.IndexSettings;
+import org.opensearch.client.transport.TransportOptions;
+import org.opensearch.dataprepper.common.concurrent.BackgroundThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Computes the shard which OpenSearch routes a document to, from the routing of the document, or its id when it has
+ * no routing, and the number of shards of its index. The number of shards is read from the settings of the index in
+ * the background and cached, so that callers never wait on the cluster, and an index resolves to
+ * {@link #UNKNOWN_SHARD} until its settings were read. Indexes whose shard cannot be computed resolve to
+ * {@link #UNKNOWN_SHARD} as well, such as indexes which do not exist yet, aliases or data streams of more than one
+ * index and indexes with a routing partition size. Indexes which were split or shrunk without an explicit number of
+ * routing shards may resolve to a different shard than OpenSearch.
+ *
+ * @since 2.15
+ */
+public class IndexShardResolver {
+    public static final int UNKNOWN_SHARD = -1;
+    static final Duration SHARD_ROUTING_EXPIRY = Duration.ofMinutes(10);
+    static final Duration UNKNOWN_SHARD_ROUTING_EXPIRY = Duration.ofSeconds(30);
+    static final long MAX_CACHED_INDEXES = 10_000L;
+    /**
+     * Keeps only the settings the shard is computed from. This also replaces the filter path of the client, which
+     * the OpenSearch sink sets for bulk responses and which would otherwise filter out every setting.
+     */
+    static final String SETTINGS_FILTER_PATH = "*.settings.index.number_of_shards," +
+            "*.settings.index.number_of_routing_shards,*.settings.index.routing_partition_size";
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexShardResolver.class);
+    private static final ShardRouting UNKNOWN_SHARD_ROUTING = new ShardRouting(0, 0);
+    private static final int MAX_ROUTING_SHARDS_LOG2 = 10;
+
+    private static final TransportOptions SETTINGS_TRANSPORT_OPTIONS = TransportOptions.builder()
+            .setParameter("filter_path", SETTINGS_FILTER_PATH)
+            .build();
+
+    private final Supplier<OpenSearchClient> openSearchClientSupplier;
+    private final ExecutorService executorService;
+    private final AsyncLoadingCache<String, ShardRouting> shardRoutingCache;
+
+    public IndexShardResolver(final Supplier<OpenSearchClient> openSearchClientSupplier) {
+        this(openSearchClientSupplier, Executors.newSingleThreadExecutor(
+                BackgroundThreadFactory.defaultExecutorThreadFactory("opensearch-sink-index-shard-resolver")));
+    }
+
+    IndexShardResolver(final Supplier<OpenSearchClient> openSearchClientSupplier, final Executor executor) {
+        this.openSearchClientSupplier = openSearchClientSupplier;
+        this.executorService = executor instanceof ExecutorService ? (ExecutorService) executor : null;
+        this.shardRoutingCache = Caffeine.newBuilder()
+                .executor(executor)
+                .maximumSize(MAX_CACHED_INDEXES)
+                .expireAfter(new ShardRoutingExpiry())
+                .buildAsync(this::readShardRouting);
+    }
+
+    /**
+     * Returns the shard of the index which a document with the given id and routing is routed to, or
+     * {@link #UNKNOWN_SHARD} if it cannot be computed or the settings of the index are still being read.
+     */
+    public int getShard(final String index, final String documentId, final String routing) {
+        final String effectiveRouting = routing != null ? routing : documentId;
+        if (index == null || effectiveRouting == null) {
+            return UNKNOWN_SHARD;
+        }
+        final ShardRouting shardRouting;
+        try {
+            shardRouting = shardRoutingCache.get(index).getNow(UNKNOWN_SHARD_ROUTING);
+        } catch (final RejectedExecutionException e) {
+            return UNKNOWN_SHARD;
+        }
+        if (shardRouting == UNKNOWN_SHARD_ROUTING) {
+            return UNKNOWN_SHARD;
+        }
+        return Math.floorMod(hash(effectiveRouting), shardRouting.routingNumShards) / shardRouting.routingFactor;
+    }
+
+    /**
+     * Stops reading the settings of indexes, after which indexes which are not cached resolve to
+     * {@link #UNKNOWN_SHARD}.
+     */
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the number of routing shards OpenSearch creates an index with when none is configured, which lets the
+     * index be split up to a power of two times, up to 1024 routing shards.
+     */
+    static int getDefaultRoutingNumShards(final int numberOfShards) {
+        final int log2NumberOfShards = 32 - Integer.numberOfLeadingZeros(numberOfShards - 1);
+        final int numberOfSplits = Math.max(1, MAX_ROUTING_SHARDS_LOG2 - log2NumberOfShards);
+        return numberOfShards << numberOfSplits;
+    }
+
+    /**
+     * Hashes the routing as OpenSearch does, with the 32 bit murmur3 hash of its UTF-16 little endian bytes.
+     */
+    static int hash(final String routing) {
+        final byte[] bytes = new byte[routing.length() * 2];
+        for (int i = 0; i < routing.length(); i++) {
+            final char c = routing.charAt(i);
+            bytes[i * 2] = (byte) c;
+            bytes[i * 2 + 1] = (byte) (c >>> 8);
+        }
+        return Hashing.murmur3_32_fixed().hashBytes(bytes).asInt();
+    }
+
+    private ShardRouting readShardRouting(final String index) {
+        try {
+            final GetIndicesSettingsResponse response = openSearchClientSupplier.get().indices()
+                    .withTransportOptions(SETTINGS_TRANSPORT_OPTIONS)
+                    .getSettings(GetIndicesSettingsRequest.of(r -> r.index(index)));
+            if (response.result().size() != 1) {
+                return UNKNOWN_SHARD_ROUTING;
+            }
+            IndexSettings settings = response.result().values().iterator().next().settings();
+            if (settings != null && settings.index() != null) {
+                settings = settings.index();
+            }
+            if (settings == null || settings.numberOfShards() == null) {
+                return UNKNOWN_SHARD_ROUTING;
+            }
+            if (settings.routingPartitionSize() != null && settings.routingPartitionSize() > 1) {
+                return UNKNOWN_SHARD_ROUTING;
+            }
+            final int numberOfShards = Integer.parseInt(settings.numberOfShards());
+            final int routingNumShards = settings.numberOfRoutingShards() != null ?
+                    settings.numberOfRoutingShards() : getDefaultRoutingNumShards(numberOfShards);
+            return new ShardRouting(routingNumShards, routingNumShards / numberOfShards);
+        } catch (final Exception e) {
+            LOG.debug("Unable to read the number of shards of index '{}': {}", index, e.getMessage());
+            return UNKNOWN_SHARD_ROUTING;
+        }
+    }
+
+    private static class ShardRouting {
+        private final int routingNumShards;
+        private final int routingFactor;
+
+        private ShardRouting(final int routingNumShards, final int routingFactor) {
+            this.routingNumShards = routingNumShards;
+            this.routingFactor = routingFactor;
+        }
+    }
+
+    private static class ShardRoutingExpiry implements Expiry<String, ShardRouting> {
+        @Override
+        public long expireAfterCreate(final String index, final ShardRouting shardRouting, final long currentTime) {
+            return shardRouting == UNKNOWN_SHARD_ROUTING ?
+                    UNKNOWN_SHARD_ROUTING_EXPIRY.toNanos() : SHARD_ROUTING_EXPIRY.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String index, final ShardRouting shardRouting, final long currentTime,
+                                      final long currentDuration) {
+            return expireAfterCreate(index, shardRouting, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String index, final ShardRouting shardRouting, final long currentTime,
+                                    final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
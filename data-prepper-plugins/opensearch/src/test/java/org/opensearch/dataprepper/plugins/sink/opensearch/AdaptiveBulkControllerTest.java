@@ -0,0 +1,264 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.client.opensearch._types.ErrorCause;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveBulkControllerTest {
+    private static final long MIN_BULK_SIZE_BYTES = 100L;
+    private static final long MAX_BULK_SIZE_BYTES = 1_000L;
+    private static final Duration TARGET_LATENCY = Duration.ofSeconds(1);
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Counter increasesCounter;
+
+    @Mock
+    private Counter rejectionDecreasesCounter;
+
+    @Mock
+    private Counter latencyDecreasesCounter;
+
+    @Mock
+    private Counter rejectedBulkOperationsCounter;
+
+    private AtomicLong nanoTime;
+
+    @BeforeEach
+    void setUp() {
+        nanoTime = new AtomicLong(0L);
+        when(pluginMetrics.gauge(eq(AdaptiveBulkController.ADAPTIVE_BULK_SIZE_BYTES), any(AtomicLong.class)))
+                .thenAnswer(a -> a.getArgument(1));
+        when(pluginMetrics.gauge(eq(AdaptiveBulkController.ADAPTIVE_MAX_IN_FLIGHT_BULK_REQUESTS), any(AtomicInteger.class)))
+                .thenAnswer(a -> a.getArgument(1));
+        when(pluginMetrics.counter(AdaptiveBulkController.ADAPTIVE_BULK_CONTROL_INCREASES)).thenReturn(increasesCounter);
+        when(pluginMetrics.counterWithTags(AdaptiveBulkController.ADAPTIVE_BULK_CONTROL_DECREASES,
+                AdaptiveBulkController.REASON, AdaptiveBulkController.REJECTIONS_REASON)).thenReturn(rejectionDecreasesCounter);
+        when(pluginMetrics.counterWithTags(AdaptiveBulkController.ADAPTIVE_BULK_CONTROL_DECREASES,
+                AdaptiveBulkController.REASON, AdaptiveBulkController.LATENCY_REASON)).thenReturn(latencyDecreasesCounter);
+        when(pluginMetrics.counter(AdaptiveBulkController.REJECTED_BULK_OPERATIONS)).thenReturn(rejectedBulkOperationsCounter);
+    }
+
+    private AdaptiveBulkController createObjectUnderTest(final int maxInFlightBulkRequests) {
+        return new AdaptiveBulkController(MIN_BULK_SIZE_BYTES, MAX_BULK_SIZE_BYTES, maxInFlightBulkRequests, TARGET_LATENCY,
+                pluginMetrics, nanoTime::get);
+    }
+
+    private static BulkResponse bulkResponse(final long took, final BulkResponseItem... items) {
+        final BulkResponse bulkResponse = mock(BulkResponse.class);
+        when(bulkResponse.items()).thenReturn(List.of(items));
+        if (took >= 0) {
+            when(bulkResponse.took()).thenReturn(took);
+        }
+        return bulkResponse;
+    }
+
+    private static BulkResponseItem itemWithStatus(final int status) {
+        final BulkResponseItem item = mock(BulkResponseItem.class);
+        when(item.status()).thenReturn(status);
+        return item;
+    }
+
+    private static BulkResponseItem rejectedExecutionItem() {
+        final ErrorCause errorCause = mock(ErrorCause.class);
+        when(errorCause.type()).thenReturn(AdaptiveBulkController.REJECTED_EXECUTION_EXCEPTION_TYPE);
+        final BulkResponseItem item = itemWithStatus(503);
+        when(item.error()).thenReturn(errorCause);
+        return item;
+    }
+
+    private void advancePastTargetLatency() {
+        nanoTime.addAndGet(TARGET_LATENCY.toNanos());
+    }
+
+    @Test
+    void constructor_starts_at_the_configured_bulk_size_and_in_flight_bulk_requests() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(4);
+
+        assertThat(objectUnderTest.getBulkSizeBytes(), equalTo(MAX_BULK_SIZE_BYTES));
+        assertThat(objectUnderTest.getMaxInFlightBulkRequests(), equalTo(4));
+    }
+
+    @Test
+    void constructor_allows_one_in_flight_bulk_request_without_the_dispatcher() {
+        assertThat(createObjectUnderTest(0).getMaxInFlightBulkRequests(), equalTo(1));
+    }
+
+    @Test
+    void onResponse_with_rejected_bulk_operations_halves_the_in_flight_bulk_requests() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(4);
+
+        objectUnderTest.onResponse(10L, bulkResponse(-1L, itemWithStatus(201), itemWithStatus(429), rejectedExecutionItem()));
+
+        assertThat(objectUnderTest.getMaxInFlightBulkRequests(), equalTo(2));
+        assertThat(objectUnderTest.getBulkSizeBytes(), equalTo(MAX_BULK_SIZE_BYTES));
+        verify(rejectedBulkOperationsCounter).increment(2L);
+        verify(rejectionDecreasesCounter).increment();
+    }
+
+    @Test
+    void onResponse_with_rejected_bulk_operations_halves_the_bulk_size_at_one_in_flight_bulk_request() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(1);
+
+        objectUnderTest.onResponse(10L, bulkResponse(-1L, itemWithStatus(429)));
+
+        assertThat(objectUnderTest.getMaxInFlightBulkRequests(), equalTo(1));
+        assertThat(objectUnderTest.getBulkSizeBytes(), equalTo(MAX_BULK_SIZE_BYTES / 2));
+    }
+
+    @Test
+    void onResponse_slower_than_the_target_latency_halves_the_bulk_size() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(4);
+
+        objectUnderTest.onResponse(TARGET_LATENCY.toMillis() + 1, bulkResponse(10L, itemWithStatus(201)));
+
+        assertThat(objectUnderTest.getBulkSizeBytes(), equalTo(MAX_BULK_SIZE_BYTES / 2));
+        assertThat(objectUnderTest.getMaxInFlightBulkRequests(), equalTo(4));
+        verify(latencyDecreasesCounter).increment();
+    }
+
+    @Test
+    void onResponse_with_a_took_time_above_the_target_latency_halves_the_bulk_size() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(4);
+
+        objectUnderTest.onResponse(10L, bulkResponse(TARGET_LATENCY.toMillis() + 1, itemWithStatus(201)));
+
+        assertThat(objectUnderTest.getBulkSizeBytes(), equalTo(MAX_BULK_SIZE_BYTES / 2));
+    }
+
+    @Test
+    void onResponse_decreases_at_most_once_per_target_latency() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(4);
+
+        objectUnderTest.onResponse(10L, bulkResponse(-1L, itemWithStatus(429)));
+        objectUnderTest.onResponse(10L, bulkResponse(-1L, itemWithStatus(429)));
+        assertThat(objectUnderTest.getMaxInFlightBulkRequests(), equalTo(2));
+
+        advancePastTargetLatency();
+        objectUnderTest.onResponse(10L, bulkResponse(-1L, itemWithStatus(429)));
+        assertThat(objectUnderTest.getMaxInFlightBulkRequests(), equalTo(1));
+    }
+
+    @Test
+    void onResponse_does_not_decrease_the_bulk_size_below_the_minimum() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(1);
+
+        for (int i = 0; i < 5; i++) {
+            objectUnderTest.onResponse(TARGET_LATENCY.toMillis() + 1, bulkResponse(10L, itemWithStatus(201)));
+            advancePastTargetLatency();
+        }
+
+        assertThat(objectUnderTest.getBulkSizeBytes(), equalTo(MIN_BULK_SIZE_BYTES));
+        assertThat(objectUnderTest.getMaxInFlightBulkRequests(), equalTo(1));
+    }
+
+    @Test
+    void onResponse_within_the_target_latency_increases_additively_up_to_the_configured_maximums() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(4);
+        objectUnderTest.onResponse(TARGET_LATENCY.toMillis() + 1, bulkResponse(10L, itemWithStatus(201)));
+        advancePastTargetLatency();
+        objectUnderTest.onResponse(10L, bulkResponse(-1L, itemWithStatus(429)));
+        assertThat(objectUnderTest.getBulkSizeBytes(), equalTo(500L));
+        assertThat(objectUnderTest.getMaxInFlightBulkRequests(), equalTo(2));
+
+        objectUnderTest.onResponse(10L, bulkResponse(10L, itemWithStatus(201)));
+        assertThat(objectUnderTest.getBulkSizeBytes(), equalTo(600L));
+        assertThat(objectUnderTest.getMaxInFlightBulkRequests(), equalTo(2));
+
+        objectUnderTest.onResponse(10L, bulkResponse(10L, itemWithStatus(201)));
+        assertThat(objectUnderTest.getBulkSizeBytes(), equalTo(700L));
+        assertThat(objectUnderTest.getMaxInFlightBulkRequests(), equalTo(3));
+
+        for (int i = 0; i < 10; i++) {
+            objectUnderTest.onResponse(10L, bulkResponse(10L, itemWithStatus(201)));
+        }
+        assertThat(objectUnderTest.getBulkSizeBytes(), equalTo(MAX_BULK_SIZE_BYTES));
+        assertThat(objectUnderTest.getMaxInFlightBulkRequests(), equalTo(4));
+    }
+
+    @Test
+    void onResponse_at_the_configured_maximums_does_not_count_an_increase() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(4);
+
+        objectUnderTest.onResponse(10L, bulkResponse(10L, itemWithStatus(201)));
+
+        verify(increasesCounter, never()).increment();
+        verify(rejectedBulkOperationsCounter, never()).increment(anyDouble());
+    }
+
+    @Test
+    void observe_measures_the_latency_of_the_request_function() throws Exception {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(4);
+        final BulkResponse bulkResponse = bulkResponse(10L, itemWithStatus(201));
+        final RequestFunction<Object, BulkResponse> requestFunction = objectUnderTest.observe(request -> {
+            nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(TARGET_LATENCY.toMillis() + 1));
+            return bulkResponse;
+        });
+
+        assertThat(requestFunction.apply(new Object()), sameInstance(bulkResponse));
+
+        assertThat(objectUnderTest.getBulkSizeBytes(), equalTo(MAX_BULK_SIZE_BYTES / 2));
+    }
+
+    @Test
+    void observe_decreases_when_the_bulk_request_is_rejected() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(4);
+        final OpenSearchException exception = mock(OpenSearchException.class);
+        when(exception.status()).thenReturn(429);
+        final RequestFunction<Object, BulkResponse> requestFunction = objectUnderTest.observe(request -> {
+            throw exception;
+        });
+
+        final OpenSearchException actualException = assertThrows(OpenSearchException.class, () -> requestFunction.apply(new Object()));
+
+        assertThat(actualException, sameInstance(exception));
+        assertThat(objectUnderTest.getMaxInFlightBulkRequests(), equalTo(2));
+    }
+
+    @Test
+    void observe_does_not_change_on_other_exceptions() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(4);
+        final RequestFunction<Object, BulkResponse> requestFunction = objectUnderTest.observe(request -> {
+            throw new RuntimeException();
+        });
+
+        assertThrows(RuntimeException.class, () -> requestFunction.apply(new Object()));
+
+        assertThat(objectUnderTest.getMaxInFlightBulkRequests(), equalTo(4));
+        assertThat(objectUnderTest.getBulkSizeBytes(), equalTo(MAX_BULK_SIZE_BYTES));
+    }
+}
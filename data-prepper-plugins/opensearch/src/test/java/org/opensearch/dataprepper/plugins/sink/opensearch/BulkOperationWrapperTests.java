@@ -31,6 +31,7 @@ import static org.mockito.Mockito.mock;
 public class BulkOperationWrapperTests {
     private static final String ID = UUID.randomUUID().toString();
     private static final String INDEX = UUID.randomUUID().toString();
+    private static final String ROUTING = UUID.randomUUID().toString();
     private static final String DOCUMENT = UUID.randomUUID().toString();
 
     private BulkOperation bulkOperation;
@@ -84,6 +85,13 @@ public class BulkOperationWrapperTests {
         assertThat(bulkOperationWrapper.getIndex(), equalTo(INDEX));
     }
 
+    @ParameterizedTest
+    @MethodSource("bulkOperationProvider")
+    public void testGetRouting(final BulkOperation bulkOperation) {
+        final BulkOperationWrapper bulkOperationWrapper = createObjectUnderTest(null, bulkOperation);
+        assertThat(bulkOperationWrapper.getRouting(), equalTo(ROUTING));
+    }
+
     @ParameterizedTest
     @MethodSource("bulkOperationProvider")
     public void testGetDocument(final BulkOperation bulkOperation) {
@@ -95,6 +103,7 @@ public class BulkOperationWrapperTests {
         final IndexOperation indexOperation = new IndexOperation.Builder<>()
                 .id(ID)
                 .index(INDEX)
+                .routing(ROUTING)
                 .document(DOCUMENT)
                 .build();
         final BulkOperation indexBulkOperation = (BulkOperation) new BulkOperation.Builder()
@@ -104,6 +113,7 @@ public class BulkOperationWrapperTests {
         final CreateOperation createOperation = new CreateOperation.Builder<>()
                 .id(ID)
                 .index(INDEX)
+                .routing(ROUTING)
                 .document(DOCUMENT)
                 .build();
         final BulkOperation createBulkOperation = (BulkOperation) new BulkOperation.Builder()
@@ -119,6 +129,7 @@ public class BulkOperationWrapperTests {
         final UpdateOperation updateOperation = new UpdateOperation.Builder<>()
                 .id(ID)
                 .index(INDEX)
+                .routing(ROUTING)
                 .document(DOCUMENT)
                 .build();
         final BulkOperation updateBulkOperation = (BulkOperation) new BulkOperation.Builder()
@@ -128,6 +139,7 @@ public class BulkOperationWrapperTests {
         final DeleteOperation deleteOperation = new DeleteOperation.Builder()
                 .id(ID)
                 .index(INDEX)
+                .routing(ROUTING)
                 .build();
         final BulkOperation deleteBulkOperation = (BulkOperation) new BulkOperation.Builder()
                 .delete(deleteOperation)
@@ -146,6 +158,7 @@ public class BulkOperationWrapperTests {
         final DeleteOperation deleteOperation = new DeleteOperation.Builder()
                 .id(ID)
                 .index(INDEX)
+                .routing(ROUTING)
                 .build();
         return new BulkOperation.Builder()
                 .delete(deleteOperation)
@@ -0,0 +1,363 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.AccumulatingBulkRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.empty;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkRequestAccumulatorTest {
+    private static final long BULK_SIZE = 100L;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    private List<TestBulkRequest> createdBulkRequests;
+    private List<AccumulatingBulkRequest> flushedBulkRequests;
+    private Supplier<AccumulatingBulkRequest> bulkRequestSupplier;
+    private Consumer<AccumulatingBulkRequest> flushFunction;
+
+    @BeforeEach
+    void setUp() {
+        createdBulkRequests = new ArrayList<>();
+        flushedBulkRequests = new ArrayList<>();
+        bulkRequestSupplier = () -> {
+            final TestBulkRequest bulkRequest = new TestBulkRequest();
+            createdBulkRequests.add(bulkRequest);
+            return bulkRequest;
+        };
+        flushFunction = flushedBulkRequests::add;
+    }
+
+    private BulkRequestAccumulator createObjectUnderTest(final long flushTimeout) {
+        return new BulkRequestAccumulator(bulkRequestSupplier, flushFunction, () -> BULK_SIZE, BulkRequestAccumulator.SINGLE_GROUP, flushTimeout, scheduler);
+    }
+
+    @Test
+    void constructor_schedules_the_flush_check_at_the_flush_timeout_capped_to_the_maximum_interval() {
+        createObjectUnderTest(60_000L);
+
+        verify(scheduler).scheduleWithFixedDelay(any(Runnable.class), eq(BulkRequestAccumulator.MAX_FLUSH_CHECK_INTERVAL_MILLIS),
+                eq(BulkRequestAccumulator.MAX_FLUSH_CHECK_INTERVAL_MILLIS), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void constructor_schedules_the_flush_check_at_a_short_flush_timeout() {
+        createObjectUnderTest(200L);
+
+        verify(scheduler).scheduleWithFixedDelay(any(Runnable.class), eq(200L), eq(200L), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void shutdown_flushes_the_pending_bulk_requests_without_a_scheduler() {
+        final BulkRequestAccumulator objectUnderTest = new BulkRequestAccumulator(bulkRequestSupplier, flushFunction, () -> BULK_SIZE, BulkRequestAccumulator.SINGLE_GROUP, -1L, null);
+
+        objectUnderTest.getPendingBulkRequest().add(mock(BulkOperationWrapper.class));
+        objectUnderTest.shutdown();
+
+        assertThat(flushedBulkRequests.size(), equalTo(1));
+    }
+
+    @Test
+    void getPendingBulkRequest_returns_the_same_pending_bulk_request_on_the_same_thread() {
+        final BulkRequestAccumulator objectUnderTest = createObjectUnderTest(60_000L);
+
+        assertThat(objectUnderTest.getPendingBulkRequest(), sameInstance(objectUnderTest.getPendingBulkRequest()));
+    }
+
+    @Test
+    void add_flushes_the_pending_bulk_request_before_it_exceeds_the_bulk_size() {
+        final BulkRequestAccumulator.PendingBulkRequest objectUnderTest = createObjectUnderTest(60_000L).getPendingBulkRequest();
+        final BulkOperationWrapper firstOperation = mock(BulkOperationWrapper.class);
+        final BulkOperationWrapper secondOperation = mock(BulkOperationWrapper.class);
+        final BulkOperationWrapper thirdOperation = mock(BulkOperationWrapper.class);
+
+        objectUnderTest.add(firstOperation);
+        objectUnderTest.add(secondOperation);
+        assertThat(flushedBulkRequests, empty());
+
+        objectUnderTest.add(thirdOperation);
+
+        assertThat(flushedBulkRequests.size(), equalTo(1));
+        assertThat(flushedBulkRequests.get(0).getOperations(), equalTo(List.of(firstOperation, secondOperation)));
+        assertThat(createdBulkRequests.get(1).getOperations(), equalTo(List.of(thirdOperation)));
+    }
+
+    @Test
+    void add_closes_the_bulk_request_before_it_is_flushed() {
+        final List<Boolean> closedWhenFlushed = new ArrayList<>();
+        flushFunction = bulkRequest -> closedWhenFlushed.add(((TestBulkRequest) bulkRequest).closed);
+        final BulkRequestAccumulator.PendingBulkRequest objectUnderTest = createObjectUnderTest(60_000L).getPendingBulkRequest();
+
+        objectUnderTest.add(mock(BulkOperationWrapper.class));
+        objectUnderTest.add(mock(BulkOperationWrapper.class));
+        objectUnderTest.add(mock(BulkOperationWrapper.class));
+
+        assertThat(closedWhenFlushed, equalTo(List.of(true)));
+        assertThat(createdBulkRequests.get(1).closed, equalTo(false));
+    }
+
+    @Test
+    void add_flushes_at_the_current_bulk_size() {
+        final AtomicLong bulkSize = new AtomicLong(BULK_SIZE);
+        final BulkRequestAccumulator.PendingBulkRequest objectUnderTest =
+                new BulkRequestAccumulator(bulkRequestSupplier, flushFunction, bulkSize::get, BulkRequestAccumulator.SINGLE_GROUP, 60_000L, scheduler).getPendingBulkRequest();
+
+        objectUnderTest.add(mock(BulkOperationWrapper.class));
+        bulkSize.set(80L);
+        objectUnderTest.add(mock(BulkOperationWrapper.class));
+        assertThat(flushedBulkRequests.size(), equalTo(1));
+
+        bulkSize.set(BULK_SIZE);
+        objectUnderTest.add(mock(BulkOperationWrapper.class));
+        assertThat(flushedBulkRequests.size(), equalTo(1));
+    }
+
+    @Test
+    void flushIfExpired_does_not_flush_before_the_flush_timeout() {
+        final BulkRequestAccumulator.PendingBulkRequest objectUnderTest = createObjectUnderTest(60_000L).getPendingBulkRequest();
+        objectUnderTest.add(mock(BulkOperationWrapper.class));
+
+        objectUnderTest.flushIfExpired();
+
+        assertThat(flushedBulkRequests, empty());
+    }
+
+    @Test
+    void flushIfExpired_flushes_every_time_with_a_negative_flush_timeout() {
+        final BulkRequestAccumulator.PendingBulkRequest objectUnderTest = createObjectUnderTest(-1L).getPendingBulkRequest();
+
+        objectUnderTest.flushIfExpired();
+        assertThat(flushedBulkRequests, empty());
+
+        objectUnderTest.add(mock(BulkOperationWrapper.class));
+        objectUnderTest.flushIfExpired();
+        assertThat(flushedBulkRequests.size(), equalTo(1));
+    }
+
+    @Test
+    void flushExpired_flushes_the_expired_pending_bulk_requests_of_all_threads() throws InterruptedException {
+        final BulkRequestAccumulator objectUnderTest = createObjectUnderTest(0L);
+        final Thread worker = new Thread(() -> objectUnderTest.getPendingBulkRequest().add(mock(BulkOperationWrapper.class)));
+        worker.start();
+        worker.join();
+        objectUnderTest.getPendingBulkRequest();
+
+        objectUnderTest.flushExpired();
+
+        assertThat(flushedBulkRequests.size(), equalTo(1));
+        assertThat(flushedBulkRequests.get(0).getOperationsCount(), equalTo(1));
+    }
+
+    @Test
+    void flushExpired_skips_the_pending_bulk_request_which_a_worker_is_filling() throws InterruptedException {
+        final CountDownLatch estimating = new CountDownLatch(1);
+        final CountDownLatch flushChecked = new CountDownLatch(1);
+        bulkRequestSupplier = () -> new TestBulkRequest() {
+            @Override
+            public long estimateSizeInBytesWithDocument(final BulkOperationWrapper documentOrOperation) {
+                if (getOperationsCount() == 1) {
+                    estimating.countDown();
+                    try {
+                        flushChecked.await();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return super.estimateSizeInBytesWithDocument(documentOrOperation);
+            }
+        };
+        final BulkRequestAccumulator objectUnderTest = createObjectUnderTest(0L);
+        final Thread worker = new Thread(() -> {
+            final BulkRequestAccumulator.PendingBulkRequest pendingBulkRequest = objectUnderTest.getPendingBulkRequest();
+            pendingBulkRequest.add(mock(BulkOperationWrapper.class));
+            pendingBulkRequest.add(mock(BulkOperationWrapper.class));
+        });
+        worker.start();
+        estimating.await();
+
+        objectUnderTest.flushExpired();
+        flushChecked.countDown();
+        worker.join();
+
+        assertThat(flushedBulkRequests, empty());
+        objectUnderTest.flushExpired();
+        assertThat(flushedBulkRequests.size(), equalTo(1));
+        assertThat(flushedBulkRequests.get(0).getOperationsCount(), equalTo(2));
+    }
+
+    @Test
+    void flushExpired_does_not_throw_when_the_flush_fails() {
+        flushFunction = bulkRequest -> {
+            throw new RuntimeException();
+        };
+        final BulkRequestAccumulator objectUnderTest = createObjectUnderTest(0L);
+        objectUnderTest.getPendingBulkRequest().add(mock(BulkOperationWrapper.class));
+
+        objectUnderTest.flushExpired();
+    }
+
+    @Test
+    void shutdown_stops_the_scheduler_and_flushes_the_pending_bulk_requests() throws InterruptedException {
+        final BulkRequestAccumulator objectUnderTest = createObjectUnderTest(60_000L);
+        final BulkOperationWrapper operation = mock(BulkOperationWrapper.class);
+        objectUnderTest.getPendingBulkRequest().add(operation);
+
+        objectUnderTest.shutdown();
+
+        verify(scheduler).shutdown();
+        verify(scheduler).awaitTermination(BulkRequestAccumulator.MAX_FLUSH_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        assertThat(flushedBulkRequests.size(), equalTo(1));
+        assertThat(flushedBulkRequests.get(0).getOperations(), equalTo(List.of(operation)));
+    }
+
+    @Test
+    void shutdown_does_not_flush_empty_pending_bulk_requests() {
+        final Consumer<AccumulatingBulkRequest> mockFlushFunction = mock(Consumer.class);
+        flushFunction = mockFlushFunction;
+        final BulkRequestAccumulator objectUnderTest = createObjectUnderTest(60_000L);
+        objectUnderTest.getPendingBulkRequest();
+
+        objectUnderTest.shutdown();
+
+        verifyNoInteractions(mockFlushFunction);
+    }
+
+    @Test
+    void add_groups_the_bulk_operations_into_separate_bulk_requests() {
+        final BulkRequestAccumulator objectUnderTest = createGroupedObjectUnderTest(60_000L);
+        final BulkOperationWrapper firstOperation = createOperation("index-a");
+        final BulkOperationWrapper secondOperation = createOperation("index-b");
+
+        objectUnderTest.getPendingBulkRequest().add(firstOperation);
+        objectUnderTest.getPendingBulkRequest().add(secondOperation);
+        assertThat(flushedBulkRequests, empty());
+
+        objectUnderTest.shutdown();
+
+        assertThat(flushedBulkRequests.size(), equalTo(2));
+        assertThat(flushedBulkRequests.get(0).getOperations(), equalTo(List.of(firstOperation)));
+        assertThat(flushedBulkRequests.get(1).getOperations(), equalTo(List.of(secondOperation)));
+    }
+
+    @Test
+    void add_flushes_the_largest_group_once_the_groups_together_reach_the_bulk_size() {
+        final BulkRequestAccumulator objectUnderTest = createGroupedObjectUnderTest(60_000L);
+        final BulkRequestAccumulator.PendingBulkRequest pendingBulkRequest = objectUnderTest.getPendingBulkRequest();
+        final BulkOperationWrapper firstOperation = createOperation("index-a");
+        final BulkOperationWrapper secondOperation = createOperation("index-a");
+        final BulkOperationWrapper thirdOperation = createOperation("index-b");
+
+        pendingBulkRequest.add(firstOperation);
+        pendingBulkRequest.add(secondOperation);
+        assertThat(flushedBulkRequests, empty());
+
+        pendingBulkRequest.add(thirdOperation);
+        assertThat(flushedBulkRequests.size(), equalTo(1));
+        assertThat(flushedBulkRequests.get(0).getOperations(), equalTo(List.of(firstOperation, secondOperation)));
+
+        objectUnderTest.shutdown();
+        assertThat(flushedBulkRequests.size(), equalTo(2));
+        assertThat(flushedBulkRequests.get(1).getOperations(), equalTo(List.of(thirdOperation)));
+    }
+
+    @Test
+    void flushIfExpired_flushes_every_expired_group() {
+        final BulkRequestAccumulator.PendingBulkRequest objectUnderTest = createGroupedObjectUnderTest(-1L).getPendingBulkRequest();
+        objectUnderTest.add(createOperation("index-a"));
+        objectUnderTest.add(createOperation("index-b"));
+
+        objectUnderTest.flushIfExpired();
+
+        assertThat(flushedBulkRequests.size(), equalTo(2));
+        assertThat(flushedBulkRequests.get(0).getOperationsCount(), equalTo(1));
+        assertThat(flushedBulkRequests.get(1).getOperationsCount(), equalTo(1));
+        assertThat(createdBulkRequests.get(0).closed, equalTo(true));
+        assertThat(createdBulkRequests.get(1).closed, equalTo(true));
+    }
+
+    private BulkRequestAccumulator createGroupedObjectUnderTest(final long flushTimeout) {
+        return new BulkRequestAccumulator(bulkRequestSupplier, flushFunction, () -> BULK_SIZE, BulkOperationWrapper::getIndex, flushTimeout, scheduler);
+    }
+
+    private static BulkOperationWrapper createOperation(final String index) {
+        final BulkOperationWrapper bulkOperation = mock(BulkOperationWrapper.class);
+        when(bulkOperation.getIndex()).thenReturn(index);
+        return bulkOperation;
+    }
+
+    /**
+     * Estimates each operation at 40 bytes, so that the third operation exceeds the bulk size.
+     */
+    private static class TestBulkRequest implements AccumulatingBulkRequest<BulkOperationWrapper, Object> {
+        private final List<BulkOperationWrapper> operations = new ArrayList<>();
+        private boolean closed;
+
+        @Override
+        public long estimateSizeInBytesWithDocument(final BulkOperationWrapper documentOrOperation) {
+            return (operations.size() + 1) * 40L;
+        }
+
+        @Override
+        public void addOperation(final BulkOperationWrapper bulkOperation) {
+            operations.add(bulkOperation);
+        }
+
+        @Override
+        public BulkOperationWrapper getOperationAt(final int index) {
+            return operations.get(index);
+        }
+
+        @Override
+        public long getEstimatedSizeInBytes() {
+            return operations.size() * 40L;
+        }
+
+        @Override
+        public int getOperationsCount() {
+            return operations.size();
+        }
+
+        @Override
+        public List<BulkOperationWrapper> getOperations() {
+            return operations;
+        }
+
+        @Override
+        public Object getRequest() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
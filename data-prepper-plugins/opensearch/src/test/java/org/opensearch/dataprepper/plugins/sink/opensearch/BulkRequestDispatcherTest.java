@@ -0,0 +1,256 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.AccumulatingBulkRequest;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BulkRequestDispatcherTest {
+    @Mock
+    private BulkRetryStrategy bulkRetryStrategy;
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    @Mock
+    private AccumulatingBulkRequest bulkRequest;
+
+    @Mock
+    private Timer bulkRequestTimer;
+
+    @Mock
+    private Timer queueWaitTimer;
+
+    @Mock
+    private DistributionSummary bulkRequestSizeBytesSummary;
+
+    @Mock
+    private Counter bulkRequestErrorsCounter;
+
+    private AtomicInteger bulkRequestsInFlight;
+    private AtomicInteger bulkRequestsQueued;
+
+    @BeforeEach
+    void setUp() {
+        when(pluginMetrics.gauge(eq(BulkRequestDispatcher.BULK_REQUESTS_IN_FLIGHT), any(AtomicInteger.class)))
+                .thenAnswer(a -> bulkRequestsInFlight = a.getArgument(1));
+        when(pluginMetrics.gauge(eq(BulkRequestDispatcher.BULK_REQUESTS_QUEUED), any(AtomicInteger.class)))
+                .thenAnswer(a -> bulkRequestsQueued = a.getArgument(1));
+        when(pluginMetrics.timer(OpenSearchSink.BULKREQUEST_LATENCY)).thenReturn(bulkRequestTimer);
+        when(pluginMetrics.timer(BulkRequestDispatcher.BULK_REQUEST_QUEUE_WAIT_TIME)).thenReturn(queueWaitTimer);
+        when(pluginMetrics.summary(OpenSearchSink.BULKREQUEST_SIZE_BYTES)).thenReturn(bulkRequestSizeBytesSummary);
+        when(pluginMetrics.counter(OpenSearchSink.BULKREQUEST_ERRORS)).thenReturn(bulkRequestErrorsCounter);
+    }
+
+    private BulkRequestDispatcher createObjectUnderTest(final int maxInFlightBulkRequests, final int queueSize) {
+        return new BulkRequestDispatcher(bulkRetryStrategy, pluginMetrics, maxInFlightBulkRequests, queueSize, () -> maxInFlightBulkRequests, scheduler);
+    }
+
+    private List<Runnable> captureScheduledTasks(final int times) {
+        final ArgumentCaptor<Runnable> taskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler, times(times)).execute(taskCaptor.capture());
+        return taskCaptor.getAllValues();
+    }
+
+    @Test
+    void dispatch_queues_the_bulk_request_until_the_scheduler_sends_it() throws InterruptedException {
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        when(bulkRetryStrategy.executeAsync(bulkRequest, scheduler)).thenReturn(completion);
+        when(bulkRequest.getEstimatedSizeInBytes()).thenReturn(100L);
+        final BulkRequestDispatcher objectUnderTest = createObjectUnderTest(2, 2);
+
+        objectUnderTest.dispatch(bulkRequest);
+
+        assertThat(bulkRequestsQueued.get(), equalTo(1));
+        assertThat(bulkRequestsInFlight.get(), equalTo(0));
+        verify(bulkRetryStrategy, never()).executeAsync(any(), any());
+
+        captureScheduledTasks(1).get(0).run();
+
+        assertThat(bulkRequestsQueued.get(), equalTo(0));
+        assertThat(bulkRequestsInFlight.get(), equalTo(1));
+        verify(queueWaitTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(bulkRequestTimer, never()).record(anyLong(), any(TimeUnit.class));
+
+        completion.complete(null);
+
+        assertThat(bulkRequestsInFlight.get(), equalTo(0));
+        verify(bulkRequestTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(bulkRequestSizeBytesSummary).record(100L);
+        verify(bulkRequestErrorsCounter, never()).increment();
+    }
+
+    @Test
+    void dispatch_increments_the_error_counter_when_the_bulk_request_completes_exceptionally() throws InterruptedException {
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        when(bulkRetryStrategy.executeAsync(bulkRequest, scheduler)).thenReturn(completion);
+        final BulkRequestDispatcher objectUnderTest = createObjectUnderTest(1, 0);
+
+        objectUnderTest.dispatch(bulkRequest);
+        captureScheduledTasks(1).get(0).run();
+        completion.completeExceptionally(new RuntimeException());
+
+        assertThat(bulkRequestsInFlight.get(), equalTo(0));
+        verify(bulkRequestErrorsCounter).increment();
+        verify(bulkRequestSizeBytesSummary, never()).record(anyLong());
+    }
+
+    @Test
+    void dispatch_blocks_while_the_queue_is_full() throws InterruptedException {
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        when(bulkRetryStrategy.executeAsync(bulkRequest, scheduler)).thenReturn(completion);
+        final BulkRequestDispatcher objectUnderTest = createObjectUnderTest(1, 1);
+        objectUnderTest.dispatch(bulkRequest);
+        objectUnderTest.dispatch(bulkRequest);
+
+        final Thread blockedWorker = new Thread(() -> {
+            try {
+                objectUnderTest.dispatch(bulkRequest);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        blockedWorker.start();
+        blockedWorker.join(200);
+        assertThat(blockedWorker.isAlive(), equalTo(true));
+
+        captureScheduledTasks(1).get(0).run();
+        completion.complete(null);
+
+        blockedWorker.join(10_000);
+        assertThat(blockedWorker.isAlive(), equalTo(false));
+        assertThat(bulkRequestsQueued.get(), equalTo(2));
+        captureScheduledTasks(2);
+    }
+
+    @Test
+    void dispatch_starts_no_more_bulk_requests_than_the_current_in_flight_limit() throws InterruptedException {
+        final AtomicInteger inFlightLimit = new AtomicInteger(1);
+        final BulkRequestDispatcher objectUnderTest =
+                new BulkRequestDispatcher(bulkRetryStrategy, pluginMetrics, 3, 3, inFlightLimit::get, scheduler);
+
+        objectUnderTest.dispatch(bulkRequest);
+        objectUnderTest.dispatch(bulkRequest);
+        objectUnderTest.dispatch(bulkRequest);
+        captureScheduledTasks(1);
+
+        inFlightLimit.set(3);
+        objectUnderTest.dispatch(bulkRequest);
+
+        captureScheduledTasks(3);
+        assertThat(bulkRequestsQueued.get(), equalTo(4));
+    }
+
+    @Test
+    void completing_a_bulk_request_starts_the_next_waiting_bulk_request() throws InterruptedException {
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        when(bulkRetryStrategy.executeAsync(bulkRequest, scheduler)).thenReturn(completion);
+        final BulkRequestDispatcher objectUnderTest = createObjectUnderTest(1, 1);
+        objectUnderTest.dispatch(bulkRequest);
+        objectUnderTest.dispatch(bulkRequest);
+
+        captureScheduledTasks(1).get(0).run();
+        completion.complete(null);
+
+        captureScheduledTasks(2);
+        assertThat(bulkRequestsInFlight.get(), equalTo(0));
+        assertThat(bulkRequestsQueued.get(), equalTo(1));
+    }
+
+    @Test
+    void dispatch_releases_the_queue_when_the_scheduler_rejects_the_bulk_request() throws InterruptedException {
+        final BulkRequestDispatcher objectUnderTest = createObjectUnderTest(1, 0);
+        doThrow(RejectedExecutionException.class).when(scheduler).execute(any(Runnable.class));
+
+        assertThrows(RejectedExecutionException.class, () -> objectUnderTest.dispatch(bulkRequest));
+        assertThrows(RejectedExecutionException.class, () -> objectUnderTest.dispatch(bulkRequest));
+
+        assertThat(bulkRequestsQueued.get(), equalTo(0));
+        verify(bulkRetryStrategy, times(2)).handleUnsentBulkRequest(eq(bulkRequest), any(RejectedExecutionException.class));
+        verify(bulkRequestErrorsCounter, times(2)).increment();
+    }
+
+    @Test
+    void completing_a_bulk_request_fails_the_waiting_bulk_requests_when_the_scheduler_rejects_them() throws InterruptedException {
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        final AccumulatingBulkRequest waitingBulkRequest = mock(AccumulatingBulkRequest.class);
+        when(bulkRetryStrategy.executeAsync(bulkRequest, scheduler)).thenReturn(completion);
+        final BulkRequestDispatcher objectUnderTest = createObjectUnderTest(1, 1);
+        objectUnderTest.dispatch(bulkRequest);
+        objectUnderTest.dispatch(waitingBulkRequest);
+        final Runnable sendTask = captureScheduledTasks(1).get(0);
+        doThrow(RejectedExecutionException.class).when(scheduler).execute(any(Runnable.class));
+
+        sendTask.run();
+        completion.complete(null);
+
+        verify(bulkRetryStrategy).handleUnsentBulkRequest(eq(waitingBulkRequest), any(RejectedExecutionException.class));
+        verify(bulkRetryStrategy, never()).handleUnsentBulkRequest(eq(bulkRequest), any());
+        assertThat(bulkRequestsQueued.get(), equalTo(0));
+        assertThat(bulkRequestsInFlight.get(), equalTo(0));
+    }
+
+    @Test
+    void shutdown_stops_the_scheduler_without_outstanding_bulk_requests() {
+        createObjectUnderTest(2, 2).shutdown();
+
+        verify(scheduler).shutdownNow();
+    }
+
+    @Test
+    void shutdown_waits_for_outstanding_bulk_requests() throws InterruptedException {
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        when(bulkRetryStrategy.executeAsync(bulkRequest, scheduler)).thenReturn(completion);
+        final BulkRequestDispatcher objectUnderTest = createObjectUnderTest(1, 0);
+        objectUnderTest.dispatch(bulkRequest);
+        captureScheduledTasks(1).get(0).run();
+
+        final Thread shutdownThread = new Thread(objectUnderTest::shutdown);
+        shutdownThread.start();
+        shutdownThread.join(200);
+        assertThat(shutdownThread.isAlive(), equalTo(true));
+        verify(scheduler, never()).shutdownNow();
+
+        completion.complete(null);
+
+        shutdownThread.join(10_000);
+        assertThat(shutdownThread.isAlive(), equalTo(false));
+        verify(scheduler).shutdownNow();
+    }
+}
@@ -40,6 +40,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -50,13 +56,16 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.BulkRetryStrategy.VERSION_CONFLICT_EXCEPTION_TYPE;
@@ -637,6 +646,182 @@ public class BulkRetryStrategyTests {
         assertEquals(1.0, documentVersionConflictMeasurement.get(0).getValue(), 0);
     }
 
+    @Test
+    public void testExecuteAsyncSuccessOnFirstAttempt() throws Exception {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+        client.successOnFirstAttempt = true;
+        numEventsSucceeded = 0;
+        numEventsFailed = 0;
+        final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+
+        final BulkRetryStrategy bulkRetryStrategy = createObjectUnderTest(
+                client::bulk, logFailureConsumer,
+                () -> new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder()));
+
+        final CompletableFuture<Void> completion = bulkRetryStrategy.executeAsync(createAccumulatingBulkRequest(testIndex), scheduler);
+
+        assertTrue(completion.isDone());
+        assertEquals(1, client.attempt);
+        assertEquals(4, numEventsSucceeded);
+        verifyNoInteractions(scheduler);
+    }
+
+    @Test
+    public void testExecuteAsyncRetryable() throws Exception {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+        numEventsSucceeded = 0;
+        numEventsFailed = 0;
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        final BulkRetryStrategy bulkRetryStrategy = createObjectUnderTest(
+                client::bulk, logFailureConsumer,
+                () -> new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder()));
+
+        try {
+            bulkRetryStrategy.executeAsync(createAccumulatingBulkRequest(testIndex), scheduler).get(10, TimeUnit.SECONDS);
+        } finally {
+            scheduler.shutdownNow();
+        }
+
+        assertEquals(3, client.attempt);
+        assertEquals(3, numEventsSucceeded);
+        assertEquals(1, numEventsFailed);
+    }
+
+    @Test
+    public void testExecuteAsyncWithMaxRetries() throws Exception {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+        final int MAX_RETRIES = 5;
+        numEventsSucceeded = 0;
+        numEventsFailed = 0;
+        maxRetriesLimitReached = false;
+        client.maxRetriesTestValue = MAX_RETRIES;
+        logFailureConsumer = this::logFailureMaxRetries;
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        final BulkRetryStrategy bulkRetryStrategy = createObjectUnderTest(
+                client::bulk, logFailureConsumer, MAX_RETRIES,
+                () -> new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder()));
+
+        try {
+            bulkRetryStrategy.executeAsync(createAccumulatingBulkRequest(testIndex), scheduler).get(10, TimeUnit.SECONDS);
+        } finally {
+            scheduler.shutdownNow();
+        }
+
+        assertThat(maxRetriesLimitReached, equalTo(true));
+        assertEquals(0, numEventsSucceeded);
+        assertEquals(4, numEventsFailed);
+    }
+
+    @Test
+    public void testHandleUnsentBulkRequestHandsEveryOperationToTheFailureHandler() throws Exception {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+        numEventsSucceeded = 0;
+        numEventsFailed = 0;
+        final RejectedExecutionException failure = new RejectedExecutionException();
+
+        final BulkRetryStrategy bulkRetryStrategy = createObjectUnderTest(
+                client::bulk, logFailureConsumer,
+                () -> new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder()));
+
+        bulkRetryStrategy.handleUnsentBulkRequest(createAccumulatingBulkRequest(testIndex), failure);
+
+        assertEquals(0, client.attempt);
+        assertEquals(0, numEventsSucceeded);
+        assertEquals(4, numEventsFailed);
+        verify(logFailureConsumer).accept(any(List.class), eq(failure));
+    }
+
+    @Test
+    public void testExecuteAsyncHandlesFailuresWhenTheRetryIsRejected() {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+        client.maxRetriesTestValue = 5;
+        numEventsSucceeded = 0;
+        numEventsFailed = 0;
+        final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        when(scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS))).thenThrow(RejectedExecutionException.class);
+
+        final BulkRetryStrategy bulkRetryStrategy = createObjectUnderTest(
+                client::bulk, logFailureConsumer, 5,
+                () -> new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder()));
+
+        final CompletableFuture<Void> completion = bulkRetryStrategy.executeAsync(createAccumulatingBulkRequest(testIndex), scheduler);
+
+        assertTrue(completion.isDone());
+        assertFalse(completion.isCompletedExceptionally());
+        assertEquals(1, client.attempt);
+        assertEquals(0, numEventsSucceeded);
+        assertEquals(4, numEventsFailed);
+        verify(logFailureConsumer).accept(any(List.class), eq(null));
+    }
+
+    @Test
+    public void testExecuteAsyncHandlesFailuresWhenTheRetryAfterAnExceptionIsRejected() {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+        client.maxRetriesTestValue = 5;
+        client.maxRetriesWithException = true;
+        numEventsSucceeded = 0;
+        numEventsFailed = 0;
+        final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        when(scheduler.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS))).thenThrow(RejectedExecutionException.class);
+
+        final BulkRetryStrategy bulkRetryStrategy = createObjectUnderTest(
+                client::bulk, logFailureConsumer, 5,
+                () -> new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder()));
+
+        final CompletableFuture<Void> completion = bulkRetryStrategy.executeAsync(createAccumulatingBulkRequest(testIndex), scheduler);
+
+        assertTrue(completion.isDone());
+        assertEquals(0, numEventsSucceeded);
+        assertEquals(4, numEventsFailed);
+        verify(logFailureConsumer).accept(any(List.class), any(RejectedExecutionException.class));
+    }
+
+    @Test
+    public void testExecuteAsyncCompletesExceptionallyWhenTheSuccessHandlerThrows() {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+        client.successOnFirstAttempt = true;
+        final RuntimeException handlerException = new RuntimeException();
+        final BulkRetryStrategy bulkRetryStrategy = new BulkRetryStrategy(
+                client::bulk,
+                logFailureConsumer,
+                operations -> {
+                    throw handlerException;
+                },
+                pluginMetrics,
+                Integer.MAX_VALUE,
+                () -> new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder()),
+                PIPELINE_NAME,
+                PLUGIN_NAME,
+                null);
+
+        final CompletableFuture<Void> completion = bulkRetryStrategy.executeAsync(
+                createAccumulatingBulkRequest(testIndex), mock(ScheduledExecutorService.class));
+
+        assertTrue(completion.isCompletedExceptionally());
+        final ExecutionException exception = assertThrows(ExecutionException.class, completion::get);
+        assertThat(exception.getCause(), equalTo(handlerException));
+    }
+
+    private AccumulatingBulkRequest createAccumulatingBulkRequest(final String testIndex) {
+        final AccumulatingBulkRequest accumulatingBulkRequest = new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder());
+        final List<EventHandle> eventHandles = Arrays.asList(eventHandle1, eventHandle2, eventHandle3, eventHandle4);
+        for (int i = 0; i < eventHandles.size(); i++) {
+            final IndexOperation<SerializedJson> indexOperation = new IndexOperation.Builder<SerializedJson>()
+                    .index(testIndex).id(String.valueOf(i + 1)).document(arbitraryDocument()).build();
+            accumulatingBulkRequest.addOperation(new BulkOperationWrapper(new BulkOperation.Builder().index(indexOperation).build(), eventHandles.get(i)));
+        }
+        return accumulatingBulkRequest;
+    }
+
     @Test
     public void testExecuteNonRetryableResponse() throws Exception {
         final String testIndex = "bar";
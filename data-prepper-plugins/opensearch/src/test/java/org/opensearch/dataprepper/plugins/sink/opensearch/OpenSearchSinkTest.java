@@ -309,8 +309,6 @@ public class OpenSearchSinkTest {
         final EventHandle eventHandle = mock(EventHandle.class);
         when(event.getEventHandle()).thenReturn(eventHandle);
         final String index = UUID.randomUUID().toString();
-        when(event.formatString(versionExpression, expressionEvaluator)).thenReturn("not_a_number");
-        when(event.formatString(indexConfiguration.getIndexAlias(), expressionEvaluator)).thenReturn(index);
         final Record<Event> eventRecord = new Record<>(event);
 
         final OpenSearchSink objectUnderTest = createObjectUnderTest();
@@ -337,8 +335,8 @@ public class OpenSearchSinkTest {
 
         try (final MockedStatic<DocumentBuilder> documentBuilderMockedStatic = mockStatic(DocumentBuilder.class);
              final MockedStatic<DlqObject> dlqObjectMockedStatic = mockStatic(DlqObject.class)) {
-            documentBuilderMockedStatic.when(() -> DocumentBuilder.build(eq(event), eq(null), eq(null), eq(null), eq(null)))
-                    .thenReturn(UUID.randomUUID().toString());
+            documentBuilderMockedStatic.when(() -> DocumentBuilder.buildBytes(eq(event), eq(null), eq(null), eq(null), eq(null)))
+                    .thenReturn(UUID.randomUUID().toString().getBytes());
 
             dlqObjectMockedStatic.when(DlqObject::builder).thenReturn(dlqObjectBuilder);
             objectUnderTest.doOutput(List.of(eventRecord));
@@ -388,7 +386,7 @@ public class OpenSearchSinkTest {
     void doOutput_with_invalid_version_expression_result_catches_RuntimeException_and_creates_DLQObject() throws IOException {
 
         when(pluginSetting.getName()).thenReturn("opensearch");
-        final String versionExpression = UUID.randomUUID().toString();
+        final String versionExpression = "${/" + UUID.randomUUID() + "}";
         when(indexConfiguration.getVersionExpression()).thenReturn(versionExpression);
 
         final Event event = mock(JacksonEvent.class);
@@ -397,8 +395,6 @@ public class OpenSearchSinkTest {
         final EventHandle eventHandle = mock(EventHandle.class);
         when(event.getEventHandle()).thenReturn(eventHandle);
         final String index = UUID.randomUUID().toString();
-        when(event.formatString(versionExpression, expressionEvaluator)).thenThrow(RuntimeException.class);
-        when(event.formatString(indexConfiguration.getIndexAlias(), expressionEvaluator)).thenReturn(index);
         final Record<Event> eventRecord = new Record<>(event);
 
         final OpenSearchSink objectUnderTest = createObjectUnderTest();
@@ -425,8 +421,8 @@ public class OpenSearchSinkTest {
 
         try (final MockedStatic<DocumentBuilder> documentBuilderMockedStatic = mockStatic(DocumentBuilder.class);
              final MockedStatic<DlqObject> dlqObjectMockedStatic = mockStatic(DlqObject.class)) {
-            documentBuilderMockedStatic.when(() -> DocumentBuilder.build(eq(event), eq(null), eq(null), eq(null), eq(null)))
-                    .thenReturn(UUID.randomUUID().toString());
+            documentBuilderMockedStatic.when(() -> DocumentBuilder.buildBytes(eq(event), eq(null), eq(null), eq(null), eq(null)))
+                    .thenReturn(UUID.randomUUID().toString().getBytes());
 
             dlqObjectMockedStatic.when(DlqObject::builder).thenReturn(dlqObjectBuilder);
             objectUnderTest.doOutput(List.of(eventRecord));
@@ -0,0 +1,189 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GzipSizeCounterTest {
+    private final Random random = new Random(0);
+    private final GzipCompressionRatio lastCompressionRatio = new GzipCompressionRatio();
+
+    private static long gzipSize(final List<byte[]> chunks) throws IOException {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzipOut = new GZIPOutputStream(compressed)) {
+            for (final byte[] chunk : chunks) {
+                gzipOut.write(chunk);
+            }
+        }
+        return compressed.size();
+    }
+
+    private List<byte[]> generateDocuments(final int count) {
+        final List<byte[]> documents = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            documents.add(("{\"id\":" + i + ",\"value\":" + random.nextInt(1000) + ",\"message\":\"a log line\"}")
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        return documents;
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 10, 1000, 50000})
+    void getCompressedSize_after_finish_is_the_gzip_size(final int documentCount) throws IOException {
+        final List<byte[]> documents = generateDocuments(documentCount);
+        final GzipSizeCounter objectUnderTest = new GzipSizeCounter(lastCompressionRatio);
+        for (final byte[] document : documents) {
+            objectUnderTest.write(document);
+        }
+
+        objectUnderTest.finish();
+
+        assertThat(objectUnderTest.getCompressedSize(), equalTo(gzipSize(documents)));
+    }
+
+    @Test
+    void getCompressedSize_is_the_gzip_size_with_a_reused_deflater() throws IOException {
+        final List<byte[]> documents = generateDocuments(100);
+        for (int i = 0; i < 3; i++) {
+            final GzipSizeCounter objectUnderTest = new GzipSizeCounter(lastCompressionRatio);
+            for (final byte[] document : documents) {
+                objectUnderTest.write(document);
+            }
+            objectUnderTest.close();
+
+            assertThat(objectUnderTest.getCompressedSize(), equalTo(gzipSize(documents)));
+        }
+    }
+
+    @Test
+    void getUncompressedSize_returns_the_number_of_bytes_written() throws IOException {
+        final GzipSizeCounter objectUnderTest = new GzipSizeCounter(lastCompressionRatio);
+        objectUnderTest.write(new byte[100]);
+        objectUnderTest.write(1);
+
+        assertThat(objectUnderTest.getUncompressedSize(), equalTo(101L));
+    }
+
+    @Test
+    void estimateCompressedSizeWith_extrapolates_the_compression_ratio_so_far() throws IOException {
+        final byte[] incompressibleBytes = new byte[1024 * 1024];
+        random.nextBytes(incompressibleBytes);
+        final GzipSizeCounter objectUnderTest = new GzipSizeCounter(lastCompressionRatio);
+        objectUnderTest.write(incompressibleBytes);
+
+        final long estimatedSize = objectUnderTest.getCompressedSize();
+
+        assertThat((double) estimatedSize, closeTo(incompressibleBytes.length, incompressibleBytes.length * 0.05));
+        assertThat((double) (objectUnderTest.estimateCompressedSizeWith(10_000) - estimatedSize), closeTo(10_000, 500));
+    }
+
+    @Test
+    void estimateCompressedSizeWith_uses_the_compression_ratio_of_the_last_finished_counter_before_any_output() throws IOException {
+        final GzipSizeCounter finishedCounter = new GzipSizeCounter(lastCompressionRatio);
+        for (final byte[] document : generateDocuments(1000)) {
+            finishedCounter.write(document);
+        }
+        finishedCounter.finish();
+        final double compressionRatio = (double) (finishedCounter.getCompressedSize() - GzipSizeCounter.GZIP_HEADER_AND_TRAILER_BYTES) /
+                finishedCounter.getUncompressedSize();
+
+        final GzipSizeCounter objectUnderTest = new GzipSizeCounter(lastCompressionRatio);
+        final GzipSizeCounter counterOfAnotherSink = new GzipSizeCounter(new GzipCompressionRatio());
+
+        assertThat(compressionRatio < 0.5, equalTo(true));
+        assertThat(objectUnderTest.estimateCompressedSizeWith(100_000),
+                equalTo(GzipSizeCounter.GZIP_HEADER_AND_TRAILER_BYTES + (long) (100_000 * compressionRatio)));
+        assertThat(counterOfAnotherSink.estimateCompressedSizeWith(100_000),
+                equalTo(GzipSizeCounter.GZIP_HEADER_AND_TRAILER_BYTES + 100_000L));
+    }
+
+    @Test
+    void sampleNextDocument_samples_every_document_until_the_fully_compressed_bytes_and_then_one_in_the_interval() throws IOException {
+        final GzipSizeCounter objectUnderTest = new GzipSizeCounter(lastCompressionRatio);
+        while (objectUnderTest.getUncompressedSize() < GzipSizeCounter.FULLY_COMPRESSED_BYTES) {
+            assertThat(objectUnderTest.sampleNextDocument(), equalTo(true));
+            objectUnderTest.write(new byte[1000]);
+        }
+
+        for (int interval = 0; interval < 3; interval++) {
+            for (int i = 1; i < GzipSizeCounter.SAMPLE_INTERVAL; i++) {
+                assertThat(objectUnderTest.sampleNextDocument(), equalTo(false));
+            }
+            assertThat(objectUnderTest.sampleNextDocument(), equalTo(true));
+        }
+    }
+
+    @Test
+    void getCompressedSize_after_finish_estimates_the_skipped_bytes_from_the_compression_ratio_of_the_written_bytes() throws IOException {
+        final List<byte[]> documents = generateDocuments(20_000);
+        final GzipSizeCounter objectUnderTest = new GzipSizeCounter(lastCompressionRatio);
+        for (final byte[] document : documents) {
+            if (objectUnderTest.sampleNextDocument()) {
+                objectUnderTest.write(document);
+            } else {
+                objectUnderTest.skip(document.length);
+            }
+        }
+        final long estimatedSize = objectUnderTest.getCompressedSize();
+
+        objectUnderTest.finish();
+
+        final long gzipSize = gzipSize(documents);
+        assertThat((double) estimatedSize, closeTo(gzipSize, gzipSize * 0.05));
+        assertThat((double) objectUnderTest.getCompressedSize(), closeTo(gzipSize, gzipSize * 0.05));
+        assertThat(objectUnderTest.getUncompressedSize(), equalTo(documents.stream().mapToLong(document -> document.length).sum()));
+    }
+
+    @Test
+    void close_finishes_the_counter() throws IOException {
+        final List<byte[]> documents = generateDocuments(10);
+        final GzipSizeCounter objectUnderTest = new GzipSizeCounter(lastCompressionRatio);
+        for (final byte[] document : documents) {
+            objectUnderTest.write(document);
+        }
+
+        objectUnderTest.close();
+
+        assertThat(objectUnderTest.getCompressedSize(), equalTo(gzipSize(documents)));
+        assertThrows(IllegalStateException.class, () -> objectUnderTest.write(new byte[1]));
+    }
+
+    @Test
+    void finish_called_multiple_times_does_not_change_the_compressed_size() throws IOException {
+        final GzipSizeCounter objectUnderTest = new GzipSizeCounter(lastCompressionRatio);
+        objectUnderTest.write(generateDocuments(1).get(0));
+        objectUnderTest.finish();
+        final long compressedSize = objectUnderTest.getCompressedSize();
+
+        objectUnderTest.finish();
+
+        assertThat(objectUnderTest.getCompressedSize(), equalTo(compressedSize));
+    }
+
+    @Test
+    void write_after_finish_throws() {
+        final GzipSizeCounter objectUnderTest = new GzipSizeCounter(lastCompressionRatio);
+        objectUnderTest.finish();
+
+        assertThrows(IllegalStateException.class, () -> objectUnderTest.write(new byte[1]));
+        assertThrows(IllegalStateException.class, () -> objectUnderTest.skip(1));
+    }
+}
@@ -16,7 +16,6 @@ import org.opensearch.client.opensearch.core.bulk.IndexOperation;
 import org.opensearch.dataprepper.plugins.sink.opensearch.BulkOperationWrapper;
 
 import java.io.ByteArrayOutputStream;
-import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -25,6 +24,9 @@ import java.util.zip.GZIPOutputStream;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -47,7 +49,7 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
     }
 
     private JavaClientAccumulatingCompressedBulkRequest createObjectUnderTest() {
-        return new JavaClientAccumulatingCompressedBulkRequest(bulkRequestBuilder, 5 * 1024 * 1024, 2, 1);
+        return new JavaClientAccumulatingCompressedBulkRequest(bulkRequestBuilder);
     }
 
     @Test
@@ -83,35 +85,92 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
 
     @ParameterizedTest
     @ValueSource(ints = {1, 2, 3, 10})
-    void getEstimatedSizeInBytes_returns_the_current_size(final int operationCount) throws Exception {
+    void getEstimatedSizeInBytes_after_getRequest_returns_the_gzip_size_of_the_documents(final int operationCount) throws Exception {
         final JavaClientAccumulatingCompressedBulkRequest objectUnderTest = createObjectUnderTest();
-        final long arbitraryDocumentSize = 175;
-        long expectedDocumentSize = 0;
+        final List<SizedDocument> documents = new ArrayList<>();
         for (int i = 0; i < operationCount; i++) {
-            final SizedDocument document = generateDocumentWithLength(arbitraryDocumentSize);
-            if (i == 0) {
-                expectedDocumentSize = getDocumentExpectedLength(document);
-            }
-            final BulkOperationWrapper bulkOperation = new BulkOperationWrapper(createBulkOperation(document));
-            objectUnderTest.addOperation(bulkOperation);
+            final SizedDocument document = generateDocumentWithLength(175);
+            documents.add(document);
+            objectUnderTest.addOperation(new BulkOperationWrapper(createBulkOperation(document)));
         }
 
-        final long expectedSize = operationCount * (expectedDocumentSize);
-        assertThat(objectUnderTest.getEstimatedSizeInBytes(), equalTo(expectedSize));
+        objectUnderTest.getRequest();
+
+        assertThat(objectUnderTest.getEstimatedSizeInBytes(), equalTo(getExpectedCompressedSize(documents)));
     }
 
     @ParameterizedTest
     @ValueSource(ints = {1, 2, 3, 10})
-    void getEstimatedSizeInBytes_returns_the_operation_overhead_if_requests_have_no_documents(final int operationCount) throws Exception {
+    void getEstimatedSizeInBytes_after_getRequest_returns_the_empty_gzip_size_if_requests_have_no_documents(final int operationCount) throws Exception {
         final JavaClientAccumulatingCompressedBulkRequest objectUnderTest = createObjectUnderTest();
         final SizedDocument emptyDocument = generateDocumentWithLength(0);
-        final long expectedDocumentSize = getDocumentExpectedLength(emptyDocument);
         for (int i = 0; i < operationCount; i++) {
             objectUnderTest.addOperation(new BulkOperationWrapper(createBulkOperation(emptyDocument)));
         }
 
-        final long expectedSize = expectedDocumentSize * operationCount;
-        assertThat(objectUnderTest.getEstimatedSizeInBytes(), equalTo(expectedSize));
+        objectUnderTest.getRequest();
+
+        assertThat(objectUnderTest.getEstimatedSizeInBytes(), equalTo(getExpectedCompressedSize(Collections.emptyList())));
+    }
+
+    @Test
+    void getEstimatedSizeInBytes_after_close_returns_the_gzip_size_of_the_documents() throws Exception {
+        final JavaClientAccumulatingCompressedBulkRequest objectUnderTest = createObjectUnderTest();
+        final List<SizedDocument> documents = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final SizedDocument document = generateDocumentWithLength(175);
+            documents.add(document);
+            objectUnderTest.addOperation(new BulkOperationWrapper(createBulkOperation(document)));
+        }
+
+        objectUnderTest.close();
+
+        assertThat(objectUnderTest.getEstimatedSizeInBytes(), equalTo(getExpectedCompressedSize(documents)));
+        assertThat(objectUnderTest.getOperationsCount(), equalTo(10));
+    }
+
+    @Test
+    void getEstimatedSizeInBytes_after_getRequest_estimates_the_gzip_size_of_documents_past_the_fully_compressed_bytes() throws Exception {
+        final JavaClientAccumulatingCompressedBulkRequest objectUnderTest = createObjectUnderTest();
+        final List<SizedDocument> documents = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            final SizedDocument document = generateDocumentWithLength(175);
+            documents.add(document);
+            objectUnderTest.addOperation(new BulkOperationWrapper(createBulkOperation(document)));
+        }
+
+        objectUnderTest.getRequest();
+
+        final long expectedCompressedSize = getExpectedCompressedSize(documents);
+        assertThat((double) objectUnderTest.getEstimatedSizeInBytes(), closeTo(expectedCompressedSize, expectedCompressedSize * 0.05));
+    }
+
+    @Test
+    void estimateSizeInBytesWithDocument_on_new_object_uses_the_compression_ratio_of_the_last_closed_request() {
+        final GzipCompressionRatio lastCompressionRatio = new GzipCompressionRatio();
+        final JavaClientAccumulatingCompressedBulkRequest closedRequest =
+                new JavaClientAccumulatingCompressedBulkRequest(bulkRequestBuilder, lastCompressionRatio);
+        for (int i = 0; i < 100; i++) {
+            closedRequest.addOperation(new BulkOperationWrapper(createBulkOperation(new SerializedJsonImpl(new byte[1000]))));
+        }
+        closedRequest.close();
+
+        final JavaClientAccumulatingCompressedBulkRequest objectUnderTest =
+                new JavaClientAccumulatingCompressedBulkRequest(bulkRequestBuilder, lastCompressionRatio);
+        final BulkOperationWrapper bulkOperation = new BulkOperationWrapper(createBulkOperation(new SerializedJsonImpl(new byte[10_000])));
+
+        assertThat(objectUnderTest.estimateSizeInBytesWithDocument(bulkOperation),
+                lessThan(createObjectUnderTest().estimateSizeInBytesWithDocument(bulkOperation)));
+    }
+
+    @Test
+    void addOperation_throws_after_close() {
+        final JavaClientAccumulatingCompressedBulkRequest objectUnderTest = createObjectUnderTest();
+        objectUnderTest.close();
+
+        final BulkOperationWrapper bulkOperation = new BulkOperationWrapper(createBulkOperation(generateDocument()));
+
+        assertThrows(IllegalStateException.class, () -> objectUnderTest.addOperation(bulkOperation));
     }
 
     @Test
@@ -133,25 +192,22 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
 
     @ParameterizedTest
     @ValueSource(longs = {0, 1, 2, 10, 50, 100})
-    void estimateSizeInBytesWithDocument_on_new_object_returns_estimated_document_size(long inputDocumentSize) throws Exception {
-        final SizedDocument document = generateDocumentWithLength(inputDocumentSize);
-        final long expectedDocumentSize = getDocumentExpectedLength(document);
-        final BulkOperationWrapper bulkOperation = new BulkOperationWrapper(createBulkOperation(document));
-
+    void estimateSizeInBytesWithDocument_is_at_least_the_estimated_size_without_the_document(long inputDocumentSize) {
         final JavaClientAccumulatingCompressedBulkRequest objectUnderTest = createObjectUnderTest();
-        objectUnderTest.addOperation(bulkOperation);
+        objectUnderTest.addOperation(new BulkOperationWrapper(createBulkOperation(generateDocumentWithLength(inputDocumentSize))));
 
-        final long expectedSize = 2 * expectedDocumentSize;
-        assertThat(objectUnderTest.estimateSizeInBytesWithDocument(new BulkOperationWrapper(createBulkOperation(generateDocumentWithLength(inputDocumentSize)))),
-                equalTo(expectedSize));
+        final BulkOperationWrapper bulkOperation = new BulkOperationWrapper(createBulkOperation(generateDocumentWithLength(inputDocumentSize)));
+
+        assertThat(objectUnderTest.estimateSizeInBytesWithDocument(bulkOperation),
+                greaterThanOrEqualTo(objectUnderTest.getEstimatedSizeInBytes()));
     }
 
     @Test
-    void estimateSizeInBytesWithDocument_on_new_object_returns_operation_overhead_if_no_document() {
+    void estimateSizeInBytesWithDocument_on_new_object_returns_gzip_overhead_if_no_document() {
         final BulkOperationWrapper bulkOperation = new BulkOperationWrapper(createBulkOperation(null));
 
         assertThat(createObjectUnderTest().estimateSizeInBytesWithDocument(bulkOperation),
-                equalTo(0L));
+                equalTo((long) GzipSizeCounter.GZIP_HEADER_AND_TRAILER_BYTES));
     }
 
     @Test
@@ -190,6 +246,16 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
         assertDoesNotThrow(() -> objectUnderTest.addOperation(bulkOperation));
     }
 
+    @Test
+    void addOperation_throws_after_getRequest() {
+        final JavaClientAccumulatingCompressedBulkRequest objectUnderTest = createObjectUnderTest();
+        objectUnderTest.getRequest();
+
+        final BulkOperationWrapper bulkOperation = new BulkOperationWrapper(createBulkOperation(generateDocument()));
+
+        assertThrows(IllegalStateException.class, () -> objectUnderTest.addOperation(bulkOperation));
+    }
+
     @Test
     void getRequest_returns_BulkRequestBuilder_build() {
         BulkRequest expectedBulkRequest = mock(BulkRequest.class);
@@ -232,15 +298,13 @@ class JavaClientAccumulatingCompressedBulkRequestTest {
         return new SerializedJsonImpl(documentBytes);
     }
 
-    private long getDocumentExpectedLength(final SizedDocument sizedDocument) throws Exception {
-        final List<Object> docList = new ArrayList<>();
-        docList.add(sizedDocument);
-
+    private long getExpectedCompressedSize(final List<SizedDocument> sizedDocuments) throws Exception {
         final ByteArrayOutputStream baos = new ByteArrayOutputStream();
         final GZIPOutputStream gzipOut = new GZIPOutputStream(baos);
-        final ObjectOutputStream objectOut = new ObjectOutputStream(gzipOut);
-        objectOut.writeObject(docList);
-        objectOut.close();
+        for (final SizedDocument sizedDocument : sizedDocuments) {
+            gzipOut.write(((SerializedJson) sizedDocument).getSerializedJson());
+        }
+        gzipOut.close();
 
         return baos.toByteArray().length;
     }
@@ -39,6 +39,24 @@ class SerializedJsonTest {
         assertThat(serializedJson.getSerializedJson(), equalTo("{}".getBytes()));
     }
 
+    @Test
+    void fromBytes_returns_SerializedJsonImpl_with_correctValues() {
+        String documentId = RandomStringUtils.randomAlphabetic(10);
+        String routingField = RandomStringUtils.randomAlphabetic(10);
+        final byte[] jsonBytes = "{}".getBytes();
+        SerializedJson serializedJson = SerializedJson.fromBytesAndOptionals(jsonBytes, documentId, routingField, null);
+        assertThat(serializedJson, instanceOf(SerializedJsonImpl.class));
+        assertThat(serializedJson.getDocumentId().get(), equalTo(documentId));
+        assertThat(serializedJson.getRoutingField().get(), equalTo(routingField));
+        assertThat(serializedJson.getPipelineField().isPresent(), equalTo(false));
+        assertThat(serializedJson.getSerializedJson(), equalTo(jsonBytes));
+    }
+
+    @Test
+    void fromBytes_throws_if_the_jsonBytes_is_null() {
+        assertThrows(NullPointerException.class, () -> SerializedJson.fromBytesAndOptionals(null, null, null, null));
+    }
+
     @Test
     void fromString_returns_SerializedJsonNode_with_correctValues() {
         String documentId = RandomStringUtils.randomAlphabetic(10);
@@ -15,7 +15,9 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
+import org.opensearch.dataprepper.plugins.sink.opensearch.BulkRequestGrouping;
 import org.opensearch.dataprepper.plugins.sink.opensearch.DistributionVersion;
+import org.opensearch.dataprepper.plugins.sink.opensearch.configuration.AdaptiveBulkControlConfiguration;
 import org.opensearch.dataprepper.plugins.sink.opensearch.configuration.OpenSearchSinkConfig;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.http.AbortableInputStream;
@@ -51,6 +53,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexConfiguration.AWS_OPTION;
+import static org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexConfiguration.BULK_REQUEST_GROUPING;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexConfiguration.DISTRIBUTION_VERSION;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexConfiguration.DOCUMENT_ROOT_KEY;
 import static org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexConfiguration.DOCUMENT_VERSION_EXPRESSION;
@@ -343,6 +346,9 @@ public class IndexConfigurationTests {
         assertEquals(60_000L, indexConfiguration.getFlushTimeout());
         assertEquals(false, indexConfiguration.isEstimateBulkSizeUsingCompression());
         assertEquals(2, indexConfiguration.getMaxLocalCompressionsForEstimation());
+        assertEquals(0, indexConfiguration.getMaxInFlightBulkRequests());
+        assertEquals(0, indexConfiguration.getBulkRequestQueueSize());
+        assertNull(indexConfiguration.getAdaptiveBulkControl());
         assertEquals("${traceId}/${spanId}", indexConfiguration.getDocumentId());
     }
 
@@ -384,6 +390,8 @@ public class IndexConfigurationTests {
                 null, testIndexAlias, defaultTemplateFilePath, null, testBulkSize, testFlushTimeout, testIdField);
         metaData.put(IndexConfiguration.ESTIMATE_BULK_SIZE_USING_COMPRESSION, true);
         metaData.put(IndexConfiguration.MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION, 5);
+        metaData.put(IndexConfiguration.MAX_IN_FLIGHT_BULK_REQUESTS, 4);
+        metaData.put(IndexConfiguration.BULK_REQUEST_QUEUE_SIZE, 8);
         final OpenSearchSinkConfig openSearchSinkConfig = getOpenSearchSinkConfig(metaData);
         final IndexConfiguration indexConfiguration = IndexConfiguration.readIndexConfig(openSearchSinkConfig);
         assertEquals(IndexType.CUSTOM, indexConfiguration.getIndexType());
@@ -393,9 +401,44 @@ public class IndexConfigurationTests {
         assertEquals(testFlushTimeout, indexConfiguration.getFlushTimeout());
         assertEquals(true, indexConfiguration.isEstimateBulkSizeUsingCompression());
         assertEquals(5, indexConfiguration.getMaxLocalCompressionsForEstimation());
+        assertEquals(4, indexConfiguration.getMaxInFlightBulkRequests());
+        assertEquals(8, indexConfiguration.getBulkRequestQueueSize());
         assertEquals(testIdField, indexConfiguration.getDocumentId());
     }
 
+    @Test
+    public void testBulkRequestQueueSizeDefaultsToMaxInFlightBulkRequests() {
+        final IndexConfiguration indexConfiguration = new IndexConfiguration.Builder()
+                .withIndexAlias("foo")
+                .withMaxInFlightBulkRequests(3)
+                .build();
+
+        assertEquals(3, indexConfiguration.getMaxInFlightBulkRequests());
+        assertEquals(3, indexConfiguration.getBulkRequestQueueSize());
+    }
+
+    @Test
+    public void testNegativeMaxInFlightBulkRequestsOrQueueSizeThrows() {
+        assertThrows(IllegalArgumentException.class, () -> new IndexConfiguration.Builder().withMaxInFlightBulkRequests(-1));
+        assertThrows(IllegalArgumentException.class, () -> new IndexConfiguration.Builder().withBulkRequestQueueSize(-1));
+    }
+
+    @Test
+    public void testAdaptiveBulkControlRequiresPositiveBulkSize() {
+        final AdaptiveBulkControlConfiguration adaptiveBulkControl = new AdaptiveBulkControlConfiguration();
+        final IndexConfiguration indexConfiguration = new IndexConfiguration.Builder()
+                .withIndexAlias("foo")
+                .withAdaptiveBulkControl(adaptiveBulkControl)
+                .build();
+
+        assertEquals(adaptiveBulkControl, indexConfiguration.getAdaptiveBulkControl());
+        assertThrows(IllegalArgumentException.class, () -> new IndexConfiguration.Builder()
+                .withIndexAlias("foo")
+                .withBulkSize(-1)
+                .withAdaptiveBulkControl(adaptiveBulkControl)
+                .build());
+    }
+
     @Test
     public void testValidCustomWithQueryManager() {
         final String defaultTemplateFilePath = Objects.requireNonNull(
@@ -505,6 +548,35 @@ public class IndexConfigurationTests {
         assertEquals(IndexType.CUSTOM, indexConfiguration.getIndexType());
     }
 
+    @Test
+    public void testReadIndexConfig_bulkRequestGroupingDefault() throws JsonProcessingException {
+        final Map<String, Object> metadata = initializeConfigMetaData(
+                null, "foo", null, null, null, null, null);
+        final OpenSearchSinkConfig openSearchSinkConfig = getOpenSearchSinkConfig(metadata);
+        final IndexConfiguration indexConfiguration = IndexConfiguration.readIndexConfig(openSearchSinkConfig);
+        assertEquals(BulkRequestGrouping.NONE, indexConfiguration.getBulkRequestGrouping());
+    }
+
+    @ParameterizedTest
+    @EnumSource(BulkRequestGrouping.class)
+    public void testReadIndexConfig_bulkRequestGrouping(final BulkRequestGrouping bulkRequestGrouping) throws JsonProcessingException {
+        final Map<String, Object> metadata = initializeConfigMetaData(
+                null, "foo", null, null, null, null, null);
+        metadata.put(BULK_REQUEST_GROUPING, bulkRequestGrouping.getGrouping());
+        final OpenSearchSinkConfig openSearchSinkConfig = getOpenSearchSinkConfig(metadata);
+        final IndexConfiguration indexConfiguration = IndexConfiguration.readIndexConfig(openSearchSinkConfig);
+        assertEquals(bulkRequestGrouping, indexConfiguration.getBulkRequestGrouping());
+    }
+
+    @Test
+    public void testReadIndexConfig_invalidBulkRequestGroupingThrows() throws JsonProcessingException {
+        final Map<String, Object> metadata = initializeConfigMetaData(
+                null, "foo", null, null, null, null, null);
+        metadata.put(BULK_REQUEST_GROUPING, "routing");
+        final OpenSearchSinkConfig openSearchSinkConfig = getOpenSearchSinkConfig(metadata);
+        assertThrows(IllegalArgumentException.class, () -> IndexConfiguration.readIndexConfig(openSearchSinkConfig));
+    }
+
     @Test
     public void testReadIndexConfig_documentRootKey() throws JsonProcessingException {
         final Map<String, Object> metadata = initializeConfigMetaData(
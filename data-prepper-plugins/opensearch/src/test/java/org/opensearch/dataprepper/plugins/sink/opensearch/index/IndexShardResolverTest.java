@@ -0,0 +1,194 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch.indices.GetIndicesSettingsRequest;
+import org.opensearch.client.opensearch.indices.GetIndicesSettingsResponse;
+import org.opensearch.client.opensearch.indices.IndexSettings;
+import org.opensearch.client.opensearch.indices.IndexState;
+import org.opensearch.client.opensearch.indices.OpenSearchIndicesClient;
+import org.opensearch.client.transport.TransportOptions;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IndexShardResolverTest {
+    private static final String INDEX = "test-index";
+
+    @Mock
+    private OpenSearchClient openSearchClient;
+
+    @Mock
+    private OpenSearchIndicesClient openSearchIndicesClient;
+
+    private IndexShardResolver createObjectUnderTest() {
+        return new IndexShardResolver(() -> openSearchClient, Runnable::run);
+    }
+
+    private void givenSettingsResponse(final GetIndicesSettingsResponse response) throws IOException {
+        when(openSearchClient.indices()).thenReturn(openSearchIndicesClient);
+        when(openSearchIndicesClient.withTransportOptions(any(TransportOptions.class))).thenReturn(openSearchIndicesClient);
+        when(openSearchIndicesClient.getSettings(any(GetIndicesSettingsRequest.class))).thenReturn(response);
+    }
+
+    private static GetIndicesSettingsResponse createResponse(final IndexSettings settings) {
+        return GetIndicesSettingsResponse.of(response -> response.result(Map.of(INDEX,
+                IndexState.of(state -> state.settings(IndexSettings.of(indexSettings -> indexSettings.index(settings)))))));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"hello,2", "document-1,2", "document-2,0", "custom-routing,0"})
+    void getShard_returns_the_shard_of_the_document_id(final String documentId, final int expectedShard) throws IOException {
+        givenSettingsResponse(createResponse(IndexSettings.of(settings -> settings.numberOfShards("3"))));
+
+        assertThat(createObjectUnderTest().getShard(INDEX, documentId, null), equalTo(expectedShard));
+    }
+
+    @Test
+    void getShard_prefers_the_routing_over_the_document_id() throws IOException {
+        givenSettingsResponse(createResponse(IndexSettings.of(settings -> settings.numberOfShards("5"))));
+
+        assertThat(createObjectUnderTest().getShard(INDEX, "document-2", "custom-routing"), equalTo(3));
+    }
+
+    @Test
+    void getShard_uses_the_configured_number_of_routing_shards() throws IOException {
+        givenSettingsResponse(createResponse(IndexSettings.of(settings -> settings.numberOfShards("3").numberOfRoutingShards(6))));
+
+        assertThat(createObjectUnderTest().getShard(INDEX, "document-1", null), equalTo(1));
+    }
+
+    @Test
+    void getShard_caches_the_shard_routing_of_the_index() throws IOException {
+        givenSettingsResponse(createResponse(IndexSettings.of(settings -> settings.numberOfShards("3"))));
+        final IndexShardResolver objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.getShard(INDEX, "document-1", null);
+        objectUnderTest.getShard(INDEX, "document-2", null);
+
+        verify(openSearchIndicesClient, times(1)).getSettings(any(GetIndicesSettingsRequest.class));
+    }
+
+    @Test
+    void getShard_returns_unknown_until_the_settings_of_the_index_were_read_in_the_background() throws IOException {
+        final List<Runnable> backgroundTasks = new ArrayList<>();
+        final IndexShardResolver objectUnderTest = new IndexShardResolver(() -> openSearchClient, backgroundTasks::add);
+
+        assertThat(objectUnderTest.getShard(INDEX, "hello", null), equalTo(IndexShardResolver.UNKNOWN_SHARD));
+        verifyNoInteractions(openSearchClient);
+
+        givenSettingsResponse(createResponse(IndexSettings.of(settings -> settings.numberOfShards("3"))));
+        while (!backgroundTasks.isEmpty()) {
+            backgroundTasks.remove(0).run();
+        }
+
+        assertThat(objectUnderTest.getShard(INDEX, "hello", null), equalTo(2));
+        verify(openSearchIndicesClient, times(1)).getSettings(any(GetIndicesSettingsRequest.class));
+    }
+
+    @Test
+    void getShard_reads_the_settings_with_the_current_client_of_the_supplier() throws IOException {
+        givenSettingsResponse(createResponse(IndexSettings.of(settings -> settings.numberOfShards("3"))));
+        final AtomicInteger suppliedClients = new AtomicInteger();
+        final IndexShardResolver objectUnderTest = new IndexShardResolver(() -> {
+            suppliedClients.incrementAndGet();
+            return openSearchClient;
+        }, Runnable::run);
+
+        objectUnderTest.getShard(INDEX, "document-1", null);
+        objectUnderTest.getShard("other-index", "document-1", null);
+
+        assertThat(suppliedClients.get(), equalTo(2));
+    }
+
+    @Test
+    void getShard_reads_the_settings_with_a_filter_path_which_keeps_the_number_of_shards() throws IOException {
+        givenSettingsResponse(createResponse(IndexSettings.of(settings -> settings.numberOfShards("3"))));
+
+        createObjectUnderTest().getShard(INDEX, "document-1", null);
+
+        final ArgumentCaptor<TransportOptions> transportOptionsCaptor = ArgumentCaptor.forClass(TransportOptions.class);
+        verify(openSearchIndicesClient).withTransportOptions(transportOptionsCaptor.capture());
+        assertThat(transportOptionsCaptor.getValue().queryParameters().get("filter_path"),
+                equalTo(IndexShardResolver.SETTINGS_FILTER_PATH));
+    }
+
+    @Test
+    void getShard_returns_unknown_after_shutdown() {
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        final IndexShardResolver objectUnderTest = new IndexShardResolver(() -> openSearchClient, executorService);
+
+        objectUnderTest.shutdown();
+
+        assertThat(executorService.isShutdown(), equalTo(true));
+        assertThat(objectUnderTest.getShard(INDEX, "document-1", null), equalTo(IndexShardResolver.UNKNOWN_SHARD));
+        verifyNoInteractions(openSearchClient);
+    }
+
+    @Test
+    void getShard_returns_unknown_without_a_routing_or_document_id() {
+        assertThat(createObjectUnderTest().getShard(INDEX, null, null), equalTo(IndexShardResolver.UNKNOWN_SHARD));
+        verifyNoInteractions(openSearchClient);
+    }
+
+    @Test
+    void getShard_returns_unknown_with_a_routing_partition_size() throws IOException {
+        givenSettingsResponse(createResponse(IndexSettings.of(settings -> settings.numberOfShards("3").routingPartitionSize(2))));
+
+        assertThat(createObjectUnderTest().getShard(INDEX, "document-1", null), equalTo(IndexShardResolver.UNKNOWN_SHARD));
+    }
+
+    @Test
+    void getShard_returns_unknown_when_the_index_resolves_to_multiple_indexes() throws IOException {
+        final IndexState indexState = IndexState.of(state -> state.settings(IndexSettings.of(settings -> settings.numberOfShards("3"))));
+        givenSettingsResponse(GetIndicesSettingsResponse.of(response -> response.result(Map.of("index-1", indexState, "index-2", indexState))));
+
+        assertThat(createObjectUnderTest().getShard(INDEX, "document-1", null), equalTo(IndexShardResolver.UNKNOWN_SHARD));
+    }
+
+    @Test
+    void getShard_returns_unknown_when_reading_the_settings_fails() throws IOException {
+        when(openSearchClient.indices()).thenReturn(openSearchIndicesClient);
+        when(openSearchIndicesClient.withTransportOptions(any(TransportOptions.class))).thenReturn(openSearchIndicesClient);
+        when(openSearchIndicesClient.getSettings(any(GetIndicesSettingsRequest.class))).thenThrow(IOException.class);
+
+        assertThat(createObjectUnderTest().getShard(INDEX, "document-1", null), equalTo(IndexShardResolver.UNKNOWN_SHARD));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1,1024", "2,1024", "3,768", "5,640", "16,1024", "1024,2048"})
+    void getDefaultRoutingNumShards_returns_the_number_of_routing_shards_of_OpenSearch(final int numberOfShards, final int expectedRoutingNumShards) {
+        assertThat(IndexShardResolver.getDefaultRoutingNumShards(numberOfShards), equalTo(expectedRoutingNumShards));
+    }
+
+    @ParameterizedTest
+    @CsvSource({"hell,0x5a0cb7c3", "hello,0xd7c31989", "hello w,0x22ab2984", "The quick brown fox jumps over the lazy dog,0xe07db09c"})
+    void hash_returns_the_murmur3_hash_of_OpenSearch(final String routing, final String expectedHash) {
+        assertThat(IndexShardResolver.hash(routing), equalTo(Integer.parseUnsignedInt(expectedHash.substring(2), 16)));
+    }
+}
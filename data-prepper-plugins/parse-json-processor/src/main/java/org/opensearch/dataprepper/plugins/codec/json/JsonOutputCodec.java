@@ -57,11 +57,22 @@ public class JsonOutputCodec implements OutputCodec {
         @Override
         public void writeEvent(final Event event) throws IOException {
             Objects.requireNonNull(event);
-            final Map<String, Object> dataMap = getDataMapToSerialize(event);
-            objectMapper.writeValue(generator, dataMap);
+            if (codecContext.getTagsTargetKey() != null && !hasKeysToFilter()) {
+                event.jsonBuilder()
+                        .includeTags(codecContext.getTagsTargetKey())
+                        .writeTo(generator);
+            } else {
+                final Map<String, Object> dataMap = getDataMapToSerialize(event);
+                objectMapper.writeValue(generator, dataMap);
+            }
             generator.flush();
         }
 
+        private boolean hasKeysToFilter() {
+            return (codecContext.getIncludeKeys() != null && !codecContext.getIncludeKeys().isEmpty()) ||
+                    (codecContext.getExcludeKeys() != null && !codecContext.getExcludeKeys().isEmpty());
+        }
+
         @Override
         public void complete() throws IOException {
             generator.writeEndArray();
@@ -80,8 +91,7 @@ public class JsonOutputCodec implements OutputCodec {
             }
             Map<String, Object> dataMap = modifiedEvent.toMap();
 
-            if ((codecContext.getIncludeKeys() != null && !codecContext.getIncludeKeys().isEmpty()) ||
-                    (codecContext.getExcludeKeys() != null && !codecContext.getExcludeKeys().isEmpty())) {
+            if (hasKeysToFilter()) {
 
                 final Map<String, Object> finalDataMap = dataMap;
                 dataMap = dataMap.keySet()
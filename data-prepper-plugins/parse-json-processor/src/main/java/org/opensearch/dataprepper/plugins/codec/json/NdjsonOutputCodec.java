@@ -68,12 +68,11 @@ public class NdjsonOutputCodec implements OutputCodec {
     public void writeEvent(final Event event, final OutputStream outputStream) throws IOException {
         Objects.requireNonNull(event);
 
-        String json = event.jsonBuilder()
+        event.jsonBuilder()
                 .includeKeys(deprecatedSupportCodecContext.getIncludeKeys())
                 .excludeKeys(deprecatedSupportCodecContext.getExcludeKeys())
                 .includeTags(deprecatedSupportCodecContext.getTagsTargetKey())
-                .toJsonString();
-        outputStream.write(json.getBytes());
+                .writeTo(outputStream);
         outputStream.write(System.lineSeparator().getBytes());
     }
 
@@ -90,12 +89,11 @@ public class NdjsonOutputCodec implements OutputCodec {
     private static void doWriteEvent(final OutputStream outputStream, final Event event, final OutputCodecContext codecContext) throws IOException {
         Objects.requireNonNull(event);
 
-        String json = event.jsonBuilder()
+        event.jsonBuilder()
                 .includeKeys(codecContext.getIncludeKeys())
                 .excludeKeys(codecContext.getExcludeKeys())
                 .includeTags(codecContext.getTagsTargetKey())
-                .toJsonString();
-        outputStream.write(json.getBytes());
+                .writeTo(outputStream);
         outputStream.write(System.lineSeparator().getBytes());
     }
 }
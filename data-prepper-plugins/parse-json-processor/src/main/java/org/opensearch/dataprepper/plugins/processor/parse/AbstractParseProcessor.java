@@ -33,6 +33,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.IntPredicate;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
 
@@ -122,11 +123,15 @@ public abstract class AbstractParseProcessor extends AbstractProcessor<Record<Ev
         final boolean doWriteToRoot = Objects.isNull(destination);
         final boolean doUsePointer = Objects.nonNull(pointer);
 
+        final IntPredicate parseWhenMatches = evaluateParseWhen(records);
+
+        int index = -1;
         for (final Record<Event> record : records) {
+            index++;
             try {
                 final Event event = record.getData();
 
-                if (Objects.nonNull(parseWhen) && !expressionEvaluator.evaluateConditional(parseWhen, event)) {
+                if (Objects.nonNull(parseWhen) && !parseWhenMatches.test(index)) {
                     continue;
                 }
 
@@ -166,6 +171,20 @@ public abstract class AbstractParseProcessor extends AbstractProcessor<Record<Ev
         return records;
     }
 
+    /**
+     * Evaluates parse_when for the whole batch at once. Returns null when there is no condition.
+     */
+    private IntPredicate evaluateParseWhen(final Collection<Record<Event>> records) {
+        if (Objects.isNull(parseWhen)) {
+            return null;
+        }
+        final List<Event> events = new ArrayList<>(records.size());
+        for (final Record<Event> record : records) {
+            events.add(record.getData());
+        }
+        return expressionEvaluator.evaluateConditionalBatchWithFallback(parseWhen, events);
+    }
+
     @Override
     public void prepareForShutdown() {
         /* nothing to do */
@@ -19,6 +19,7 @@ import org.opensearch.dataprepper.model.sink.OutputCodecContext;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -263,6 +264,41 @@ class JsonOutputCodecTest {
         assertThat(index, equalTo(numberOfRecords));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 10})
+    void writer_writeEvent_with_tags(final int numberOfRecords) throws IOException {
+        JsonOutputCodec jsonOutputCodec = createObjectUnderTest();
+        outputStream = new ByteArrayOutputStream();
+        OutputCodecContext codecContext = new OutputCodecContext("tags", Collections.emptyList(), Collections.emptyList());
+        OutputCodec.Writer objectUnderTest = jsonOutputCodec.createWriter(outputStream, null, codecContext);
+
+        final List<Map<String, Object>> expectedData = generateRecords(numberOfRecords);
+        for (int index = 0; index < numberOfRecords; index++) {
+            final Event event = convertToEvent(expectedData.get(index));
+            event.getMetadata().addTags(List.of("tag" + index));
+            objectUnderTest.writeEvent(event);
+        }
+        objectUnderTest.complete();
+
+        int index = 0;
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode jsonNode = mapper.readTree(outputStream.toByteArray()).get(JsonOutputCodecConfig.DEFAULT_KEY_NAME);
+        assertThat(jsonNode.getNodeType(), equalTo(JsonNodeType.ARRAY));
+        for (JsonNode actualElement : jsonNode) {
+            Map<String, Object> expectedMap = expectedData.get(index);
+            Map<String, Object> actualMap = new HashMap<>();
+            for (String key : expectedMap.keySet()) {
+                actualMap.put(key, getValue(actualElement.get(key)));
+            }
+            assertThat(actualMap, equalTo(expectedMap));
+            assertThat(actualElement.get("tags").size(), equalTo(1));
+            assertThat(actualElement.get("tags").get(0).asText(), equalTo("tag" + index));
+            index++;
+        }
+
+        assertThat(index, equalTo(numberOfRecords));
+    }
+
     @Test
     void testGetEstimatedSize() throws Exception {
         int numberOfRecords = 1;
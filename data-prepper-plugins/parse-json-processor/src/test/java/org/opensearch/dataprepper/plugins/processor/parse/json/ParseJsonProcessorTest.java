@@ -41,6 +41,9 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -510,6 +513,8 @@ public class ParseJsonProcessorTest {
         final String serializedMessage = convertMapToJSONString(data);
         final Record<Event> testEvent = createMessageEvent(serializedMessage);
         when(expressionEvaluator.isValidExpressionStatement(whenCondition)).thenReturn(true);
+        when(expressionEvaluator.evaluateConditionalBatchWithFallback(eq(whenCondition), anyList())).thenCallRealMethod();
+        when(expressionEvaluator.evaluateConditionalBatch(eq(whenCondition), anyCollection())).thenCallRealMethod();
         when(expressionEvaluator.evaluateConditional(whenCondition, testEvent.getData())).thenReturn(false);
         parseJsonProcessor = createObjectUnderTest(); // need to recreate so that new config options are used
 
@@ -537,6 +542,8 @@ public class ParseJsonProcessorTest {
         when(processorConfig.getTagsOnFailure()).thenReturn(testTags);
         final Record<Event> testEvent = createMessageEvent("{key:}");
         when(expressionEvaluator.isValidExpressionStatement(whenCondition)).thenReturn(true);
+        when(expressionEvaluator.evaluateConditionalBatchWithFallback(eq(whenCondition), anyList())).thenCallRealMethod();
+        when(expressionEvaluator.evaluateConditionalBatch(eq(whenCondition), anyCollection())).thenCallRealMethod();
         when(expressionEvaluator.evaluateConditional(whenCondition, testEvent.getData())).thenReturn(true);
         parseJsonProcessor = createObjectUnderTest();
 
@@ -560,6 +567,8 @@ public class ParseJsonProcessorTest {
         final String serializedMessage = convertMapToJSONString(data);
         final Record<Event> testEvent = createMessageEvent(serializedMessage);
         when(expressionEvaluator.isValidExpressionStatement(whenCondition)).thenReturn(true);
+        when(expressionEvaluator.evaluateConditionalBatchWithFallback(eq(whenCondition), anyList())).thenCallRealMethod();
+        when(expressionEvaluator.evaluateConditionalBatch(eq(whenCondition), anyCollection())).thenCallRealMethod();
         when(expressionEvaluator.evaluateConditional(whenCondition, testEvent.getData())).thenThrow(RuntimeException.class);
         parseJsonProcessor = createObjectUnderTest();
 
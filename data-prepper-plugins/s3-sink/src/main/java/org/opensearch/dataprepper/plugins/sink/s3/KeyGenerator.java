@@ -7,24 +7,27 @@ package org.opensearch.dataprepper.plugins.sink.s3;
 
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.FormatTemplate;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.ObjectKey;
 
 
 public class KeyGenerator {
-    private final S3SinkConfig s3SinkConfig;
     private final S3BucketSelector s3BucketSelector;
     private final ExtensionProvider extensionProvider;
 
     private final ExpressionEvaluator expressionEvaluator;
+    private final FormatTemplate pathPrefixTemplate;
+    private final FormatTemplate namePatternTemplate;
 
     public KeyGenerator(final S3SinkConfig s3SinkConfig,
                         final S3BucketSelector s3BucketSelector,
                         final ExtensionProvider extensionProvider,
                         final ExpressionEvaluator expressionEvaluator) {
-        this.s3SinkConfig = s3SinkConfig;
         this.s3BucketSelector = s3BucketSelector;
         this.extensionProvider = extensionProvider;
         this.expressionEvaluator = expressionEvaluator;
+        this.pathPrefixTemplate = ObjectKey.pathPrefixTemplate(s3SinkConfig);
+        this.namePatternTemplate = ObjectKey.namePatternTemplate(s3SinkConfig);
     }
 
     /**
@@ -34,9 +37,9 @@ public class KeyGenerator {
      * @return object key path.
      */
     public String generateKeyForEvent(final Event event) {
-        final String pathPrefix = s3BucketSelector != null ? s3BucketSelector.getPathPrefix() : ObjectKey.buildingPathPrefix(s3SinkConfig, event, expressionEvaluator);
+        final String pathPrefix = s3BucketSelector != null ? s3BucketSelector.getPathPrefix() : ObjectKey.buildingPathPrefix(pathPrefixTemplate, event, expressionEvaluator);
         final String safePathPrefix = pathPrefix != null ? pathPrefix : "";
-        final String namePattern = ObjectKey.objectFileName(s3SinkConfig, extensionProvider.getExtension(), event, expressionEvaluator);
+        final String namePattern = ObjectKey.objectFileName(namePatternTemplate, extensionProvider.getExtension(), event, expressionEvaluator);
         return (!safePathPrefix.isEmpty()) ? safePathPrefix + namePattern : namePattern;
     }
 }
@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
 
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.FormatTemplate;
 import org.opensearch.dataprepper.plugins.s3keyindex.S3ObjectIndexUtility;
 import org.opensearch.dataprepper.plugins.sink.s3.S3SinkConfig;
 import org.slf4j.Logger;
@@ -36,23 +37,31 @@ public class ObjectKey {
      * @return s3 object path
      */
     public static String buildingPathPrefix(final S3SinkConfig s3SinkConfig) {
-        return buildingPathPrefixInternal(s3SinkConfig, null, null);
+        return buildingPathPrefix(pathPrefixTemplate(s3SinkConfig), null, null);
     }
 
     public static String buildingPathPrefix(final S3SinkConfig s3SinkConfig,
                                             final Event event,
                                             final ExpressionEvaluator expressionEvaluator) {
-        return buildingPathPrefixInternal(s3SinkConfig, event, expressionEvaluator);
+        return buildingPathPrefix(pathPrefixTemplate(s3SinkConfig), event, expressionEvaluator);
     }
 
-    private static String buildingPathPrefixInternal(final S3SinkConfig s3SinkConfig,
-                                                     final Event event,
-                                                     final ExpressionEvaluator expressionEvaluator) {
-        String pathPrefix = s3SinkConfig.getObjectKeyOptions().getPathPrefix();
-        if (pathPrefix == null) {
+    /**
+     * Building path inside bucket based on a path_prefix template compiled once per configuration.
+     *
+     * @param pathPrefixTemplate compiled path_prefix, or null if no path_prefix is configured
+     * @param event event
+     * @param expressionEvaluator expressionEvaluator
+     * @return s3 object path
+     * @since 2.15
+     */
+    public static String buildingPathPrefix(final FormatTemplate pathPrefixTemplate,
+                                            final Event event,
+                                            final ExpressionEvaluator expressionEvaluator) {
+        if (pathPrefixTemplate == null) {
             return "";
         }
-        String pathPrefixExpressionResult = expressionEvaluator != null ? event.formatString(pathPrefix, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS) : pathPrefix;
+        String pathPrefixExpressionResult = expressionEvaluator != null ? pathPrefixTemplate.format(event, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS) : pathPrefixTemplate.getFormat();
         StringBuilder s3ObjectPath = new StringBuilder();
         if (pathPrefixExpressionResult != null && !pathPrefixExpressionResult.isEmpty()) {
             String[] pathPrefixList = pathPrefixExpressionResult.split("\\/");
@@ -67,6 +76,29 @@ public class ObjectKey {
         return s3ObjectPath.toString();
     }
 
+    /**
+     * Compiles the configured path_prefix.
+     *
+     * @param s3SinkConfig s3 sink configuration
+     * @return the path_prefix template, or null if no path_prefix is configured
+     * @since 2.15
+     */
+    public static FormatTemplate pathPrefixTemplate(final S3SinkConfig s3SinkConfig) {
+        final String pathPrefix = s3SinkConfig.getObjectKeyOptions().getPathPrefix();
+        return pathPrefix != null ? FormatTemplate.compile(pathPrefix) : null;
+    }
+
+    /**
+     * Compiles the configured object name pattern.
+     *
+     * @param s3SinkConfig s3 sink configuration
+     * @return the name pattern template
+     * @since 2.15
+     */
+    public static FormatTemplate namePatternTemplate(final S3SinkConfig s3SinkConfig) {
+        return FormatTemplate.compile(s3SinkConfig.getObjectKeyOptions().getNamePattern());
+    }
+
     /**
      *Get the object file name with the extension
      *
@@ -80,8 +112,24 @@ public class ObjectKey {
                                         final String codecExtension,
                                         final Event event,
                                         final ExpressionEvaluator expressionEvaluator) {
-        String configNamePattern = s3SinkConfig.getObjectKeyOptions().getNamePattern();
-        String configNamePatternExpressionResult = event.formatString(configNamePattern, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS);
+        return objectFileName(namePatternTemplate(s3SinkConfig), codecExtension, event, expressionEvaluator);
+    }
+
+    /**
+     * Get the object file name with the extension from a name pattern template compiled once per configuration.
+     *
+     * @param namePatternTemplate compiled name pattern
+     * @param codecExtension extension
+     * @param event event
+     * @param expressionEvaluator expressionEvaluator
+     * @return s3 object name with prefix
+     * @since 2.15
+     */
+    public static String objectFileName(final FormatTemplate namePatternTemplate,
+                                        final String codecExtension,
+                                        final Event event,
+                                        final ExpressionEvaluator expressionEvaluator) {
+        String configNamePatternExpressionResult = namePatternTemplate.format(event, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS);
         int extensionIndex = configNamePatternExpressionResult.lastIndexOf('.');
         if (extensionIndex > 0) {
             return S3ObjectIndexUtility.getObjectNameWithDateTimeId(configNamePatternExpressionResult.substring(0, extensionIndex)) + "."
@@ -16,7 +16,9 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.FormatTemplate;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.ObjectKey;
+import org.opensearch.dataprepper.plugins.sink.s3.configuration.ObjectKeyOptions;
 
 import java.util.UUID;
 
@@ -24,8 +26,12 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,12 +42,17 @@ class KeyGeneratorTest {
     @Mock
     private ExtensionProvider extensionProvider;
 
+    @Mock
+    private ObjectKeyOptions objectKeyOptions;
+
     @Mock
     private ExpressionEvaluator expressionEvaluator;
 
     @BeforeEach
     void setUp() {
-
+        when(s3SinkConfig.getObjectKeyOptions()).thenReturn(objectKeyOptions);
+        when(objectKeyOptions.getPathPrefix()).thenReturn("events/%{yyyy}/");
+        when(objectKeyOptions.getNamePattern()).thenReturn("events-%{yyyy-MM-dd'T'hh-mm-ss}");
     }
 
     private KeyGenerator createObjectUnderTest(S3BucketSelector s3BucketSelector) {
@@ -60,9 +71,9 @@ class KeyGeneratorTest {
 
         try (final MockedStatic<ObjectKey> objectKeyMockedStatic = mockStatic(ObjectKey.class)) {
 
-            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(s3SinkConfig, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(any(FormatTemplate.class), eq(event), eq(expressionEvaluator)))
                     .thenReturn(pathPrefix);
-            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(s3SinkConfig, null, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(any(FormatTemplate.class), eq(null), eq(event), eq(expressionEvaluator)))
                     .thenReturn(objectName);
 
             String key = objectUnderTest.generateKeyForEvent(event);
@@ -84,9 +95,9 @@ class KeyGeneratorTest {
         final KeyGenerator objectUnderTest = createObjectUnderTest(null);
         try (final MockedStatic<ObjectKey> objectKeyMockedStatic = mockStatic(ObjectKey.class)) {
 
-            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(s3SinkConfig, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(any(FormatTemplate.class), eq(event), eq(expressionEvaluator)))
                     .thenReturn(pathPrefix);
-            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(s3SinkConfig, extension, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(any(FormatTemplate.class), eq(extension), eq(event), eq(expressionEvaluator)))
                     .thenReturn(objectName);
 
             String key = objectUnderTest.generateKeyForEvent(event);
@@ -112,9 +123,9 @@ class KeyGeneratorTest {
 
         try (final MockedStatic<ObjectKey> objectKeyMockedStatic = mockStatic(ObjectKey.class)) {
 
-            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(s3SinkConfig, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(any(FormatTemplate.class), eq(event), eq(expressionEvaluator)))
                     .thenReturn(objectKeyPathPrefix);
-            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(s3SinkConfig, null, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(any(FormatTemplate.class), eq(null), eq(event), eq(expressionEvaluator)))
                     .thenReturn(objectName);
 
             String key = objectUnderTest.generateKeyForEvent(event);
@@ -139,9 +150,9 @@ class KeyGeneratorTest {
         final KeyGenerator objectUnderTest = createObjectUnderTest(s3BucketSelector);
         try (final MockedStatic<ObjectKey> objectKeyMockedStatic = mockStatic(ObjectKey.class)) {
 
-            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(s3SinkConfig, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(any(FormatTemplate.class), eq(event), eq(expressionEvaluator)))
                     .thenReturn(objectKeyPathPrefix);
-            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(s3SinkConfig, extension, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(any(FormatTemplate.class), eq(extension), eq(event), eq(expressionEvaluator)))
                     .thenReturn(objectName);
 
             String key = objectUnderTest.generateKeyForEvent(event);
@@ -165,7 +176,7 @@ class KeyGeneratorTest {
         final Event event = mock(Event.class);
 
         try (final MockedStatic<ObjectKey> objectKeyMockedStatic = mockStatic(ObjectKey.class)) {
-            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(s3SinkConfig, null, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(any(FormatTemplate.class), eq(null), eq(event), eq(expressionEvaluator)))
                     .thenReturn(objectName);
 
             String key = objectUnderTest.generateKeyForEvent(event);
@@ -173,4 +184,17 @@ class KeyGeneratorTest {
             assertThat(key, equalTo(objectName));
         }
     }
+
+    @Test
+    void generateKeyForEvent_compiles_the_configured_templates_once() {
+        when(extensionProvider.getExtension()).thenReturn(null);
+        final KeyGenerator objectUnderTest = createObjectUnderTest(null);
+
+        final Event event = mock(Event.class);
+        objectUnderTest.generateKeyForEvent(event);
+        objectUnderTest.generateKeyForEvent(event);
+
+        verify(objectKeyOptions, times(1)).getPathPrefix();
+        verify(objectKeyOptions, times(1)).getNamePattern();
+    }
 }
@@ -15,10 +15,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.FormatTemplate;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.plugins.sink.s3.S3SinkConfig;
 import org.opensearch.dataprepper.plugins.sink.s3.configuration.ObjectKeyOptions;
 
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.when;
@@ -48,7 +50,6 @@ class ObjectKeyTest {
         final String pathPrefix = "events/%{yyyy}/%{MM}/%{dd}/";
 
         when(objectKeyOptions.getPathPrefix()).thenReturn(pathPrefix);
-        when(event.formatString(pathPrefix, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS)).thenReturn(pathPrefix);
         String pathPrefixResult = ObjectKey.buildingPathPrefix(s3SinkConfig, event, expressionEvaluator);
         Assertions.assertNotNull(pathPrefixResult);
         assertThat(pathPrefixResult, startsWith("events"));
@@ -59,7 +60,6 @@ class ObjectKeyTest {
         final String namePattern = "my-elb-%{yyyy-MM-dd'T'hh-mm-ss}";
 
         when(objectKeyOptions.getNamePattern()).thenReturn(namePattern);
-        when(event.formatString(namePattern, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS)).thenReturn(namePattern);
         String objectFileName = ObjectKey.objectFileName(s3SinkConfig, null, event, expressionEvaluator);
         Assertions.assertNotNull(objectFileName);
         assertThat(objectFileName, startsWith("my-elb"));
@@ -71,7 +71,6 @@ class ObjectKeyTest {
 
         when(s3SinkConfig.getObjectKeyOptions().getNamePattern())
                 .thenReturn(namePattern);
-        when(event.formatString(namePattern, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS)).thenReturn(namePattern);
         String objectFileName = ObjectKey.objectFileName(s3SinkConfig, null, event, expressionEvaluator);
         Assertions.assertNotNull(objectFileName);
         Assertions.assertTrue(objectFileName.contains(".pdf"));
@@ -83,7 +82,6 @@ class ObjectKeyTest {
 
         when(s3SinkConfig.getObjectKeyOptions().getNamePattern())
                 .thenReturn(namePattern);
-        when(event.formatString(namePattern, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS)).thenReturn(namePattern);
         String objectFileName = ObjectKey.objectFileName(s3SinkConfig, null, event, expressionEvaluator);
         Assertions.assertNotNull(objectFileName);
         Assertions.assertTrue(objectFileName.contains(".json"));
@@ -103,4 +101,34 @@ class ObjectKeyTest {
         });
     }
 
-}
\ No newline at end of file
+    @Test
+    void buildingPathPrefix_with_compiled_template_formats_the_path() {
+        when(objectKeyOptions.getPathPrefix()).thenReturn("events/%{yyyy}/%{MM}/");
+        final FormatTemplate pathPrefixTemplate = ObjectKey.pathPrefixTemplate(s3SinkConfig);
+
+        final String pathPrefixResult = ObjectKey.buildingPathPrefix(pathPrefixTemplate, event, expressionEvaluator);
+
+        assertThat(pathPrefixResult, startsWith("events/"));
+    }
+
+    @Test
+    void pathPrefixTemplate_is_null_without_a_path_prefix() {
+        when(objectKeyOptions.getPathPrefix()).thenReturn(null);
+
+        final FormatTemplate pathPrefixTemplate = ObjectKey.pathPrefixTemplate(s3SinkConfig);
+
+        assertThat(pathPrefixTemplate, nullValue());
+        Assertions.assertEquals("", ObjectKey.buildingPathPrefix(pathPrefixTemplate, event, expressionEvaluator));
+    }
+
+    @Test
+    void objectFileName_with_compiled_template_uses_the_codec_extension() {
+        when(objectKeyOptions.getNamePattern()).thenReturn("my-elb-%{yyyy-MM-dd'T'hh-mm-ss}");
+        final FormatTemplate namePatternTemplate = ObjectKey.namePatternTemplate(s3SinkConfig);
+
+        final String objectFileName = ObjectKey.objectFileName(namePatternTemplate, "parquet", event, expressionEvaluator);
+
+        assertThat(objectFileName, startsWith("my-elb"));
+        Assertions.assertTrue(objectFileName.endsWith(".parquet"));
+    }
+}